@@ -0,0 +1,256 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class ArrayOutputStreamBenchmark {
+	@Param({"1024", "1048576"})
+	public int length;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private double[] doubleArray;
+	private float[] floatArray;
+	private int[] intArray;
+	private long[] longArray;
+	private IntArrayOutputStream intArrayOutputStream;
+	private WritableByteChannel writableByteChannel;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public ArrayOutputStreamBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public boolean[] writeBoolean() {
+		try(final BooleanArrayOutputStream booleanArrayOutputStream = new BooleanArrayOutputStream()) {
+			for(int i = 0; i < this.length; i++) {
+				booleanArrayOutputStream.write((i & 1) == 0);
+			}
+			
+			return booleanArrayOutputStream.toBooleanArray();
+		}
+	}
+	
+	@Benchmark
+	public char[] writeChar() {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream()) {
+			for(int i = 0; i < this.length; i++) {
+				charArrayOutputStream.write((char)(i));
+			}
+			
+			return charArrayOutputStream.toCharArray();
+		}
+	}
+	
+	@Benchmark
+	public double[] appendDoubleArrayBuilder() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder();
+		
+		for(int i = 0; i < this.length; i++) {
+			doubleArrayBuilder.append(this.doubleArray[i]);
+		}
+		
+		return doubleArrayBuilder.array();
+	}
+	
+	@Benchmark
+	public double[] writeDouble() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream()) {
+			for(int i = 0; i < this.length; i++) {
+				doubleArrayOutputStream.write(this.doubleArray[i]);
+			}
+			
+			return doubleArrayOutputStream.toDoubleArray();
+		}
+	}
+	
+	@Benchmark
+	public double[] writeDoubleArray() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream()) {
+			for(int i = 0; i < this.length; i += 256) {
+				doubleArrayOutputStream.write(this.doubleArray, i, Math.min(256, this.length - i));
+			}
+			
+			return doubleArrayOutputStream.toDoubleArray();
+		}
+	}
+	
+	@Benchmark
+	public float[] writeFloat() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream()) {
+			for(int i = 0; i < this.length; i++) {
+				floatArrayOutputStream.write(this.floatArray[i]);
+			}
+			
+			return floatArrayOutputStream.toFloatArray();
+		}
+	}
+	
+	@Benchmark
+	public float[] writeFloatArray() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream()) {
+			for(int i = 0; i < this.length; i += 256) {
+				floatArrayOutputStream.write(this.floatArray, i, Math.min(256, this.length - i));
+			}
+			
+			return floatArrayOutputStream.toFloatArray();
+		}
+	}
+	
+	@Benchmark
+	public int[] appendIntArrayBuilder() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder();
+		
+		for(int i = 0; i < this.length; i++) {
+			intArrayBuilder.append(this.intArray[i]);
+		}
+		
+		return intArrayBuilder.array();
+	}
+	
+	@Benchmark
+	public int[] writeInt() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream()) {
+			for(int i = 0; i < this.length; i++) {
+				intArrayOutputStream.writeInt(this.intArray[i]);
+			}
+			
+			return intArrayOutputStream.toIntArray();
+		}
+	}
+	
+	@Benchmark
+	public int[] writeIntArray() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream()) {
+			for(int i = 0; i < this.length; i += 256) {
+				intArrayOutputStream.write(this.intArray, i, Math.min(256, this.length - i));
+			}
+			
+			return intArrayOutputStream.toIntArray();
+		}
+	}
+	
+	@Benchmark
+	public int[] writeIntPresized() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(this.length)) {
+			for(int i = 0; i < this.length; i++) {
+				intArrayOutputStream.writeInt(this.intArray[i]);
+			}
+			
+			return intArrayOutputStream.toIntArray();
+		}
+	}
+	
+	@Benchmark
+	public int[] writeIntSegmented() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream()) {
+			for(int i = 0; i < this.length; i++) {
+				segmentedIntArrayOutputStream.writeInt(this.intArray[i]);
+			}
+			
+			return segmentedIntArrayOutputStream.toIntArray();
+		}
+	}
+	
+	@Benchmark
+	public void writeIntToWritableByteChannel() {
+		this.intArrayOutputStream.writeTo(this.writableByteChannel, ByteOrder.LITTLE_ENDIAN);
+	}
+	
+	@Benchmark
+	public long[] writeLong() {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream()) {
+			for(int i = 0; i < this.length; i++) {
+				longArrayOutputStream.write(this.longArray[i]);
+			}
+			
+			return longArrayOutputStream.toLongArray();
+		}
+	}
+	
+	@Benchmark
+	public short[] writeShort() {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream()) {
+			for(int i = 0; i < this.length; i++) {
+				shortArrayOutputStream.write((short)(i));
+			}
+			
+			return shortArrayOutputStream.toShortArray();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		this.doubleArray = new double[this.length];
+		this.floatArray = new float[this.length];
+		this.intArray = new int[this.length];
+		this.longArray = new long[this.length];
+		
+		for(int i = 0; i < this.length; i++) {
+			this.doubleArray[i] = i * 0.5D;
+			this.floatArray[i] = i * 0.5F;
+			this.intArray[i] = i;
+			this.longArray[i] = i;
+		}
+		
+		this.intArrayOutputStream = new IntArrayOutputStream(this.length);
+		this.intArrayOutputStream.write(this.intArray, 0, this.length);
+		
+		this.writableByteChannel = Channels.newChannel(new OutputStream() {
+			@Override
+			public void write(final byte[] b, final int off, final int len) {
+//				Do nothing.
+			}
+			
+			@Override
+			public void write(final int b) {
+//				Do nothing.
+			}
+		});
+	}
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.lang;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class DoublesArrayBenchmark {
+	@Param({"1024", "65536"})
+	private int size;
+	private double t;
+	private double[] a;
+	private double[] b;
+	private double[] c;
+	private double[] dst;
+	private double[] roots;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public DoublesArrayBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public double[] expFastBatched() {
+		return Doubles.expFast(this.a, this.dst);
+	}
+	
+	@Benchmark
+	public double[] expFastScalar() {
+		final double[] a = this.a;
+		final double[] dst = this.dst;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Doubles.expFast(a[i]);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public double[] lerpBatched() {
+		return Doubles.lerp(this.a, this.b, this.t, this.dst);
+	}
+	
+	@Benchmark
+	public double[] lerpScalar() {
+		final double[] a = this.a;
+		final double[] b = this.b;
+		final double[] dst = this.dst;
+		
+		final double t = this.t;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Doubles.lerp(a[i], b[i], t);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public double[] saturateBatched() {
+		return Doubles.saturate(this.a, this.dst);
+	}
+	
+	@Benchmark
+	public double[] saturateScalar() {
+		final double[] a = this.a;
+		final double[] dst = this.dst;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Doubles.saturate(a[i]);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public double[] smoothstepBatched() {
+		return Doubles.smoothstep(this.a, -1.0D, 1.0D, this.dst);
+	}
+	
+	@Benchmark
+	public double[] smoothstepScalar() {
+		final double[] a = this.a;
+		final double[] dst = this.dst;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Doubles.smoothstep(a[i], -1.0D, 1.0D);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public double[] solveQuadraticSystemsBatched() {
+		return Doubles.solveQuadraticSystems(this.a, this.b, this.c, this.roots);
+	}
+	
+	@Benchmark
+	public double[] solveQuadraticSystemsScalar() {
+		final double[] a = this.a;
+		final double[] b = this.b;
+		final double[] c = this.c;
+		final double[] roots = this.roots;
+		
+		for(int i = 0; i < a.length; i++) {
+			final double[] result = Doubles.solveQuadraticSystem(a[i], b[i], c[i]);
+			
+			roots[2 * i + 0] = result[0];
+			roots[2 * i + 1] = result[1];
+		}
+		
+		return roots;
+	}
+	
+	@Benchmark
+	public double[] sqrtBatched() {
+		return Doubles.sqrt(this.b, this.dst);
+	}
+	
+	@Benchmark
+	public double[] sqrtScalar() {
+		final double[] b = this.b;
+		final double[] dst = this.dst;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Doubles.sqrt(b[i]);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public double sumKahan() {
+		return Doubles.sumKahan(this.a);
+	}
+	
+	@Benchmark
+	public double sumNeumaier() {
+		return Doubles.sumNeumaier(this.a);
+	}
+	
+	@Benchmark
+	public double sumPairwise() {
+		return Doubles.sumPairwise(this.a);
+	}
+	
+	@Benchmark
+	public double sumPairwiseParallel() {
+		return Doubles.sumPairwiseParallel(this.a);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+		
+		this.t = threadLocalRandom.nextDouble(0.0D, 1.0D);
+		this.a = new double[this.size];
+		this.b = new double[this.size];
+		this.c = new double[this.size];
+		this.dst = new double[this.size];
+		this.roots = new double[this.size * 2];
+		
+		for(int i = 0; i < this.size; i++) {
+			this.a[i] = threadLocalRandom.nextDouble(-2.0D, 2.0D);
+			this.b[i] = threadLocalRandom.nextDouble(1.0D, 10.0D);
+			this.c[i] = threadLocalRandom.nextDouble(-10.0D, -1.0D);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.lang;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class DoublesBenchmark {
+	private double a;
+	private double b;
+	private double c;
+	private double t;
+	private double[] result;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public DoublesBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public double cos() {
+		return Doubles.cos(this.t);
+	}
+	
+	@Benchmark
+	public double cosFast() {
+		return Doubles.cosFast(this.t);
+	}
+	
+	@Benchmark
+	public double erf() {
+		return Doubles.erf(this.t);
+	}
+	
+	@Benchmark
+	public double erfInv() {
+		return Doubles.erfInv(this.t);
+	}
+	
+	@Benchmark
+	public double exp() {
+		return Doubles.exp(this.t);
+	}
+	
+	@Benchmark
+	public double expFast() {
+		return Doubles.expFast(this.t);
+	}
+	
+	@Benchmark
+	public double lerp() {
+		return Doubles.lerp(this.a, this.b, this.t);
+	}
+	
+	@Benchmark
+	public double log() {
+		return Doubles.log(this.b);
+	}
+	
+	@Benchmark
+	public double logFast() {
+		return Doubles.logFast(this.b);
+	}
+	
+	@Benchmark
+	public double pow() {
+		return Doubles.pow(this.b, this.t);
+	}
+	
+	@Benchmark
+	public double pow5() {
+		return Doubles.pow5(this.t);
+	}
+	
+	@Benchmark
+	public double saturate() {
+		return Doubles.saturate(this.a);
+	}
+	
+	@Benchmark
+	public double sin() {
+		return Doubles.sin(this.t);
+	}
+	
+	@Benchmark
+	public double sinFast() {
+		return Doubles.sinFast(this.t);
+	}
+	
+	@Benchmark
+	public double smoothstep() {
+		return Doubles.smoothstep(this.t, this.a, this.b);
+	}
+	
+	@Benchmark
+	public double sqrt() {
+		return Doubles.sqrt(this.b);
+	}
+	
+	@Benchmark
+	public double tan() {
+		return Doubles.tan(this.t);
+	}
+	
+	@Benchmark
+	public double[] solveQuadraticSystem() {
+		return Doubles.solveQuadraticSystem(this.a, this.b, this.c);
+	}
+	
+	@Benchmark
+	public double[] solveQuadraticSystemInto() {
+		return Doubles.solveQuadraticSystem(this.a, this.b, this.c, this.result);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+		
+		this.a = threadLocalRandom.nextDouble(-1.0D, 0.0D);
+		this.b = threadLocalRandom.nextDouble(1.0D, 10.0D);
+		this.c = threadLocalRandom.nextDouble(-10.0D, -1.0D);
+		this.t = threadLocalRandom.nextDouble(0.0D, 1.0D);
+		this.result = new double[2];
+	}
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.lang;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class FloatsArrayBenchmark {
+	@Param({"1024", "65536"})
+	private int size;
+	private float t;
+	private float[] a;
+	private float[] b;
+	private float[] c;
+	private float[] dst;
+	private float[] roots;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public FloatsArrayBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public float[] expFastBatched() {
+		return Floats.expFast(this.a, this.dst);
+	}
+	
+	@Benchmark
+	public float[] expFastScalar() {
+		final float[] a = this.a;
+		final float[] dst = this.dst;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Floats.expFast(a[i]);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public float[] lerpBatched() {
+		return Floats.lerp(this.a, this.b, this.t, this.dst);
+	}
+	
+	@Benchmark
+	public float[] lerpScalar() {
+		final float[] a = this.a;
+		final float[] b = this.b;
+		final float[] dst = this.dst;
+		
+		final float t = this.t;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Floats.lerp(a[i], b[i], t);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public float[] saturateBatched() {
+		return Floats.saturate(this.a, this.dst);
+	}
+	
+	@Benchmark
+	public float[] saturateScalar() {
+		final float[] a = this.a;
+		final float[] dst = this.dst;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Floats.saturate(a[i]);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public float[] smoothstepBatched() {
+		return Floats.smoothstep(this.a, -1.0F, 1.0F, this.dst);
+	}
+	
+	@Benchmark
+	public float[] smoothstepScalar() {
+		final float[] a = this.a;
+		final float[] dst = this.dst;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Floats.smoothstep(a[i], -1.0F, 1.0F);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public float[] solveQuadraticSystemsBatched() {
+		return Floats.solveQuadraticSystems(this.a, this.b, this.c, this.roots);
+	}
+	
+	@Benchmark
+	public float[] solveQuadraticSystemsScalar() {
+		final float[] a = this.a;
+		final float[] b = this.b;
+		final float[] c = this.c;
+		final float[] roots = this.roots;
+		
+		for(int i = 0; i < a.length; i++) {
+			final float[] result = Floats.solveQuadraticSystem(a[i], b[i], c[i]);
+			
+			roots[2 * i + 0] = result[0];
+			roots[2 * i + 1] = result[1];
+		}
+		
+		return roots;
+	}
+	
+	@Benchmark
+	public float[] sqrtBatched() {
+		return Floats.sqrt(this.b, this.dst);
+	}
+	
+	@Benchmark
+	public float[] sqrtScalar() {
+		final float[] b = this.b;
+		final float[] dst = this.dst;
+		
+		for(int i = 0; i < dst.length; i++) {
+			dst[i] = Floats.sqrt(b[i]);
+		}
+		
+		return dst;
+	}
+	
+	@Benchmark
+	public float sumKahan() {
+		return Floats.sumKahan(this.a);
+	}
+	
+	@Benchmark
+	public float sumNeumaier() {
+		return Floats.sumNeumaier(this.a);
+	}
+	
+	@Benchmark
+	public float sumPairwise() {
+		return Floats.sumPairwise(this.a);
+	}
+	
+	@Benchmark
+	public float sumPairwiseParallel() {
+		return Floats.sumPairwiseParallel(this.a);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+		
+		this.t = (float)(threadLocalRandom.nextDouble(0.0D, 1.0D));
+		this.a = new float[this.size];
+		this.b = new float[this.size];
+		this.c = new float[this.size];
+		this.dst = new float[this.size];
+		this.roots = new float[this.size * 2];
+		
+		for(int i = 0; i < this.size; i++) {
+			this.a[i] = (float)(threadLocalRandom.nextDouble(-2.0D, 2.0D));
+			this.b[i] = (float)(threadLocalRandom.nextDouble(1.0D, 10.0D));
+			this.c[i] = (float)(threadLocalRandom.nextDouble(-10.0D, -1.0D));
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.lang;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class FloatsBenchmark {
+	private float a;
+	private float b;
+	private float c;
+	private float t;
+	private float[] result;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public FloatsBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public float cos() {
+		return Floats.cos(this.t);
+	}
+	
+	@Benchmark
+	public float cosFast() {
+		return Floats.cosFast(this.t);
+	}
+	
+	@Benchmark
+	public float erf() {
+		return Floats.erf(this.t);
+	}
+	
+	@Benchmark
+	public float erfInv() {
+		return Floats.erfInv(this.t);
+	}
+	
+	@Benchmark
+	public float exp() {
+		return Floats.exp(this.t);
+	}
+	
+	@Benchmark
+	public float expFast() {
+		return Floats.expFast(this.t);
+	}
+	
+	@Benchmark
+	public float lerp() {
+		return Floats.lerp(this.a, this.b, this.t);
+	}
+	
+	@Benchmark
+	public float log() {
+		return Floats.log(this.b);
+	}
+	
+	@Benchmark
+	public float logFast() {
+		return Floats.logFast(this.b);
+	}
+	
+	@Benchmark
+	public float pow() {
+		return Floats.pow(this.b, this.t);
+	}
+	
+	@Benchmark
+	public float pow5() {
+		return Floats.pow5(this.t);
+	}
+	
+	@Benchmark
+	public float powFast() {
+		return Floats.powFast(this.b, this.t);
+	}
+	
+	@Benchmark
+	public float saturate() {
+		return Floats.saturate(this.a);
+	}
+	
+	@Benchmark
+	public float sin() {
+		return Floats.sin(this.t);
+	}
+	
+	@Benchmark
+	public float sinFast() {
+		return Floats.sinFast(this.t);
+	}
+	
+	@Benchmark
+	public float smoothstep() {
+		return Floats.smoothstep(this.t, this.a, this.b);
+	}
+	
+	@Benchmark
+	public float sqrt() {
+		return Floats.sqrt(this.b);
+	}
+	
+	@Benchmark
+	public float tan() {
+		return Floats.tan(this.t);
+	}
+	
+	@Benchmark
+	public float[] solveQuadraticSystem() {
+		return Floats.solveQuadraticSystem(this.a, this.b, this.c);
+	}
+	
+	@Benchmark
+	public float[] solveQuadraticSystemInto() {
+		return Floats.solveQuadraticSystem(this.a, this.b, this.c, this.result);
+	}
+	
+	@Benchmark
+	public long solveQuadraticSystemPacked() {
+		return Floats.solveQuadraticSystemPacked(this.a, this.b, this.c);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+		
+		this.a = (float)(threadLocalRandom.nextDouble(-1.0D, 0.0D));
+		this.b = (float)(threadLocalRandom.nextDouble(1.0D, 10.0D));
+		this.c = (float)(threadLocalRandom.nextDouble(-10.0D, -1.0D));
+		this.t = (float)(threadLocalRandom.nextDouble(0.0D, 1.0D));
+		this.result = new float[2];
+	}
+}
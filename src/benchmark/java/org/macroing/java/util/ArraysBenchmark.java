@@ -0,0 +1,196 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class ArraysBenchmark {
+	@Param({"1024", "1048576"})
+	public int length;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private byte[] byteArray;
+	private byte[] byteArrayCopy;
+	private byte[] byteArrayValue;
+	private double[] doubleArray;
+	private double[] doubleArrayCopy;
+	private int[] intArray;
+	private int[] intArrayCopy;
+	private int[] intArrayValue;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public ArraysBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public boolean equalsDoubleArray() {
+		return Arrays.equals(this.doubleArray, this.doubleArrayCopy);
+	}
+	
+	@Benchmark
+	public boolean equalsParallelDoubleArray() {
+		return Arrays.equalsParallel(this.doubleArray, this.doubleArrayCopy);
+	}
+	
+	@Benchmark
+	public boolean equalsIntArray() {
+		return Arrays.equals(this.intArray, this.intArrayCopy);
+	}
+	
+	@Benchmark
+	public byte[] encodeIntArray() {
+		return Arrays.encode(this.intArray, ByteOrder.LITTLE_ENDIAN);
+	}
+	
+	@Benchmark
+	public byte[] repeatByteArray() {
+		return Arrays.repeat(this.byteArrayValue, this.length / this.byteArrayValue.length);
+	}
+	
+	@Benchmark
+	public double[] generateDoubleArray() {
+		return Arrays.generateDoubleArray(this.length, index -> index * 0.5D);
+	}
+	
+	@Benchmark
+	public double[] generateDoubleArrayParallel() {
+		return Arrays.generateDoubleArrayParallel(this.length, index -> index * 0.5D);
+	}
+	
+	@Benchmark
+	public double[] mergeDoubleArray() {
+		return Arrays.merge(this.doubleArray, this.doubleArrayCopy);
+	}
+	
+	@Benchmark
+	public double[] mergeParallelDoubleArray() {
+		return Arrays.mergeParallel(this.doubleArray, this.doubleArrayCopy);
+	}
+	
+	@Benchmark
+	public double[] spliceDoubleArray() {
+		return Arrays.splice(this.doubleArray, this.length / 4, this.length / 2);
+	}
+	
+	@Benchmark
+	public int hashCodeDoubleArray() {
+		return Arrays.hashCode(this.doubleArray);
+	}
+	
+	@Benchmark
+	public int hashCodeParallelDoubleArray() {
+		return Arrays.hashCodeParallel(this.doubleArray);
+	}
+	
+	@Benchmark
+	public int hashCodeIntArray() {
+		return Arrays.hashCode(this.intArray);
+	}
+	
+	@Benchmark
+	public int indexOfByte() {
+		return Arrays.indexOf((byte)(-1), this.byteArray);
+	}
+	
+	@Benchmark
+	public int indexOfByteArray() {
+		return Arrays.indexOf(this.byteArrayValue, this.byteArray, false, false);
+	}
+	
+	@Benchmark
+	public int indexOfInt() {
+		return Arrays.indexOf(-1, this.intArray);
+	}
+	
+	@Benchmark
+	public int indexOfIntArray() {
+		return Arrays.indexOf(this.intArrayValue, this.intArray, false, false);
+	}
+	
+	@Benchmark
+	public int[] generateIntArray() {
+		return Arrays.generateIntArray(this.length, index -> index * 31);
+	}
+	
+	@Benchmark
+	public int[] generateIntArrayParallel() {
+		return Arrays.generateIntArrayParallel(this.length, index -> index * 31);
+	}
+	
+	@Benchmark
+	public int[] mergeIntArray() {
+		return Arrays.merge(this.intArray, this.intArrayCopy);
+	}
+	
+	@Benchmark
+	public int[] repeatIntArray() {
+		return Arrays.repeat(this.intArrayValue, this.length / this.intArrayValue.length);
+	}
+	
+	@Benchmark
+	public int[] repeatParallelIntArray() {
+		return Arrays.repeatParallel(this.intArrayValue, this.length / this.intArrayValue.length);
+	}
+	
+	@Benchmark
+	public int[] spliceIntArray() {
+		return Arrays.splice(this.intArray, this.length / 4, this.length / 2);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+		
+		this.byteArray = Arrays.generateByteArray(this.length, index -> (byte)(threadLocalRandom.nextInt(0, 127)));
+		this.byteArrayCopy = this.byteArray.clone();
+		this.byteArrayValue = new byte[] {1, 2, 3, 4, 5, 6, 7, -1};
+		this.doubleArray = Arrays.generateDoubleArray(this.length, index -> threadLocalRandom.nextDouble());
+		this.doubleArrayCopy = this.doubleArray.clone();
+		this.intArray = Arrays.generateIntArray(this.length, index -> threadLocalRandom.nextInt(0, Integer.MAX_VALUE));
+		this.intArrayCopy = this.intArray.clone();
+		this.intArrayValue = new int[] {1, 2, 3, 4, 5, 6, 7, -1};
+	}
+}
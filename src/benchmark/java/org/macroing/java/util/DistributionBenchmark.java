@@ -0,0 +1,110 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class DistributionBenchmark {
+	@Param({"16", "1024", "65536"})
+	private int size;
+	private AliasTable aliasTable;
+	private DiscreteDistribution discreteDistribution;
+	private Xoshiro256StarStar xoshiro256StarStar;
+	private double[] cumulativeProbabilities;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public DistributionBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public int sampleAliasTable() {
+		return this.aliasTable.sample(this.xoshiro256StarStar.nextDouble());
+	}
+	
+	@Benchmark
+	public int sampleDiscreteDistribution() {
+		return this.discreteDistribution.sample(this.xoshiro256StarStar.nextDouble());
+	}
+	
+	@Benchmark
+	public int sampleLinearScan() {
+		final double[] cumulativeProbabilities = this.cumulativeProbabilities;
+		
+		final double u = this.xoshiro256StarStar.nextDouble();
+		
+		int index = 0;
+		
+		while(index + 1 < cumulativeProbabilities.length && cumulativeProbabilities[index] <= u) {
+			index++;
+		}
+		
+		return index;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		this.xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+		
+		final double[] weights = new double[this.size];
+		
+		for(int i = 0; i < weights.length; i++) {
+			final double u = this.xoshiro256StarStar.nextDouble();
+			
+			weights[i] = u * u * u;
+		}
+		
+		this.aliasTable = new AliasTable(weights);
+		this.discreteDistribution = new DiscreteDistribution(weights);
+		this.cumulativeProbabilities = new double[weights.length];
+		
+		double sum = 0.0D;
+		
+		for(int i = 0; i < weights.length; i++) {
+			this.cumulativeProbabilities[i] = sum += weights[i];
+		}
+		
+		for(int i = 0; i < weights.length; i++) {
+			this.cumulativeProbabilities[i] /= sum;
+		}
+	}
+}
@@ -0,0 +1,257 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class RandomBenchmark {
+	private final double[] doubles = new double[1024];
+	private final int[] ints = new int[1024];
+	private FastMersenneTwister fastMersenneTwister;
+	private FastMersenneTwisterRandom fastMersenneTwisterRandom;
+	private MersenneTwister mersenneTwister;
+	private MersenneTwisterRandom mersenneTwisterRandom;
+	private Random random;
+	private XORShift xORShift;
+	private XORShiftRandom xORShiftRandom;
+	private Xoshiro256StarStar xoshiro256StarStar;
+	private Xoshiro256StarStarRandom xoshiro256StarStarRandom;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public RandomBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public double nextDoubleFastMersenneTwister() {
+		return this.fastMersenneTwister.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleFastMersenneTwisterRandom() {
+		return this.fastMersenneTwisterRandom.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleMersenneTwister() {
+		return this.mersenneTwister.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleMersenneTwisterRandom() {
+		return this.mersenneTwisterRandom.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleRandom() {
+		return this.random.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleRandoms() {
+		return Randoms.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleThreadLocalRandom() {
+		return ThreadLocalRandom.current().nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleXORShift() {
+		return this.xORShift.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleXORShiftRandom() {
+		return this.xORShiftRandom.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleXoshiro256StarStar() {
+		return this.xoshiro256StarStar.nextDouble();
+	}
+	
+	@Benchmark
+	public double nextDoubleXoshiro256StarStarRandom() {
+		return this.xoshiro256StarStarRandom.nextDouble();
+	}
+	
+	@Benchmark
+	public double sumDoublesParallelMersenneTwisterRandom() {
+		return this.mersenneTwisterRandom.doubles(1000000L).parallel().sum();
+	}
+	
+	@Benchmark
+	public double sumDoublesParallelXoshiro256StarStarRandom() {
+		return this.xoshiro256StarStarRandom.doubles(1000000L).parallel().sum();
+	}
+	
+	@Benchmark
+	public double[] nextDoublesFastMersenneTwister() {
+		return this.fastMersenneTwister.nextDoubles(this.doubles);
+	}
+	
+	@Benchmark
+	public double[] nextDoublesMersenneTwister() {
+		return this.mersenneTwister.nextDoubles(this.doubles);
+	}
+	
+	@Benchmark
+	public double[] nextDoublesRandoms() {
+		return Randoms.nextDoubles(this.doubles);
+	}
+	
+	@Benchmark
+	public double[] nextDoublesXoshiro256StarStar() {
+		return this.xoshiro256StarStar.nextDoubles(this.doubles);
+	}
+	
+	@Benchmark
+	public float nextFloatFastMersenneTwister() {
+		return this.fastMersenneTwister.nextFloat();
+	}
+	
+	@Benchmark
+	public float nextFloatMersenneTwister() {
+		return this.mersenneTwister.nextFloat();
+	}
+	
+	@Benchmark
+	public float nextFloatMersenneTwisterRandom() {
+		return this.mersenneTwisterRandom.nextFloat();
+	}
+	
+	@Benchmark
+	public float nextFloatRandoms() {
+		return Randoms.nextFloat();
+	}
+	
+	@Benchmark
+	public float nextFloatThreadLocalRandom() {
+		return ThreadLocalRandom.current().nextFloat();
+	}
+	
+	@Benchmark
+	public float nextFloatXORShift() {
+		return this.xORShift.nextFloat();
+	}
+	
+	@Benchmark
+	public float nextFloatXORShiftRandom() {
+		return this.xORShiftRandom.nextFloat();
+	}
+	
+	@Benchmark
+	public int nextIntFastMersenneTwister() {
+		return this.fastMersenneTwister.nextInt();
+	}
+	
+	@Benchmark
+	public int nextIntFastMersenneTwisterRandom() {
+		return this.fastMersenneTwisterRandom.nextInt();
+	}
+	
+	@Benchmark
+	public int nextIntMersenneTwister() {
+		return this.mersenneTwister.nextInt();
+	}
+	
+	@Benchmark
+	public int nextIntMersenneTwisterRandom() {
+		return this.mersenneTwisterRandom.nextInt();
+	}
+	
+	@Benchmark
+	public int nextIntThreadLocalRandom() {
+		return ThreadLocalRandom.current().nextInt();
+	}
+	
+	@Benchmark
+	public int nextIntXORShiftRandom() {
+		return this.xORShiftRandom.nextInt();
+	}
+	
+	@Benchmark
+	public int[] nextIntsFastMersenneTwister() {
+		return this.fastMersenneTwister.nextInts(this.ints);
+	}
+	
+	@Benchmark
+	public int[] nextIntsMersenneTwister() {
+		return this.mersenneTwister.nextInts(this.ints);
+	}
+	
+	@Benchmark
+	public long nextLongMersenneTwisterRandom() {
+		return this.mersenneTwisterRandom.nextLong();
+	}
+	
+	@Benchmark
+	public long nextLongThreadLocalRandom() {
+		return ThreadLocalRandom.current().nextLong();
+	}
+	
+	@Benchmark
+	public long nextLongXORShiftRandom() {
+		return this.xORShiftRandom.nextLong();
+	}
+	
+	@Benchmark
+	public long nextLongXoshiro256StarStarRandom() {
+		return this.xoshiro256StarStarRandom.nextLong();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		this.fastMersenneTwister = new FastMersenneTwister(12345L);
+		this.fastMersenneTwisterRandom = new FastMersenneTwisterRandom(12345L);
+		this.mersenneTwister = new MersenneTwister(12345L);
+		this.mersenneTwisterRandom = new MersenneTwisterRandom(12345L);
+		this.random = new Random(12345L);
+		this.xORShift = new XORShift(12345L);
+		this.xORShiftRandom = new XORShiftRandom(12345L);
+		this.xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+		this.xoshiro256StarStarRandom = new Xoshiro256StarStarRandom(12345L);
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class SequenceBenchmark {
+	private static final int DIMENSIONS = 16;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final double[] out = new double[DIMENSIONS];
+	private HaltonSequence haltonSequence;
+	private HaltonSequence haltonSequenceScrambled;
+	private LatinHypercubeSampler latinHypercubeSampler;
+	private RobertsSequence robertsSequence;
+	private SobolSequence sobolSequence;
+	private Xoshiro256StarStar xoshiro256StarStar;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public SequenceBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public double[] nextHaltonSequence() {
+		if(this.haltonSequence.getIndex() == HaltonSequence.MAXIMUM_POINTS) {
+			this.haltonSequence.reset();
+		}
+		
+		return this.haltonSequence.next(this.out);
+	}
+	
+	@Benchmark
+	public double[] nextHaltonSequenceScrambled() {
+		if(this.haltonSequenceScrambled.getIndex() == HaltonSequence.MAXIMUM_POINTS) {
+			this.haltonSequenceScrambled.reset();
+		}
+		
+		return this.haltonSequenceScrambled.next(this.out);
+	}
+	
+	@Benchmark
+	public double[] nextLatinHypercubeSampler() {
+		return this.latinHypercubeSampler.next(this.out);
+	}
+	
+	@Benchmark
+	public double[] nextRobertsSequence() {
+		return this.robertsSequence.next(this.out);
+	}
+	
+	@Benchmark
+	public double[] nextSobolSequence() {
+		if(this.sobolSequence.getIndex() == SobolSequence.MAXIMUM_POINTS) {
+			this.sobolSequence.reset();
+		}
+		
+		return this.sobolSequence.next(this.out);
+	}
+	
+	@Benchmark
+	public double[] nextXoshiro256StarStar() {
+		return this.xoshiro256StarStar.nextDoubles(this.out);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		this.haltonSequence = new HaltonSequence(DIMENSIONS);
+		this.haltonSequenceScrambled = new HaltonSequence(DIMENSIONS, 12345L);
+		this.latinHypercubeSampler = new LatinHypercubeSampler(DIMENSIONS, 1024, 12345L);
+		this.robertsSequence = new RobertsSequence(DIMENSIONS);
+		this.sobolSequence = new SobolSequence(DIMENSIONS);
+		this.xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+	}
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@Warmup(iterations = 5, time = 1)
+public class AtomicDoubleBenchmark {
+	private final AtomicDouble atomicDouble = new AtomicDouble();
+	private final AtomicLong atomicLong = new AtomicLong();
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public AtomicDoubleBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public double accumulateAndGet() {
+		return this.atomicDouble.accumulateAndGet(1.0D, (a, b) -> a + b);
+	}
+	
+	@Benchmark
+	public double addAndGet() {
+		return this.atomicDouble.addAndGet(1.0D);
+	}
+	
+	@Benchmark
+	public double get() {
+		return this.atomicDouble.get();
+	}
+	
+	@Benchmark
+	public double incrementAndGet() {
+		return this.atomicDouble.incrementAndGet();
+	}
+	
+	@Benchmark
+	public long addAndGetAtomicLong() {
+		return this.atomicLong.addAndGet(1L);
+	}
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@Warmup(iterations = 5, time = 1)
+public class AtomicFloatArrayBenchmark {
+	private static final int LENGTH = 1024;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final AtomicFloat[] atomicFloats = doCreateAtomicFloats();
+	private final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(LENGTH);
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public AtomicFloatArrayBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public float addAndGet() {
+		return this.atomicFloatArray.addAndGet(ThreadLocalRandom.current().nextInt(LENGTH), 1.0F);
+	}
+	
+	@Benchmark
+	public float addAndGetAtomicFloats() {
+		return this.atomicFloats[ThreadLocalRandom.current().nextInt(LENGTH)].addAndGet(1.0F);
+	}
+	
+	@Benchmark
+	public float maxAndGet() {
+		return this.atomicFloatArray.maxAndGet(ThreadLocalRandom.current().nextInt(LENGTH), 1.0F);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static AtomicFloat[] doCreateAtomicFloats() {
+		final AtomicFloat[] atomicFloats = new AtomicFloat[LENGTH];
+		
+		for(int i = 0; i < atomicFloats.length; i++) {
+			atomicFloats[i] = new AtomicFloat();
+		}
+		
+		return atomicFloats;
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@Warmup(iterations = 5, time = 1)
+public class AtomicFloatBenchmark {
+	private final AtomicFloat atomicFloat = new AtomicFloat();
+	private final AtomicInteger atomicInteger = new AtomicInteger();
+	private final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, Float.NEGATIVE_INFINITY);
+	private final FloatAdder floatAdder = new FloatAdder();
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public AtomicFloatBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public float accumulateAndGet() {
+		return this.atomicFloat.accumulateAndGet(1.0F, (a, b) -> a + b);
+	}
+	
+	@Benchmark
+	public float addAndGet() {
+		return this.atomicFloat.addAndGet(1.0F);
+	}
+	
+	@Benchmark
+	public float get() {
+		return this.atomicFloat.get();
+	}
+	
+	@Benchmark
+	public float maxAndGet() {
+		return this.atomicFloat.maxAndGet(1.0F);
+	}
+	
+	@Benchmark
+	public float incrementAndGet() {
+		return this.atomicFloat.incrementAndGet();
+	}
+	
+	@Benchmark
+	public int addAndGetAtomicInteger() {
+		return this.atomicInteger.addAndGet(1);
+	}
+	
+	@Benchmark
+	public void accumulateFloatAccumulator() {
+		this.floatAccumulator.accumulate(1.0F);
+	}
+	
+	@Benchmark
+	public void addFloatAdder() {
+		this.floatAdder.add(1.0F);
+	}
+}
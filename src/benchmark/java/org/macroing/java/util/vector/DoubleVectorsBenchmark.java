@@ -0,0 +1,137 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.vector;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class DoubleVectorsBenchmark {
+	@Param({"1024", "65536", "1048576"})
+	private int size;
+	private double[] arrayA;
+	private double[] arrayB;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public DoubleVectorsBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public int argmin() {
+		return DoubleVectors.argmin(this.arrayA);
+	}
+	
+	@Benchmark
+	public double[] axpy() {
+		return DoubleVectors.axpy(0.5D, this.arrayA, this.arrayB);
+	}
+	
+	@Benchmark
+	public double dot() {
+		return DoubleVectors.dot(this.arrayA, this.arrayB);
+	}
+	
+	@Benchmark
+	public double dotSequential() {
+		final double[] arrayA = this.arrayA;
+		final double[] arrayB = this.arrayB;
+		
+		double sum = 0.0D;
+		
+		for(int i = 0; i < arrayA.length; i++) {
+			sum += arrayA[i] * arrayB[i];
+		}
+		
+		return sum;
+	}
+	
+	@Benchmark
+	public double max() {
+		return DoubleVectors.max(this.arrayA);
+	}
+	
+	@Benchmark
+	public double[] prefixSum() {
+		return DoubleVectors.prefixSum(this.arrayA, this.arrayB);
+	}
+	
+	@Benchmark
+	public double sum() {
+		return DoubleVectors.sum(this.arrayA);
+	}
+	
+	@Benchmark
+	public double sumKahan() {
+		return DoubleVectors.sumKahan(this.arrayA);
+	}
+	
+	@Benchmark
+	public double sumPairwise() {
+		return DoubleVectors.sumPairwise(this.arrayA);
+	}
+	
+	@Benchmark
+	public double sumSequential() {
+		final double[] arrayA = this.arrayA;
+		
+		double sum = 0.0D;
+		
+		for(int i = 0; i < arrayA.length; i++) {
+			sum += arrayA[i];
+		}
+		
+		return sum;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+		
+		this.arrayA = new double[this.size];
+		this.arrayB = new double[this.size];
+		
+		for(int i = 0; i < this.size; i++) {
+			this.arrayA[i] = threadLocalRandom.nextDouble(-1.0D, 1.0D);
+			this.arrayB[i] = threadLocalRandom.nextDouble(-1.0D, 1.0D);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.vector;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class FloatVectorsBenchmark {
+	@Param({"1024", "65536", "1048576"})
+	private int size;
+	private float[] arrayA;
+	private float[] arrayB;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public FloatVectorsBenchmark() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Benchmark
+	public int argmin() {
+		return FloatVectors.argmin(this.arrayA);
+	}
+	
+	@Benchmark
+	public float[] axpy() {
+		return FloatVectors.axpy(0.5F, this.arrayA, this.arrayB);
+	}
+	
+	@Benchmark
+	public float dot() {
+		return FloatVectors.dot(this.arrayA, this.arrayB);
+	}
+	
+	@Benchmark
+	public float dotSequential() {
+		final float[] arrayA = this.arrayA;
+		final float[] arrayB = this.arrayB;
+		
+		float sum = 0.0F;
+		
+		for(int i = 0; i < arrayA.length; i++) {
+			sum += arrayA[i] * arrayB[i];
+		}
+		
+		return sum;
+	}
+	
+	@Benchmark
+	public float max() {
+		return FloatVectors.max(this.arrayA);
+	}
+	
+	@Benchmark
+	public float[] prefixSum() {
+		return FloatVectors.prefixSum(this.arrayA, this.arrayB);
+	}
+	
+	@Benchmark
+	public float sum() {
+		return FloatVectors.sum(this.arrayA);
+	}
+	
+	@Benchmark
+	public float sumKahan() {
+		return FloatVectors.sumKahan(this.arrayA);
+	}
+	
+	@Benchmark
+	public float sumPairwise() {
+		return FloatVectors.sumPairwise(this.arrayA);
+	}
+	
+	@Benchmark
+	public float sumSequential() {
+		final float[] arrayA = this.arrayA;
+		
+		float sum = 0.0F;
+		
+		for(int i = 0; i < arrayA.length; i++) {
+			sum += arrayA[i];
+		}
+		
+		return sum;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Setup
+	public void setup() {
+		final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+		
+		this.arrayA = new float[this.size];
+		this.arrayB = new float[this.size];
+		
+		for(int i = 0; i < this.size; i++) {
+			this.arrayA[i] = (float)(threadLocalRandom.nextDouble(-1.0D, 1.0D));
+			this.arrayB[i] = (float)(threadLocalRandom.nextDouble(-1.0D, 1.0D));
+		}
+	}
+}
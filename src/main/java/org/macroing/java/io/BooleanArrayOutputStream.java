@@ -186,9 +186,59 @@ public final class BooleanArrayOutputStream extends OutputStream {
 		this.size += len;
 	}
 	
+	/**
+	 * Writes {@code b.length} {@code byte} values, starting at offset {@code 0}, from {@code b} to this {@code BooleanArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * booleanArrayOutputStream.write(b, 0, b.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b) {
+		write(b, 0, b.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code byte} values, starting at offset {@code off}, from {@code b} to this {@code BooleanArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The {@code byte} values are interpreted as if {@link #write(int)} was called for each of them, but complete {@code boolean} values are decoded in bulk directly into the current {@code boolean} array.
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @param off the offset to start at in {@code b}
+	 * @param len the number of {@code byte} values to write from {@code b}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b, final int off, final int len) {
+		if(off < 0 || off > b.length || len < 0 || off + len - b.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		doEnsureCapacity(this.size + len);
+		
+		for(int i = off; i < off + len; i++) {
+			this.buffer[this.size++] = b[i] != 0;
+		}
+	}
+	
 	/**
 	 * Writes the specified {@code byte} value to this {@code BooleanArrayOutputStream} instance.
 	 * <p>
+	 * A {@code byte} value that is not equal to {@code 0} is written as {@code true}, which is compatible with {@code DataOutputStream.writeBoolean(boolean)}. Only the eight low-order bits of {@code b} are used.
+	 * <p>
 	 * Calling this method is equivalent to the following:
 	 * <pre>
 	 * {@code
@@ -18,8 +18,16 @@
  */
 package org.macroing.java.io;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * A {@code FloatArrayOutputStream} is an {@code OutputStream} implementation that writes data to a {@code float} array.
@@ -28,12 +36,15 @@ import java.util.Arrays;
  * @author J&#246;rgen Lundgren
  */
 public final class FloatArrayOutputStream extends OutputStream {
+	private static final int CHUNK_SIZE = 65536;
 	private static final int MAX_ARRAY_SIZE = (Integer.MAX_VALUE - 8) / 4;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private float[] buffer;
+	private int pendingCount;
 	private int size;
+	private int pending;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -62,10 +73,25 @@ public final class FloatArrayOutputStream extends OutputStream {
 	public FloatArrayOutputStream(final int capacity) {
 		this.buffer = new float[doRequireMinimum(capacity, 0, "capacity")];
 		this.size = 0;
+		this.pending = 0;
+		this.pendingCount = 0;
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	/**
+	 * Returns a read-only {@code FloatBuffer} view of the {@code float} values that have been written so far.
+	 * <p>
+	 * The returned {@code FloatBuffer} wraps the current {@code float} array without copying it. Its position is {@code 0} and its capacity and limit are equal to {@link #size()}.
+	 * <p>
+	 * The returned {@code FloatBuffer} is a view of the current {@code float} array. Subsequent writes to this {@code FloatArrayOutputStream} instance are only reflected in it as long as the current {@code float} array is not expanded and the values are written within its limit. Calling {@link #reset()} does not clear it.
+	 * 
+	 * @return a read-only {@code FloatBuffer} view of the {@code float} values that have been written so far
+	 */
+	public synchronized FloatBuffer asReadOnlyBuffer() {
+		return FloatBuffer.wrap(this.buffer, 0, this.size).slice().asReadOnlyBuffer();
+	}
+	
 	/**
 	 * Returns a {@code float} array that contains the {@code float} values that have been written so far.
 	 * 
@@ -128,6 +154,8 @@ public final class FloatArrayOutputStream extends OutputStream {
 	 */
 	public synchronized void reset() {
 		this.size = 0;
+		this.pending = 0;
+		this.pendingCount = 0;
 	}
 	
 	/**
@@ -187,20 +215,179 @@ public final class FloatArrayOutputStream extends OutputStream {
 	}
 	
 	/**
-	 * Writes the specified {@code byte} value to this {@code FloatArrayOutputStream} instance.
+	 * Writes {@code b.length} {@code byte} values, starting at offset {@code 0}, from {@code b} to this {@code FloatArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * Calling this method is equivalent to the following:
 	 * <pre>
 	 * {@code
-	 * floatArrayOutputStream.write((float)((byte)(b)));
+	 * floatArrayOutputStream.write(b, 0, b.length);
 	 * }
 	 * </pre>
 	 * 
+	 * @param b the {@code byte} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b) {
+		write(b, 0, b.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code byte} values, starting at offset {@code off}, from {@code b} to this {@code FloatArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The {@code byte} values are interpreted as if {@link #write(int)} was called for each of them, but complete {@code float} values are decoded in bulk directly into the current {@code float} array.
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @param off the offset to start at in {@code b}
+	 * @param len the number of {@code byte} values to write from {@code b}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b, final int off, final int len) {
+		if(off < 0 || off > b.length || len < 0 || off + len - b.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		int offset = off;
+		int length = len;
+		
+		while(this.pendingCount > 0 && length > 0) {
+			write(b[offset++] & 0xFF);
+			
+			length--;
+		}
+		
+		final int count = length / 4;
+		
+		if(count > 0) {
+			doEnsureCapacity(this.size + count);
+			
+			ByteBuffer.wrap(b, offset, count * 4).asFloatBuffer().get(this.buffer, this.size, count);
+			
+			this.size += count;
+			
+			offset += count * 4;
+			length -= count * 4;
+		}
+		
+		while(length > 0) {
+			write(b[offset++] & 0xFF);
+			
+			length--;
+		}
+	}
+	
+	/**
+	 * Writes the specified {@code byte} value to this {@code FloatArrayOutputStream} instance.
+	 * <p>
+	 * The {@code byte} values that are written using this method are assembled into {@code float} values in big-endian byte order, which is the byte order used by {@code DataOutputStream}. Every fourth {@code byte} value completes a {@code float} value, which is then written. Until then, the pending {@code byte} values are not included in {@link #size()}. Calling {@link #reset()} discards them.
+	 * <p>
+	 * Only the eight low-order bits of {@code b} are used.
+	 * 
 	 * @param b the {@code byte} value to write
 	 */
 	@Override
 	public synchronized void write(final int b) {
-		write((float)((byte)(b)));
+		this.pending = (this.pending << 8) | (b & 0xFF);
+		this.pendingCount++;
+		
+		if(this.pendingCount == 4) {
+			write(Float.intBitsToFloat(this.pending));
+			
+			this.pending = 0;
+			this.pendingCount = 0;
+		}
+	}
+	
+	/**
+	 * Writes the {@code float} values that have been written so far to {@code byteBuffer}.
+	 * <p>
+	 * If {@code byteBuffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteBuffer.remaining()} is less than {@code floatArrayOutputStream.size() * 4}, a {@code BufferOverflowException} will be thrown. In that case, nothing is written to {@code byteBuffer}.
+	 * <p>
+	 * The {@code float} values are written in one bulk operation using the byte order of {@code byteBuffer}, starting at its current position. The position of {@code byteBuffer} is incremented by {@code floatArrayOutputStream.size() * 4}.
+	 * 
+	 * @param byteBuffer the {@code ByteBuffer} to write to
+	 * @throws java.nio.BufferOverflowException thrown if, and only if, {@code byteBuffer.remaining()} is less than {@code floatArrayOutputStream.size() * 4}
+	 * @throws java.nio.ReadOnlyBufferException thrown if, and only if, {@code byteBuffer} is read-only
+	 * @throws NullPointerException thrown if, and only if, {@code byteBuffer} is {@code null}
+	 */
+	public synchronized void writeTo(final ByteBuffer byteBuffer) {
+		byteBuffer.asFloatBuffer().put(this.buffer, 0, this.size);
+		((Buffer)(byteBuffer)).position(byteBuffer.position() + this.size * 4);
+	}
+	
+	/**
+	 * Writes the {@code float} values that have been written so far to {@code writableByteChannel} in big-endian byte order.
+	 * <p>
+	 * If {@code writableByteChannel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If an I/O error occurs, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * floatArrayOutputStream.writeTo(writableByteChannel, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
+	 * 
+	 * @param writableByteChannel the {@code WritableByteChannel} to write to
+	 * @throws NullPointerException thrown if, and only if, {@code writableByteChannel} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an I/O error occurs
+	 */
+	public synchronized void writeTo(final WritableByteChannel writableByteChannel) {
+		writeTo(writableByteChannel, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Writes the {@code float} values that have been written so far to {@code writableByteChannel} in the byte order {@code byteOrder}.
+	 * <p>
+	 * If either {@code writableByteChannel} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If an I/O error occurs, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * The {@code float} values are not copied into an intermediate array. They are encoded in chunks of at most 64 KiB into a single heap {@code ByteBuffer} that is reused until all of them have been written. A heap buffer is used because a direct buffer is expensive to allocate for small exports and its memory is only released after a garbage collection.
+	 * 
+	 * @param writableByteChannel the {@code WritableByteChannel} to write to
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @throws NullPointerException thrown if, and only if, either {@code writableByteChannel} or {@code byteOrder} are {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an I/O error occurs
+	 */
+	public synchronized void writeTo(final WritableByteChannel writableByteChannel, final ByteOrder byteOrder) {
+		Objects.requireNonNull(writableByteChannel, "writableByteChannel == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
+		
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(Math.min(CHUNK_SIZE, Math.max(this.size * 4, 4))).order(byteOrder);
+		
+		final FloatBuffer floatBuffer = byteBuffer.asFloatBuffer();
+		
+		try {
+			for(int offset = 0; offset < this.size;) {
+				final int length = Math.min(this.size - offset, floatBuffer.capacity());
+				
+				((Buffer)(floatBuffer)).clear();
+				floatBuffer.put(this.buffer, offset, length);
+				
+				((Buffer)(byteBuffer)).clear();
+				((Buffer)(byteBuffer)).limit(length * 4);
+				
+				while(byteBuffer.hasRemaining()) {
+					writableByteChannel.write(byteBuffer);
+				}
+				
+				offset += length;
+			}
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
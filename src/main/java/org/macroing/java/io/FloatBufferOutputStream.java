@@ -0,0 +1,574 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@code FloatBufferOutputStream} is an {@code OutputStream} implementation that writes data to off-heap {@code float} buffers.
+ * <p>
+ * The {@code float} values are stored in fixed-size chunks. Each chunk is either a direct {@code ByteBuffer} or a region of a memory-mapped file. When a chunk is full, a new chunk is added, so the values that have been written so far are never copied while writing. Because the size is a {@code long}, an instance of this class may contain more {@code float} values than fit in a single {@code float} array.
+ * <p>
+ * The chunks use the native byte order.
+ * <p>
+ * The write API of this class matches that of {@link FloatArrayOutputStream}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class FloatBufferOutputStream extends OutputStream {
+	private static final int CONVERSION_SIZE = 65536;
+	private static final int MAX_ARRAY_SIZE = (Integer.MAX_VALUE - 8) / 4;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final FileChannel fileChannel;
+	private final List<ByteBuffer> byteBuffers;
+	private final List<FloatBuffer> floatBuffers;
+	private final int chunkCapacity;
+	private int index;
+	private int pendingCount;
+	private long size;
+	private int pending;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code FloatBufferOutputStream} instance that is backed by direct {@code ByteBuffer} chunks with a capacity of {@code 1048576} {@code float} values each.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new FloatBufferOutputStream(1048576);
+	 * }
+	 * </pre>
+	 */
+	public FloatBufferOutputStream() {
+		this(1048576);
+	}
+	
+	/**
+	 * Constructs a new {@code FloatBufferOutputStream} instance that is backed by direct {@code ByteBuffer} chunks with a capacity of {@code chunkCapacity} {@code float} values each.
+	 * <p>
+	 * If either {@code chunkCapacity} is less than {@code 1} or greater than {@code Integer.MAX_VALUE / 4}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param chunkCapacity the number of {@code float} values in each chunk
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code chunkCapacity} is less than {@code 1} or greater than {@code Integer.MAX_VALUE / 4}
+	 */
+	public FloatBufferOutputStream(final int chunkCapacity) {
+		this.fileChannel = null;
+		this.byteBuffers = new ArrayList<>();
+		this.floatBuffers = new ArrayList<>();
+		this.chunkCapacity = doRequireRange(chunkCapacity, 1, Integer.MAX_VALUE / 4, "chunkCapacity");
+		this.index = 0;
+		this.size = 0L;
+		this.pending = 0;
+		this.pendingCount = 0;
+		
+		doAddFloatBuffer();
+	}
+	
+	/**
+	 * Constructs a new {@code FloatBufferOutputStream} instance that is backed by the memory-mapped file {@code file}, which is mapped in chunks with a capacity of {@code chunkCapacity} {@code float} values each.
+	 * <p>
+	 * If {@code file} does not exist, it will be created. The file grows by one chunk at a time as values are written to this {@code FloatBufferOutputStream} instance. It is the responsibility of the caller to delete it, after this {@code FloatBufferOutputStream} instance has been closed.
+	 * <p>
+	 * If {@code file} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code chunkCapacity} is less than {@code 1} or greater than {@code Integer.MAX_VALUE / 4}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If an I/O error occurs, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @param file the file to map
+	 * @param chunkCapacity the number of {@code float} values in each chunk
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code chunkCapacity} is less than {@code 1} or greater than {@code Integer.MAX_VALUE / 4}
+	 * @throws NullPointerException thrown if, and only if, {@code file} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an I/O error occurs
+	 */
+	public FloatBufferOutputStream(final File file, final int chunkCapacity) {
+		Objects.requireNonNull(file, "file == null");
+		
+		this.chunkCapacity = doRequireRange(chunkCapacity, 1, Integer.MAX_VALUE / 4, "chunkCapacity");
+		
+		try {
+			this.fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		this.byteBuffers = new ArrayList<>();
+		this.floatBuffers = new ArrayList<>();
+		this.index = 0;
+		this.size = 0L;
+		this.pending = 0;
+		this.pendingCount = 0;
+		
+		doAddFloatBuffer();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code float} array that contains the {@code float} values that have been written so far.
+	 * <p>
+	 * If the number of {@code float} values that have been written so far is greater than the maximum length of a {@code float} array, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return a {@code float} array that contains the {@code float} values that have been written so far
+	 * @throws IllegalStateException thrown if, and only if, the number of {@code float} values that have been written so far is greater than the maximum length of a {@code float} array
+	 */
+	public synchronized float[] toFloatArray() {
+		if(this.size > MAX_ARRAY_SIZE) {
+			throw new IllegalStateException(String.format("size() > %d: size() == %d", Integer.valueOf(MAX_ARRAY_SIZE), Long.valueOf(this.size)));
+		}
+		
+		final float[] array = new float[(int)(this.size)];
+		
+		for(int i = 0, offset = 0; i <= this.index; i++) {
+			final FloatBuffer floatBuffer = this.floatBuffers.get(i).duplicate();
+			
+			((Buffer)(floatBuffer)).flip();
+			
+			final int length = floatBuffer.remaining();
+			
+			floatBuffer.get(array, offset, length);
+			
+			offset += length;
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns the {@code float} value at index {@code index}.
+	 * <p>
+	 * If either {@code index} is less than {@code 0} or greater than or equal to {@code floatBufferOutputStream.size()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the {@code float} value to return
+	 * @return the {@code float} value at index {@code index}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code index} is less than {@code 0} or greater than or equal to {@code floatBufferOutputStream.size()}
+	 */
+	public synchronized float get(final long index) {
+		if(index < 0L || index >= this.size) {
+			throw new IndexOutOfBoundsException(String.format("index < 0 || index >= size(): index == %d, size() == %d", Long.valueOf(index), Long.valueOf(this.size)));
+		}
+		
+		return this.floatBuffers.get((int)(index / this.chunkCapacity)).get((int)(index % this.chunkCapacity));
+	}
+	
+	/**
+	 * Returns the number of {@code float} values in each chunk of this {@code FloatBufferOutputStream} instance.
+	 * 
+	 * @return the number of {@code float} values in each chunk of this {@code FloatBufferOutputStream} instance
+	 */
+	public int chunkCapacity() {
+		return this.chunkCapacity;
+	}
+	
+	/**
+	 * Returns the number of {@code float} values that can be written without adding a new chunk.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * long available = floatBufferOutputStream.capacity() - floatBufferOutputStream.size();
+	 * }
+	 * </pre>
+	 * 
+	 * @return the number of {@code float} values that can be written without adding a new chunk
+	 */
+	public synchronized long available() {
+		return capacity() - size();
+	}
+	
+	/**
+	 * Returns the capacity of this {@code FloatBufferOutputStream} instance.
+	 * <p>
+	 * The capacity represents the total number of {@code float} values in all chunks that have been added so far.
+	 * 
+	 * @return the capacity of this {@code FloatBufferOutputStream} instance
+	 */
+	public synchronized long capacity() {
+		return (long)(this.floatBuffers.size()) * this.chunkCapacity;
+	}
+	
+	/**
+	 * Returns the size of this {@code FloatBufferOutputStream} instance.
+	 * <p>
+	 * The size represents the number of {@code float} values that have been written so far.
+	 * 
+	 * @return the size of this {@code FloatBufferOutputStream} instance
+	 */
+	public synchronized long size() {
+		return this.size;
+	}
+	
+	/**
+	 * Closes this {@code FloatBufferOutputStream} instance.
+	 * <p>
+	 * If this {@code FloatBufferOutputStream} instance is backed by a memory-mapped file, its {@code FileChannel} will be closed. The chunks that have already been mapped remain valid, so the methods in this class can be called after the stream has been closed. But no new chunks can be added.
+	 * <p>
+	 * If an I/O error occurs, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @throws UncheckedIOException thrown if, and only if, an I/O error occurs
+	 */
+	@Override
+	public synchronized void close() {
+		if(this.fileChannel != null) {
+			try {
+				this.fileChannel.close();
+			} catch(final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+	
+	/**
+	 * Resets this {@code FloatBufferOutputStream} instance so that the size is {@code 0}.
+	 * <p>
+	 * The chunks that have been added so far are kept, so they can be reused.
+	 */
+	public synchronized void reset() {
+		for(final FloatBuffer floatBuffer : this.floatBuffers) {
+			((Buffer)(floatBuffer)).clear();
+		}
+		
+		this.index = 0;
+		this.size = 0L;
+		this.pending = 0;
+		this.pendingCount = 0;
+	}
+	
+	/**
+	 * Writes the specified {@code float} value to this {@code FloatBufferOutputStream} instance.
+	 * 
+	 * @param f the {@code float} value to write
+	 */
+	public synchronized void write(final float f) {
+		FloatBuffer floatBuffer = this.floatBuffers.get(this.index);
+		
+		if(!floatBuffer.hasRemaining()) {
+			floatBuffer = doNextFloatBuffer();
+		}
+		
+		floatBuffer.put(f);
+		
+		this.size++;
+	}
+	
+	/**
+	 * Writes {@code f.length} {@code float} values, starting at offset {@code 0}, from {@code f} to this {@code FloatBufferOutputStream} instance.
+	 * <p>
+	 * If {@code f} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * floatBufferOutputStream.write(f, 0, f.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param f the {@code float} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code f} is {@code null}
+	 */
+	public synchronized void write(final float[] f) {
+		write(f, 0, f.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code float} values, starting at offset {@code off}, from {@code f} to this {@code FloatBufferOutputStream} instance.
+	 * <p>
+	 * If {@code f} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > f.length}, {@code len < 0} or {@code off + len - f.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param f the {@code float} array to write from
+	 * @param off the offset to start at in {@code f}
+	 * @param len the number of {@code float} values to write from {@code f}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > f.length}, {@code len < 0} or {@code off + len - f.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code f} is {@code null}
+	 */
+	public synchronized void write(final float[] f, final int off, final int len) {
+		if(off < 0 || off > f.length || len < 0 || off + len - f.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		FloatBuffer floatBuffer = this.floatBuffers.get(this.index);
+		
+		for(int offset = off, remaining = len; remaining > 0;) {
+			if(!floatBuffer.hasRemaining()) {
+				floatBuffer = doNextFloatBuffer();
+			}
+			
+			final int length = Math.min(remaining, floatBuffer.remaining());
+			
+			floatBuffer.put(f, offset, length);
+			
+			offset += length;
+			remaining -= length;
+		}
+		
+		this.size += len;
+	}
+	
+	/**
+	 * Writes {@code b.length} {@code byte} values, starting at offset {@code 0}, from {@code b} to this {@code FloatBufferOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * floatBufferOutputStream.write(b, 0, b.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b) {
+		write(b, 0, b.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code byte} values, starting at offset {@code off}, from {@code b} to this {@code FloatBufferOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The {@code byte} values are interpreted as if {@link #write(int)} was called for each of them, but complete {@code float} values are decoded in bulk directly into the current chunk.
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @param off the offset to start at in {@code b}
+	 * @param len the number of {@code byte} values to write from {@code b}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b, final int off, final int len) {
+		if(off < 0 || off > b.length || len < 0 || off + len - b.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		int offset = off;
+		int length = len;
+		
+		while(this.pendingCount > 0 && length > 0) {
+			write(b[offset++] & 0xFF);
+			
+			length--;
+		}
+		
+		final int count = length / 4;
+		
+		if(count > 0) {
+			final FloatBuffer floatBufferSource = ByteBuffer.wrap(b, offset, count * 4).asFloatBuffer();
+			
+			FloatBuffer floatBuffer = this.floatBuffers.get(this.index);
+			
+			while(floatBufferSource.hasRemaining()) {
+				if(!floatBuffer.hasRemaining()) {
+					floatBuffer = doNextFloatBuffer();
+				}
+				
+				final int chunkLength = Math.min(floatBufferSource.remaining(), floatBuffer.remaining());
+				
+				((Buffer)(floatBufferSource)).limit(floatBufferSource.position() + chunkLength);
+				
+				floatBuffer.put(floatBufferSource);
+				
+				((Buffer)(floatBufferSource)).limit(floatBufferSource.capacity());
+			}
+			
+			this.size += count;
+			
+			offset += count * 4;
+			length -= count * 4;
+		}
+		
+		while(length > 0) {
+			write(b[offset++] & 0xFF);
+			
+			length--;
+		}
+	}
+	
+	/**
+	 * Writes the specified {@code byte} value to this {@code FloatBufferOutputStream} instance.
+	 * <p>
+	 * The {@code byte} values that are written using this method are assembled into {@code float} values in big-endian byte order, which is the byte order used by {@code DataOutputStream}. Every fourth {@code byte} value completes a {@code float} value, which is then written. Until then, the pending {@code byte} values are not included in {@link #size()}. Calling {@link #reset()} discards them.
+	 * <p>
+	 * Only the eight low-order bits of {@code b} are used.
+	 * 
+	 * @param b the {@code byte} value to write
+	 */
+	@Override
+	public synchronized void write(final int b) {
+		this.pending = (this.pending << 8) | (b & 0xFF);
+		this.pendingCount++;
+		
+		if(this.pendingCount == 4) {
+			write(Float.intBitsToFloat(this.pending));
+			
+			this.pending = 0;
+			this.pendingCount = 0;
+		}
+	}
+	
+	/**
+	 * Writes the {@code float} values that have been written so far to {@code writableByteChannel} in big-endian byte order.
+	 * <p>
+	 * If {@code writableByteChannel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If an I/O error occurs, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * floatBufferOutputStream.writeTo(writableByteChannel, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
+	 * 
+	 * @param writableByteChannel the {@code WritableByteChannel} to write to
+	 * @throws NullPointerException thrown if, and only if, {@code writableByteChannel} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an I/O error occurs
+	 */
+	public synchronized void writeTo(final WritableByteChannel writableByteChannel) {
+		writeTo(writableByteChannel, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Writes the {@code float} values that have been written so far to {@code writableByteChannel} in the byte order {@code byteOrder}.
+	 * <p>
+	 * If either {@code writableByteChannel} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If an I/O error occurs, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * If {@code byteOrder} is the native byte order, the chunks are written to {@code writableByteChannel} directly. Otherwise they are converted in pieces of at most 64 KiB through a single intermediate heap {@code ByteBuffer}.
+	 * 
+	 * @param writableByteChannel the {@code WritableByteChannel} to write to
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @throws NullPointerException thrown if, and only if, either {@code writableByteChannel} or {@code byteOrder} are {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an I/O error occurs
+	 */
+	public synchronized void writeTo(final WritableByteChannel writableByteChannel, final ByteOrder byteOrder) {
+		Objects.requireNonNull(writableByteChannel, "writableByteChannel == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
+		
+		final ByteBuffer byteBufferConversion = byteOrder == ByteOrder.nativeOrder() ? null : ByteBuffer.allocate(Math.min(this.chunkCapacity * 4, CONVERSION_SIZE)).order(byteOrder);
+		
+		final FloatBuffer floatBufferConversion = byteBufferConversion != null ? byteBufferConversion.asFloatBuffer() : null;
+		
+		try {
+			for(int i = 0; i <= this.index; i++) {
+				if(byteBufferConversion == null) {
+					final ByteBuffer byteBuffer = this.byteBuffers.get(i).duplicate();
+					
+					((Buffer)(byteBuffer)).clear();
+					((Buffer)(byteBuffer)).limit(this.floatBuffers.get(i).position() * 4);
+					
+					while(byteBuffer.hasRemaining()) {
+						writableByteChannel.write(byteBuffer);
+					}
+				} else {
+					final FloatBuffer floatBuffer = this.floatBuffers.get(i).duplicate();
+					
+					((Buffer)(floatBuffer)).flip();
+					
+					final int end = floatBuffer.limit();
+					
+					while(floatBuffer.position() < end) {
+						final int length = Math.min(end - floatBuffer.position(), floatBufferConversion.capacity());
+						
+						((Buffer)(floatBuffer)).limit(floatBuffer.position() + length);
+						
+						((Buffer)(floatBufferConversion)).clear();
+						floatBufferConversion.put(floatBuffer);
+						
+						((Buffer)(byteBufferConversion)).clear();
+						((Buffer)(byteBufferConversion)).limit(length * 4);
+						
+						while(byteBufferConversion.hasRemaining()) {
+							writableByteChannel.write(byteBufferConversion);
+						}
+					}
+				}
+			}
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private FloatBuffer doNextFloatBuffer() {
+		this.index++;
+		
+		if(this.index == this.floatBuffers.size()) {
+			doAddFloatBuffer();
+		}
+		
+		return this.floatBuffers.get(this.index);
+	}
+	
+	private void doAddFloatBuffer() {
+		final ByteBuffer byteBuffer = doAllocate((long)(this.byteBuffers.size()) * this.chunkCapacity * 4, this.chunkCapacity * 4).order(ByteOrder.nativeOrder());
+		
+		this.byteBuffers.add(byteBuffer);
+		this.floatBuffers.add(byteBuffer.asFloatBuffer());
+	}
+	
+	private ByteBuffer doAllocate(final long position, final int size) {
+		if(this.fileChannel == null) {
+			return ByteBuffer.allocateDirect(size);
+		}
+		
+		try {
+			return this.fileChannel.map(FileChannel.MapMode.READ_WRITE, position, size);
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireRange(final int value, final int minimum, final int maximum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		} else if(value > maximum) {
+			throw new IllegalArgumentException(String.format("%s > %d: %s == %d", name, Integer.valueOf(maximum), name, Integer.valueOf(value)));
+		}
+		
+		return value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,267 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import java.util.Arrays;
+
+/**
+ * An {@code IntArrayBuilder} is a builder that builds an {@code int} array.
+ * <p>
+ * This class uses the same growth policy as {@link IntArrayOutputStream}, but it is not synchronized. It is intended to be filled by a single thread, or to be guarded externally.
+ * <p>
+ * The backing {@code int} array can be retrieved without copying it using {@link #array()}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class IntArrayBuilder {
+	private static final int MAX_ARRAY_SIZE = (Integer.MAX_VALUE - 8) / 4;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private int size;
+	private int[] buffer;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code IntArrayBuilder} instance with an initial capacity of {@code 32}.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new IntArrayBuilder(32);
+	 * }
+	 * </pre>
+	 */
+	public IntArrayBuilder() {
+		this(32);
+	}
+	
+	/**
+	 * Constructs a new {@code IntArrayBuilder} instance with an initial capacity of {@code capacity}.
+	 * <p>
+	 * If {@code capacity} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param capacity the initial capacity
+	 * @throws IllegalArgumentException thrown if, and only if, {@code capacity} is less than {@code 0}
+	 */
+	public IntArrayBuilder(final int capacity) {
+		this.size = 0;
+		this.buffer = new int[doRequireMinimum(capacity, 0, "capacity")];
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Appends {@code value} to this {@code IntArrayBuilder} instance.
+	 * <p>
+	 * Returns this {@code IntArrayBuilder} instance.
+	 * 
+	 * @param value the {@code int} value to append
+	 * @return this {@code IntArrayBuilder} instance
+	 */
+	public IntArrayBuilder append(final int value) {
+		final int size = this.size;
+		
+		if(size == this.buffer.length) {
+			doGrow(size + 1);
+		}
+		
+		this.buffer[size] = value;
+		this.size = size + 1;
+		
+		return this;
+	}
+	
+	/**
+	 * Appends {@code array.length} {@code int} values, starting at offset {@code 0}, from {@code array} to this {@code IntArrayBuilder} instance.
+	 * <p>
+	 * Returns this {@code IntArrayBuilder} instance.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * intArrayBuilder.append(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code int} array to append from
+	 * @return this {@code IntArrayBuilder} instance
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public IntArrayBuilder append(final int[] array) {
+		return append(array, 0, array.length);
+	}
+	
+	/**
+	 * Appends {@code len} {@code int} values, starting at offset {@code off}, from {@code array} to this {@code IntArrayBuilder} instance.
+	 * <p>
+	 * Returns this {@code IntArrayBuilder} instance.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > array.length}, {@code len < 0} or {@code off + len - array.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param array the {@code int} array to append from
+	 * @param off the offset to start at in {@code array}
+	 * @param len the number of {@code int} values to append from {@code array}
+	 * @return this {@code IntArrayBuilder} instance
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > array.length}, {@code len < 0} or {@code off + len - array.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public IntArrayBuilder append(final int[] array, final int off, final int len) {
+		if(off < 0 || off > array.length || len < 0 || off + len - array.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		doEnsureCapacity(this.size + len);
+		
+		System.arraycopy(array, off, this.buffer, this.size, len);
+		
+		this.size += len;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the backing {@code int} array of this {@code IntArrayBuilder} instance.
+	 * <p>
+	 * The returned {@code int} array is not copied. Its length is equal to {@link #capacity()} and only the first {@link #size()} elements contain {@code int} values that have been appended so far. Call {@link #trimToSize()} first, if the length of the returned {@code int} array has to be equal to {@code size()}.
+	 * <p>
+	 * Modifications to the returned {@code int} array will be reflected in this {@code IntArrayBuilder} instance until it has to expand its backing {@code int} array.
+	 * 
+	 * @return the backing {@code int} array of this {@code IntArrayBuilder} instance
+	 */
+	public int[] array() {
+		return this.buffer;
+	}
+	
+	/**
+	 * Returns an {@code int} array that contains the {@code int} values that have been appended so far.
+	 * 
+	 * @return an {@code int} array that contains the {@code int} values that have been appended so far
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(this.buffer, this.size);
+	}
+	
+	/**
+	 * Returns the number of {@code int} values that can be appended without expanding the current {@code int} array.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * int available = intArrayBuilder.capacity() - intArrayBuilder.size();
+	 * }
+	 * </pre>
+	 * 
+	 * @return the number of {@code int} values that can be appended without expanding the current {@code int} array
+	 */
+	public int available() {
+		return this.buffer.length - this.size;
+	}
+	
+	/**
+	 * Returns the capacity of this {@code IntArrayBuilder} instance.
+	 * <p>
+	 * The capacity represents the length of the current {@code int} array.
+	 * 
+	 * @return the capacity of this {@code IntArrayBuilder} instance
+	 */
+	public int capacity() {
+		return this.buffer.length;
+	}
+	
+	/**
+	 * Returns the size of this {@code IntArrayBuilder} instance.
+	 * <p>
+	 * The size represents the number of {@code int} values that have been appended so far.
+	 * 
+	 * @return the size of this {@code IntArrayBuilder} instance
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Ensures that the capacity of this {@code IntArrayBuilder} instance is at least {@code minCapacity}.
+	 * <p>
+	 * If {@code minCapacity} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param minCapacity the minimum capacity
+	 * @throws IllegalArgumentException thrown if, and only if, {@code minCapacity} is less than {@code 0}
+	 */
+	public void ensureCapacity(final int minCapacity) {
+		doEnsureCapacity(doRequireMinimum(minCapacity, 0, "minCapacity"));
+	}
+	
+	/**
+	 * Resets this {@code IntArrayBuilder} instance so that the size is {@code 0}.
+	 * <p>
+	 * The current {@code int} array is kept, so it can be reused.
+	 */
+	public void reset() {
+		this.size = 0;
+	}
+	
+	/**
+	 * Trims the capacity of this {@code IntArrayBuilder} instance so that it is equal to its size.
+	 */
+	public void trimToSize() {
+		if(this.size < this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, this.size);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doEnsureCapacity(final int minCapacity) {
+		if(minCapacity - this.buffer.length > 0) {
+			doGrow(minCapacity);
+		}
+	}
+	
+	private void doGrow(final int minCapacity) {
+		int oldCapacity = this.buffer.length;
+		int newCapacity = oldCapacity << 1;
+		
+		if(newCapacity - minCapacity < 0) {
+			newCapacity = minCapacity;
+		}
+		
+		if(newCapacity - MAX_ARRAY_SIZE > 0) {
+			newCapacity = minCapacity > MAX_ARRAY_SIZE ? Integer.MAX_VALUE : MAX_ARRAY_SIZE;
+		}
+		
+		this.buffer = Arrays.copyOf(this.buffer, newCapacity);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireMinimum(final int value, final int minimum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		}
+		
+		return value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,368 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A {@code SegmentedBooleanArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code boolean} array segments.
+ * <p>
+ * Unlike {@link BooleanArrayOutputStream}, this class never copies the {@code boolean} values that have been written so far while writing. When the current segment is full, a new segment is appended. The {@code boolean} values are gathered into a single {@code boolean} array once, when {@link #toBooleanArray()} is called. The segments can also be visited without gathering them, using {@link #forEachSegment(ObjIntConsumer)}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class SegmentedBooleanArrayOutputStream extends OutputStream {
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final List<boolean[]> segments;
+	private boolean[] segment;
+	private final int segmentCapacity;
+	private int segmentIndex;
+	private int segmentSize;
+	private long size;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code SegmentedBooleanArrayOutputStream} instance with a segment capacity of {@code 8192}.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new SegmentedBooleanArrayOutputStream(8192);
+	 * }
+	 * </pre>
+	 */
+	public SegmentedBooleanArrayOutputStream() {
+		this(8192);
+	}
+	
+	/**
+	 * Constructs a new {@code SegmentedBooleanArrayOutputStream} instance with a segment capacity of {@code segmentCapacity}.
+	 * <p>
+	 * If {@code segmentCapacity} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param segmentCapacity the number of {@code boolean} values in each segment
+	 * @throws IllegalArgumentException thrown if, and only if, {@code segmentCapacity} is less than {@code 1}
+	 */
+	public SegmentedBooleanArrayOutputStream(final int segmentCapacity) {
+		this.segmentCapacity = doRequireMinimum(segmentCapacity, 1, "segmentCapacity");
+		this.segments = new ArrayList<>();
+		this.segment = new boolean[segmentCapacity];
+		this.segments.add(this.segment);
+		this.segmentIndex = 0;
+		this.segmentSize = 0;
+		this.size = 0L;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code boolean} array that contains the {@code boolean} values that have been written so far.
+	 * <p>
+	 * If the number of {@code boolean} values that have been written so far is greater than the maximum length of a {@code boolean} array, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return a {@code boolean} array that contains the {@code boolean} values that have been written so far
+	 * @throws IllegalStateException thrown if, and only if, the number of {@code boolean} values that have been written so far is greater than the maximum length of a {@code boolean} array
+	 */
+	public synchronized boolean[] toBooleanArray() {
+		if(this.size > MAX_ARRAY_SIZE) {
+			throw new IllegalStateException(String.format("size() > %d: size() == %d", Integer.valueOf(MAX_ARRAY_SIZE), Long.valueOf(this.size)));
+		}
+		
+		final boolean[] array = new boolean[(int)(this.size)];
+		
+		for(int i = 0, offset = 0; i <= this.segmentIndex; i++) {
+			final int length = i < this.segmentIndex ? this.segmentCapacity : this.segmentSize;
+			
+			System.arraycopy(this.segments.get(i), 0, array, offset, length);
+			
+			offset += length;
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns the number of {@code boolean} values in each segment of this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * 
+	 * @return the number of {@code boolean} values in each segment of this {@code SegmentedBooleanArrayOutputStream} instance
+	 */
+	public int segmentCapacity() {
+		return this.segmentCapacity;
+	}
+	
+	/**
+	 * Returns the number of {@code boolean} values that can be written without appending a new segment.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * long available = segmentedBooleanArrayOutputStream.capacity() - segmentedBooleanArrayOutputStream.size();
+	 * }
+	 * </pre>
+	 * 
+	 * @return the number of {@code boolean} values that can be written without appending a new segment
+	 */
+	public synchronized long available() {
+		return capacity() - size();
+	}
+	
+	/**
+	 * Returns the capacity of this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * <p>
+	 * The capacity represents the total number of {@code boolean} values in all segments that have been appended so far.
+	 * 
+	 * @return the capacity of this {@code SegmentedBooleanArrayOutputStream} instance
+	 */
+	public synchronized long capacity() {
+		return (long)(this.segments.size()) * this.segmentCapacity;
+	}
+	
+	/**
+	 * Returns the size of this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * <p>
+	 * The size represents the number of {@code boolean} values that have been written so far.
+	 * 
+	 * @return the size of this {@code SegmentedBooleanArrayOutputStream} instance
+	 */
+	public synchronized long size() {
+		return this.size;
+	}
+	
+	/**
+	 * Closing a {@code SegmentedBooleanArrayOutputStream} instance has no effect.
+	 * <p>
+	 * The methods in this class can be called after the stream has been closed without generating an {@code IOException}.
+	 */
+	@Override
+	public void close() {
+//		Do nothing.
+	}
+	
+	/**
+	 * Performs {@code objIntConsumer} for each segment that contains {@code boolean} values that have been written so far, in order.
+	 * <p>
+	 * If {@code objIntConsumer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The first argument to {@code objIntConsumer} is the segment itself and the second argument is the number of {@code boolean} values in it, starting at index {@code 0}. The segment is not copied, so it should not be modified. Every segment except the last one is full.
+	 * 
+	 * @param objIntConsumer the {@code ObjIntConsumer} to perform for each segment
+	 * @throws NullPointerException thrown if, and only if, {@code objIntConsumer} is {@code null}
+	 */
+	public synchronized void forEachSegment(final ObjIntConsumer<boolean[]> objIntConsumer) {
+		Objects.requireNonNull(objIntConsumer, "objIntConsumer == null");
+		
+		for(int i = 0; i < this.segmentIndex; i++) {
+			objIntConsumer.accept(this.segments.get(i), this.segmentCapacity);
+		}
+		
+		if(this.segmentSize > 0) {
+			objIntConsumer.accept(this.segment, this.segmentSize);
+		}
+	}
+	
+	/**
+	 * Resets this {@code SegmentedBooleanArrayOutputStream} instance so that the size is {@code 0}.
+	 * <p>
+	 * The segments that have been appended so far are kept, so they can be reused.
+	 */
+	public synchronized void reset() {
+		this.segment = this.segments.get(0);
+		this.segmentIndex = 0;
+		this.segmentSize = 0;
+		this.size = 0L;
+	}
+	
+	/**
+	 * Writes the specified {@code boolean} value to this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * 
+	 * @param b the {@code boolean} value to write
+	 */
+	public synchronized void write(final boolean b) {
+		if(this.segmentSize == this.segment.length) {
+			doNextSegment();
+		}
+		
+		this.segment[this.segmentSize++] = b;
+		this.size++;
+	}
+	
+	/**
+	 * Writes {@code b.length} {@code boolean} values, starting at offset {@code 0}, from {@code b} to this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * segmentedBooleanArrayOutputStream.write(b, 0, b.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param b the {@code boolean} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	public synchronized void write(final boolean[] b) {
+		write(b, 0, b.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code boolean} values, starting at offset {@code off}, from {@code b} to this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param b the {@code boolean} array to write from
+	 * @param off the offset to start at in {@code b}
+	 * @param len the number of {@code boolean} values to write from {@code b}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	public synchronized void write(final boolean[] b, final int off, final int len) {
+		if(off < 0 || off > b.length || len < 0 || off + len - b.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		for(int offset = off, remaining = len; remaining > 0;) {
+			if(this.segmentSize == this.segment.length) {
+				doNextSegment();
+			}
+			
+			final int length = Math.min(remaining, this.segment.length - this.segmentSize);
+			
+			System.arraycopy(b, offset, this.segment, this.segmentSize, length);
+			
+			this.segmentSize += length;
+			
+			offset += length;
+			remaining -= length;
+		}
+		
+		this.size += len;
+	}
+	
+	/**
+	 * Writes {@code b.length} {@code byte} values, starting at offset {@code 0}, from {@code b} to this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * segmentedBooleanArrayOutputStream.write(b, 0, b.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b) {
+		write(b, 0, b.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code byte} values, starting at offset {@code off}, from {@code b} to this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The {@code byte} values are interpreted as if {@link #write(int)} was called for each of them, but complete {@code boolean} values are decoded in bulk directly into the current segment.
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @param off the offset to start at in {@code b}
+	 * @param len the number of {@code byte} values to write from {@code b}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b, final int off, final int len) {
+		if(off < 0 || off > b.length || len < 0 || off + len - b.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		for(int offset = off, remaining = len; remaining > 0;) {
+			if(this.segmentSize == this.segment.length) {
+				doNextSegment();
+			}
+			
+			final int length = Math.min(remaining, this.segment.length - this.segmentSize);
+			
+			for(int i = 0; i < length; i++) {
+				this.segment[this.segmentSize++] = b[offset++] != 0;
+			}
+			
+			remaining -= length;
+		}
+		
+		this.size += len;
+	}
+	
+	/**
+	 * Writes the specified {@code byte} value to this {@code SegmentedBooleanArrayOutputStream} instance.
+	 * <p>
+	 * A {@code byte} value that is not equal to {@code 0} is written as {@code true}, which is compatible with {@code DataOutputStream.writeBoolean(boolean)}. Only the eight low-order bits of {@code b} are used.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * segmentedBooleanArrayOutputStream.write((byte)(b) != 0);
+	 * }
+	 * </pre>
+	 * 
+	 * @param b the {@code byte} value to write
+	 */
+	@Override
+	public synchronized void write(final int b) {
+		write((byte)(b) != 0);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doNextSegment() {
+		this.segmentIndex++;
+		
+		if(this.segmentIndex == this.segments.size()) {
+			this.segments.add(new boolean[this.segmentCapacity]);
+		}
+		
+		this.segment = this.segments.get(this.segmentIndex);
+		this.segmentSize = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireMinimum(final int value, final int minimum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		}
+		
+		return value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,401 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A {@code SegmentedDoubleArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code double} array segments.
+ * <p>
+ * Unlike {@link DoubleArrayOutputStream}, this class never copies the {@code double} values that have been written so far while writing. When the current segment is full, a new segment is appended. The {@code double} values are gathered into a single {@code double} array once, when {@link #toDoubleArray()} is called. The segments can also be visited without gathering them, using {@link #forEachSegment(ObjIntConsumer)}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class SegmentedDoubleArrayOutputStream extends OutputStream {
+	private static final int MAX_ARRAY_SIZE = (Integer.MAX_VALUE - 8) / 8;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final List<double[]> segments;
+	private double[] segment;
+	private final int segmentCapacity;
+	private int segmentIndex;
+	private int segmentSize;
+	private int pendingCount;
+	private long size;
+	private long pending;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code SegmentedDoubleArrayOutputStream} instance with a segment capacity of {@code 8192}.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new SegmentedDoubleArrayOutputStream(8192);
+	 * }
+	 * </pre>
+	 */
+	public SegmentedDoubleArrayOutputStream() {
+		this(8192);
+	}
+	
+	/**
+	 * Constructs a new {@code SegmentedDoubleArrayOutputStream} instance with a segment capacity of {@code segmentCapacity}.
+	 * <p>
+	 * If {@code segmentCapacity} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param segmentCapacity the number of {@code double} values in each segment
+	 * @throws IllegalArgumentException thrown if, and only if, {@code segmentCapacity} is less than {@code 1}
+	 */
+	public SegmentedDoubleArrayOutputStream(final int segmentCapacity) {
+		this.segmentCapacity = doRequireMinimum(segmentCapacity, 1, "segmentCapacity");
+		this.segments = new ArrayList<>();
+		this.segment = new double[segmentCapacity];
+		this.segments.add(this.segment);
+		this.segmentIndex = 0;
+		this.segmentSize = 0;
+		this.size = 0L;
+		this.pending = 0L;
+		this.pendingCount = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code double} array that contains the {@code double} values that have been written so far.
+	 * <p>
+	 * If the number of {@code double} values that have been written so far is greater than the maximum length of a {@code double} array, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return a {@code double} array that contains the {@code double} values that have been written so far
+	 * @throws IllegalStateException thrown if, and only if, the number of {@code double} values that have been written so far is greater than the maximum length of a {@code double} array
+	 */
+	public synchronized double[] toDoubleArray() {
+		if(this.size > MAX_ARRAY_SIZE) {
+			throw new IllegalStateException(String.format("size() > %d: size() == %d", Integer.valueOf(MAX_ARRAY_SIZE), Long.valueOf(this.size)));
+		}
+		
+		final double[] array = new double[(int)(this.size)];
+		
+		for(int i = 0, offset = 0; i <= this.segmentIndex; i++) {
+			final int length = i < this.segmentIndex ? this.segmentCapacity : this.segmentSize;
+			
+			System.arraycopy(this.segments.get(i), 0, array, offset, length);
+			
+			offset += length;
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns the number of {@code double} values in each segment of this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * 
+	 * @return the number of {@code double} values in each segment of this {@code SegmentedDoubleArrayOutputStream} instance
+	 */
+	public int segmentCapacity() {
+		return this.segmentCapacity;
+	}
+	
+	/**
+	 * Returns the number of {@code double} values that can be written without appending a new segment.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * long available = segmentedDoubleArrayOutputStream.capacity() - segmentedDoubleArrayOutputStream.size();
+	 * }
+	 * </pre>
+	 * 
+	 * @return the number of {@code double} values that can be written without appending a new segment
+	 */
+	public synchronized long available() {
+		return capacity() - size();
+	}
+	
+	/**
+	 * Returns the capacity of this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * <p>
+	 * The capacity represents the total number of {@code double} values in all segments that have been appended so far.
+	 * 
+	 * @return the capacity of this {@code SegmentedDoubleArrayOutputStream} instance
+	 */
+	public synchronized long capacity() {
+		return (long)(this.segments.size()) * this.segmentCapacity;
+	}
+	
+	/**
+	 * Returns the size of this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * <p>
+	 * The size represents the number of {@code double} values that have been written so far.
+	 * 
+	 * @return the size of this {@code SegmentedDoubleArrayOutputStream} instance
+	 */
+	public synchronized long size() {
+		return this.size;
+	}
+	
+	/**
+	 * Closing a {@code SegmentedDoubleArrayOutputStream} instance has no effect.
+	 * <p>
+	 * The methods in this class can be called after the stream has been closed without generating an {@code IOException}.
+	 */
+	@Override
+	public void close() {
+//		Do nothing.
+	}
+	
+	/**
+	 * Performs {@code objIntConsumer} for each segment that contains {@code double} values that have been written so far, in order.
+	 * <p>
+	 * If {@code objIntConsumer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The first argument to {@code objIntConsumer} is the segment itself and the second argument is the number of {@code double} values in it, starting at index {@code 0}. The segment is not copied, so it should not be modified. Every segment except the last one is full.
+	 * 
+	 * @param objIntConsumer the {@code ObjIntConsumer} to perform for each segment
+	 * @throws NullPointerException thrown if, and only if, {@code objIntConsumer} is {@code null}
+	 */
+	public synchronized void forEachSegment(final ObjIntConsumer<double[]> objIntConsumer) {
+		Objects.requireNonNull(objIntConsumer, "objIntConsumer == null");
+		
+		for(int i = 0; i < this.segmentIndex; i++) {
+			objIntConsumer.accept(this.segments.get(i), this.segmentCapacity);
+		}
+		
+		if(this.segmentSize > 0) {
+			objIntConsumer.accept(this.segment, this.segmentSize);
+		}
+	}
+	
+	/**
+	 * Resets this {@code SegmentedDoubleArrayOutputStream} instance so that the size is {@code 0}.
+	 * <p>
+	 * The segments that have been appended so far are kept, so they can be reused.
+	 */
+	public synchronized void reset() {
+		this.segment = this.segments.get(0);
+		this.segmentIndex = 0;
+		this.segmentSize = 0;
+		this.size = 0L;
+		this.pending = 0L;
+		this.pendingCount = 0;
+	}
+	
+	/**
+	 * Writes the specified {@code double} value to this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * 
+	 * @param d the {@code double} value to write
+	 */
+	public synchronized void write(final double d) {
+		if(this.segmentSize == this.segment.length) {
+			doNextSegment();
+		}
+		
+		this.segment[this.segmentSize++] = d;
+		this.size++;
+	}
+	
+	/**
+	 * Writes {@code d.length} {@code double} values, starting at offset {@code 0}, from {@code d} to this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * <p>
+	 * If {@code d} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * segmentedDoubleArrayOutputStream.write(d, 0, d.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param d the {@code double} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code d} is {@code null}
+	 */
+	public synchronized void write(final double[] d) {
+		write(d, 0, d.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code double} values, starting at offset {@code off}, from {@code d} to this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * <p>
+	 * If {@code d} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > d.length}, {@code len < 0} or {@code off + len - d.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param d the {@code double} array to write from
+	 * @param off the offset to start at in {@code d}
+	 * @param len the number of {@code double} values to write from {@code d}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > d.length}, {@code len < 0} or {@code off + len - d.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code d} is {@code null}
+	 */
+	public synchronized void write(final double[] d, final int off, final int len) {
+		if(off < 0 || off > d.length || len < 0 || off + len - d.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		for(int offset = off, remaining = len; remaining > 0;) {
+			if(this.segmentSize == this.segment.length) {
+				doNextSegment();
+			}
+			
+			final int length = Math.min(remaining, this.segment.length - this.segmentSize);
+			
+			System.arraycopy(d, offset, this.segment, this.segmentSize, length);
+			
+			this.segmentSize += length;
+			
+			offset += length;
+			remaining -= length;
+		}
+		
+		this.size += len;
+	}
+	
+	/**
+	 * Writes {@code b.length} {@code byte} values, starting at offset {@code 0}, from {@code b} to this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * segmentedDoubleArrayOutputStream.write(b, 0, b.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b) {
+		write(b, 0, b.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code byte} values, starting at offset {@code off}, from {@code b} to this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The {@code byte} values are interpreted as if {@link #write(int)} was called for each of them, but complete {@code double} values are decoded in bulk directly into the current segment.
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @param off the offset to start at in {@code b}
+	 * @param len the number of {@code byte} values to write from {@code b}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b, final int off, final int len) {
+		if(off < 0 || off > b.length || len < 0 || off + len - b.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		int offset = off;
+		int length = len;
+		
+		while(this.pendingCount > 0 && length > 0) {
+			write(b[offset++] & 0xFF);
+			
+			length--;
+		}
+		
+		final int count = length / 8;
+		
+		if(count > 0) {
+			final DoubleBuffer doubleBuffer = ByteBuffer.wrap(b, offset, count * 8).asDoubleBuffer();
+			
+			while(doubleBuffer.hasRemaining()) {
+				if(this.segmentSize == this.segment.length) {
+					doNextSegment();
+				}
+				
+				final int segmentLength = Math.min(doubleBuffer.remaining(), this.segment.length - this.segmentSize);
+				
+				doubleBuffer.get(this.segment, this.segmentSize, segmentLength);
+				
+				this.segmentSize += segmentLength;
+			}
+			
+			this.size += count;
+			
+			offset += count * 8;
+			length -= count * 8;
+		}
+		
+		while(length > 0) {
+			write(b[offset++] & 0xFF);
+			
+			length--;
+		}
+	}
+	
+	/**
+	 * Writes the specified {@code byte} value to this {@code SegmentedDoubleArrayOutputStream} instance.
+	 * <p>
+	 * The {@code byte} values that are written using this method are assembled into {@code double} values in big-endian byte order, which is the byte order used by {@code DataOutputStream}. Every eighth {@code byte} value completes a {@code double} value, which is then written. Until then, the pending {@code byte} values are not included in {@link #size()}. Calling {@link #reset()} discards them.
+	 * <p>
+	 * Only the eight low-order bits of {@code b} are used.
+	 * 
+	 * @param b the {@code byte} value to write
+	 */
+	@Override
+	public synchronized void write(final int b) {
+		this.pending = (this.pending << 8) | (b & 0xFFL);
+		this.pendingCount++;
+		
+		if(this.pendingCount == 8) {
+			write(Double.longBitsToDouble(this.pending));
+			
+			this.pending = 0L;
+			this.pendingCount = 0;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doNextSegment() {
+		this.segmentIndex++;
+		
+		if(this.segmentIndex == this.segments.size()) {
+			this.segments.add(new double[this.segmentCapacity]);
+		}
+		
+		this.segment = this.segments.get(this.segmentIndex);
+		this.segmentSize = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireMinimum(final int value, final int minimum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		}
+		
+		return value;
+	}
+}
\ No newline at end of file
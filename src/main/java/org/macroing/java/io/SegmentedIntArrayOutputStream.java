@@ -0,0 +1,401 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A {@code SegmentedIntArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code int} array segments.
+ * <p>
+ * Unlike {@link IntArrayOutputStream}, this class never copies the {@code int} values that have been written so far while writing. When the current segment is full, a new segment is appended. The {@code int} values are gathered into a single {@code int} array once, when {@link #toIntArray()} is called. The segments can also be visited without gathering them, using {@link #forEachSegment(ObjIntConsumer)}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class SegmentedIntArrayOutputStream extends OutputStream {
+	private static final int MAX_ARRAY_SIZE = (Integer.MAX_VALUE - 8) / 4;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final List<int[]> segments;
+	private int[] segment;
+	private final int segmentCapacity;
+	private int segmentIndex;
+	private int segmentSize;
+	private int pendingCount;
+	private long size;
+	private int pending;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code SegmentedIntArrayOutputStream} instance with a segment capacity of {@code 8192}.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new SegmentedIntArrayOutputStream(8192);
+	 * }
+	 * </pre>
+	 */
+	public SegmentedIntArrayOutputStream() {
+		this(8192);
+	}
+	
+	/**
+	 * Constructs a new {@code SegmentedIntArrayOutputStream} instance with a segment capacity of {@code segmentCapacity}.
+	 * <p>
+	 * If {@code segmentCapacity} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param segmentCapacity the number of {@code int} values in each segment
+	 * @throws IllegalArgumentException thrown if, and only if, {@code segmentCapacity} is less than {@code 1}
+	 */
+	public SegmentedIntArrayOutputStream(final int segmentCapacity) {
+		this.segmentCapacity = doRequireMinimum(segmentCapacity, 1, "segmentCapacity");
+		this.segments = new ArrayList<>();
+		this.segment = new int[segmentCapacity];
+		this.segments.add(this.segment);
+		this.segmentIndex = 0;
+		this.segmentSize = 0;
+		this.size = 0L;
+		this.pending = 0;
+		this.pendingCount = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an {@code int} array that contains the {@code int} values that have been written so far.
+	 * <p>
+	 * If the number of {@code int} values that have been written so far is greater than the maximum length of an {@code int} array, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return an {@code int} array that contains the {@code int} values that have been written so far
+	 * @throws IllegalStateException thrown if, and only if, the number of {@code int} values that have been written so far is greater than the maximum length of an {@code int} array
+	 */
+	public synchronized int[] toIntArray() {
+		if(this.size > MAX_ARRAY_SIZE) {
+			throw new IllegalStateException(String.format("size() > %d: size() == %d", Integer.valueOf(MAX_ARRAY_SIZE), Long.valueOf(this.size)));
+		}
+		
+		final int[] array = new int[(int)(this.size)];
+		
+		for(int i = 0, offset = 0; i <= this.segmentIndex; i++) {
+			final int length = i < this.segmentIndex ? this.segmentCapacity : this.segmentSize;
+			
+			System.arraycopy(this.segments.get(i), 0, array, offset, length);
+			
+			offset += length;
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns the number of {@code int} values in each segment of this {@code SegmentedIntArrayOutputStream} instance.
+	 * 
+	 * @return the number of {@code int} values in each segment of this {@code SegmentedIntArrayOutputStream} instance
+	 */
+	public int segmentCapacity() {
+		return this.segmentCapacity;
+	}
+	
+	/**
+	 * Returns the number of {@code int} values that can be written without appending a new segment.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * long available = segmentedIntArrayOutputStream.capacity() - segmentedIntArrayOutputStream.size();
+	 * }
+	 * </pre>
+	 * 
+	 * @return the number of {@code int} values that can be written without appending a new segment
+	 */
+	public synchronized long available() {
+		return capacity() - size();
+	}
+	
+	/**
+	 * Returns the capacity of this {@code SegmentedIntArrayOutputStream} instance.
+	 * <p>
+	 * The capacity represents the total number of {@code int} values in all segments that have been appended so far.
+	 * 
+	 * @return the capacity of this {@code SegmentedIntArrayOutputStream} instance
+	 */
+	public synchronized long capacity() {
+		return (long)(this.segments.size()) * this.segmentCapacity;
+	}
+	
+	/**
+	 * Returns the size of this {@code SegmentedIntArrayOutputStream} instance.
+	 * <p>
+	 * The size represents the number of {@code int} values that have been written so far.
+	 * 
+	 * @return the size of this {@code SegmentedIntArrayOutputStream} instance
+	 */
+	public synchronized long size() {
+		return this.size;
+	}
+	
+	/**
+	 * Closing a {@code SegmentedIntArrayOutputStream} instance has no effect.
+	 * <p>
+	 * The methods in this class can be called after the stream has been closed without generating an {@code IOException}.
+	 */
+	@Override
+	public void close() {
+//		Do nothing.
+	}
+	
+	/**
+	 * Performs {@code objIntConsumer} for each segment that contains {@code int} values that have been written so far, in order.
+	 * <p>
+	 * If {@code objIntConsumer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The first argument to {@code objIntConsumer} is the segment itself and the second argument is the number of {@code int} values in it, starting at index {@code 0}. The segment is not copied, so it should not be modified. Every segment except the last one is full.
+	 * 
+	 * @param objIntConsumer the {@code ObjIntConsumer} to perform for each segment
+	 * @throws NullPointerException thrown if, and only if, {@code objIntConsumer} is {@code null}
+	 */
+	public synchronized void forEachSegment(final ObjIntConsumer<int[]> objIntConsumer) {
+		Objects.requireNonNull(objIntConsumer, "objIntConsumer == null");
+		
+		for(int i = 0; i < this.segmentIndex; i++) {
+			objIntConsumer.accept(this.segments.get(i), this.segmentCapacity);
+		}
+		
+		if(this.segmentSize > 0) {
+			objIntConsumer.accept(this.segment, this.segmentSize);
+		}
+	}
+	
+	/**
+	 * Resets this {@code SegmentedIntArrayOutputStream} instance so that the size is {@code 0}.
+	 * <p>
+	 * The segments that have been appended so far are kept, so they can be reused.
+	 */
+	public synchronized void reset() {
+		this.segment = this.segments.get(0);
+		this.segmentIndex = 0;
+		this.segmentSize = 0;
+		this.size = 0L;
+		this.pending = 0;
+		this.pendingCount = 0;
+	}
+	
+	/**
+	 * Writes {@code b.length} {@code byte} values, starting at offset {@code 0}, from {@code b} to this {@code SegmentedIntArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * segmentedIntArrayOutputStream.write(b, 0, b.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b) {
+		write(b, 0, b.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code byte} values, starting at offset {@code off}, from {@code b} to this {@code SegmentedIntArrayOutputStream} instance.
+	 * <p>
+	 * If {@code b} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The {@code byte} values are interpreted as if {@link #write(int)} was called for each of them, but complete {@code int} values are decoded in bulk directly into the current segment.
+	 * 
+	 * @param b the {@code byte} array to write from
+	 * @param off the offset to start at in {@code b}
+	 * @param len the number of {@code byte} values to write from {@code b}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > b.length}, {@code len < 0} or {@code off + len - b.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code b} is {@code null}
+	 */
+	@Override
+	public synchronized void write(final byte[] b, final int off, final int len) {
+		if(off < 0 || off > b.length || len < 0 || off + len - b.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		int offset = off;
+		int length = len;
+		
+		while(this.pendingCount > 0 && length > 0) {
+			write(b[offset++] & 0xFF);
+			
+			length--;
+		}
+		
+		final int count = length / 4;
+		
+		if(count > 0) {
+			final IntBuffer intBuffer = ByteBuffer.wrap(b, offset, count * 4).asIntBuffer();
+			
+			while(intBuffer.hasRemaining()) {
+				if(this.segmentSize == this.segment.length) {
+					doNextSegment();
+				}
+				
+				final int segmentLength = Math.min(intBuffer.remaining(), this.segment.length - this.segmentSize);
+				
+				intBuffer.get(this.segment, this.segmentSize, segmentLength);
+				
+				this.segmentSize += segmentLength;
+			}
+			
+			this.size += count;
+			
+			offset += count * 4;
+			length -= count * 4;
+		}
+		
+		while(length > 0) {
+			write(b[offset++] & 0xFF);
+			
+			length--;
+		}
+	}
+	
+	/**
+	 * Writes the specified {@code byte} value to this {@code SegmentedIntArrayOutputStream} instance.
+	 * <p>
+	 * The {@code byte} values that are written using this method are assembled into {@code int} values in big-endian byte order, which is the byte order used by {@code DataOutputStream}. Every fourth {@code byte} value completes an {@code int} value, which is then written. Until then, the pending {@code byte} values are not included in {@link #size()}. Calling {@link #reset()} discards them.
+	 * <p>
+	 * Only the eight low-order bits of {@code b} are used.
+	 * 
+	 * @param b the {@code byte} value to write
+	 */
+	@Override
+	public synchronized void write(final int b) {
+		this.pending = (this.pending << 8) | (b & 0xFF);
+		this.pendingCount++;
+		
+		if(this.pendingCount == 4) {
+			writeInt(this.pending);
+			
+			this.pending = 0;
+			this.pendingCount = 0;
+		}
+	}
+	
+	/**
+	 * Writes {@code i.length} {@code int} values, starting at offset {@code 0}, from {@code i} to this {@code SegmentedIntArrayOutputStream} instance.
+	 * <p>
+	 * If {@code i} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * segmentedIntArrayOutputStream.write(i, 0, i.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param i the {@code int} array to write from
+	 * @throws NullPointerException thrown if, and only if, {@code i} is {@code null}
+	 */
+	public synchronized void write(final int[] i) {
+		write(i, 0, i.length);
+	}
+	
+	/**
+	 * Writes {@code len} {@code int} values, starting at offset {@code off}, from {@code i} to this {@code SegmentedIntArrayOutputStream} instance.
+	 * <p>
+	 * If {@code i} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code off < 0}, {@code off > i.length}, {@code len < 0} or {@code off + len - i.length > 0}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param i the {@code int} array to write from
+	 * @param off the offset to start at in {@code i}
+	 * @param len the number of {@code int} values to write from {@code i}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code off < 0}, {@code off > i.length}, {@code len < 0} or {@code off + len - i.length > 0}
+	 * @throws NullPointerException thrown if, and only if, {@code i} is {@code null}
+	 */
+	public synchronized void write(final int[] i, final int off, final int len) {
+		if(off < 0 || off > i.length || len < 0 || off + len - i.length > 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		for(int offset = off, remaining = len; remaining > 0;) {
+			if(this.segmentSize == this.segment.length) {
+				doNextSegment();
+			}
+			
+			final int length = Math.min(remaining, this.segment.length - this.segmentSize);
+			
+			System.arraycopy(i, offset, this.segment, this.segmentSize, length);
+			
+			this.segmentSize += length;
+			
+			offset += length;
+			remaining -= length;
+		}
+		
+		this.size += len;
+	}
+	
+	/**
+	 * Writes the specified {@code int} value to this {@code SegmentedIntArrayOutputStream} instance.
+	 * 
+	 * @param i the {@code int} value to write
+	 */
+	public synchronized void writeInt(final int i) {
+		if(this.segmentSize == this.segment.length) {
+			doNextSegment();
+		}
+		
+		this.segment[this.segmentSize++] = i;
+		this.size++;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doNextSegment() {
+		this.segmentIndex++;
+		
+		if(this.segmentIndex == this.segments.size()) {
+			this.segments.add(new int[this.segmentCapacity]);
+		}
+		
+		this.segment = this.segments.get(this.segmentIndex);
+		this.segmentSize = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireMinimum(final int value, final int minimum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		}
+		
+		return value;
+	}
+}
\ No newline at end of file
@@ -10,12 +10,33 @@
  * <li>{@link org.macroing.java.io.BooleanArrayOutputStream BooleanArrayOutputStream} is an {@code OutputStream} implementation that writes data to a {@code boolean} array.</li>
  * <li>{@link org.macroing.java.io.CharArrayOutputStream CharArrayOutputStream} is an {@code OutputStream} implementation that writes data to a {@code char} array.</li>
  * <li>{@link org.macroing.java.io.DoubleArrayOutputStream DoubleArrayOutputStream} is an {@code OutputStream} implementation that writes data to a {@code double} array.</li>
+ * <li>{@link org.macroing.java.io.DoubleBufferOutputStream DoubleBufferOutputStream} is an {@code OutputStream} implementation that writes data to off-heap {@code double} buffers.</li>
  * <li>{@link org.macroing.java.io.FloatArrayOutputStream FloatArrayOutputStream} is an {@code OutputStream} implementation that writes data to a {@code float} array.</li>
+ * <li>{@link org.macroing.java.io.FloatBufferOutputStream FloatBufferOutputStream} is an {@code OutputStream} implementation that writes data to off-heap {@code float} buffers.</li>
  * <li>{@link org.macroing.java.io.IntArrayOutputStream IntArrayOutputStream} is an {@code OutputStream} implementation that writes data to an {@code int} array.</li>
+ * <li>{@link org.macroing.java.io.IntBufferOutputStream IntBufferOutputStream} is an {@code OutputStream} implementation that writes data to off-heap {@code int} buffers.</li>
  * <li>{@link org.macroing.java.io.LongArrayOutputStream LongArrayOutputStream} is an {@code OutputStream} implementation that writes data to a {@code long} array.</li>
+ * <li>{@link org.macroing.java.io.SegmentedBooleanArrayOutputStream SegmentedBooleanArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code boolean} array segments.</li>
+ * <li>{@link org.macroing.java.io.SegmentedCharArrayOutputStream SegmentedCharArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code char} array segments.</li>
+ * <li>{@link org.macroing.java.io.SegmentedDoubleArrayOutputStream SegmentedDoubleArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code double} array segments.</li>
+ * <li>{@link org.macroing.java.io.SegmentedFloatArrayOutputStream SegmentedFloatArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code float} array segments.</li>
+ * <li>{@link org.macroing.java.io.SegmentedIntArrayOutputStream SegmentedIntArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code int} array segments.</li>
+ * <li>{@link org.macroing.java.io.SegmentedLongArrayOutputStream SegmentedLongArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code long} array segments.</li>
+ * <li>{@link org.macroing.java.io.SegmentedShortArrayOutputStream SegmentedShortArrayOutputStream} is an {@code OutputStream} implementation that writes data to a sequence of fixed-size {@code short} array segments.</li>
  * <li>{@link org.macroing.java.io.ShortArrayOutputStream ShortArrayOutputStream} is an {@code OutputStream} implementation that writes data to a {@code short} array.</li>
  * </ul>
  * <p>
+ * The following list contains information about the builders that build primitive arrays without synchronization.
+ * <ul>
+ * <li>{@link org.macroing.java.io.BooleanArrayBuilder BooleanArrayBuilder} is a builder that builds a {@code boolean} array.</li>
+ * <li>{@link org.macroing.java.io.CharArrayBuilder CharArrayBuilder} is a builder that builds a {@code char} array.</li>
+ * <li>{@link org.macroing.java.io.DoubleArrayBuilder DoubleArrayBuilder} is a builder that builds a {@code double} array.</li>
+ * <li>{@link org.macroing.java.io.FloatArrayBuilder FloatArrayBuilder} is a builder that builds a {@code float} array.</li>
+ * <li>{@link org.macroing.java.io.IntArrayBuilder IntArrayBuilder} is a builder that builds an {@code int} array.</li>
+ * <li>{@link org.macroing.java.io.LongArrayBuilder LongArrayBuilder} is a builder that builds a {@code long} array.</li>
+ * <li>{@link org.macroing.java.io.ShortArrayBuilder ShortArrayBuilder} is a builder that builds a {@code short} array.</li>
+ * </ul>
+ * <p>
  * The following list contains information about the remaining classes.
  * <ul>
  * <li>{@link org.macroing.java.io.Files Files} consists exclusively of static methods that returns or performs various operations on {@code File} instances.</li>
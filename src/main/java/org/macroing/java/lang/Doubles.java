@@ -18,6 +18,11 @@
  */
 package org.macroing.java.lang;
 
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.DoubleStream;
+
 /**
  * The class {@code Doubles} contains methods for performing on {@code double} values.
  * <p>
@@ -128,6 +133,9 @@ public final class Doubles {
 	 */
 	public static final double PI_RECIPROCAL = 1.0D / PI;
 	
+	private static final int PAIRWISE_BLOCK_LENGTH = 128;
+	private static final int PARALLEL_THRESHOLD = 16384;
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private Doubles() {
@@ -417,6 +425,24 @@ public final class Doubles {
 		return Math.cos(angleRadians);
 	}
 	
+	/**
+	 * Returns an approximation of the trigonometric cosine of {@code angleRadians}.
+	 * <p>
+	 * Special case:
+	 * <ul>
+	 * <li>If the argument is NaN or an infinity, then the result is NaN.</li>
+	 * </ul>
+	 * <p>
+	 * The argument is reduced to the interval {@code [-PI / 4, PI / 4]} using a three-part Cody-Waite representation of {@code PI / 4}, after which a minimax polynomial of degree {@code 13} or {@code 14} is evaluated. The absolute error is at most {@code 2^-52} for all arguments {@code |angleRadians| <= 2^30}. If {@code |angleRadians| > 2^30}, this method returns {@code cos(angleRadians)}.
+	 * 
+	 * @param angleRadians an angle, in radians
+	 * @return an approximation of the trigonometric cosine of {@code angleRadians}
+	 * @see #cos(double)
+	 */
+	public static double cosFast(final double angleRadians) {
+		return doSinCosFast(angleRadians, true);
+	}
+	
 	/**
 	 * Returns the value of the error function for {@code value}.
 	 * 
@@ -501,6 +527,51 @@ public final class Doubles {
 		return Math.exp(exponent);
 	}
 	
+	/**
+	 * Returns an approximation of Euler's number {@code e} raised to the power of {@code exponent}.
+	 * <p>
+	 * Special cases:
+	 * <ul>
+	 * <li>If the argument is NaN, the result is NaN.</li>
+	 * <li>If the argument is positive infinity, then the result is positive infinity.</li>
+	 * <li>If the argument is negative infinity, then the result is positive zero.</li>
+	 * </ul>
+	 * <p>
+	 * The argument is reduced to {@code exponent = k * log(2) + r}, where {@code |r| <= log(2) / 2}, after which {@code exp(r)} is approximated by a rational function of degree {@code (5, 6)} and scaled by {@code 2^k} by constructing its bit pattern. The computed result is within 2 ulps of the exact result, if the result is a normal {@code double} value.
+	 * 
+	 * @param exponent the exponent to raise {@code e} to
+	 * @return an approximation of Euler's number {@code e} raised to the power of {@code exponent}
+	 * @see #exp(double)
+	 */
+	public static double expFast(final double exponent) {
+		if(exponent > 710.0D) {
+			return Double.POSITIVE_INFINITY;
+		}
+		
+		if(exponent < -746.0D) {
+			return 0.0D;
+		}
+		
+		if(isNaN(exponent)) {
+			return NaN;
+		}
+		
+		final double k = Math.floor(exponent * 1.4426950408889634073599D + 0.5D);
+		final double r = exponent - k * 6.93145751953125e-1D - k * 1.42860682030941723212e-6D;
+		final double rSquared = r * r;
+		final double p = r * ((1.26177193074810590878e-4D * rSquared + 3.02994407707441961300e-2D) * rSquared + 9.99999999999999999910e-1D);
+		final double q = ((3.00198505138664455042e-6D * rSquared + 2.52448340349684104192e-3D) * rSquared + 2.27265548208155028766e-1D) * rSquared + 2.00000000000000000009e0D;
+		final double s = 1.0D + 2.0D * (p / (q - p));
+		
+		final int n = (int)(k);
+		
+		if(n >= -1022 && n <= 1023) {
+			return s * Double.longBitsToDouble((long)(n + 1023) << 52);
+		}
+		
+		return Math.scalb(s, n);
+	}
+	
 	/**
 	 * Returns {@code value} if it is finite and {@code defaultValue} otherwise.
 	 * 
@@ -614,6 +685,61 @@ public final class Doubles {
 		return Math.log(value);
 	}
 	
+	/**
+	 * Returns an approximation of the natural logarithm (base {@code e}) of the {@code double} value {@code value}.
+	 * <p>
+	 * Special cases:
+	 * <ul>
+	 * <li>If the argument is NaN or less than zero, then the result is NaN.</li>
+	 * <li>If the argument is positive infinity, then the result is positive infinity.</li>
+	 * <li>If the argument is positive zero or negative zero, then the result is negative infinity.</li>
+	 * </ul>
+	 * <p>
+	 * The exponent and the mantissa of the argument are extracted from its bit pattern, such that {@code value = 2^e * (1 + x)} and {@code sqrt(0.5D) - 1.0D <= x < sqrt(2.0D) - 1.0D}, after which {@code log(1 + x)} is approximated by a rational function. The computed result is within 2 ulps of the exact result.
+	 * 
+	 * @param value a value
+	 * @return an approximation of the natural logarithm (base {@code e}) of the {@code double} value {@code value}
+	 * @see #log(double)
+	 */
+	public static double logFast(final double value) {
+		if(!(value > 0.0D)) {
+			return value == 0.0D ? Double.NEGATIVE_INFINITY : NaN;
+		}
+		
+		if(value == Double.POSITIVE_INFINITY) {
+			return value;
+		}
+		
+		long bits = Double.doubleToRawLongBits(value);
+		
+		int e = 0;
+		
+		if(bits < 0x0010000000000000L) {
+			bits = Double.doubleToRawLongBits(value * 18014398509481984.0D);
+			
+			e = -54;
+		}
+		
+		e += (int)(bits >>> 52) - 1022;
+		
+		double x = Double.longBitsToDouble((bits & 0x000FFFFFFFFFFFFFL) | 0x3FE0000000000000L);
+		
+		if(x < 0.70710678118654752440D) {
+			e--;
+			
+			x = x + x - 1.0D;
+		} else {
+			x = x - 1.0D;
+		}
+		
+		final double xSquared = x * x;
+		final double p = ((((1.01875663804580931796e-4D * x + 4.97494994976747001425e-1D) * x + 4.70579119878881725854e0D) * x + 1.44989225341610930846e1D) * x + 1.79368678507819816313e1D) * x + 7.70838733755885391666e0D;
+		final double q = ((((x + 1.12873587189167450590e1D) * x + 4.52279145837532221105e1D) * x + 8.29875266912776603211e1D) * x + 7.11544750618563894466e1D) * x + 2.31251620126765340583e1D;
+		final double y = x * (xSquared * p / q) - e * 2.121944400546905827679e-4D - 0.5D * xSquared;
+		
+		return x + y + e * 0.693359375D;
+	}
+	
 	/**
 	 * Returns the greater value of {@code a} and {@code b}.
 	 * <p>
@@ -950,6 +1076,25 @@ public final class Doubles {
 		return Math.sin(angleRadians);
 	}
 	
+	/**
+	 * Returns an approximation of the trigonometric sine of {@code angleRadians}.
+	 * <p>
+	 * Special cases:
+	 * <ul>
+	 * <li>If the argument is NaN or an infinity, then the result is NaN.</li>
+	 * <li>If the argument is zero, then the result is a zero with the same sign as the argument.</li>
+	 * </ul>
+	 * <p>
+	 * The argument is reduced to the interval {@code [-PI / 4, PI / 4]} using a three-part Cody-Waite representation of {@code PI / 4}, after which a minimax polynomial of degree {@code 13} or {@code 14} is evaluated. The absolute error is at most {@code 2^-52} for all arguments {@code |angleRadians| <= 2^30}. If {@code |angleRadians| > 2^30}, this method returns {@code sin(angleRadians)}.
+	 * 
+	 * @param angleRadians an angle, in radians
+	 * @return an approximation of the trigonometric sine of {@code angleRadians}
+	 * @see #sin(double)
+	 */
+	public static double sinFast(final double angleRadians) {
+		return doSinCosFast(angleRadians, false);
+	}
+	
 	/**
 	 * Returns the hyperbolic sine of a {@code value}.
 	 * 
@@ -997,6 +1142,262 @@ public final class Doubles {
 		return Math.sqrt(value);
 	}
 	
+	/**
+	 * Returns the sum of the elements in {@code array} using Kahan summation.
+	 * <p>
+	 * Kahan summation keeps a running compensation for the low-order bits that are lost in each addition. The rounding error of the result is bounded independently of the number of elements, as long as the magnitude of each element is not much greater than the magnitude of the running sum. Use {@link #sumNeumaier(double[])} if that is not the case.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.sumKahan(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumKahan(final double[] array) {
+		return sumKahan(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using Kahan summation.
+	 * <p>
+	 * Kahan summation keeps a running compensation for the low-order bits that are lost in each addition. The rounding error of the result is bounded independently of the number of elements, as long as the magnitude of each element is not much greater than the magnitude of the running sum. Use {@link #sumNeumaier(double[])} if that is not the case.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to sum
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumKahan(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireOffsetAndLength(offset, length, array.length);
+		
+		double sum = 0.0D;
+		double compensation = 0.0D;
+		
+		for(int i = offset; i < offset + length; i++) {
+			final double y = array[i] - compensation;
+			final double t = sum + y;
+			
+			compensation = (t - sum) - y;
+			
+			sum = t;
+		}
+		
+		return sum;
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code stream} using Kahan summation.
+	 * <p>
+	 * This is a terminal operation. If {@code stream} is parallel, the partial sums of each part are combined with their compensations.
+	 * <p>
+	 * If {@code stream} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param stream a {@code DoubleStream} instance
+	 * @return the sum of the elements in {@code stream}
+	 * @throws NullPointerException thrown if, and only if, {@code stream} is {@code null}
+	 */
+	public static double sumKahan(final DoubleStream stream) {
+		final double[] state = Objects.requireNonNull(stream, "stream == null").collect(() -> new double[2], Doubles::doAddKahan, (stateA, stateB) -> {
+			doAddKahan(stateA, stateB[0]);
+			doAddKahan(stateA, -stateB[1]);
+		});
+		
+		return state[0];
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} using Neumaier summation.
+	 * <p>
+	 * Neumaier summation is an improved version of Kahan summation that also compensates for the low-order bits of the running sum that are lost when an element is greater in magnitude than the running sum.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.sumNeumaier(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumNeumaier(final double[] array) {
+		return sumNeumaier(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using Neumaier summation.
+	 * <p>
+	 * Neumaier summation is an improved version of Kahan summation that also compensates for the low-order bits of the running sum that are lost when an element is greater in magnitude than the running sum.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to sum
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumNeumaier(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireOffsetAndLength(offset, length, array.length);
+		
+		double sum = 0.0D;
+		double compensation = 0.0D;
+		
+		for(int i = offset; i < offset + length; i++) {
+			final double value = array[i];
+			final double t = sum + value;
+			
+			if(Math.abs(sum) >= Math.abs(value)) {
+				compensation += (sum - t) + value;
+			} else {
+				compensation += (value - t) + sum;
+			}
+			
+			sum = t;
+		}
+		
+		return sum + compensation;
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code stream} using Neumaier summation.
+	 * <p>
+	 * This is a terminal operation. If {@code stream} is parallel, the partial sums of each part are combined with their compensations.
+	 * <p>
+	 * If {@code stream} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param stream a {@code DoubleStream} instance
+	 * @return the sum of the elements in {@code stream}
+	 * @throws NullPointerException thrown if, and only if, {@code stream} is {@code null}
+	 */
+	public static double sumNeumaier(final DoubleStream stream) {
+		final double[] state = Objects.requireNonNull(stream, "stream == null").collect(() -> new double[2], Doubles::doAddNeumaier, (stateA, stateB) -> {
+			doAddNeumaier(stateA, stateB[0]);
+			doAddNeumaier(stateA, stateB[1]);
+		});
+		
+		return state[0] + state[1];
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} using pairwise summation.
+	 * <p>
+	 * Pairwise summation, or cascade summation, recursively splits the elements into two halves and adds their sums. Blocks of up to {@code 128} elements are summed directly, using four independent partial sums. The rounding error of the result grows logarithmically with the number of elements, whereas the running time is comparable to a naive summation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.sumPairwise(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumPairwise(final double[] array) {
+		return sumPairwise(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using pairwise summation.
+	 * <p>
+	 * Pairwise summation, or cascade summation, recursively splits the elements into two halves and adds their sums. Blocks of up to {@code 128} elements are summed directly, using four independent partial sums. The rounding error of the result grows logarithmically with the number of elements, whereas the running time is comparable to a naive summation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to sum
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumPairwise(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireOffsetAndLength(offset, length, array.length);
+		
+		return doSumPairwise(array, offset, length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} using pairwise summation in parallel.
+	 * <p>
+	 * The two halves are summed in parallel using the common {@code ForkJoinPool}, until they contain at most {@code 16384} elements. Because the halves are split in the same way, the result is equal to the result of {@link #sumPairwise(double[])}. If the array is small, this method behaves like {@link #sumPairwise(double[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.sumPairwiseParallel(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumPairwiseParallel(final double[] array) {
+		return sumPairwiseParallel(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using pairwise summation in parallel.
+	 * <p>
+	 * The two halves are summed in parallel using the common {@code ForkJoinPool}, until they contain at most {@code 16384} elements. Because the halves are split in the same way, the result is equal to the result of {@link #sumPairwise(double[])}. If the array is small, this method behaves like {@link #sumPairwise(double[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to sum
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumPairwiseParallel(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireOffsetAndLength(offset, length, array.length);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return doSumPairwise(array, offset, length);
+		}
+		
+		return ForkJoinPool.commonPool().invoke(new SumPairwiseTask(array, offset, length)).doubleValue();
+	}
+	
 	/**
 	 * Returns the trigonometric tangent of {@code angleRadians}.
 	 * <p>
@@ -1043,42 +1444,1240 @@ public final class Doubles {
 	}
 	
 	/**
-	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c}.
+	 * Computes {@code Doubles.abs(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
 	 * <p>
-	 * Returns a {@code double[]}, with a length of {@code 2}, that contains the result.
+	 * Returns {@code dst}.
 	 * <p>
-	 * If the quadratic system could not be solved, the result will contain the values {@code Double.NaN}.
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.abs(src, dst, 0, src.length);
+	 * }
+	 * </pre>
 	 * 
-	 * @param a a value
-	 * @param b a value
-	 * @param c a value
-	 * @return a {@code double[]}, with a length of {@code 2}, that contains the result
-	 */
-	public static double[] solveQuadraticSystem(final double a, final double b, final double c) {
-		final double[] result = new double[] {NaN, NaN};
-		
-		final double discriminantSquared = b * b - 4.0D * a * c;
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] abs(final double[] src, final double[] dst) {
+		return abs(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.abs(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.abs(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] abs(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
 		
-		if(isZero(discriminantSquared)) {
-			final double q = -0.5D * b / a;
-			
-			final double result0 = q;
-			final double result1 = q;
-			
-			result[0] = result0;
-			result[1] = result1;
-		} else if(discriminantSquared > 0.0D) {
-			final double discriminant = sqrt(discriminantSquared);
-			
-			final double q = -0.5D * (b > 0.0D ? b + discriminant : b - discriminant);
-			
-			final double result0 = q / a;
-			final double result1 = c / q;
-			
-			result[0] = min(result0, result1);
-			result[1] = max(result0, result1);
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = Math.abs(src[i]);
 		}
 		
-		return result;
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.cosFast(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.cosFast(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] cosFast(final double[] src, final double[] dst) {
+		return cosFast(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.cosFast(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.cosFast(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] cosFast(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = cosFast(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.erf(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.erf(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] erf(final double[] src, final double[] dst) {
+		return erf(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.erf(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.erf(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] erf(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = erf(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.erfInv(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.erfInv(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] erfInv(final double[] src, final double[] dst) {
+		return erfInv(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.erfInv(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.erfInv(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] erfInv(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = erfInv(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.expFast(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.expFast(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] expFast(final double[] src, final double[] dst) {
+		return expFast(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.expFast(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.expFast(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] expFast(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = expFast(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.lerp(a[i], b[i], t)} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If {@code a}, {@code b} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code a.length} is greater than {@code b.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.lerp(a, b, t, dst, 0, a.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a {@code double[]} with the values to interpolate from
+	 * @param b a {@code double[]} with the values to interpolate to
+	 * @param t the factor
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code a} or {@code b}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code a.length} is greater than {@code b.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, {@code a}, {@code b} or {@code dst} are {@code null}
+	 */
+	public static double[] lerp(final double[] a, final double[] b, final double t, final double[] dst) {
+		return lerp(a, b, t, dst, 0, a.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.lerp(a[i], b[i], t)} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If {@code a}, {@code b} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code a.length}, {@code b.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.lerp(a[i], b[i], t);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a {@code double[]} with the values to interpolate from
+	 * @param b a {@code double[]} with the values to interpolate to
+	 * @param t the factor
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code a} or {@code b}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code a.length}, {@code b.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, {@code a}, {@code b} or {@code dst} are {@code null}
+	 */
+	public static double[] lerp(final double[] a, final double[] b, final double t, final double[] dst, final int offset, final int length) {
+		doRequireArrays(a, b, dst, offset, length);
+		
+		final double u = 1.0D - t;
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = u * a[i] + t * b[i];
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.logFast(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.logFast(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] logFast(final double[] src, final double[] dst) {
+		return logFast(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.logFast(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.logFast(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] logFast(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = logFast(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.pow2(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.pow2(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] pow2(final double[] src, final double[] dst) {
+		return pow2(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.pow2(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.pow2(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] pow2(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			final double base = src[i];
+			
+			dst[i] = base * base;
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.pow5(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.pow5(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] pow5(final double[] src, final double[] dst) {
+		return pow5(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.pow5(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.pow5(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] pow5(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			final double base = src[i];
+			
+			dst[i] = base * base * base * base * base;
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.saturate(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.saturate(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] saturate(final double[] src, final double[] dst) {
+		return saturate(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.saturate(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.saturate(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] saturate(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = Math.max(Math.min(src[i], 1.0D), 0.0D);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.saturate(src[i], valueMinMax, valueMaxMin)} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.saturate(src, valueMinMax, valueMaxMin, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param valueMinMax the minimum or maximum value
+	 * @param valueMaxMin the maximum or minimum value
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] saturate(final double[] src, final double valueMinMax, final double valueMaxMin, final double[] dst) {
+		return saturate(src, valueMinMax, valueMaxMin, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.saturate(src[i], valueMinMax, valueMaxMin)} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.saturate(src[i], valueMinMax, valueMaxMin);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param valueMinMax the minimum or maximum value
+	 * @param valueMaxMin the maximum or minimum value
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] saturate(final double[] src, final double valueMinMax, final double valueMaxMin, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		final double valueMin = min(valueMinMax, valueMaxMin);
+		final double valueMax = max(valueMinMax, valueMaxMin);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = Math.max(Math.min(src[i], valueMax), valueMin);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.sinFast(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.sinFast(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] sinFast(final double[] src, final double[] dst) {
+		return sinFast(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.sinFast(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.sinFast(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] sinFast(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = sinFast(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Doubles.smoothstep(src[i], edgeA, edgeB)} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.smoothstep(src, edgeA, edgeB, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param edgeA the minimum or maximum edge
+	 * @param edgeB the maximum or minimum edge
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] smoothstep(final double[] src, final double edgeA, final double edgeB, final double[] dst) {
+		return smoothstep(src, edgeA, edgeB, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.smoothstep(src[i], edgeA, edgeB)} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.smoothstep(src[i], edgeA, edgeB);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param edgeA the minimum or maximum edge
+	 * @param edgeB the maximum or minimum edge
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] smoothstep(final double[] src, final double edgeA, final double edgeB, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		final double minimum = min(edgeA, edgeB);
+		final double range = max(edgeA, edgeB) - minimum;
+		
+		for(int i = offset; i < offset + length; i++) {
+			final double x = Math.max(Math.min((src[i] - minimum) / range, 1.0D), 0.0D);
+			
+			dst[i] = x * x * (3.0D - 2.0D * x);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c}.
+	 * <p>
+	 * Returns a {@code double[]}, with a length of {@code 2}, that contains the result.
+	 * <p>
+	 * If the quadratic system could not be solved, the result will contain the values {@code Double.NaN}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.solveQuadraticSystem(a, b, c, new double[2], 0);
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a value
+	 * @param b a value
+	 * @param c a value
+	 * @return a {@code double[]}, with a length of {@code 2}, that contains the result
+	 */
+	public static double[] solveQuadraticSystem(final double a, final double b, final double c) {
+		return solveQuadraticSystem(a, b, c, new double[2], 0);
+	}
+	
+	/**
+	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c} and stores the result in {@code result[0]} and {@code result[1]}.
+	 * <p>
+	 * Returns {@code result}.
+	 * <p>
+	 * If the quadratic system could not be solved, {@code result[0]} and {@code result[1]} will contain the values {@code Double.NaN}.
+	 * <p>
+	 * If {@code result} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code result.length} is less than {@code 2}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.solveQuadraticSystem(a, b, c, result, 0);
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a value
+	 * @param b a value
+	 * @param c a value
+	 * @param result the {@code double[]} to store the result in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code result.length} is less than {@code 2}
+	 * @throws NullPointerException thrown if, and only if, {@code result} is {@code null}
+	 */
+	public static double[] solveQuadraticSystem(final double a, final double b, final double c, final double[] result) {
+		return solveQuadraticSystem(a, b, c, result, 0);
+	}
+	
+	/**
+	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c} and stores the result in {@code result[resultOffset]} and {@code result[resultOffset + 1]}.
+	 * <p>
+	 * Returns {@code result}.
+	 * <p>
+	 * This method does not allocate any memory, so it may be called in hot loops without creating garbage.
+	 * <p>
+	 * If the quadratic system could not be solved, {@code result[resultOffset]} and {@code result[resultOffset + 1]} will contain the values {@code Double.NaN}. Otherwise {@code result[resultOffset]} will contain the smaller root and {@code result[resultOffset + 1]} the larger one.
+	 * <p>
+	 * If {@code result} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resultOffset} is less than {@code 0} or {@code resultOffset + 2} is less than {@code 0} or greater than {@code result.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param a a value
+	 * @param b a value
+	 * @param c a value
+	 * @param result the {@code double[]} to store the result in
+	 * @param resultOffset the offset in {@code result} to store the result at
+	 * @return {@code result}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resultOffset} is less than {@code 0} or {@code resultOffset + 2} is less than {@code 0} or greater than {@code result.length}
+	 * @throws NullPointerException thrown if, and only if, {@code result} is {@code null}
+	 */
+	public static double[] solveQuadraticSystem(final double a, final double b, final double c, final double[] result, final int resultOffset) {
+		Objects.requireNonNull(result, "result == null");
+		
+		doRequireRange(resultOffset, 0, Integer.MAX_VALUE, "resultOffset");
+		doRequireRange(resultOffset + 2, 0, result.length, "resultOffset + 2");
+		
+		doSolveQuadraticSystem(a, b, c, result, resultOffset);
+		
+		return result;
+	}
+	
+	/**
+	 * Attempts to solve the quadratic systems based on the values {@code a[i]}, {@code b[i]} and {@code c[i]} for each index {@code i} and stores the result in {@code result[2 * i]} and {@code result[2 * i + 1]}.
+	 * <p>
+	 * Returns {@code result}.
+	 * <p>
+	 * If either {@code a}, {@code b}, {@code c} or {@code result} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code a.length} is greater than {@code b.length}, {@code c.length} or {@code result.length / 2}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.solveQuadraticSystems(a, b, c, result, 0, a.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a {@code double[]} with the values {@code a}
+	 * @param b a {@code double[]} with the values {@code b}
+	 * @param c a {@code double[]} with the values {@code c}
+	 * @param result the {@code double[]} to store the result in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code a.length} is greater than {@code b.length}, {@code c.length} or {@code result.length / 2}
+	 * @throws NullPointerException thrown if, and only if, either {@code a}, {@code b}, {@code c} or {@code result} are {@code null}
+	 */
+	public static double[] solveQuadraticSystems(final double[] a, final double[] b, final double[] c, final double[] result) {
+		return solveQuadraticSystems(a, b, c, result, 0, a.length);
+	}
+	
+	/**
+	 * Attempts to solve the quadratic systems based on the values {@code a[i]}, {@code b[i]} and {@code c[i]} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code result[2 * i]} and {@code result[2 * i + 1]}.
+	 * <p>
+	 * Returns {@code result}.
+	 * <p>
+	 * This method does not allocate any memory. The roots for each system are stored interleaved, so {@code result} has to have a length of at least {@code 2 * (offset + length)}.
+	 * <p>
+	 * If either {@code a}, {@code b}, {@code c} or {@code result} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code a.length}, {@code b.length}, {@code c.length} or {@code result.length / 2}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     Doubles.solveQuadraticSystem(a[i], b[i], c[i], result, 2 * i);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a {@code double[]} with the values {@code a}
+	 * @param b a {@code double[]} with the values {@code b}
+	 * @param c a {@code double[]} with the values {@code c}
+	 * @param result the {@code double[]} to store the result in
+	 * @param offset the offset to start at
+	 * @param length the number of quadratic systems to solve
+	 * @return {@code result}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code a.length}, {@code b.length}, {@code c.length} or {@code result.length / 2}
+	 * @throws NullPointerException thrown if, and only if, either {@code a}, {@code b}, {@code c} or {@code result} are {@code null}
+	 */
+	public static double[] solveQuadraticSystems(final double[] a, final double[] b, final double[] c, final double[] result, final int offset, final int length) {
+		Objects.requireNonNull(a, "a == null");
+		Objects.requireNonNull(b, "b == null");
+		Objects.requireNonNull(c, "c == null");
+		Objects.requireNonNull(result, "result == null");
+		
+		doRequireOffsetAndLength(offset, length, Math.min(Math.min(a.length, b.length), Math.min(c.length, result.length / 2)));
+		
+		for(int i = offset; i < offset + length; i++) {
+			doSolveQuadraticSystem(a[i], b[i], c[i], result, 2 * i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Computes {@code Doubles.sqrt(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.sqrt(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] sqrt(final double[] src, final double[] dst) {
+		return sqrt(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Doubles.sqrt(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Doubles.sqrt(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] sqrt(final double[] src, final double[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = Math.sqrt(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static double doSinCosFast(final double angleRadians, final boolean isCosine) {
+		if(isNaN(angleRadians) || isInfinite(angleRadians)) {
+			return NaN;
+		}
+		
+		final double x = Math.abs(angleRadians);
+		
+		if(x > 1073741824.0D) {
+			return isCosine ? cos(angleRadians) : sin(angleRadians);
+		}
+		
+		int octant = (int)(x * 1.27323954473516268615D);
+		
+		octant += octant & 1;
+		
+		final double y = octant;
+		final double r = x - y * 7.85398125648498535156e-1D - y * 3.77489470793079817668e-8D - y * 2.69515142907905952645e-15D;
+		final double rSquared = r * r;
+		
+		final int quadrant = ((octant >>> 1) + (isCosine ? 1 : 0)) & 3;
+		
+		final double result = (quadrant & 1) != 0 ? 1.0D - 0.5D * rSquared + rSquared * rSquared * (((((-1.13585365213876817300e-11D * rSquared + 2.08757008419747316778e-9D) * rSquared - 2.75573141792967388112e-7D) * rSquared + 2.48015872888517045348e-5D) * rSquared - 1.38888888888730564116e-3D) * rSquared + 4.16666666666665929218e-2D) : r + r * rSquared * (((((1.58962301576546568060e-10D * rSquared - 2.50507477628578072866e-8D) * rSquared + 2.75573136213857245213e-6D) * rSquared - 1.98412698295895385996e-4D) * rSquared + 8.33333333332211858878e-3D) * rSquared - 1.66666666666666307295e-1D);
+		
+		final boolean isNegative = (quadrant & 2) != 0 ^ (!isCosine && Double.doubleToRawLongBits(angleRadians) < 0L);
+		
+		return isNegative ? -result : result;
+	}
+	
+	private static double doSumPairwise(final double[] array, final int offset, final int length) {
+		if(length <= PAIRWISE_BLOCK_LENGTH) {
+			double sum0 = 0.0D;
+			double sum1 = 0.0D;
+			double sum2 = 0.0D;
+			double sum3 = 0.0D;
+			
+			final int end = offset + length;
+			
+			int i = offset;
+			
+			for(; i < end - 3; i += 4) {
+				sum0 += array[i + 0];
+				sum1 += array[i + 1];
+				sum2 += array[i + 2];
+				sum3 += array[i + 3];
+			}
+			
+			for(; i < end; i++) {
+				sum0 += array[i];
+			}
+			
+			return (sum0 + sum1) + (sum2 + sum3);
+		}
+		
+		final int half = length >>> 1;
+		
+		return doSumPairwise(array, offset, half) + doSumPairwise(array, offset + half, length - half);
+	}
+	
+	private static int doRequireRange(final int value, final int edgeA, final int edgeB, final String name) {
+		Objects.requireNonNull(name, "name == null");
+		
+		final int minimum = Math.min(edgeA, edgeB);
+		final int maximum = Math.max(edgeA, edgeB);
+		
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		} else if(value > maximum) {
+			throw new IllegalArgumentException(String.format("%s > %d: %s == %d", name, Integer.valueOf(maximum), name, Integer.valueOf(value)));
+		} else {
+			return value;
+		}
+	}
+	
+	private static void doAddKahan(final double[] state, final double value) {
+		final double y = value - state[1];
+		final double t = state[0] + y;
+		
+		state[1] = (t - state[0]) - y;
+		state[0] = t;
+	}
+	
+	private static void doAddNeumaier(final double[] state, final double value) {
+		final double sum = state[0];
+		final double t = sum + value;
+		
+		if(Math.abs(sum) >= Math.abs(value)) {
+			state[1] += (sum - t) + value;
+		} else {
+			state[1] += (value - t) + sum;
+		}
+		
+		state[0] = t;
+	}
+	
+	private static void doRequireArrays(final double[] a, final double[] b, final double[] dst, final int offset, final int length) {
+		Objects.requireNonNull(a, "a == null");
+		Objects.requireNonNull(b, "b == null");
+		Objects.requireNonNull(dst, "dst == null");
+		
+		doRequireOffsetAndLength(offset, length, Math.min(Math.min(a.length, b.length), dst.length));
+	}
+	
+	private static void doRequireArrays(final double[] src, final double[] dst, final int offset, final int length) {
+		Objects.requireNonNull(src, "src == null");
+		Objects.requireNonNull(dst, "dst == null");
+		
+		doRequireOffsetAndLength(offset, length, Math.min(src.length, dst.length));
+	}
+	
+	private static void doRequireOffsetAndLength(final int offset, final int length, final int arrayLength) {
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, arrayLength, "offset + length");
+	}
+	
+	private static void doSolveQuadraticSystem(final double a, final double b, final double c, final double[] result, final int resultOffset) {
+		final double discriminantSquared = b * b - 4.0D * a * c;
+		
+		if(isZero(discriminantSquared)) {
+			final double q = -0.5D * b / a;
+			
+			final double result0 = q;
+			final double result1 = q;
+			
+			result[resultOffset + 0] = result0;
+			result[resultOffset + 1] = result1;
+		} else if(discriminantSquared > 0.0D) {
+			final double discriminant = sqrt(discriminantSquared);
+			
+			final double q = -0.5D * (b > 0.0D ? b + discriminant : b - discriminant);
+			
+			final double result0 = q / a;
+			final double result1 = c / q;
+			
+			result[resultOffset + 0] = min(result0, result1);
+			result[resultOffset + 1] = max(result0, result1);
+		} else {
+			result[resultOffset + 0] = NaN;
+			result[resultOffset + 1] = NaN;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class SumPairwiseTask extends RecursiveTask<Double> {
+		private static final long serialVersionUID = 1L;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private final double[] array;
+		private final int length;
+		private final int offset;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public SumPairwiseTask(final double[] array, final int offset, final int length) {
+			this.array = array;
+			this.offset = offset;
+			this.length = length;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		protected Double compute() {
+			if(this.length <= PARALLEL_THRESHOLD) {
+				return Double.valueOf(doSumPairwise(this.array, this.offset, this.length));
+			}
+			
+			final int half = this.length >>> 1;
+			
+			final SumPairwiseTask sumPairwiseTaskA = new SumPairwiseTask(this.array, this.offset, half);
+			final SumPairwiseTask sumPairwiseTaskB = new SumPairwiseTask(this.array, this.offset + half, this.length - half);
+			
+			sumPairwiseTaskA.fork();
+			
+			final double sumB = sumPairwiseTaskB.compute().doubleValue();
+			final double sumA = sumPairwiseTaskA.join().doubleValue();
+			
+			return Double.valueOf(sumA + sumB);
+		}
 	}
 }
\ No newline at end of file
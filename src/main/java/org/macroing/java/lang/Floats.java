@@ -18,6 +18,10 @@
  */
 package org.macroing.java.lang;
 
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 /**
  * The class {@code Floats} contains methods for performing operations on {@code float} values.
  * <p>
@@ -128,6 +132,12 @@ public final class Floats {
 	 */
 	public static final float PI_RECIPROCAL = 1.0F / PI;
 	
+	private static final double[] POW_FAST_EXP2_TABLE = {1.0D, 1.0218971486541166D, 1.0442737824274138D, 1.0671404006768237D, 1.0905077326652577D, 1.1143867425958924D, 1.1387886347566916D, 1.1637248587775775D, 1.189207115002721D, 1.215247359980469D, 1.241857812073484D, 1.2690509571917332D, 1.2968395546510096D, 1.3252366431597413D, 1.3542555469368927D, 1.383909881963832D, 1.4142135623730951D, 1.4451808069770467D, 1.4768261459394993D, 1.5091644275934228D, 1.5422108254079407D, 1.5759808451078865D, 1.6104903319492543D, 1.645755478153965D, 1.681792830507429D, 1.718619298122478D, 1.7562521603732995D, 1.7947090750031072D, 1.8340080864093424D, 1.8741676341103D, 1.9152065613971474D, 1.9571441241754002D};
+	private static final double[] POW_FAST_LOG2_TABLE = {-0.4843001617159575D, -0.4225711719642514D, -0.3633753794563512D, -0.3065130425006747D, -0.2518071504105397D, -0.19910010007969525D, -0.14825095858394247D, -0.09913319201925132D, -0.05163276841532236D, 0.0D, 0.07681559705083084D, 0.1598713367783894D, 0.2384047393250789D, 0.3128829552843553D, 0.38370429247405213D, 0.4512111118323288D};
+	private static final double[] POW_FAST_RECIPROCAL_TABLE = {1.3989071038251366D, 1.3403141361256545D, 1.2864321608040201D, 1.2367149758454106D, 1.1906976744186046D, 1.147982062780269D, 1.1082251082251082D, 1.0711297071129706D, 1.0364372469635628D, 1.0D, 0.9481481481481482D, 0.8951048951048951D, 0.847682119205298D, 0.8050314465408805D, 0.7664670658682635D, 0.7314285714285714D};
+	private static final int PAIRWISE_BLOCK_LENGTH = 128;
+	private static final int PARALLEL_THRESHOLD = 16384;
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private Floats() {
@@ -417,6 +427,24 @@ public final class Floats {
 		return (float)(Math.cos(angleRadians));
 	}
 	
+	/**
+	 * Returns an approximation of the trigonometric cosine of {@code angleRadians}.
+	 * <p>
+	 * Special case:
+	 * <ul>
+	 * <li>If the argument is NaN or an infinity, then the result is NaN.</li>
+	 * </ul>
+	 * <p>
+	 * The argument is reduced to the interval {@code [-PI / 4, PI / 4]} using a three-part Cody-Waite representation of {@code PI / 4}, after which a minimax polynomial of degree {@code 7} or {@code 8} is evaluated. The absolute error is at most {@code 2^-23} for all arguments {@code |angleRadians| <= 8192.0F}. If {@code |angleRadians| > 8192.0F}, this method returns {@code cos(angleRadians)}.
+	 * 
+	 * @param angleRadians an angle, in radians
+	 * @return an approximation of the trigonometric cosine of {@code angleRadians}
+	 * @see #cos(float)
+	 */
+	public static float cosFast(final float angleRadians) {
+		return doSinCosFast(angleRadians, true);
+	}
+	
 	/**
 	 * Returns the value of the error function for {@code value}.
 	 * 
@@ -501,6 +529,49 @@ public final class Floats {
 		return (float)(Math.exp(exponent));
 	}
 	
+	/**
+	 * Returns an approximation of Euler's number {@code e} raised to the power of {@code exponent}.
+	 * <p>
+	 * Special cases:
+	 * <ul>
+	 * <li>If the argument is NaN, the result is NaN.</li>
+	 * <li>If the argument is positive infinity, then the result is positive infinity.</li>
+	 * <li>If the argument is negative infinity, then the result is positive zero.</li>
+	 * </ul>
+	 * <p>
+	 * The argument is reduced to {@code exponent = k * log(2) + r}, where {@code |r| <= log(2) / 2}, after which {@code exp(r)} is approximated by a minimax polynomial of degree {@code 7} and scaled by {@code 2^k} by constructing its bit pattern. The computed result is within 1 ulp of the exact result, if the result is a normal {@code float} value.
+	 * 
+	 * @param exponent the exponent to raise {@code e} to
+	 * @return an approximation of Euler's number {@code e} raised to the power of {@code exponent}
+	 * @see #exp(float)
+	 */
+	public static float expFast(final float exponent) {
+		if(exponent > 89.0F) {
+			return Float.POSITIVE_INFINITY;
+		}
+		
+		if(exponent < -104.0F) {
+			return 0.0F;
+		}
+		
+		if(isNaN(exponent)) {
+			return NaN;
+		}
+		
+		final float k = (float)(Math.floor(exponent * 1.44269504088896341F + 0.5F));
+		final float r = exponent - k * 0.693359375F + k * 2.12194440e-4F;
+		final float rSquared = r * r;
+		final float p = (((((1.9875691500e-4F * r + 1.3981999507e-3F) * r + 8.3334519073e-3F) * r + 4.1665795894e-2F) * r + 1.6666665459e-1F) * r + 5.0000001201e-1F) * rSquared + r + 1.0F;
+		
+		final int n = (int)(k);
+		
+		if(n >= -126 && n <= 127) {
+			return p * Float.intBitsToFloat((n + 127) << 23);
+		}
+		
+		return Math.scalb(p, n);
+	}
+	
 	/**
 	 * Returns {@code value} if it is finite and {@code defaultValue} otherwise.
 	 * 
@@ -614,6 +685,58 @@ public final class Floats {
 		return (float)(Math.log(value));
 	}
 	
+	/**
+	 * Returns an approximation of the natural logarithm (base {@code e}) of the {@code float} value {@code value}.
+	 * <p>
+	 * Special cases:
+	 * <ul>
+	 * <li>If the argument is NaN or less than zero, then the result is NaN.</li>
+	 * <li>If the argument is positive infinity, then the result is positive infinity.</li>
+	 * <li>If the argument is positive zero or negative zero, then the result is negative infinity.</li>
+	 * </ul>
+	 * <p>
+	 * The exponent and the mantissa of the argument are extracted from its bit pattern, such that {@code value = 2^e * (1 + x)} and {@code sqrt(0.5F) - 1.0F <= x < sqrt(2.0F) - 1.0F}, after which {@code log(1 + x)} is approximated by a minimax polynomial. The computed result is within 1 ulp of the exact result.
+	 * 
+	 * @param value a value
+	 * @return an approximation of the natural logarithm (base {@code e}) of the {@code float} value {@code value}
+	 * @see #log(float)
+	 */
+	public static float logFast(final float value) {
+		if(!(value > 0.0F)) {
+			return value == 0.0F ? Float.NEGATIVE_INFINITY : NaN;
+		}
+		
+		if(value == Float.POSITIVE_INFINITY) {
+			return value;
+		}
+		
+		int bits = Float.floatToRawIntBits(value);
+		int e = 0;
+		
+		if(bits < 0x00800000) {
+			bits = Float.floatToRawIntBits(value * 16777216.0F);
+			
+			e = -24;
+		}
+		
+		e += (bits >>> 23) - 126;
+		
+		float x = Float.intBitsToFloat((bits & 0x007FFFFF) | 0x3F000000);
+		
+		if(x < 0.707106781186547524F) {
+			e--;
+			
+			x = x + x - 1.0F;
+		} else {
+			x = x - 1.0F;
+		}
+		
+		final float xSquared = x * x;
+		final float y = ((((((((7.0376836292e-2F * x - 1.1514610310e-1F) * x + 1.1676998740e-1F) * x - 1.2420140846e-1F) * x + 1.4249322787e-1F) * x - 1.6668057665e-1F) * x + 2.0000714765e-1F) * x - 2.4999993993e-1F) * x + 3.3333331174e-1F) * x * xSquared - 2.12194440e-4F * e - 0.5F * xSquared;
+		
+		return x + y + 0.693359375F * e;
+	}
+	
 	/**
 	 * Returns the greater value of {@code a} and {@code b}.
 	 * <p>
@@ -862,6 +985,34 @@ public final class Floats {
 		return base * base * base * base * base;
 	}
 	
+	/**
+	 * Returns an approximation of {@code base} raised to the power of {@code exponent}.
+	 * <p>
+	 * If {@code base} is positive and finite and {@code exponent} is finite, the result is computed as {@code 2^(exponent * log2(base))} without calling {@link Math#pow(double, double)}, {@link Math#exp(double)} or {@link Math#log(double)}. The mantissa of {@code base} is reduced by a 16 entry table of reciprocals and {@code log2} is approximated by a polynomial of degree {@code 7}. The product is split into {@code k / 32 + r}, where {@code |r| <= 1 / 64}, after which {@code 2^(k / 32)} is read from a 32 entry table and {@code 2^r} is approximated by a polynomial of degree {@code 3}. The intermediate values are computed in {@code double} precision, so the error before the final rounding to {@code float} is less than {@code 0.02} ulps and the computed result is within {@code 0.52} ulps of the exact result, if the result is a normal {@code float} value. Otherwise this method returns {@code pow(base, exponent)}.
+	 * 
+	 * @param base the base
+	 * @param exponent the exponent
+	 * @return an approximation of {@code base} raised to the power of {@code exponent}
+	 * @see #pow(float, float)
+	 */
+	public static float powFast(final float base, final float exponent) {
+		if(!(base > 0.0F && base < Float.POSITIVE_INFINITY && isFinite(exponent))) {
+			return pow(base, exponent);
+		}
+		
+		final double y = exponent * doLog2Fast(base);
+		
+		if(y > 128.0D) {
+			return Float.POSITIVE_INFINITY;
+		}
+		
+		if(y < -150.0D) {
+			return 0.0F;
+		}
+		
+		return (float)(doExp2Fast(y));
+	}
+	
 	/**
 	 * Returns {@code base} raised to the power of {@code exponent}.
 	 * <p>
@@ -950,6 +1101,25 @@ public final class Floats {
 		return (float)(Math.sin(angleRadians));
 	}
 	
+	/**
+	 * Returns an approximation of the trigonometric sine of {@code angleRadians}.
+	 * <p>
+	 * Special cases:
+	 * <ul>
+	 * <li>If the argument is NaN or an infinity, then the result is NaN.</li>
+	 * <li>If the argument is zero, then the result is a zero with the same sign as the argument.</li>
+	 * </ul>
+	 * <p>
+	 * The argument is reduced to the interval {@code [-PI / 4, PI / 4]} using a three-part Cody-Waite representation of {@code PI / 4}, after which a minimax polynomial of degree {@code 7} or {@code 8} is evaluated. The absolute error is at most {@code 2^-23} for all arguments {@code |angleRadians| <= 8192.0F}. If {@code |angleRadians| > 8192.0F}, this method returns {@code sin(angleRadians)}.
+	 * 
+	 * @param angleRadians an angle, in radians
+	 * @return an approximation of the trigonometric sine of {@code angleRadians}
+	 * @see #sin(float)
+	 */
+	public static float sinFast(final float angleRadians) {
+		return doSinCosFast(angleRadians, false);
+	}
+	
 	/**
 	 * Returns the hyperbolic sine of a {@code value}.
 	 * 
@@ -997,6 +1167,222 @@ public final class Floats {
 		return (float)(Math.sqrt(value));
 	}
 	
+	/**
+	 * Returns the sum of the elements in {@code array} using Kahan summation.
+	 * <p>
+	 * Kahan summation keeps a running compensation for the low-order bits that are lost in each addition. The rounding error of the result is bounded independently of the number of elements, as long as the magnitude of each element is not much greater than the magnitude of the running sum. Use {@link #sumNeumaier(float[])} if that is not the case.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.sumKahan(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code float[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float sumKahan(final float[] array) {
+		return sumKahan(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using Kahan summation.
+	 * <p>
+	 * Kahan summation keeps a running compensation for the low-order bits that are lost in each addition. The rounding error of the result is bounded independently of the number of elements, as long as the magnitude of each element is not much greater than the magnitude of the running sum. Use {@link #sumNeumaier(float[])} if that is not the case.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code float[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to sum
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float sumKahan(final float[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireOffsetAndLength(offset, length, array.length);
+		
+		float sum = 0.0F;
+		float compensation = 0.0F;
+		
+		for(int i = offset; i < offset + length; i++) {
+			final float y = array[i] - compensation;
+			final float t = sum + y;
+			
+			compensation = (t - sum) - y;
+			
+			sum = t;
+		}
+		
+		return sum;
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} using Neumaier summation.
+	 * <p>
+	 * Neumaier summation is an improved version of Kahan summation that also compensates for the low-order bits of the running sum that are lost when an element is greater in magnitude than the running sum.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.sumNeumaier(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code float[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float sumNeumaier(final float[] array) {
+		return sumNeumaier(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using Neumaier summation.
+	 * <p>
+	 * Neumaier summation is an improved version of Kahan summation that also compensates for the low-order bits of the running sum that are lost when an element is greater in magnitude than the running sum.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code float[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to sum
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float sumNeumaier(final float[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireOffsetAndLength(offset, length, array.length);
+		
+		float sum = 0.0F;
+		float compensation = 0.0F;
+		
+		for(int i = offset; i < offset + length; i++) {
+			final float value = array[i];
+			final float t = sum + value;
+			
+			if(Math.abs(sum) >= Math.abs(value)) {
+				compensation += (sum - t) + value;
+			} else {
+				compensation += (value - t) + sum;
+			}
+			
+			sum = t;
+		}
+		
+		return sum + compensation;
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} using pairwise summation.
+	 * <p>
+	 * Pairwise summation, or cascade summation, recursively splits the elements into two halves and adds their sums. Blocks of up to {@code 128} elements are summed directly, using four independent partial sums. The rounding error of the result grows logarithmically with the number of elements, whereas the running time is comparable to a naive summation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.sumPairwise(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code float[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float sumPairwise(final float[] array) {
+		return sumPairwise(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using pairwise summation.
+	 * <p>
+	 * Pairwise summation, or cascade summation, recursively splits the elements into two halves and adds their sums. Blocks of up to {@code 128} elements are summed directly, using four independent partial sums. The rounding error of the result grows logarithmically with the number of elements, whereas the running time is comparable to a naive summation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code float[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to sum
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float sumPairwise(final float[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireOffsetAndLength(offset, length, array.length);
+		
+		return doSumPairwise(array, offset, length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} using pairwise summation in parallel.
+	 * <p>
+	 * The two halves are summed in parallel using the common {@code ForkJoinPool}, until they contain at most {@code 16384} elements. Because the halves are split in the same way, the result is equal to the result of {@link #sumPairwise(float[])}. If the array is small, this method behaves like {@link #sumPairwise(float[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.sumPairwiseParallel(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code float[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float sumPairwiseParallel(final float[] array) {
+		return sumPairwiseParallel(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using pairwise summation in parallel.
+	 * <p>
+	 * The two halves are summed in parallel using the common {@code ForkJoinPool}, until they contain at most {@code 16384} elements. Because the halves are split in the same way, the result is equal to the result of {@link #sumPairwise(float[])}. If the array is small, this method behaves like {@link #sumPairwise(float[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code float[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to sum
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float sumPairwiseParallel(final float[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireOffsetAndLength(offset, length, array.length);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return doSumPairwise(array, offset, length);
+		}
+		
+		return ForkJoinPool.commonPool().invoke(new SumPairwiseTask(array, offset, length)).floatValue();
+	}
+	
 	/**
 	 * Returns the trigonometric tangent of {@code angleRadians}.
 	 * <p>
@@ -1043,42 +1429,1277 @@ public final class Floats {
 	}
 	
 	/**
-	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c}.
+	 * Computes {@code Floats.abs(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
 	 * <p>
-	 * Returns a {@code float[]}, with a length of {@code 2}, that contains the result.
+	 * Returns {@code dst}.
 	 * <p>
-	 * If the quadratic system could not be solved, the result will contain the values {@code Float.NaN}.
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.abs(src, dst, 0, src.length);
+	 * }
+	 * </pre>
 	 * 
-	 * @param a a value
-	 * @param b a value
-	 * @param c a value
-	 * @return a {@code float[]}, with a length of {@code 2}, that contains the result
-	 */
-	public static float[] solveQuadraticSystem(final float a, final float b, final float c) {
-		final float[] result = new float[] {NaN, NaN};
-		
-		final float discriminantSquared = b * b - 4.0F * a * c;
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] abs(final float[] src, final float[] dst) {
+		return abs(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.abs(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.abs(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] abs(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
 		
-		if(isZero(discriminantSquared)) {
-			final float q = -0.5F * b / a;
-			
-			final float result0 = q;
-			final float result1 = q;
-			
-			result[0] = result0;
-			result[1] = result1;
-		} else if(discriminantSquared > 0.0F) {
-			final float discriminant = sqrt(discriminantSquared);
-			
-			final float q = -0.5F * (b > 0.0F ? b + discriminant : b - discriminant);
-			
-			final float result0 = q / a;
-			final float result1 = c / q;
-			
-			result[0] = min(result0, result1);
-			result[1] = max(result0, result1);
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = Math.abs(src[i]);
 		}
 		
-		return result;
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.cosFast(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.cosFast(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] cosFast(final float[] src, final float[] dst) {
+		return cosFast(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.cosFast(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.cosFast(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] cosFast(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = cosFast(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.erf(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.erf(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] erf(final float[] src, final float[] dst) {
+		return erf(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.erf(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.erf(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] erf(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = erf(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.erfInv(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.erfInv(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] erfInv(final float[] src, final float[] dst) {
+		return erfInv(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.erfInv(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.erfInv(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] erfInv(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = erfInv(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.expFast(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.expFast(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] expFast(final float[] src, final float[] dst) {
+		return expFast(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.expFast(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.expFast(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] expFast(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = expFast(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.lerp(a[i], b[i], t)} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If {@code a}, {@code b} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code a.length} is greater than {@code b.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.lerp(a, b, t, dst, 0, a.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a {@code float[]} with the values to interpolate from
+	 * @param b a {@code float[]} with the values to interpolate to
+	 * @param t the factor
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code a} or {@code b}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code a.length} is greater than {@code b.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, {@code a}, {@code b} or {@code dst} are {@code null}
+	 */
+	public static float[] lerp(final float[] a, final float[] b, final float t, final float[] dst) {
+		return lerp(a, b, t, dst, 0, a.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.lerp(a[i], b[i], t)} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If {@code a}, {@code b} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code a.length}, {@code b.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.lerp(a[i], b[i], t);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a {@code float[]} with the values to interpolate from
+	 * @param b a {@code float[]} with the values to interpolate to
+	 * @param t the factor
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code a} or {@code b}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code a.length}, {@code b.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, {@code a}, {@code b} or {@code dst} are {@code null}
+	 */
+	public static float[] lerp(final float[] a, final float[] b, final float t, final float[] dst, final int offset, final int length) {
+		doRequireArrays(a, b, dst, offset, length);
+		
+		final float u = 1.0F - t;
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = u * a[i] + t * b[i];
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.logFast(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.logFast(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] logFast(final float[] src, final float[] dst) {
+		return logFast(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.logFast(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.logFast(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] logFast(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = logFast(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.pow2(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.pow2(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] pow2(final float[] src, final float[] dst) {
+		return pow2(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.pow2(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.pow2(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] pow2(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			final float base = src[i];
+			
+			dst[i] = base * base;
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.pow5(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.pow5(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] pow5(final float[] src, final float[] dst) {
+		return pow5(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.pow5(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.pow5(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] pow5(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			final float base = src[i];
+			
+			dst[i] = base * base * base * base * base;
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.saturate(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.saturate(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] saturate(final float[] src, final float[] dst) {
+		return saturate(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.saturate(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.saturate(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] saturate(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = Math.max(Math.min(src[i], 1.0F), 0.0F);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.saturate(src[i], valueMinMax, valueMaxMin)} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.saturate(src, valueMinMax, valueMaxMin, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param valueMinMax the minimum or maximum value
+	 * @param valueMaxMin the maximum or minimum value
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] saturate(final float[] src, final float valueMinMax, final float valueMaxMin, final float[] dst) {
+		return saturate(src, valueMinMax, valueMaxMin, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.saturate(src[i], valueMinMax, valueMaxMin)} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.saturate(src[i], valueMinMax, valueMaxMin);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param valueMinMax the minimum or maximum value
+	 * @param valueMaxMin the maximum or minimum value
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] saturate(final float[] src, final float valueMinMax, final float valueMaxMin, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		final float valueMin = min(valueMinMax, valueMaxMin);
+		final float valueMax = max(valueMinMax, valueMaxMin);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = Math.max(Math.min(src[i], valueMax), valueMin);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.sinFast(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.sinFast(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] sinFast(final float[] src, final float[] dst) {
+		return sinFast(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.sinFast(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.sinFast(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] sinFast(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = sinFast(src[i]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code Floats.smoothstep(src[i], edgeA, edgeB)} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.smoothstep(src, edgeA, edgeB, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param edgeA the minimum or maximum edge
+	 * @param edgeB the maximum or minimum edge
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] smoothstep(final float[] src, final float edgeA, final float edgeB, final float[] dst) {
+		return smoothstep(src, edgeA, edgeB, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.smoothstep(src[i], edgeA, edgeB)} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.smoothstep(src[i], edgeA, edgeB);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param edgeA the minimum or maximum edge
+	 * @param edgeB the maximum or minimum edge
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] smoothstep(final float[] src, final float edgeA, final float edgeB, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		final float minimum = min(edgeA, edgeB);
+		final float range = max(edgeA, edgeB) - minimum;
+		
+		for(int i = offset; i < offset + length; i++) {
+			final float x = Math.max(Math.min((src[i] - minimum) / range, 1.0F), 0.0F);
+			
+			dst[i] = x * x * (3.0F - 2.0F * x);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c}.
+	 * <p>
+	 * Returns a {@code float[]}, with a length of {@code 2}, that contains the result.
+	 * <p>
+	 * If the quadratic system could not be solved, the result will contain the values {@code Float.NaN}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.solveQuadraticSystem(a, b, c, new float[2], 0);
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a value
+	 * @param b a value
+	 * @param c a value
+	 * @return a {@code float[]}, with a length of {@code 2}, that contains the result
+	 */
+	public static float[] solveQuadraticSystem(final float a, final float b, final float c) {
+		return solveQuadraticSystem(a, b, c, new float[2], 0);
+	}
+	
+	/**
+	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c} and stores the result in {@code result[0]} and {@code result[1]}.
+	 * <p>
+	 * Returns {@code result}.
+	 * <p>
+	 * If the quadratic system could not be solved, {@code result[0]} and {@code result[1]} will contain the values {@code Float.NaN}.
+	 * <p>
+	 * If {@code result} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code result.length} is less than {@code 2}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.solveQuadraticSystem(a, b, c, result, 0);
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a value
+	 * @param b a value
+	 * @param c a value
+	 * @param result the {@code float[]} to store the result in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code result.length} is less than {@code 2}
+	 * @throws NullPointerException thrown if, and only if, {@code result} is {@code null}
+	 */
+	public static float[] solveQuadraticSystem(final float a, final float b, final float c, final float[] result) {
+		return solveQuadraticSystem(a, b, c, result, 0);
+	}
+	
+	/**
+	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c} and stores the result in {@code result[resultOffset]} and {@code result[resultOffset + 1]}.
+	 * <p>
+	 * Returns {@code result}.
+	 * <p>
+	 * This method does not allocate any memory, so it may be called in hot loops without creating garbage.
+	 * <p>
+	 * If the quadratic system could not be solved, {@code result[resultOffset]} and {@code result[resultOffset + 1]} will contain the values {@code Float.NaN}. Otherwise {@code result[resultOffset]} will contain the smaller root and {@code result[resultOffset + 1]} the larger one.
+	 * <p>
+	 * If {@code result} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resultOffset} is less than {@code 0} or {@code resultOffset + 2} is less than {@code 0} or greater than {@code result.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param a a value
+	 * @param b a value
+	 * @param c a value
+	 * @param result the {@code float[]} to store the result in
+	 * @param resultOffset the offset in {@code result} to store the result at
+	 * @return {@code result}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resultOffset} is less than {@code 0} or {@code resultOffset + 2} is less than {@code 0} or greater than {@code result.length}
+	 * @throws NullPointerException thrown if, and only if, {@code result} is {@code null}
+	 */
+	public static float[] solveQuadraticSystem(final float a, final float b, final float c, final float[] result, final int resultOffset) {
+		Objects.requireNonNull(result, "result == null");
+		
+		doRequireRange(resultOffset, 0, Integer.MAX_VALUE, "resultOffset");
+		doRequireRange(resultOffset + 2, 0, result.length, "resultOffset + 2");
+		
+		doSolveQuadraticSystem(a, b, c, result, resultOffset);
+		
+		return result;
+	}
+	
+	/**
+	 * Attempts to solve the quadratic systems based on the values {@code a[i]}, {@code b[i]} and {@code c[i]} for each index {@code i} and stores the result in {@code result[2 * i]} and {@code result[2 * i + 1]}.
+	 * <p>
+	 * Returns {@code result}.
+	 * <p>
+	 * If either {@code a}, {@code b}, {@code c} or {@code result} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code a.length} is greater than {@code b.length}, {@code c.length} or {@code result.length / 2}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.solveQuadraticSystems(a, b, c, result, 0, a.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a {@code float[]} with the values {@code a}
+	 * @param b a {@code float[]} with the values {@code b}
+	 * @param c a {@code float[]} with the values {@code c}
+	 * @param result the {@code float[]} to store the result in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code a.length} is greater than {@code b.length}, {@code c.length} or {@code result.length / 2}
+	 * @throws NullPointerException thrown if, and only if, either {@code a}, {@code b}, {@code c} or {@code result} are {@code null}
+	 */
+	public static float[] solveQuadraticSystems(final float[] a, final float[] b, final float[] c, final float[] result) {
+		return solveQuadraticSystems(a, b, c, result, 0, a.length);
+	}
+	
+	/**
+	 * Attempts to solve the quadratic systems based on the values {@code a[i]}, {@code b[i]} and {@code c[i]} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code result[2 * i]} and {@code result[2 * i + 1]}.
+	 * <p>
+	 * Returns {@code result}.
+	 * <p>
+	 * This method does not allocate any memory. The roots for each system are stored interleaved, so {@code result} has to have a length of at least {@code 2 * (offset + length)}.
+	 * <p>
+	 * If either {@code a}, {@code b}, {@code c} or {@code result} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code a.length}, {@code b.length}, {@code c.length} or {@code result.length / 2}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     Floats.solveQuadraticSystem(a[i], b[i], c[i], result, 2 * i);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param a a {@code float[]} with the values {@code a}
+	 * @param b a {@code float[]} with the values {@code b}
+	 * @param c a {@code float[]} with the values {@code c}
+	 * @param result the {@code float[]} to store the result in
+	 * @param offset the offset to start at
+	 * @param length the number of quadratic systems to solve
+	 * @return {@code result}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code a.length}, {@code b.length}, {@code c.length} or {@code result.length / 2}
+	 * @throws NullPointerException thrown if, and only if, either {@code a}, {@code b}, {@code c} or {@code result} are {@code null}
+	 */
+	public static float[] solveQuadraticSystems(final float[] a, final float[] b, final float[] c, final float[] result, final int offset, final int length) {
+		Objects.requireNonNull(a, "a == null");
+		Objects.requireNonNull(b, "b == null");
+		Objects.requireNonNull(c, "c == null");
+		Objects.requireNonNull(result, "result == null");
+		
+		doRequireOffsetAndLength(offset, length, Math.min(Math.min(a.length, b.length), Math.min(c.length, result.length / 2)));
+		
+		for(int i = offset; i < offset + length; i++) {
+			doSolveQuadraticSystem(a[i], b[i], c[i], result, 2 * i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Computes {@code Floats.sqrt(src[i])} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Floats.sqrt(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] sqrt(final float[] src, final float[] dst) {
+		return sqrt(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Floats.sqrt(src[i])} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = offset; i < offset + length; i++) {
+	 *     dst[i] = Floats.sqrt(src[i]);
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code float[]} with the values
+	 * @param dst the {@code float[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to compute
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static float[] sqrt(final float[] src, final float[] dst, final int offset, final int length) {
+		doRequireArrays(src, dst, offset, length);
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = (float)(Math.sqrt(src[i]));
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Attempts to solve the quadratic system based on the values {@code a}, {@code b} and {@code c} and returns the result packed into a {@code long}.
+	 * <p>
+	 * The high 32 bits of the returned {@code long} contain the raw bits of the smaller root and the low 32 bits contain the raw bits of the larger root. They may be unpacked as follows:
+	 * <pre>
+	 * {@code
+	 * float result0 = Float.intBitsToFloat((int)(packed >>> 32));
+	 * float result1 = Float.intBitsToFloat((int)(packed));
+	 * }
+	 * </pre>
+	 * This method neither allocates any memory nor requires a {@code float[]} to store the result in.
+	 * <p>
+	 * If the quadratic system could not be solved, both roots will be {@code Float.NaN}.
+	 * 
+	 * @param a a value
+	 * @param b a value
+	 * @param c a value
+	 * @return a {@code long} that contains the result packed as two {@code float} values
+	 */
+	public static long solveQuadraticSystemPacked(final float a, final float b, final float c) {
+		final float result0;
+		final float result1;
+		
+		final float discriminantSquared = b * b - 4.0F * a * c;
+		
+		if(isZero(discriminantSquared)) {
+			final float q = -0.5F * b / a;
+			
+			result0 = q;
+			result1 = q;
+		} else if(discriminantSquared > 0.0F) {
+			final float discriminant = sqrt(discriminantSquared);
+			
+			final float q = -0.5F * (b > 0.0F ? b + discriminant : b - discriminant);
+			
+			final float root0 = q / a;
+			final float root1 = c / q;
+			
+			result0 = min(root0, root1);
+			result1 = max(root0, root1);
+		} else {
+			result0 = NaN;
+			result1 = NaN;
+		}
+		
+		return ((long)(Float.floatToRawIntBits(result0)) << 32) | (Float.floatToRawIntBits(result1) & 0xFFFFFFFFL);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static double doExp2Fast(final double exponent) {
+		final double z = exponent * 32.0D;
+		final double kShifted = z + 6755399441055744.0D;
+		final double r = z - (kShifted - 6755399441055744.0D);
+		
+		final int k = (int)(Double.doubleToRawLongBits(kShifted));
+		
+		final double scale = Double.longBitsToDouble(Double.doubleToRawLongBits(POW_FAST_EXP2_TABLE[k & 31]) + ((long)(k >> 5) << 52));
+		
+		return scale * (((1.693850972437182e-6D * r + 2.345961982022468e-4D) * r + 2.166084939249829e-2D) * r + 1.0D);
+	}
+	
+	private static double doLog2Fast(final float value) {
+		int bits = Float.floatToRawIntBits(value);
+		
+		if(bits < 0x00800000) {
+			bits = Float.floatToRawIntBits(value * 8388608.0F) - (23 << 23);
+		}
+		
+		final int offset = bits - 0x3F330000;
+		final int index = (offset >> 19) & 15;
+		final int top = offset & 0xFF800000;
+		
+		final double r = Float.intBitsToFloat(bits - top) * POW_FAST_RECIPROCAL_TABLE[index] - 1.0D;
+		final double rSquared = r * r;
+		final double p = r * ((1.4426950408889634D - 0.7213475204444817D * r) + rSquared * (0.4808983469629878D - 0.36067376022224085D * r) + rSquared * rSquared * ((0.28853900817779266D - 0.2404491734814939D * r) + rSquared * 0.2060992915555662D));
+		
+		return (top >> 23) + POW_FAST_LOG2_TABLE[index] + p;
+	}
+	
+	private static float doSinCosFast(final float angleRadians, final boolean isCosine) {
+		if(isNaN(angleRadians) || isInfinite(angleRadians)) {
+			return NaN;
+		}
+		
+		final float x = Math.abs(angleRadians);
+		
+		if(x > 8192.0F) {
+			return isCosine ? cos(angleRadians) : sin(angleRadians);
+		}
+		
+		int octant = (int)(x * 1.27323954473516F);
+		
+		octant += octant & 1;
+		
+		final float y = octant;
+		final float r = x - y * 0.78515625F - y * 2.4187564849853515625e-4F - y * 3.77489497744594108e-8F;
+		final float rSquared = r * r;
+		
+		final int quadrant = ((octant >>> 1) + (isCosine ? 1 : 0)) & 3;
+		
+		final float result = (quadrant & 1) != 0 ? ((2.443315711809948e-5F * rSquared - 1.388731625493765e-3F) * rSquared + 4.166664568298827e-2F) * rSquared * rSquared - 0.5F * rSquared + 1.0F : ((-1.9515295891e-4F * rSquared + 8.3321608736e-3F) * rSquared - 1.6666654611e-1F) * rSquared * r + r;
+		
+		final boolean isNegative = (quadrant & 2) != 0 ^ (!isCosine && Float.floatToRawIntBits(angleRadians) < 0);
+		
+		return isNegative ? -result : result;
+	}
+	
+	private static float doSumPairwise(final float[] array, final int offset, final int length) {
+		if(length <= PAIRWISE_BLOCK_LENGTH) {
+			float sum0 = 0.0F;
+			float sum1 = 0.0F;
+			float sum2 = 0.0F;
+			float sum3 = 0.0F;
+			
+			final int end = offset + length;
+			
+			int i = offset;
+			
+			for(; i < end - 3; i += 4) {
+				sum0 += array[i + 0];
+				sum1 += array[i + 1];
+				sum2 += array[i + 2];
+				sum3 += array[i + 3];
+			}
+			
+			for(; i < end; i++) {
+				sum0 += array[i];
+			}
+			
+			return (sum0 + sum1) + (sum2 + sum3);
+		}
+		
+		final int half = length >>> 1;
+		
+		return doSumPairwise(array, offset, half) + doSumPairwise(array, offset + half, length - half);
+	}
+	
+	private static int doRequireRange(final int value, final int edgeA, final int edgeB, final String name) {
+		Objects.requireNonNull(name, "name == null");
+		
+		final int minimum = Math.min(edgeA, edgeB);
+		final int maximum = Math.max(edgeA, edgeB);
+		
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		} else if(value > maximum) {
+			throw new IllegalArgumentException(String.format("%s > %d: %s == %d", name, Integer.valueOf(maximum), name, Integer.valueOf(value)));
+		} else {
+			return value;
+		}
+	}
+	
+	private static void doRequireArrays(final float[] a, final float[] b, final float[] dst, final int offset, final int length) {
+		Objects.requireNonNull(a, "a == null");
+		Objects.requireNonNull(b, "b == null");
+		Objects.requireNonNull(dst, "dst == null");
+		
+		doRequireOffsetAndLength(offset, length, Math.min(Math.min(a.length, b.length), dst.length));
+	}
+	
+	private static void doRequireArrays(final float[] src, final float[] dst, final int offset, final int length) {
+		Objects.requireNonNull(src, "src == null");
+		Objects.requireNonNull(dst, "dst == null");
+		
+		doRequireOffsetAndLength(offset, length, Math.min(src.length, dst.length));
+	}
+	
+	private static void doRequireOffsetAndLength(final int offset, final int length, final int arrayLength) {
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, arrayLength, "offset + length");
+	}
+	
+	private static void doSolveQuadraticSystem(final float a, final float b, final float c, final float[] result, final int resultOffset) {
+		final long packed = solveQuadraticSystemPacked(a, b, c);
+		
+		result[resultOffset + 0] = Float.intBitsToFloat((int)(packed >>> 32));
+		result[resultOffset + 1] = Float.intBitsToFloat((int)(packed));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class SumPairwiseTask extends RecursiveTask<Float> {
+		private static final long serialVersionUID = 1L;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private final float[] array;
+		private final int length;
+		private final int offset;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public SumPairwiseTask(final float[] array, final int offset, final int length) {
+			this.array = array;
+			this.offset = offset;
+			this.length = length;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		protected Float compute() {
+			if(this.length <= PARALLEL_THRESHOLD) {
+				return Float.valueOf(doSumPairwise(this.array, this.offset, this.length));
+			}
+			
+			final int half = this.length >>> 1;
+			
+			final SumPairwiseTask sumPairwiseTaskA = new SumPairwiseTask(this.array, this.offset, half);
+			final SumPairwiseTask sumPairwiseTaskB = new SumPairwiseTask(this.array, this.offset + half, this.length - half);
+			
+			sumPairwiseTaskA.fork();
+			
+			final float sumB = sumPairwiseTaskB.compute().floatValue();
+			final float sumA = sumPairwiseTaskA.join().floatValue();
+			
+			return Float.valueOf(sumA + sumB);
+		}
 	}
 }
\ No newline at end of file
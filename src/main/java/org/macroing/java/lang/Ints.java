@@ -359,14 +359,7 @@ public final class Ints {
 	 * @return an {@code int} with the bits of {@code value} reversed
 	 */
 	public static int reverseBits(final int value) {
-		int currentValue = (value << 16) | (value >>> 16);
-		
-		currentValue = ((currentValue & 0x00FF00FF) << 8) | ((currentValue & 0xFF00FF00) >>> 8);
-		currentValue = ((currentValue & 0x0F0F0F0F) << 4) | ((currentValue & 0xF0F0F0F0) >>> 4);
-		currentValue = ((currentValue & 0x33333333) << 2) | ((currentValue & 0xCCCCCCCC) >>> 2);
-		currentValue = ((currentValue & 0x55555555) << 1) | ((currentValue & 0xAAAAAAAA) >>> 1);
-		
-		return currentValue;
+		return Integer.reverse(value);
 	}
 	
 	/**
@@ -0,0 +1,737 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The base class of the splittable {@code Random} implementations in this package.
+ * <p>
+ * The streams returned by this class are backed by spliterators that call {@link #split()} whenever they are split. A parallel stream will therefore give each of its tasks its own generator, instead of sharing a single generator between threads.
+ */
+abstract class AbstractSplittableRandom extends Random {
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	AbstractSplittableRandom() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a new {@code AbstractSplittableRandom} instance that shares no mutable state with this {@code AbstractSplittableRandom} instance.
+	 * <p>
+	 * The values generated by the returned instance should be statistically independent of the values generated by this instance.
+	 * 
+	 * @return a new {@code AbstractSplittableRandom} instance that shares no mutable state with this {@code AbstractSplittableRandom} instance
+	 */
+	public abstract AbstractSplittableRandom split();
+	
+	/**
+	 * Fills the remaining elements of {@code buffer} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive) using this instance.
+	 * <p>
+	 * Returns {@code buffer}.
+	 * <p>
+	 * If {@code buffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code buffer} is read-only, a {@code ReadOnlyBufferException} will be thrown.
+	 * <p>
+	 * The values are put from the position of {@code buffer} up to its limit. When this method returns, the position of {@code buffer} is equal to its limit.
+	 * 
+	 * @param buffer the {@code DoubleBuffer} to fill
+	 * @return {@code buffer}
+	 * @throws NullPointerException thrown if, and only if, {@code buffer} is {@code null}
+	 * @throws ReadOnlyBufferException thrown if, and only if, {@code buffer} is read-only
+	 */
+	public final DoubleBuffer nextDoubles(final DoubleBuffer buffer) {
+		return Randoms.nextDoublesInternal(buffer, this::nextDouble);
+	}
+	
+	/**
+	 * Returns an effectively unlimited stream of pseudorandom {@code double} values, each between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @return an effectively unlimited stream of pseudorandom {@code double} values, each between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 */
+	@Override
+	public final DoubleStream doubles() {
+		return StreamSupport.doubleStream(new RandomDoublesSpliterator(this, 0L, Long.MAX_VALUE, Double.MAX_VALUE, 0.0D), false);
+	}
+	
+	/**
+	 * Returns an effectively unlimited stream of pseudorandom {@code double} values, each between {@code origin} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param origin the origin (inclusive) of each value
+	 * @param bound the bound (exclusive) of each value
+	 * @return an effectively unlimited stream of pseudorandom {@code double} values, each between {@code origin} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 */
+	@Override
+	public final DoubleStream doubles(final double origin, final double bound) {
+		return doubles(Long.MAX_VALUE, origin, bound);
+	}
+	
+	/**
+	 * Returns a stream producing {@code streamSize} pseudorandom {@code double} values, each between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * If {@code streamSize} is less than {@code 0L}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param streamSize the number of values to generate
+	 * @return a stream producing {@code streamSize} pseudorandom {@code double} values, each between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, {@code streamSize} is less than {@code 0L}
+	 */
+	@Override
+	public final DoubleStream doubles(final long streamSize) {
+		return StreamSupport.doubleStream(new RandomDoublesSpliterator(this, 0L, doRequireStreamSize(streamSize), Double.MAX_VALUE, 0.0D), false);
+	}
+	
+	/**
+	 * Returns a stream producing {@code streamSize} pseudorandom {@code double} values, each between {@code origin} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If either {@code streamSize} is less than {@code 0L} or {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param streamSize the number of values to generate
+	 * @param origin the origin (inclusive) of each value
+	 * @param bound the bound (exclusive) of each value
+	 * @return a stream producing {@code streamSize} pseudorandom {@code double} values, each between {@code origin} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code streamSize} is less than {@code 0L} or {@code origin} is greater than or equal to {@code bound}
+	 */
+	@Override
+	public final DoubleStream doubles(final long streamSize, final double origin, final double bound) {
+		doRequireStreamSize(streamSize);
+		
+		if(!(origin < bound)) {
+			throw new IllegalArgumentException("bound must be greater than origin");
+		}
+		
+		return StreamSupport.doubleStream(new RandomDoublesSpliterator(this, 0L, streamSize, origin, bound), false);
+	}
+	
+	/**
+	 * Returns an effectively unlimited stream of pseudorandom {@code int} values.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @return an effectively unlimited stream of pseudorandom {@code int} values
+	 */
+	@Override
+	public final IntStream ints() {
+		return StreamSupport.intStream(new RandomIntsSpliterator(this, 0L, Long.MAX_VALUE, Integer.MAX_VALUE, 0), false);
+	}
+	
+	/**
+	 * Returns an effectively unlimited stream of pseudorandom {@code int} values, each between {@code origin} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param origin the origin (inclusive) of each value
+	 * @param bound the bound (exclusive) of each value
+	 * @return an effectively unlimited stream of pseudorandom {@code int} values, each between {@code origin} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 */
+	@Override
+	public final IntStream ints(final int origin, final int bound) {
+		return ints(Long.MAX_VALUE, origin, bound);
+	}
+	
+	/**
+	 * Returns a stream producing {@code streamSize} pseudorandom {@code int} values.
+	 * <p>
+	 * If {@code streamSize} is less than {@code 0L}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param streamSize the number of values to generate
+	 * @return a stream producing {@code streamSize} pseudorandom {@code int} values
+	 * @throws IllegalArgumentException thrown if, and only if, {@code streamSize} is less than {@code 0L}
+	 */
+	@Override
+	public final IntStream ints(final long streamSize) {
+		return StreamSupport.intStream(new RandomIntsSpliterator(this, 0L, doRequireStreamSize(streamSize), Integer.MAX_VALUE, 0), false);
+	}
+	
+	/**
+	 * Returns a stream producing {@code streamSize} pseudorandom {@code int} values, each between {@code origin} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If either {@code streamSize} is less than {@code 0L} or {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param streamSize the number of values to generate
+	 * @param origin the origin (inclusive) of each value
+	 * @param bound the bound (exclusive) of each value
+	 * @return a stream producing {@code streamSize} pseudorandom {@code int} values, each between {@code origin} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code streamSize} is less than {@code 0L} or {@code origin} is greater than or equal to {@code bound}
+	 */
+	@Override
+	public final IntStream ints(final long streamSize, final int origin, final int bound) {
+		doRequireStreamSize(streamSize);
+		
+		if(origin >= bound) {
+			throw new IllegalArgumentException("bound must be greater than origin");
+		}
+		
+		return StreamSupport.intStream(new RandomIntsSpliterator(this, 0L, streamSize, origin, bound), false);
+	}
+	
+	/**
+	 * Returns an effectively unlimited stream of pseudorandom {@code long} values.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @return an effectively unlimited stream of pseudorandom {@code long} values
+	 */
+	@Override
+	public final LongStream longs() {
+		return StreamSupport.longStream(new RandomLongsSpliterator(this, 0L, Long.MAX_VALUE, Long.MAX_VALUE, 0L), false);
+	}
+	
+	/**
+	 * Returns a stream producing {@code streamSize} pseudorandom {@code long} values.
+	 * <p>
+	 * If {@code streamSize} is less than {@code 0L}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param streamSize the number of values to generate
+	 * @return a stream producing {@code streamSize} pseudorandom {@code long} values
+	 * @throws IllegalArgumentException thrown if, and only if, {@code streamSize} is less than {@code 0L}
+	 */
+	@Override
+	public final LongStream longs(final long streamSize) {
+		return StreamSupport.longStream(new RandomLongsSpliterator(this, 0L, doRequireStreamSize(streamSize), Long.MAX_VALUE, 0L), false);
+	}
+	
+	/**
+	 * Returns an effectively unlimited stream of pseudorandom {@code long} values, each between {@code origin} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param origin the origin (inclusive) of each value
+	 * @param bound the bound (exclusive) of each value
+	 * @return an effectively unlimited stream of pseudorandom {@code long} values, each between {@code origin} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 */
+	@Override
+	public final LongStream longs(final long origin, final long bound) {
+		return longs(Long.MAX_VALUE, origin, bound);
+	}
+	
+	/**
+	 * Returns a stream producing {@code streamSize} pseudorandom {@code long} values, each between {@code origin} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If either {@code streamSize} is less than {@code 0L} or {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If the returned stream is parallel, each of its tasks will use a generator returned by {@link #split()}.
+	 * 
+	 * @param streamSize the number of values to generate
+	 * @param origin the origin (inclusive) of each value
+	 * @param bound the bound (exclusive) of each value
+	 * @return a stream producing {@code streamSize} pseudorandom {@code long} values, each between {@code origin} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code streamSize} is less than {@code 0L} or {@code origin} is greater than or equal to {@code bound}
+	 */
+	@Override
+	public final LongStream longs(final long streamSize, final long origin, final long bound) {
+		doRequireStreamSize(streamSize);
+		
+		if(origin >= bound) {
+			throw new IllegalArgumentException("bound must be greater than origin");
+		}
+		
+		return StreamSupport.longStream(new RandomLongsSpliterator(this, 0L, streamSize, origin, bound), false);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive) using this instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextDouble();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public final double[] nextDoubles(final double[] array) {
+		return Randoms.nextDoublesInternal(array, this::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code origin} (inclusive) and {@code bound} (exclusive) using this instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public final double[] nextDoubles(final double[] array, final double origin, final double bound) {
+		return Randoms.nextDoublesInternal(array, origin, bound, this::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive) using this instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextFloat();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public final float[] nextFloats(final float[] array) {
+		return Randoms.nextFloatsInternal(array, this::nextFloat);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code origin} (inclusive) and {@code bound} (exclusive) using this instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public final float[] nextFloats(final float[] array, final float origin, final float bound) {
+		return Randoms.nextFloatsInternal(array, origin, bound, this::nextFloat);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code int} values using this instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextInt();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code int[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public final int[] nextInts(final int[] array) {
+		return Randoms.nextIntsInternal(array, this::nextInt);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code long} values using this instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextLong();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code long[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public final long[] nextLongs(final long[] array) {
+		return Randoms.nextLongsInternal(array, this::nextLong);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static long mix64(final long value) {
+		long z = value;
+		
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		z = (z ^ (z >>> 31));
+		
+		return z;
+	}
+	
+	static long mix64NonZero(final long value) {
+		final long z = mix64(value);
+		
+		return z != 0L ? z : GOLDEN_GAMMA;
+	}
+	
+	static long splitMix64(final long[] state) {
+		return mix64(state[0] += GOLDEN_GAMMA);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private double doNextDouble(final double origin, final double bound) {
+		final double value = nextDouble();
+		
+		if(origin < bound) {
+			final double result = value * (bound - origin) + origin;
+			
+			return Randoms.nextDoubleInternal(bound, result);
+		}
+		
+		return value;
+	}
+	
+	private int doNextInt(final int origin, final int bound) {
+		if(origin < bound) {
+			final int n = bound - origin;
+			
+			if(n > 0) {
+				return nextInt(n) + origin;
+			}
+			
+			int result = nextInt();
+			
+			while(result < origin || result >= bound) {
+				result = nextInt();
+			}
+			
+			return result;
+		}
+		
+		return nextInt();
+	}
+	
+	private long doNextLong(final long origin, final long bound) {
+		long result = nextLong();
+		
+		if(origin < bound) {
+			final long n = bound - origin;
+			final long m = n - 1L;
+			
+			if((n & m) == 0L) {
+				result = (result & m) + origin;
+			} else if(n > 0L) {
+				long u = result >>> 1;
+				
+				while(u + m - (result = u % n) < 0L) {
+					u = nextLong() >>> 1;
+				}
+				
+				result += origin;
+			} else {
+				while(result < origin || result >= bound) {
+					result = nextLong();
+				}
+			}
+		}
+		
+		return result;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static long doRequireStreamSize(final long streamSize) {
+		if(streamSize < 0L) {
+			throw new IllegalArgumentException("size must be non-negative");
+		}
+		
+		return streamSize;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class RandomDoublesSpliterator implements Spliterator.OfDouble {
+		private final AbstractSplittableRandom random;
+		private final double bound;
+		private final double origin;
+		private final long fence;
+		private long index;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public RandomDoublesSpliterator(final AbstractSplittableRandom random, final long index, final long fence, final double origin, final double bound) {
+			this.random = random;
+			this.index = index;
+			this.fence = fence;
+			this.origin = origin;
+			this.bound = bound;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		public RandomDoublesSpliterator trySplit() {
+			final long index = this.index;
+			final long middle = (index + this.fence) >>> 1;
+			
+			if(middle <= index) {
+				return null;
+			}
+			
+			this.index = middle;
+			
+			return new RandomDoublesSpliterator(this.random.split(), index, middle, this.origin, this.bound);
+		}
+		
+		@Override
+		public boolean tryAdvance(final DoubleConsumer consumer) {
+			if(this.index < this.fence) {
+				consumer.accept(this.random.doNextDouble(this.origin, this.bound));
+				
+				this.index++;
+				
+				return true;
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public int characteristics() {
+			return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+		}
+		
+		@Override
+		public long estimateSize() {
+			return this.fence - this.index;
+		}
+		
+		@Override
+		public void forEachRemaining(final DoubleConsumer consumer) {
+			final AbstractSplittableRandom random = this.random;
+			
+			final double bound = this.bound;
+			final double origin = this.origin;
+			
+			final long fence = this.fence;
+			
+			for(long index = this.index; index < fence; index++) {
+				consumer.accept(random.doNextDouble(origin, bound));
+			}
+			
+			this.index = fence;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class RandomIntsSpliterator implements Spliterator.OfInt {
+		private final AbstractSplittableRandom random;
+		private final int bound;
+		private final int origin;
+		private final long fence;
+		private long index;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public RandomIntsSpliterator(final AbstractSplittableRandom random, final long index, final long fence, final int origin, final int bound) {
+			this.random = random;
+			this.index = index;
+			this.fence = fence;
+			this.origin = origin;
+			this.bound = bound;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		public RandomIntsSpliterator trySplit() {
+			final long index = this.index;
+			final long middle = (index + this.fence) >>> 1;
+			
+			if(middle <= index) {
+				return null;
+			}
+			
+			this.index = middle;
+			
+			return new RandomIntsSpliterator(this.random.split(), index, middle, this.origin, this.bound);
+		}
+		
+		@Override
+		public boolean tryAdvance(final IntConsumer consumer) {
+			if(this.index < this.fence) {
+				consumer.accept(this.random.doNextInt(this.origin, this.bound));
+				
+				this.index++;
+				
+				return true;
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public int characteristics() {
+			return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+		}
+		
+		@Override
+		public long estimateSize() {
+			return this.fence - this.index;
+		}
+		
+		@Override
+		public void forEachRemaining(final IntConsumer consumer) {
+			final AbstractSplittableRandom random = this.random;
+			
+			final int bound = this.bound;
+			final int origin = this.origin;
+			
+			final long fence = this.fence;
+			
+			for(long index = this.index; index < fence; index++) {
+				consumer.accept(random.doNextInt(origin, bound));
+			}
+			
+			this.index = fence;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class RandomLongsSpliterator implements Spliterator.OfLong {
+		private final AbstractSplittableRandom random;
+		private final long bound;
+		private final long fence;
+		private final long origin;
+		private long index;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public RandomLongsSpliterator(final AbstractSplittableRandom random, final long index, final long fence, final long origin, final long bound) {
+			this.random = random;
+			this.index = index;
+			this.fence = fence;
+			this.origin = origin;
+			this.bound = bound;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		public RandomLongsSpliterator trySplit() {
+			final long index = this.index;
+			final long middle = (index + this.fence) >>> 1;
+			
+			if(middle <= index) {
+				return null;
+			}
+			
+			this.index = middle;
+			
+			return new RandomLongsSpliterator(this.random.split(), index, middle, this.origin, this.bound);
+		}
+		
+		@Override
+		public boolean tryAdvance(final LongConsumer consumer) {
+			if(this.index < this.fence) {
+				consumer.accept(this.random.doNextLong(this.origin, this.bound));
+				
+				this.index++;
+				
+				return true;
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public int characteristics() {
+			return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+		}
+		
+		@Override
+		public long estimateSize() {
+			return this.fence - this.index;
+		}
+		
+		@Override
+		public void forEachRemaining(final LongConsumer consumer) {
+			final AbstractSplittableRandom random = this.random;
+			
+			final long bound = this.bound;
+			final long fence = this.fence;
+			final long origin = this.origin;
+			
+			for(long index = this.index; index < fence; index++) {
+				consumer.accept(random.doNextLong(origin, bound));
+			}
+			
+			this.index = fence;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * An {@code AliasTable} samples indices from a discrete distribution using the alias method.
+ * <p>
+ * The distribution is defined by an array of non-negative weights, where the probability of index {@code i} is {@code weights[i]} divided by the sum of all weights.
+ * <p>
+ * The table is built in {@code O(n)} using the algorithm by Michael Vose, which is a numerically stable variant of the alias method by Alastair Walker. Each entry of the table contains a threshold and an alias. The method {@link #sample(double)} uses the integer part of {@code u * n} to choose an entry, and the fractional part to choose between the entry and its alias. The cost is {@code O(1)}, regardless of the distribution.
+ * <p>
+ * The mapping from {@code u} to an index is not monotonic. If the stratification of the uniform values must be preserved, use {@link DiscreteDistribution} instead.
+ * <p>
+ * An {@code AliasTable} is immutable and can be shared between threads. Sampling does not allocate any memory.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class AliasTable {
+	/**
+	 * Contains the probability of each index.
+	 */
+	private final double[] probabilities;
+	
+	/**
+	 * Contains the threshold of each entry, below which the entry is chosen instead of its alias.
+	 */
+	private final double[] thresholds;
+	
+	/**
+	 * Contains the alias of each entry.
+	 */
+	private final int[] aliases;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code AliasTable} instance given its weights.
+	 * <p>
+	 * If {@code weights} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code weights.length} is less than {@code 1}, any weight is negative, infinite or NaN, or the sum of all weights is not greater than {@code 0.0D} and finite, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The weights are copied, so changes to {@code weights} will not affect this {@code AliasTable} instance.
+	 * 
+	 * @param weights the weights of the distribution
+	 * @throws IllegalArgumentException thrown if, and only if, {@code weights.length} is less than {@code 1}, any weight is negative, infinite or NaN, or the sum of all weights is not greater than {@code 0.0D} and finite
+	 * @throws NullPointerException thrown if, and only if, {@code weights} is {@code null}
+	 */
+	public AliasTable(final double[] weights) {
+		final double sum = DiscreteDistribution.requireWeights(weights, "weights");
+		
+		final int n = weights.length;
+		
+		this.probabilities = new double[n];
+		this.thresholds = new double[n];
+		this.aliases = new int[n];
+		
+		final double[] scaledProbabilities = new double[n];
+		
+		final int[] small = new int[n];
+		final int[] large = new int[n];
+		
+		int smallCount = 0;
+		int largeCount = 0;
+		
+		for(int i = 0; i < n; i++) {
+			this.probabilities[i] = weights[i] / sum;
+			
+			scaledProbabilities[i] = this.probabilities[i] * n;
+			
+			if(scaledProbabilities[i] < 1.0D) {
+				small[smallCount++] = i;
+			} else {
+				large[largeCount++] = i;
+			}
+		}
+		
+		while(smallCount > 0 && largeCount > 0) {
+			final int s = small[--smallCount];
+			final int l = large[--largeCount];
+			
+			this.thresholds[s] = scaledProbabilities[s];
+			this.aliases[s] = l;
+			
+			scaledProbabilities[l] = (scaledProbabilities[l] + scaledProbabilities[s]) - 1.0D;
+			
+			if(scaledProbabilities[l] < 1.0D) {
+				small[smallCount++] = l;
+			} else {
+				large[largeCount++] = l;
+			}
+		}
+		
+		while(largeCount > 0) {
+			final int l = large[--largeCount];
+			
+			this.thresholds[l] = 1.0D;
+			this.aliases[l] = l;
+		}
+		
+//		Due to rounding errors, the remaining entries may be slightly less than 1.0D. Entries with a probability of 0.0D must still never be chosen:
+		while(smallCount > 0) {
+			final int s = small[--smallCount];
+			
+			this.thresholds[s] = this.probabilities[s] > 0.0D ? 1.0D : 0.0D;
+			this.aliases[s] = doFindPositive(this.probabilities, s);
+		}
+	}
+	
+	/**
+	 * Constructs a new {@code AliasTable} instance given its weights.
+	 * <p>
+	 * If {@code weights} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code weights.length} is less than {@code 1}, any weight is negative, infinite or NaN, or the sum of all weights is not greater than {@code 0.0D} and finite, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to calling {@link #AliasTable(double[])} with the weights converted to {@code double} values.
+	 * 
+	 * @param weights the weights of the distribution
+	 * @throws IllegalArgumentException thrown if, and only if, {@code weights.length} is less than {@code 1}, any weight is negative, infinite or NaN, or the sum of all weights is not greater than {@code 0.0D} and finite
+	 * @throws NullPointerException thrown if, and only if, {@code weights} is {@code null}
+	 */
+	public AliasTable(final float[] weights) {
+		this(DiscreteDistribution.toDoubleArray(weights, "weights"));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the probability of {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@link #size()}, an {@code ArrayIndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @return the probability of {@code index}
+	 * @throws ArrayIndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code size()}
+	 */
+	public double getProbability(final int index) {
+		return this.probabilities[index];
+	}
+	
+	/**
+	 * Returns an index that is sampled from this {@code AliasTable} instance using the uniform value {@code u}.
+	 * <p>
+	 * The value {@code u} should be between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). Values outside of this interval are clamped to the first or last entry of the table.
+	 * <p>
+	 * An index with a probability of {@code 0.0D} is never returned.
+	 * 
+	 * @param u a uniform value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @return an index that is sampled from this {@code AliasTable} instance using the uniform value {@code u}
+	 */
+	public int sample(final double u) {
+		final int n = this.aliases.length;
+		
+		final double scaledU = Math.max(u, 0.0D) * n;
+		
+		final int index = Math.min((int)(scaledU), n - 1);
+		
+		return scaledU - index < this.thresholds[index] ? index : this.aliases[index];
+	}
+	
+	/**
+	 * Returns an index that is sampled from this {@code AliasTable} instance using a uniform value from {@code doubleSupplier}.
+	 * <p>
+	 * If {@code doubleSupplier} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * aliasTable.sample(doubleSupplier.getAsDouble());
+	 * }
+	 * </pre>
+	 * Any of the pseudorandom number generators in this API can be used, such as {@code xoshiro256StarStar::nextDouble}.
+	 * 
+	 * @param doubleSupplier a {@code DoubleSupplier} that returns uniform values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @return an index that is sampled from this {@code AliasTable} instance using a uniform value from {@code doubleSupplier}
+	 * @throws NullPointerException thrown if, and only if, {@code doubleSupplier} is {@code null}
+	 */
+	public int sample(final DoubleSupplier doubleSupplier) {
+		return sample(doubleSupplier.getAsDouble());
+	}
+	
+	/**
+	 * Returns the number of indices in this {@code AliasTable} instance.
+	 * 
+	 * @return the number of indices in this {@code AliasTable} instance
+	 */
+	public int size() {
+		return this.probabilities.length;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doFindPositive(final double[] probabilities, final int index) {
+		for(int i = 0; i < probabilities.length; i++) {
+			final int j = (index + i) % probabilities.length;
+			
+			if(probabilities[j] > 0.0D) {
+				return j;
+			}
+		}
+		
+		return index;
+	}
+}
\ No newline at end of file
@@ -19,12 +19,15 @@
 package org.macroing.java.util;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
 
 import org.macroing.java.io.BooleanArrayOutputStream;
 import org.macroing.java.io.CharArrayOutputStream;
@@ -46,6 +49,11 @@ import org.macroing.java.util.function.IntToShortFunction;
  * @author J&#246;rgen Lundgren
  */
 public final class Arrays {
+	private static final int PARALLEL_THRESHOLD = 16384;
+	private static final int SEARCH_THRESHOLD = 256;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
 	private Arrays() {
 		
 	}
@@ -593,6 +601,254 @@ public final class Arrays {
 		return true;
 	}
 	
+	/**
+	 * Returns {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise.
+	 * <p>
+	 * The elements are compared in parallel using the common {@code ForkJoinPool}. If the arrays are small, this method behaves like {@link #equals(boolean[], boolean[])}.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrayA a {@code boolean[]}
+	 * @param arrayB a {@code boolean[]}
+	 * @return {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static boolean equalsParallel(final boolean[] arrayA, final boolean[] arrayB) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		if(arrayA == arrayB) {
+			return true;
+		} else if(arrayA.length != arrayB.length) {
+			return false;
+		} else if(arrayA.length <= PARALLEL_THRESHOLD) {
+			return equals(arrayA, arrayB);
+		} else {
+			return doParallelChunks(arrayA.length).allMatch(chunk -> {
+				final int offset = doParallelChunkFrom(chunk);
+				
+				return equals(arrayA, arrayB, offset, offset, doParallelChunkTo(chunk, arrayA.length) - offset);
+			});
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise.
+	 * <p>
+	 * The elements are compared in parallel using the common {@code ForkJoinPool}. If the arrays are small, this method behaves like {@link #equals(byte[], byte[])}.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrayA a {@code byte[]}
+	 * @param arrayB a {@code byte[]}
+	 * @return {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static boolean equalsParallel(final byte[] arrayA, final byte[] arrayB) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		if(arrayA == arrayB) {
+			return true;
+		} else if(arrayA.length != arrayB.length) {
+			return false;
+		} else if(arrayA.length <= PARALLEL_THRESHOLD) {
+			return equals(arrayA, arrayB);
+		} else {
+			return doParallelChunks(arrayA.length).allMatch(chunk -> {
+				final int offset = doParallelChunkFrom(chunk);
+				
+				return equals(arrayA, arrayB, offset, offset, doParallelChunkTo(chunk, arrayA.length) - offset);
+			});
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise.
+	 * <p>
+	 * The elements are compared in parallel using the common {@code ForkJoinPool}. If the arrays are small, this method behaves like {@link #equals(char[], char[])}.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrayA a {@code char[]}
+	 * @param arrayB a {@code char[]}
+	 * @return {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static boolean equalsParallel(final char[] arrayA, final char[] arrayB) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		if(arrayA == arrayB) {
+			return true;
+		} else if(arrayA.length != arrayB.length) {
+			return false;
+		} else if(arrayA.length <= PARALLEL_THRESHOLD) {
+			return equals(arrayA, arrayB);
+		} else {
+			return doParallelChunks(arrayA.length).allMatch(chunk -> {
+				final int offset = doParallelChunkFrom(chunk);
+				
+				return equals(arrayA, arrayB, offset, offset, doParallelChunkTo(chunk, arrayA.length) - offset);
+			});
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise.
+	 * <p>
+	 * The elements are compared in parallel using the common {@code ForkJoinPool}. If the arrays are small, this method behaves like {@link #equals(double[], double[])}.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrayA a {@code double[]}
+	 * @param arrayB a {@code double[]}
+	 * @return {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static boolean equalsParallel(final double[] arrayA, final double[] arrayB) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		if(arrayA == arrayB) {
+			return true;
+		} else if(arrayA.length != arrayB.length) {
+			return false;
+		} else if(arrayA.length <= PARALLEL_THRESHOLD) {
+			return equals(arrayA, arrayB);
+		} else {
+			return doParallelChunks(arrayA.length).allMatch(chunk -> {
+				final int offset = doParallelChunkFrom(chunk);
+				
+				return equals(arrayA, arrayB, offset, offset, doParallelChunkTo(chunk, arrayA.length) - offset);
+			});
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise.
+	 * <p>
+	 * The elements are compared in parallel using the common {@code ForkJoinPool}. If the arrays are small, this method behaves like {@link #equals(float[], float[])}.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrayA a {@code float[]}
+	 * @param arrayB a {@code float[]}
+	 * @return {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static boolean equalsParallel(final float[] arrayA, final float[] arrayB) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		if(arrayA == arrayB) {
+			return true;
+		} else if(arrayA.length != arrayB.length) {
+			return false;
+		} else if(arrayA.length <= PARALLEL_THRESHOLD) {
+			return equals(arrayA, arrayB);
+		} else {
+			return doParallelChunks(arrayA.length).allMatch(chunk -> {
+				final int offset = doParallelChunkFrom(chunk);
+				
+				return equals(arrayA, arrayB, offset, offset, doParallelChunkTo(chunk, arrayA.length) - offset);
+			});
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise.
+	 * <p>
+	 * The elements are compared in parallel using the common {@code ForkJoinPool}. If the arrays are small, this method behaves like {@link #equals(int[], int[])}.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrayA a {@code int[]}
+	 * @param arrayB a {@code int[]}
+	 * @return {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static boolean equalsParallel(final int[] arrayA, final int[] arrayB) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		if(arrayA == arrayB) {
+			return true;
+		} else if(arrayA.length != arrayB.length) {
+			return false;
+		} else if(arrayA.length <= PARALLEL_THRESHOLD) {
+			return equals(arrayA, arrayB);
+		} else {
+			return doParallelChunks(arrayA.length).allMatch(chunk -> {
+				final int offset = doParallelChunkFrom(chunk);
+				
+				return equals(arrayA, arrayB, offset, offset, doParallelChunkTo(chunk, arrayA.length) - offset);
+			});
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise.
+	 * <p>
+	 * The elements are compared in parallel using the common {@code ForkJoinPool}. If the arrays are small, this method behaves like {@link #equals(long[], long[])}.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrayA a {@code long[]}
+	 * @param arrayB a {@code long[]}
+	 * @return {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static boolean equalsParallel(final long[] arrayA, final long[] arrayB) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		if(arrayA == arrayB) {
+			return true;
+		} else if(arrayA.length != arrayB.length) {
+			return false;
+		} else if(arrayA.length <= PARALLEL_THRESHOLD) {
+			return equals(arrayA, arrayB);
+		} else {
+			return doParallelChunks(arrayA.length).allMatch(chunk -> {
+				final int offset = doParallelChunkFrom(chunk);
+				
+				return equals(arrayA, arrayB, offset, offset, doParallelChunkTo(chunk, arrayA.length) - offset);
+			});
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise.
+	 * <p>
+	 * The elements are compared in parallel using the common {@code ForkJoinPool}. If the arrays are small, this method behaves like {@link #equals(short[], short[])}.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrayA a {@code short[]}
+	 * @param arrayB a {@code short[]}
+	 * @return {@code true} if, and only if, the elements of {@code arrayA} are equal to the elements of {@code arrayB}, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static boolean equalsParallel(final short[] arrayA, final short[] arrayB) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		if(arrayA == arrayB) {
+			return true;
+		} else if(arrayA.length != arrayB.length) {
+			return false;
+		} else if(arrayA.length <= PARALLEL_THRESHOLD) {
+			return equals(arrayA, arrayB);
+		} else {
+			return doParallelChunks(arrayA.length).allMatch(chunk -> {
+				final int offset = doParallelChunkFrom(chunk);
+				
+				return equals(arrayA, arrayB, offset, offset, doParallelChunkTo(chunk, arrayA.length) - offset);
+			});
+		}
+	}
+	
 	/**
 	 * Returns a {@code boolean[]} with a length of {@code length} and elements generated by {@code function}.
 	 * <p>
@@ -620,6 +876,41 @@ public final class Arrays {
 		return array;
 	}
 	
+	/**
+	 * Returns a {@code boolean[]} with a length of {@code length} and elements generated by {@code function}.
+	 * <p>
+	 * The elements are generated in parallel using the common {@code ForkJoinPool}, so {@code function} has to be thread-safe and should not depend on the order in which the indices are visited. If {@code length} is small, the elements are generated sequentially.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param length the length of the {@code boolean[]}
+	 * @param function an {@code IntToBooleanFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code boolean[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public static boolean[] generateBooleanArrayParallel(final int length, final IntToBooleanFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		
+		Objects.requireNonNull(function, "function == null");
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return generateBooleanArray(length, function);
+		}
+		
+		final boolean[] array = new boolean[length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, length); i < j; i++) {
+				array[i] = function.applyAsBoolean(i);
+			}
+		});
+		
+		return array;
+	}
+	
 	/**
 	 * Performs a merge operation on the {@code boolean[]} instances in {@code arrays}.
 	 * <p>
@@ -643,6 +934,44 @@ public final class Arrays {
 		}
 	}
 	
+	/**
+	 * Performs a merge operation on the {@code boolean[]} instances in {@code arrays}.
+	 * <p>
+	 * Returns a new {@code boolean[]} with {@code arrays} merged.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the merged length is small, this method behaves like {@link #merge(boolean[]...)}.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the merged length is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param arrays the {@code boolean[][]} instance to combine into one {@code boolean[]}
+	 * @return a new {@code boolean[]} with {@code arrays} merged
+	 * @throws IllegalArgumentException thrown if, and only if, the merged length is greater than {@code Integer.MAX_VALUE}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static boolean[] mergeParallel(final boolean[]... arrays) {
+		requireNonNull(arrays, "arrays");
+		
+		final int[] offsets = new int[arrays.length + 1];
+		
+		for(int i = 0; i < arrays.length; i++) {
+			offsets[i + 1] = doAddExact(offsets[i], arrays[i].length);
+		}
+		
+		final int length = offsets[arrays.length];
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return merge(arrays);
+		}
+		
+		final boolean[] mergedArray = new boolean[length];
+		
+		doMergeParallel(arrays, offsets, mergedArray);
+		
+		return mergedArray;
+	}
+	
 	/**
 	 * Returns a {@code boolean[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
@@ -689,22 +1018,61 @@ public final class Arrays {
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code boolean[]} instance {@code array}.
+	 * Returns a {@code boolean[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
-	 * Returns a new {@code boolean[]} with the result of the operation.
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the repeated length is small, this method behaves like {@link #repeat(boolean[], int)}.
 	 * <p>
 	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * Calling this method is equivalent to the following:
-	 * <pre>
-	 * {@code
-	 * Arrays.splice(array, offset, array.length);
-	 * }
-	 * </pre>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the input {@code boolean[]}
-	 * @param offset the offset for the removal, which may be negative
-	 * @return a new {@code boolean[]} with the result of the operation
+	 * @param array the {@code boolean[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code boolean[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static boolean[] repeatParallel(final boolean[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return repeat(array, repetition);
+		}
+		
+		final boolean[] repeatedArray = new boolean[length];
+		
+		if(array.length == 1) {
+			final boolean element = array[0];
+			
+			doParallelChunks(length).forEach(chunk -> java.util.Arrays.fill(repeatedArray, doParallelChunkFrom(chunk), doParallelChunkTo(chunk, length), element));
+		} else {
+			doRepeatParallel(array, array.length, repeatedArray, length);
+		}
+		
+		return repeatedArray;
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code boolean[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code boolean[]} with the result of the operation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.splice(array, offset, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the input {@code boolean[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @return a new {@code boolean[]} with the result of the operation
 	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
 	 */
 	public static boolean[] splice(final boolean[] array, final int offset) {
@@ -784,11 +1152,14 @@ public final class Arrays {
 	 * Returns a {@code boolean[]} representation of {@code objects} using {@code arrayFunction} as a converter.
 	 * <p>
 	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the total length of the results overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
 	 * @param <T> the generic type
 	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code boolean[]} instances
 	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code boolean[]} instances
 	 * @return a {@code boolean[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @throws IllegalArgumentException thrown if, and only if, the total length of the results overflows
 	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
 	 */
 	public static <T> boolean[] toBooleanArray(final List<T> objects, final Function<T, boolean[]> arrayFunction) {
@@ -800,13 +1171,24 @@ public final class Arrays {
 			return new boolean[0];
 		}
 		
-		try(final BooleanArrayOutputStream booleanArrayOutputStream = new BooleanArrayOutputStream()) {
-			for(final T object : objects) {
-				booleanArrayOutputStream.write(arrayFunction.apply(object));
-			}
+		final boolean[][] arrays = new boolean[objects.size()][];
+		
+		int index = 0;
+		int length = 0;
+		
+		for(final T object : objects) {
+			final boolean[] array = Objects.requireNonNull(arrayFunction.apply(object), "arrayFunction.apply(object) == null");
 			
-			return booleanArrayOutputStream.toBooleanArray();
+			arrays[index++] = array;
+			
+			length = doAddExact(length, array.length);
 		}
+		
+		final boolean[] booleanArray = new boolean[length];
+		
+		merge(booleanArray, 0, arrays);
+		
+		return booleanArray;
 	}
 	
 	/**
@@ -838,479 +1220,453 @@ public final class Arrays {
 	}
 	
 	/**
-	 * Returns a {@code byte[]} with a length of {@code length} and elements generated by {@code function}.
+	 * Returns a {@code byte[]} with the elements of {@code charArray} encoded in big-endian byte order.
 	 * <p>
-	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * If {@code charArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code charArray.length * Character.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.encode(charArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
 	 * 
-	 * @param length the length of the {@code byte[]}
-	 * @param function an {@link IntToByteFunction} that generates the elements and takes the current index as parameter
-	 * @return a {@code byte[]} with a length of {@code length} and elements generated by {@code function}
-	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
-	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 * @param charArray a {@code char[]}
+	 * @return a {@code byte[]} with the elements of {@code charArray} encoded in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code charArray.length * Character.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code charArray} is {@code null}
 	 */
-	public static byte[] generateByteArray(final int length, final IntToByteFunction function) {
-		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
-		
-		Objects.requireNonNull(function, "function == null");
-		
-		final byte[] array = new byte[length];
-		
-		for(int i = 0; i < length; i++) {
-			array[i] = function.applyAsByte(i);
-		}
-		
-		return array;
+	public static byte[] encode(final char[] charArray) {
+		return encode(charArray, ByteOrder.BIG_ENDIAN);
 	}
 	
 	/**
-	 * Performs a merge operation on the {@code byte[]} instances in {@code arrays}.
+	 * Returns a {@code byte[]} with the elements of {@code charArray} encoded in the byte order {@code byteOrder}.
 	 * <p>
-	 * Returns a new {@code byte[]} with {@code arrays} merged.
+	 * Each element is encoded using all of its {@code Character.BYTES} bytes. Decoding the returned {@code byte[]} using {@link #decodeCharArray(byte[], ByteOrder)} with the same byte order yields the elements of {@code charArray}.
 	 * <p>
-	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * If either {@code charArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code charArray.length * Character.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param arrays the {@code byte[][]} instance to combine into one {@code byte[]}
-	 * @return a new {@code byte[]} with {@code arrays} merged
-	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 * @param charArray a {@code char[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code byte[]} with the elements of {@code charArray} encoded in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code charArray.length * Character.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, either {@code charArray} or {@code byteOrder} are {@code null}
 	 */
-	public static byte[] merge(final byte[]... arrays) {
-		/*
-		 * Use of try-with-resources would require a catch-clause for IOException that will never be called.
-		 * This would result in less than 100% code coverage for the unit tests.
-		 * Eclipse has a whitelist for classes that does not have a resource leak. This list includes ByteArrayOutputStream.
-		 * Without this whitelist entry, a resource leak warning would have been shown for the code below.
-		 */
-		
-		requireNonNull(arrays, "arrays");
+	public static byte[] encode(final char[] charArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(charArray, "charArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
 		
-		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		final byte[] byteArray = new byte[doMultiplyExact(charArray.length, Character.BYTES)];
 		
-		for(final byte[] array : arrays) {
-			byteArrayOutputStream.write(array, 0, array.length);
-		}
+		ByteBuffer.wrap(byteArray).order(byteOrder).asCharBuffer().put(charArray);
 		
-		return byteArrayOutputStream.toByteArray();
+		return byteArray;
 	}
 	
 	/**
-	 * Returns a {@code byte[]} with {@code array} repeated {@code repetition} times.
+	 * Returns a {@code byte[]} with the elements of {@code doubleArray} encoded in big-endian byte order.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code doubleArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * If {@code doubleArray.length * Double.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.encode(doubleArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
 	 * 
-	 * @param array the {@code byte[]} to repeat {@code repetition} times
-	 * @param repetition the number of times to repeat {@code array}
-	 * @return a {@code byte[]} with {@code array} repeated {@code repetition} times
-	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param doubleArray a {@code double[]}
+	 * @return a {@code byte[]} with the elements of {@code doubleArray} encoded in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code doubleArray.length * Double.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code doubleArray} is {@code null}
 	 */
-	public static byte[] repeat(final byte[] array, final int repetition) {
-		Objects.requireNonNull(array, "array == null");
+	public static byte[] encode(final double[] doubleArray) {
+		return encode(doubleArray, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Returns a {@code byte[]} with the elements of {@code doubleArray} encoded in the byte order {@code byteOrder}.
+	 * <p>
+	 * Each element is encoded using all of its {@code Double.BYTES} bytes. Decoding the returned {@code byte[]} using {@link #decodeDoubleArray(byte[], ByteOrder)} with the same byte order yields the elements of {@code doubleArray}.
+	 * <p>
+	 * If either {@code doubleArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code doubleArray.length * Double.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param doubleArray a {@code double[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code byte[]} with the elements of {@code doubleArray} encoded in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code doubleArray.length * Double.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, either {@code doubleArray} or {@code byteOrder} are {@code null}
+	 */
+	public static byte[] encode(final double[] doubleArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(doubleArray, "doubleArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
 		
-		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		final byte[] byteArray = new byte[doMultiplyExact(doubleArray.length, Double.BYTES)];
 		
-		if(array.length == 0 || repetition == 0) {
-			return new byte[0];
-		} else if(array.length == 1) {
-			final byte[] repeatedArray = new byte[repetition];
-			
-			final byte element = array[0];
-			
-			for(int i = 0; i < repetition; i++) {
-				repeatedArray[i] = element;
-			}
-			
-			return repeatedArray;
-		} else {
-			try {
-				final byte[] repeatedArray = new byte[Math.multiplyExact(repetition, array.length)];
-				
-				for(int i = 0; i < repetition; i++) {
-					System.arraycopy(array, 0, repeatedArray, i * array.length, array.length);
-				}
-				
-				return repeatedArray;
-			} catch(final ArithmeticException e) {
-				throw new IllegalArgumentException(e);
-			}
-		}
+		ByteBuffer.wrap(byteArray).order(byteOrder).asDoubleBuffer().put(doubleArray);
+		
+		return byteArray;
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code byte[]} instance {@code array}.
+	 * Returns a {@code byte[]} with the elements of {@code floatArray} encoded in big-endian byte order.
 	 * <p>
-	 * Returns a new {@code byte[]} with the result of the operation.
+	 * If {@code floatArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code floatArray.length * Float.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * <p>
 	 * Calling this method is equivalent to the following:
 	 * <pre>
 	 * {@code
-	 * Arrays.splice(array, offset, array.length);
+	 * Arrays.encode(floatArray, ByteOrder.BIG_ENDIAN);
 	 * }
 	 * </pre>
 	 * 
-	 * @param array the input {@code byte[]}
-	 * @param offset the offset for the removal, which may be negative
-	 * @return a new {@code byte[]} with the result of the operation
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param floatArray a {@code float[]}
+	 * @return a {@code byte[]} with the elements of {@code floatArray} encoded in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code floatArray.length * Float.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code floatArray} is {@code null}
 	 */
-	public static byte[] splice(final byte[] array, final int offset) {
-		return splice(array, offset, array.length);
+	public static byte[] encode(final float[] floatArray) {
+		return encode(floatArray, ByteOrder.BIG_ENDIAN);
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code byte[]} instance {@code array}.
+	 * Returns a {@code byte[]} with the elements of {@code floatArray} encoded in the byte order {@code byteOrder}.
 	 * <p>
-	 * Returns a new {@code byte[]} with the result of the operation.
+	 * Each element is encoded using all of its {@code Float.BYTES} bytes. Decoding the returned {@code byte[]} using {@link #decodeFloatArray(byte[], ByteOrder)} with the same byte order yields the elements of {@code floatArray}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If either {@code floatArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code floatArray.length * Float.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param floatArray a {@code float[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code byte[]} with the elements of {@code floatArray} encoded in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code floatArray.length * Float.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, either {@code floatArray} or {@code byteOrder} are {@code null}
+	 */
+	public static byte[] encode(final float[] floatArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(floatArray, "floatArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
+		
+		final byte[] byteArray = new byte[doMultiplyExact(floatArray.length, Float.BYTES)];
+		
+		ByteBuffer.wrap(byteArray).order(byteOrder).asFloatBuffer().put(floatArray);
+		
+		return byteArray;
+	}
+	
+	/**
+	 * Returns a {@code byte[]} with the elements of {@code intArray} encoded in big-endian byte order.
+	 * <p>
+	 * If {@code intArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code intArray.length * Integer.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * <p>
 	 * Calling this method is equivalent to the following:
 	 * <pre>
 	 * {@code
-	 * Arrays.splice(array, offset, length, new byte[0]);
+	 * Arrays.encode(intArray, ByteOrder.BIG_ENDIAN);
 	 * }
 	 * </pre>
 	 * 
-	 * @param array the input {@code byte[]}
-	 * @param offset the offset for the removal, which may be negative
-	 * @param length the length of the removal, which may be negative
-	 * @return a new {@code byte[]} with the result of the operation
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param intArray an {@code int[]}
+	 * @return a {@code byte[]} with the elements of {@code intArray} encoded in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code intArray.length * Integer.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code intArray} is {@code null}
 	 */
-	public static byte[] splice(final byte[] array, final int offset, final int length) {
-		return splice(array, offset, length, new byte[0]);
+	public static byte[] encode(final int[] intArray) {
+		return encode(intArray, ByteOrder.BIG_ENDIAN);
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code byte[]} instance {@code array}.
+	 * Returns a {@code byte[]} with the elements of {@code intArray} encoded in the byte order {@code byteOrder}.
 	 * <p>
-	 * Returns a new {@code byte[]} with the result of the operation.
+	 * Each element is encoded using all of its {@code Integer.BYTES} bytes. Decoding the returned {@code byte[]} using {@link #decodeIntArray(byte[], ByteOrder)} with the same byte order yields the elements of {@code intArray}.
 	 * <p>
-	 * If either {@code array} or {@code arrayReplacement} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * If either {@code intArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code intArray.length * Integer.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the input {@code byte[]}
-	 * @param offset the offset for the removal, which may be negative
-	 * @param length the length of the removal, which may be negative
-	 * @param arrayReplacement a {@code byte[]} that acts as replacement
-	 * @return a new {@code byte[]} with the result of the operation
-	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code arrayReplacement} are {@code null}
+	 * @param intArray an {@code int[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code byte[]} with the elements of {@code intArray} encoded in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code intArray.length * Integer.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, either {@code intArray} or {@code byteOrder} are {@code null}
 	 */
-	public static byte[] splice(final byte[] array, final int offset, final int length, final byte[] arrayReplacement) {
-		Objects.requireNonNull(array, "array == null");
-		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
-		
-		final byte[] arrayA = array;
-		final byte[] arrayB = arrayReplacement;
-		final byte[] arrayC = array;
-		
-		final int arrayASrcPos = 0;
-		final int arrayALength = doSaturate(offset >= 0 ? offset : arrayA.length + offset, 0, arrayA.length);
-		
-		final int arrayBSrcPos = 0;
-		final int arrayBLength = arrayB.length;
-		
-		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : arrayC.length + length, arrayALength, arrayC.length);
-		final int arrayCLength = arrayC.length - arrayCSrcPos;
-		
-		final int arrayDSrcPos0 = 0;
-		final int arrayDSrcPos1 = arrayALength;
-		final int arrayDSrcPos2 = arrayALength + arrayBLength;
-		final int arrayDLength  = arrayA.length - (arrayCSrcPos - arrayALength) + arrayBLength;
+	public static byte[] encode(final int[] intArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(intArray, "intArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
 		
-		final byte[] arrayD = new byte[arrayDLength];
+		final byte[] byteArray = new byte[doMultiplyExact(intArray.length, Integer.BYTES)];
 		
-		System.arraycopy(arrayA, arrayASrcPos, arrayD, arrayDSrcPos0, arrayALength);
-		System.arraycopy(arrayB, arrayBSrcPos, arrayD, arrayDSrcPos1, arrayBLength);
-		System.arraycopy(arrayC, arrayCSrcPos, arrayD, arrayDSrcPos2, arrayCLength);
+		ByteBuffer.wrap(byteArray).order(byteOrder).asIntBuffer().put(intArray);
 		
-		return arrayD;
+		return byteArray;
 	}
 	
 	/**
-	 * Returns a {@code byte[]} representation of {@code objects} using {@code arrayFunction} as a converter.
+	 * Returns a {@code byte[]} with the elements of {@code longArray} encoded in big-endian byte order.
 	 * <p>
-	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code longArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code longArray.length * Long.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.encode(longArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
 	 * 
-	 * @param <T> the generic type
-	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code byte[]} instances
-	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code byte[]} instances
-	 * @return a {@code boolean[]} representation of {@code objects} using {@code arrayFunction} as a converter
-	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
+	 * @param longArray a {@code long[]}
+	 * @return a {@code byte[]} with the elements of {@code longArray} encoded in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code longArray.length * Long.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code longArray} is {@code null}
 	 */
-	public static <T> byte[] toByteArray(final List<T> objects, final Function<T, byte[]> arrayFunction) {
-		doRequireNonNullList(objects, "objects");
-		
-		Objects.requireNonNull(arrayFunction, "arrayFunction == null");
-		
-		if(objects.isEmpty()) {
-			return new byte[0];
-		}
-		
-		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-		
-		for(final T object : objects) {
-			final byte[] array = arrayFunction.apply(object);
-			
-			byteArrayOutputStream.write(array, 0, array.length);
-		}
-		
-		return byteArrayOutputStream.toByteArray();
+	public static byte[] encode(final long[] longArray) {
+		return encode(longArray, ByteOrder.BIG_ENDIAN);
 	}
 	
 	/**
-	 * Returns a {@code byte[]} representation of {@code booleanArray}.
+	 * Returns a {@code byte[]} with the elements of {@code longArray} encoded in the byte order {@code byteOrder}.
 	 * <p>
-	 * If {@code booleanArray} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * 
-	 * @param booleanArray a {@code boolean[]}
-	 * @return a {@code byte[]} representation of {@code booleanArray}
-	 * @throws NullPointerException thrown if, and only if, {@code booleanArray} is {@code null}
-	 */
-	public static byte[] toByteArray(final boolean[] booleanArray) {
-		Objects.requireNonNull(booleanArray, "booleanArray == null");
-		
-		final byte[] byteArray = new byte[booleanArray.length];
-		
-		for(int i = 0; i < byteArray.length; i++) {
-			byteArray[i] = (byte)(booleanArray[i] ? 1 : 0);
-		}
-		
-		return byteArray;
-	}
-	
-	/**
-	 * Returns a {@code byte[]} representation of {@code charArray}.
+	 * Each element is encoded using all of its {@code Long.BYTES} bytes. Decoding the returned {@code byte[]} using {@link #decodeLongArray(byte[], ByteOrder)} with the same byte order yields the elements of {@code longArray}.
 	 * <p>
-	 * If {@code charArray} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * 
-	 * @param charArray a {@code char[]}
-	 * @return a {@code byte[]} representation of {@code charArray}
-	 * @throws NullPointerException thrown if, and only if, {@code charArray} is {@code null}
-	 */
-	public static byte[] toByteArray(final char[] charArray) {
-		Objects.requireNonNull(charArray, "charArray == null");
-		
-		final byte[] byteArray = new byte[charArray.length];
-		
-		for(int i = 0; i < byteArray.length; i++) {
-			byteArray[i] = (byte)(charArray[i]);
-		}
-		
-		return byteArray;
-	}
-	
-	/**
-	 * Returns a {@code byte[]} representation of {@code doubleArray}.
+	 * If either {@code longArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code doubleArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code longArray.length * Long.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param doubleArray a {@code double[]}
-	 * @return a {@code byte[]} representation of {@code doubleArray}
-	 * @throws NullPointerException thrown if, and only if, {@code doubleArray} is {@code null}
+	 * @param longArray a {@code long[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code byte[]} with the elements of {@code longArray} encoded in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code longArray.length * Long.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, either {@code longArray} or {@code byteOrder} are {@code null}
 	 */
-	public static byte[] toByteArray(final double[] doubleArray) {
-		Objects.requireNonNull(doubleArray, "doubleArray == null");
+	public static byte[] encode(final long[] longArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(longArray, "longArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
 		
-		final byte[] byteArray = new byte[doubleArray.length];
+		final byte[] byteArray = new byte[doMultiplyExact(longArray.length, Long.BYTES)];
 		
-		for(int i = 0; i < byteArray.length; i++) {
-			byteArray[i] = (byte)(doubleArray[i]);
-		}
+		ByteBuffer.wrap(byteArray).order(byteOrder).asLongBuffer().put(longArray);
 		
 		return byteArray;
 	}
 	
 	/**
-	 * Returns a {@code byte[]} representation of {@code floatArray}.
+	 * Returns a {@code byte[]} with the elements of {@code shortArray} encoded in big-endian byte order.
 	 * <p>
-	 * If {@code floatArray} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * 
-	 * @param floatArray a {@code float[]}
-	 * @return a {@code byte[]} representation of {@code floatArray}
-	 * @throws NullPointerException thrown if, and only if, {@code floatArray} is {@code null}
-	 */
-	public static byte[] toByteArray(final float[] floatArray) {
-		Objects.requireNonNull(floatArray, "floatArray == null");
-		
-		final byte[] byteArray = new byte[floatArray.length];
-		
-		for(int i = 0; i < byteArray.length; i++) {
-			byteArray[i] = (byte)(floatArray[i]);
-		}
-		
-		return byteArray;
-	}
-	
-	/**
-	 * Returns a {@code byte[]} representation of {@code intArray}.
+	 * If {@code shortArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code intArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code shortArray.length * Short.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.encode(shortArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
 	 * 
-	 * @param intArray an {@code int[]}
-	 * @return a {@code byte[]} representation of {@code intArray}
-	 * @throws NullPointerException thrown if, and only if, {@code intArray} is {@code null}
+	 * @param shortArray a {@code short[]}
+	 * @return a {@code byte[]} with the elements of {@code shortArray} encoded in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code shortArray.length * Short.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code shortArray} is {@code null}
 	 */
-	public static byte[] toByteArray(final int[] intArray) {
-		Objects.requireNonNull(intArray, "intArray == null");
-		
-		final byte[] byteArray = new byte[intArray.length];
-		
-		for(int i = 0; i < byteArray.length; i++) {
-			byteArray[i] = (byte)(intArray[i]);
-		}
-		
-		return byteArray;
+	public static byte[] encode(final short[] shortArray) {
+		return encode(shortArray, ByteOrder.BIG_ENDIAN);
 	}
 	
 	/**
-	 * Returns a {@code byte[]} representation of {@code longArray}.
+	 * Returns a {@code byte[]} with the elements of {@code shortArray} encoded in the byte order {@code byteOrder}.
 	 * <p>
-	 * If {@code longArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Each element is encoded using all of its {@code Short.BYTES} bytes. Decoding the returned {@code byte[]} using {@link #decodeShortArray(byte[], ByteOrder)} with the same byte order yields the elements of {@code shortArray}.
+	 * <p>
+	 * If either {@code shortArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code shortArray.length * Short.BYTES} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param longArray a {@code long[]}
-	 * @return a {@code byte[]} representation of {@code longArray}
-	 * @throws NullPointerException thrown if, and only if, {@code longArray} is {@code null}
+	 * @param shortArray a {@code short[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code byte[]} with the elements of {@code shortArray} encoded in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code shortArray.length * Short.BYTES} overflows
+	 * @throws NullPointerException thrown if, and only if, either {@code shortArray} or {@code byteOrder} are {@code null}
 	 */
-	public static byte[] toByteArray(final long[] longArray) {
-		Objects.requireNonNull(longArray, "longArray == null");
+	public static byte[] encode(final short[] shortArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(shortArray, "shortArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
 		
-		final byte[] byteArray = new byte[longArray.length];
+		final byte[] byteArray = new byte[doMultiplyExact(shortArray.length, Short.BYTES)];
 		
-		for(int i = 0; i < byteArray.length; i++) {
-			byteArray[i] = (byte)(longArray[i]);
-		}
+		ByteBuffer.wrap(byteArray).order(byteOrder).asShortBuffer().put(shortArray);
 		
 		return byteArray;
 	}
 	
 	/**
-	 * Returns a {@code byte[]} representation of {@code shortArray}.
+	 * Returns a {@code byte[]} with a length of {@code length} and elements generated by {@code function}.
 	 * <p>
-	 * If {@code shortArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param shortArray a {@code short[]}
-	 * @return a {@code byte[]} representation of {@code shortArray}
-	 * @throws NullPointerException thrown if, and only if, {@code shortArray} is {@code null}
+	 * @param length the length of the {@code byte[]}
+	 * @param function an {@link IntToByteFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code byte[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
 	 */
-	public static byte[] toByteArray(final short[] shortArray) {
-		Objects.requireNonNull(shortArray, "shortArray == null");
+	public static byte[] generateByteArray(final int length, final IntToByteFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
 		
-		final byte[] byteArray = new byte[shortArray.length];
+		Objects.requireNonNull(function, "function == null");
 		
-		for(int i = 0; i < byteArray.length; i++) {
-			byteArray[i] = (byte)(shortArray[i]);
+		final byte[] array = new byte[length];
+		
+		for(int i = 0; i < length; i++) {
+			array[i] = function.applyAsByte(i);
 		}
 		
-		return byteArray;
+		return array;
 	}
 	
 	/**
-	 * Checks that {@code arrays} and all of its elements are not {@code null}.
+	 * Returns a {@code byte[]} with a length of {@code length} and elements generated by {@code function}.
 	 * <p>
-	 * Returns {@code arrays}.
+	 * The elements are generated in parallel using the common {@code ForkJoinPool}, so {@code function} has to be thread-safe and should not depend on the order in which the indices are visited. If {@code length} is small, the elements are generated sequentially.
 	 * <p>
-	 * If either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param arrays the {@code byte[][]} to check
-	 * @param name the name of the parameter used for {@code arrays}, that will be part of the message to the {@code NullPointerException}
-	 * @return {@code arrays}
-	 * @throws NullPointerException thrown if, and only if, either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}
+	 * @param length the length of the {@code byte[]}
+	 * @param function an {@code IntToByteFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code byte[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
 	 */
-	public static byte[][] requireNonNull(final byte[][] arrays, final String name) {
-		Objects.requireNonNull(name, "name == null");
+	public static byte[] generateByteArrayParallel(final int length, final IntToByteFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
 		
-		if(arrays == null) {
-			throw new NullPointerException(String.format("%s == null", name));
+		Objects.requireNonNull(function, "function == null");
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return generateByteArray(length, function);
 		}
 		
-		for(int i = 0; i < arrays.length; i++) {
-			if(arrays[i] == null) {
-				throw new NullPointerException(String.format("%s[%d] == null", name, Integer.valueOf(i)));
+		final byte[] array = new byte[length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, length); i < j; i++) {
+				array[i] = function.applyAsByte(i);
 			}
-		}
+		});
 		
-		return arrays;
+		return array;
 	}
 	
 	/**
-	 * Returns a {@code char[]} with a length of {@code length} and elements generated by {@code function}.
+	 * Performs a merge operation on the {@code byte[]} instances in {@code arrays}.
 	 * <p>
-	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Returns a new {@code byte[]} with {@code arrays} merged.
 	 * <p>
-	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param length the length of the {@code char[]}
-	 * @param function an {@link IntToCharFunction} that generates the elements and takes the current index as parameter
-	 * @return a {@code char[]} with a length of {@code length} and elements generated by {@code function}
-	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
-	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 * @param arrays the {@code byte[][]} instance to combine into one {@code byte[]}
+	 * @return a new {@code byte[]} with {@code arrays} merged
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
 	 */
-	public static char[] generateCharArray(final int length, final IntToCharFunction function) {
-		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+	public static byte[] merge(final byte[]... arrays) {
+		/*
+		 * Use of try-with-resources would require a catch-clause for IOException that will never be called.
+		 * This would result in less than 100% code coverage for the unit tests.
+		 * Eclipse has a whitelist for classes that does not have a resource leak. This list includes ByteArrayOutputStream.
+		 * Without this whitelist entry, a resource leak warning would have been shown for the code below.
+		 */
 		
-		Objects.requireNonNull(function, "function == null");
+		requireNonNull(arrays, "arrays");
 		
-		final char[] array = new char[length];
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
 		
-		for(int i = 0; i < length; i++) {
-			array[i] = function.applyAsChar(i);
+		for(final byte[] array : arrays) {
+			byteArrayOutputStream.write(array, 0, array.length);
 		}
 		
-		return array;
+		return byteArrayOutputStream.toByteArray();
 	}
 	
 	/**
-	 * Performs a merge operation on the {@code char[]} instances in {@code arrays}.
+	 * Performs a merge operation on the {@code byte[]} instances in {@code arrays}.
 	 * <p>
-	 * Returns a new {@code char[]} with {@code arrays} merged.
+	 * Returns a new {@code byte[]} with {@code arrays} merged.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the merged length is small, this method behaves like {@link #merge(byte[]...)}.
 	 * <p>
 	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the merged length is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param arrays the {@code char[][]} instance to combine into one {@code char[]}
-	 * @return a new {@code char[]} with {@code arrays} merged
+	 * @param arrays the {@code byte[][]} instance to combine into one {@code byte[]}
+	 * @return a new {@code byte[]} with {@code arrays} merged
+	 * @throws IllegalArgumentException thrown if, and only if, the merged length is greater than {@code Integer.MAX_VALUE}
 	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
 	 */
-	public static char[] merge(final char[]... arrays) {
+	public static byte[] mergeParallel(final byte[]... arrays) {
 		requireNonNull(arrays, "arrays");
 		
-		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream()) {
-			for(final char[] array : arrays) {
-				charArrayOutputStream.write(array);
-			}
-			
-			return charArrayOutputStream.toCharArray();
+		final int[] offsets = new int[arrays.length + 1];
+		
+		for(int i = 0; i < arrays.length; i++) {
+			offsets[i + 1] = doAddExact(offsets[i], arrays[i].length);
+		}
+		
+		final int length = offsets[arrays.length];
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return merge(arrays);
 		}
+		
+		final byte[] mergedArray = new byte[length];
+		
+		doMergeParallel(arrays, offsets, mergedArray);
+		
+		return mergedArray;
 	}
 	
 	/**
-	 * Returns a {@code char[]} with {@code array} repeated {@code repetition} times.
+	 * Returns a {@code byte[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
 	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the {@code char[]} to repeat {@code repetition} times
+	 * @param array the {@code byte[]} to repeat {@code repetition} times
 	 * @param repetition the number of times to repeat {@code array}
-	 * @return a {@code char[]} with {@code array} repeated {@code repetition} times
+	 * @return a {@code byte[]} with {@code array} repeated {@code repetition} times
 	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
 	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
 	 */
-	public static char[] repeat(final char[] array, final int repetition) {
+	public static byte[] repeat(final byte[] array, final int repetition) {
 		Objects.requireNonNull(array, "array == null");
 		
 		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
 		
 		if(array.length == 0 || repetition == 0) {
-			return new char[0];
+			return new byte[0];
 		} else if(array.length == 1) {
-			final char[] repeatedArray = new char[repetition];
+			final byte[] repeatedArray = new byte[repetition];
 			
-			final char element = array[0];
+			final byte element = array[0];
 			
 			for(int i = 0; i < repetition; i++) {
 				repeatedArray[i] = element;
@@ -1319,7 +1675,7 @@ public final class Arrays {
 			return repeatedArray;
 		} else {
 			try {
-				final char[] repeatedArray = new char[Math.multiplyExact(repetition, array.length)];
+				final byte[] repeatedArray = new byte[Math.multiplyExact(repetition, array.length)];
 				
 				for(int i = 0; i < repetition; i++) {
 					System.arraycopy(array, 0, repeatedArray, i * array.length, array.length);
@@ -1333,9 +1689,48 @@ public final class Arrays {
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code char[]} instance {@code array}.
+	 * Returns a {@code byte[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
-	 * Returns a new {@code char[]} with the result of the operation.
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the repeated length is small, this method behaves like {@link #repeat(byte[], int)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code byte[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code byte[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static byte[] repeatParallel(final byte[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return repeat(array, repetition);
+		}
+		
+		final byte[] repeatedArray = new byte[length];
+		
+		if(array.length == 1) {
+			final byte element = array[0];
+			
+			doParallelChunks(length).forEach(chunk -> java.util.Arrays.fill(repeatedArray, doParallelChunkFrom(chunk), doParallelChunkTo(chunk, length), element));
+		} else {
+			doRepeatParallel(array, array.length, repeatedArray, length);
+		}
+		
+		return repeatedArray;
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code byte[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code byte[]} with the result of the operation.
 	 * <p>
 	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
@@ -1346,60 +1741,60 @@ public final class Arrays {
 	 * }
 	 * </pre>
 	 * 
-	 * @param array the input {@code char[]}
+	 * @param array the input {@code byte[]}
 	 * @param offset the offset for the removal, which may be negative
-	 * @return a new {@code char[]} with the result of the operation
+	 * @return a new {@code byte[]} with the result of the operation
 	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
 	 */
-	public static char[] splice(final char[] array, final int offset) {
+	public static byte[] splice(final byte[] array, final int offset) {
 		return splice(array, offset, array.length);
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code char[]} instance {@code array}.
+	 * Performs a splice operation on the {@code byte[]} instance {@code array}.
 	 * <p>
-	 * Returns a new {@code char[]} with the result of the operation.
+	 * Returns a new {@code byte[]} with the result of the operation.
 	 * <p>
 	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * Calling this method is equivalent to the following:
 	 * <pre>
 	 * {@code
-	 * Arrays.splice(array, offset, length, new char[0]);
+	 * Arrays.splice(array, offset, length, new byte[0]);
 	 * }
 	 * </pre>
 	 * 
-	 * @param array the input {@code char[]}
+	 * @param array the input {@code byte[]}
 	 * @param offset the offset for the removal, which may be negative
 	 * @param length the length of the removal, which may be negative
-	 * @return a new {@code char[]} with the result of the operation
+	 * @return a new {@code byte[]} with the result of the operation
 	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
 	 */
-	public static char[] splice(final char[] array, final int offset, final int length) {
-		return splice(array, offset, length, new char[0]);
+	public static byte[] splice(final byte[] array, final int offset, final int length) {
+		return splice(array, offset, length, new byte[0]);
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code char[]} instance {@code array}.
+	 * Performs a splice operation on the {@code byte[]} instance {@code array}.
 	 * <p>
-	 * Returns a new {@code char[]} with the result of the operation.
+	 * Returns a new {@code byte[]} with the result of the operation.
 	 * <p>
 	 * If either {@code array} or {@code arrayReplacement} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param array the input {@code char[]}
+	 * @param array the input {@code byte[]}
 	 * @param offset the offset for the removal, which may be negative
 	 * @param length the length of the removal, which may be negative
-	 * @param arrayReplacement a {@code char[]} that acts as replacement
-	 * @return a new {@code char[]} with the result of the operation
+	 * @param arrayReplacement a {@code byte[]} that acts as replacement
+	 * @return a new {@code byte[]} with the result of the operation
 	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code arrayReplacement} are {@code null}
 	 */
-	public static char[] splice(final char[] array, final int offset, final int length, final char[] arrayReplacement) {
+	public static byte[] splice(final byte[] array, final int offset, final int length, final byte[] arrayReplacement) {
 		Objects.requireNonNull(array, "array == null");
 		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
 		
-		final char[] arrayA = array;
-		final char[] arrayB = arrayReplacement;
-		final char[] arrayC = array;
+		final byte[] arrayA = array;
+		final byte[] arrayB = arrayReplacement;
+		final byte[] arrayC = array;
 		
 		final int arrayASrcPos = 0;
 		final int arrayALength = doSaturate(offset >= 0 ? offset : arrayA.length + offset, 0, arrayA.length);
@@ -1415,7 +1810,7 @@ public final class Arrays {
 		final int arrayDSrcPos2 = arrayALength + arrayBLength;
 		final int arrayDLength  = arrayA.length - (arrayCSrcPos - arrayALength) + arrayBLength;
 		
-		final char[] arrayD = new char[arrayDLength];
+		final byte[] arrayD = new byte[arrayDLength];
 		
 		System.arraycopy(arrayA, arrayASrcPos, arrayD, arrayDSrcPos0, arrayALength);
 		System.arraycopy(arrayB, arrayBSrcPos, arrayD, arrayDSrcPos1, arrayBLength);
@@ -1425,276 +1820,205 @@ public final class Arrays {
 	}
 	
 	/**
-	 * Returns a {@code char[]} representation of {@code objects} using {@code arrayFunction} as a converter.
+	 * Returns a {@code byte[]} representation of {@code objects} using {@code arrayFunction} as a converter.
 	 * <p>
 	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the total length of the results overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
 	 * @param <T> the generic type
-	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code char[]} instances
-	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code char[]} instances
-	 * @return a {@code char[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code byte[]} instances
+	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code byte[]} instances
+	 * @return a {@code boolean[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @throws IllegalArgumentException thrown if, and only if, the total length of the results overflows
 	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
 	 */
-	public static <T> char[] toCharArray(final List<T> objects, final Function<T, char[]> arrayFunction) {
+	public static <T> byte[] toByteArray(final List<T> objects, final Function<T, byte[]> arrayFunction) {
 		doRequireNonNullList(objects, "objects");
 		
 		Objects.requireNonNull(arrayFunction, "arrayFunction == null");
 		
 		if(objects.isEmpty()) {
-			return new char[0];
+			return new byte[0];
 		}
 		
-		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream()) {
-			for(final T object : objects) {
-				charArrayOutputStream.write(arrayFunction.apply(object));
-			}
+		final byte[][] arrays = new byte[objects.size()][];
+		
+		int index = 0;
+		int length = 0;
+		
+		for(final T object : objects) {
+			final byte[] array = Objects.requireNonNull(arrayFunction.apply(object), "arrayFunction.apply(object) == null");
 			
-			return charArrayOutputStream.toCharArray();
+			arrays[index++] = array;
+			
+			length = doAddExact(length, array.length);
 		}
+		
+		final byte[] byteArray = new byte[length];
+		
+		merge(byteArray, 0, arrays);
+		
+		return byteArray;
 	}
 	
 	/**
-	 * Checks that {@code arrays} and all of its elements are not {@code null}.
-	 * <p>
-	 * Returns {@code arrays}.
+	 * Returns a {@code byte[]} representation of {@code booleanArray}.
 	 * <p>
-	 * If either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code booleanArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param arrays the {@code char[][]} to check
-	 * @param name the name of the parameter used for {@code arrays}, that will be part of the message to the {@code NullPointerException}
-	 * @return {@code arrays}
-	 * @throws NullPointerException thrown if, and only if, either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}
+	 * @param booleanArray a {@code boolean[]}
+	 * @return a {@code byte[]} representation of {@code booleanArray}
+	 * @throws NullPointerException thrown if, and only if, {@code booleanArray} is {@code null}
 	 */
-	public static char[][] requireNonNull(final char[][] arrays, final String name) {
-		Objects.requireNonNull(name, "name == null");
+	public static byte[] toByteArray(final boolean[] booleanArray) {
+		Objects.requireNonNull(booleanArray, "booleanArray == null");
 		
-		if(arrays == null) {
-			throw new NullPointerException(String.format("%s == null", name));
-		}
+		final byte[] byteArray = new byte[booleanArray.length];
 		
-		for(int i = 0; i < arrays.length; i++) {
-			if(arrays[i] == null) {
-				throw new NullPointerException(String.format("%s[%d] == null", name, Integer.valueOf(i)));
-			}
+		for(int i = 0; i < byteArray.length; i++) {
+			byteArray[i] = (byte)(booleanArray[i] ? 1 : 0);
 		}
 		
-		return arrays;
+		return byteArray;
 	}
 	
 	/**
-	 * Returns a {@code double[]} with a length of {@code length} and elements generated by {@code function}.
+	 * Returns a {@code byte[]} representation of {@code charArray}.
 	 * <p>
-	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Each element is narrowed to a {@code byte}. Use {@link #encode(char[], ByteOrder)} to encode all bytes of each element.
 	 * <p>
-	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code charArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param length the length of the {@code double[]}
-	 * @param function an {@code IntToDoubleFunction} that generates the elements and takes the current index as parameter
-	 * @return a {@code double[]} with a length of {@code length} and elements generated by {@code function}
-	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
-	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 * @param charArray a {@code char[]}
+	 * @return a {@code byte[]} representation of {@code charArray}
+	 * @throws NullPointerException thrown if, and only if, {@code charArray} is {@code null}
 	 */
-	public static double[] generateDoubleArray(final int length, final IntToDoubleFunction function) {
-		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
-		
-		Objects.requireNonNull(function, "function == null");
+	public static byte[] toByteArray(final char[] charArray) {
+		Objects.requireNonNull(charArray, "charArray == null");
 		
-		final double[] array = new double[length];
+		final byte[] byteArray = new byte[charArray.length];
 		
-		for(int i = 0; i < length; i++) {
-			array[i] = function.applyAsDouble(i);
+		for(int i = 0; i < byteArray.length; i++) {
+			byteArray[i] = (byte)(charArray[i]);
 		}
 		
-		return array;
+		return byteArray;
 	}
 	
 	/**
-	 * Performs a merge operation on the {@code double[]} instances in {@code arrays}.
+	 * Returns a {@code byte[]} representation of {@code doubleArray}.
 	 * <p>
-	 * Returns a new {@code double[]} with {@code arrays} merged.
+	 * Each element is narrowed to a {@code byte}. Use {@link #encode(double[], ByteOrder)} to encode all bytes of each element.
 	 * <p>
-	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code doubleArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param arrays the {@code double[][]} instance to combine into one {@code double[]}
-	 * @return a new {@code double[]} with {@code arrays} merged
-	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 * @param doubleArray a {@code double[]}
+	 * @return a {@code byte[]} representation of {@code doubleArray}
+	 * @throws NullPointerException thrown if, and only if, {@code doubleArray} is {@code null}
 	 */
-	public static double[] merge(final double[]... arrays) {
-		requireNonNull(arrays, "arrays");
+	public static byte[] toByteArray(final double[] doubleArray) {
+		Objects.requireNonNull(doubleArray, "doubleArray == null");
 		
-		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream()) {
-			for(final double[] array : arrays) {
-				doubleArrayOutputStream.write(array);
-			}
-			
-			return doubleArrayOutputStream.toDoubleArray();
+		final byte[] byteArray = new byte[doubleArray.length];
+		
+		for(int i = 0; i < byteArray.length; i++) {
+			byteArray[i] = (byte)(doubleArray[i]);
 		}
+		
+		return byteArray;
 	}
 	
 	/**
-	 * Returns a {@code double[]} with {@code array} repeated {@code repetition} times.
+	 * Returns a {@code byte[]} representation of {@code floatArray}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Each element is narrowed to a {@code byte}. Use {@link #encode(float[], ByteOrder)} to encode all bytes of each element.
 	 * <p>
-	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * If {@code floatArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param array the {@code double[]} to repeat {@code repetition} times
-	 * @param repetition the number of times to repeat {@code array}
-	 * @return a {@code double[]} with {@code array} repeated {@code repetition} times
-	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param floatArray a {@code float[]}
+	 * @return a {@code byte[]} representation of {@code floatArray}
+	 * @throws NullPointerException thrown if, and only if, {@code floatArray} is {@code null}
 	 */
-	public static double[] repeat(final double[] array, final int repetition) {
-		Objects.requireNonNull(array, "array == null");
+	public static byte[] toByteArray(final float[] floatArray) {
+		Objects.requireNonNull(floatArray, "floatArray == null");
 		
-		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		final byte[] byteArray = new byte[floatArray.length];
 		
-		if(array.length == 0 || repetition == 0) {
-			return new double[0];
-		} else if(array.length == 1) {
-			final double[] repeatedArray = new double[repetition];
-			
-			final double element = array[0];
-			
-			for(int i = 0; i < repetition; i++) {
-				repeatedArray[i] = element;
-			}
-			
-			return repeatedArray;
-		} else {
-			try {
-				final double[] repeatedArray = new double[Math.multiplyExact(repetition, array.length)];
-				
-				for(int i = 0; i < repetition; i++) {
-					System.arraycopy(array, 0, repeatedArray, i * array.length, array.length);
-				}
-				
-				return repeatedArray;
-			} catch(final ArithmeticException e) {
-				throw new IllegalArgumentException(e);
-			}
+		for(int i = 0; i < byteArray.length; i++) {
+			byteArray[i] = (byte)(floatArray[i]);
 		}
+		
+		return byteArray;
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code double[]} instance {@code array}.
-	 * <p>
-	 * Returns a new {@code double[]} with the result of the operation.
+	 * Returns a {@code byte[]} representation of {@code intArray}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Each element is narrowed to a {@code byte}. Use {@link #encode(int[], ByteOrder)} to encode all bytes of each element.
 	 * <p>
-	 * Calling this method is equivalent to the following:
-	 * <pre>
-	 * {@code
-	 * Arrays.splice(array, offset, array.length);
-	 * }
-	 * </pre>
+	 * If {@code intArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param array the input {@code double[]}
-	 * @param offset the offset for the removal, which may be negative
-	 * @return a new {@code double[]} with the result of the operation
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param intArray an {@code int[]}
+	 * @return a {@code byte[]} representation of {@code intArray}
+	 * @throws NullPointerException thrown if, and only if, {@code intArray} is {@code null}
 	 */
-	public static double[] splice(final double[] array, final int offset) {
-		return splice(array, offset, array.length);
-	}
-	
-	/**
-	 * Performs a splice operation on the {@code double[]} instance {@code array}.
-	 * <p>
-	 * Returns a new {@code double[]} with the result of the operation.
-	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * Calling this method is equivalent to the following:
-	 * <pre>
-	 * {@code
-	 * Arrays.splice(array, offset, length, new double[0]);
-	 * }
-	 * </pre>
-	 * 
-	 * @param array the input {@code double[]}
-	 * @param offset the offset for the removal, which may be negative
-	 * @param length the length of the removal, which may be negative
-	 * @return a new {@code double[]} with the result of the operation
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
-	 */
-	public static double[] splice(final double[] array, final int offset, final int length) {
-		return splice(array, offset, length, new double[0]);
+	public static byte[] toByteArray(final int[] intArray) {
+		Objects.requireNonNull(intArray, "intArray == null");
+		
+		final byte[] byteArray = new byte[intArray.length];
+		
+		for(int i = 0; i < byteArray.length; i++) {
+			byteArray[i] = (byte)(intArray[i]);
+		}
+		
+		return byteArray;
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code double[]} instance {@code array}.
+	 * Returns a {@code byte[]} representation of {@code longArray}.
 	 * <p>
-	 * Returns a new {@code double[]} with the result of the operation.
+	 * Each element is narrowed to a {@code byte}. Use {@link #encode(long[], ByteOrder)} to encode all bytes of each element.
 	 * <p>
-	 * If either {@code array} or {@code arrayReplacement} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code longArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param array the input {@code double[]}
-	 * @param offset the offset for the removal, which may be negative
-	 * @param length the length of the removal, which may be negative
-	 * @param arrayReplacement a {@code double[]} that acts as replacement
-	 * @return a new {@code double[]} with the result of the operation
-	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code arrayReplacement} are {@code null}
+	 * @param longArray a {@code long[]}
+	 * @return a {@code byte[]} representation of {@code longArray}
+	 * @throws NullPointerException thrown if, and only if, {@code longArray} is {@code null}
 	 */
-	public static double[] splice(final double[] array, final int offset, final int length, final double[] arrayReplacement) {
-		Objects.requireNonNull(array, "array == null");
-		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
-		
-		final double[] arrayA = array;
-		final double[] arrayB = arrayReplacement;
-		final double[] arrayC = array;
-		
-		final int arrayASrcPos = 0;
-		final int arrayALength = doSaturate(offset >= 0 ? offset : arrayA.length + offset, 0, arrayA.length);
-		
-		final int arrayBSrcPos = 0;
-		final int arrayBLength = arrayB.length;
-		
-		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : arrayC.length + length, arrayALength, arrayC.length);
-		final int arrayCLength = arrayC.length - arrayCSrcPos;
-		
-		final int arrayDSrcPos0 = 0;
-		final int arrayDSrcPos1 = arrayALength;
-		final int arrayDSrcPos2 = arrayALength + arrayBLength;
-		final int arrayDLength  = arrayA.length - (arrayCSrcPos - arrayALength) + arrayBLength;
+	public static byte[] toByteArray(final long[] longArray) {
+		Objects.requireNonNull(longArray, "longArray == null");
 		
-		final double[] arrayD = new double[arrayDLength];
+		final byte[] byteArray = new byte[longArray.length];
 		
-		System.arraycopy(arrayA, arrayASrcPos, arrayD, arrayDSrcPos0, arrayALength);
-		System.arraycopy(arrayB, arrayBSrcPos, arrayD, arrayDSrcPos1, arrayBLength);
-		System.arraycopy(arrayC, arrayCSrcPos, arrayD, arrayDSrcPos2, arrayCLength);
+		for(int i = 0; i < byteArray.length; i++) {
+			byteArray[i] = (byte)(longArray[i]);
+		}
 		
-		return arrayD;
+		return byteArray;
 	}
 	
 	/**
-	 * Returns a {@code double[]} representation of {@code objects} using {@code arrayFunction} as a converter.
+	 * Returns a {@code byte[]} representation of {@code shortArray}.
 	 * <p>
-	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * Each element is narrowed to a {@code byte}. Use {@link #encode(short[], ByteOrder)} to encode all bytes of each element.
+	 * <p>
+	 * If {@code shortArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param <T> the generic type
-	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code double[]} instances
-	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code double[]} instances
-	 * @return a {@code double[]} representation of {@code objects} using {@code arrayFunction} as a converter
-	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
+	 * @param shortArray a {@code short[]}
+	 * @return a {@code byte[]} representation of {@code shortArray}
+	 * @throws NullPointerException thrown if, and only if, {@code shortArray} is {@code null}
 	 */
-	public static <T> double[] toDoubleArray(final List<T> objects, final Function<T, double[]> arrayFunction) {
-		doRequireNonNullList(objects, "objects");
+	public static byte[] toByteArray(final short[] shortArray) {
+		Objects.requireNonNull(shortArray, "shortArray == null");
 		
-		Objects.requireNonNull(arrayFunction, "arrayFunction == null");
+		final byte[] byteArray = new byte[shortArray.length];
 		
-		if(objects.isEmpty()) {
-			return new double[0];
+		for(int i = 0; i < byteArray.length; i++) {
+			byteArray[i] = (byte)(shortArray[i]);
 		}
 		
-		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream()) {
-			for(final T object : objects) {
-				doubleArrayOutputStream.write(arrayFunction.apply(object));
-			}
-			
-			return doubleArrayOutputStream.toDoubleArray();
-		}
+		return byteArray;
 	}
 	
 	/**
@@ -1704,12 +2028,12 @@ public final class Arrays {
 	 * <p>
 	 * If either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param arrays the {@code double[][]} to check
+	 * @param arrays the {@code byte[][]} to check
 	 * @param name the name of the parameter used for {@code arrays}, that will be part of the message to the {@code NullPointerException}
 	 * @return {@code arrays}
 	 * @throws NullPointerException thrown if, and only if, either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}
 	 */
-	public static double[][] requireNonNull(final double[][] arrays, final String name) {
+	public static byte[][] requireNonNull(final byte[][] arrays, final String name) {
 		Objects.requireNonNull(name, "name == null");
 		
 		if(arrays == null) {
@@ -1726,79 +2050,203 @@ public final class Arrays {
 	}
 	
 	/**
-	 * Returns a {@code float[]} with a length of {@code length} and elements generated by {@code function}.
+	 * Returns a {@code char[]} with the elements decoded from {@code byteArray} in big-endian byte order.
+	 * <p>
+	 * If {@code byteArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Character.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.decodeCharArray(byteArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @return a {@code char[]} with the elements decoded from {@code byteArray} in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Character.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code byteArray} is {@code null}
+	 */
+	public static char[] decodeCharArray(final byte[] byteArray) {
+		return decodeCharArray(byteArray, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Returns a {@code char[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}.
+	 * <p>
+	 * Each element is decoded from {@code Character.BYTES} consecutive bytes. This is the inverse of {@link #encode(char[], ByteOrder)}.
+	 * <p>
+	 * If either {@code byteArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Character.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code char[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Character.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code byteArray} or {@code byteOrder} are {@code null}
+	 */
+	public static char[] decodeCharArray(final byte[] byteArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(byteArray, "byteArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
+		
+		doRequireExact(byteArray.length % Character.BYTES, 0, "byteArray.length % Character.BYTES");
+		
+		final char[] charArray = new char[byteArray.length / Character.BYTES];
+		
+		ByteBuffer.wrap(byteArray).order(byteOrder).asCharBuffer().get(charArray);
+		
+		return charArray;
+	}
+	
+	/**
+	 * Returns a {@code char[]} with a length of {@code length} and elements generated by {@code function}.
 	 * <p>
 	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
 	 * <p>
 	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param length the length of the {@code float[]}
-	 * @param function an {@link IntToFloatFunction} that generates the elements and takes the current index as parameter
-	 * @return a {@code float[]} with a length of {@code length} and elements generated by {@code function}
+	 * @param length the length of the {@code char[]}
+	 * @param function an {@link IntToCharFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code char[]} with a length of {@code length} and elements generated by {@code function}
 	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
 	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
 	 */
-	public static float[] generateFloatArray(final int length, final IntToFloatFunction function) {
+	public static char[] generateCharArray(final int length, final IntToCharFunction function) {
 		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
 		
 		Objects.requireNonNull(function, "function == null");
 		
-		final float[] array = new float[length];
+		final char[] array = new char[length];
 		
 		for(int i = 0; i < length; i++) {
-			array[i] = function.applyAsFloat(i);
+			array[i] = function.applyAsChar(i);
 		}
 		
 		return array;
 	}
 	
 	/**
-	 * Performs a merge operation on the {@code float[]} instances in {@code arrays}.
+	 * Returns a {@code char[]} with a length of {@code length} and elements generated by {@code function}.
 	 * <p>
-	 * Returns a new {@code float[]} with {@code arrays} merged.
+	 * The elements are generated in parallel using the common {@code ForkJoinPool}, so {@code function} has to be thread-safe and should not depend on the order in which the indices are visited. If {@code length} is small, the elements are generated sequentially.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param length the length of the {@code char[]}
+	 * @param function an {@code IntToCharFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code char[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public static char[] generateCharArrayParallel(final int length, final IntToCharFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		
+		Objects.requireNonNull(function, "function == null");
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return generateCharArray(length, function);
+		}
+		
+		final char[] array = new char[length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, length); i < j; i++) {
+				array[i] = function.applyAsChar(i);
+			}
+		});
+		
+		return array;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code char[]} instances in {@code arrays}.
+	 * <p>
+	 * Returns a new {@code char[]} with {@code arrays} merged.
 	 * <p>
 	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param arrays the {@code float[][]} instance to combine into one {@code float[]}
-	 * @return a new {@code float[]} with {@code arrays} merged
+	 * @param arrays the {@code char[][]} instance to combine into one {@code char[]}
+	 * @return a new {@code char[]} with {@code arrays} merged
 	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
 	 */
-	public static float[] merge(final float[]... arrays) {
+	public static char[] merge(final char[]... arrays) {
 		requireNonNull(arrays, "arrays");
 		
-		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream()) {
-			for(final float[] array : arrays) {
-				floatArrayOutputStream.write(array);
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream()) {
+			for(final char[] array : arrays) {
+				charArrayOutputStream.write(array);
 			}
 			
-			return floatArrayOutputStream.toFloatArray();
+			return charArrayOutputStream.toCharArray();
 		}
 	}
 	
 	/**
-	 * Returns a {@code float[]} with {@code array} repeated {@code repetition} times.
+	 * Performs a merge operation on the {@code char[]} instances in {@code arrays}.
+	 * <p>
+	 * Returns a new {@code char[]} with {@code arrays} merged.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the merged length is small, this method behaves like {@link #merge(char[]...)}.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the merged length is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param arrays the {@code char[][]} instance to combine into one {@code char[]}
+	 * @return a new {@code char[]} with {@code arrays} merged
+	 * @throws IllegalArgumentException thrown if, and only if, the merged length is greater than {@code Integer.MAX_VALUE}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static char[] mergeParallel(final char[]... arrays) {
+		requireNonNull(arrays, "arrays");
+		
+		final int[] offsets = new int[arrays.length + 1];
+		
+		for(int i = 0; i < arrays.length; i++) {
+			offsets[i + 1] = doAddExact(offsets[i], arrays[i].length);
+		}
+		
+		final int length = offsets[arrays.length];
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return merge(arrays);
+		}
+		
+		final char[] mergedArray = new char[length];
+		
+		doMergeParallel(arrays, offsets, mergedArray);
+		
+		return mergedArray;
+	}
+	
+	/**
+	 * Returns a {@code char[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
 	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the {@code float[]} to repeat {@code repetition} times
+	 * @param array the {@code char[]} to repeat {@code repetition} times
 	 * @param repetition the number of times to repeat {@code array}
-	 * @return a {@code float[]} with {@code array} repeated {@code repetition} times
+	 * @return a {@code char[]} with {@code array} repeated {@code repetition} times
 	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
 	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
 	 */
-	public static float[] repeat(final float[] array, final int repetition) {
+	public static char[] repeat(final char[] array, final int repetition) {
 		Objects.requireNonNull(array, "array == null");
 		
 		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
 		
 		if(array.length == 0 || repetition == 0) {
-			return new float[0];
+			return new char[0];
 		} else if(array.length == 1) {
-			final float[] repeatedArray = new float[repetition];
+			final char[] repeatedArray = new char[repetition];
 			
-			final float element = array[0];
+			final char element = array[0];
 			
 			for(int i = 0; i < repetition; i++) {
 				repeatedArray[i] = element;
@@ -1807,7 +2255,7 @@ public final class Arrays {
 			return repeatedArray;
 		} else {
 			try {
-				final float[] repeatedArray = new float[Math.multiplyExact(repetition, array.length)];
+				final char[] repeatedArray = new char[Math.multiplyExact(repetition, array.length)];
 				
 				for(int i = 0; i < repetition; i++) {
 					System.arraycopy(array, 0, repeatedArray, i * array.length, array.length);
@@ -1821,73 +2269,112 @@ public final class Arrays {
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code float[]} instance {@code array}.
+	 * Returns a {@code char[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
-	 * Returns a new {@code float[]} with the result of the operation.
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the repeated length is small, this method behaves like {@link #repeat(char[], int)}.
 	 * <p>
 	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * Calling this method is equivalent to the following:
-	 * <pre>
-	 * {@code
-	 * Arrays.splice(array, offset, array.length);
-	 * }
-	 * </pre>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the input {@code float[]}
-	 * @param offset the offset for the removal, which may be negative
-	 * @return a new {@code float[]} with the result of the operation
+	 * @param array the {@code char[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code char[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
 	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
 	 */
-	public static float[] splice(final float[] array, final int offset) {
-		return splice(array, offset, array.length);
-	}
-	
-	/**
-	 * Performs a splice operation on the {@code float[]} instance {@code array}.
-	 * <p>
-	 * Returns a new {@code float[]} with the result of the operation.
+	public static char[] repeatParallel(final char[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return repeat(array, repetition);
+		}
+		
+		final char[] repeatedArray = new char[length];
+		
+		if(array.length == 1) {
+			final char element = array[0];
+			
+			doParallelChunks(length).forEach(chunk -> java.util.Arrays.fill(repeatedArray, doParallelChunkFrom(chunk), doParallelChunkTo(chunk, length), element));
+		} else {
+			doRepeatParallel(array, array.length, repeatedArray, length);
+		}
+		
+		return repeatedArray;
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code char[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code char[]} with the result of the operation.
 	 * <p>
 	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * Calling this method is equivalent to the following:
 	 * <pre>
 	 * {@code
-	 * Arrays.splice(array, offset, length, new float[0]);
+	 * Arrays.splice(array, offset, array.length);
 	 * }
 	 * </pre>
 	 * 
-	 * @param array the input {@code float[]}
+	 * @param array the input {@code char[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @return a new {@code char[]} with the result of the operation
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static char[] splice(final char[] array, final int offset) {
+		return splice(array, offset, array.length);
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code char[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code char[]} with the result of the operation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.splice(array, offset, length, new char[0]);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the input {@code char[]}
 	 * @param offset the offset for the removal, which may be negative
 	 * @param length the length of the removal, which may be negative
-	 * @return a new {@code float[]} with the result of the operation
+	 * @return a new {@code char[]} with the result of the operation
 	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
 	 */
-	public static float[] splice(final float[] array, final int offset, final int length) {
-		return splice(array, offset, length, new float[0]);
+	public static char[] splice(final char[] array, final int offset, final int length) {
+		return splice(array, offset, length, new char[0]);
 	}
 	
 	/**
-	 * Performs a splice operation on the {@code float[]} instance {@code array}.
+	 * Performs a splice operation on the {@code char[]} instance {@code array}.
 	 * <p>
-	 * Returns a new {@code float[]} with the result of the operation.
+	 * Returns a new {@code char[]} with the result of the operation.
 	 * <p>
 	 * If either {@code array} or {@code arrayReplacement} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param array the input {@code float[]}
+	 * @param array the input {@code char[]}
 	 * @param offset the offset for the removal, which may be negative
 	 * @param length the length of the removal, which may be negative
-	 * @param arrayReplacement a {@code float[]} that acts as replacement
-	 * @return a new {@code float[]} with the result of the operation
+	 * @param arrayReplacement a {@code char[]} that acts as replacement
+	 * @return a new {@code char[]} with the result of the operation
 	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code arrayReplacement} are {@code null}
 	 */
-	public static float[] splice(final float[] array, final int offset, final int length, final float[] arrayReplacement) {
+	public static char[] splice(final char[] array, final int offset, final int length, final char[] arrayReplacement) {
 		Objects.requireNonNull(array, "array == null");
 		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
 		
-		final float[] arrayA = array;
-		final float[] arrayB = arrayReplacement;
-		final float[] arrayC = array;
+		final char[] arrayA = array;
+		final char[] arrayB = arrayReplacement;
+		final char[] arrayC = array;
 		
 		final int arrayASrcPos = 0;
 		final int arrayALength = doSaturate(offset >= 0 ? offset : arrayA.length + offset, 0, arrayA.length);
@@ -1903,7 +2390,7 @@ public final class Arrays {
 		final int arrayDSrcPos2 = arrayALength + arrayBLength;
 		final int arrayDLength  = arrayA.length - (arrayCSrcPos - arrayALength) + arrayBLength;
 		
-		final float[] arrayD = new float[arrayDLength];
+		final char[] arrayD = new char[arrayDLength];
 		
 		System.arraycopy(arrayA, arrayASrcPos, arrayD, arrayDSrcPos0, arrayALength);
 		System.arraycopy(arrayB, arrayBSrcPos, arrayD, arrayDSrcPos1, arrayBLength);
@@ -1913,32 +2400,46 @@ public final class Arrays {
 	}
 	
 	/**
-	 * Returns a {@code float[]} representation of {@code objects} using {@code arrayFunction} as a converter.
+	 * Returns a {@code char[]} representation of {@code objects} using {@code arrayFunction} as a converter.
 	 * <p>
 	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the total length of the results overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
 	 * @param <T> the generic type
-	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code float[]} instances
-	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code float[]} instances
-	 * @return a {@code float[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code char[]} instances
+	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code char[]} instances
+	 * @return a {@code char[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @throws IllegalArgumentException thrown if, and only if, the total length of the results overflows
 	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
 	 */
-	public static <T> float[] toFloatArray(final List<T> objects, final Function<T, float[]> arrayFunction) {
+	public static <T> char[] toCharArray(final List<T> objects, final Function<T, char[]> arrayFunction) {
 		doRequireNonNullList(objects, "objects");
 		
 		Objects.requireNonNull(arrayFunction, "arrayFunction == null");
 		
 		if(objects.isEmpty()) {
-			return new float[0];
+			return new char[0];
 		}
 		
-		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream()) {
-			for(final T object : objects) {
-				floatArrayOutputStream.write(arrayFunction.apply(object));
-			}
+		final char[][] arrays = new char[objects.size()][];
+		
+		int index = 0;
+		int length = 0;
+		
+		for(final T object : objects) {
+			final char[] array = Objects.requireNonNull(arrayFunction.apply(object), "arrayFunction.apply(object) == null");
 			
-			return floatArrayOutputStream.toFloatArray();
+			arrays[index++] = array;
+			
+			length = doAddExact(length, array.length);
 		}
+		
+		final char[] charArray = new char[length];
+		
+		merge(charArray, 0, arrays);
+		
+		return charArray;
 	}
 	
 	/**
@@ -1948,12 +2449,12 @@ public final class Arrays {
 	 * <p>
 	 * If either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param arrays the {@code float[][]} to check
+	 * @param arrays the {@code char[][]} to check
 	 * @param name the name of the parameter used for {@code arrays}, that will be part of the message to the {@code NullPointerException}
 	 * @return {@code arrays}
 	 * @throws NullPointerException thrown if, and only if, either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}
 	 */
-	public static float[][] requireNonNull(final float[][] arrays, final String name) {
+	public static char[][] requireNonNull(final char[][] arrays, final String name) {
 		Objects.requireNonNull(name, "name == null");
 		
 		if(arrays == null) {
@@ -1970,741 +2471,2887 @@ public final class Arrays {
 	}
 	
 	/**
-	 * Returns a hash code based on the contents of {@code array}.
+	 * Returns a {@code double[]} with the elements decoded from {@code byteArray} in big-endian byte order.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code byteArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Double.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.decodeDoubleArray(byteArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
 	 * 
-	 * @param array the {@code boolean[]} to compute a hash code for
-	 * @return a hash code based on the contents of {@code array}
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param byteArray a {@code byte[]}
+	 * @return a {@code double[]} with the elements decoded from {@code byteArray} in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Double.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code byteArray} is {@code null}
 	 */
-	public static int hashCode(final boolean[] array) {
-		Objects.requireNonNull(array, "array == null");
-		
-		int result = 1;
-		
-		for(final boolean element : array) {
-			result = 31 * result + (element ? 1231 : 1237);
-		}
-		
-		return result;
+	public static double[] decodeDoubleArray(final byte[] byteArray) {
+		return decodeDoubleArray(byteArray, ByteOrder.BIG_ENDIAN);
 	}
 	
 	/**
-	 * Returns a hash code based on the contents of {@code array}.
+	 * Returns a {@code double[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Each element is decoded from {@code Double.BYTES} consecutive bytes. This is the inverse of {@link #encode(double[], ByteOrder)}.
+	 * <p>
+	 * If either {@code byteArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Double.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the {@code byte[]} to compute a hash code for
-	 * @return a hash code based on the contents of {@code array}
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param byteArray a {@code byte[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code double[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Double.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code byteArray} or {@code byteOrder} are {@code null}
 	 */
-	public static int hashCode(final byte[] array) {
-		Objects.requireNonNull(array, "array == null");
+	public static double[] decodeDoubleArray(final byte[] byteArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(byteArray, "byteArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
 		
-		int result = 1;
+		doRequireExact(byteArray.length % Double.BYTES, 0, "byteArray.length % Double.BYTES");
 		
-		for(final byte element : array) {
-			result = 31 * result + element;
-		}
+		final double[] doubleArray = new double[byteArray.length / Double.BYTES];
 		
-		return result;
+		ByteBuffer.wrap(byteArray).order(byteOrder).asDoubleBuffer().get(doubleArray);
+		
+		return doubleArray;
 	}
 	
 	/**
-	 * Returns a hash code based on the contents of {@code array}.
+	 * Returns a {@code double[]} with a length of {@code length} and elements generated by {@code function}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param array the {@code char[]} to compute a hash code for
-	 * @return a hash code based on the contents of {@code array}
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param length the length of the {@code double[]}
+	 * @param function an {@code IntToDoubleFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code double[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
 	 */
-	public static int hashCode(final char[] array) {
-		Objects.requireNonNull(array, "array == null");
+	public static double[] generateDoubleArray(final int length, final IntToDoubleFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
 		
-		int result = 1;
+		Objects.requireNonNull(function, "function == null");
 		
-		for(final char element : array) {
-			result = 31 * result + element;
+		final double[] array = new double[length];
+		
+		for(int i = 0; i < length; i++) {
+			array[i] = function.applyAsDouble(i);
 		}
 		
-		return result;
+		return array;
 	}
 	
 	/**
-	 * Returns a hash code based on the contents of {@code array}.
+	 * Returns a {@code double[]} with a length of {@code length} and elements generated by {@code function}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * The elements are generated in parallel using the common {@code ForkJoinPool}, so {@code function} has to be thread-safe and should not depend on the order in which the indices are visited. If {@code length} is small, the elements are generated sequentially.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param array the {@code double[]} to compute a hash code for
-	 * @return a hash code based on the contents of {@code array}
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param length the length of the {@code double[]}
+	 * @param function an {@code IntToDoubleFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code double[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
 	 */
-	public static int hashCode(final double[] array) {
-		Objects.requireNonNull(array, "array == null");
+	public static double[] generateDoubleArrayParallel(final int length, final IntToDoubleFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
 		
-		int result = 1;
+		Objects.requireNonNull(function, "function == null");
 		
-		for(final double element : array) {
-			final long bits = Double.doubleToLongBits(element);
-			
-			result = 31 * result + (int)(bits ^ (bits >>> 32L));
+		if(length <= PARALLEL_THRESHOLD) {
+			return generateDoubleArray(length, function);
 		}
 		
-		return result;
+		final double[] array = new double[length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, length); i < j; i++) {
+				array[i] = function.applyAsDouble(i);
+			}
+		});
+		
+		return array;
 	}
 	
 	/**
-	 * Returns a hash code based on the contents of {@code array}.
+	 * Performs a merge operation on the {@code double[]} instances in {@code arrays}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns a new {@code double[]} with {@code arrays} merged.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
-	 * @param array the {@code float[]} to compute a hash code for
-	 * @return a hash code based on the contents of {@code array}
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param arrays the {@code double[][]} instance to combine into one {@code double[]}
+	 * @return a new {@code double[]} with {@code arrays} merged
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
 	 */
-	public static int hashCode(final float[] array) {
-		Objects.requireNonNull(array, "array == null");
-		
-		int result = 1;
+	public static double[] merge(final double[]... arrays) {
+		requireNonNull(arrays, "arrays");
 		
-		for(final float element : array) {
-			result = 31 * result + Float.floatToIntBits(element);
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream()) {
+			for(final double[] array : arrays) {
+				doubleArrayOutputStream.write(array);
+			}
+			
+			return doubleArrayOutputStream.toDoubleArray();
 		}
-		
-		return result;
 	}
 	
 	/**
-	 * Returns a hash code based on the contents of {@code array}.
+	 * Performs a merge operation on the {@code double[]} instances in {@code arrays}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns a new {@code double[]} with {@code arrays} merged.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the merged length is small, this method behaves like {@link #merge(double[]...)}.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the merged length is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the {@code int[]} to compute a hash code for
-	 * @return a hash code based on the contents of {@code array}
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param arrays the {@code double[][]} instance to combine into one {@code double[]}
+	 * @return a new {@code double[]} with {@code arrays} merged
+	 * @throws IllegalArgumentException thrown if, and only if, the merged length is greater than {@code Integer.MAX_VALUE}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
 	 */
-	public static int hashCode(final int[] array) {
-		Objects.requireNonNull(array, "array == null");
+	public static double[] mergeParallel(final double[]... arrays) {
+		requireNonNull(arrays, "arrays");
 		
-		int result = 1;
+		final int[] offsets = new int[arrays.length + 1];
 		
-		for(final int element : array) {
-			result = 31 * result + element;
+		for(int i = 0; i < arrays.length; i++) {
+			offsets[i + 1] = doAddExact(offsets[i], arrays[i].length);
 		}
 		
-		return result;
+		final int length = offsets[arrays.length];
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return merge(arrays);
+		}
+		
+		final double[] mergedArray = new double[length];
+		
+		doMergeParallel(arrays, offsets, mergedArray);
+		
+		return mergedArray;
 	}
 	
 	/**
-	 * Returns a hash code based on the contents of {@code array}.
+	 * Returns a {@code double[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
 	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the {@code long[]} to compute a hash code for
-	 * @return a hash code based on the contents of {@code array}
+	 * @param array the {@code double[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code double[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double[] repeat(final double[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		if(array.length == 0 || repetition == 0) {
+			return new double[0];
+		} else if(array.length == 1) {
+			final double[] repeatedArray = new double[repetition];
+			
+			final double element = array[0];
+			
+			for(int i = 0; i < repetition; i++) {
+				repeatedArray[i] = element;
+			}
+			
+			return repeatedArray;
+		} else {
+			try {
+				final double[] repeatedArray = new double[Math.multiplyExact(repetition, array.length)];
+				
+				for(int i = 0; i < repetition; i++) {
+					System.arraycopy(array, 0, repeatedArray, i * array.length, array.length);
+				}
+				
+				return repeatedArray;
+			} catch(final ArithmeticException e) {
+				throw new IllegalArgumentException(e);
+			}
+		}
+	}
+	
+	/**
+	 * Returns a {@code double[]} with {@code array} repeated {@code repetition} times.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the repeated length is small, this method behaves like {@link #repeat(double[], int)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code double[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code double[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double[] repeatParallel(final double[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return repeat(array, repetition);
+		}
+		
+		final double[] repeatedArray = new double[length];
+		
+		if(array.length == 1) {
+			final double element = array[0];
+			
+			doParallelChunks(length).forEach(chunk -> java.util.Arrays.fill(repeatedArray, doParallelChunkFrom(chunk), doParallelChunkTo(chunk, length), element));
+		} else {
+			doRepeatParallel(array, array.length, repeatedArray, length);
+		}
+		
+		return repeatedArray;
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code double[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code double[]} with the result of the operation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.splice(array, offset, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the input {@code double[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @return a new {@code double[]} with the result of the operation
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double[] splice(final double[] array, final int offset) {
+		return splice(array, offset, array.length);
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code double[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code double[]} with the result of the operation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.splice(array, offset, length, new double[0]);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the input {@code double[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @return a new {@code double[]} with the result of the operation
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double[] splice(final double[] array, final int offset, final int length) {
+		return splice(array, offset, length, new double[0]);
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code double[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code double[]} with the result of the operation.
+	 * <p>
+	 * If either {@code array} or {@code arrayReplacement} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the input {@code double[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code double[]} that acts as replacement
+	 * @return a new {@code double[]} with the result of the operation
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code arrayReplacement} are {@code null}
+	 */
+	public static double[] splice(final double[] array, final int offset, final int length, final double[] arrayReplacement) {
+		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		
+		final double[] arrayA = array;
+		final double[] arrayB = arrayReplacement;
+		final double[] arrayC = array;
+		
+		final int arrayASrcPos = 0;
+		final int arrayALength = doSaturate(offset >= 0 ? offset : arrayA.length + offset, 0, arrayA.length);
+		
+		final int arrayBSrcPos = 0;
+		final int arrayBLength = arrayB.length;
+		
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : arrayC.length + length, arrayALength, arrayC.length);
+		final int arrayCLength = arrayC.length - arrayCSrcPos;
+		
+		final int arrayDSrcPos0 = 0;
+		final int arrayDSrcPos1 = arrayALength;
+		final int arrayDSrcPos2 = arrayALength + arrayBLength;
+		final int arrayDLength  = arrayA.length - (arrayCSrcPos - arrayALength) + arrayBLength;
+		
+		final double[] arrayD = new double[arrayDLength];
+		
+		System.arraycopy(arrayA, arrayASrcPos, arrayD, arrayDSrcPos0, arrayALength);
+		System.arraycopy(arrayB, arrayBSrcPos, arrayD, arrayDSrcPos1, arrayBLength);
+		System.arraycopy(arrayC, arrayCSrcPos, arrayD, arrayDSrcPos2, arrayCLength);
+		
+		return arrayD;
+	}
+	
+	/**
+	 * Returns a {@code double[]} representation of {@code objects} using {@code arrayFunction} as a converter.
+	 * <p>
+	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the total length of the results overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param <T> the generic type
+	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code double[]} instances
+	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code double[]} instances
+	 * @return a {@code double[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @throws IllegalArgumentException thrown if, and only if, the total length of the results overflows
+	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
+	 */
+	public static <T> double[] toDoubleArray(final List<T> objects, final Function<T, double[]> arrayFunction) {
+		doRequireNonNullList(objects, "objects");
+		
+		Objects.requireNonNull(arrayFunction, "arrayFunction == null");
+		
+		if(objects.isEmpty()) {
+			return new double[0];
+		}
+		
+		final double[][] arrays = new double[objects.size()][];
+		
+		int index = 0;
+		int length = 0;
+		
+		for(final T object : objects) {
+			final double[] array = Objects.requireNonNull(arrayFunction.apply(object), "arrayFunction.apply(object) == null");
+			
+			arrays[index++] = array;
+			
+			length = doAddExact(length, array.length);
+		}
+		
+		final double[] doubleArray = new double[length];
+		
+		merge(doubleArray, 0, arrays);
+		
+		return doubleArray;
+	}
+	
+	/**
+	 * Checks that {@code arrays} and all of its elements are not {@code null}.
+	 * <p>
+	 * Returns {@code arrays}.
+	 * <p>
+	 * If either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrays the {@code double[][]} to check
+	 * @param name the name of the parameter used for {@code arrays}, that will be part of the message to the {@code NullPointerException}
+	 * @return {@code arrays}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}
+	 */
+	public static double[][] requireNonNull(final double[][] arrays, final String name) {
+		Objects.requireNonNull(name, "name == null");
+		
+		if(arrays == null) {
+			throw new NullPointerException(String.format("%s == null", name));
+		}
+		
+		for(int i = 0; i < arrays.length; i++) {
+			if(arrays[i] == null) {
+				throw new NullPointerException(String.format("%s[%d] == null", name, Integer.valueOf(i)));
+			}
+		}
+		
+		return arrays;
+	}
+	
+	/**
+	 * Returns a {@code float[]} with the elements decoded from {@code byteArray} in big-endian byte order.
+	 * <p>
+	 * If {@code byteArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Float.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.decodeFloatArray(byteArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @return a {@code float[]} with the elements decoded from {@code byteArray} in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Float.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code byteArray} is {@code null}
+	 */
+	public static float[] decodeFloatArray(final byte[] byteArray) {
+		return decodeFloatArray(byteArray, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Returns a {@code float[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}.
+	 * <p>
+	 * Each element is decoded from {@code Float.BYTES} consecutive bytes. This is the inverse of {@link #encode(float[], ByteOrder)}.
+	 * <p>
+	 * If either {@code byteArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Float.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code float[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Float.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code byteArray} or {@code byteOrder} are {@code null}
+	 */
+	public static float[] decodeFloatArray(final byte[] byteArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(byteArray, "byteArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
+		
+		doRequireExact(byteArray.length % Float.BYTES, 0, "byteArray.length % Float.BYTES");
+		
+		final float[] floatArray = new float[byteArray.length / Float.BYTES];
+		
+		ByteBuffer.wrap(byteArray).order(byteOrder).asFloatBuffer().get(floatArray);
+		
+		return floatArray;
+	}
+	
+	/**
+	 * Returns a {@code float[]} with a length of {@code length} and elements generated by {@code function}.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param length the length of the {@code float[]}
+	 * @param function an {@link IntToFloatFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code float[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public static float[] generateFloatArray(final int length, final IntToFloatFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		
+		Objects.requireNonNull(function, "function == null");
+		
+		final float[] array = new float[length];
+		
+		for(int i = 0; i < length; i++) {
+			array[i] = function.applyAsFloat(i);
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns a {@code float[]} with a length of {@code length} and elements generated by {@code function}.
+	 * <p>
+	 * The elements are generated in parallel using the common {@code ForkJoinPool}, so {@code function} has to be thread-safe and should not depend on the order in which the indices are visited. If {@code length} is small, the elements are generated sequentially.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param length the length of the {@code float[]}
+	 * @param function an {@code IntToFloatFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code float[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public static float[] generateFloatArrayParallel(final int length, final IntToFloatFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		
+		Objects.requireNonNull(function, "function == null");
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return generateFloatArray(length, function);
+		}
+		
+		final float[] array = new float[length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, length); i < j; i++) {
+				array[i] = function.applyAsFloat(i);
+			}
+		});
+		
+		return array;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code float[]} instances in {@code arrays}.
+	 * <p>
+	 * Returns a new {@code float[]} with {@code arrays} merged.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrays the {@code float[][]} instance to combine into one {@code float[]}
+	 * @return a new {@code float[]} with {@code arrays} merged
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static float[] merge(final float[]... arrays) {
+		requireNonNull(arrays, "arrays");
+		
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream()) {
+			for(final float[] array : arrays) {
+				floatArrayOutputStream.write(array);
+			}
+			
+			return floatArrayOutputStream.toFloatArray();
+		}
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code float[]} instances in {@code arrays}.
+	 * <p>
+	 * Returns a new {@code float[]} with {@code arrays} merged.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the merged length is small, this method behaves like {@link #merge(float[]...)}.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the merged length is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param arrays the {@code float[][]} instance to combine into one {@code float[]}
+	 * @return a new {@code float[]} with {@code arrays} merged
+	 * @throws IllegalArgumentException thrown if, and only if, the merged length is greater than {@code Integer.MAX_VALUE}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static float[] mergeParallel(final float[]... arrays) {
+		requireNonNull(arrays, "arrays");
+		
+		final int[] offsets = new int[arrays.length + 1];
+		
+		for(int i = 0; i < arrays.length; i++) {
+			offsets[i + 1] = doAddExact(offsets[i], arrays[i].length);
+		}
+		
+		final int length = offsets[arrays.length];
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return merge(arrays);
+		}
+		
+		final float[] mergedArray = new float[length];
+		
+		doMergeParallel(arrays, offsets, mergedArray);
+		
+		return mergedArray;
+	}
+	
+	/**
+	 * Returns a {@code float[]} with {@code array} repeated {@code repetition} times.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code float[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] repeat(final float[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		if(array.length == 0 || repetition == 0) {
+			return new float[0];
+		} else if(array.length == 1) {
+			final float[] repeatedArray = new float[repetition];
+			
+			final float element = array[0];
+			
+			for(int i = 0; i < repetition; i++) {
+				repeatedArray[i] = element;
+			}
+			
+			return repeatedArray;
+		} else {
+			try {
+				final float[] repeatedArray = new float[Math.multiplyExact(repetition, array.length)];
+				
+				for(int i = 0; i < repetition; i++) {
+					System.arraycopy(array, 0, repeatedArray, i * array.length, array.length);
+				}
+				
+				return repeatedArray;
+			} catch(final ArithmeticException e) {
+				throw new IllegalArgumentException(e);
+			}
+		}
+	}
+	
+	/**
+	 * Returns a {@code float[]} with {@code array} repeated {@code repetition} times.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the repeated length is small, this method behaves like {@link #repeat(float[], int)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code float[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] repeatParallel(final float[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return repeat(array, repetition);
+		}
+		
+		final float[] repeatedArray = new float[length];
+		
+		if(array.length == 1) {
+			final float element = array[0];
+			
+			doParallelChunks(length).forEach(chunk -> java.util.Arrays.fill(repeatedArray, doParallelChunkFrom(chunk), doParallelChunkTo(chunk, length), element));
+		} else {
+			doRepeatParallel(array, array.length, repeatedArray, length);
+		}
+		
+		return repeatedArray;
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code float[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code float[]} with the result of the operation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.splice(array, offset, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the input {@code float[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @return a new {@code float[]} with the result of the operation
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] splice(final float[] array, final int offset) {
+		return splice(array, offset, array.length);
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code float[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code float[]} with the result of the operation.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.splice(array, offset, length, new float[0]);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the input {@code float[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @return a new {@code float[]} with the result of the operation
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] splice(final float[] array, final int offset, final int length) {
+		return splice(array, offset, length, new float[0]);
+	}
+	
+	/**
+	 * Performs a splice operation on the {@code float[]} instance {@code array}.
+	 * <p>
+	 * Returns a new {@code float[]} with the result of the operation.
+	 * <p>
+	 * If either {@code array} or {@code arrayReplacement} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the input {@code float[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code float[]} that acts as replacement
+	 * @return a new {@code float[]} with the result of the operation
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code arrayReplacement} are {@code null}
+	 */
+	public static float[] splice(final float[] array, final int offset, final int length, final float[] arrayReplacement) {
+		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		
+		final float[] arrayA = array;
+		final float[] arrayB = arrayReplacement;
+		final float[] arrayC = array;
+		
+		final int arrayASrcPos = 0;
+		final int arrayALength = doSaturate(offset >= 0 ? offset : arrayA.length + offset, 0, arrayA.length);
+		
+		final int arrayBSrcPos = 0;
+		final int arrayBLength = arrayB.length;
+		
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : arrayC.length + length, arrayALength, arrayC.length);
+		final int arrayCLength = arrayC.length - arrayCSrcPos;
+		
+		final int arrayDSrcPos0 = 0;
+		final int arrayDSrcPos1 = arrayALength;
+		final int arrayDSrcPos2 = arrayALength + arrayBLength;
+		final int arrayDLength  = arrayA.length - (arrayCSrcPos - arrayALength) + arrayBLength;
+		
+		final float[] arrayD = new float[arrayDLength];
+		
+		System.arraycopy(arrayA, arrayASrcPos, arrayD, arrayDSrcPos0, arrayALength);
+		System.arraycopy(arrayB, arrayBSrcPos, arrayD, arrayDSrcPos1, arrayBLength);
+		System.arraycopy(arrayC, arrayCSrcPos, arrayD, arrayDSrcPos2, arrayCLength);
+		
+		return arrayD;
+	}
+	
+	/**
+	 * Returns a {@code float[]} representation of {@code objects} using {@code arrayFunction} as a converter.
+	 * <p>
+	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the total length of the results overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param <T> the generic type
+	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code float[]} instances
+	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code float[]} instances
+	 * @return a {@code float[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @throws IllegalArgumentException thrown if, and only if, the total length of the results overflows
+	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
+	 */
+	public static <T> float[] toFloatArray(final List<T> objects, final Function<T, float[]> arrayFunction) {
+		doRequireNonNullList(objects, "objects");
+		
+		Objects.requireNonNull(arrayFunction, "arrayFunction == null");
+		
+		if(objects.isEmpty()) {
+			return new float[0];
+		}
+		
+		final float[][] arrays = new float[objects.size()][];
+		
+		int index = 0;
+		int length = 0;
+		
+		for(final T object : objects) {
+			final float[] array = Objects.requireNonNull(arrayFunction.apply(object), "arrayFunction.apply(object) == null");
+			
+			arrays[index++] = array;
+			
+			length = doAddExact(length, array.length);
+		}
+		
+		final float[] floatArray = new float[length];
+		
+		merge(floatArray, 0, arrays);
+		
+		return floatArray;
+	}
+	
+	/**
+	 * Checks that {@code arrays} and all of its elements are not {@code null}.
+	 * <p>
+	 * Returns {@code arrays}.
+	 * <p>
+	 * If either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param arrays the {@code float[][]} to check
+	 * @param name the name of the parameter used for {@code arrays}, that will be part of the message to the {@code NullPointerException}
+	 * @return {@code arrays}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays}, an element in {@code arrays} or {@code name} are {@code null}
+	 */
+	public static float[][] requireNonNull(final float[][] arrays, final String name) {
+		Objects.requireNonNull(name, "name == null");
+		
+		if(arrays == null) {
+			throw new NullPointerException(String.format("%s == null", name));
+		}
+		
+		for(int i = 0; i < arrays.length; i++) {
+			if(arrays[i] == null) {
+				throw new NullPointerException(String.format("%s[%d] == null", name, Integer.valueOf(i)));
+			}
+		}
+		
+		return arrays;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code boolean[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCode(final boolean[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int result = 1;
+		
+		for(final boolean element : array) {
+			result = 31 * result + (element ? 1231 : 1237);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code byte[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCode(final byte[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int result = 1;
+		
+		for(final byte element : array) {
+			result = 31 * result + element;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code char[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCode(final char[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int result = 1;
+		
+		for(final char element : array) {
+			result = 31 * result + element;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code double[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCode(final double[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int result = 1;
+		
+		for(final double element : array) {
+			final long bits = Double.doubleToLongBits(element);
+			
+			result = 31 * result + (int)(bits ^ (bits >>> 32L));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCode(final float[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int result = 1;
+		
+		for(final float element : array) {
+			result = 31 * result + Float.floatToIntBits(element);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code int[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCode(final int[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int result = 1;
+		
+		for(final int element : array) {
+			result = 31 * result + element;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code long[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCode(final long[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int result = 1;
+		
+		for(final long element : array) {
+			result = 31 * result + (int)(element ^ (element >>> 32L));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code short[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCode(final short[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int result = 1;
+		
+		for(final short element : array) {
+			result = 31 * result + element;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * The hash code is computed in parallel using the common {@code ForkJoinPool} and is equal to the one returned by {@link #hashCode(boolean[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code boolean[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCodeParallel(final boolean[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(array.length <= PARALLEL_THRESHOLD) {
+			return hashCode(array);
+		}
+		
+		final int[] hashCodes = new int[doParallelChunkCount(array.length)];
+		
+		doParallelChunks(array.length).forEach(chunk -> {
+			int result = 0;
+			
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, array.length); i < j; i++) {
+				result = 31 * result + Boolean.hashCode(array[i]);
+			}
+			
+			hashCodes[chunk] = result;
+		});
+		
+		return doCombineHashCodes(hashCodes, array.length);
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * The hash code is computed in parallel using the common {@code ForkJoinPool} and is equal to the one returned by {@link #hashCode(byte[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code byte[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCodeParallel(final byte[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(array.length <= PARALLEL_THRESHOLD) {
+			return hashCode(array);
+		}
+		
+		final int[] hashCodes = new int[doParallelChunkCount(array.length)];
+		
+		doParallelChunks(array.length).forEach(chunk -> {
+			int result = 0;
+			
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, array.length); i < j; i++) {
+				result = 31 * result + array[i];
+			}
+			
+			hashCodes[chunk] = result;
+		});
+		
+		return doCombineHashCodes(hashCodes, array.length);
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * The hash code is computed in parallel using the common {@code ForkJoinPool} and is equal to the one returned by {@link #hashCode(char[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code char[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCodeParallel(final char[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(array.length <= PARALLEL_THRESHOLD) {
+			return hashCode(array);
+		}
+		
+		final int[] hashCodes = new int[doParallelChunkCount(array.length)];
+		
+		doParallelChunks(array.length).forEach(chunk -> {
+			int result = 0;
+			
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, array.length); i < j; i++) {
+				result = 31 * result + array[i];
+			}
+			
+			hashCodes[chunk] = result;
+		});
+		
+		return doCombineHashCodes(hashCodes, array.length);
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * The hash code is computed in parallel using the common {@code ForkJoinPool} and is equal to the one returned by {@link #hashCode(double[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code double[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCodeParallel(final double[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(array.length <= PARALLEL_THRESHOLD) {
+			return hashCode(array);
+		}
+		
+		final int[] hashCodes = new int[doParallelChunkCount(array.length)];
+		
+		doParallelChunks(array.length).forEach(chunk -> {
+			int result = 0;
+			
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, array.length); i < j; i++) {
+				result = 31 * result + Double.hashCode(array[i]);
+			}
+			
+			hashCodes[chunk] = result;
+		});
+		
+		return doCombineHashCodes(hashCodes, array.length);
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * The hash code is computed in parallel using the common {@code ForkJoinPool} and is equal to the one returned by {@link #hashCode(float[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCodeParallel(final float[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(array.length <= PARALLEL_THRESHOLD) {
+			return hashCode(array);
+		}
+		
+		final int[] hashCodes = new int[doParallelChunkCount(array.length)];
+		
+		doParallelChunks(array.length).forEach(chunk -> {
+			int result = 0;
+			
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, array.length); i < j; i++) {
+				result = 31 * result + Float.hashCode(array[i]);
+			}
+			
+			hashCodes[chunk] = result;
+		});
+		
+		return doCombineHashCodes(hashCodes, array.length);
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * The hash code is computed in parallel using the common {@code ForkJoinPool} and is equal to the one returned by {@link #hashCode(int[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code int[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCodeParallel(final int[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(array.length <= PARALLEL_THRESHOLD) {
+			return hashCode(array);
+		}
+		
+		final int[] hashCodes = new int[doParallelChunkCount(array.length)];
+		
+		doParallelChunks(array.length).forEach(chunk -> {
+			int result = 0;
+			
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, array.length); i < j; i++) {
+				result = 31 * result + array[i];
+			}
+			
+			hashCodes[chunk] = result;
+		});
+		
+		return doCombineHashCodes(hashCodes, array.length);
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * The hash code is computed in parallel using the common {@code ForkJoinPool} and is equal to the one returned by {@link #hashCode(long[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code long[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCodeParallel(final long[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(array.length <= PARALLEL_THRESHOLD) {
+			return hashCode(array);
+		}
+		
+		final int[] hashCodes = new int[doParallelChunkCount(array.length)];
+		
+		doParallelChunks(array.length).forEach(chunk -> {
+			int result = 0;
+			
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, array.length); i < j; i++) {
+				result = 31 * result + Long.hashCode(array[i]);
+			}
+			
+			hashCodes[chunk] = result;
+		});
+		
+		return doCombineHashCodes(hashCodes, array.length);
+	}
+	
+	/**
+	 * Returns a hash code based on the contents of {@code array}.
+	 * <p>
+	 * The hash code is computed in parallel using the common {@code ForkJoinPool} and is equal to the one returned by {@link #hashCode(short[])}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the {@code short[]} to compute a hash code for
+	 * @return a hash code based on the contents of {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int hashCodeParallel(final short[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(array.length <= PARALLEL_THRESHOLD) {
+			return hashCode(array);
+		}
+		
+		final int[] hashCodes = new int[doParallelChunkCount(array.length)];
+		
+		doParallelChunks(array.length).forEach(chunk -> {
+			int result = 0;
+			
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, array.length); i < j; i++) {
+				result = 31 * result + array[i];
+			}
+			
+			hashCodes[chunk] = result;
+		});
+		
+		return doCombineHashCodes(hashCodes, array.length);
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param value the {@code boolean} value to find the index for
+	 * @param array the {@code boolean[]} to search for {@code value} in
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int indexOf(final boolean value, final boolean[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			if(array[i] == value) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * 
+	 * @param value the {@code boolean[]} value to find the index for
+	 * @param array the {@code boolean[]} to search for {@code value} in
+	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
+	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 */
+	public static int indexOf(final boolean[] value, final boolean[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
+		Objects.requireNonNull(value, "value == null");
+		Objects.requireNonNull(array, "array == null");
+		
+		if(value.length == 0 || array.length == 0) {
+			return -1;
+		}
+		
+		if(isIncrementingByValueLength) {
+			doRequireExact(array.length % value.length, 0, "array.length % value.length");
+		}
+		
+		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
+		final int length = isIncrementingByValueLength ? value.length : 1;
+		
+		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
+			if(array.length < indexAbsolute + value.length) {
+				return -1;
+			}
+			
+			if(equals(array, value, indexAbsolute, 0, value.length)) {
+				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param value the {@code byte} value to find the index for
+	 * @param array the {@code byte[]} to search for {@code value} in
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int indexOf(final byte value, final byte[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		int i = 0;
+		
+		if(array.length >= Long.BYTES * 2) {
+			final ByteBuffer byteBuffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+			
+			final long pattern = (value & 0xFFL) * 0x0101010101010101L;
+			
+			for(; i <= array.length - Long.BYTES; i += Long.BYTES) {
+				final long word = byteBuffer.getLong(i) ^ pattern;
+				final long zero = (word - 0x0101010101010101L) & ~word & 0x8080808080808080L;
+				
+				if(zero != 0L) {
+					return i + (Long.numberOfTrailingZeros(zero) >>> 3);
+				}
+			}
+		}
+		
+		for(; i < array.length; i++) {
+			if(array[i] == value) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * 
+	 * @param value the {@code byte[]} value to find the index for
+	 * @param array the {@code byte[]} to search for {@code value} in
+	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
+	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 */
+	public static int indexOf(final byte[] value, final byte[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
+		Objects.requireNonNull(value, "value == null");
+		Objects.requireNonNull(array, "array == null");
+		
+		if(value.length == 0 || array.length == 0) {
+			return -1;
+		}
+		
+		if(isIncrementingByValueLength) {
+			doRequireExact(array.length % value.length, 0, "array.length % value.length");
+		}
+		
+		if(!isIncrementingByValueLength && value.length > 1 && array.length >= SEARCH_THRESHOLD) {
+			return doIndexOfHorspool(value, array);
+		}
+		
+		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
+		final int length = isIncrementingByValueLength ? value.length : 1;
+		
+		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
+			if(array.length < indexAbsolute + value.length) {
+				return -1;
+			}
+			
+			if(equals(array, value, indexAbsolute, 0, value.length)) {
+				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param value the {@code char} value to find the index for
+	 * @param array the {@code char[]} to search for {@code value} in
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int indexOf(final char value, final char[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			if(array[i] == value) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * 
+	 * @param value the {@code char[]} value to find the index for
+	 * @param array the {@code char[]} to search for {@code value} in
+	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
+	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 */
+	public static int indexOf(final char[] value, final char[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
+		Objects.requireNonNull(value, "value == null");
+		Objects.requireNonNull(array, "array == null");
+		
+		if(value.length == 0 || array.length == 0) {
+			return -1;
+		}
+		
+		if(isIncrementingByValueLength) {
+			doRequireExact(array.length % value.length, 0, "array.length % value.length");
+		}
+		
+		if(!isIncrementingByValueLength && value.length > 1 && array.length >= SEARCH_THRESHOLD) {
+			return doIndexOfHorspool(value, array);
+		}
+		
+		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
+		final int length = isIncrementingByValueLength ? value.length : 1;
+		
+		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
+			if(array.length < indexAbsolute + value.length) {
+				return -1;
+			}
+			
+			if(equals(array, value, indexAbsolute, 0, value.length)) {
+				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param value the {@code double} value to find the index for
+	 * @param array the {@code double[]} to search for {@code value} in
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int indexOf(final double value, final double[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			if(Double.compare(array[i], value) == 0) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * 
+	 * @param value the {@code double[]} value to find the index for
+	 * @param array the {@code double[]} to search for {@code value} in
+	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
+	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 */
+	public static int indexOf(final double[] value, final double[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
+		Objects.requireNonNull(value, "value == null");
+		Objects.requireNonNull(array, "array == null");
+		
+		if(value.length == 0 || array.length == 0) {
+			return -1;
+		}
+		
+		if(isIncrementingByValueLength) {
+			doRequireExact(array.length % value.length, 0, "array.length % value.length");
+		}
+		
+		if(!isIncrementingByValueLength && value.length > 1 && array.length >= SEARCH_THRESHOLD) {
+			return doIndexOfHorspool(value, array);
+		}
+		
+		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
+		final int length = isIncrementingByValueLength ? value.length : 1;
+		
+		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
+			if(array.length < indexAbsolute + value.length) {
+				return -1;
+			}
+			
+			if(equals(array, value, indexAbsolute, 0, value.length)) {
+				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param value the {@code float} value to find the index for
+	 * @param array the {@code float[]} to search for {@code value} in
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int indexOf(final float value, final float[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			if(Float.compare(array[i], value) == 0) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * 
+	 * @param value the {@code float[]} value to find the index for
+	 * @param array the {@code float[]} to search for {@code value} in
+	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
+	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 */
+	public static int indexOf(final float[] value, final float[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
+		Objects.requireNonNull(value, "value == null");
+		Objects.requireNonNull(array, "array == null");
+		
+		if(value.length == 0 || array.length == 0) {
+			return -1;
+		}
+		
+		if(isIncrementingByValueLength) {
+			doRequireExact(array.length % value.length, 0, "array.length % value.length");
+		}
+		
+		if(!isIncrementingByValueLength && value.length > 1 && array.length >= SEARCH_THRESHOLD) {
+			return doIndexOfHorspool(value, array);
+		}
+		
+		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
+		final int length = isIncrementingByValueLength ? value.length : 1;
+		
+		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
+			if(array.length < indexAbsolute + value.length) {
+				return -1;
+			}
+			
+			if(equals(array, value, indexAbsolute, 0, value.length)) {
+				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param value the {@code int} value to find the index for
+	 * @param array the {@code int[]} to search for {@code value} in
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int indexOf(final int value, final int[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			if(array[i] == value) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * 
+	 * @param value the {@code int[]} value to find the index for
+	 * @param array the {@code int[]} to search for {@code value} in
+	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
+	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 */
+	public static int indexOf(final int[] value, final int[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
+		Objects.requireNonNull(value, "value == null");
+		Objects.requireNonNull(array, "array == null");
+		
+		if(value.length == 0 || array.length == 0) {
+			return -1;
+		}
+		
+		if(isIncrementingByValueLength) {
+			doRequireExact(array.length % value.length, 0, "array.length % value.length");
+		}
+		
+		if(!isIncrementingByValueLength && value.length > 1 && array.length >= SEARCH_THRESHOLD) {
+			return doIndexOfHorspool(value, array);
+		}
+		
+		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
+		final int length = isIncrementingByValueLength ? value.length : 1;
+		
+		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
+			if(array.length < indexAbsolute + value.length) {
+				return -1;
+			}
+			
+			if(equals(array, value, indexAbsolute, 0, value.length)) {
+				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param value the {@code long} value to find the index for
+	 * @param array the {@code long[]} to search for {@code value} in
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int indexOf(final long value, final long[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			if(array[i] == value) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * 
+	 * @param value the {@code long[]} value to find the index for
+	 * @param array the {@code long[]} to search for {@code value} in
+	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
+	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 */
+	public static int indexOf(final long[] value, final long[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
+		Objects.requireNonNull(value, "value == null");
+		Objects.requireNonNull(array, "array == null");
+		
+		if(value.length == 0 || array.length == 0) {
+			return -1;
+		}
+		
+		if(isIncrementingByValueLength) {
+			doRequireExact(array.length % value.length, 0, "array.length % value.length");
+		}
+		
+		if(!isIncrementingByValueLength && value.length > 1 && array.length >= SEARCH_THRESHOLD) {
+			return doIndexOfHorspool(value, array);
+		}
+		
+		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
+		final int length = isIncrementingByValueLength ? value.length : 1;
+		
+		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
+			if(array.length < indexAbsolute + value.length) {
+				return -1;
+			}
+			
+			if(equals(array, value, indexAbsolute, 0, value.length)) {
+				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param value the {@code short} value to find the index for
+	 * @param array the {@code short[]} to search for {@code value} in
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
 	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
 	 */
-	public static int hashCode(final long[] array) {
-		Objects.requireNonNull(array, "array == null");
+	public static int indexOf(final short value, final short[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			if(array[i] == value) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * <p>
+	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * <p>
+	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * 
+	 * @param value the {@code short[]} value to find the index for
+	 * @param array the {@code short[]} to search for {@code value} in
+	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
+	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
+	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
+	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 */
+	public static int indexOf(final short[] value, final short[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
+		Objects.requireNonNull(value, "value == null");
+		Objects.requireNonNull(array, "array == null");
+		
+		if(value.length == 0 || array.length == 0) {
+			return -1;
+		}
+		
+		if(isIncrementingByValueLength) {
+			doRequireExact(array.length % value.length, 0, "array.length % value.length");
+		}
+		
+		if(!isIncrementingByValueLength && value.length > 1 && array.length >= SEARCH_THRESHOLD) {
+			return doIndexOfHorspool(value, array);
+		}
+		
+		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
+		final int length = isIncrementingByValueLength ? value.length : 1;
+		
+		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
+			if(array.length < indexAbsolute + value.length) {
+				return -1;
+			}
+			
+			if(equals(array, value, indexAbsolute, 0, value.length)) {
+				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code boolean[]} instances in {@code arrays} and writes the result to {@code destination}, starting at {@code destinationOffset}.
+	 * <p>
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * No array is allocated by this method, except for the {@code boolean[][]} that may be created by the caller to hold the variable arguments.
+	 * <p>
+	 * If either {@code destination}, {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param destination the {@code boolean[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @param arrays the {@code boolean[][]} instance to combine
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code destination}, {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int merge(final boolean[] destination, final int destinationOffset, final boolean[]... arrays) {
+		Objects.requireNonNull(destination, "destination == null");
+		
+		requireNonNull(arrays, "arrays");
+		
+		int length = 0;
+		
+		for(final boolean[] array : arrays) {
+			length = doAddExact(length, array.length);
+		}
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		for(int i = 0, position = destinationOffset; i < arrays.length; position += arrays[i].length, i++) {
+			System.arraycopy(arrays[i], 0, destination, position, arrays[i].length);
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code byte[]} instances in {@code arrays} and writes the result to {@code destination}, starting at {@code destinationOffset}.
+	 * <p>
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * No array is allocated by this method, except for the {@code byte[][]} that may be created by the caller to hold the variable arguments.
+	 * <p>
+	 * If either {@code destination}, {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param destination the {@code byte[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @param arrays the {@code byte[][]} instance to combine
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code destination}, {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int merge(final byte[] destination, final int destinationOffset, final byte[]... arrays) {
+		Objects.requireNonNull(destination, "destination == null");
+		
+		requireNonNull(arrays, "arrays");
+		
+		int length = 0;
+		
+		for(final byte[] array : arrays) {
+			length = doAddExact(length, array.length);
+		}
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		for(int i = 0, position = destinationOffset; i < arrays.length; position += arrays[i].length, i++) {
+			System.arraycopy(arrays[i], 0, destination, position, arrays[i].length);
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code char[]} instances in {@code arrays} and writes the result to {@code destination}, starting at {@code destinationOffset}.
+	 * <p>
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * No array is allocated by this method, except for the {@code char[][]} that may be created by the caller to hold the variable arguments.
+	 * <p>
+	 * If either {@code destination}, {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param destination the {@code char[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @param arrays the {@code char[][]} instance to combine
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code destination}, {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int merge(final char[] destination, final int destinationOffset, final char[]... arrays) {
+		Objects.requireNonNull(destination, "destination == null");
+		
+		requireNonNull(arrays, "arrays");
+		
+		int length = 0;
+		
+		for(final char[] array : arrays) {
+			length = doAddExact(length, array.length);
+		}
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		for(int i = 0, position = destinationOffset; i < arrays.length; position += arrays[i].length, i++) {
+			System.arraycopy(arrays[i], 0, destination, position, arrays[i].length);
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code double[]} instances in {@code arrays} and writes the result to {@code destination}, starting at {@code destinationOffset}.
+	 * <p>
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * No array is allocated by this method, except for the {@code double[][]} that may be created by the caller to hold the variable arguments.
+	 * <p>
+	 * If either {@code destination}, {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param destination the {@code double[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @param arrays the {@code double[][]} instance to combine
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code destination}, {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int merge(final double[] destination, final int destinationOffset, final double[]... arrays) {
+		Objects.requireNonNull(destination, "destination == null");
+		
+		requireNonNull(arrays, "arrays");
+		
+		int length = 0;
+		
+		for(final double[] array : arrays) {
+			length = doAddExact(length, array.length);
+		}
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		for(int i = 0, position = destinationOffset; i < arrays.length; position += arrays[i].length, i++) {
+			System.arraycopy(arrays[i], 0, destination, position, arrays[i].length);
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code float[]} instances in {@code arrays} and writes the result to {@code destination}, starting at {@code destinationOffset}.
+	 * <p>
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * No array is allocated by this method, except for the {@code float[][]} that may be created by the caller to hold the variable arguments.
+	 * <p>
+	 * If either {@code destination}, {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param destination the {@code float[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @param arrays the {@code float[][]} instance to combine
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code destination}, {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int merge(final float[] destination, final int destinationOffset, final float[]... arrays) {
+		Objects.requireNonNull(destination, "destination == null");
+		
+		requireNonNull(arrays, "arrays");
+		
+		int length = 0;
+		
+		for(final float[] array : arrays) {
+			length = doAddExact(length, array.length);
+		}
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		for(int i = 0, position = destinationOffset; i < arrays.length; position += arrays[i].length, i++) {
+			System.arraycopy(arrays[i], 0, destination, position, arrays[i].length);
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code int[]} instances in {@code arrays} and writes the result to {@code destination}, starting at {@code destinationOffset}.
+	 * <p>
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * No array is allocated by this method, except for the {@code int[][]} that may be created by the caller to hold the variable arguments.
+	 * <p>
+	 * If either {@code destination}, {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param destination the {@code int[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @param arrays the {@code int[][]} instance to combine
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code destination}, {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int merge(final int[] destination, final int destinationOffset, final int[]... arrays) {
+		Objects.requireNonNull(destination, "destination == null");
+		
+		requireNonNull(arrays, "arrays");
+		
+		int length = 0;
+		
+		for(final int[] array : arrays) {
+			length = doAddExact(length, array.length);
+		}
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		for(int i = 0, position = destinationOffset; i < arrays.length; position += arrays[i].length, i++) {
+			System.arraycopy(arrays[i], 0, destination, position, arrays[i].length);
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code long[]} instances in {@code arrays} and writes the result to {@code destination}, starting at {@code destinationOffset}.
+	 * <p>
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * No array is allocated by this method, except for the {@code long[][]} that may be created by the caller to hold the variable arguments.
+	 * <p>
+	 * If either {@code destination}, {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param destination the {@code long[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @param arrays the {@code long[][]} instance to combine
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code destination}, {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int merge(final long[] destination, final int destinationOffset, final long[]... arrays) {
+		Objects.requireNonNull(destination, "destination == null");
+		
+		requireNonNull(arrays, "arrays");
+		
+		int length = 0;
+		
+		for(final long[] array : arrays) {
+			length = doAddExact(length, array.length);
+		}
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		for(int i = 0, position = destinationOffset; i < arrays.length; position += arrays[i].length, i++) {
+			System.arraycopy(arrays[i], 0, destination, position, arrays[i].length);
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Performs a merge operation on the {@code short[]} instances in {@code arrays} and writes the result to {@code destination}, starting at {@code destinationOffset}.
+	 * <p>
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * No array is allocated by this method, except for the {@code short[][]} that may be created by the caller to hold the variable arguments.
+	 * <p>
+	 * If either {@code destination}, {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param destination the {@code short[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @param arrays the {@code short[][]} instance to combine
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length}, the merged length overflows or the merged length is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code destination}, {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int merge(final short[] destination, final int destinationOffset, final short[]... arrays) {
+		Objects.requireNonNull(destination, "destination == null");
 		
-		int result = 1;
+		requireNonNull(arrays, "arrays");
 		
-		for(final long element : array) {
-			result = 31 * result + (int)(element ^ (element >>> 32L));
+		int length = 0;
+		
+		for(final short[] array : arrays) {
+			length = doAddExact(length, array.length);
 		}
 		
-		return result;
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		for(int i = 0, position = destinationOffset; i < arrays.length; position += arrays[i].length, i++) {
+			System.arraycopy(arrays[i], 0, destination, position, arrays[i].length);
+		}
+		
+		return length;
 	}
 	
 	/**
-	 * Returns a hash code based on the contents of {@code array}.
+	 * Writes {@code array} repeated {@code repetition} times to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * If either {@code array} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param array the {@code short[]} to compute a hash code for
-	 * @return a hash code based on the contents of {@code array}
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the {@code boolean[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @param destination the {@code boolean[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code destination} are {@code null}
 	 */
-	public static int hashCode(final short[] array) {
+	public static int repeat(final boolean[] array, final int repetition, final boolean[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		int result = 1;
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
 		
-		for(final short element : array) {
-			result = 31 * result + element;
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		if(array.length == 1) {
+			java.util.Arrays.fill(destination, destinationOffset, destinationOffset + length, array[0]);
+		} else if(array.length > 1) {
+			for(int i = 0; i < repetition; i++) {
+				System.arraycopy(array, 0, destination, destinationOffset + i * array.length, array.length);
+			}
 		}
 		
-		return result;
+		return length;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Writes {@code array} repeated {@code repetition} times to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * If either {@code array} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code boolean} value to find the index for
-	 * @param array the {@code boolean[]} to search for {@code value} in
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the {@code byte[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @param destination the {@code byte[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final boolean value, final boolean[] array) {
+	public static int repeat(final byte[] array, final int repetition, final byte[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		for(int i = 0; i < array.length; i++) {
-			if(array[i] == value) {
-				return i;
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		if(array.length == 1) {
+			java.util.Arrays.fill(destination, destinationOffset, destinationOffset + length, array[0]);
+		} else if(array.length > 1) {
+			for(int i = 0; i < repetition; i++) {
+				System.arraycopy(array, 0, destination, destinationOffset + i * array.length, array.length);
 			}
 		}
 		
-		return -1;
+		return length;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
-	 * <p>
-	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Writes {@code array} repeated {@code repetition} times to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * Returns the number of elements written to {@code destination}.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * If either {@code array} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * If {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code boolean[]} value to find the index for
-	 * @param array the {@code boolean[]} to search for {@code value} in
-	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
-	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
-	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 * @param array the {@code char[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @param destination the {@code char[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final boolean[] value, final boolean[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
-		Objects.requireNonNull(value, "value == null");
+	public static int repeat(final char[] array, final int repetition, final char[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		if(value.length == 0 || array.length == 0) {
-			return -1;
-		}
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
 		
-		if(isIncrementingByValueLength) {
-			doRequireExact(array.length % value.length, 0, "array.length % value.length");
-		}
+		final int length = doMultiplyExact(array.length, repetition);
 		
-		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
-		final int length = isIncrementingByValueLength ? value.length : 1;
+		doRequireDestination(destination.length, destinationOffset, length);
 		
-		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
-			if(array.length < indexAbsolute + value.length) {
-				return -1;
-			}
-			
-			if(equals(array, value, indexAbsolute, 0, value.length)) {
-				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+		if(array.length == 1) {
+			java.util.Arrays.fill(destination, destinationOffset, destinationOffset + length, array[0]);
+		} else if(array.length > 1) {
+			for(int i = 0; i < repetition; i++) {
+				System.arraycopy(array, 0, destination, destinationOffset + i * array.length, array.length);
 			}
 		}
 		
-		return -1;
+		return length;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Writes {@code array} repeated {@code repetition} times to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * If either {@code array} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code byte} value to find the index for
-	 * @param array the {@code byte[]} to search for {@code value} in
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the {@code double[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @param destination the {@code double[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final byte value, final byte[] array) {
+	public static int repeat(final double[] array, final int repetition, final double[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		for(int i = 0; i < array.length; i++) {
-			if(array[i] == value) {
-				return i;
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		if(array.length == 1) {
+			java.util.Arrays.fill(destination, destinationOffset, destinationOffset + length, array[0]);
+		} else if(array.length > 1) {
+			for(int i = 0; i < repetition; i++) {
+				System.arraycopy(array, 0, destination, destinationOffset + i * array.length, array.length);
 			}
 		}
 		
-		return -1;
+		return length;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
-	 * <p>
-	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Writes {@code array} repeated {@code repetition} times to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * Returns the number of elements written to {@code destination}.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * If either {@code array} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * If {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code byte[]} value to find the index for
-	 * @param array the {@code byte[]} to search for {@code value} in
-	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
-	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
-	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 * @param array the {@code float[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @param destination the {@code float[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final byte[] value, final byte[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
-		Objects.requireNonNull(value, "value == null");
+	public static int repeat(final float[] array, final int repetition, final float[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		if(value.length == 0 || array.length == 0) {
-			return -1;
-		}
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
 		
-		if(isIncrementingByValueLength) {
-			doRequireExact(array.length % value.length, 0, "array.length % value.length");
-		}
+		final int length = doMultiplyExact(array.length, repetition);
 		
-		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
-		final int length = isIncrementingByValueLength ? value.length : 1;
+		doRequireDestination(destination.length, destinationOffset, length);
 		
-		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
-			if(array.length < indexAbsolute + value.length) {
-				return -1;
-			}
-			
-			if(equals(array, value, indexAbsolute, 0, value.length)) {
-				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+		if(array.length == 1) {
+			java.util.Arrays.fill(destination, destinationOffset, destinationOffset + length, array[0]);
+		} else if(array.length > 1) {
+			for(int i = 0; i < repetition; i++) {
+				System.arraycopy(array, 0, destination, destinationOffset + i * array.length, array.length);
 			}
 		}
 		
-		return -1;
+		return length;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Writes {@code array} repeated {@code repetition} times to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * If either {@code array} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code char} value to find the index for
-	 * @param array the {@code char[]} to search for {@code value} in
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the {@code int[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @param destination the {@code int[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final char value, final char[] array) {
+	public static int repeat(final int[] array, final int repetition, final int[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		for(int i = 0; i < array.length; i++) {
-			if(array[i] == value) {
-				return i;
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		if(array.length == 1) {
+			java.util.Arrays.fill(destination, destinationOffset, destinationOffset + length, array[0]);
+		} else if(array.length > 1) {
+			for(int i = 0; i < repetition; i++) {
+				System.arraycopy(array, 0, destination, destinationOffset + i * array.length, array.length);
 			}
 		}
 		
-		return -1;
+		return length;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
-	 * <p>
-	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Writes {@code array} repeated {@code repetition} times to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * Returns the number of elements written to {@code destination}.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * If either {@code array} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * If {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code char[]} value to find the index for
-	 * @param array the {@code char[]} to search for {@code value} in
-	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
-	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
-	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 * @param array the {@code long[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @param destination the {@code long[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final char[] value, final char[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
-		Objects.requireNonNull(value, "value == null");
+	public static int repeat(final long[] array, final int repetition, final long[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		if(value.length == 0 || array.length == 0) {
-			return -1;
-		}
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
 		
-		if(isIncrementingByValueLength) {
-			doRequireExact(array.length % value.length, 0, "array.length % value.length");
-		}
+		final int length = doMultiplyExact(array.length, repetition);
 		
-		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
-		final int length = isIncrementingByValueLength ? value.length : 1;
+		doRequireDestination(destination.length, destinationOffset, length);
 		
-		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
-			if(array.length < indexAbsolute + value.length) {
-				return -1;
-			}
-			
-			if(equals(array, value, indexAbsolute, 0, value.length)) {
-				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
+		if(array.length == 1) {
+			java.util.Arrays.fill(destination, destinationOffset, destinationOffset + length, array[0]);
+		} else if(array.length > 1) {
+			for(int i = 0; i < repetition; i++) {
+				System.arraycopy(array, 0, destination, destinationOffset + i * array.length, array.length);
 			}
 		}
 		
-		return -1;
+		return length;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Writes {@code array} repeated {@code repetition} times to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * If either {@code array} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code double} value to find the index for
-	 * @param array the {@code double[]} to search for {@code value} in
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the {@code short[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @param destination the {@code short[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0}, {@code array.length * repetition} overflows, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or {@code array.length * repetition} is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final double value, final double[] array) {
+	public static int repeat(final short[] array, final int repetition, final short[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		for(int i = 0; i < array.length; i++) {
-			if(Double.compare(array[i], value) == 0) {
-				return i;
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		doRequireDestination(destination.length, destinationOffset, length);
+		
+		if(array.length == 1) {
+			java.util.Arrays.fill(destination, destinationOffset, destinationOffset + length, array[0]);
+		} else if(array.length > 1) {
+			for(int i = 0; i < repetition; i++) {
+				System.arraycopy(array, 0, destination, destinationOffset + i * array.length, array.length);
 			}
 		}
 		
-		return -1;
+		return length;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
-	 * <p>
-	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * Performs a splice operation on the {@code boolean[]} instance {@code array} and writes the result to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * The result is the same as the one returned by {@link #splice(boolean[], int, int, boolean[])}, but no array is allocated. Neither {@code array} nor {@code arrayReplacement} may overlap the written range of {@code destination}.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * If either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code double[]} value to find the index for
-	 * @param array the {@code double[]} to search for {@code value} in
-	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
-	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
-	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 * @param array the input {@code boolean[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code boolean[]} that acts as replacement
+	 * @param destination the {@code boolean[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final double[] value, final double[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
-		Objects.requireNonNull(value, "value == null");
+	public static int splice(final boolean[] array, final int offset, final int length, final boolean[] arrayReplacement, final boolean[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		if(value.length == 0 || array.length == 0) {
-			return -1;
-		}
+		final int arrayALength = doSaturate(offset >= 0 ? offset : array.length + offset, 0, array.length);
+		final int arrayBLength = arrayReplacement.length;
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : array.length + length, arrayALength, array.length);
+		final int arrayCLength = array.length - arrayCSrcPos;
 		
-		if(isIncrementingByValueLength) {
-			doRequireExact(array.length % value.length, 0, "array.length % value.length");
-		}
+		final int arrayDLength = doAddExact(arrayALength + arrayCLength, arrayBLength);
 		
-		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
-		final int length = isIncrementingByValueLength ? value.length : 1;
+		doRequireDestination(destination.length, destinationOffset, arrayDLength);
 		
-		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
-			if(array.length < indexAbsolute + value.length) {
-				return -1;
-			}
-			
-			if(equals(array, value, indexAbsolute, 0, value.length)) {
-				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
-			}
-		}
+		System.arraycopy(array, 0, destination, destinationOffset, arrayALength);
+		System.arraycopy(arrayReplacement, 0, destination, destinationOffset + arrayALength, arrayBLength);
+		System.arraycopy(array, arrayCSrcPos, destination, destinationOffset + arrayALength + arrayBLength, arrayCLength);
 		
-		return -1;
+		return arrayDLength;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Performs a splice operation on the {@code byte[]} instance {@code array} and writes the result to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * The result is the same as the one returned by {@link #splice(byte[], int, int, byte[])}, but no array is allocated. Neither {@code array} nor {@code arrayReplacement} may overlap the written range of {@code destination}.
+	 * <p>
+	 * If either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code float} value to find the index for
-	 * @param array the {@code float[]} to search for {@code value} in
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the input {@code byte[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code byte[]} that acts as replacement
+	 * @param destination the {@code byte[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final float value, final float[] array) {
+	public static int splice(final byte[] array, final int offset, final int length, final byte[] arrayReplacement, final byte[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		for(int i = 0; i < array.length; i++) {
-			if(Float.compare(array[i], value) == 0) {
-				return i;
-			}
-		}
+		final int arrayALength = doSaturate(offset >= 0 ? offset : array.length + offset, 0, array.length);
+		final int arrayBLength = arrayReplacement.length;
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : array.length + length, arrayALength, array.length);
+		final int arrayCLength = array.length - arrayCSrcPos;
 		
-		return -1;
+		final int arrayDLength = doAddExact(arrayALength + arrayCLength, arrayBLength);
+		
+		doRequireDestination(destination.length, destinationOffset, arrayDLength);
+		
+		System.arraycopy(array, 0, destination, destinationOffset, arrayALength);
+		System.arraycopy(arrayReplacement, 0, destination, destinationOffset + arrayALength, arrayBLength);
+		System.arraycopy(array, arrayCSrcPos, destination, destinationOffset + arrayALength + arrayBLength, arrayCLength);
+		
+		return arrayDLength;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
-	 * <p>
-	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * Performs a splice operation on the {@code char[]} instance {@code array} and writes the result to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * The result is the same as the one returned by {@link #splice(char[], int, int, char[])}, but no array is allocated. Neither {@code array} nor {@code arrayReplacement} may overlap the written range of {@code destination}.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * If either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code float[]} value to find the index for
-	 * @param array the {@code float[]} to search for {@code value} in
-	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
-	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
-	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 * @param array the input {@code char[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code char[]} that acts as replacement
+	 * @param destination the {@code char[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final float[] value, final float[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
-		Objects.requireNonNull(value, "value == null");
+	public static int splice(final char[] array, final int offset, final int length, final char[] arrayReplacement, final char[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		if(value.length == 0 || array.length == 0) {
-			return -1;
-		}
+		final int arrayALength = doSaturate(offset >= 0 ? offset : array.length + offset, 0, array.length);
+		final int arrayBLength = arrayReplacement.length;
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : array.length + length, arrayALength, array.length);
+		final int arrayCLength = array.length - arrayCSrcPos;
 		
-		if(isIncrementingByValueLength) {
-			doRequireExact(array.length % value.length, 0, "array.length % value.length");
-		}
+		final int arrayDLength = doAddExact(arrayALength + arrayCLength, arrayBLength);
 		
-		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
-		final int length = isIncrementingByValueLength ? value.length : 1;
+		doRequireDestination(destination.length, destinationOffset, arrayDLength);
 		
-		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
-			if(array.length < indexAbsolute + value.length) {
-				return -1;
-			}
-			
-			if(equals(array, value, indexAbsolute, 0, value.length)) {
-				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
-			}
-		}
+		System.arraycopy(array, 0, destination, destinationOffset, arrayALength);
+		System.arraycopy(arrayReplacement, 0, destination, destinationOffset + arrayALength, arrayBLength);
+		System.arraycopy(array, arrayCSrcPos, destination, destinationOffset + arrayALength + arrayBLength, arrayCLength);
 		
-		return -1;
+		return arrayDLength;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Performs a splice operation on the {@code double[]} instance {@code array} and writes the result to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * The result is the same as the one returned by {@link #splice(double[], int, int, double[])}, but no array is allocated. Neither {@code array} nor {@code arrayReplacement} may overlap the written range of {@code destination}.
+	 * <p>
+	 * If either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code int} value to find the index for
-	 * @param array the {@code int[]} to search for {@code value} in
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the input {@code double[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code double[]} that acts as replacement
+	 * @param destination the {@code double[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final int value, final int[] array) {
+	public static int splice(final double[] array, final int offset, final int length, final double[] arrayReplacement, final double[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		for(int i = 0; i < array.length; i++) {
-			if(array[i] == value) {
-				return i;
-			}
-		}
+		final int arrayALength = doSaturate(offset >= 0 ? offset : array.length + offset, 0, array.length);
+		final int arrayBLength = arrayReplacement.length;
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : array.length + length, arrayALength, array.length);
+		final int arrayCLength = array.length - arrayCSrcPos;
 		
-		return -1;
+		final int arrayDLength = doAddExact(arrayALength + arrayCLength, arrayBLength);
+		
+		doRequireDestination(destination.length, destinationOffset, arrayDLength);
+		
+		System.arraycopy(array, 0, destination, destinationOffset, arrayALength);
+		System.arraycopy(arrayReplacement, 0, destination, destinationOffset + arrayALength, arrayBLength);
+		System.arraycopy(array, arrayCSrcPos, destination, destinationOffset + arrayALength + arrayBLength, arrayCLength);
+		
+		return arrayDLength;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Performs a splice operation on the {@code float[]} instance {@code array} and writes the result to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * The result is the same as the one returned by {@link #splice(float[], int, int, float[])}, but no array is allocated. Neither {@code array} nor {@code arrayReplacement} may overlap the written range of {@code destination}.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * If either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code int[]} value to find the index for
-	 * @param array the {@code int[]} to search for {@code value} in
-	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
-	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
-	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 * @param array the input {@code float[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code float[]} that acts as replacement
+	 * @param destination the {@code float[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final int[] value, final int[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
-		Objects.requireNonNull(value, "value == null");
+	public static int splice(final float[] array, final int offset, final int length, final float[] arrayReplacement, final float[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		if(value.length == 0 || array.length == 0) {
-			return -1;
-		}
+		final int arrayALength = doSaturate(offset >= 0 ? offset : array.length + offset, 0, array.length);
+		final int arrayBLength = arrayReplacement.length;
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : array.length + length, arrayALength, array.length);
+		final int arrayCLength = array.length - arrayCSrcPos;
 		
-		if(isIncrementingByValueLength) {
-			doRequireExact(array.length % value.length, 0, "array.length % value.length");
-		}
+		final int arrayDLength = doAddExact(arrayALength + arrayCLength, arrayBLength);
 		
-		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
-		final int length = isIncrementingByValueLength ? value.length : 1;
+		doRequireDestination(destination.length, destinationOffset, arrayDLength);
 		
-		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
-			if(array.length < indexAbsolute + value.length) {
-				return -1;
-			}
-			
-			if(equals(array, value, indexAbsolute, 0, value.length)) {
-				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
-			}
-		}
+		System.arraycopy(array, 0, destination, destinationOffset, arrayALength);
+		System.arraycopy(arrayReplacement, 0, destination, destinationOffset + arrayALength, arrayBLength);
+		System.arraycopy(array, arrayCSrcPos, destination, destinationOffset + arrayALength + arrayBLength, arrayCLength);
 		
-		return -1;
+		return arrayDLength;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Performs a splice operation on the {@code int[]} instance {@code array} and writes the result to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * The result is the same as the one returned by {@link #splice(int[], int, int, int[])}, but no array is allocated. Neither {@code array} nor {@code arrayReplacement} may overlap the written range of {@code destination}.
+	 * <p>
+	 * If either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code long} value to find the index for
-	 * @param array the {@code long[]} to search for {@code value} in
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the input {@code int[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code int[]} that acts as replacement
+	 * @param destination the {@code int[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final long value, final long[] array) {
+	public static int splice(final int[] array, final int offset, final int length, final int[] arrayReplacement, final int[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		for(int i = 0; i < array.length; i++) {
-			if(array[i] == value) {
-				return i;
-			}
-		}
+		final int arrayALength = doSaturate(offset >= 0 ? offset : array.length + offset, 0, array.length);
+		final int arrayBLength = arrayReplacement.length;
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : array.length + length, arrayALength, array.length);
+		final int arrayCLength = array.length - arrayCSrcPos;
 		
-		return -1;
+		final int arrayDLength = doAddExact(arrayALength + arrayCLength, arrayBLength);
+		
+		doRequireDestination(destination.length, destinationOffset, arrayDLength);
+		
+		System.arraycopy(array, 0, destination, destinationOffset, arrayALength);
+		System.arraycopy(arrayReplacement, 0, destination, destinationOffset + arrayALength, arrayBLength);
+		System.arraycopy(array, arrayCSrcPos, destination, destinationOffset + arrayALength + arrayBLength, arrayCLength);
+		
+		return arrayDLength;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
-	 * <p>
-	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * Performs a splice operation on the {@code long[]} instance {@code array} and writes the result to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * The result is the same as the one returned by {@link #splice(long[], int, int, long[])}, but no array is allocated. Neither {@code array} nor {@code arrayReplacement} may overlap the written range of {@code destination}.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * If either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code long[]} value to find the index for
-	 * @param array the {@code long[]} to search for {@code value} in
-	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
-	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
-	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 * @param array the input {@code long[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code long[]} that acts as replacement
+	 * @param destination the {@code long[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final long[] value, final long[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
-		Objects.requireNonNull(value, "value == null");
+	public static int splice(final long[] array, final int offset, final int length, final long[] arrayReplacement, final long[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		if(value.length == 0 || array.length == 0) {
-			return -1;
-		}
+		final int arrayALength = doSaturate(offset >= 0 ? offset : array.length + offset, 0, array.length);
+		final int arrayBLength = arrayReplacement.length;
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : array.length + length, arrayALength, array.length);
+		final int arrayCLength = array.length - arrayCSrcPos;
 		
-		if(isIncrementingByValueLength) {
-			doRequireExact(array.length % value.length, 0, "array.length % value.length");
-		}
+		final int arrayDLength = doAddExact(arrayALength + arrayCLength, arrayBLength);
 		
-		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
-		final int length = isIncrementingByValueLength ? value.length : 1;
+		doRequireDestination(destination.length, destinationOffset, arrayDLength);
 		
-		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
-			if(array.length < indexAbsolute + value.length) {
-				return -1;
-			}
-			
-			if(equals(array, value, indexAbsolute, 0, value.length)) {
-				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
-			}
-		}
+		System.arraycopy(array, 0, destination, destinationOffset, arrayALength);
+		System.arraycopy(arrayReplacement, 0, destination, destinationOffset + arrayALength, arrayBLength);
+		System.arraycopy(array, arrayCSrcPos, destination, destinationOffset + arrayALength + arrayBLength, arrayCLength);
 		
-		return -1;
+		return arrayDLength;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
+	 * Performs a splice operation on the {@code short[]} instance {@code array} and writes the result to {@code destination}, starting at {@code destinationOffset}.
 	 * <p>
-	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * Returns the number of elements written to {@code destination}.
+	 * <p>
+	 * The result is the same as the one returned by {@link #splice(short[], int, int, short[])}, but no array is allocated. Neither {@code array} nor {@code arrayReplacement} may overlap the written range of {@code destination}.
+	 * <p>
+	 * If either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}, an {@code IllegalArgumentException} will be thrown.
 	 * 
-	 * @param value the {@code short} value to find the index for
-	 * @param array the {@code short[]} to search for {@code value} in
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 * @param array the input {@code short[]}
+	 * @param offset the offset for the removal, which may be negative
+	 * @param length the length of the removal, which may be negative
+	 * @param arrayReplacement a {@code short[]} that acts as replacement
+	 * @param destination the {@code short[]} to write the result to
+	 * @param destinationOffset the offset in {@code destination} to start writing at
+	 * @return the number of elements written to {@code destination}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code destinationOffset} is less than {@code 0} or greater than {@code destination.length} or the length of the result is greater than {@code destination.length - destinationOffset}
+	 * @throws NullPointerException thrown if, and only if, either {@code array}, {@code arrayReplacement} or {@code destination} are {@code null}
 	 */
-	public static int indexOf(final short value, final short[] array) {
+	public static int splice(final short[] array, final int offset, final int length, final short[] arrayReplacement, final short[] destination, final int destinationOffset) {
 		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(arrayReplacement, "arrayReplacement == null");
+		Objects.requireNonNull(destination, "destination == null");
 		
-		for(int i = 0; i < array.length; i++) {
-			if(array[i] == value) {
-				return i;
-			}
-		}
+		final int arrayALength = doSaturate(offset >= 0 ? offset : array.length + offset, 0, array.length);
+		final int arrayBLength = arrayReplacement.length;
+		final int arrayCSrcPos = doSaturate(length >= 0 ? length + arrayALength : array.length + length, arrayALength, array.length);
+		final int arrayCLength = array.length - arrayCSrcPos;
 		
-		return -1;
+		final int arrayDLength = doAddExact(arrayALength + arrayCLength, arrayBLength);
+		
+		doRequireDestination(destination.length, destinationOffset, arrayDLength);
+		
+		System.arraycopy(array, 0, destination, destinationOffset, arrayALength);
+		System.arraycopy(arrayReplacement, 0, destination, destinationOffset + arrayALength, arrayBLength);
+		System.arraycopy(array, arrayCSrcPos, destination, destinationOffset + arrayALength + arrayBLength, arrayCLength);
+		
+		return arrayDLength;
 	}
 	
 	/**
-	 * Returns the index of {@code value} in {@code array}, or {@code -1} if it cannot be found.
-	 * <p>
-	 * If either {@code value} or {@code array} are {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * Returns a {@code int[]} with the elements decoded from {@code byteArray} in big-endian byte order.
 	 * <p>
-	 * If {@code isIncrementingByValueLength} is {@code true}, this method assumes {@code array} contains sub-structures with equal lengths, namely {@code value.length}. This will yield a faster search, but also restrictions on {@code array}. It requires a length that is a multiple of {@code value.length}. If {@code array} does not contain sub-structures with equal lengths, {@code isIncrementingByValueLength} should be {@code false}.
+	 * If {@code byteArray} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code true}, the relative index of {@code value} in {@code array} will be returned. The relative index represents the index of the sub-structure in {@code array}. It works best if {@code isIncrementingByValueLength} is {@code true} and its restrictions are met.
+	 * If {@code byteArray.length % Integer.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
 	 * <p>
-	 * If {@code isReturningRelativeIndex} is {@code false}, the absolute index of {@code value} in {@code array} will be returned. The absolute index represents the index in {@code array}.
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.decodeIntArray(byteArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
 	 * 
-	 * @param value the {@code short[]} value to find the index for
-	 * @param array the {@code short[]} to search for {@code value} in
-	 * @param isIncrementingByValueLength {@code true} if, and only if, {@code array} consists of sub-structures with a length of {@code value.length}, {@code false} otherwise
-	 * @param isReturningRelativeIndex {@code true} if, and only if, the relative index should be returned, {@code false} otherwise
-	 * @return the index of {@code value} in {@code array}, or {@code -1} if it cannot be found
-	 * @throws IllegalArgumentException thrown if, and only if, {@code isIncrementingByValueLength} is {@code true} and {@code array.length % value.length} is not equal to {@code 0}
-	 * @throws NullPointerException thrown if, and only if, either {@code value} or {@code array} are {@code null}
+	 * @param byteArray a {@code byte[]}
+	 * @return a {@code int[]} with the elements decoded from {@code byteArray} in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Integer.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code byteArray} is {@code null}
 	 */
-	public static int indexOf(final short[] value, final short[] array, final boolean isIncrementingByValueLength, final boolean isReturningRelativeIndex) {
-		Objects.requireNonNull(value, "value == null");
-		Objects.requireNonNull(array, "array == null");
-		
-		if(value.length == 0 || array.length == 0) {
-			return -1;
-		}
+	public static int[] decodeIntArray(final byte[] byteArray) {
+		return decodeIntArray(byteArray, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Returns a {@code int[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}.
+	 * <p>
+	 * Each element is decoded from {@code Integer.BYTES} consecutive bytes. This is the inverse of {@link #encode(int[], ByteOrder)}.
+	 * <p>
+	 * If either {@code byteArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Integer.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code int[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Integer.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code byteArray} or {@code byteOrder} are {@code null}
+	 */
+	public static int[] decodeIntArray(final byte[] byteArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(byteArray, "byteArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
 		
-		if(isIncrementingByValueLength) {
-			doRequireExact(array.length % value.length, 0, "array.length % value.length");
-		}
+		doRequireExact(byteArray.length % Integer.BYTES, 0, "byteArray.length % Integer.BYTES");
 		
-		final int count = isIncrementingByValueLength ? array.length / value.length : array.length;
-		final int length = isIncrementingByValueLength ? value.length : 1;
+		final int[] intArray = new int[byteArray.length / Integer.BYTES];
 		
-		for(int indexAbsolute = 0, indexRelative = 0; indexRelative < count; indexAbsolute += length, indexRelative++) {
-			if(array.length < indexAbsolute + value.length) {
-				return -1;
-			}
-			
-			if(equals(array, value, indexAbsolute, 0, value.length)) {
-				return isReturningRelativeIndex ? indexRelative : indexAbsolute;
-			}
-		}
+		ByteBuffer.wrap(byteArray).order(byteOrder).asIntBuffer().get(intArray);
 		
-		return -1;
+		return intArray;
 	}
 	
 	/**
@@ -2734,6 +5381,41 @@ public final class Arrays {
 		return array;
 	}
 	
+	/**
+	 * Returns a {@code int[]} with a length of {@code length} and elements generated by {@code function}.
+	 * <p>
+	 * The elements are generated in parallel using the common {@code ForkJoinPool}, so {@code function} has to be thread-safe and should not depend on the order in which the indices are visited. If {@code length} is small, the elements are generated sequentially.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param length the length of the {@code int[]}
+	 * @param function an {@code IntUnaryOperator} that generates the elements and takes the current index as parameter
+	 * @return a {@code int[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public static int[] generateIntArrayParallel(final int length, final IntUnaryOperator function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		
+		Objects.requireNonNull(function, "function == null");
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return generateIntArray(length, function);
+		}
+		
+		final int[] array = new int[length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, length); i < j; i++) {
+				array[i] = function.applyAsInt(i);
+			}
+		});
+		
+		return array;
+	}
+	
 	/**
 	 * Performs a merge operation on the {@code int[]} instances in {@code arrays}.
 	 * <p>
@@ -2757,6 +5439,44 @@ public final class Arrays {
 		}
 	}
 	
+	/**
+	 * Performs a merge operation on the {@code int[]} instances in {@code arrays}.
+	 * <p>
+	 * Returns a new {@code int[]} with {@code arrays} merged.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the merged length is small, this method behaves like {@link #merge(int[]...)}.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the merged length is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param arrays the {@code int[][]} instance to combine into one {@code int[]}
+	 * @return a new {@code int[]} with {@code arrays} merged
+	 * @throws IllegalArgumentException thrown if, and only if, the merged length is greater than {@code Integer.MAX_VALUE}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static int[] mergeParallel(final int[]... arrays) {
+		requireNonNull(arrays, "arrays");
+		
+		final int[] offsets = new int[arrays.length + 1];
+		
+		for(int i = 0; i < arrays.length; i++) {
+			offsets[i + 1] = doAddExact(offsets[i], arrays[i].length);
+		}
+		
+		final int length = offsets[arrays.length];
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return merge(arrays);
+		}
+		
+		final int[] mergedArray = new int[length];
+		
+		doMergeParallel(arrays, offsets, mergedArray);
+		
+		return mergedArray;
+	}
+	
 	/**
 	 * Returns an {@code int[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
@@ -2802,6 +5522,45 @@ public final class Arrays {
 		}
 	}
 	
+	/**
+	 * Returns a {@code int[]} with {@code array} repeated {@code repetition} times.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the repeated length is small, this method behaves like {@link #repeat(int[], int)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code int[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code int[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int[] repeatParallel(final int[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return repeat(array, repetition);
+		}
+		
+		final int[] repeatedArray = new int[length];
+		
+		if(array.length == 1) {
+			final int element = array[0];
+			
+			doParallelChunks(length).forEach(chunk -> java.util.Arrays.fill(repeatedArray, doParallelChunkFrom(chunk), doParallelChunkTo(chunk, length), element));
+		} else {
+			doRepeatParallel(array, array.length, repeatedArray, length);
+		}
+		
+		return repeatedArray;
+	}
+	
 	/**
 	 * Performs a splice operation on the {@code int[]} instance {@code array}.
 	 * <p>
@@ -2898,11 +5657,14 @@ public final class Arrays {
 	 * Returns an {@code int[]} representation of {@code objects} using {@code arrayFunction} as a converter.
 	 * <p>
 	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the total length of the results overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
 	 * @param <T> the generic type
 	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code int[]} instances
 	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code int[]} instances
 	 * @return an {@code int[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @throws IllegalArgumentException thrown if, and only if, the total length of the results overflows
 	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
 	 */
 	public static <T> int[] toIntArray(final List<T> objects, final Function<T, int[]> arrayFunction) {
@@ -2914,13 +5676,24 @@ public final class Arrays {
 			return new int[0];
 		}
 		
-		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream()) {
-			for(final T object : objects) {
-				intArrayOutputStream.write(arrayFunction.apply(object));
-			}
+		final int[][] arrays = new int[objects.size()][];
+		
+		int index = 0;
+		int length = 0;
+		
+		for(final T object : objects) {
+			final int[] array = Objects.requireNonNull(arrayFunction.apply(object), "arrayFunction.apply(object) == null");
 			
-			return intArrayOutputStream.toIntArray();
+			arrays[index++] = array;
+			
+			length = doAddExact(length, array.length);
 		}
+		
+		final int[] intArray = new int[length];
+		
+		merge(intArray, 0, arrays);
+		
+		return intArray;
 	}
 	
 	/**
@@ -2951,6 +5724,57 @@ public final class Arrays {
 		return arrays;
 	}
 	
+	/**
+	 * Returns a {@code long[]} with the elements decoded from {@code byteArray} in big-endian byte order.
+	 * <p>
+	 * If {@code byteArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Long.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.decodeLongArray(byteArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @return a {@code long[]} with the elements decoded from {@code byteArray} in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Long.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code byteArray} is {@code null}
+	 */
+	public static long[] decodeLongArray(final byte[] byteArray) {
+		return decodeLongArray(byteArray, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Returns a {@code long[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}.
+	 * <p>
+	 * Each element is decoded from {@code Long.BYTES} consecutive bytes. This is the inverse of {@link #encode(long[], ByteOrder)}.
+	 * <p>
+	 * If either {@code byteArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Long.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code long[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Long.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code byteArray} or {@code byteOrder} are {@code null}
+	 */
+	public static long[] decodeLongArray(final byte[] byteArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(byteArray, "byteArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
+		
+		doRequireExact(byteArray.length % Long.BYTES, 0, "byteArray.length % Long.BYTES");
+		
+		final long[] longArray = new long[byteArray.length / Long.BYTES];
+		
+		ByteBuffer.wrap(byteArray).order(byteOrder).asLongBuffer().get(longArray);
+		
+		return longArray;
+	}
+	
 	/**
 	 * Returns a {@code long[]} with a length of {@code length} and elements generated by {@code function}.
 	 * <p>
@@ -2978,6 +5802,41 @@ public final class Arrays {
 		return array;
 	}
 	
+	/**
+	 * Returns a {@code long[]} with a length of {@code length} and elements generated by {@code function}.
+	 * <p>
+	 * The elements are generated in parallel using the common {@code ForkJoinPool}, so {@code function} has to be thread-safe and should not depend on the order in which the indices are visited. If {@code length} is small, the elements are generated sequentially.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param length the length of the {@code long[]}
+	 * @param function an {@code IntToLongFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code long[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public static long[] generateLongArrayParallel(final int length, final IntToLongFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		
+		Objects.requireNonNull(function, "function == null");
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return generateLongArray(length, function);
+		}
+		
+		final long[] array = new long[length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, length); i < j; i++) {
+				array[i] = function.applyAsLong(i);
+			}
+		});
+		
+		return array;
+	}
+	
 	/**
 	 * Performs a merge operation on the {@code long[]} instances in {@code arrays}.
 	 * <p>
@@ -3001,6 +5860,44 @@ public final class Arrays {
 		}
 	}
 	
+	/**
+	 * Performs a merge operation on the {@code long[]} instances in {@code arrays}.
+	 * <p>
+	 * Returns a new {@code long[]} with {@code arrays} merged.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the merged length is small, this method behaves like {@link #merge(long[]...)}.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the merged length is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param arrays the {@code long[][]} instance to combine into one {@code long[]}
+	 * @return a new {@code long[]} with {@code arrays} merged
+	 * @throws IllegalArgumentException thrown if, and only if, the merged length is greater than {@code Integer.MAX_VALUE}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static long[] mergeParallel(final long[]... arrays) {
+		requireNonNull(arrays, "arrays");
+		
+		final int[] offsets = new int[arrays.length + 1];
+		
+		for(int i = 0; i < arrays.length; i++) {
+			offsets[i + 1] = doAddExact(offsets[i], arrays[i].length);
+		}
+		
+		final int length = offsets[arrays.length];
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return merge(arrays);
+		}
+		
+		final long[] mergedArray = new long[length];
+		
+		doMergeParallel(arrays, offsets, mergedArray);
+		
+		return mergedArray;
+	}
+	
 	/**
 	 * Returns a {@code long[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
@@ -3046,6 +5943,45 @@ public final class Arrays {
 		}
 	}
 	
+	/**
+	 * Returns a {@code long[]} with {@code array} repeated {@code repetition} times.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the repeated length is small, this method behaves like {@link #repeat(long[], int)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code long[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code long[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static long[] repeatParallel(final long[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return repeat(array, repetition);
+		}
+		
+		final long[] repeatedArray = new long[length];
+		
+		if(array.length == 1) {
+			final long element = array[0];
+			
+			doParallelChunks(length).forEach(chunk -> java.util.Arrays.fill(repeatedArray, doParallelChunkFrom(chunk), doParallelChunkTo(chunk, length), element));
+		} else {
+			doRepeatParallel(array, array.length, repeatedArray, length);
+		}
+		
+		return repeatedArray;
+	}
+	
 	/**
 	 * Performs a splice operation on the {@code long[]} instance {@code array}.
 	 * <p>
@@ -3142,11 +6078,14 @@ public final class Arrays {
 	 * Returns a {@code long[]} representation of {@code objects} using {@code arrayFunction} as a converter.
 	 * <p>
 	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the total length of the results overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
 	 * @param <T> the generic type
 	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code long[]} instances
 	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code long[]} instances
 	 * @return a {@code long[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @throws IllegalArgumentException thrown if, and only if, the total length of the results overflows
 	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
 	 */
 	public static <T> long[] toLongArray(final List<T> objects, final Function<T, long[]> arrayFunction) {
@@ -3158,13 +6097,24 @@ public final class Arrays {
 			return new long[0];
 		}
 		
-		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream()) {
-			for(final T object : objects) {
-				longArrayOutputStream.write(arrayFunction.apply(object));
-			}
+		final long[][] arrays = new long[objects.size()][];
+		
+		int index = 0;
+		int length = 0;
+		
+		for(final T object : objects) {
+			final long[] array = Objects.requireNonNull(arrayFunction.apply(object), "arrayFunction.apply(object) == null");
 			
-			return longArrayOutputStream.toLongArray();
+			arrays[index++] = array;
+			
+			length = doAddExact(length, array.length);
 		}
+		
+		final long[] longArray = new long[length];
+		
+		merge(longArray, 0, arrays);
+		
+		return longArray;
 	}
 	
 	/**
@@ -3186,13 +6136,64 @@ public final class Arrays {
 			throw new NullPointerException(String.format("%s == null", name));
 		}
 		
-		for(int i = 0; i < arrays.length; i++) {
-			if(arrays[i] == null) {
-				throw new NullPointerException(String.format("%s[%d] == null", name, Integer.valueOf(i)));
-			}
-		}
+		for(int i = 0; i < arrays.length; i++) {
+			if(arrays[i] == null) {
+				throw new NullPointerException(String.format("%s[%d] == null", name, Integer.valueOf(i)));
+			}
+		}
+		
+		return arrays;
+	}
+	
+	/**
+	 * Returns a {@code short[]} with the elements decoded from {@code byteArray} in big-endian byte order.
+	 * <p>
+	 * If {@code byteArray} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Short.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Arrays.decodeShortArray(byteArray, ByteOrder.BIG_ENDIAN);
+	 * }
+	 * </pre>
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @return a {@code short[]} with the elements decoded from {@code byteArray} in big-endian byte order
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Short.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code byteArray} is {@code null}
+	 */
+	public static short[] decodeShortArray(final byte[] byteArray) {
+		return decodeShortArray(byteArray, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Returns a {@code short[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}.
+	 * <p>
+	 * Each element is decoded from {@code Short.BYTES} consecutive bytes. This is the inverse of {@link #encode(short[], ByteOrder)}.
+	 * <p>
+	 * If either {@code byteArray} or {@code byteOrder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteArray.length % Short.BYTES} is not equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param byteArray a {@code byte[]}
+	 * @param byteOrder the {@code ByteOrder} to use
+	 * @return a {@code short[]} with the elements decoded from {@code byteArray} in the byte order {@code byteOrder}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteArray.length % Short.BYTES} is not equal to {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code byteArray} or {@code byteOrder} are {@code null}
+	 */
+	public static short[] decodeShortArray(final byte[] byteArray, final ByteOrder byteOrder) {
+		Objects.requireNonNull(byteArray, "byteArray == null");
+		Objects.requireNonNull(byteOrder, "byteOrder == null");
+		
+		doRequireExact(byteArray.length % Short.BYTES, 0, "byteArray.length % Short.BYTES");
+		
+		final short[] shortArray = new short[byteArray.length / Short.BYTES];
+		
+		ByteBuffer.wrap(byteArray).order(byteOrder).asShortBuffer().get(shortArray);
 		
-		return arrays;
+		return shortArray;
 	}
 	
 	/**
@@ -3222,6 +6223,41 @@ public final class Arrays {
 		return array;
 	}
 	
+	/**
+	 * Returns a {@code short[]} with a length of {@code length} and elements generated by {@code function}.
+	 * <p>
+	 * The elements are generated in parallel using the common {@code ForkJoinPool}, so {@code function} has to be thread-safe and should not depend on the order in which the indices are visited. If {@code length} is small, the elements are generated sequentially.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param length the length of the {@code short[]}
+	 * @param function an {@code IntToShortFunction} that generates the elements and takes the current index as parameter
+	 * @return a {@code short[]} with a length of {@code length} and elements generated by {@code function}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code length} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public static short[] generateShortArrayParallel(final int length, final IntToShortFunction function) {
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		
+		Objects.requireNonNull(function, "function == null");
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return generateShortArray(length, function);
+		}
+		
+		final short[] array = new short[length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			for(int i = doParallelChunkFrom(chunk), j = doParallelChunkTo(chunk, length); i < j; i++) {
+				array[i] = function.applyAsShort(i);
+			}
+		});
+		
+		return array;
+	}
+	
 	/**
 	 * Performs a merge operation on the {@code short[]} instances in {@code arrays}.
 	 * <p>
@@ -3245,6 +6281,44 @@ public final class Arrays {
 		}
 	}
 	
+	/**
+	 * Performs a merge operation on the {@code short[]} instances in {@code arrays}.
+	 * <p>
+	 * Returns a new {@code short[]} with {@code arrays} merged.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the merged length is small, this method behaves like {@link #merge(short[]...)}.
+	 * <p>
+	 * If either {@code arrays} or at least one of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the merged length is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param arrays the {@code short[][]} instance to combine into one {@code short[]}
+	 * @return a new {@code short[]} with {@code arrays} merged
+	 * @throws IllegalArgumentException thrown if, and only if, the merged length is greater than {@code Integer.MAX_VALUE}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrays} or at least one of its elements are {@code null}
+	 */
+	public static short[] mergeParallel(final short[]... arrays) {
+		requireNonNull(arrays, "arrays");
+		
+		final int[] offsets = new int[arrays.length + 1];
+		
+		for(int i = 0; i < arrays.length; i++) {
+			offsets[i + 1] = doAddExact(offsets[i], arrays[i].length);
+		}
+		
+		final int length = offsets[arrays.length];
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return merge(arrays);
+		}
+		
+		final short[] mergedArray = new short[length];
+		
+		doMergeParallel(arrays, offsets, mergedArray);
+		
+		return mergedArray;
+	}
+	
 	/**
 	 * Returns a {@code short[]} with {@code array} repeated {@code repetition} times.
 	 * <p>
@@ -3290,6 +6364,45 @@ public final class Arrays {
 		}
 	}
 	
+	/**
+	 * Returns a {@code short[]} with {@code array} repeated {@code repetition} times.
+	 * <p>
+	 * The elements are copied in parallel using the common {@code ForkJoinPool}. If the repeated length is small, this method behaves like {@link #repeat(short[], int)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code short[]} to repeat {@code repetition} times
+	 * @param repetition the number of times to repeat {@code array}
+	 * @return a {@code short[]} with {@code array} repeated {@code repetition} times
+	 * @throws IllegalArgumentException thrown if, and only if, {@code repetition} is less than {@code 0} or {@code array.length * repetition} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static short[] repeatParallel(final short[] array, final int repetition) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(repetition, 0, Integer.MAX_VALUE, "repetition");
+		
+		final int length = doMultiplyExact(array.length, repetition);
+		
+		if(length <= PARALLEL_THRESHOLD) {
+			return repeat(array, repetition);
+		}
+		
+		final short[] repeatedArray = new short[length];
+		
+		if(array.length == 1) {
+			final short element = array[0];
+			
+			doParallelChunks(length).forEach(chunk -> java.util.Arrays.fill(repeatedArray, doParallelChunkFrom(chunk), doParallelChunkTo(chunk, length), element));
+		} else {
+			doRepeatParallel(array, array.length, repeatedArray, length);
+		}
+		
+		return repeatedArray;
+	}
+	
 	/**
 	 * Performs a splice operation on the {@code short[]} instance {@code array}.
 	 * <p>
@@ -3386,11 +6499,14 @@ public final class Arrays {
 	 * Returns a {@code short[]} representation of {@code objects} using {@code arrayFunction} as a converter.
 	 * <p>
 	 * If either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the total length of the results overflows, an {@code IllegalArgumentException} will be thrown.
 	 * 
 	 * @param <T> the generic type
 	 * @param objects a {@code List} of type {@code T} with {@code Object} instances to convert into {@code short[]} instances
 	 * @param arrayFunction a {@code Function} that maps {@code Object} instances of type {@code T} into {@code short[]} instances
 	 * @return a {@code short[]} representation of {@code objects} using {@code arrayFunction} as a converter
+	 * @throws IllegalArgumentException thrown if, and only if, the total length of the results overflows
 	 * @throws NullPointerException thrown if, and only if, either {@code objects}, at least one of its elements, {@code arrayFunction} or at least one of its results are {@code null}
 	 */
 	public static <T> short[] toShortArray(final List<T> objects, final Function<T, short[]> arrayFunction) {
@@ -3402,13 +6518,24 @@ public final class Arrays {
 			return new short[0];
 		}
 		
-		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream()) {
-			for(final T object : objects) {
-				shortArrayOutputStream.write(arrayFunction.apply(object));
-			}
+		final short[][] arrays = new short[objects.size()][];
+		
+		int index = 0;
+		int length = 0;
+		
+		for(final T object : objects) {
+			final short[] array = Objects.requireNonNull(arrayFunction.apply(object), "arrayFunction.apply(object) == null");
 			
-			return shortArrayOutputStream.toShortArray();
+			arrays[index++] = array;
+			
+			length = doAddExact(length, array.length);
 		}
+		
+		final short[] shortArray = new short[length];
+		
+		merge(shortArray, 0, arrays);
+		
+		return shortArray;
 	}
 	
 	/**
@@ -3457,6 +6584,274 @@ public final class Arrays {
 		return list;
 	}
 	
+	private static int doAddExact(final int a, final int b) {
+		try {
+			return Math.addExact(a, b);
+		} catch(final ArithmeticException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+	
+	private static int doCombineHashCodes(final int[] hashCodes, final int length) {
+		final int multiplier = doPow31(PARALLEL_THRESHOLD);
+		
+		int result = 1;
+		
+		for(int chunk = 0; chunk < hashCodes.length; chunk++) {
+			final int chunkLength = doParallelChunkTo(chunk, length) - doParallelChunkFrom(chunk);
+			
+			result = result * (chunkLength == PARALLEL_THRESHOLD ? multiplier : doPow31(chunkLength)) + hashCodes[chunk];
+		}
+		
+		return result;
+	}
+	
+	private static int doHashIndex(final int value) {
+		return (value * 0x9E3779B9) >>> 24;
+	}
+	
+	private static int doHashIndex(final long value) {
+		return doHashIndex((int)(value ^ (value >>> 32L)));
+	}
+	
+	private static int doIndexOfHorspool(final byte[] value, final byte[] array) {
+		final int last = value.length - 1;
+		
+		final int[] shifts = new int[256];
+		
+		java.util.Arrays.fill(shifts, value.length);
+		
+		for(int i = 0; i < last; i++) {
+			shifts[value[i] & 0xFF] = last - i;
+		}
+		
+		for(int i = 0; i <= array.length - value.length; i += shifts[array[i + last] & 0xFF]) {
+			if(array[i + last] == value[last]) {
+				int j = last - 1;
+				
+				while(j >= 0 && array[i + j] == value[j]) {
+					j--;
+				}
+				
+				if(j < 0) {
+					return i;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static int doIndexOfHorspool(final char[] value, final char[] array) {
+		final int last = value.length - 1;
+		
+		final int[] shifts = new int[256];
+		
+		java.util.Arrays.fill(shifts, value.length);
+		
+		for(int i = 0; i < last; i++) {
+			shifts[value[i] & 0xFF] = last - i;
+		}
+		
+		for(int i = 0; i <= array.length - value.length; i += shifts[array[i + last] & 0xFF]) {
+			if(array[i + last] == value[last]) {
+				int j = last - 1;
+				
+				while(j >= 0 && array[i + j] == value[j]) {
+					j--;
+				}
+				
+				if(j < 0) {
+					return i;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static int doIndexOfHorspool(final double[] value, final double[] array) {
+		final int last = value.length - 1;
+		
+		final int[] shifts = new int[256];
+		
+		java.util.Arrays.fill(shifts, value.length);
+		
+		for(int i = 0; i < last; i++) {
+			shifts[doHashIndex(Double.doubleToLongBits(value[i]))] = last - i;
+		}
+		
+		for(int i = 0; i <= array.length - value.length; i += shifts[doHashIndex(Double.doubleToLongBits(array[i + last]))]) {
+			if(Double.compare(array[i + last], value[last]) == 0) {
+				int j = last - 1;
+				
+				while(j >= 0 && Double.compare(array[i + j], value[j]) == 0) {
+					j--;
+				}
+				
+				if(j < 0) {
+					return i;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static int doIndexOfHorspool(final float[] value, final float[] array) {
+		final int last = value.length - 1;
+		
+		final int[] shifts = new int[256];
+		
+		java.util.Arrays.fill(shifts, value.length);
+		
+		for(int i = 0; i < last; i++) {
+			shifts[doHashIndex(Float.floatToIntBits(value[i]))] = last - i;
+		}
+		
+		for(int i = 0; i <= array.length - value.length; i += shifts[doHashIndex(Float.floatToIntBits(array[i + last]))]) {
+			if(Float.compare(array[i + last], value[last]) == 0) {
+				int j = last - 1;
+				
+				while(j >= 0 && Float.compare(array[i + j], value[j]) == 0) {
+					j--;
+				}
+				
+				if(j < 0) {
+					return i;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static int doIndexOfHorspool(final int[] value, final int[] array) {
+		final int last = value.length - 1;
+		
+		final int[] shifts = new int[256];
+		
+		java.util.Arrays.fill(shifts, value.length);
+		
+		for(int i = 0; i < last; i++) {
+			shifts[doHashIndex(value[i])] = last - i;
+		}
+		
+		for(int i = 0; i <= array.length - value.length; i += shifts[doHashIndex(array[i + last])]) {
+			if(array[i + last] == value[last]) {
+				int j = last - 1;
+				
+				while(j >= 0 && array[i + j] == value[j]) {
+					j--;
+				}
+				
+				if(j < 0) {
+					return i;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static int doIndexOfHorspool(final long[] value, final long[] array) {
+		final int last = value.length - 1;
+		
+		final int[] shifts = new int[256];
+		
+		java.util.Arrays.fill(shifts, value.length);
+		
+		for(int i = 0; i < last; i++) {
+			shifts[doHashIndex(value[i])] = last - i;
+		}
+		
+		for(int i = 0; i <= array.length - value.length; i += shifts[doHashIndex(array[i + last])]) {
+			if(array[i + last] == value[last]) {
+				int j = last - 1;
+				
+				while(j >= 0 && array[i + j] == value[j]) {
+					j--;
+				}
+				
+				if(j < 0) {
+					return i;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static int doIndexOfHorspool(final short[] value, final short[] array) {
+		final int last = value.length - 1;
+		
+		final int[] shifts = new int[256];
+		
+		java.util.Arrays.fill(shifts, value.length);
+		
+		for(int i = 0; i < last; i++) {
+			shifts[value[i] & 0xFF] = last - i;
+		}
+		
+		for(int i = 0; i <= array.length - value.length; i += shifts[array[i + last] & 0xFF]) {
+			if(array[i + last] == value[last]) {
+				int j = last - 1;
+				
+				while(j >= 0 && array[i + j] == value[j]) {
+					j--;
+				}
+				
+				if(j < 0) {
+					return i;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	private static int doMultiplyExact(final int a, final int b) {
+		try {
+			return Math.multiplyExact(a, b);
+		} catch(final ArithmeticException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+	
+	private static int doParallelChunkCount(final int length) {
+		return (length + PARALLEL_THRESHOLD - 1) / PARALLEL_THRESHOLD;
+	}
+	
+	private static int doParallelChunkFrom(final int chunk) {
+		return chunk * PARALLEL_THRESHOLD;
+	}
+	
+	private static int doParallelChunkTo(final int chunk, final int length) {
+		return (int)(Math.min((long)(chunk + 1) * PARALLEL_THRESHOLD, length));
+	}
+	
+	private static int doPow31(final int exponent) {
+		int base = 31;
+		int result = 1;
+		
+		for(int e = exponent; e > 0; e >>>= 1) {
+			if((e & 1) != 0) {
+				result *= base;
+			}
+			
+			base *= base;
+		}
+		
+		return result;
+	}
+	
+	private static int doRequireDestination(final int destinationLength, final int destinationOffset, final int length) {
+		doRequireRange(destinationOffset, 0, destinationLength, "destinationOffset");
+		doRequireRange(length, 0, destinationLength - destinationOffset, "length");
+		
+		return length;
+	}
+	
 	private static int doRequireExact(final int value, final int valueExpected, final String name) {
 		Objects.requireNonNull(name, "name == null");
 		
@@ -3485,4 +6880,42 @@ public final class Arrays {
 	private static int doSaturate(final int value, final int edgeA, final int edgeB) {
 		return Math.max(Math.min(value, Math.max(edgeA, edgeB)), Math.min(edgeA, edgeB));
 	}
+	
+	private static IntStream doParallelChunks(final int length) {
+		return IntStream.range(0, doParallelChunkCount(length)).parallel();
+	}
+	
+	private static void doMergeParallel(final Object[] arrays, final int[] offsets, final Object mergedArray) {
+		final int length = offsets[arrays.length];
+		
+		doParallelChunks(length).forEach(chunk -> {
+			final int from = doParallelChunkFrom(chunk);
+			final int to = doParallelChunkTo(chunk, length);
+			
+			final int index = java.util.Arrays.binarySearch(offsets, from);
+			
+			for(int i = index >= 0 ? index : -index - 2, position = from; position < to; i++) {
+				final int count = Math.min(offsets[i + 1], to) - position;
+				
+				System.arraycopy(arrays[i], position - offsets[i], mergedArray, position, count);
+				
+				position += count;
+			}
+		});
+	}
+	
+	private static void doRepeatParallel(final Object array, final int arrayLength, final Object repeatedArray, final int length) {
+		doParallelChunks(length).forEach(chunk -> {
+			final int to = doParallelChunkTo(chunk, length);
+			
+			for(int position = doParallelChunkFrom(chunk); position < to;) {
+				final int offset = position % arrayLength;
+				final int count = Math.min(arrayLength - offset, to - position);
+				
+				System.arraycopy(array, offset, repeatedArray, position, count);
+				
+				position += count;
+			}
+		});
+	}
 }
\ No newline at end of file
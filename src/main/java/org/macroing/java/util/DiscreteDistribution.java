@@ -0,0 +1,269 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A {@code DiscreteDistribution} samples indices from a discrete distribution using its cumulative distribution function.
+ * <p>
+ * The distribution is defined by an array of non-negative weights, where the probability of index {@code i} is {@code weights[i]} divided by the sum of all weights.
+ * <p>
+ * The method {@link #sample(double)} maps a uniform value to an index by inverting the cumulative distribution function. The mapping is monotonic, so it preserves the stratification of the uniform values, such as the ones generated by {@link SobolSequence} or {@link HaltonSequence}. It starts with a lookup in a guide table, which restricts the binary search to the few indices that may contain the value. The expected cost is {@code O(1)}, and the worst-case cost is {@code O(log(n))}. If the stratification does not matter, {@link AliasTable} guarantees a cost of {@code O(1)}.
+ * <p>
+ * A {@code DiscreteDistribution} is immutable and can be shared between threads. Sampling does not allocate any memory.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class DiscreteDistribution {
+	/**
+	 * Contains the cumulative distribution function, where {@code cumulativeProbabilities[i]} is the sum of the probabilities of all indices less than {@code i}.
+	 */
+	private final double[] cumulativeProbabilities;
+	
+	/**
+	 * Contains the probability of each index.
+	 */
+	private final double[] probabilities;
+	
+	/**
+	 * Contains the guide table, where {@code guide[k]} is the largest index {@code i} such that {@code cumulativeProbabilities[i]} is less than or equal to {@code k / n}.
+	 */
+	private final int[] guide;
+	
+	/**
+	 * Contains the largest index with a probability greater than {@code 0.0D}.
+	 */
+	private final int lastIndex;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code DiscreteDistribution} instance given its weights.
+	 * <p>
+	 * If {@code weights} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code weights.length} is less than {@code 1}, any weight is negative, infinite or NaN, or the sum of all weights is not greater than {@code 0.0D} and finite, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The weights are copied, so changes to {@code weights} will not affect this {@code DiscreteDistribution} instance.
+	 * 
+	 * @param weights the weights of the distribution
+	 * @throws IllegalArgumentException thrown if, and only if, {@code weights.length} is less than {@code 1}, any weight is negative, infinite or NaN, or the sum of all weights is not greater than {@code 0.0D} and finite
+	 * @throws NullPointerException thrown if, and only if, {@code weights} is {@code null}
+	 */
+	public DiscreteDistribution(final double[] weights) {
+		final double sum = requireWeights(weights, "weights");
+		
+		final int n = weights.length;
+		
+		this.cumulativeProbabilities = new double[n + 1];
+		this.probabilities = new double[n];
+		this.guide = new int[n];
+		
+		double prefixSum = 0.0D;
+		
+		for(int i = 0; i < n; i++) {
+			prefixSum += weights[i];
+			
+			this.probabilities[i] = weights[i] / sum;
+			this.cumulativeProbabilities[i + 1] = prefixSum / sum;
+		}
+		
+		this.cumulativeProbabilities[n] = 1.0D;
+		
+		int lastIndex = n - 1;
+		
+		while(weights[lastIndex] == 0.0D) {
+			lastIndex--;
+		}
+		
+		this.lastIndex = lastIndex;
+		
+		for(int i = 0, k = 0; k < n; k++) {
+			final double threshold = (double)(k) / n;
+			
+			while(i + 1 < n && this.cumulativeProbabilities[i + 1] <= threshold) {
+				i++;
+			}
+			
+			this.guide[k] = i;
+		}
+	}
+	
+	/**
+	 * Constructs a new {@code DiscreteDistribution} instance given its weights.
+	 * <p>
+	 * If {@code weights} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code weights.length} is less than {@code 1}, any weight is negative, infinite or NaN, or the sum of all weights is not greater than {@code 0.0D} and finite, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to calling {@link #DiscreteDistribution(double[])} with the weights converted to {@code double} values.
+	 * 
+	 * @param weights the weights of the distribution
+	 * @throws IllegalArgumentException thrown if, and only if, {@code weights.length} is less than {@code 1}, any weight is negative, infinite or NaN, or the sum of all weights is not greater than {@code 0.0D} and finite
+	 * @throws NullPointerException thrown if, and only if, {@code weights} is {@code null}
+	 */
+	public DiscreteDistribution(final float[] weights) {
+		this(toDoubleArray(weights, "weights"));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the probability of {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@link #size()}, an {@code ArrayIndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @return the probability of {@code index}
+	 * @throws ArrayIndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code size()}
+	 */
+	public double getProbability(final int index) {
+		return this.probabilities[index];
+	}
+	
+	/**
+	 * Returns the uniform value {@code u} remapped to the interval of the cumulative distribution function that corresponds to {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@link #size()}, an {@code ArrayIndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * If {@code index} was returned by {@code sample(u)}, the returned value is uniformly distributed between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive), and independent of {@code index}. It can therefore be used as a new uniform value, for instance to sample a position within the chosen index.
+	 * 
+	 * @param u a uniform value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @param index the index that was returned by {@code sample(u)}
+	 * @return the uniform value {@code u} remapped to the interval of the cumulative distribution function that corresponds to {@code index}
+	 * @throws ArrayIndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code size()}
+	 */
+	public double remap(final double u, final int index) {
+		final double minimum = this.cumulativeProbabilities[index];
+		final double maximum = this.cumulativeProbabilities[index + 1];
+		
+		if(maximum > minimum) {
+			return Randoms.nextDoubleInternal(1.0D, Math.max((u - minimum) / (maximum - minimum), 0.0D));
+		}
+		
+		return 0.0D;
+	}
+	
+	/**
+	 * Returns an index that is sampled from this {@code DiscreteDistribution} instance using the uniform value {@code u}.
+	 * <p>
+	 * The value {@code u} should be between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). Values outside of this interval are clamped to the first or last index that has a probability greater than {@code 0.0D}.
+	 * <p>
+	 * The returned index is the index {@code i} for which {@code u} lies in the interval of the cumulative distribution function that corresponds to {@code i}. An index with a probability of {@code 0.0D} is never returned.
+	 * 
+	 * @param u a uniform value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @return an index that is sampled from this {@code DiscreteDistribution} instance using the uniform value {@code u}
+	 */
+	public int sample(final double u) {
+		final double[] cumulativeProbabilities = this.cumulativeProbabilities;
+		
+		final int[] guide = this.guide;
+		
+		final int n = guide.length;
+		final int k = Math.min(Math.max((int)(u * n), 0), n - 1);
+		
+		int minimum = guide[k];
+		int maximum = k + 1 < n ? guide[k + 1] : this.lastIndex;
+		
+		while(minimum < maximum) {
+			final int middle = (minimum + maximum + 1) >>> 1;
+			
+			if(cumulativeProbabilities[middle] <= u) {
+				minimum = middle;
+			} else {
+				maximum = middle - 1;
+			}
+		}
+		
+		return minimum;
+	}
+	
+	/**
+	 * Returns an index that is sampled from this {@code DiscreteDistribution} instance using a uniform value from {@code doubleSupplier}.
+	 * <p>
+	 * If {@code doubleSupplier} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * discreteDistribution.sample(doubleSupplier.getAsDouble());
+	 * }
+	 * </pre>
+	 * Any of the pseudorandom number generators in this API can be used, such as {@code xoshiro256StarStar::nextDouble}.
+	 * 
+	 * @param doubleSupplier a {@code DoubleSupplier} that returns uniform values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @return an index that is sampled from this {@code DiscreteDistribution} instance using a uniform value from {@code doubleSupplier}
+	 * @throws NullPointerException thrown if, and only if, {@code doubleSupplier} is {@code null}
+	 */
+	public int sample(final DoubleSupplier doubleSupplier) {
+		return sample(doubleSupplier.getAsDouble());
+	}
+	
+	/**
+	 * Returns the number of indices in this {@code DiscreteDistribution} instance.
+	 * 
+	 * @return the number of indices in this {@code DiscreteDistribution} instance
+	 */
+	public int size() {
+		return this.probabilities.length;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static double requireWeights(final double[] weights, final String name) {
+		Objects.requireNonNull(weights, name + " == null");
+		
+		if(weights.length < 1) {
+			throw new IllegalArgumentException(String.format("%s.length < %d: %s.length == %d", name, Integer.valueOf(1), name, Integer.valueOf(weights.length)));
+		}
+		
+		double sum = 0.0D;
+		
+		for(int i = 0; i < weights.length; i++) {
+			final double weight = weights[i];
+			
+			if(!(weight >= 0.0D && weight < Double.POSITIVE_INFINITY)) {
+				throw new IllegalArgumentException(String.format("%s[%d] is not non-negative and finite: %s[%d] == %s", name, Integer.valueOf(i), name, Integer.valueOf(i), Double.toString(weight)));
+			}
+			
+			sum += weight;
+		}
+		
+		if(!(sum > 0.0D && sum < Double.POSITIVE_INFINITY)) {
+			throw new IllegalArgumentException(String.format("The sum of %s is not positive and finite: %s", name, Double.toString(sum)));
+		}
+		
+		return sum;
+	}
+	
+	static double[] toDoubleArray(final float[] array, final String name) {
+		Objects.requireNonNull(array, name + " == null");
+		
+		final double[] result = new double[array.length];
+		
+		for(int i = 0; i < array.length; i++) {
+			result[i] = array[i];
+		}
+		
+		return result;
+	}
+}
\ No newline at end of file
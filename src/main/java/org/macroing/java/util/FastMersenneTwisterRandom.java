@@ -0,0 +1,232 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.util.Objects;
+
+/**
+ * A {@code FastMersenneTwisterRandom} is a {@code Random} implementation that implements the SIMD-oriented Fast Mersenne Twister algorithm, SFMT19937.
+ * <p>
+ * The values are generated by a {@link FastMersenneTwister}, to which this class delegates. Code that does not need a {@code Random}, such as a hot sampling loop, should use a {@code FastMersenneTwister} directly, to avoid the overhead of {@code Random}.
+ * <p>
+ * The method {@link #split()} can be used to create a new {@code FastMersenneTwisterRandom} instance for another thread. The streams returned by this class use it to give each task of a parallel stream its own generator.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class FastMersenneTwisterRandom extends AbstractSplittableRandom {
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The serializable fields of this class.
+	 * <p>
+	 * The {@code FastMersenneTwister} that generates the values is serialized as the field {@code fastMersenneTwister}.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("fastMersenneTwister", FastMersenneTwister.class)};
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the {@code FastMersenneTwister} instance that generates the values.
+	 */
+	private FastMersenneTwister fastMersenneTwister;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code FastMersenneTwisterRandom} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new FastMersenneTwisterRandom(System.nanoTime());
+	 * }
+	 * </pre>
+	 */
+	public FastMersenneTwisterRandom() {
+		this(System.nanoTime());
+	}
+	
+	/**
+	 * Constructs a new {@code FastMersenneTwisterRandom} instance given a key.
+	 * <p>
+	 * If {@code key} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code key.length} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * This constructor initializes the state in the same way as the function {@code sfmt_init_by_array} in the reference implementation of SFMT19937, so it can use all {@code 19937} bits of the state.
+	 * 
+	 * @param key the key to use
+	 * @throws IllegalArgumentException thrown if, and only if, {@code key.length} is less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, {@code key} is {@code null}
+	 */
+	public FastMersenneTwisterRandom(final int[] key) {
+		this(new FastMersenneTwister(key));
+	}
+	
+	/**
+	 * Constructs a new {@code FastMersenneTwisterRandom} instance given a seed.
+	 * <p>
+	 * Only the {@code 32} least significant bits of {@code seed} are used.
+	 * 
+	 * @param seed the seed to use
+	 */
+	public FastMersenneTwisterRandom(final long seed) {
+		this(new FastMersenneTwister(seed));
+	}
+	
+	FastMersenneTwisterRandom(final FastMersenneTwister fastMersenneTwister) {
+		this.fastMersenneTwister = Objects.requireNonNull(fastMersenneTwister, "fastMersenneTwister == null");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a new {@code FastMersenneTwisterRandom} instance that shares no mutable state with this {@code FastMersenneTwisterRandom} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * fastMersenneTwister.split().asRandom();
+	 * }
+	 * </pre>
+	 * <p>
+	 * This implementation of SFMT19937 has no jump function, so the values generated by the returned instance are not guaranteed to never overlap with the values generated by this instance. Given the period of {@code 2}<sup>{@code 19937}</sup>{@code  - 1}, an overlap is very unlikely in practice.
+	 * 
+	 * @return a new {@code FastMersenneTwisterRandom} instance that shares no mutable state with this {@code FastMersenneTwisterRandom} instance
+	 */
+	@Override
+	public FastMersenneTwisterRandom split() {
+		return new FastMersenneTwisterRandom(this.fastMersenneTwister.split());
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code boolean} value.
+	 * 
+	 * @return a pseudorandom {@code boolean} value
+	 */
+	@Override
+	public boolean nextBoolean() {
+		return this.fastMersenneTwister.nextBoolean();
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * The value is created from the {@code 53} most significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 */
+	@Override
+	public double nextDouble() {
+		return this.fastMersenneTwister.nextDouble();
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
+	 * <p>
+	 * The value is created from the {@code 24} most significant bits of {@link #nextInt()}.
+	 * 
+	 * @return a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive)
+	 */
+	@Override
+	public float nextFloat() {
+		return this.fastMersenneTwister.nextFloat();
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value.
+	 * 
+	 * @return a pseudorandom {@code int} value
+	 */
+	@Override
+	public int nextInt() {
+		return this.fastMersenneTwister.nextInt();
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code long} value.
+	 * 
+	 * @return a pseudorandom {@code long} value
+	 */
+	@Override
+	public long nextLong() {
+		return this.fastMersenneTwister.nextLong();
+	}
+	
+	/**
+	 * Sets the seed for this {@code FastMersenneTwisterRandom} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * fastMersenneTwister.setSeed(seed);
+	 * }
+	 * </pre>
+	 * 
+	 * @param seed the new seed
+	 */
+	@Override
+	public synchronized void setSeed(final long seed) {
+//		The constructor of Random calls this method before the field has been assigned:
+		if(this.fastMersenneTwister != null) {
+			this.fastMersenneTwister.setSeed(seed);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the next pseudorandom number.
+	 * 
+	 * @param bits random bits
+	 * @return the next pseudorandom number
+	 */
+	@Override
+	protected int next(final int bits) {
+		return this.fastMersenneTwister.nextInt() >>> (32 - bits);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void readObject(final ObjectInputStream objectInputStream) throws ClassNotFoundException, IOException {
+		final ObjectInputStream.GetField getField = objectInputStream.readFields();
+		
+		final FastMersenneTwister fastMersenneTwister = FastMersenneTwister.class.cast(getField.get("fastMersenneTwister", null));
+		
+		if(fastMersenneTwister == null) {
+			throw new InvalidObjectException("fastMersenneTwister == null");
+		}
+		
+		this.fastMersenneTwister = fastMersenneTwister;
+	}
+	
+	private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+		final ObjectOutputStream.PutField putField = objectOutputStream.putFields();
+		
+		putField.put("fastMersenneTwister", this.fastMersenneTwister);
+		
+		objectOutputStream.writeFields();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,329 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.Objects;
+
+import org.macroing.java.lang.Ints;
+
+/**
+ * A {@code HaltonSequence} generates the points of a Halton sequence, a low-discrepancy sequence in the unit hypercube.
+ * <p>
+ * Coordinate {@code d} of the point with index {@code i} is the radical inverse of {@code i} in base {@code b}, where {@code b} is the prime number with index {@code d}. The radical inverse in base {@code 2} is computed using {@link Ints#reverseBits(int)}.
+ * <p>
+ * A {@code HaltonSequence} can optionally be scrambled using Owen scrambling. Each digit of the radical inverse is then permuted by a pseudorandom shift that depends on the seed, the dimension and all digits that precede it. Scrambling removes the correlation between the dimensions that use large bases, but each coordinate of the first {@code b}<sup>{@code k}</sup> points still falls in each of the {@code b}<sup>{@code k}</sup> intervals of length {@code b}<sup>{@code -k}</sup> exactly once. In base {@code 2}, the scrambling is performed using the hash-based algorithm by Laine and Karras.
+ * <p>
+ * A {@code HaltonSequence} can generate {@code 2}<sup>{@code 32}</sup> points.
+ * <p>
+ * This class is not thread-safe. Use {@link #setIndex(long)} to let each thread generate a different part of the sequence.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class HaltonSequence {
+	/**
+	 * The maximum number of dimensions supported by a {@code HaltonSequence}.
+	 */
+	public static final int MAXIMUM_DIMENSIONS = 1024;
+	
+	/**
+	 * The number of points a {@code HaltonSequence} can generate.
+	 */
+	public static final long MAXIMUM_POINTS = 1L << 32;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final int[] PRIMES = doCreatePrimes(MAXIMUM_DIMENSIONS);
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the hash for each dimension, or {@code null} if this {@code HaltonSequence} is not scrambled.
+	 */
+	private final long[] hashes;
+	
+	/**
+	 * Contains the number of dimensions.
+	 */
+	private final int dimensions;
+	
+	/**
+	 * Contains the index of the current point.
+	 */
+	private long index;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code HaltonSequence} instance given the number of dimensions.
+	 * <p>
+	 * If {@code dimensions} is less than {@code 1} or greater than {@link #MAXIMUM_DIMENSIONS}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The {@code HaltonSequence} instance is not scrambled.
+	 * 
+	 * @param dimensions the number of dimensions
+	 * @throws IllegalArgumentException thrown if, and only if, {@code dimensions} is less than {@code 1} or greater than {@code HaltonSequence.MAXIMUM_DIMENSIONS}
+	 */
+	public HaltonSequence(final int dimensions) {
+		this.dimensions = doRequireRange(dimensions, 1, MAXIMUM_DIMENSIONS, "dimensions");
+		this.hashes = null;
+		this.index = 0L;
+	}
+	
+	/**
+	 * Constructs a new {@code HaltonSequence} instance given the number of dimensions and a seed.
+	 * <p>
+	 * If {@code dimensions} is less than {@code 1} or greater than {@link #MAXIMUM_DIMENSIONS}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The {@code HaltonSequence} instance is scrambled using Owen scrambling. Two instances with the same seed generate the same points.
+	 * 
+	 * @param dimensions the number of dimensions
+	 * @param seed the seed to use for the scrambling
+	 * @throws IllegalArgumentException thrown if, and only if, {@code dimensions} is less than {@code 1} or greater than {@code HaltonSequence.MAXIMUM_DIMENSIONS}
+	 */
+	public HaltonSequence(final int dimensions, final long seed) {
+		this.dimensions = doRequireRange(dimensions, 1, MAXIMUM_DIMENSIONS, "dimensions");
+		this.hashes = new long[dimensions];
+		this.index = 0L;
+		
+		final long[] state = {seed};
+		
+		for(int i = 0; i < dimensions; i++) {
+			this.hashes[i] = AbstractSplittableRandom.splitMix64(state);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code HaltonSequence} instance is scrambled, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code HaltonSequence} instance is scrambled, {@code false} otherwise
+	 */
+	public boolean isScrambled() {
+		return this.hashes != null;
+	}
+	
+	/**
+	 * Generates the next point of this {@code HaltonSequence} instance and stores its coordinates in {@code out}.
+	 * <p>
+	 * Returns {@code out}.
+	 * <p>
+	 * If {@code out} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code out.length} is less than {@link #getDimensions()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If all {@link #MAXIMUM_POINTS} points have been generated, an {@code IllegalStateException} will be thrown.
+	 * <p>
+	 * The coordinates are stored in {@code out[0]} to {@code out[getDimensions() - 1]}, and each of them is between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). This method does not allocate any memory.
+	 * 
+	 * @param out the {@code double[]} to store the coordinates in
+	 * @return {@code out}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code out.length} is less than {@code getDimensions()}
+	 * @throws IllegalStateException thrown if, and only if, all {@code HaltonSequence.MAXIMUM_POINTS} points have been generated
+	 * @throws NullPointerException thrown if, and only if, {@code out} is {@code null}
+	 */
+	public double[] next(final double[] out) {
+		Objects.requireNonNull(out, "out == null");
+		
+		doRequireRange(out.length, this.dimensions, Integer.MAX_VALUE, "out.length");
+		
+		if(this.index >= MAXIMUM_POINTS) {
+			throw new IllegalStateException("All points have been generated.");
+		}
+		
+		final long[] hashes = this.hashes;
+		
+		final long index = this.index++;
+		
+		if(hashes != null) {
+			out[0] = (Ints.reverseBits(doScramble((int)(index), (int)(hashes[0]))) & 0xFFFFFFFFL) * 0x1.0p-32D;
+			
+			for(int i = 1; i < this.dimensions; i++) {
+				out[i] = doRadicalInverseScrambled(index, PRIMES[i], hashes[i]);
+			}
+		} else {
+			out[0] = (Ints.reverseBits((int)(index)) & 0xFFFFFFFFL) * 0x1.0p-32D;
+			
+			for(int i = 1; i < this.dimensions; i++) {
+				out[i] = doRadicalInverse(index, PRIMES[i]);
+			}
+		}
+		
+		return out;
+	}
+	
+	/**
+	 * Returns the number of dimensions of this {@code HaltonSequence} instance.
+	 * 
+	 * @return the number of dimensions of this {@code HaltonSequence} instance
+	 */
+	public int getDimensions() {
+		return this.dimensions;
+	}
+	
+	/**
+	 * Returns the index of the point that will be generated by the next call to {@link #next(double[])}.
+	 * 
+	 * @return the index of the point that will be generated by the next call to {@code next(double[])}
+	 */
+	public long getIndex() {
+		return this.index;
+	}
+	
+	/**
+	 * Resets this {@code HaltonSequence} instance, so that the next call to {@link #next(double[])} generates the first point.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * haltonSequence.setIndex(0L);
+	 * }
+	 * </pre>
+	 */
+	public void reset() {
+		setIndex(0L);
+	}
+	
+	/**
+	 * Sets the index of the point that will be generated by the next call to {@link #next(double[])}.
+	 * <p>
+	 * If {@code index} is less than {@code 0L} or greater than or equal to {@link #MAXIMUM_POINTS}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param index the index of the point that will be generated by the next call to {@code next(double[])}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code index} is less than {@code 0L} or greater than or equal to {@code HaltonSequence.MAXIMUM_POINTS}
+	 */
+	public void setIndex(final long index) {
+		if(index < 0L) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "index", Long.valueOf(0L), "index", Long.valueOf(index)));
+		} else if(index >= MAXIMUM_POINTS) {
+			throw new IllegalArgumentException(String.format("%s >= %d: %s == %d", "index", Long.valueOf(MAXIMUM_POINTS), "index", Long.valueOf(index)));
+		}
+		
+		this.index = index;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the prime number that is used as the base for dimension {@code dimension}.
+	 * <p>
+	 * If {@code dimension} is less than {@code 0} or greater than or equal to {@link #MAXIMUM_DIMENSIONS}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param dimension the dimension
+	 * @return the prime number that is used as the base for dimension {@code dimension}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code dimension} is less than {@code 0} or greater than or equal to {@code HaltonSequence.MAXIMUM_DIMENSIONS}
+	 */
+	public static int getBase(final int dimension) {
+		return PRIMES[doRequireRange(dimension, 0, MAXIMUM_DIMENSIONS - 1, "dimension")];
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static double doRadicalInverse(final long index, final int base) {
+		long a = index;
+		long baseM = 1L;
+		long reversedDigits = 0L;
+		
+		while(a != 0L) {
+			final long next = a / base;
+			final long digit = a - next * base;
+			
+			reversedDigits = reversedDigits * base + digit;
+			
+			baseM *= base;
+			
+			a = next;
+		}
+		
+		return Randoms.nextDoubleInternal(1.0D, reversedDigits / (double)(baseM));
+	}
+	
+	private static double doRadicalInverseScrambled(final long index, final int base, final long hash) {
+		final long maximum = (1L << 53) / base;
+		
+		long a = index;
+		long baseM = 1L;
+		long prefix = 1L;
+		long reversedDigits = 0L;
+		
+//		The digits are scrambled until the next one would no longer fit in the 53 bits of a double. The leading 1 in prefix separates prefixes of different lengths:
+		while(baseM <= maximum) {
+			final long next = a / base;
+			final long digit = a - next * base;
+			final long shift = Long.remainderUnsigned(AbstractSplittableRandom.mix64(hash ^ prefix), base);
+			
+			reversedDigits = reversedDigits * base + (digit + shift) % base;
+			
+			baseM *= base;
+			
+			prefix = prefix * base + digit;
+			
+			a = next;
+		}
+		
+		return Randoms.nextDoubleInternal(1.0D, reversedDigits / (double)(baseM));
+	}
+	
+	private static int doRequireRange(final int value, final int minimum, final int maximum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		} else if(value > maximum) {
+			throw new IllegalArgumentException(String.format("%s > %d: %s == %d", name, Integer.valueOf(maximum), name, Integer.valueOf(value)));
+		} else {
+			return value;
+		}
+	}
+	
+	private static int doScramble(final int index, final int seed) {
+		int value = index;
+		
+		value ^= value * 0x3D20ADEA;
+		value += seed;
+		value *= (seed >>> 16) | 1;
+		value ^= value * 0x05526C56;
+		value ^= value * 0x53A22864;
+		
+		return value;
+	}
+	
+	private static int[] doCreatePrimes(final int count) {
+		final int[] primes = new int[count];
+		
+		int index = 0;
+		
+		for(int candidate = 2; index < count; candidate++) {
+			boolean isPrime = true;
+			
+			for(int i = 0; i < index && primes[i] * primes[i] <= candidate; i++) {
+				if(candidate % primes[i] == 0) {
+					isPrime = false;
+					
+					break;
+				}
+			}
+			
+			if(isPrime) {
+				primes[index++] = candidate;
+			}
+		}
+		
+		return primes;
+	}
+}
\ No newline at end of file
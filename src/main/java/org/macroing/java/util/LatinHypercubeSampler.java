@@ -0,0 +1,194 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.Objects;
+
+/**
+ * A {@code LatinHypercubeSampler} generates samples in the unit hypercube using Latin hypercube sampling.
+ * <p>
+ * Each dimension is divided into {@code samples} strata of equal size. The samples are generated in passes of {@code samples} samples, and in each pass each stratum of each dimension contains exactly one sample. The strata of the different dimensions are paired using independent random permutations, which are shuffled in place at the start of each pass.
+ * <p>
+ * Unlike {@link StratifiedSampler}, the number of samples in a pass does not grow exponentially with the number of dimensions. Each one-dimensional projection of a pass is stratified, but the pass as a whole is not.
+ * <p>
+ * The permutations and the positions within the strata are generated by a {@link Xoshiro256StarStar}.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class LatinHypercubeSampler {
+	/**
+	 * Contains the {@code Xoshiro256StarStar} instance that generates the permutations and the positions within the strata.
+	 */
+	private final Xoshiro256StarStar xoshiro256StarStar;
+	
+	/**
+	 * Contains the reciprocal of the number of samples in each pass.
+	 */
+	private final double samplesReciprocal;
+	
+	/**
+	 * Contains the permutations, {@code samples} for each dimension.
+	 */
+	private final int[] permutations;
+	
+	/**
+	 * Contains the number of dimensions.
+	 */
+	private final int dimensions;
+	
+	/**
+	 * Contains the number of samples in each pass.
+	 */
+	private final int samples;
+	
+	/**
+	 * Contains the index of the current sample within the current pass.
+	 */
+	private int sample;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code LatinHypercubeSampler} instance given the number of dimensions, the number of samples in each pass and a seed.
+	 * <p>
+	 * If {@code dimensions} is less than {@code 1}, {@code samples} is less than {@code 1} or {@code dimensions * samples} is greater than {@code Integer.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Two instances with the same arguments generate the same samples.
+	 * 
+	 * @param dimensions the number of dimensions
+	 * @param samples the number of samples in each pass
+	 * @param seed the seed to use
+	 * @throws IllegalArgumentException thrown if, and only if, {@code dimensions} is less than {@code 1}, {@code samples} is less than {@code 1} or {@code dimensions * samples} is greater than {@code Integer.MAX_VALUE}
+	 */
+	public LatinHypercubeSampler(final int dimensions, final int samples, final long seed) {
+		this.dimensions = doRequireRange(dimensions, 1, Integer.MAX_VALUE, "dimensions");
+		this.samples = doRequireRange(samples, 1, Integer.MAX_VALUE / dimensions, "samples");
+		this.samplesReciprocal = 1.0D / samples;
+		this.permutations = new int[dimensions * samples];
+		this.sample = 0;
+		this.xoshiro256StarStar = new Xoshiro256StarStar(seed);
+		
+		for(int i = 0; i < dimensions; i++) {
+			for(int j = 0; j < samples; j++) {
+				this.permutations[i * samples + j] = j;
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Generates the next sample of this {@code LatinHypercubeSampler} instance and stores its coordinates in {@code out}.
+	 * <p>
+	 * Returns {@code out}.
+	 * <p>
+	 * If {@code out} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code out.length} is less than {@link #getDimensions()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The coordinates are stored in {@code out[0]} to {@code out[getDimensions() - 1]}, and each of them is between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). This method does not allocate any memory.
+	 * 
+	 * @param out the {@code double[]} to store the coordinates in
+	 * @return {@code out}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code out.length} is less than {@code getDimensions()}
+	 * @throws NullPointerException thrown if, and only if, {@code out} is {@code null}
+	 */
+	public double[] next(final double[] out) {
+		Objects.requireNonNull(out, "out == null");
+		
+		doRequireRange(out.length, this.dimensions, Integer.MAX_VALUE, "out.length");
+		
+		if(this.sample == 0) {
+			doShuffle();
+		}
+		
+		final Xoshiro256StarStar xoshiro256StarStar = this.xoshiro256StarStar;
+		
+		final double samplesReciprocal = this.samplesReciprocal;
+		
+		final int[] permutations = this.permutations;
+		
+		final int samples = this.samples;
+		final int sample = this.sample;
+		
+		for(int i = 0; i < this.dimensions; i++) {
+			out[i] = Randoms.nextDoubleInternal(1.0D, (permutations[i * samples + sample] + xoshiro256StarStar.nextDouble()) * samplesReciprocal);
+		}
+		
+		this.sample = sample + 1 < samples ? sample + 1 : 0;
+		
+		return out;
+	}
+	
+	/**
+	 * Returns the number of dimensions of this {@code LatinHypercubeSampler} instance.
+	 * 
+	 * @return the number of dimensions of this {@code LatinHypercubeSampler} instance
+	 */
+	public int getDimensions() {
+		return this.dimensions;
+	}
+	
+	/**
+	 * Returns the number of samples in each pass of this {@code LatinHypercubeSampler} instance.
+	 * 
+	 * @return the number of samples in each pass of this {@code LatinHypercubeSampler} instance
+	 */
+	public int getSamples() {
+		return this.samples;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doShuffle() {
+		final Xoshiro256StarStar xoshiro256StarStar = this.xoshiro256StarStar;
+		
+		final int[] permutations = this.permutations;
+		
+		final int samples = this.samples;
+		
+		for(int i = 0; i < this.dimensions; i++) {
+			final int offset = i * samples;
+			
+			for(int j = samples - 1; j > 0; j--) {
+				final int k = xoshiro256StarStar.nextInt(j + 1);
+				
+				final int permutation = permutations[offset + j];
+				
+				permutations[offset + j] = permutations[offset + k];
+				permutations[offset + k] = permutation;
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireRange(final int value, final int minimum, final int maximum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		} else if(value > maximum) {
+			throw new IllegalArgumentException(String.format("%s > %d: %s == %d", name, Integer.valueOf(maximum), name, Integer.valueOf(value)));
+		} else {
+			return value;
+		}
+	}
+}
\ No newline at end of file
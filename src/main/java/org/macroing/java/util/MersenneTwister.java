@@ -0,0 +1,519 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
+/**
+ * A {@code MersenneTwister} is a pseudorandom number generator that implements the Mersenne Twister algorithm, MT19937.
+ * <p>
+ * This class does not extend {@code Random} and is not thread-safe. It is intended for hot loops, such as Monte Carlo sampling, where each thread owns its own generator. The methods generate their values directly from the 32-bit outputs of the algorithm, without the indirection of {@code Random.next(int)}. If a {@code Random} is required, use {@link #asRandom()}.
+ * <p>
+ * The state is regenerated a full block of {@code 624} values at a time.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class MersenneTwister implements Serializable {
+	private static final int LOWER_MASK = 0x7FFFFFFF;
+	private static final int M = 397;
+	private static final int MATRIX_A = 0x9908B0DF;
+	private static final int N = 624;
+	private static final int SEED_KEY = 19650218;
+	private static final int TEMPERING_MASK_B = 0x9D2C5680;
+	private static final int TEMPERING_MASK_C = 0xEFC60000;
+	private static final int UPPER_MASK = 0x80000000;
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the index of the next value in {@code mt}.
+	 */
+	private int mti;
+	
+	/**
+	 * Contains the state.
+	 */
+	private final int[] mt;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code MersenneTwister} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new MersenneTwister(System.nanoTime());
+	 * }
+	 * </pre>
+	 */
+	public MersenneTwister() {
+		this(System.nanoTime());
+	}
+	
+	/**
+	 * Constructs a new {@code MersenneTwister} instance given a key.
+	 * <p>
+	 * If {@code key} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code key.length} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * This constructor initializes the state in the same way as the function {@code init_by_array} in the reference implementation of the Mersenne Twister algorithm, so it can use all {@code 19937} bits of the state.
+	 * 
+	 * @param key the key to use
+	 * @throws IllegalArgumentException thrown if, and only if, {@code key.length} is less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, {@code key} is {@code null}
+	 */
+	public MersenneTwister(final int[] key) {
+		Objects.requireNonNull(key, "key == null");
+		
+		if(key.length < 1) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "key.length", Integer.valueOf(1), "key.length", Integer.valueOf(key.length)));
+		}
+		
+		this.mt = new int[N];
+		
+		setSeed(SEED_KEY);
+		
+		final int[] mt = this.mt;
+		
+		int i = 1;
+		int j = 0;
+		
+		for(int k = Math.max(N, key.length); k > 0; k--) {
+			mt[i] = (mt[i] ^ ((mt[i - 1] ^ (mt[i - 1] >>> 30)) * 1664525)) + key[j] + j;
+			
+			i++;
+			j++;
+			
+			if(i >= N) {
+				mt[0] = mt[N - 1];
+				
+				i = 1;
+			}
+			
+			if(j >= key.length) {
+				j = 0;
+			}
+		}
+		
+		for(int k = N - 1; k > 0; k--) {
+			mt[i] = (mt[i] ^ ((mt[i - 1] ^ (mt[i - 1] >>> 30)) * 1566083941)) - i;
+			
+			i++;
+			
+			if(i >= N) {
+				mt[0] = mt[N - 1];
+				
+				i = 1;
+			}
+		}
+		
+		mt[0] = UPPER_MASK;
+	}
+	
+	/**
+	 * Constructs a new {@code MersenneTwister} instance given a seed.
+	 * <p>
+	 * Only the {@code 32} least significant bits of {@code seed} are used. This constructor initializes the state in the same way as the function {@code init_genrand} in the reference implementation of the Mersenne Twister algorithm.
+	 * 
+	 * @param seed the seed to use
+	 */
+	public MersenneTwister(final long seed) {
+		this.mt = new int[N];
+		
+		setSeed(seed);
+	}
+	
+	MersenneTwister(final int[] mt, final int mti) {
+		this.mt = mt.clone();
+		this.mti = mti;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a new {@code MersenneTwister} instance that shares no mutable state with this {@code MersenneTwister} instance.
+	 * <p>
+	 * The returned instance is initialized using {@link #MersenneTwister(int[])} with a key of four {@code int} values derived from this instance. Two instances that are split from the same state will generate the same values, so the result is reproducible for a given seed.
+	 * <p>
+	 * The Mersenne Twister algorithm has no efficient jump function, so the values generated by the returned instance are not guaranteed to never overlap with the values generated by this instance. Given the period of {@code 2}<sup>{@code 19937}</sup>{@code  - 1}, an overlap is very unlikely in practice.
+	 * 
+	 * @return a new {@code MersenneTwister} instance that shares no mutable state with this {@code MersenneTwister} instance
+	 */
+	public MersenneTwister split() {
+		final long a = AbstractSplittableRandom.mix64(nextLong());
+		final long b = AbstractSplittableRandom.mix64(nextLong());
+		
+		return new MersenneTwister(new int[] {(int)(a >>> 32), (int)(a), (int)(b >>> 32), (int)(b)});
+	}
+	
+	/**
+	 * Returns a {@link MersenneTwisterRandom} that is backed by this {@code MersenneTwister} instance.
+	 * <p>
+	 * The returned {@code MersenneTwisterRandom} shares its state with this {@code MersenneTwister} instance, so values generated by one of them will not be generated by the other.
+	 * 
+	 * @return a {@code MersenneTwisterRandom} that is backed by this {@code MersenneTwister} instance
+	 */
+	public MersenneTwisterRandom asRandom() {
+		return new MersenneTwisterRandom(this);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code boolean} value.
+	 * 
+	 * @return a pseudorandom {@code boolean} value
+	 */
+	public boolean nextBoolean() {
+		return nextInt() < 0;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * The value has a {@code 53}-bit mantissa that is created from two consecutive {@code int} values, in the same way as the function {@code genrand_res53} in the reference implementation of the Mersenne Twister algorithm.
+	 * 
+	 * @return a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 */
+	public double nextDouble() {
+		final int a = nextInt() >>> 5;
+		final int b = nextInt() >>> 6;
+		
+		return ((long)(a) << 26 | b) * 0x1.0p-53D;
+	}
+	
+	/**
+	 * Fills the remaining elements of {@code buffer} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive) using this {@code MersenneTwister} instance.
+	 * <p>
+	 * Returns {@code buffer}.
+	 * <p>
+	 * If {@code buffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code buffer} is read-only, a {@code ReadOnlyBufferException} will be thrown.
+	 * <p>
+	 * The values are put from the position of {@code buffer} up to its limit. When this method returns, the position of {@code buffer} is equal to its limit.
+	 * 
+	 * @param buffer the {@code DoubleBuffer} to fill
+	 * @return {@code buffer}
+	 * @throws NullPointerException thrown if, and only if, {@code buffer} is {@code null}
+	 * @throws ReadOnlyBufferException thrown if, and only if, {@code buffer} is read-only
+	 */
+	public DoubleBuffer nextDoubles(final DoubleBuffer buffer) {
+		return Randoms.nextDoublesInternal(buffer, this::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive) using this {@code MersenneTwister} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextDouble();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public double[] nextDoubles(final double[] array) {
+		return Randoms.nextDoublesInternal(array, this::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code origin} (inclusive) and {@code bound} (exclusive) using this {@code MersenneTwister} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public double[] nextDoubles(final double[] array, final double origin, final double bound) {
+		return Randoms.nextDoublesInternal(array, origin, bound, this::nextDouble);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
+	 * <p>
+	 * The value has a {@code 24}-bit mantissa that is created from the {@code 24} most significant bits of {@link #nextInt()}.
+	 * 
+	 * @return a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive)
+	 */
+	public float nextFloat() {
+		return (nextInt() >>> 8) * 0x1.0p-24F;
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive) using this {@code MersenneTwister} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextFloat();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public float[] nextFloats(final float[] array) {
+		return Randoms.nextFloatsInternal(array, this::nextFloat);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code origin} (inclusive) and {@code bound} (exclusive) using this {@code MersenneTwister} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public float[] nextFloats(final float[] array, final float origin, final float bound) {
+		return Randoms.nextFloatsInternal(array, origin, bound, this::nextFloat);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value.
+	 * <p>
+	 * The value is the next 32-bit output of the algorithm, the same as the function {@code genrand_int32} in the reference implementation of the Mersenne Twister algorithm.
+	 * 
+	 * @return a pseudorandom {@code int} value
+	 */
+	public int nextInt() {
+		if(this.mti >= N) {
+			doTwist();
+		}
+		
+		int y = this.mt[this.mti++];
+		
+		y ^= y >>> 11;
+		y ^= (y << 7) & TEMPERING_MASK_B;
+		y ^= (y << 15) & TEMPERING_MASK_C;
+		y ^= y >>> 18;
+		
+		return y;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value between {@code 0} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If {@code bound} is less than or equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * This method uses the multiply-and-shift method by Daniel Lemire, which avoids a division in all but a small fraction of the calls.
+	 * 
+	 * @param bound the upper bound (exclusive) that must be positive
+	 * @return a pseudorandom {@code int} value between {@code 0} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, {@code bound} is less than or equal to {@code 0}
+	 */
+	public int nextInt(final int bound) {
+		if(bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		
+		long product = (nextInt() & 0xFFFFFFFFL) * bound;
+		
+		if(Integer.compareUnsigned((int)(product), bound) < 0) {
+			final int threshold = Integer.remainderUnsigned(-bound, bound);
+			
+			while(Integer.compareUnsigned((int)(product), threshold) < 0) {
+				product = (nextInt() & 0xFFFFFFFFL) * bound;
+			}
+		}
+		
+		return (int)(product >>> 32);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code int} values using this {@code MersenneTwister} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextInt();
+	 * }
+	 * }
+	 * </pre>
+	 * <p>
+	 * The values are tempered a block at a time, directly from the state, which allows the loop to be vectorized.
+	 * 
+	 * @param array the {@code int[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public int[] nextInts(final int[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		final int[] mt = this.mt;
+		
+		for(int i = 0; i < array.length;) {
+			if(this.mti >= N) {
+				doTwist();
+			}
+			
+			final int mti = this.mti;
+			final int count = Math.min(array.length - i, N - mti);
+			
+			for(int j = 0; j < count; j++) {
+				int y = mt[mti + j];
+				
+				y ^= y >>> 11;
+				y ^= (y << 7) & TEMPERING_MASK_B;
+				y ^= (y << 15) & TEMPERING_MASK_C;
+				y ^= y >>> 18;
+				
+				array[i + j] = y;
+			}
+			
+			this.mti = mti + count;
+			
+			i += count;
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code long} value.
+	 * <p>
+	 * The value is created from two consecutive {@code int} values, the first of which contains the {@code 32} most significant bits.
+	 * 
+	 * @return a pseudorandom {@code long} value
+	 */
+	public long nextLong() {
+		final long a = nextInt();
+		final long b = nextInt() & 0xFFFFFFFFL;
+		
+		return a << 32 | b;
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code long} values using this {@code MersenneTwister} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextLong();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code long[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public long[] nextLongs(final long[] array) {
+		return Randoms.nextLongsInternal(array, this::nextLong);
+	}
+	
+	/**
+	 * Sets the seed for this {@code MersenneTwister} instance.
+	 * <p>
+	 * Only the {@code 32} least significant bits of {@code seed} are used. This method initializes the state in the same way as the function {@code init_genrand} in the reference implementation of the Mersenne Twister algorithm.
+	 * 
+	 * @param seed the new seed
+	 */
+	public void setSeed(final long seed) {
+		final int[] mt = this.mt;
+		
+		mt[0] = (int)(seed);
+		
+		for(int i = 1; i < N; i++) {
+			mt[i] = 1812433253 * (mt[i - 1] ^ (mt[i - 1] >>> 30)) + i;
+		}
+		
+		this.mti = N;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	int getMTI() {
+		return this.mti;
+	}
+	
+	int[] getMT() {
+		return this.mt.clone();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doTwist() {
+		final int[] mt = this.mt;
+		
+		for(int i = 0; i < N - M; i++) {
+			final int y = (mt[i] & UPPER_MASK) | (mt[i + 1] & LOWER_MASK);
+			
+			mt[i] = mt[i + M] ^ (y >>> 1) ^ (-(y & 0x1) & MATRIX_A);
+		}
+		
+		for(int i = N - M; i < N - 1; i++) {
+			final int y = (mt[i] & UPPER_MASK) | (mt[i + 1] & LOWER_MASK);
+			
+			mt[i] = mt[i + (M - N)] ^ (y >>> 1) ^ (-(y & 0x1) & MATRIX_A);
+		}
+		
+		final int y = (mt[N - 1] & UPPER_MASK) | (mt[0] & LOWER_MASK);
+		
+		mt[N - 1] = mt[M - 1] ^ (y >>> 1) ^ (-(y & 0x1) & MATRIX_A);
+		
+		this.mti = 0;
+	}
+}
\ No newline at end of file
@@ -18,40 +18,41 @@
  */
 package org.macroing.java.util;
 
-import java.util.Random;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.util.Objects;
 
 /**
  * A {@code MersenneTwisterRandom} is a {@code Random} implementation that implements the Mersenne Twister algorithm.
+ * <p>
+ * The values are generated by a {@link MersenneTwister}, to which this class delegates. Code that does not need a {@code Random}, such as a hot sampling loop, should use a {@code MersenneTwister} directly, to avoid the overhead of {@code Random}.
+ * <p>
+ * The method {@link #split()} can be used to create a new {@code MersenneTwisterRandom} instance for another thread. The streams returned by this class use it to give each task of a parallel stream its own generator.
  * 
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
  */
-public final class MersenneTwisterRandom extends Random {
-	private static final int LOWER_MASK = 0x7FFFFFFF;
-	private static final int M = 397;
+public final class MersenneTwisterRandom extends AbstractSplittableRandom {
 	private static final int MATRIX_A = 0x9908B0DF;
 	private static final int N = 624;
-	private static final int TEMPERING_MASK_B = 0x9D2C5680;
-	private static final int TEMPERING_MASK_C = 0xEFC60000;
-	private static final int UPPER_MASK = 0x80000000;
 	private static final long serialVersionUID = 1L;
 	
-	////////////////////////////////////////////////////////////////////////////////////////////////////
-	
 	/**
-	 * Contains the mti value.
+	 * The serializable fields of this class.
+	 * <p>
+	 * The state of the {@code MersenneTwister} is serialized as the fields {@code mt} and {@code mti}, together with the constant array {@code mag01}, which were the fields of earlier versions of this class.
 	 */
-	private int mti;
+	private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("mti", Integer.TYPE), new ObjectStreamField("mag01", int[].class), new ObjectStreamField("mt", int[].class)};
 	
-	/**
-	 * Contains the mag01 value.
-	 */
-	private int[] mag01;
+	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
-	 * Contains the mt value.
+	 * Contains the {@code MersenneTwister} instance that generates the values.
 	 */
-	private int[] mt;
+	private MersenneTwister mersenneTwister;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -69,39 +70,111 @@ public final class MersenneTwisterRandom extends Random {
 		this(System.nanoTime());
 	}
 	
+	/**
+	 * Constructs a new {@code MersenneTwisterRandom} instance given a key.
+	 * <p>
+	 * If {@code key} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code key.length} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * This constructor initializes the state in the same way as the function {@code init_by_array} in the reference implementation of the Mersenne Twister algorithm, so it can use all {@code 19937} bits of the state.
+	 * 
+	 * @param key the key to use
+	 * @throws IllegalArgumentException thrown if, and only if, {@code key.length} is less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, {@code key} is {@code null}
+	 */
+	public MersenneTwisterRandom(final int[] key) {
+		this(new MersenneTwister(key));
+	}
+	
 	/**
 	 * Constructs a new {@code MersenneTwisterRandom} instance given a seed.
 	 * 
 	 * @param seed the seed to use
 	 */
 	public MersenneTwisterRandom(final long seed) {
-		super(seed);
-		
-		setSeed(seed);
+		this(new MersenneTwister(seed));
+	}
+	
+	MersenneTwisterRandom(final MersenneTwister mersenneTwister) {
+		this.mersenneTwister = Objects.requireNonNull(mersenneTwister, "mersenneTwister == null");
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	/**
+	 * Returns a new {@code MersenneTwisterRandom} instance that shares no mutable state with this {@code MersenneTwisterRandom} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * mersenneTwister.split().asRandom();
+	 * }
+	 * </pre>
+	 * <p>
+	 * The Mersenne Twister algorithm has no efficient jump function, so the values generated by the returned instance are not guaranteed to never overlap with the values generated by this instance. Given the period of {@code 2}<sup>{@code 19937}</sup>{@code  - 1}, an overlap is very unlikely in practice.
+	 * 
+	 * @return a new {@code MersenneTwisterRandom} instance that shares no mutable state with this {@code MersenneTwisterRandom} instance
+	 */
+	@Override
+	public MersenneTwisterRandom split() {
+		return new MersenneTwisterRandom(this.mersenneTwister.split());
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * The value is the same as the one returned by {@code Random.nextDouble()}, but it is computed without the two calls to {@link #next(int)}.
+	 * 
+	 * @return a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 */
+	@Override
+	public double nextDouble() {
+		final long a = this.mersenneTwister.nextInt() >>> 6;
+		final long b = this.mersenneTwister.nextInt() >>> 5;
+		
+		return (a << 27 | b) * 0x1.0p-53D;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
+	 * <p>
+	 * The value is the same as the one returned by {@code Random.nextFloat()}, but it is computed without the call to {@link #next(int)}.
+	 * 
+	 * @return a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive)
+	 */
+	@Override
+	public float nextFloat() {
+		return (this.mersenneTwister.nextInt() >>> 8) * 0x1.0p-24F;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value.
+	 * 
+	 * @return a pseudorandom {@code int} value
+	 */
+	@Override
+	public int nextInt() {
+		return this.mersenneTwister.nextInt();
+	}
+	
 	/**
 	 * Sets the seed for this {@code MersenneTwisterRandom} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * mersenneTwister.setSeed(seed);
+	 * }
+	 * </pre>
 	 * 
 	 * @param seed the new seed
 	 */
 	@Override
 	public synchronized void setSeed(final long seed) {
-		super.setSeed(seed);
-		
-		this.mt = new int[N];
-		
-		this.mag01 = new int[2];
-		this.mag01[0] = 0x0;
-		this.mag01[1] = MATRIX_A;
-		
-		this.mt[0] = (int)(seed & 0xFFFFFFFF);
-		
-		for(this.mti = 1; this.mti < N; this.mti++) {
-			this.mt[this.mti] = (1812433253 * (this.mt[this.mti - 1] ^ (this.mt[this.mti - 1] >>> 30)) + this.mti);
-			this.mt[this.mti] &= 0xFFFFFFFF;
+//		The constructor of Random calls this method before the field has been assigned:
+		if(this.mersenneTwister != null) {
+			this.mersenneTwister.setSeed(seed);
 		}
 	}
 	
@@ -115,39 +188,40 @@ public final class MersenneTwisterRandom extends Random {
 	 */
 	@Override
 	protected int next(final int bits) {
-		int y;
+		return this.mersenneTwister.nextInt() >>> (32 - bits);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void readObject(final ObjectInputStream objectInputStream) throws ClassNotFoundException, IOException {
+		final ObjectInputStream.GetField getField = objectInputStream.readFields();
 		
-		if(this.mti >= N) {
-			int kk;
-			
-			final int[] mt = this.mt;
-			final int[] mag01 = this.mag01;
-			
-			for(kk = 0; kk < N - M; kk++) {
-				y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
-				
-				mt[kk] = mt[kk + M] ^ (y >>> 1) ^ mag01[y & 0x1];
-			}
-			
-			for(; kk < N - 1; kk++) {
-				y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
-				
-				mt[kk] = mt[kk + (M - N)] ^ (y >>> 1) ^ mag01[y & 0x1];
-			}
-			
-			y = (mt[N - 1] & UPPER_MASK) | (mt[0] & LOWER_MASK);
-			
-			mt[N - 1] = mt[M - 1] ^ (y >>> 1) ^ mag01[y & 0x1];
-			
-			this.mti = 0;
+		final int mti = getField.get("mti", 0);
+		
+		final int[] mt = int[].class.cast(getField.get("mt", null));
+		
+		if(mt == null) {
+			throw new InvalidObjectException("mt == null");
 		}
 		
-		y = this.mt[this.mti++];
-		y ^= y >>> 11;
-		y ^= (y << 7) & TEMPERING_MASK_B;
-		y ^= (y << 15) & TEMPERING_MASK_C;
-		y ^= (y >>> 18);
+		if(mt.length != N) {
+			throw new InvalidObjectException(String.format("%s != %d: %s == %d", "mt.length", Integer.valueOf(N), "mt.length", Integer.valueOf(mt.length)));
+		}
+		
+		if(mti < 0 || mti > N) {
+			throw new InvalidObjectException(String.format("%s < 0 || %s > %d: %s == %d", "mti", "mti", Integer.valueOf(N), "mti", Integer.valueOf(mti)));
+		}
+		
+		this.mersenneTwister = new MersenneTwister(mt, mti);
+	}
+	
+	private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+		final ObjectOutputStream.PutField putField = objectOutputStream.putFields();
+		
+		putField.put("mti", this.mersenneTwister.getMTI());
+		putField.put("mag01", new int[] {0x0, MATRIX_A});
+		putField.put("mt", this.mersenneTwister.getMT());
 		
-		return y >>> (32 - bits);
+		objectOutputStream.writeFields();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A {@code PiecewiseConstant1D} samples values from a piecewise-constant probability density function on the interval from {@code 0.0D} (inclusive) to {@code 1.0D} (exclusive).
+ * <p>
+ * The function is defined by an array of {@code n} non-negative values, where {@code function[i]} is the value of the function on the interval from {@code i / n} (inclusive) to {@code (i + 1) / n} (exclusive). The probability density function is the function divided by its integral.
+ * <p>
+ * The method {@link #sample(double)} inverts the cumulative distribution function using a {@link DiscreteDistribution}, so the expected cost is {@code O(1)} and the mapping is monotonic.
+ * <p>
+ * A {@code PiecewiseConstant1D} is immutable and can be shared between threads. Sampling does not allocate any memory.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class PiecewiseConstant1D {
+	/**
+	 * Contains the {@code DiscreteDistribution} instance that chooses the interval.
+	 */
+	private final DiscreteDistribution discreteDistribution;
+	
+	/**
+	 * Contains the integral of the function.
+	 */
+	private final double integral;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code PiecewiseConstant1D} instance given its function.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code function.length} is less than {@code 1}, any value is negative, infinite or NaN, or the sum of all values is not greater than {@code 0.0D} and finite, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The values are copied, so changes to {@code function} will not affect this {@code PiecewiseConstant1D} instance.
+	 * 
+	 * @param function the values of the function
+	 * @throws IllegalArgumentException thrown if, and only if, {@code function.length} is less than {@code 1}, any value is negative, infinite or NaN, or the sum of all values is not greater than {@code 0.0D} and finite
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public PiecewiseConstant1D(final double[] function) {
+		this.integral = DiscreteDistribution.requireWeights(function, "function") / function.length;
+		this.discreteDistribution = new DiscreteDistribution(function);
+	}
+	
+	/**
+	 * Constructs a new {@code PiecewiseConstant1D} instance given its function.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code function.length} is less than {@code 1}, any value is negative, infinite or NaN, or the sum of all values is not greater than {@code 0.0D} and finite, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to calling {@link #PiecewiseConstant1D(double[])} with the values converted to {@code double} values.
+	 * 
+	 * @param function the values of the function
+	 * @throws IllegalArgumentException thrown if, and only if, {@code function.length} is less than {@code 1}, any value is negative, infinite or NaN, or the sum of all values is not greater than {@code 0.0D} and finite
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public PiecewiseConstant1D(final float[] function) {
+		this(DiscreteDistribution.toDoubleArray(function, "function"));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the integral of the function of this {@code PiecewiseConstant1D} instance over the interval from {@code 0.0D} to {@code 1.0D}.
+	 * 
+	 * @return the integral of the function of this {@code PiecewiseConstant1D} instance over the interval from {@code 0.0D} to {@code 1.0D}
+	 */
+	public double getIntegral() {
+		return this.integral;
+	}
+	
+	/**
+	 * Returns the value of the probability density function of this {@code PiecewiseConstant1D} instance at {@code x}.
+	 * <p>
+	 * If {@code x} is outside of the interval from {@code 0.0D} (inclusive) to {@code 1.0D} (exclusive), {@code 0.0D} will be returned.
+	 * 
+	 * @param x a value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @return the value of the probability density function of this {@code PiecewiseConstant1D} instance at {@code x}
+	 */
+	public double pdf(final double x) {
+		if(!(x >= 0.0D && x < 1.0D)) {
+			return 0.0D;
+		}
+		
+		final int n = this.discreteDistribution.size();
+		
+		return this.discreteDistribution.getProbability(Math.min((int)(x * n), n - 1)) * n;
+	}
+	
+	/**
+	 * Returns a value that is sampled from this {@code PiecewiseConstant1D} instance using the uniform value {@code u}.
+	 * <p>
+	 * The returned value is between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). Its probability density is given by {@link #pdf(double)}.
+	 * 
+	 * @param u a uniform value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @return a value that is sampled from this {@code PiecewiseConstant1D} instance using the uniform value {@code u}
+	 */
+	public double sample(final double u) {
+		final DiscreteDistribution discreteDistribution = this.discreteDistribution;
+		
+		final int index = discreteDistribution.sample(u);
+		
+		return Randoms.nextDoubleInternal(1.0D, (index + discreteDistribution.remap(u, index)) / discreteDistribution.size());
+	}
+	
+	/**
+	 * Returns a value that is sampled from this {@code PiecewiseConstant1D} instance using a uniform value from {@code doubleSupplier}.
+	 * <p>
+	 * If {@code doubleSupplier} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * piecewiseConstant1D.sample(doubleSupplier.getAsDouble());
+	 * }
+	 * </pre>
+	 * 
+	 * @param doubleSupplier a {@code DoubleSupplier} that returns uniform values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @return a value that is sampled from this {@code PiecewiseConstant1D} instance using a uniform value from {@code doubleSupplier}
+	 * @throws NullPointerException thrown if, and only if, {@code doubleSupplier} is {@code null}
+	 */
+	public double sample(final DoubleSupplier doubleSupplier) {
+		return sample(doubleSupplier.getAsDouble());
+	}
+	
+	/**
+	 * Returns the number of intervals in this {@code PiecewiseConstant1D} instance.
+	 * 
+	 * @return the number of intervals in this {@code PiecewiseConstant1D} instance
+	 */
+	public int size() {
+		return this.discreteDistribution.size();
+	}
+}
\ No newline at end of file
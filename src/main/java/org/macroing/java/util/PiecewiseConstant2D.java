@@ -0,0 +1,265 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A {@code PiecewiseConstant2D} samples points from a piecewise-constant probability density function on the unit square.
+ * <p>
+ * The function is defined by an array of {@code width * height} non-negative values in row-major order, where {@code function[y * width + x]} is the value of the function in the cell with column {@code x} and row {@code y}. This matches the layout of an image, such as an environment map.
+ * <p>
+ * A point is sampled by first sampling a row from the marginal distribution of the rows, and then sampling a column from the conditional distribution of the chosen row. Both steps invert a cumulative distribution function using a {@link DiscreteDistribution}, so the expected cost is {@code O(1)} and the mapping is monotonic in each coordinate.
+ * <p>
+ * A {@code PiecewiseConstant2D} is immutable and can be shared between threads. Sampling does not allocate any memory.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class PiecewiseConstant2D {
+	/**
+	 * Contains the marginal distribution of the rows.
+	 */
+	private final DiscreteDistribution marginal;
+	
+	/**
+	 * Contains the conditional distribution of each row.
+	 */
+	private final DiscreteDistribution[] conditionals;
+	
+	/**
+	 * Contains the values of the function.
+	 */
+	private final double[] function;
+	
+	/**
+	 * Contains the integral of the function.
+	 */
+	private final double integral;
+	
+	/**
+	 * Contains the number of rows.
+	 */
+	private final int height;
+	
+	/**
+	 * Contains the number of columns.
+	 */
+	private final int width;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code PiecewiseConstant2D} instance given its function, width and height.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code width} or {@code height} is less than {@code 1}, {@code function.length} is not equal to {@code width * height}, any value is negative, infinite or NaN, or the sum of all values is not greater than {@code 0.0D} and finite, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The values are copied, so changes to {@code function} will not affect this {@code PiecewiseConstant2D} instance.
+	 * 
+	 * @param function the values of the function in row-major order
+	 * @param width the number of columns
+	 * @param height the number of rows
+	 * @throws IllegalArgumentException thrown if, and only if, {@code width} or {@code height} is less than {@code 1}, {@code function.length} is not equal to {@code width * height}, any value is negative, infinite or NaN, or the sum of all values is not greater than {@code 0.0D} and finite
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public PiecewiseConstant2D(final double[] function, final int width, final int height) {
+		Objects.requireNonNull(function, "function == null");
+		
+		if(width < 1) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "width", Integer.valueOf(1), "width", Integer.valueOf(width)));
+		}
+		
+		if(height < 1) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "height", Integer.valueOf(1), "height", Integer.valueOf(height)));
+		}
+		
+		if((long)(width) * height != function.length) {
+			throw new IllegalArgumentException(String.format("function.length != width * height: function.length == %d, width == %d, height == %d", Integer.valueOf(function.length), Integer.valueOf(width), Integer.valueOf(height)));
+		}
+		
+		this.integral = DiscreteDistribution.requireWeights(function, "function") / function.length;
+		this.function = function.clone();
+		this.width = width;
+		this.height = height;
+		this.conditionals = new DiscreteDistribution[height];
+		
+		final double[] row = new double[width];
+		final double[] rowSums = new double[height];
+		
+		for(int y = 0; y < height; y++) {
+			double rowSum = 0.0D;
+			
+			for(int x = 0; x < width; x++) {
+				rowSum += row[x] = function[y * width + x];
+			}
+			
+//			A row with a sum of 0.0D is never chosen by the marginal distribution, so any conditional distribution can be used for it:
+			if(rowSum == 0.0D) {
+				for(int x = 0; x < width; x++) {
+					row[x] = 1.0D;
+				}
+			}
+			
+			this.conditionals[y] = new DiscreteDistribution(row);
+			
+			rowSums[y] = rowSum;
+		}
+		
+		this.marginal = new DiscreteDistribution(rowSums);
+	}
+	
+	/**
+	 * Constructs a new {@code PiecewiseConstant2D} instance given its function, width and height.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code width} or {@code height} is less than {@code 1}, {@code function.length} is not equal to {@code width * height}, any value is negative, infinite or NaN, or the sum of all values is not greater than {@code 0.0D} and finite, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to calling {@link #PiecewiseConstant2D(double[], int, int)} with the values converted to {@code double} values.
+	 * 
+	 * @param function the values of the function in row-major order
+	 * @param width the number of columns
+	 * @param height the number of rows
+	 * @throws IllegalArgumentException thrown if, and only if, {@code width} or {@code height} is less than {@code 1}, {@code function.length} is not equal to {@code width * height}, any value is negative, infinite or NaN, or the sum of all values is not greater than {@code 0.0D} and finite
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public PiecewiseConstant2D(final float[] function, final int width, final int height) {
+		this(DiscreteDistribution.toDoubleArray(function, "function"), width, height);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Samples a point from this {@code PiecewiseConstant2D} instance using the uniform values {@code u} and {@code v} and stores its coordinates in {@code out}.
+	 * <p>
+	 * Returns {@code out}.
+	 * <p>
+	 * If {@code out} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code out.length} is less than {@code 2}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The value {@code v} is used to sample the row and the value {@code u} is used to sample the column. The coordinates are stored as {@code out[0]} (the column) and {@code out[1]} (the row), and each of them is between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). Their probability density is given by {@link #pdf(double, double)}.
+	 * 
+	 * @param u a uniform value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @param v a uniform value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @param out the {@code double[]} to store the coordinates in
+	 * @return {@code out}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code out.length} is less than {@code 2}
+	 * @throws NullPointerException thrown if, and only if, {@code out} is {@code null}
+	 */
+	public double[] sample(final double u, final double v, final double[] out) {
+		Objects.requireNonNull(out, "out == null");
+		
+		if(out.length < 2) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "out.length", Integer.valueOf(2), "out.length", Integer.valueOf(out.length)));
+		}
+		
+		final DiscreteDistribution marginal = this.marginal;
+		
+		final int row = marginal.sample(v);
+		
+		final DiscreteDistribution conditional = this.conditionals[row];
+		
+		final int column = conditional.sample(u);
+		
+		out[0] = Randoms.nextDoubleInternal(1.0D, (column + conditional.remap(u, column)) / this.width);
+		out[1] = Randoms.nextDoubleInternal(1.0D, (row + marginal.remap(v, row)) / this.height);
+		
+		return out;
+	}
+	
+	/**
+	 * Samples a point from this {@code PiecewiseConstant2D} instance using two uniform values from {@code doubleSupplier} and stores its coordinates in {@code out}.
+	 * <p>
+	 * Returns {@code out}.
+	 * <p>
+	 * If either {@code doubleSupplier} or {@code out} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code out.length} is less than {@code 2}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * piecewiseConstant2D.sample(doubleSupplier.getAsDouble(), doubleSupplier.getAsDouble(), out);
+	 * }
+	 * </pre>
+	 * 
+	 * @param doubleSupplier a {@code DoubleSupplier} that returns uniform values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @param out the {@code double[]} to store the coordinates in
+	 * @return {@code out}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code out.length} is less than {@code 2}
+	 * @throws NullPointerException thrown if, and only if, either {@code doubleSupplier} or {@code out} are {@code null}
+	 */
+	public double[] sample(final DoubleSupplier doubleSupplier, final double[] out) {
+		final double u = doubleSupplier.getAsDouble();
+		final double v = doubleSupplier.getAsDouble();
+		
+		return sample(u, v, out);
+	}
+	
+	/**
+	 * Returns the integral of the function of this {@code PiecewiseConstant2D} instance over the unit square.
+	 * 
+	 * @return the integral of the function of this {@code PiecewiseConstant2D} instance over the unit square
+	 */
+	public double getIntegral() {
+		return this.integral;
+	}
+	
+	/**
+	 * Returns the value of the probability density function of this {@code PiecewiseConstant2D} instance at the point {@code (x, y)}.
+	 * <p>
+	 * If {@code x} or {@code y} is outside of the interval from {@code 0.0D} (inclusive) to {@code 1.0D} (exclusive), {@code 0.0D} will be returned.
+	 * 
+	 * @param x the column coordinate, between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @param y the row coordinate, between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 * @return the value of the probability density function of this {@code PiecewiseConstant2D} instance at the point {@code (x, y)}
+	 */
+	public double pdf(final double x, final double y) {
+		if(!(x >= 0.0D && x < 1.0D && y >= 0.0D && y < 1.0D)) {
+			return 0.0D;
+		}
+		
+		final int column = Math.min((int)(x * this.width), this.width - 1);
+		final int row = Math.min((int)(y * this.height), this.height - 1);
+		
+		return this.function[row * this.width + column] / this.integral;
+	}
+	
+	/**
+	 * Returns the number of rows of this {@code PiecewiseConstant2D} instance.
+	 * 
+	 * @return the number of rows of this {@code PiecewiseConstant2D} instance
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+	
+	/**
+	 * Returns the number of columns of this {@code PiecewiseConstant2D} instance.
+	 * 
+	 * @return the number of columns of this {@code PiecewiseConstant2D} instance
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+}
\ No newline at end of file
@@ -18,10 +18,18 @@
  */
 package org.macroing.java.util;
 
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import org.macroing.java.util.function.FloatSupplier;
 
 /**
- * A class that consists exclusively of static methods that returns pseudorandom {@code boolean}, {@code double}, {@code float} and {@code int} values.
+ * A class that consists exclusively of static methods that returns pseudorandom {@code boolean}, {@code double}, {@code float} and {@code int} values, or fills arrays and buffers with them.
  * 
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
@@ -33,6 +41,26 @@ public final class Randoms {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	/**
+	 * Fills the remaining elements of {@code buffer} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * Returns {@code buffer}.
+	 * <p>
+	 * If {@code buffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code buffer} is read-only, a {@code ReadOnlyBufferException} will be thrown.
+	 * <p>
+	 * The values are put from the position of {@code buffer} up to its limit. When this method returns, the position of {@code buffer} is equal to its limit.
+	 * 
+	 * @param buffer the {@code DoubleBuffer} to fill
+	 * @return {@code buffer}
+	 * @throws NullPointerException thrown if, and only if, {@code buffer} is {@code null}
+	 * @throws ReadOnlyBufferException thrown if, and only if, {@code buffer} is read-only
+	 */
+	public static DoubleBuffer nextDoubles(final DoubleBuffer buffer) {
+		return nextDoublesInternal(buffer, ThreadLocalRandom.current()::nextDouble);
+	}
+	
 	/**
 	 * Returns a pseudorandom {@code boolean} value.
 	 * 
@@ -78,6 +106,50 @@ public final class Randoms {
 		return ThreadLocalRandom.current().nextDouble(origin, bound);
 	}
 	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = Randoms.nextDouble();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double[] nextDoubles(final double[] array) {
+		return nextDoublesInternal(array, ThreadLocalRandom.current()::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code origin} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double[] nextDoubles(final double[] array, final double origin, final double bound) {
+		return nextDoublesInternal(array, origin, bound, ThreadLocalRandom.current()::nextDouble);
+	}
+	
 	/**
 	 * Returns a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
 	 * 
@@ -126,6 +198,50 @@ public final class Randoms {
 		return nextFloatInternal(bound, result);
 	}
 	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = Randoms.nextFloat();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] nextFloats(final float[] array) {
+		return nextFloatsInternal(array, ThreadLocalRandom.current()::nextFloat);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code origin} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] nextFloats(final float[] array, final float origin, final float bound) {
+		return nextFloatsInternal(array, origin, bound, ThreadLocalRandom.current()::nextFloat);
+	}
+	
 	/**
 	 * Returns a pseudorandom {@code int} value.
 	 * 
@@ -162,9 +278,133 @@ public final class Randoms {
 		return ThreadLocalRandom.current().nextInt(origin, bound);
 	}
 	
+	/**
+	 * Fills {@code array} with pseudorandom {@code int} values.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = Randoms.nextInt();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code int[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int[] nextInts(final int[] array) {
+		return nextIntsInternal(array, ThreadLocalRandom.current()::nextInt);
+	}
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	static DoubleBuffer nextDoublesInternal(final DoubleBuffer buffer, final DoubleSupplier doubleSupplier) {
+		Objects.requireNonNull(buffer, "buffer == null");
+		
+		if(buffer.hasArray()) {
+			final double[] array = buffer.array();
+			
+			final int position = buffer.position();
+			final int offset = buffer.arrayOffset() + position;
+			final int length = buffer.remaining();
+			
+			for(int i = offset; i < offset + length; i++) {
+				array[i] = doubleSupplier.getAsDouble();
+			}
+			
+			((Buffer)(buffer)).position(position + length);
+		} else {
+			while(buffer.hasRemaining()) {
+				buffer.put(doubleSupplier.getAsDouble());
+			}
+		}
+		
+		return buffer;
+	}
+	
+	static double nextDoubleInternal(final double bound, final double result) {
+		return result < bound ? result : Double.longBitsToDouble(Double.doubleToLongBits(bound) - 1L);
+	}
+	
+	static double[] nextDoublesInternal(final double[] array, final DoubleSupplier doubleSupplier) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = doubleSupplier.getAsDouble();
+		}
+		
+		return array;
+	}
+	
+	static double[] nextDoublesInternal(final double[] array, final double origin, final double bound, final DoubleSupplier doubleSupplier) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(!(origin < bound)) {
+			throw new IllegalArgumentException("bound must be greater than origin");
+		}
+		
+		final double range = bound - origin;
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = nextDoubleInternal(bound, doubleSupplier.getAsDouble() * range + origin);
+		}
+		
+		return array;
+	}
+	
 	static float nextFloatInternal(final float bound, final float result) {
 		return result < bound ? result : Float.intBitsToFloat(Float.floatToIntBits(bound) - 1);
 	}
+	
+	static float[] nextFloatsInternal(final float[] array, final FloatSupplier floatSupplier) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = floatSupplier.getAsFloat();
+		}
+		
+		return array;
+	}
+	
+	static float[] nextFloatsInternal(final float[] array, final float origin, final float bound, final FloatSupplier floatSupplier) {
+		Objects.requireNonNull(array, "array == null");
+		
+		if(!(origin < bound)) {
+			throw new IllegalArgumentException("bound must be greater than origin");
+		}
+		
+		final float range = bound - origin;
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = nextFloatInternal(bound, floatSupplier.getAsFloat() * range + origin);
+		}
+		
+		return array;
+	}
+	
+	static int[] nextIntsInternal(final int[] array, final IntSupplier intSupplier) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = intSupplier.getAsInt();
+		}
+		
+		return array;
+	}
+	
+	static long[] nextLongsInternal(final long[] array, final LongSupplier longSupplier) {
+		Objects.requireNonNull(array, "array == null");
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = longSupplier.getAsLong();
+		}
+		
+		return array;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.Objects;
+
+/**
+ * A {@code RobertsSequence} generates the points of the R<sub>d</sub> sequence by Martin Roberts, a low-discrepancy sequence in the unit hypercube.
+ * <p>
+ * The R<sub>d</sub> sequence is an additive recurrence. Coordinate {@code j} of the point with index {@code i} is the fractional part of {@code 0.5 + i * a_j}, where {@code a_j} is {@code 1 / g}<sup>{@code j + 1}</sup> and {@code g} is the unique positive root of {@code x}<sup>{@code d + 1}</sup>{@code  = x + 1}. For {@code d == 1}, {@code g} is the golden ratio, and for {@code d == 2}, the sequence is known as the R<sub>2</sub> sequence.
+ * <p>
+ * The coordinates are stored as {@code 64}-bit binary fractions, so the recurrence is exact and does not accumulate rounding errors. Each call to {@link #next(double[])} needs a single addition per coordinate. The number of points and dimensions is not limited, and the sequence is extensible in both, but unlike {@link SobolSequence} and {@link HaltonSequence} it is not stratified in blocks of a fixed size.
+ * <p>
+ * This class is not thread-safe. Use {@link #setIndex(long)} to let each thread generate a different part of the sequence.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class RobertsSequence {
+	private static final long OFFSET = 1L << 63;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the increment for each dimension as a {@code 64}-bit binary fraction.
+	 */
+	private final long[] increments;
+	
+	/**
+	 * Contains the coordinates of the current point as {@code 64}-bit binary fractions.
+	 */
+	private final long[] point;
+	
+	/**
+	 * Contains the index of the current point.
+	 */
+	private long index;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code RobertsSequence} instance given the number of dimensions.
+	 * <p>
+	 * If {@code dimensions} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param dimensions the number of dimensions
+	 * @throws IllegalArgumentException thrown if, and only if, {@code dimensions} is less than {@code 1}
+	 */
+	public RobertsSequence(final int dimensions) {
+		if(dimensions < 1) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "dimensions", Integer.valueOf(1), "dimensions", Integer.valueOf(dimensions)));
+		}
+		
+		this.increments = doCreateIncrements(dimensions);
+		this.point = new long[dimensions];
+		
+		reset();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Generates the next point of this {@code RobertsSequence} instance and stores its coordinates in {@code out}.
+	 * <p>
+	 * Returns {@code out}.
+	 * <p>
+	 * If {@code out} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code out.length} is less than {@link #getDimensions()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The coordinates are stored in {@code out[0]} to {@code out[getDimensions() - 1]}, and each of them is between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). This method does not allocate any memory.
+	 * 
+	 * @param out the {@code double[]} to store the coordinates in
+	 * @return {@code out}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code out.length} is less than {@code getDimensions()}
+	 * @throws NullPointerException thrown if, and only if, {@code out} is {@code null}
+	 */
+	public double[] next(final double[] out) {
+		Objects.requireNonNull(out, "out == null");
+		
+		final long[] increments = this.increments;
+		final long[] point = this.point;
+		
+		if(out.length < point.length) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "out.length", Integer.valueOf(point.length), "out.length", Integer.valueOf(out.length)));
+		}
+		
+		for(int i = 0; i < point.length; i++) {
+			out[i] = (point[i] >>> 11) * 0x1.0p-53D;
+			
+			point[i] += increments[i];
+		}
+		
+		this.index++;
+		
+		return out;
+	}
+	
+	/**
+	 * Returns the number of dimensions of this {@code RobertsSequence} instance.
+	 * 
+	 * @return the number of dimensions of this {@code RobertsSequence} instance
+	 */
+	public int getDimensions() {
+		return this.point.length;
+	}
+	
+	/**
+	 * Returns the index of the point that will be generated by the next call to {@link #next(double[])}.
+	 * 
+	 * @return the index of the point that will be generated by the next call to {@code next(double[])}
+	 */
+	public long getIndex() {
+		return this.index;
+	}
+	
+	/**
+	 * Resets this {@code RobertsSequence} instance, so that the next call to {@link #next(double[])} generates the first point.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * robertsSequence.setIndex(0L);
+	 * }
+	 * </pre>
+	 */
+	public void reset() {
+		setIndex(0L);
+	}
+	
+	/**
+	 * Sets the index of the point that will be generated by the next call to {@link #next(double[])}.
+	 * <p>
+	 * If {@code index} is less than {@code 0L}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param index the index of the point that will be generated by the next call to {@code next(double[])}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code index} is less than {@code 0L}
+	 */
+	public void setIndex(final long index) {
+		if(index < 0L) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "index", Long.valueOf(0L), "index", Long.valueOf(index)));
+		}
+		
+		final long[] increments = this.increments;
+		final long[] point = this.point;
+		
+		for(int i = 0; i < point.length; i++) {
+			point[i] = OFFSET + index * increments[i];
+		}
+		
+		this.index = index;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static long[] doCreateIncrements(final int dimensions) {
+		double g = 2.0D;
+		
+		for(int i = 0; i < 64; i++) {
+			g = Math.pow(1.0D + g, 1.0D / (dimensions + 1));
+		}
+		
+		final long[] increments = new long[dimensions];
+		
+		double a = 1.0D;
+		
+		for(int i = 0; i < dimensions; i++) {
+			a /= g;
+			
+			increments[i] = (long)(a * 0x1.0p53D) << 11;
+		}
+		
+		return increments;
+	}
+}
\ No newline at end of file
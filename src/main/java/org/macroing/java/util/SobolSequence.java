@@ -0,0 +1,254 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.Objects;
+
+/**
+ * A {@code SobolSequence} generates the points of a Sobol sequence, a low-discrepancy sequence in the unit hypercube.
+ * <p>
+ * A low-discrepancy sequence covers the unit hypercube more evenly than independent uniform samples do. When it is used to estimate an integral, the error typically decreases faster as the number of points grows, so fewer points are needed for a given error.
+ * <p>
+ * The points are generated in Gray code order, so each call to {@link #next(double[])} updates each coordinate using a single {@code XOR} operation. The first point is the origin.
+ * <p>
+ * The direction numbers of dimension {@code 0} correspond to the van der Corput sequence in base {@code 2}. The direction numbers of the other dimensions are those of Joe and Kuo, taken from the file {@code new-joe-kuo-6.21201}. They were chosen so that the two-dimensional projections of the sequence are well distributed. The direction numbers are the same for each instance, and the sequence is reproducible.
+ * <p>
+ * The direction numbers have {@code 32} bits, so a {@code SobolSequence} can generate {@code 2}<sup>{@code 32}</sup> points. Each coordinate of the first {@code 2}<sup>{@code k}</sup> points, for any {@code k} less than or equal to {@code 32}, falls in each of the {@code 2}<sup>{@code k}</sup> intervals of length {@code 2}<sup>{@code -k}</sup> exactly once.
+ * <p>
+ * This class is not thread-safe. Use {@link #setIndex(long)} to let each thread generate a different part of the sequence.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class SobolSequence {
+	/**
+	 * The maximum number of dimensions supported by a {@code SobolSequence}.
+	 */
+	public static final int MAXIMUM_DIMENSIONS = 1024;
+	
+	/**
+	 * The number of points a {@code SobolSequence} can generate.
+	 */
+	public static final long MAXIMUM_POINTS = 1L << 32;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final int BITS = 32;
+	private static final int[] DIRECTIONS = doCreateDirections();
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the coordinates of the current point as {@code 32}-bit binary fractions.
+	 */
+	private final int[] point;
+	
+	/**
+	 * Contains the number of dimensions.
+	 */
+	private final int dimensions;
+	
+	/**
+	 * Contains the index of the current point.
+	 */
+	private long index;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code SobolSequence} instance given the number of dimensions.
+	 * <p>
+	 * If {@code dimensions} is less than {@code 1} or greater than {@link #MAXIMUM_DIMENSIONS}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param dimensions the number of dimensions
+	 * @throws IllegalArgumentException thrown if, and only if, {@code dimensions} is less than {@code 1} or greater than {@code SobolSequence.MAXIMUM_DIMENSIONS}
+	 */
+	public SobolSequence(final int dimensions) {
+		this.dimensions = doRequireRange(dimensions, 1, MAXIMUM_DIMENSIONS, "dimensions");
+		this.point = new int[dimensions];
+		this.index = 0L;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Generates the next point of this {@code SobolSequence} instance and stores its coordinates in {@code out}.
+	 * <p>
+	 * Returns {@code out}.
+	 * <p>
+	 * If {@code out} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code out.length} is less than {@link #getDimensions()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If all {@link #MAXIMUM_POINTS} points have been generated, an {@code IllegalStateException} will be thrown.
+	 * <p>
+	 * The coordinates are stored in {@code out[0]} to {@code out[getDimensions() - 1]}, and each of them is between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). This method does not allocate any memory.
+	 * 
+	 * @param out the {@code double[]} to store the coordinates in
+	 * @return {@code out}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code out.length} is less than {@code getDimensions()}
+	 * @throws IllegalStateException thrown if, and only if, all {@code SobolSequence.MAXIMUM_POINTS} points have been generated
+	 * @throws NullPointerException thrown if, and only if, {@code out} is {@code null}
+	 */
+	public double[] next(final double[] out) {
+		Objects.requireNonNull(out, "out == null");
+		
+		doRequireRange(out.length, this.dimensions, Integer.MAX_VALUE, "out.length");
+		
+		if(this.index >= MAXIMUM_POINTS) {
+			throw new IllegalStateException("All points have been generated.");
+		}
+		
+		final int[] directions = DIRECTIONS;
+		final int[] point = this.point;
+		
+		final int dimensions = this.dimensions;
+		
+		for(int i = 0; i < dimensions; i++) {
+			out[i] = (point[i] & 0xFFFFFFFFL) * 0x1.0p-32D;
+		}
+		
+		final long index = ++this.index;
+		
+		if(index < MAXIMUM_POINTS) {
+			final int bit = Long.numberOfTrailingZeros(index);
+			
+			for(int i = 0, j = bit; i < dimensions; i++, j += BITS) {
+				point[i] ^= directions[j];
+			}
+		}
+		
+		return out;
+	}
+	
+	/**
+	 * Returns the number of dimensions of this {@code SobolSequence} instance.
+	 * 
+	 * @return the number of dimensions of this {@code SobolSequence} instance
+	 */
+	public int getDimensions() {
+		return this.dimensions;
+	}
+	
+	/**
+	 * Returns the index of the point that will be generated by the next call to {@link #next(double[])}.
+	 * 
+	 * @return the index of the point that will be generated by the next call to {@code next(double[])}
+	 */
+	public long getIndex() {
+		return this.index;
+	}
+	
+	/**
+	 * Resets this {@code SobolSequence} instance, so that the next call to {@link #next(double[])} generates the first point.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * sobolSequence.setIndex(0L);
+	 * }
+	 * </pre>
+	 */
+	public void reset() {
+		setIndex(0L);
+	}
+	
+	/**
+	 * Sets the index of the point that will be generated by the next call to {@link #next(double[])}.
+	 * <p>
+	 * If {@code index} is less than {@code 0L} or greater than or equal to {@link #MAXIMUM_POINTS}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The point is computed directly from {@code index}, so this method can be used to let each thread generate a different part of the sequence.
+	 * 
+	 * @param index the index of the point that will be generated by the next call to {@code next(double[])}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code index} is less than {@code 0L} or greater than or equal to {@code SobolSequence.MAXIMUM_POINTS}
+	 */
+	public void setIndex(final long index) {
+		if(index < 0L) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", "index", Long.valueOf(0L), "index", Long.valueOf(index)));
+		} else if(index >= MAXIMUM_POINTS) {
+			throw new IllegalArgumentException(String.format("%s >= %d: %s == %d", "index", Long.valueOf(MAXIMUM_POINTS), "index", Long.valueOf(index)));
+		}
+		
+		final int[] directions = DIRECTIONS;
+		final int[] point = this.point;
+		
+		final int gray = (int)(index ^ (index >>> 1));
+		
+		for(int i = 0; i < this.dimensions; i++) {
+			int value = 0;
+			
+			for(int j = 0; j < BITS; j++) {
+				if((gray & (1 << j)) != 0) {
+					value ^= directions[i * BITS + j];
+				}
+			}
+			
+			point[i] = value;
+		}
+		
+		this.index = index;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireRange(final int value, final int minimum, final int maximum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		} else if(value > maximum) {
+			throw new IllegalArgumentException(String.format("%s > %d: %s == %d", name, Integer.valueOf(maximum), name, Integer.valueOf(value)));
+		} else {
+			return value;
+		}
+	}
+	
+	private static int[] doCreateDirections() {
+		final int[] directions = new int[MAXIMUM_DIMENSIONS * BITS];
+		
+		for(int i = 0; i < BITS; i++) {
+			directions[i] = 1 << (BITS - 1 - i);
+		}
+		
+		for(int i = 1; i < MAXIMUM_DIMENSIONS; i++) {
+			final String[] values = SobolDirectionNumbers.JOE_KUO[i - 1].split(" ");
+			
+			final int degree = Integer.parseInt(values[1]);
+			final int coefficients = Integer.parseInt(values[2]);
+			final int offset = i * BITS;
+			
+			for(int k = 1; k <= degree; k++) {
+				directions[offset + k - 1] = Integer.parseInt(values[k + 2]) << (BITS - k);
+			}
+			
+			for(int k = degree; k < BITS; k++) {
+				int direction = directions[offset + k - degree] ^ (directions[offset + k - degree] >>> degree);
+				
+				for(int j = 1; j < degree; j++) {
+					if(((coefficients >>> (degree - 1 - j)) & 1) != 0) {
+						direction ^= directions[offset + k - j];
+					}
+				}
+				
+				directions[offset + k] = direction;
+			}
+		}
+		
+		return directions;
+	}
+}
\ No newline at end of file
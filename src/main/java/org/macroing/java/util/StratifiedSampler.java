@@ -0,0 +1,188 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.util.Objects;
+
+/**
+ * A {@code StratifiedSampler} generates jittered samples in the unit hypercube, with the same number of strata along each dimension.
+ * <p>
+ * The unit hypercube is divided into {@code strata}<sup>{@code dimensions}</sup> cells of equal size. The samples are generated in passes, where each pass visits each cell once and places a sample at a uniformly distributed position within it. Each complete pass is therefore stratified in all dimensions, which reduces the variance compared to independent uniform samples.
+ * <p>
+ * The positions within the cells are generated by a {@link Xoshiro256StarStar}.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class StratifiedSampler {
+	/**
+	 * Contains the {@code Xoshiro256StarStar} instance that generates the positions within the cells.
+	 */
+	private final Xoshiro256StarStar xoshiro256StarStar;
+	
+	/**
+	 * Contains the reciprocal of the number of strata along each dimension.
+	 */
+	private final double strataReciprocal;
+	
+	/**
+	 * Contains the number of dimensions.
+	 */
+	private final int dimensions;
+	
+	/**
+	 * Contains the number of strata along each dimension.
+	 */
+	private final int strata;
+	
+	/**
+	 * Contains the number of cells.
+	 */
+	private final long cells;
+	
+	/**
+	 * Contains the index of the current cell.
+	 */
+	private long cell;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code StratifiedSampler} instance given the number of dimensions, the number of strata along each dimension and a seed.
+	 * <p>
+	 * If {@code dimensions} is less than {@code 1}, {@code strata} is less than {@code 1} or {@code strata}<sup>{@code dimensions}</sup> is greater than {@code Long.MAX_VALUE}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Two instances with the same arguments generate the same samples.
+	 * 
+	 * @param dimensions the number of dimensions
+	 * @param strata the number of strata along each dimension
+	 * @param seed the seed to use
+	 * @throws IllegalArgumentException thrown if, and only if, {@code dimensions} is less than {@code 1}, {@code strata} is less than {@code 1} or {@code strata}<sup>{@code dimensions}</sup> is greater than {@code Long.MAX_VALUE}
+	 */
+	public StratifiedSampler(final int dimensions, final int strata, final long seed) {
+		this.dimensions = doRequireRange(dimensions, 1, Integer.MAX_VALUE, "dimensions");
+		this.strata = doRequireRange(strata, 1, Integer.MAX_VALUE, "strata");
+		this.strataReciprocal = 1.0D / strata;
+		this.cells = doComputeCells(dimensions, strata);
+		this.cell = 0L;
+		this.xoshiro256StarStar = new Xoshiro256StarStar(seed);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Generates the next sample of this {@code StratifiedSampler} instance and stores its coordinates in {@code out}.
+	 * <p>
+	 * Returns {@code out}.
+	 * <p>
+	 * If {@code out} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code out.length} is less than {@link #getDimensions()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The coordinates are stored in {@code out[0]} to {@code out[getDimensions() - 1]}, and each of them is between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive). This method does not allocate any memory.
+	 * 
+	 * @param out the {@code double[]} to store the coordinates in
+	 * @return {@code out}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code out.length} is less than {@code getDimensions()}
+	 * @throws NullPointerException thrown if, and only if, {@code out} is {@code null}
+	 */
+	public double[] next(final double[] out) {
+		Objects.requireNonNull(out, "out == null");
+		
+		doRequireRange(out.length, this.dimensions, Integer.MAX_VALUE, "out.length");
+		
+		final Xoshiro256StarStar xoshiro256StarStar = this.xoshiro256StarStar;
+		
+		final double strataReciprocal = this.strataReciprocal;
+		
+		final int strata = this.strata;
+		
+		long cell = this.cell;
+		
+		for(int i = 0; i < this.dimensions; i++) {
+			final long next = cell / strata;
+			final long stratum = cell - next * strata;
+			
+			out[i] = Randoms.nextDoubleInternal(1.0D, (stratum + xoshiro256StarStar.nextDouble()) * strataReciprocal);
+			
+			cell = next;
+		}
+		
+		this.cell = this.cell + 1L < this.cells ? this.cell + 1L : 0L;
+		
+		return out;
+	}
+	
+	/**
+	 * Returns the number of dimensions of this {@code StratifiedSampler} instance.
+	 * 
+	 * @return the number of dimensions of this {@code StratifiedSampler} instance
+	 */
+	public int getDimensions() {
+		return this.dimensions;
+	}
+	
+	/**
+	 * Returns the number of strata along each dimension of this {@code StratifiedSampler} instance.
+	 * 
+	 * @return the number of strata along each dimension of this {@code StratifiedSampler} instance
+	 */
+	public int getStrata() {
+		return this.strata;
+	}
+	
+	/**
+	 * Returns the number of samples in each pass of this {@code StratifiedSampler} instance.
+	 * <p>
+	 * This is the number of cells, {@code strata}<sup>{@code dimensions}</sup>.
+	 * 
+	 * @return the number of samples in each pass of this {@code StratifiedSampler} instance
+	 */
+	public long getSamplesPerPass() {
+		return this.cells;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireRange(final int value, final int minimum, final int maximum, final String name) {
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		} else if(value > maximum) {
+			throw new IllegalArgumentException(String.format("%s > %d: %s == %d", name, Integer.valueOf(maximum), name, Integer.valueOf(value)));
+		} else {
+			return value;
+		}
+	}
+	
+	private static long doComputeCells(final int dimensions, final int strata) {
+		long cells = 1L;
+		
+		for(int i = 0; i < dimensions; i++) {
+			if(cells > Long.MAX_VALUE / strata) {
+				throw new IllegalArgumentException(String.format("strata^dimensions > %d: strata == %d, dimensions == %d", Long.valueOf(Long.MAX_VALUE), Integer.valueOf(strata), Integer.valueOf(dimensions)));
+			}
+			
+			cells *= strata;
+		}
+		
+		return cells;
+	}
+}
\ No newline at end of file
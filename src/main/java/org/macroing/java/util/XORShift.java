@@ -0,0 +1,353 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+
+/**
+ * An {@code XORShift} is a pseudorandom number generator that implements the XOR-Shift algorithm.
+ * <p>
+ * This class does not extend {@code Random} and is not thread-safe. It is intended for hot loops, such as Monte Carlo sampling, where each thread owns its own generator. Each call to {@link #nextLong()} advances the {@code 64}-bit state once and returns it. If a {@code Random} is required, use {@link #asRandom()}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class XORShift implements Serializable {
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the state.
+	 */
+	private long state;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code XORShift} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new XORShift(System.nanoTime());
+	 * }
+	 * </pre>
+	 */
+	public XORShift() {
+		this(System.nanoTime());
+	}
+	
+	/**
+	 * Constructs a new {@code XORShift} instance given a seed.
+	 * <p>
+	 * The seed is used as the initial state. A seed of {@code 0L} results in a generator that only generates {@code 0L}.
+	 * 
+	 * @param seed the seed to use
+	 */
+	public XORShift(final long seed) {
+		this.state = seed;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a new {@code XORShift} instance that shares no mutable state with this {@code XORShift} instance.
+	 * <p>
+	 * The seed of the returned instance is derived from the next {@code long} value of this instance. Two instances that are split from the same state will generate the same values, so the result is reproducible for a given seed.
+	 * 
+	 * @return a new {@code XORShift} instance that shares no mutable state with this {@code XORShift} instance
+	 */
+	public XORShift split() {
+		return new XORShift(AbstractSplittableRandom.mix64NonZero(nextLong()));
+	}
+	
+	/**
+	 * Returns an {@link XORShiftRandom} that is backed by this {@code XORShift} instance.
+	 * <p>
+	 * The returned {@code XORShiftRandom} shares its state with this {@code XORShift} instance, so values generated by one of them will not be generated by the other.
+	 * 
+	 * @return an {@code XORShiftRandom} that is backed by this {@code XORShift} instance
+	 */
+	public XORShiftRandom asRandom() {
+		return new XORShiftRandom(this);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code boolean} value.
+	 * 
+	 * @return a pseudorandom {@code boolean} value
+	 */
+	public boolean nextBoolean() {
+		return nextLong() < 0L;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * The value has a {@code 53}-bit mantissa that is created from the {@code 53} most significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 */
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53D;
+	}
+	
+	/**
+	 * Fills the remaining elements of {@code buffer} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive) using this {@code XORShift} instance.
+	 * <p>
+	 * Returns {@code buffer}.
+	 * <p>
+	 * If {@code buffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code buffer} is read-only, a {@code ReadOnlyBufferException} will be thrown.
+	 * <p>
+	 * The values are put from the position of {@code buffer} up to its limit. When this method returns, the position of {@code buffer} is equal to its limit.
+	 * 
+	 * @param buffer the {@code DoubleBuffer} to fill
+	 * @return {@code buffer}
+	 * @throws NullPointerException thrown if, and only if, {@code buffer} is {@code null}
+	 * @throws ReadOnlyBufferException thrown if, and only if, {@code buffer} is read-only
+	 */
+	public DoubleBuffer nextDoubles(final DoubleBuffer buffer) {
+		return Randoms.nextDoublesInternal(buffer, this::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive) using this {@code XORShift} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextDouble();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public double[] nextDoubles(final double[] array) {
+		return Randoms.nextDoublesInternal(array, this::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code origin} (inclusive) and {@code bound} (exclusive) using this {@code XORShift} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public double[] nextDoubles(final double[] array, final double origin, final double bound) {
+		return Randoms.nextDoublesInternal(array, origin, bound, this::nextDouble);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
+	 * <p>
+	 * The value has a {@code 24}-bit mantissa that is created from the {@code 24} most significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive)
+	 */
+	public float nextFloat() {
+		return (nextLong() >>> 40) * 0x1.0p-24F;
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive) using this {@code XORShift} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextFloat();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public float[] nextFloats(final float[] array) {
+		return Randoms.nextFloatsInternal(array, this::nextFloat);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code origin} (inclusive) and {@code bound} (exclusive) using this {@code XORShift} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public float[] nextFloats(final float[] array, final float origin, final float bound) {
+		return Randoms.nextFloatsInternal(array, origin, bound, this::nextFloat);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value.
+	 * <p>
+	 * The value consists of the {@code 32} least significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code int} value
+	 */
+	public int nextInt() {
+		return (int)(nextLong());
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value between {@code 0} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If {@code bound} is less than or equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * This method uses the multiply-and-shift method by Daniel Lemire, which avoids a division in all but a small fraction of the calls.
+	 * 
+	 * @param bound the upper bound (exclusive) that must be positive
+	 * @return a pseudorandom {@code int} value between {@code 0} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, {@code bound} is less than or equal to {@code 0}
+	 */
+	public int nextInt(final int bound) {
+		if(bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		
+		long product = (nextInt() & 0xFFFFFFFFL) * bound;
+		
+		if(Integer.compareUnsigned((int)(product), bound) < 0) {
+			final int threshold = Integer.remainderUnsigned(-bound, bound);
+			
+			while(Integer.compareUnsigned((int)(product), threshold) < 0) {
+				product = (nextInt() & 0xFFFFFFFFL) * bound;
+			}
+		}
+		
+		return (int)(product >>> 32);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code int} values using this {@code XORShift} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextInt();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code int[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public int[] nextInts(final int[] array) {
+		return Randoms.nextIntsInternal(array, this::nextInt);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code long} value.
+	 * 
+	 * @return a pseudorandom {@code long} value
+	 */
+	public long nextLong() {
+		long state = this.state;
+		
+		state ^= state << 21L;
+		state ^= state >>> 31L;
+		state ^= state << 4L;
+		
+		this.state = state;
+		
+		return state;
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code long} values using this {@code XORShift} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextLong();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code long[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public long[] nextLongs(final long[] array) {
+		return Randoms.nextLongsInternal(array, this::nextLong);
+	}
+	
+	/**
+	 * Sets the seed for this {@code XORShift} instance.
+	 * <p>
+	 * The seed is used as the new state. A seed of {@code 0L} results in a generator that only generates {@code 0L}.
+	 * 
+	 * @param seed the new seed
+	 */
+	public void setSeed(final long seed) {
+		this.state = seed;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	long getState() {
+		return this.state;
+	}
+}
\ No newline at end of file
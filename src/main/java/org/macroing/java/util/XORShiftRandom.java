@@ -18,23 +18,40 @@
  */
 package org.macroing.java.util;
 
-import java.util.Random;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.util.Objects;
 
 /**
  * An {@code XORShiftRandom} is a {@code Random} implementation that implements the XOR-Shift algorithm.
+ * <p>
+ * The values are generated by an {@link XORShift}, to which this class delegates. Code that does not need a {@code Random}, such as a hot sampling loop, should use an {@code XORShift} directly, to avoid the overhead of {@code Random}.
+ * <p>
+ * The method {@link #split()} can be used to create a new {@code XORShiftRandom} instance for another thread. The streams returned by this class use it to give each task of a parallel stream its own generator.
+ * <p>
+ * If independent streams with a guarantee of no overlap are required, consider using {@link Xoshiro256StarStarRandom} instead. It supports {@code jump()} and {@code longJump()}.
  * 
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
  */
-public final class XORShiftRandom extends Random {
+public final class XORShiftRandom extends AbstractSplittableRandom {
 	private static final long serialVersionUID = 1L;
 	
+	/**
+	 * The serializable fields of this class.
+	 * <p>
+	 * The state of the {@code XORShift} is serialized as the field {@code seed}, which was the field of earlier versions of this class.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("seed", Long.TYPE)};
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
-	 * Contains the seed.
+	 * Contains the {@code XORShift} instance that generates the values.
 	 */
-	private long seed;
+	private XORShift xORShift;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -58,19 +75,87 @@ public final class XORShiftRandom extends Random {
 	 * @param seed the seed to use
 	 */
 	public XORShiftRandom(final long seed) {
-		this.seed = seed;
+		this(new XORShift(seed));
+	}
+	
+	XORShiftRandom(final XORShift xORShift) {
+		this.xORShift = Objects.requireNonNull(xORShift, "xORShift == null");
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	/**
+	 * Returns a new {@code XORShiftRandom} instance that shares no mutable state with this {@code XORShiftRandom} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * xORShift.split().asRandom();
+	 * }
+	 * </pre>
+	 * 
+	 * @return a new {@code XORShiftRandom} instance that shares no mutable state with this {@code XORShiftRandom} instance
+	 */
+	@Override
+	public XORShiftRandom split() {
+		return new XORShiftRandom(this.xORShift.split());
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * The value is the same as the one returned by {@code Random.nextDouble()}, but it is computed without the two calls to {@link #next(int)}.
+	 * 
+	 * @return a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 */
+	@Override
+	public double nextDouble() {
+		final long a = this.xORShift.nextLong() & 0x3FFFFFFL;
+		final long b = this.xORShift.nextLong() & 0x7FFFFFFL;
+		
+		return (a << 27 | b) * 0x1.0p-53D;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
+	 * <p>
+	 * The value is the same as the one returned by {@code Random.nextFloat()}, but it is computed without the call to {@link #next(int)}.
+	 * 
+	 * @return a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive)
+	 */
+	@Override
+	public float nextFloat() {
+		return (this.xORShift.nextLong() & 0xFFFFFFL) * 0x1.0p-24F;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value.
+	 * 
+	 * @return a pseudorandom {@code int} value
+	 */
+	@Override
+	public int nextInt() {
+		return this.xORShift.nextInt();
+	}
+	
 	/**
 	 * Sets the seed for this {@code XORShiftRandom} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * xORShift.setSeed(seed);
+	 * }
+	 * </pre>
 	 * 
 	 * @param seed the new seed
 	 */
 	@Override
 	public synchronized void setSeed(final long seed) {
-		this.seed = seed;
+//		The constructor of Random calls this method before the field has been assigned:
+		if(this.xORShift != null) {
+			this.xORShift.setSeed(seed);
+		}
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -83,16 +168,22 @@ public final class XORShiftRandom extends Random {
 	 */
 	@Override
 	protected int next(final int bits) {
-		long seed = this.seed;
-		
-		seed ^= seed << 21L;
-		seed ^= seed >>> 31L;
-		seed ^= seed << 4L;
+		return (int)(this.xORShift.nextLong() & ((1L << bits) - 1L));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void readObject(final ObjectInputStream objectInputStream) throws ClassNotFoundException, IOException {
+		final ObjectInputStream.GetField getField = objectInputStream.readFields();
 		
-		this.seed = seed;
+		this.xORShift = new XORShift(getField.get("seed", 0L));
+	}
+	
+	private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+		final ObjectOutputStream.PutField putField = objectOutputStream.putFields();
 		
-		seed &= (1L << bits) - 1L;
+		putField.put("seed", this.xORShift.getState());
 		
-		return (int)(seed);
+		objectOutputStream.writeFields();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,446 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+
+/**
+ * A {@code Xoshiro256StarStar} is a pseudorandom number generator that implements the xoshiro256** algorithm by David Blackman and Sebastiano Vigna.
+ * <p>
+ * This class does not extend {@code Random} and is not thread-safe. It is intended for hot loops, such as Monte Carlo sampling, where each thread owns its own generator. Each call to {@link #nextLong()} advances the state once. If a {@code Random} is required, use {@link #asRandom()}.
+ * <p>
+ * The algorithm has a state of {@code 256} bits and a period of {@code 2}<sup>{@code 256}</sup>{@code  - 1}. The methods {@link #jump()} and {@link #longJump()} advance the state by {@code 2}<sup>{@code 128}</sup> and {@code 2}<sup>{@code 192}</sup> steps, respectively. This makes it possible to create generators for different threads whose sequences are guaranteed to never overlap.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class Xoshiro256StarStar implements Serializable {
+	private static final long[] JUMP = {0x180EC6D33CFD0ABAL, 0xD5A61266F0C9392CL, 0xA9582618E03FC9AAL, 0x39ABDC4529B1661CL};
+	private static final long[] LONG_JUMP = {0x76E15D3EFEFDCBBFL, 0xC5004E441C522FB3L, 0x77710069854EE241L, 0x39109BB02ACBE635L};
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the first part of the state.
+	 */
+	private long s0;
+	
+	/**
+	 * Contains the second part of the state.
+	 */
+	private long s1;
+	
+	/**
+	 * Contains the third part of the state.
+	 */
+	private long s2;
+	
+	/**
+	 * Contains the fourth part of the state.
+	 */
+	private long s3;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new Xoshiro256StarStar(System.nanoTime());
+	 * }
+	 * </pre>
+	 */
+	public Xoshiro256StarStar() {
+		this(System.nanoTime());
+	}
+	
+	/**
+	 * Constructs a new {@code Xoshiro256StarStar} instance given a seed.
+	 * <p>
+	 * The state is initialized with four consecutive values of the SplitMix64 algorithm, seeded with {@code seed}.
+	 * 
+	 * @param seed the seed to use
+	 */
+	public Xoshiro256StarStar(final long seed) {
+		setSeed(seed);
+	}
+	
+	/**
+	 * Constructs a new {@code Xoshiro256StarStar} instance given the four parts of its state.
+	 * <p>
+	 * If {@code s0}, {@code s1}, {@code s2} and {@code s3} are all {@code 0L}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param s0 the first part of the state
+	 * @param s1 the second part of the state
+	 * @param s2 the third part of the state
+	 * @param s3 the fourth part of the state
+	 * @throws IllegalArgumentException thrown if, and only if, {@code s0}, {@code s1}, {@code s2} and {@code s3} are all {@code 0L}
+	 */
+	public Xoshiro256StarStar(final long s0, final long s1, final long s2, final long s3) {
+		if((s0 | s1 | s2 | s3) == 0L) {
+			throw new IllegalArgumentException("s0 == 0L && s1 == 0L && s2 == 0L && s3 == 0L");
+		}
+		
+		this.s0 = s0;
+		this.s1 = s1;
+		this.s2 = s2;
+		this.s3 = s3;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a new {@code Xoshiro256StarStar} instance that shares no mutable state with this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * The returned instance starts with the current state of this instance, after which this instance is advanced by {@code 2}<sup>{@code 128}</sup> steps using {@link #jump()}. The sequences of the two instances will therefore not overlap for the first {@code 2}<sup>{@code 128}</sup> values.
+	 * 
+	 * @return a new {@code Xoshiro256StarStar} instance that shares no mutable state with this {@code Xoshiro256StarStar} instance
+	 */
+	public Xoshiro256StarStar split() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(this.s0, this.s1, this.s2, this.s3);
+		
+		jump();
+		
+		return xoshiro256StarStar;
+	}
+	
+	/**
+	 * Returns a {@link Xoshiro256StarStarRandom} that is backed by this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * The returned {@code Xoshiro256StarStarRandom} shares its state with this {@code Xoshiro256StarStar} instance, so values generated by one of them will not be generated by the other.
+	 * 
+	 * @return a {@code Xoshiro256StarStarRandom} that is backed by this {@code Xoshiro256StarStar} instance
+	 */
+	public Xoshiro256StarStarRandom asRandom() {
+		return new Xoshiro256StarStarRandom(this);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code boolean} value.
+	 * 
+	 * @return a pseudorandom {@code boolean} value
+	 */
+	public boolean nextBoolean() {
+		return nextLong() < 0L;
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * The value has a {@code 53}-bit mantissa that is created from the {@code 53} most significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 */
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53D;
+	}
+	
+	/**
+	 * Fills the remaining elements of {@code buffer} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive) using this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * Returns {@code buffer}.
+	 * <p>
+	 * If {@code buffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code buffer} is read-only, a {@code ReadOnlyBufferException} will be thrown.
+	 * <p>
+	 * The values are put from the position of {@code buffer} up to its limit. When this method returns, the position of {@code buffer} is equal to its limit.
+	 * 
+	 * @param buffer the {@code DoubleBuffer} to fill
+	 * @return {@code buffer}
+	 * @throws NullPointerException thrown if, and only if, {@code buffer} is {@code null}
+	 * @throws ReadOnlyBufferException thrown if, and only if, {@code buffer} is read-only
+	 */
+	public DoubleBuffer nextDoubles(final DoubleBuffer buffer) {
+		return Randoms.nextDoublesInternal(buffer, this::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive) using this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextDouble();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public double[] nextDoubles(final double[] array) {
+		return Randoms.nextDoublesInternal(array, this::nextDouble);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code double} values between {@code origin} (inclusive) and {@code bound} (exclusive) using this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code double[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public double[] nextDoubles(final double[] array, final double origin, final double bound) {
+		return Randoms.nextDoublesInternal(array, origin, bound, this::nextDouble);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
+	 * <p>
+	 * The value has a {@code 24}-bit mantissa that is created from the {@code 24} most significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive)
+	 */
+	public float nextFloat() {
+		return (nextLong() >>> 40) * 0x1.0p-24F;
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive) using this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextFloat();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public float[] nextFloats(final float[] array) {
+		return Randoms.nextFloatsInternal(array, this::nextFloat);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code float} values between {@code origin} (inclusive) and {@code bound} (exclusive) using this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code origin} is greater than or equal to {@code bound}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param origin the least value returned
+	 * @param bound the upper bound (exclusive)
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code origin} is greater than or equal to {@code bound}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public float[] nextFloats(final float[] array, final float origin, final float bound) {
+		return Randoms.nextFloatsInternal(array, origin, bound, this::nextFloat);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value.
+	 * <p>
+	 * The value consists of the {@code 32} most significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code int} value
+	 */
+	public int nextInt() {
+		return (int)(nextLong() >>> 32);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value between {@code 0} (inclusive) and {@code bound} (exclusive).
+	 * <p>
+	 * If {@code bound} is less than or equal to {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * This method uses the multiply-and-shift method by Daniel Lemire, which avoids a division in all but a small fraction of the calls.
+	 * 
+	 * @param bound the upper bound (exclusive) that must be positive
+	 * @return a pseudorandom {@code int} value between {@code 0} (inclusive) and {@code bound} (exclusive)
+	 * @throws IllegalArgumentException thrown if, and only if, {@code bound} is less than or equal to {@code 0}
+	 */
+	public int nextInt(final int bound) {
+		if(bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		
+		long product = (nextInt() & 0xFFFFFFFFL) * bound;
+		
+		if(Integer.compareUnsigned((int)(product), bound) < 0) {
+			final int threshold = Integer.remainderUnsigned(-bound, bound);
+			
+			while(Integer.compareUnsigned((int)(product), threshold) < 0) {
+				product = (nextInt() & 0xFFFFFFFFL) * bound;
+			}
+		}
+		
+		return (int)(product >>> 32);
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code int} values using this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextInt();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code int[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public int[] nextInts(final int[] array) {
+		return Randoms.nextIntsInternal(array, this::nextInt);
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code long} value.
+	 * 
+	 * @return a pseudorandom {@code long} value
+	 */
+	public long nextLong() {
+		final long s0 = this.s0;
+		final long s1 = this.s1;
+		final long s2 = this.s2 ^ s0;
+		final long s3 = this.s3 ^ s1;
+		
+		final long result = Long.rotateLeft(s1 * 5L, 7) * 9L;
+		
+		this.s0 = s0 ^ s3;
+		this.s1 = s1 ^ s2;
+		this.s2 = s2 ^ (s1 << 17);
+		this.s3 = Long.rotateLeft(s3, 45);
+		
+		return result;
+	}
+	
+	/**
+	 * Fills {@code array} with pseudorandom {@code long} values using this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * for(int i = 0; i < array.length; i++) {
+	 *     array[i] = nextLong();
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param array the {@code long[]} to fill
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public long[] nextLongs(final long[] array) {
+		return Randoms.nextLongsInternal(array, this::nextLong);
+	}
+	
+	/**
+	 * Advances the state of this {@code Xoshiro256StarStar} instance by {@code 2}<sup>{@code 128}</sup> steps.
+	 * <p>
+	 * This method can be used to create {@code 2}<sup>{@code 128}</sup> non-overlapping sequences for parallel computations.
+	 */
+	public void jump() {
+		doJump(JUMP);
+	}
+	
+	/**
+	 * Advances the state of this {@code Xoshiro256StarStar} instance by {@code 2}<sup>{@code 192}</sup> steps.
+	 * <p>
+	 * This method can be used to create {@code 2}<sup>{@code 64}</sup> starting points, from each of which {@link #jump()} will create {@code 2}<sup>{@code 64}</sup> non-overlapping sequences for distributed computations.
+	 */
+	public void longJump() {
+		doJump(LONG_JUMP);
+	}
+	
+	/**
+	 * Sets the seed for this {@code Xoshiro256StarStar} instance.
+	 * <p>
+	 * The state is initialized with four consecutive values of the SplitMix64 algorithm, seeded with {@code seed}.
+	 * 
+	 * @param seed the new seed
+	 */
+	public void setSeed(final long seed) {
+		final long[] state = new long[] {seed};
+		
+		this.s0 = AbstractSplittableRandom.splitMix64(state);
+		this.s1 = AbstractSplittableRandom.splitMix64(state);
+		this.s2 = AbstractSplittableRandom.splitMix64(state);
+		this.s3 = AbstractSplittableRandom.splitMix64(state);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doJump(final long[] polynomial) {
+		long s0 = 0L;
+		long s1 = 0L;
+		long s2 = 0L;
+		long s3 = 0L;
+		
+		for(final long word : polynomial) {
+			for(int bit = 0; bit < 64; bit++) {
+				if((word & (1L << bit)) != 0L) {
+					s0 ^= this.s0;
+					s1 ^= this.s1;
+					s2 ^= this.s2;
+					s3 ^= this.s3;
+				}
+				
+				nextLong();
+			}
+		}
+		
+		this.s0 = s0;
+		this.s1 = s1;
+		this.s2 = s2;
+		this.s3 = s3;
+	}
+}
\ No newline at end of file
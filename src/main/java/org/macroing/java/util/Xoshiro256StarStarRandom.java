@@ -0,0 +1,250 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.util.Objects;
+
+/**
+ * A {@code Xoshiro256StarStarRandom} is a {@code Random} implementation that implements the xoshiro256** algorithm by David Blackman and Sebastiano Vigna.
+ * <p>
+ * The values are generated by an {@link Xoshiro256StarStar}, to which this class delegates. Code that does not need a {@code Random}, such as a hot sampling loop, should use an {@code Xoshiro256StarStar} directly, to avoid the overhead of {@code Random}.
+ * <p>
+ * The algorithm has a state of {@code 256} bits and a period of {@code 2}<sup>{@code 256}</sup>{@code  - 1}. The methods {@link #jump()} and {@link #longJump()} advance the state by {@code 2}<sup>{@code 128}</sup> and {@code 2}<sup>{@code 192}</sup> steps, respectively. This makes it possible to create generators for different threads whose sequences are guaranteed to never overlap.
+ * <p>
+ * The method {@link #split()} is implemented using {@code jump()}. The streams returned by this class use it to give each task of a parallel stream its own generator.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class Xoshiro256StarStarRandom extends AbstractSplittableRandom {
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The serializable fields of this class.
+	 * <p>
+	 * The {@code Xoshiro256StarStar} that generates the values is serialized as the field {@code xoshiro256StarStar}.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("xoshiro256StarStar", Xoshiro256StarStar.class)};
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the {@code Xoshiro256StarStar} instance that generates the values.
+	 */
+	private Xoshiro256StarStar xoshiro256StarStar;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code Xoshiro256StarStarRandom} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new Xoshiro256StarStarRandom(System.nanoTime());
+	 * }
+	 * </pre>
+	 */
+	public Xoshiro256StarStarRandom() {
+		this(System.nanoTime());
+	}
+	
+	/**
+	 * Constructs a new {@code Xoshiro256StarStarRandom} instance given a seed.
+	 * <p>
+	 * The state is initialized with four consecutive values of the SplitMix64 algorithm, seeded with {@code seed}.
+	 * 
+	 * @param seed the seed to use
+	 */
+	public Xoshiro256StarStarRandom(final long seed) {
+		this(new Xoshiro256StarStar(seed));
+	}
+	
+	/**
+	 * Constructs a new {@code Xoshiro256StarStarRandom} instance given the four parts of its state.
+	 * <p>
+	 * If {@code s0}, {@code s1}, {@code s2} and {@code s3} are all {@code 0L}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param s0 the first part of the state
+	 * @param s1 the second part of the state
+	 * @param s2 the third part of the state
+	 * @param s3 the fourth part of the state
+	 * @throws IllegalArgumentException thrown if, and only if, {@code s0}, {@code s1}, {@code s2} and {@code s3} are all {@code 0L}
+	 */
+	public Xoshiro256StarStarRandom(final long s0, final long s1, final long s2, final long s3) {
+		this(new Xoshiro256StarStar(s0, s1, s2, s3));
+	}
+	
+	Xoshiro256StarStarRandom(final Xoshiro256StarStar xoshiro256StarStar) {
+		this.xoshiro256StarStar = Objects.requireNonNull(xoshiro256StarStar, "xoshiro256StarStar == null");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a new {@code Xoshiro256StarStarRandom} instance that shares no mutable state with this {@code Xoshiro256StarStarRandom} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * xoshiro256StarStar.split().asRandom();
+	 * }
+	 * </pre>
+	 * <p>
+	 * The returned instance starts with the current state of this instance, after which this instance is advanced by {@code 2}<sup>{@code 128}</sup> steps using {@link #jump()}. The sequences of the two instances will therefore not overlap for the first {@code 2}<sup>{@code 128}</sup> values.
+	 * 
+	 * @return a new {@code Xoshiro256StarStarRandom} instance that shares no mutable state with this {@code Xoshiro256StarStarRandom} instance
+	 */
+	@Override
+	public Xoshiro256StarStarRandom split() {
+		return new Xoshiro256StarStarRandom(this.xoshiro256StarStar.split());
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code boolean} value.
+	 * 
+	 * @return a pseudorandom {@code boolean} value
+	 */
+	@Override
+	public boolean nextBoolean() {
+		return this.xoshiro256StarStar.nextBoolean();
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive).
+	 * <p>
+	 * The value is created from the {@code 53} most significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code double} value between {@code 0.0D} (inclusive) and {@code 1.0D} (exclusive)
+	 */
+	@Override
+	public double nextDouble() {
+		return this.xoshiro256StarStar.nextDouble();
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive).
+	 * <p>
+	 * The value is created from the {@code 24} most significant bits of {@link #nextLong()}.
+	 * 
+	 * @return a pseudorandom {@code float} value between {@code 0.0F} (inclusive) and {@code 1.0F} (exclusive)
+	 */
+	@Override
+	public float nextFloat() {
+		return this.xoshiro256StarStar.nextFloat();
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code int} value.
+	 * 
+	 * @return a pseudorandom {@code int} value
+	 */
+	@Override
+	public int nextInt() {
+		return this.xoshiro256StarStar.nextInt();
+	}
+	
+	/**
+	 * Returns a pseudorandom {@code long} value.
+	 * 
+	 * @return a pseudorandom {@code long} value
+	 */
+	@Override
+	public long nextLong() {
+		return this.xoshiro256StarStar.nextLong();
+	}
+	
+	/**
+	 * Advances the state of this {@code Xoshiro256StarStarRandom} instance by {@code 2}<sup>{@code 128}</sup> steps.
+	 * <p>
+	 * This method can be used to create {@code 2}<sup>{@code 128}</sup> non-overlapping sequences for parallel computations.
+	 */
+	public void jump() {
+		this.xoshiro256StarStar.jump();
+	}
+	
+	/**
+	 * Advances the state of this {@code Xoshiro256StarStarRandom} instance by {@code 2}<sup>{@code 192}</sup> steps.
+	 * <p>
+	 * This method can be used to create {@code 2}<sup>{@code 64}</sup> starting points, from each of which {@link #jump()} will create {@code 2}<sup>{@code 64}</sup> non-overlapping sequences for distributed computations.
+	 */
+	public void longJump() {
+		this.xoshiro256StarStar.longJump();
+	}
+	
+	/**
+	 * Sets the seed for this {@code Xoshiro256StarStarRandom} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * xoshiro256StarStar.setSeed(seed);
+	 * }
+	 * </pre>
+	 * 
+	 * @param seed the new seed
+	 */
+	@Override
+	public synchronized void setSeed(final long seed) {
+//		The constructor of Random calls this method before the field has been assigned:
+		if(this.xoshiro256StarStar != null) {
+			this.xoshiro256StarStar.setSeed(seed);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the next pseudorandom number.
+	 * 
+	 * @param bits random bits
+	 * @return the next pseudorandom number
+	 */
+	@Override
+	protected int next(final int bits) {
+		return (int)(this.xoshiro256StarStar.nextLong() >>> (64 - bits));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void readObject(final ObjectInputStream objectInputStream) throws ClassNotFoundException, IOException {
+		final ObjectInputStream.GetField getField = objectInputStream.readFields();
+		
+		final Xoshiro256StarStar xoshiro256StarStar = Xoshiro256StarStar.class.cast(getField.get("xoshiro256StarStar", null));
+		
+		if(xoshiro256StarStar == null) {
+			throw new InvalidObjectException("xoshiro256StarStar == null");
+		}
+		
+		this.xoshiro256StarStar = xoshiro256StarStar;
+	}
+	
+	private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+		final ObjectOutputStream.PutField putField = objectOutputStream.putFields();
+		
+		putField.put("xoshiro256StarStar", this.xoshiro256StarStar);
+		
+		objectOutputStream.writeFields();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,533 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import org.macroing.java.util.function.FloatBinaryOperator;
+import org.macroing.java.util.function.FloatUnaryOperator;
+
+/**
+ * The base class of {@link AtomicFloat} and {@link PaddedAtomicFloat}.
+ * <p>
+ * This class contains the operations of both classes. The bits, as returned by {@code Float.floatToRawIntBits(float)}, are declared by a subclass and accessed through the methods it implements. This lets {@code PaddedAtomicFloat} surround them with padding.
+ */
+abstract class AbstractAtomicFloat extends Number {
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	AbstractAtomicFloat() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code String} representation of the current value.
+	 * 
+	 * @return a {@code String} representation of the current value
+	 */
+	@Override
+	public String toString() {
+		return Float.toString(get());
+	}
+	
+	/**
+	 * Atomically sets the current value to the given updated value if the current value equals the expected value.
+	 * <p>
+	 * Returns {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise.
+	 * 
+	 * @param expect the expected value
+	 * @param update the new value
+	 * @return {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise
+	 */
+	public boolean compareAndSet(final float expect, final float update) {
+		return doCompareAndSetBits(Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+	}
+	
+	/**
+	 * Atomically sets the current value to the given updated value if the current value equals the expected value.
+	 * <p>
+	 * Returns {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise.
+	 * <p>
+	 * This method may fail spuriously and does not provide ordering guarantees, so it is only rarely an appropriate alternative to {@code compareAndSet}.
+	 * 
+	 * @param expect the expected value
+	 * @param update the new value
+	 * @return {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise
+	 */
+	@Deprecated(since = "9")
+	public boolean weakCompareAndSet(final float expect, final float update) {
+		return doWeakCompareAndSetBits(Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+	}
+	
+	/**
+	 * Returns the current value of this instance as a {@code double} after a widening primitive conversion.
+	 * 
+	 * @return the current value of this instance as a {@code double} after a widening primitive conversion
+	 */
+	@Override
+	public double doubleValue() {
+		return get();
+	}
+	
+	/**
+	 * Atomically updates the current value with the results of applying the given function to the current and given values.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and the given update as the second argument.
+	 * 
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the updated value
+	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
+	 */
+	public float accumulateAndGet(final float x, final FloatBinaryOperator accumulatorFunction) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = accumulatorFunction.applyAsFloat(previous, x);
+			
+			if(doCompareAndSetBits(expected, Float.floatToRawIntBits(next))) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically adds {@code delta} to the current value.
+	 * <p>
+	 * Returns the updated value.
+	 * 
+	 * @param delta the value to add
+	 * @return the updated value
+	 */
+	public float addAndGet(final float delta) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = previous + delta;
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(doCompareAndSetBits(expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically decrements the current value by one.
+	 * <p>
+	 * Returns the updated value.
+	 * 
+	 * @return the updated value
+	 */
+	public float decrementAndGet() {
+		return addAndGet(-1.0F);
+	}
+	
+	/**
+	 * Returns the current value of this instance as a {@code float}.
+	 * 
+	 * @return the current value of this instance as a {@code float}
+	 */
+	@Override
+	public float floatValue() {
+		return get();
+	}
+	
+	/**
+	 * Returns the current value.
+	 * 
+	 * @return the current value
+	 */
+	public float get() {
+		return Float.intBitsToFloat(doGetBits());
+	}
+	
+	/**
+	 * Returns the current value, with the memory effects of {@code VarHandle.getAcquire}.
+	 * <p>
+	 * This method performs a volatile read, which is at least as strong as an acquire read.
+	 * 
+	 * @return the current value
+	 */
+	public float getAcquire() {
+		return Float.intBitsToFloat(doGetBits());
+	}
+	
+	/**
+	 * Atomically updates the current value with the results of applying the given function to the current and given values.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and the given update as the second argument.
+	 * 
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the previous value
+	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
+	 */
+	public float getAndAccumulate(final float x, final FloatBinaryOperator accumulatorFunction) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = accumulatorFunction.applyAsFloat(previous, x);
+			
+			if(doCompareAndSetBits(expected, Float.floatToRawIntBits(next))) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically adds {@code delta} to the current value.
+	 * <p>
+	 * Returns the previous value.
+	 * 
+	 * @param delta the value to add
+	 * @return the previous value
+	 */
+	public float getAndAdd(final float delta) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = previous + delta;
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(doCompareAndSetBits(expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically decrements the current value by one.
+	 * <p>
+	 * Returns the previous value.
+	 * 
+	 * @return the previous value
+	 */
+	public float getAndDecrement() {
+		return getAndAdd(-1.0F);
+	}
+	
+	/**
+	 * Atomically increments the current value by one.
+	 * <p>
+	 * Returns the previous value.
+	 * 
+	 * @return the previous value
+	 */
+	public float getAndIncrement() {
+		return getAndAdd(1.0F);
+	}
+	
+	/**
+	 * Atomically sets the current value to the maximum of the current value and {@code x}, as computed by {@code Math.max(float, float)}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * No write is performed if the current value is already the maximum.
+	 * 
+	 * @param x the value to compare with
+	 * @return the previous value
+	 */
+	public float getAndMax(final float x) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = Math.max(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(expected == update || doCompareAndSetBits(expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the current value to the minimum of the current value and {@code x}, as computed by {@code Math.min(float, float)}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * No write is performed if the current value is already the minimum.
+	 * 
+	 * @param x the value to compare with
+	 * @return the previous value
+	 */
+	public float getAndMin(final float x) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = Math.min(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(expected == update || doCompareAndSetBits(expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the current value to {@code newValue}.
+	 * <p>
+	 * Returns the previous value.
+	 * 
+	 * @param newValue the new value
+	 * @return the previous value
+	 */
+	public float getAndSet(final float newValue) {
+		return Float.intBitsToFloat(doGetAndSetBits(Float.floatToRawIntBits(newValue)));
+	}
+	
+	/**
+	 * Atomically updates the current value with the results of applying the given function.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
+	 * 
+	 * @param updateFunction a side-effect-free function
+	 * @return the previous value
+	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
+	 */
+	public float getAndUpdate(final FloatUnaryOperator updateFunction) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = updateFunction.applyAsFloat(previous);
+			
+			if(doCompareAndSetBits(expected, Float.floatToRawIntBits(next))) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the current value, with the memory effects of {@code VarHandle.getOpaque}.
+	 * <p>
+	 * This method performs a volatile read, which is at least as strong as an opaque read.
+	 * 
+	 * @return the current value
+	 */
+	public float getOpaque() {
+		return Float.intBitsToFloat(doGetBits());
+	}
+	
+	/**
+	 * Returns the current value, with the memory semantics of reading as if the variable was declared non-{@code volatile}.
+	 * <p>
+	 * This method performs a volatile read, which is at least as strong as a plain read.
+	 * 
+	 * @return the current value
+	 */
+	public float getPlain() {
+		return Float.intBitsToFloat(doGetBits());
+	}
+	
+	/**
+	 * Atomically increments the current value by one.
+	 * <p>
+	 * Returns the updated value.
+	 * 
+	 * @return the updated value
+	 */
+	public float incrementAndGet() {
+		return addAndGet(1.0F);
+	}
+	
+	/**
+	 * Atomically sets the current value to the maximum of the current value and {@code x}, as computed by {@code Math.max(float, float)}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * No write is performed if the current value is already the maximum.
+	 * 
+	 * @param x the value to compare with
+	 * @return the updated value
+	 */
+	public float maxAndGet(final float x) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = Math.max(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(expected == update || doCompareAndSetBits(expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the current value to the minimum of the current value and {@code x}, as computed by {@code Math.min(float, float)}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * No write is performed if the current value is already the minimum.
+	 * 
+	 * @param x the value to compare with
+	 * @return the updated value
+	 */
+	public float minAndGet(final float x) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = Math.min(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(expected == update || doCompareAndSetBits(expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically updates the current value with the results of applying the given function.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
+	 * 
+	 * @param updateFunction a side-effect-free function
+	 * @return the updated value
+	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
+	 */
+	public float updateAndGet(final FloatUnaryOperator updateFunction) {
+		while(true) {
+			final int expected = doGetBits();
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = updateFunction.applyAsFloat(previous);
+			
+			if(doCompareAndSetBits(expected, Float.floatToRawIntBits(next))) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the current value of this instance as an {@code int} after a widening primitive conversion.
+	 * 
+	 * @return the current value of this instance as an {@code int} after a widening primitive conversion
+	 */
+	@Override
+	public int intValue() {
+		return (int)(get());
+	}
+	
+	/**
+	 * Returns the current value of this instance as a {@code long} after a widening primitive conversion.
+	 * 
+	 * @return the current value of this instance as a {@code long} after a widening primitive conversion
+	 */
+	@Override
+	public long longValue() {
+		return (long)(get());
+	}
+	
+	/**
+	 * Eventually sets the current value to {@code newValue}.
+	 * 
+	 * @param newValue the new value
+	 */
+	public void lazySet(final float newValue) {
+		doLazySetBits(Float.floatToRawIntBits(newValue));
+	}
+	
+	/**
+	 * Sets the current value to {@code newValue}.
+	 * 
+	 * @param newValue the new value
+	 */
+	public void set(final float newValue) {
+		doSetBits(Float.floatToRawIntBits(newValue));
+	}
+	
+	/**
+	 * Sets the current value to {@code newValue}, with the memory effects of {@code VarHandle.setOpaque}.
+	 * <p>
+	 * This method performs an ordered write, which is at least as strong as an opaque write.
+	 * 
+	 * @param newValue the new value
+	 */
+	public void setOpaque(final float newValue) {
+		doLazySetBits(Float.floatToRawIntBits(newValue));
+	}
+	
+	/**
+	 * Sets the current value to {@code newValue}, with the memory semantics of setting as if the variable was declared non-{@code volatile}.
+	 * <p>
+	 * This method performs an ordered write, which is at least as strong as a plain write.
+	 * 
+	 * @param newValue the new value
+	 */
+	public void setPlain(final float newValue) {
+		doLazySetBits(Float.floatToRawIntBits(newValue));
+	}
+	
+	/**
+	 * Sets the current value to {@code newValue}, with the memory effects of {@code VarHandle.setRelease}.
+	 * <p>
+	 * This method performs an ordered write, which has release semantics.
+	 * 
+	 * @param newValue the new value
+	 */
+	public void setRelease(final float newValue) {
+		doLazySetBits(Float.floatToRawIntBits(newValue));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	abstract boolean doCompareAndSetBits(final int expect, final int update);
+	
+	abstract boolean doWeakCompareAndSetBits(final int expect, final int update);
+	
+	abstract int doGetAndSetBits(final int newBits);
+	
+	abstract int doGetBits();
+	
+	abstract void doLazySetBits(final int newBits);
+	
+	abstract void doSetBits(final int newBits);
+}
\ No newline at end of file
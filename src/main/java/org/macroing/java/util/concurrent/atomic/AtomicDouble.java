@@ -18,9 +18,13 @@
  */
 package org.macroing.java.util.concurrent.atomic;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.DoubleBinaryOperator;
-import java.util.function.DoubleUnaryOperator;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 /**
  * A {@code double} value that may be updated atomically.
@@ -30,15 +34,23 @@ import java.util.function.DoubleUnaryOperator;
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
  */
-public final class AtomicDouble extends Number {
+public final class AtomicDouble extends AbstractAtomicDouble {
+	private static final AtomicLongFieldUpdater<AtomicDouble> BITS_UPDATER = AtomicLongFieldUpdater.newUpdater(AtomicDouble.class, "bits");
 	private static final long serialVersionUID = 1L;
 	
+	/**
+	 * The serializable fields of this class.
+	 * <p>
+	 * The bits are serialized as an {@code AtomicLong}, which was the type of the field in earlier versions of this class.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("bits", AtomicLong.class)};
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
 	 * Contains the bits that are converted using Double.doubleToLongBits(double).
 	 */
-	private final AtomicLong bits;
+	private volatile long bits;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -55,296 +67,60 @@ public final class AtomicDouble extends Number {
 	 * @param initialValue the initial value
 	 */
 	public AtomicDouble(final double initialValue) {
-		this.bits = new AtomicLong(Double.doubleToRawLongBits(initialValue));
+		this.bits = Double.doubleToRawLongBits(initialValue);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	/**
-	 * Returns a {@code String} representation of the current value.
-	 * 
-	 * @return a {@code String} representation of the current value
-	 */
 	@Override
-	public String toString() {
-		return Double.toString(get());
-	}
-	
-	/**
-	 * Atomically sets the current value to the given updated value if the current value equals the expected value.
-	 * <p>
-	 * Returns {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise.
-	 * 
-	 * @param expect the expected value
-	 * @param update the new value
-	 * @return {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise
-	 */
-	public boolean compareAndSet(final double expect, final double update) {
-		return this.bits.compareAndSet(Double.doubleToRawLongBits(expect), Double.doubleToRawLongBits(update));
+	boolean doCompareAndSetBits(final long expect, final long update) {
+		return BITS_UPDATER.compareAndSet(this, expect, update);
 	}
 	
-	/**
-	 * Atomically sets the current value to the given updated value if the current value equals the expected value.
-	 * <p>
-	 * Returns {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise.
-	 * <p>
-	 * This method may fail spuriously and does not provide ordering guarantees, so it is only rarely an appropriate alternative to {@code compareAndSet}.
-	 * 
-	 * @param expect the expected value
-	 * @param update the new value
-	 * @return {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise
-	 */
-	@Deprecated(since = "9")
-	public boolean weakCompareAndSet(final double expect, final double update) {
-		return this.bits.weakCompareAndSet(Double.doubleToRawLongBits(expect), Double.doubleToRawLongBits(update));
+	@Override
+	boolean doWeakCompareAndSetBits(final long expect, final long update) {
+		return BITS_UPDATER.weakCompareAndSet(this, expect, update);
 	}
 	
-	/**
-	 * Atomically updates the current value with the results of applying the given function to the current and given values.
-	 * <p>
-	 * Returns the updated value.
-	 * <p>
-	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and the given update as the second argument.
-	 * 
-	 * @param x the update value
-	 * @param accumulatorFunction a side-effect-free function of two arguments
-	 * @return the updated value
-	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
-	 */
-	public double accumulateAndGet(final double x, final DoubleBinaryOperator accumulatorFunction) {
-		double previous;
-		double next;
-		
-		do {
-			previous = get();
-			next = accumulatorFunction.applyAsDouble(previous, x);
-		} while(!compareAndSet(previous, next));
-		
-		return next;
+	@Override
+	long doGetAndSetBits(final long newBits) {
+		return BITS_UPDATER.getAndSet(this, newBits);
 	}
 	
-	/**
-	 * Atomically adds {@code delta} to the current value.
-	 * <p>
-	 * Returns the updated value.
-	 * 
-	 * @param delta the value to add
-	 * @return the updated value
-	 */
-	public double addAndGet(final double delta) {
-		return updateAndGet(currentValue -> currentValue + delta);
+	@Override
+	long doGetBits() {
+		return this.bits;
 	}
 	
-	/**
-	 * Atomically decrements the current value by one.
-	 * <p>
-	 * Returns the updated value.
-	 * 
-	 * @return the updated value
-	 */
-	public double decrementAndGet() {
-		return updateAndGet(currentValue -> currentValue - 1.0D);
+	@Override
+	void doLazySetBits(final long newBits) {
+		BITS_UPDATER.lazySet(this, newBits);
 	}
 	
-	/**
-	 * Returns the current value of this {@code AtomicDouble} instance as a {@code double}.
-	 * 
-	 * @return the current value of this {@code AtomicDouble} instance as a {@code double}
-	 */
 	@Override
-	public double doubleValue() {
-		return get();
+	void doSetBits(final long newBits) {
+		this.bits = newBits;
 	}
 	
-	/**
-	 * Returns the current value.
-	 * 
-	 * @return the current value
-	 */
-	public double get() {
-		return Double.longBitsToDouble(this.bits.get());
-	}
+	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	/**
-	 * Atomically updates the current value with the results of applying the given function to the current and given values.
-	 * <p>
-	 * Returns the previous value.
-	 * <p>
-	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and the given update as the second argument.
-	 * 
-	 * @param x the update value
-	 * @param accumulatorFunction a side-effect-free function of two arguments
-	 * @return the previous value
-	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
-	 */
-	public double getAndAccumulate(final double x, final DoubleBinaryOperator accumulatorFunction) {
-		double previous;
-		double next;
+	private void readObject(final ObjectInputStream objectInputStream) throws ClassNotFoundException, IOException {
+		final ObjectInputStream.GetField getField = objectInputStream.readFields();
 		
-		do {
-			previous = get();
-			next = accumulatorFunction.applyAsDouble(previous, x);
-		} while(!compareAndSet(previous, next));
+		final AtomicLong bits = AtomicLong.class.cast(getField.get("bits", null));
 		
-		return previous;
-	}
-	
-	/**
-	 * Atomically adds {@code delta} to the current value.
-	 * <p>
-	 * Returns the previous value.
-	 * 
-	 * @param delta the value to add
-	 * @return the previous value
-	 */
-	public double getAndAdd(final double delta) {
-		return getAndUpdate(currentValue -> currentValue + delta);
-	}
-	
-	/**
-	 * Atomically decrements the current value by one.
-	 * <p>
-	 * Returns the previous value.
-	 * 
-	 * @return the previous value
-	 */
-	public double getAndDecrement() {
-		return getAndUpdate(currentValue -> currentValue - 1.0D);
-	}
-	
-	/**
-	 * Atomically increments the current value by one.
-	 * <p>
-	 * Returns the previous value.
-	 * 
-	 * @return the previous value
-	 */
-	public double getAndIncrement() {
-		return getAndUpdate(currentValue -> currentValue + 1.0D);
-	}
-	
-	/**
-	 * Atomically sets the current value to {@code newValue}.
-	 * <p>
-	 * Returns the previous value.
-	 * 
-	 * @param newValue the new value
-	 * @return the previous value
-	 */
-	public double getAndSet(final double newValue) {
-		return Double.longBitsToDouble(this.bits.getAndSet(Double.doubleToRawLongBits(newValue)));
-	}
-	
-	/**
-	 * Atomically updates the current value with the results of applying the given function.
-	 * <p>
-	 * Returns the previous value.
-	 * <p>
-	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
-	 * 
-	 * @param updateFunction a side-effect-free function
-	 * @return the previous value
-	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
-	 */
-	public double getAndUpdate(final DoubleUnaryOperator updateFunction) {
-		double previous;
-		double next;
-		
-		do {
-			previous = get();
-			next = updateFunction.applyAsDouble(previous);
-		} while(!compareAndSet(previous, next));
+		if(bits == null) {
+			throw new InvalidObjectException("bits == null");
+		}
 		
-		return previous;
+		this.bits = bits.get();
 	}
 	
-	/**
-	 * Atomically increments the current value by one.
-	 * <p>
-	 * Returns the updated value.
-	 * 
-	 * @return the updated value
-	 */
-	public double incrementAndGet() {
-		return updateAndGet(currentValue -> currentValue + 1.0D);
-	}
-	
-	/**
-	 * Atomically updates the current value with the results of applying the given function.
-	 * <p>
-	 * Returns the updated value.
-	 * <p>
-	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
-	 * 
-	 * @param updateFunction a side-effect-free function
-	 * @return the updated value
-	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
-	 */
-	public double updateAndGet(final DoubleUnaryOperator updateFunction) {
-		double previous;
-		double next;
+	private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+		final ObjectOutputStream.PutField putField = objectOutputStream.putFields();
 		
-		do {
-			previous = get();
-			next = updateFunction.applyAsDouble(previous);
-		} while(!compareAndSet(previous, next));
+		putField.put("bits", new AtomicLong(this.bits));
 		
-		return next;
-	}
-	
-	/**
-	 * Returns the current value of this {@code AtomicDouble} instance as a {@code float} after a widening primitive conversion.
-	 * 
-	 * @return the current value of this {@code AtomicDouble} instance as a {@code float} after a widening primitive conversion
-	 */
-	@Override
-	public float floatValue() {
-		return (float)(get());
-	}
-	
-	/**
-	 * Returns the current value of this {@code AtomicDouble} instance as an {@code int} after a widening primitive conversion.
-	 * 
-	 * @return the current value of this {@code AtomicDouble} instance as an {@code int} after a widening primitive conversion
-	 */
-	@Override
-	public int intValue() {
-		return (int)(get());
-	}
-	
-	/**
-	 * Returns the current value of this {@code AtomicDouble} instance as a {@code long} after a widening primitive conversion.
-	 * 
-	 * @return the current value of this {@code AtomicDouble} instance as a {@code long} after a widening primitive conversion
-	 */
-	@Override
-	public long longValue() {
-		return (long)(get());
-	}
-	
-	/**
-	 * Eventually sets the current value to {@code newValue}.
-	 * 
-	 * @param newValue the new value
-	 */
-	public void lazySet(final double newValue) {
-		this.bits.lazySet(Double.doubleToRawLongBits(newValue));
-	}
-	
-	/**
-	 * Sets the current value to {@code newValue}.
-	 * 
-	 * @param newValue the new value
-	 */
-	public void set(final double newValue) {
-		this.bits.set(Double.doubleToRawLongBits(newValue));
+		objectOutputStream.writeFields();
 	}
 }
\ No newline at end of file
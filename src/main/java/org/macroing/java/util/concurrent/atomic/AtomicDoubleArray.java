@@ -0,0 +1,512 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A {@code double} array in which elements may be updated atomically.
+ * <p>
+ * The elements are stored as the bits returned by {@code Double.doubleToRawLongBits(double)} in a single {@code AtomicLongArray}, so an {@code AtomicDoubleArray} with {@code n} elements requires two objects, instead of the {@code 2 * n + 1} objects required by an {@code AtomicDouble[]}.
+ * <p>
+ * Methods that compare values, such as {@link #compareAndSet(int, double, double)}, compare the bits of the values, not the values themselves.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class AtomicDoubleArray implements Serializable {
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the bits that are converted using Double.doubleToRawLongBits(double).
+	 */
+	private final AtomicLongArray bits;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code AtomicDoubleArray} with a length of {@code length} and all elements initially {@code 0.0D}.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, a {@code NegativeArraySizeException} will be thrown.
+	 * 
+	 * @param length the length of the array
+	 * @throws NegativeArraySizeException thrown if, and only if, {@code length} is less than {@code 0}
+	 */
+	public AtomicDoubleArray(final int length) {
+		this.bits = new AtomicLongArray(length);
+	}
+	
+	/**
+	 * Constructs a new {@code AtomicDoubleArray} with the same length as, and all elements copied from, {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the array to copy elements from
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public AtomicDoubleArray(final double[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		final long[] bits = new long[array.length];
+		
+		for(int i = 0; i < array.length; i++) {
+			bits[i] = Double.doubleToRawLongBits(array[i]);
+		}
+		
+		this.bits = new AtomicLongArray(bits);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code String} representation of the current values of the array.
+	 * 
+	 * @return a {@code String} representation of the current values of the array
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(toDoubleArray());
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to {@code update} if its current value equals {@code expect}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the element was set to {@code update}, {@code false} otherwise.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param expect the expected value
+	 * @param update the new value
+	 * @return {@code true} if, and only if, the element was set to {@code update}, {@code false} otherwise
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public boolean compareAndSet(final int index, final double expect, final double update) {
+		return this.bits.compareAndSet(index, Double.doubleToRawLongBits(expect), Double.doubleToRawLongBits(update));
+	}
+	
+	/**
+	 * Atomically updates the element at index {@code index} with the results of applying {@code accumulatorFunction} to its current value and {@code x}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and {@code x} as its second argument.
+	 * 
+	 * @param index the index
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
+	 */
+	public double accumulateAndGet(final int index, final double x, final DoubleBinaryOperator accumulatorFunction) {
+		Objects.requireNonNull(accumulatorFunction, "accumulatorFunction == null");
+		
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = accumulatorFunction.applyAsDouble(previous, x);
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically adds {@code delta} to the element at index {@code index}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param delta the value to add
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public double addAndGet(final int index, final double delta) {
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = previous + delta;
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the current value of the element at index {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @return the current value of the element at index {@code index}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public double get(final int index) {
+		return Double.longBitsToDouble(this.bits.get(index));
+	}
+	
+	/**
+	 * Atomically updates the element at index {@code index} with the results of applying {@code accumulatorFunction} to its current value and {@code x}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and {@code x} as its second argument.
+	 * 
+	 * @param index the index
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
+	 */
+	public double getAndAccumulate(final int index, final double x, final DoubleBinaryOperator accumulatorFunction) {
+		Objects.requireNonNull(accumulatorFunction, "accumulatorFunction == null");
+		
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = accumulatorFunction.applyAsDouble(previous, x);
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically adds {@code delta} to the element at index {@code index}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param delta the value to add
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public double getAndAdd(final int index, final double delta) {
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = previous + delta;
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to the maximum of its current value and {@code x}, as computed by {@code Math.max(double, double)}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * No write is performed if the current value is already the maximum.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param x the value to compare with
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public double getAndMax(final int index, final double x) {
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = Math.max(previous, x);
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(expected == update || this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to the minimum of its current value and {@code x}, as computed by {@code Math.min(double, double)}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * No write is performed if the current value is already the minimum.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param x the value to compare with
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public double getAndMin(final int index, final double x) {
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = Math.min(previous, x);
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(expected == update || this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to {@code newValue}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param newValue the new value
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public double getAndSet(final int index, final double newValue) {
+		return Double.longBitsToDouble(this.bits.getAndSet(index, Double.doubleToRawLongBits(newValue)));
+	}
+	
+	/**
+	 * Atomically updates the element at index {@code index} with the results of applying {@code updateFunction} to its current value.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
+	 * 
+	 * @param index the index
+	 * @param updateFunction a side-effect-free function
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
+	 */
+	public double getAndUpdate(final int index, final DoubleUnaryOperator updateFunction) {
+		Objects.requireNonNull(updateFunction, "updateFunction == null");
+		
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = updateFunction.applyAsDouble(previous);
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to the maximum of its current value and {@code x}, as computed by {@code Math.max(double, double)}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * No write is performed if the current value is already the maximum.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param x the value to compare with
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public double maxAndGet(final int index, final double x) {
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = Math.max(previous, x);
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(expected == update || this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to the minimum of its current value and {@code x}, as computed by {@code Math.min(double, double)}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * No write is performed if the current value is already the minimum.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param x the value to compare with
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public double minAndGet(final int index, final double x) {
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = Math.min(previous, x);
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(expected == update || this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically updates the element at index {@code index} with the results of applying {@code updateFunction} to its current value.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
+	 * 
+	 * @param index the index
+	 * @param updateFunction a side-effect-free function
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
+	 */
+	public double updateAndGet(final int index, final DoubleUnaryOperator updateFunction) {
+		Objects.requireNonNull(updateFunction, "updateFunction == null");
+		
+		while(true) {
+			final long expected = this.bits.get(index);
+			
+			final double previous = Double.longBitsToDouble(expected);
+			final double next = updateFunction.applyAsDouble(previous);
+			
+			final long update = Double.doubleToRawLongBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Returns a snapshot of the current values of the array.
+	 * <p>
+	 * Each element is read atomically, but the array as a whole is not an atomic snapshot. Concurrent updates that occur while the array is being copied might not be incorporated.
+	 * 
+	 * @return a snapshot of the current values of the array
+	 */
+	public double[] toDoubleArray() {
+		final double[] array = new double[this.bits.length()];
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = Double.longBitsToDouble(this.bits.get(i));
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns the length of the array.
+	 * 
+	 * @return the length of the array
+	 */
+	public int length() {
+		return this.bits.length();
+	}
+	
+	/**
+	 * Eventually sets the element at index {@code index} to {@code newValue}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param newValue the new value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public void lazySet(final int index, final double newValue) {
+		this.bits.lazySet(index, Double.doubleToRawLongBits(newValue));
+	}
+	
+	/**
+	 * Sets all elements to {@code 0.0D}.
+	 * <p>
+	 * Each element is set atomically, but the array as a whole is not reset atomically.
+	 */
+	public void reset() {
+		final long bits = Double.doubleToRawLongBits(0.0D);
+		
+		for(int i = 0; i < this.bits.length(); i++) {
+			this.bits.set(i, bits);
+		}
+	}
+	
+	/**
+	 * Sets the element at index {@code index} to {@code newValue}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param newValue the new value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public void set(final int index, final double newValue) {
+		this.bits.set(index, Double.doubleToRawLongBits(newValue));
+	}
+}
\ No newline at end of file
@@ -18,10 +18,13 @@
  */
 package org.macroing.java.util.concurrent.atomic;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.util.concurrent.atomic.AtomicInteger;
-
-import org.macroing.java.util.function.FloatBinaryOperator;
-import org.macroing.java.util.function.FloatUnaryOperator;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * A {@code float} value that may be updated atomically.
@@ -31,15 +34,23 @@ import org.macroing.java.util.function.FloatUnaryOperator;
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
  */
-public final class AtomicFloat extends Number {
+public final class AtomicFloat extends AbstractAtomicFloat {
+	private static final AtomicIntegerFieldUpdater<AtomicFloat> BITS_UPDATER = AtomicIntegerFieldUpdater.newUpdater(AtomicFloat.class, "bits");
 	private static final long serialVersionUID = 1L;
 	
+	/**
+	 * The serializable fields of this class.
+	 * <p>
+	 * The bits are serialized as an {@code AtomicInteger}, which was the type of the field in earlier versions of this class.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("bits", AtomicInteger.class)};
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
 	 * Contains the bits that are converted using Float.floatToRawIntBits(float).
 	 */
-	private final AtomicInteger bits;
+	private volatile int bits;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -56,296 +67,60 @@ public final class AtomicFloat extends Number {
 	 * @param initialValue the initial value
 	 */
 	public AtomicFloat(final float initialValue) {
-		this.bits = new AtomicInteger(Float.floatToRawIntBits(initialValue));
+		this.bits = Float.floatToRawIntBits(initialValue);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	/**
-	 * Returns a {@code String} representation of the current value.
-	 * 
-	 * @return a {@code String} representation of the current value
-	 */
 	@Override
-	public String toString() {
-		return Float.toString(get());
+	boolean doCompareAndSetBits(final int expect, final int update) {
+		return BITS_UPDATER.compareAndSet(this, expect, update);
 	}
 	
-	/**
-	 * Atomically sets the current value to the given updated value if the current value equals the expected value.
-	 * <p>
-	 * Returns {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise.
-	 * 
-	 * @param expect the expected value
-	 * @param update the new value
-	 * @return {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise
-	 */
-	public boolean compareAndSet(final float expect, final float update) {
-		return this.bits.compareAndSet(Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
-	}
-	
-	/**
-	 * Atomically sets the current value to the given updated value if the current value equals the expected value.
-	 * <p>
-	 * Returns {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise.
-	 * <p>
-	 * This method may fail spuriously and does not provide ordering guarantees, so it is only rarely an appropriate alternative to {@code compareAndSet}.
-	 * 
-	 * @param expect the expected value
-	 * @param update the new value
-	 * @return {@code true} if, and only if, the current value was set to {@code update}, {@code false} otherwise
-	 */
-	@Deprecated(since = "9")
-	public boolean weakCompareAndSet(final float expect, final float update) {
-		return this.bits.weakCompareAndSet(Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
-	}
-	
-	/**
-	 * Returns the current value of this {@code AtomicFloat} instance as a {@code double} after a widening primitive conversion.
-	 * 
-	 * @return the current value of this {@code AtomicFloat} instance as a {@code double} after a widening primitive conversion
-	 */
 	@Override
-	public double doubleValue() {
-		return get();
+	boolean doWeakCompareAndSetBits(final int expect, final int update) {
+		return BITS_UPDATER.weakCompareAndSet(this, expect, update);
 	}
 	
-	/**
-	 * Atomically updates the current value with the results of applying the given function to the current and given values.
-	 * <p>
-	 * Returns the updated value.
-	 * <p>
-	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and the given update as the second argument.
-	 * 
-	 * @param x the update value
-	 * @param accumulatorFunction a side-effect-free function of two arguments
-	 * @return the updated value
-	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
-	 */
-	public float accumulateAndGet(final float x, final FloatBinaryOperator accumulatorFunction) {
-		float previous;
-		float next;
-		
-		do {
-			previous = get();
-			next = accumulatorFunction.applyAsFloat(previous, x);
-		} while(!compareAndSet(previous, next));
-		
-		return next;
+	@Override
+	int doGetAndSetBits(final int newBits) {
+		return BITS_UPDATER.getAndSet(this, newBits);
 	}
 	
-	/**
-	 * Atomically adds {@code delta} to the current value.
-	 * <p>
-	 * Returns the updated value.
-	 * 
-	 * @param delta the value to add
-	 * @return the updated value
-	 */
-	public float addAndGet(final float delta) {
-		return updateAndGet(currentValue -> currentValue + delta);
+	@Override
+	int doGetBits() {
+		return this.bits;
 	}
 	
-	/**
-	 * Atomically decrements the current value by one.
-	 * <p>
-	 * Returns the updated value.
-	 * 
-	 * @return the updated value
-	 */
-	public float decrementAndGet() {
-		return updateAndGet(currentValue -> currentValue - 1.0F);
+	@Override
+	void doLazySetBits(final int newBits) {
+		BITS_UPDATER.lazySet(this, newBits);
 	}
 	
-	/**
-	 * Returns the current value of this {@code AtomicFloat} instance as a {@code float}.
-	 * 
-	 * @return the current value of this {@code AtomicFloat} instance as a {@code float}
-	 */
 	@Override
-	public float floatValue() {
-		return get();
+	void doSetBits(final int newBits) {
+		this.bits = newBits;
 	}
 	
-	/**
-	 * Returns the current value.
-	 * 
-	 * @return the current value
-	 */
-	public float get() {
-		return Float.intBitsToFloat(this.bits.get());
-	}
+	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	/**
-	 * Atomically updates the current value with the results of applying the given function to the current and given values.
-	 * <p>
-	 * Returns the previous value.
-	 * <p>
-	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and the given update as the second argument.
-	 * 
-	 * @param x the update value
-	 * @param accumulatorFunction a side-effect-free function of two arguments
-	 * @return the previous value
-	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
-	 */
-	public float getAndAccumulate(final float x, final FloatBinaryOperator accumulatorFunction) {
-		float previous;
-		float next;
+	private void readObject(final ObjectInputStream objectInputStream) throws ClassNotFoundException, IOException {
+		final ObjectInputStream.GetField getField = objectInputStream.readFields();
 		
-		do {
-			previous = get();
-			next = accumulatorFunction.applyAsFloat(previous, x);
-		} while(!compareAndSet(previous, next));
-		
-		return previous;
-	}
-	
-	/**
-	 * Atomically adds {@code delta} to the current value.
-	 * <p>
-	 * Returns the previous value.
-	 * 
-	 * @param delta the value to add
-	 * @return the previous value
-	 */
-	public float getAndAdd(final float delta) {
-		return getAndUpdate(currentValue -> currentValue + delta);
-	}
-	
-	/**
-	 * Atomically decrements the current value by one.
-	 * <p>
-	 * Returns the previous value.
-	 * 
-	 * @return the previous value
-	 */
-	public float getAndDecrement() {
-		return getAndUpdate(currentValue -> currentValue - 1.0F);
-	}
-	
-	/**
-	 * Atomically increments the current value by one.
-	 * <p>
-	 * Returns the previous value.
-	 * 
-	 * @return the previous value
-	 */
-	public float getAndIncrement() {
-		return getAndUpdate(currentValue -> currentValue + 1.0F);
-	}
-	
-	/**
-	 * Atomically sets the current value to {@code newValue}.
-	 * <p>
-	 * Returns the previous value.
-	 * 
-	 * @param newValue the new value
-	 * @return the previous value
-	 */
-	public float getAndSet(final float newValue) {
-		return Float.intBitsToFloat(this.bits.getAndSet(Float.floatToRawIntBits(newValue)));
-	}
-	
-	/**
-	 * Atomically updates the current value with the results of applying the given function.
-	 * <p>
-	 * Returns the previous value.
-	 * <p>
-	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
-	 * 
-	 * @param updateFunction a side-effect-free function
-	 * @return the previous value
-	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
-	 */
-	public float getAndUpdate(final FloatUnaryOperator updateFunction) {
-		float previous;
-		float next;
+		final AtomicInteger bits = AtomicInteger.class.cast(getField.get("bits", null));
 		
-		do {
-			previous = get();
-			next = updateFunction.applyAsFloat(previous);
-		} while(!compareAndSet(previous, next));
+		if(bits == null) {
+			throw new InvalidObjectException("bits == null");
+		}
 		
-		return previous;
-	}
-	
-	/**
-	 * Atomically increments the current value by one.
-	 * <p>
-	 * Returns the updated value.
-	 * 
-	 * @return the updated value
-	 */
-	public float incrementAndGet() {
-		return updateAndGet(currentValue -> currentValue + 1.0F);
+		this.bits = bits.get();
 	}
 	
-	/**
-	 * Atomically updates the current value with the results of applying the given function.
-	 * <p>
-	 * Returns the updated value.
-	 * <p>
-	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
-	 * <p>
-	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
-	 * 
-	 * @param updateFunction a side-effect-free function
-	 * @return the updated value
-	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
-	 */
-	public float updateAndGet(final FloatUnaryOperator updateFunction) {
-		float previous;
-		float next;
+	private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+		final ObjectOutputStream.PutField putField = objectOutputStream.putFields();
 		
-		do {
-			previous = get();
-			next = updateFunction.applyAsFloat(previous);
-		} while(!compareAndSet(previous, next));
+		putField.put("bits", new AtomicInteger(this.bits));
 		
-		return next;
-	}
-	
-	/**
-	 * Returns the current value of this {@code AtomicFloat} instance as an {@code int} after a widening primitive conversion.
-	 * 
-	 * @return the current value of this {@code AtomicFloat} instance as an {@code int} after a widening primitive conversion
-	 */
-	@Override
-	public int intValue() {
-		return (int)(get());
-	}
-	
-	/**
-	 * Returns the current value of this {@code AtomicFloat} instance as a {@code long} after a widening primitive conversion.
-	 * 
-	 * @return the current value of this {@code AtomicFloat} instance as a {@code long} after a widening primitive conversion
-	 */
-	@Override
-	public long longValue() {
-		return (long)(get());
-	}
-	
-	/**
-	 * Eventually sets the current value to {@code newValue}.
-	 * 
-	 * @param newValue the new value
-	 */
-	public void lazySet(final float newValue) {
-		this.bits.lazySet(Float.floatToRawIntBits(newValue));
-	}
-	
-	/**
-	 * Sets the current value to {@code newValue}.
-	 * 
-	 * @param newValue the new value
-	 */
-	public void set(final float newValue) {
-		this.bits.set(Float.floatToRawIntBits(newValue));
+		objectOutputStream.writeFields();
 	}
 }
\ No newline at end of file
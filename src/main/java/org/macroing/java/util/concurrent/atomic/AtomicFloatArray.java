@@ -0,0 +1,513 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.macroing.java.util.function.FloatBinaryOperator;
+import org.macroing.java.util.function.FloatUnaryOperator;
+
+/**
+ * A {@code float} array in which elements may be updated atomically.
+ * <p>
+ * The elements are stored as the bits returned by {@code Float.floatToRawIntBits(float)} in a single {@code AtomicIntegerArray}, so an {@code AtomicFloatArray} with {@code n} elements requires two objects, instead of the {@code 2 * n + 1} objects required by an {@code AtomicFloat[]}.
+ * <p>
+ * Methods that compare values, such as {@link #compareAndSet(int, float, float)}, compare the bits of the values, not the values themselves.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class AtomicFloatArray implements Serializable {
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the bits that are converted using Float.floatToRawIntBits(float).
+	 */
+	private final AtomicIntegerArray bits;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code AtomicFloatArray} with a length of {@code length} and all elements initially {@code 0.0F}.
+	 * <p>
+	 * If {@code length} is less than {@code 0}, a {@code NegativeArraySizeException} will be thrown.
+	 * 
+	 * @param length the length of the array
+	 * @throws NegativeArraySizeException thrown if, and only if, {@code length} is less than {@code 0}
+	 */
+	public AtomicFloatArray(final int length) {
+		this.bits = new AtomicIntegerArray(length);
+	}
+	
+	/**
+	 * Constructs a new {@code AtomicFloatArray} with the same length as, and all elements copied from, {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param array the array to copy elements from
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public AtomicFloatArray(final float[] array) {
+		Objects.requireNonNull(array, "array == null");
+		
+		final int[] bits = new int[array.length];
+		
+		for(int i = 0; i < array.length; i++) {
+			bits[i] = Float.floatToRawIntBits(array[i]);
+		}
+		
+		this.bits = new AtomicIntegerArray(bits);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code String} representation of the current values of the array.
+	 * 
+	 * @return a {@code String} representation of the current values of the array
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(toFloatArray());
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to {@code update} if its current value equals {@code expect}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the element was set to {@code update}, {@code false} otherwise.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param expect the expected value
+	 * @param update the new value
+	 * @return {@code true} if, and only if, the element was set to {@code update}, {@code false} otherwise
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public boolean compareAndSet(final int index, final float expect, final float update) {
+		return this.bits.compareAndSet(index, Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+	}
+	
+	/**
+	 * Atomically updates the element at index {@code index} with the results of applying {@code accumulatorFunction} to its current value and {@code x}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and {@code x} as its second argument.
+	 * 
+	 * @param index the index
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
+	 */
+	public float accumulateAndGet(final int index, final float x, final FloatBinaryOperator accumulatorFunction) {
+		Objects.requireNonNull(accumulatorFunction, "accumulatorFunction == null");
+		
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = accumulatorFunction.applyAsFloat(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically adds {@code delta} to the element at index {@code index}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param delta the value to add
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public float addAndGet(final int index, final float delta) {
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = previous + delta;
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the current value of the element at index {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @return the current value of the element at index {@code index}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public float get(final int index) {
+		return Float.intBitsToFloat(this.bits.get(index));
+	}
+	
+	/**
+	 * Atomically updates the element at index {@code index} with the results of applying {@code accumulatorFunction} to its current value and {@code x}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads. The function is applied with the current value as its first argument, and {@code x} as its second argument.
+	 * 
+	 * @param index the index
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
+	 */
+	public float getAndAccumulate(final int index, final float x, final FloatBinaryOperator accumulatorFunction) {
+		Objects.requireNonNull(accumulatorFunction, "accumulatorFunction == null");
+		
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = accumulatorFunction.applyAsFloat(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically adds {@code delta} to the element at index {@code index}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param delta the value to add
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public float getAndAdd(final int index, final float delta) {
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = previous + delta;
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to the maximum of its current value and {@code x}, as computed by {@code Math.max(float, float)}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * No write is performed if the current value is already the maximum.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param x the value to compare with
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public float getAndMax(final int index, final float x) {
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = Math.max(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(expected == update || this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to the minimum of its current value and {@code x}, as computed by {@code Math.min(float, float)}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * No write is performed if the current value is already the minimum.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param x the value to compare with
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public float getAndMin(final int index, final float x) {
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = Math.min(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(expected == update || this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to {@code newValue}.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param newValue the new value
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public float getAndSet(final int index, final float newValue) {
+		return Float.intBitsToFloat(this.bits.getAndSet(index, Float.floatToRawIntBits(newValue)));
+	}
+	
+	/**
+	 * Atomically updates the element at index {@code index} with the results of applying {@code updateFunction} to its current value.
+	 * <p>
+	 * Returns the previous value.
+	 * <p>
+	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
+	 * 
+	 * @param index the index
+	 * @param updateFunction a side-effect-free function
+	 * @return the previous value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
+	 */
+	public float getAndUpdate(final int index, final FloatUnaryOperator updateFunction) {
+		Objects.requireNonNull(updateFunction, "updateFunction == null");
+		
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = updateFunction.applyAsFloat(previous);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return previous;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to the maximum of its current value and {@code x}, as computed by {@code Math.max(float, float)}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * No write is performed if the current value is already the maximum.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param x the value to compare with
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public float maxAndGet(final int index, final float x) {
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = Math.max(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(expected == update || this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically sets the element at index {@code index} to the minimum of its current value and {@code x}, as computed by {@code Math.min(float, float)}.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * No write is performed if the current value is already the minimum.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param x the value to compare with
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public float minAndGet(final int index, final float x) {
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = Math.min(previous, x);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(expected == update || this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Atomically updates the element at index {@code index} with the results of applying {@code updateFunction} to its current value.
+	 * <p>
+	 * Returns the updated value.
+	 * <p>
+	 * If {@code updateFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * The function should be side-effect-free, since it may be re-applied when attempted updates fail due to contention among threads.
+	 * 
+	 * @param index the index
+	 * @param updateFunction a side-effect-free function
+	 * @return the updated value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 * @throws NullPointerException thrown if, and only if, {@code updateFunction} is {@code null}
+	 */
+	public float updateAndGet(final int index, final FloatUnaryOperator updateFunction) {
+		Objects.requireNonNull(updateFunction, "updateFunction == null");
+		
+		while(true) {
+			final int expected = this.bits.get(index);
+			
+			final float previous = Float.intBitsToFloat(expected);
+			final float next = updateFunction.applyAsFloat(previous);
+			
+			final int update = Float.floatToRawIntBits(next);
+			
+			if(this.bits.compareAndSet(index, expected, update)) {
+				return next;
+			}
+		}
+	}
+	
+	/**
+	 * Returns a snapshot of the current values of the array.
+	 * <p>
+	 * Each element is read atomically, but the array as a whole is not an atomic snapshot. Concurrent updates that occur while the array is being copied might not be incorporated.
+	 * 
+	 * @return a snapshot of the current values of the array
+	 */
+	public float[] toFloatArray() {
+		final float[] array = new float[this.bits.length()];
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = Float.intBitsToFloat(this.bits.get(i));
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns the length of the array.
+	 * 
+	 * @return the length of the array
+	 */
+	public int length() {
+		return this.bits.length();
+	}
+	
+	/**
+	 * Eventually sets the element at index {@code index} to {@code newValue}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param newValue the new value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public void lazySet(final int index, final float newValue) {
+		this.bits.lazySet(index, Float.floatToRawIntBits(newValue));
+	}
+	
+	/**
+	 * Sets all elements to {@code 0.0F}.
+	 * <p>
+	 * Each element is set atomically, but the array as a whole is not reset atomically.
+	 */
+	public void reset() {
+		final int bits = Float.floatToRawIntBits(0.0F);
+		
+		for(int i = 0; i < this.bits.length(); i++) {
+			this.bits.set(i, bits);
+		}
+	}
+	
+	/**
+	 * Sets the element at index {@code index} to {@code newValue}.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code length()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index
+	 * @param newValue the new value
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code length()}
+	 */
+	public void set(final int index, final float newValue) {
+		this.bits.set(index, Float.floatToRawIntBits(newValue));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.util.Objects;
+
+import org.macroing.java.util.function.FloatBinaryOperator;
+
+/**
+ * One or more variables that together maintain a running {@code float} value updated using a supplied function.
+ * <p>
+ * This class is the {@code float} counterpart of {@code java.util.concurrent.atomic.DoubleAccumulator}. When updates are contended across threads, the set of variables may grow dynamically to reduce contention. An update that would not change the value of the variable it targets does not write to it. This makes maximum and minimum accumulators cheap once the extreme value has been found.
+ * <p>
+ * The order of accumulation within or across threads is not guaranteed, so the function has to be associative and commutative, and side-effect-free.
+ * <p>
+ * The following example shows how a maximum accumulator can be constructed:
+ * <pre>
+ * {@code
+ * FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, Float.NEGATIVE_INFINITY);
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class FloatAccumulator extends StripedFloat {
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final FloatBinaryOperator accumulatorFunction;
+	private final float identity;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code FloatAccumulator} with {@code accumulatorFunction} as its accumulator function and {@code identity} as its identity.
+	 * <p>
+	 * If {@code accumulatorFunction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @param identity the identity, which is also the initial value, of {@code accumulatorFunction}
+	 * @throws NullPointerException thrown if, and only if, {@code accumulatorFunction} is {@code null}
+	 */
+	public FloatAccumulator(final FloatBinaryOperator accumulatorFunction, final float identity) {
+		super(identity);
+		
+		this.accumulatorFunction = Objects.requireNonNull(accumulatorFunction, "accumulatorFunction == null");
+		this.identity = identity;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code String} representation of the current value.
+	 * 
+	 * @return a {@code String} representation of the current value
+	 */
+	@Override
+	public String toString() {
+		return Float.toString(get());
+	}
+	
+	/**
+	 * Returns the current value of this {@code FloatAccumulator} instance as a {@code double} after a widening primitive conversion.
+	 * 
+	 * @return the current value of this {@code FloatAccumulator} instance as a {@code double} after a widening primitive conversion
+	 */
+	@Override
+	public double doubleValue() {
+		return get();
+	}
+	
+	/**
+	 * Returns the current value of this {@code FloatAccumulator} instance as a {@code float}.
+	 * 
+	 * @return the current value of this {@code FloatAccumulator} instance as a {@code float}
+	 */
+	@Override
+	public float floatValue() {
+		return get();
+	}
+	
+	/**
+	 * Returns the current value.
+	 * <p>
+	 * The returned value is not an atomic snapshot. Invocation in the absence of concurrent updates returns an accurate result, but concurrent updates that occur while the value is being calculated might not be incorporated.
+	 * 
+	 * @return the current value
+	 */
+	public float get() {
+		return doGet();
+	}
+	
+	/**
+	 * Returns the identity of this {@code FloatAccumulator} instance.
+	 * 
+	 * @return the identity of this {@code FloatAccumulator} instance
+	 */
+	public float getIdentity() {
+		return this.identity;
+	}
+	
+	/**
+	 * Returns the current value and resets the variables maintaining the value to the identity.
+	 * <p>
+	 * This method is equivalent to {@link #get()} followed by {@link #reset()}, but it will not lose updates that occur between the two calls.
+	 * 
+	 * @return the current value
+	 */
+	public float getThenReset() {
+		return doGetThenReset();
+	}
+	
+	/**
+	 * Returns the current value of this {@code FloatAccumulator} instance as an {@code int} after a narrowing primitive conversion.
+	 * 
+	 * @return the current value of this {@code FloatAccumulator} instance as an {@code int} after a narrowing primitive conversion
+	 */
+	@Override
+	public int intValue() {
+		return (int)(get());
+	}
+	
+	/**
+	 * Returns the current value of this {@code FloatAccumulator} instance as a {@code long} after a narrowing primitive conversion.
+	 * 
+	 * @return the current value of this {@code FloatAccumulator} instance as a {@code long} after a narrowing primitive conversion
+	 */
+	@Override
+	public long longValue() {
+		return (long)(get());
+	}
+	
+	/**
+	 * Updates the value with {@code x}.
+	 * 
+	 * @param x the value to accumulate
+	 */
+	public void accumulate(final float x) {
+		doAccumulate(x);
+	}
+	
+	/**
+	 * Resets the variables maintaining the value to the identity.
+	 * <p>
+	 * This method may be a useful alternative to creating a new {@code FloatAccumulator}, but is only effective if there are no concurrent updates.
+	 */
+	public void reset() {
+		doReset();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Override
+	float doApply(final float left, final float right) {
+		return this.accumulatorFunction.applyAsFloat(left, right);
+	}
+}
\ No newline at end of file
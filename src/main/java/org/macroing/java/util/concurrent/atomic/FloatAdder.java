@@ -0,0 +1,169 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+/**
+ * One or more variables that together maintain an initially zero {@code float} sum.
+ * <p>
+ * This class is the {@code float} counterpart of {@code java.util.concurrent.atomic.DoubleAdder}. When updates are contended across threads, the set of variables may grow dynamically to reduce contention. This class is usually preferable to {@link AtomicFloat} when multiple threads update a common sum that is used for purposes such as collecting statistics, but not for fine-grained synchronization control. Under low update contention, the two classes have similar characteristics. Under high contention, expected throughput of this class is significantly higher, at the expense of higher space consumption.
+ * <p>
+ * The order of accumulation within or across threads is not guaranteed. Because floating-point addition is not associative, the result may vary slightly between runs.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class FloatAdder extends StripedFloat {
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code FloatAdder} with an initial sum of {@code 0.0F}.
+	 */
+	public FloatAdder() {
+		super(0.0F);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code String} representation of the current sum.
+	 * 
+	 * @return a {@code String} representation of the current sum
+	 */
+	@Override
+	public String toString() {
+		return Float.toString(sum());
+	}
+	
+	/**
+	 * Returns the current sum of this {@code FloatAdder} instance as a {@code double} after a widening primitive conversion.
+	 * 
+	 * @return the current sum of this {@code FloatAdder} instance as a {@code double} after a widening primitive conversion
+	 */
+	@Override
+	public double doubleValue() {
+		return sum();
+	}
+	
+	/**
+	 * Returns the current sum of this {@code FloatAdder} instance as a {@code float}.
+	 * 
+	 * @return the current sum of this {@code FloatAdder} instance as a {@code float}
+	 */
+	@Override
+	public float floatValue() {
+		return sum();
+	}
+	
+	/**
+	 * Returns the current sum.
+	 * <p>
+	 * The returned value is not an atomic snapshot. Invocation in the absence of concurrent updates returns an accurate result, but concurrent updates that occur while the sum is being calculated might not be incorporated.
+	 * 
+	 * @return the current sum
+	 */
+	public float sum() {
+		return doGet();
+	}
+	
+	/**
+	 * Returns the current sum and resets the variables maintaining the sum to {@code 0.0F}.
+	 * <p>
+	 * This method is equivalent to {@link #sum()} followed by {@link #reset()}, but it will not lose updates that occur between the two calls.
+	 * 
+	 * @return the current sum
+	 */
+	public float sumThenReset() {
+		return doGetThenReset();
+	}
+	
+	/**
+	 * Returns the current sum of this {@code FloatAdder} instance as an {@code int} after a narrowing primitive conversion.
+	 * 
+	 * @return the current sum of this {@code FloatAdder} instance as an {@code int} after a narrowing primitive conversion
+	 */
+	@Override
+	public int intValue() {
+		return (int)(sum());
+	}
+	
+	/**
+	 * Returns the current sum of this {@code FloatAdder} instance as a {@code long} after a narrowing primitive conversion.
+	 * 
+	 * @return the current sum of this {@code FloatAdder} instance as a {@code long} after a narrowing primitive conversion
+	 */
+	@Override
+	public long longValue() {
+		return (long)(sum());
+	}
+	
+	/**
+	 * Adds {@code x} to the sum.
+	 * 
+	 * @param x the value to add
+	 */
+	public void add(final float x) {
+		doAccumulate(x);
+	}
+	
+	/**
+	 * Subtracts one from the sum.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * floatAdder.add(-1.0F);
+	 * }
+	 * </pre>
+	 */
+	public void decrement() {
+		add(-1.0F);
+	}
+	
+	/**
+	 * Adds one to the sum.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * floatAdder.add(1.0F);
+	 * }
+	 * </pre>
+	 */
+	public void increment() {
+		add(1.0F);
+	}
+	
+	/**
+	 * Resets the variables maintaining the sum to {@code 0.0F}.
+	 * <p>
+	 * This method may be a useful alternative to creating a new {@code FloatAdder}, but is only effective if there are no concurrent updates.
+	 */
+	public void reset() {
+		doReset();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Override
+	float doApply(final float left, final float right) {
+		return left + right;
+	}
+}
\ No newline at end of file
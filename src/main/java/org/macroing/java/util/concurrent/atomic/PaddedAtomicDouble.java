@@ -0,0 +1,66 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A {@code double} value that may be updated atomically and is padded to avoid false sharing.
+ * <p>
+ * A {@code PaddedAtomicDouble} is used in applications such as atomically incremented counters, and cannot be used as a replacement for a {@code Double}. However, this class does extend {@code Number} to allow uniform access by tools and utilities that deal with numerically-based classes.
+ * <p>
+ * A {@code PaddedAtomicDouble} behaves exactly like an {@link AtomicDouble}, but its value is surrounded by padding so that it does not share a cache line with other objects. This avoids false sharing when many instances that are updated by different threads, such as one counter per thread, are allocated next to each other. The cost is a larger memory footprint, so an {@code AtomicDouble} should be preferred unless contention between neighbouring instances has been observed.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class PaddedAtomicDouble extends PaddedLongBits {
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	transient long p10;
+	transient long p11;
+	transient long p12;
+	transient long p13;
+	transient long p14;
+	transient long p15;
+	transient long p16;
+	transient long p17;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code PaddedAtomicDouble} with an initial value of {@code 0.0D}.
+	 */
+	public PaddedAtomicDouble() {
+		this(0.0D);
+	}
+	
+	/**
+	 * Constructs a new {@code PaddedAtomicDouble} with an initial value of {@code initialValue}.
+	 * 
+	 * @param initialValue the initial value
+	 */
+	public PaddedAtomicDouble(final double initialValue) {
+		this.bits = Double.doubleToRawLongBits(initialValue);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+/**
+ * The base class of {@link PaddedAtomicFloat} that contains the padding preceding the value.
+ * <p>
+ * Because the fields of a superclass are laid out before the fields of its subclasses, the value declared by a subclass will not share a cache line with objects allocated before it.
+ */
+abstract class PaddedAtomicFloatPadding extends AbstractAtomicFloat {
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	transient long p00;
+	transient long p01;
+	transient long p02;
+	transient long p03;
+	transient long p04;
+	transient long p05;
+	transient long p06;
+	transient long p07;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	PaddedAtomicFloatPadding() {
+		
+	}
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * The base class of {@link PaddedAtomicFloat} that contains the value.
+ * <p>
+ * The value is preceded by the padding in {@link PaddedAtomicFloatPadding} and followed by the padding in its subclass.
+ */
+abstract class PaddedIntBits extends PaddedAtomicFloatPadding {
+	private static final AtomicIntegerFieldUpdater<PaddedIntBits> BITS_UPDATER = AtomicIntegerFieldUpdater.newUpdater(PaddedIntBits.class, "bits");
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Contains the bits that are converted using Float.floatToRawIntBits(float).
+	 */
+	volatile int bits;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	PaddedIntBits() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Override
+	final boolean doCompareAndSetBits(final int expect, final int update) {
+		return BITS_UPDATER.compareAndSet(this, expect, update);
+	}
+	
+	@Override
+	final boolean doWeakCompareAndSetBits(final int expect, final int update) {
+		return BITS_UPDATER.weakCompareAndSet(this, expect, update);
+	}
+	
+	@Override
+	final int doGetAndSetBits(final int newBits) {
+		return BITS_UPDATER.getAndSet(this, newBits);
+	}
+	
+	@Override
+	final int doGetBits() {
+		return this.bits;
+	}
+	
+	@Override
+	final void doLazySetBits(final int newBits) {
+		BITS_UPDATER.lazySet(this, newBits);
+	}
+	
+	@Override
+	final void doSetBits(final int newBits) {
+		this.bits = newBits;
+	}
+}
\ No newline at end of file
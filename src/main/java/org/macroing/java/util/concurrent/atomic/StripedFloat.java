@@ -0,0 +1,246 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * The base class of the striped {@code float} accumulators in this package.
+ * <p>
+ * This class follows the design of {@code java.util.concurrent.atomic.LongAdder}. Updates are first attempted on a single base value. When that fails due to contention, a table of cells is created and each thread updates the cell selected by its own probe value. The table grows, up to the number of available processors, whenever threads keep colliding on the same cell. The cells are padded to reduce false sharing.
+ * <p>
+ * The values are stored as the bits returned by {@code Float.floatToRawIntBits(float)}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+abstract class StripedFloat extends Number {
+	private static final AtomicIntegerFieldUpdater<StripedFloat> BASE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(StripedFloat.class, "base");
+	private static final AtomicIntegerFieldUpdater<StripedFloat> CELLS_BUSY_UPDATER = AtomicIntegerFieldUpdater.newUpdater(StripedFloat.class, "cellsBusy");
+	private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[] {ThreadLocalRandom.current().nextInt() | 1});
+	private static final int MAXIMUM_CELL_COUNT = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() - 1, 1)) << 1;
+	private static final long serialVersionUID = 1L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private transient volatile Cell[] cells;
+	private final int identity;
+	private transient volatile int cellsBusy;
+	private volatile int base;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	StripedFloat(final float identity) {
+		this.identity = Float.floatToRawIntBits(identity);
+		this.base = this.identity;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	abstract float doApply(final float left, final float right);
+	
+	final float doGet() {
+		final Cell[] cells = this.cells;
+		
+		float result = Float.intBitsToFloat(this.base);
+		
+		if(cells != null) {
+			for(final Cell cell : cells) {
+				result = doApply(result, Float.intBitsToFloat(cell.value));
+			}
+		}
+		
+		return result;
+	}
+	
+	final float doGetThenReset() {
+		final Cell[] cells = this.cells;
+		
+		float result = Float.intBitsToFloat(BASE_UPDATER.getAndSet(this, this.identity));
+		
+		if(cells != null) {
+			for(final Cell cell : cells) {
+				result = doApply(result, Float.intBitsToFloat(Cell.VALUE_UPDATER.getAndSet(cell, this.identity)));
+			}
+		}
+		
+		return result;
+	}
+	
+	final void doAccumulate(final float x) {
+		if(this.cells == null) {
+			final int expected = this.base;
+			final int update = Float.floatToRawIntBits(doApply(Float.intBitsToFloat(expected), x));
+			
+			if(expected == update || BASE_UPDATER.compareAndSet(this, expected, update)) {
+				return;
+			}
+		}
+		
+		doAccumulateContended(x);
+	}
+	
+	final void doReset() {
+		final Cell[] cells = this.cells;
+		
+		this.base = this.identity;
+		
+		if(cells != null) {
+			for(final Cell cell : cells) {
+				cell.value = this.identity;
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doAccumulateContended(final float x) {
+		final int[] probe = PROBE.get();
+		
+		boolean isColliding = false;
+		
+		while(true) {
+			final Cell[] cells = this.cells;
+			
+			if(cells != null) {
+				final Cell cell = cells[probe[0] & (cells.length - 1)];
+				
+				final int expected = cell.value;
+				final int update = Float.floatToRawIntBits(doApply(Float.intBitsToFloat(expected), x));
+				
+				if(expected == update || Cell.VALUE_UPDATER.compareAndSet(cell, expected, update)) {
+					return;
+				}
+				
+				if(isColliding && cells.length < MAXIMUM_CELL_COUNT && this.cellsBusy == 0 && CELLS_BUSY_UPDATER.compareAndSet(this, 0, 1)) {
+					try {
+						if(this.cells == cells) {
+							final Cell[] newCells = new Cell[cells.length << 1];
+							
+							System.arraycopy(cells, 0, newCells, 0, cells.length);
+							
+							for(int i = cells.length; i < newCells.length; i++) {
+								newCells[i] = new Cell(this.identity);
+							}
+							
+							this.cells = newCells;
+						}
+					} finally {
+						this.cellsBusy = 0;
+					}
+					
+					isColliding = false;
+					
+					continue;
+				}
+				
+				isColliding = true;
+				
+				probe[0] = doAdvanceProbe(probe[0]);
+			} else if(this.cellsBusy == 0 && CELLS_BUSY_UPDATER.compareAndSet(this, 0, 1)) {
+				try {
+					if(this.cells == null) {
+						this.cells = new Cell[] {new Cell(this.identity), new Cell(this.identity)};
+					}
+				} finally {
+					this.cellsBusy = 0;
+				}
+			} else {
+				final int expected = this.base;
+				final int update = Float.floatToRawIntBits(doApply(Float.intBitsToFloat(expected), x));
+				
+				if(expected == update || BASE_UPDATER.compareAndSet(this, expected, update)) {
+					return;
+				}
+			}
+		}
+	}
+	
+	private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+		final ObjectOutputStream.PutField putField = objectOutputStream.putFields();
+		
+		putField.put("base", Float.floatToRawIntBits(doGet()));
+		putField.put("identity", this.identity);
+		
+		objectOutputStream.writeFields();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doAdvanceProbe(final int probe) {
+		int result = probe;
+		
+		result ^= result << 13;
+		result ^= result >>> 17;
+		result ^= result << 5;
+		
+		return result;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static final class Cell extends CellValue {
+		long p10;
+		long p11;
+		long p12;
+		long p13;
+		long p14;
+		long p15;
+		long p16;
+		long p17;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		Cell(final int value) {
+			super(value);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static class CellPadding {
+		long p00;
+		long p01;
+		long p02;
+		long p03;
+		long p04;
+		long p05;
+		long p06;
+		long p07;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static class CellValue extends CellPadding {
+		static final AtomicIntegerFieldUpdater<CellValue> VALUE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(CellValue.class, "value");
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		volatile int value;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		CellValue(final int value) {
+			this.value = value;
+		}
+	}
+}
\ No newline at end of file
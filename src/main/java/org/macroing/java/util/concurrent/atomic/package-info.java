@@ -9,8 +9,12 @@
  * <ul>
  * <li>{@link org.macroing.java.util.concurrent.atomic.AtomicDouble AtomicDouble} represents a {@code double} value that may be updated atomically.</li>
  * <li>{@link org.macroing.java.util.concurrent.atomic.AtomicFloat AtomicFloat} represents a {@code float} value that may be updated atomically.</li>
+ * <li>{@link org.macroing.java.util.concurrent.atomic.FloatAccumulator FloatAccumulator} represents one or more variables that together maintain a running {@code float} value updated using a supplied function.</li>
+ * <li>{@link org.macroing.java.util.concurrent.atomic.FloatAdder FloatAdder} represents one or more variables that together maintain an initially zero {@code float} sum.</li>
  * </ul>
  * <p>
+ * For {@code double} values, {@code java.util.concurrent.atomic.DoubleAdder} and {@code java.util.concurrent.atomic.DoubleAccumulator} already provide striped accumulators.
+ * <p>
  * <strong>Dependencies</strong>
  * <p>
  * The following list shows all dependencies for this API.
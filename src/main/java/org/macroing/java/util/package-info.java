@@ -7,8 +7,35 @@
  * <p>
  * The following list contains information about the classes in this API that extends {@code Random}.
  * <ul>
+ * <li>{@link org.macroing.java.util.FastMersenneTwisterRandom FastMersenneTwisterRandom} is a {@code Random} implementation that implements the SIMD-oriented Fast Mersenne Twister algorithm.</li>
  * <li>{@link org.macroing.java.util.MersenneTwisterRandom MersenneTwisterRandom} is a {@code Random} implementation that implements the Mersenne Twister algorithm.</li>
  * <li>{@link org.macroing.java.util.XORShiftRandom XORShiftRandom} is a {@code Random} implementation that implements the XOR-Shift algorithm.</li>
+ * <li>{@link org.macroing.java.util.Xoshiro256StarStarRandom Xoshiro256StarStarRandom} is a {@code Random} implementation that implements the xoshiro256** algorithm and supports jumping ahead.</li>
+ * </ul>
+ * <p>
+ * The following list contains information about the pseudorandom number generators in this API that do not extend {@code Random}. They are not thread-safe and are intended for hot loops.
+ * <ul>
+ * <li>{@link org.macroing.java.util.FastMersenneTwister FastMersenneTwister} is a pseudorandom number generator that implements the SIMD-oriented Fast Mersenne Twister algorithm.</li>
+ * <li>{@link org.macroing.java.util.MersenneTwister MersenneTwister} is a pseudorandom number generator that implements the Mersenne Twister algorithm.</li>
+ * <li>{@link org.macroing.java.util.XORShift XORShift} is a pseudorandom number generator that implements the XOR-Shift algorithm.</li>
+ * <li>{@link org.macroing.java.util.Xoshiro256StarStar Xoshiro256StarStar} is a pseudorandom number generator that implements the xoshiro256** algorithm and supports jumping ahead.</li>
+ * </ul>
+ * <p>
+ * The following list contains information about the low-discrepancy sequences and stratified samplers in this API. They generate points in the unit hypercube without allocating memory, and are intended for numerical integration.
+ * <ul>
+ * <li>{@link org.macroing.java.util.HaltonSequence HaltonSequence} generates the points of a Halton sequence, optionally scrambled using Owen scrambling.</li>
+ * <li>{@link org.macroing.java.util.LatinHypercubeSampler LatinHypercubeSampler} generates samples using Latin hypercube sampling.</li>
+ * <li>{@link org.macroing.java.util.RobertsSequence RobertsSequence} generates the points of the R<sub>d</sub> sequence by Martin Roberts.</li>
+ * <li>{@link org.macroing.java.util.SobolSequence SobolSequence} generates the points of a Sobol sequence with up to {@code 1024} dimensions.</li>
+ * <li>{@link org.macroing.java.util.StratifiedSampler StratifiedSampler} generates jittered samples with the same number of strata along each dimension.</li>
+ * </ul>
+ * <p>
+ * The following list contains information about the distribution samplers in this API. They are immutable, do not allocate any memory when sampling and map uniform values from any of the generators above to samples.
+ * <ul>
+ * <li>{@link org.macroing.java.util.AliasTable AliasTable} samples indices from a discrete distribution in {@code O(1)} using the alias method.</li>
+ * <li>{@link org.macroing.java.util.DiscreteDistribution DiscreteDistribution} samples indices from a discrete distribution by inverting its cumulative distribution function.</li>
+ * <li>{@link org.macroing.java.util.PiecewiseConstant1D PiecewiseConstant1D} samples values from a piecewise-constant probability density function on the unit interval.</li>
+ * <li>{@link org.macroing.java.util.PiecewiseConstant2D PiecewiseConstant2D} samples points from a piecewise-constant probability density function on the unit square.</li>
  * </ul>
  * <p>
  * The following list contains information about the primitive specializations for {@code Optional}.
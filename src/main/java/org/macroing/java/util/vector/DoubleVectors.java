@@ -0,0 +1,808 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.vector;
+
+import java.util.Objects;
+
+import org.macroing.java.lang.Doubles;
+
+/**
+ * The class {@code DoubleVectors} contains numeric kernels that operate on {@code double[]} instances.
+ * <p>
+ * The kernels in this class are written as tight loops over primitive arrays that call no methods other than intrinsics such as {@code Math.max} and {@code Math.min}. This allows the HotSpot JIT compiler to unroll and auto-vectorize them on any Java 8 or later runtime. The reductions {@code dot}, {@code max}, {@code min} and {@code sum} use four independent accumulators, which breaks the dependency chain between consecutive additions or comparisons.
+ * <p>
+ * All methods come in two variants. The first processes all elements of the arrays and the second processes the elements from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class DoubleVectors {
+	private DoubleVectors() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the dot product of the elements in {@code arrayA} and {@code arrayB}.
+	 * <p>
+	 * The products are accumulated in four independent partial sums that are added together at the end. The result may therefore differ slightly from a strictly sequential computation.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code arrayA.length} is greater than {@code arrayB.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.dot(arrayA, arrayB, 0, arrayA.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param arrayA a {@code double[]}
+	 * @param arrayB a {@code double[]}
+	 * @return the dot product of the elements in {@code arrayA} and {@code arrayB}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code arrayA.length} is greater than {@code arrayB.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static double dot(final double[] arrayA, final double[] arrayB) {
+		return dot(arrayA, arrayB, 0, arrayA.length);
+	}
+	
+	/**
+	 * Returns the dot product of the elements in {@code arrayA} and {@code arrayB} from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+	 * <p>
+	 * The products are accumulated in four independent partial sums that are added together at the end. The result may therefore differ slightly from a strictly sequential computation.
+	 * <p>
+	 * If either {@code arrayA} or {@code arrayB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code arrayA.length} or {@code arrayB.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param arrayA a {@code double[]}
+	 * @param arrayB a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return the dot product of the elements in {@code arrayA} and {@code arrayB}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code arrayA.length} or {@code arrayB.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayA} or {@code arrayB} are {@code null}
+	 */
+	public static double dot(final double[] arrayA, final double[] arrayB, final int offset, final int length) {
+		Objects.requireNonNull(arrayA, "arrayA == null");
+		Objects.requireNonNull(arrayB, "arrayB == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, arrayA.length, "offset + length");
+		doRequireRange(offset + length, 0, arrayB.length, "offset + length");
+		
+		final int end = offset + length;
+		
+		double sum0 = 0.0D;
+		double sum1 = 0.0D;
+		double sum2 = 0.0D;
+		double sum3 = 0.0D;
+		
+		int i = offset;
+		
+		for(; i < end - 3; i += 4) {
+			sum0 += arrayA[i + 0] * arrayB[i + 0];
+			sum1 += arrayA[i + 1] * arrayB[i + 1];
+			sum2 += arrayA[i + 2] * arrayB[i + 2];
+			sum3 += arrayA[i + 3] * arrayB[i + 3];
+		}
+		
+		for(; i < end; i++) {
+			sum0 += arrayA[i] * arrayB[i];
+		}
+		
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+	
+	/**
+	 * Returns the greatest element in {@code array}.
+	 * <p>
+	 * The comparison is performed using {@code Math.max(double, double)}. If any element is NaN, the result is NaN.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.max(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the greatest element in {@code array}, or {@code Double.NEGATIVE_INFINITY} if no elements are processed
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double max(final double[] array) {
+		return max(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the greatest element in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+	 * <p>
+	 * The comparison is performed using {@code Math.max(double, double)}. If any element is NaN, the result is NaN.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return the greatest element in {@code array}, or {@code Double.NEGATIVE_INFINITY} if no elements are processed
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double max(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, array.length, "offset + length");
+		
+		final int end = offset + length;
+		
+		double max0 = Double.NEGATIVE_INFINITY;
+		double max1 = Double.NEGATIVE_INFINITY;
+		double max2 = Double.NEGATIVE_INFINITY;
+		double max3 = Double.NEGATIVE_INFINITY;
+		
+		int i = offset;
+		
+		for(; i < end - 3; i += 4) {
+			max0 = Math.max(max0, array[i + 0]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		
+		for(; i < end; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+	
+	/**
+	 * Returns the smallest element in {@code array}.
+	 * <p>
+	 * The comparison is performed using {@code Math.min(double, double)}. If any element is NaN, the result is NaN.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.min(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the smallest element in {@code array}, or {@code Double.POSITIVE_INFINITY} if no elements are processed
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double min(final double[] array) {
+		return min(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the smallest element in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+	 * <p>
+	 * The comparison is performed using {@code Math.min(double, double)}. If any element is NaN, the result is NaN.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return the smallest element in {@code array}, or {@code Double.POSITIVE_INFINITY} if no elements are processed
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double min(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, array.length, "offset + length");
+		
+		final int end = offset + length;
+		
+		double min0 = Double.POSITIVE_INFINITY;
+		double min1 = Double.POSITIVE_INFINITY;
+		double min2 = Double.POSITIVE_INFINITY;
+		double min3 = Double.POSITIVE_INFINITY;
+		
+		int i = offset;
+		
+		for(; i < end - 3; i += 4) {
+			min0 = Math.min(min0, array[i + 0]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		
+		for(; i < end; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array}.
+	 * <p>
+	 * The elements are accumulated in four independent partial sums that are added together at the end. The result may therefore differ slightly from a strictly sequential summation. Use {@link #sumKahan(double[])} or {@link #sumPairwise(double[])} if a smaller rounding error is required.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.sum(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sum(final double[] array) {
+		return sum(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+	 * <p>
+	 * The elements are accumulated in four independent partial sums that are added together at the end. The result may therefore differ slightly from a strictly sequential summation. Use {@link #sumKahan(double[])} or {@link #sumPairwise(double[])} if a smaller rounding error is required.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sum(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, array.length, "offset + length");
+		
+		final int end = offset + length;
+		
+		double sum0 = 0.0D;
+		double sum1 = 0.0D;
+		double sum2 = 0.0D;
+		double sum3 = 0.0D;
+		
+		int i = offset;
+		
+		for(; i < end - 3; i += 4) {
+			sum0 += array[i + 0];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		
+		for(; i < end; i++) {
+			sum0 += array[i];
+		}
+		
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} using Kahan summation.
+	 * <p>
+	 * Kahan summation keeps a running compensation for the low-order bits that are lost in each addition. The rounding error of the result is bounded independently of the number of elements.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.sumKahan(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumKahan(final double[] array) {
+		return sumKahan(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using Kahan summation.
+	 * <p>
+	 * Kahan summation keeps a running compensation for the low-order bits that are lost in each addition. The rounding error of the result is bounded independently of the number of elements.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.sumKahan(array, offset, length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumKahan(final double[] array, final int offset, final int length) {
+		return Doubles.sumKahan(array, offset, length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} using pairwise summation.
+	 * <p>
+	 * Pairwise summation recursively splits the elements into two halves and adds their sums. Blocks of up to {@code 128} elements are summed directly. The rounding error of the result grows logarithmically with the number of elements.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.sumPairwise(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the sum of the elements in {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumPairwise(final double[] array) {
+		return sumPairwise(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the sum of the elements in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive) using pairwise summation.
+	 * <p>
+	 * Pairwise summation recursively splits the elements into two halves and adds their sums. Blocks of up to {@code 128} elements are summed directly. The rounding error of the result grows logarithmically with the number of elements.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Doubles.sumPairwise(array, offset, length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return the sum of the elements in {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double sumPairwise(final double[] array, final int offset, final int length) {
+		return Doubles.sumPairwise(array, offset, length);
+	}
+	
+	/**
+	 * Computes {@code arrayY[i] = alpha * arrayX[i] + arrayY[i]} for each index {@code i}.
+	 * <p>
+	 * Returns {@code arrayY}.
+	 * <p>
+	 * If either {@code arrayX} or {@code arrayY} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code arrayX.length} is greater than {@code arrayY.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.axpy(alpha, arrayX, arrayY, 0, arrayX.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param alpha the factor to scale {@code arrayX} by
+	 * @param arrayX a {@code double[]} with the values to scale
+	 * @param arrayY a {@code double[]} with the values to add to and to store the result in
+	 * @return {@code arrayY}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code arrayX.length} is greater than {@code arrayY.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayX} or {@code arrayY} are {@code null}
+	 */
+	public static double[] axpy(final double alpha, final double[] arrayX, final double[] arrayY) {
+		return axpy(alpha, arrayX, arrayY, 0, arrayX.length);
+	}
+	
+	/**
+	 * Computes {@code arrayY[i] = alpha * arrayX[i] + arrayY[i]} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+	 * <p>
+	 * Returns {@code arrayY}.
+	 * <p>
+	 * If either {@code arrayX} or {@code arrayY} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code arrayX.length} or {@code arrayY.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param alpha the factor to scale {@code arrayX} by
+	 * @param arrayX a {@code double[]} with the values to scale
+	 * @param arrayY a {@code double[]} with the values to add to and to store the result in
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return {@code arrayY}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code arrayX.length} or {@code arrayY.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code arrayX} or {@code arrayY} are {@code null}
+	 */
+	public static double[] axpy(final double alpha, final double[] arrayX, final double[] arrayY, final int offset, final int length) {
+		Objects.requireNonNull(arrayX, "arrayX == null");
+		Objects.requireNonNull(arrayY, "arrayY == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, arrayX.length, "offset + length");
+		doRequireRange(offset + length, 0, arrayY.length, "offset + length");
+		
+		for(int i = offset; i < offset + length; i++) {
+			arrayY[i] = alpha * arrayX[i] + arrayY[i];
+		}
+		
+		return arrayY;
+	}
+	
+	/**
+	 * Computes {@code Math.max(Math.min(src[i], maximum), minimum)} for each index {@code i} and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code minimum} is greater than {@code maximum} or either of them is NaN, or {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.clamp(src, minimum, maximum, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values to clamp
+	 * @param minimum the minimum value
+	 * @param maximum the maximum value
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code minimum} is greater than {@code maximum} or either of them is NaN, or {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] clamp(final double[] src, final double minimum, final double maximum, final double[] dst) {
+		return clamp(src, minimum, maximum, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes {@code Math.max(Math.min(src[i], maximum), minimum)} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst[i]}.
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code minimum} is greater than {@code maximum} or either of them is NaN, or either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param src a {@code double[]} with the values to clamp
+	 * @param minimum the minimum value
+	 * @param maximum the maximum value
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code minimum} is greater than {@code maximum} or either of them is NaN, or either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] clamp(final double[] src, final double minimum, final double maximum, final double[] dst, final int offset, final int length) {
+		Objects.requireNonNull(src, "src == null");
+		Objects.requireNonNull(dst, "dst == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, src.length, "offset + length");
+		doRequireRange(offset + length, 0, dst.length, "offset + length");
+		
+		if(!(minimum <= maximum)) {
+			throw new IllegalArgumentException(String.format("minimum > maximum: minimum == %s, maximum == %s", Double.toString(minimum), Double.toString(maximum)));
+		}
+		
+		for(int i = offset; i < offset + length; i++) {
+			dst[i] = Math.max(Math.min(src[i], maximum), minimum);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes the inclusive prefix sum of the elements in {@code src} and stores the result in {@code dst}.
+	 * <p>
+	 * After this method returns, {@code dst[i]} contains the sum of the elements in {@code src} from the first processed index to {@code i} (inclusive).
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code src.length} is greater than {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.prefixSum(src, dst, 0, src.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param src a {@code double[]} with the values to sum
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code src.length} is greater than {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] prefixSum(final double[] src, final double[] dst) {
+		return prefixSum(src, dst, 0, src.length);
+	}
+	
+	/**
+	 * Computes the inclusive prefix sum of the elements in {@code src} from {@code offset} (inclusive) to {@code offset + length} (exclusive) and stores the result in {@code dst}.
+	 * <p>
+	 * After this method returns, {@code dst[i]} contains the sum of the elements in {@code src} from the first processed index to {@code i} (inclusive).
+	 * <p>
+	 * Returns {@code dst}.
+	 * <p>
+	 * If either {@code src} or {@code dst} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param src a {@code double[]} with the values to sum
+	 * @param dst the {@code double[]} to store the result in, which may be the same as {@code src}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return {@code dst}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code src.length} or {@code dst.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code src} or {@code dst} are {@code null}
+	 */
+	public static double[] prefixSum(final double[] src, final double[] dst, final int offset, final int length) {
+		Objects.requireNonNull(src, "src == null");
+		Objects.requireNonNull(dst, "dst == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, src.length, "offset + length");
+		doRequireRange(offset + length, 0, dst.length, "offset + length");
+		
+		double sum = 0.0D;
+		
+		for(int i = offset; i < offset + length; i++) {
+			sum += src[i];
+			
+			dst[i] = sum;
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Computes {@code array[i] = alpha * array[i]} for each index {@code i}.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.scale(alpha, array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param alpha the factor to scale {@code array} by
+	 * @param array a {@code double[]} with the values to scale and to store the result in
+	 * @return {@code array}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double[] scale(final double alpha, final double[] array) {
+		return scale(alpha, array, 0, array.length);
+	}
+	
+	/**
+	 * Computes {@code array[i] = alpha * array[i]} for each index {@code i} from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param alpha the factor to scale {@code array} by
+	 * @param array a {@code double[]} with the values to scale and to store the result in
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static double[] scale(final double alpha, final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, array.length, "offset + length");
+		
+		for(int i = offset; i < offset + length; i++) {
+			array[i] = alpha * array[i];
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns the index of the greatest element in {@code array}.
+	 * <p>
+	 * If more than one element is equal to the greatest element, the index of the first one is returned. Elements that are NaN are ignored.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.argmax(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the index of the greatest element in {@code array}, or {@code -1} if no such element exists
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int argmax(final double[] array) {
+		return argmax(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the index of the greatest element in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+	 * <p>
+	 * If more than one element is equal to the greatest element, the index of the first one is returned. Elements that are NaN are ignored.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return the index of the greatest element in {@code array}, or {@code -1} if no such element exists
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int argmax(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, array.length, "offset + length");
+		
+		int index = -1;
+		
+		double max = Double.NEGATIVE_INFINITY;
+		
+		for(int i = offset; i < offset + length; i++) {
+			final double value = array[i];
+			
+			if(value > max || index == -1 && value == max) {
+				index = i;
+				
+				max = value;
+			}
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * Returns the index of the smallest element in {@code array}.
+	 * <p>
+	 * If more than one element is equal to the smallest element, the index of the first one is returned. Elements that are NaN are ignored.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * DoubleVectors.argmin(array, 0, array.length);
+	 * }
+	 * </pre>
+	 * 
+	 * @param array a {@code double[]}
+	 * @return the index of the smallest element in {@code array}, or {@code -1} if no such element exists
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int argmin(final double[] array) {
+		return argmin(array, 0, array.length);
+	}
+	
+	/**
+	 * Returns the index of the smallest element in {@code array} from {@code offset} (inclusive) to {@code offset + length} (exclusive).
+	 * <p>
+	 * If more than one element is equal to the smallest element, the index of the first one is returned. Elements that are NaN are ignored.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param array a {@code double[]}
+	 * @param offset the offset to start at
+	 * @param length the number of elements to process
+	 * @return the index of the smallest element in {@code array}, or {@code -1} if no such element exists
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code offset} or {@code length} are less than {@code 0} or {@code offset + length} is less than {@code 0} or greater than {@code array.length}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static int argmin(final double[] array, final int offset, final int length) {
+		Objects.requireNonNull(array, "array == null");
+		
+		doRequireRange(offset, 0, Integer.MAX_VALUE, "offset");
+		doRequireRange(length, 0, Integer.MAX_VALUE, "length");
+		doRequireRange(offset + length, 0, array.length, "offset + length");
+		
+		int index = -1;
+		
+		double min = Double.POSITIVE_INFINITY;
+		
+		for(int i = offset; i < offset + length; i++) {
+			final double value = array[i];
+			
+			if(value < min || index == -1 && value == min) {
+				index = i;
+				
+				min = value;
+			}
+		}
+		
+		return index;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doRequireRange(final int value, final int edgeA, final int edgeB, final String name) {
+		Objects.requireNonNull(name, "name == null");
+		
+		final int minimum = Math.min(edgeA, edgeB);
+		final int maximum = Math.max(edgeA, edgeB);
+		
+		if(value < minimum) {
+			throw new IllegalArgumentException(String.format("%s < %d: %s == %d", name, Integer.valueOf(minimum), name, Integer.valueOf(value)));
+		} else if(value > maximum) {
+			throw new IllegalArgumentException(String.format("%s > %d: %s == %d", name, Integer.valueOf(maximum), name, Integer.valueOf(value)));
+		} else {
+			return value;
+		}
+	}
+}
\ No newline at end of file
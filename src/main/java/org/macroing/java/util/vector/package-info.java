@@ -0,0 +1,21 @@
+/**
+ * Provides the Macroing Java Util Vector API.
+ * <p>
+ * The Macroing Java Util Vector API contains numeric kernels, such as reductions and BLAS-style operations, that operate on primitive arrays.
+ * <p>
+ * <strong>Overview</strong>
+ * <p>
+ * The following list contains information about the classes in this API.
+ * <ul>
+ * <li>{@link org.macroing.java.util.vector.DoubleVectors DoubleVectors} contains numeric kernels that operate on {@code double[]} instances.</li>
+ * <li>{@link org.macroing.java.util.vector.FloatVectors FloatVectors} contains numeric kernels that operate on {@code float[]} instances.</li>
+ * </ul>
+ * <p>
+ * <strong>Dependencies</strong>
+ * <p>
+ * The following list shows all dependencies for this API.
+ * <ul>
+ * <li>The Macroing Java Lang API</li>
+ * </ul>
+ */
+package org.macroing.java.util.vector;
\ No newline at end of file
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class BooleanArrayBuilderUnitTests {
+	public BooleanArrayBuilderUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAppendBoolean() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		assertSame(booleanArrayBuilder, booleanArrayBuilder.append(true));
+		assertSame(booleanArrayBuilder, booleanArrayBuilder.append(false));
+		assertSame(booleanArrayBuilder, booleanArrayBuilder.append(true));
+		
+		assertArrayEquals(new boolean[] {true, false, true}, booleanArrayBuilder.toBooleanArray());
+	}
+	
+	@Test
+	public void testAppendBooleanArray() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		assertSame(booleanArrayBuilder, booleanArrayBuilder.append(new boolean[] {true, false, true}));
+		
+		assertArrayEquals(new boolean[] {true, false, true}, booleanArrayBuilder.toBooleanArray());
+		
+		assertThrows(NullPointerException.class, () -> booleanArrayBuilder.append((boolean[])(null)));
+	}
+	
+	@Test
+	public void testAppendBooleanArrayIntInt() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		assertSame(booleanArrayBuilder, booleanArrayBuilder.append(new boolean[] {false, true, false, true}, 1, 3));
+		
+		assertArrayEquals(new boolean[] {true, false, true}, booleanArrayBuilder.toBooleanArray());
+		
+		assertThrows(NullPointerException.class, () -> booleanArrayBuilder.append((boolean[])(null), 0, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> booleanArrayBuilder.append(new boolean[] {}, -1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> booleanArrayBuilder.append(new boolean[] {}, +1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> booleanArrayBuilder.append(new boolean[] {}, +0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> booleanArrayBuilder.append(new boolean[] {}, +0, +1));
+	}
+	
+	@Test
+	public void testArray() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(4);
+		
+		booleanArrayBuilder.append(new boolean[] {true, false, true});
+		
+		final boolean[] array = booleanArrayBuilder.array();
+		
+		assertEquals(4, array.length);
+		
+		assertSame(array, booleanArrayBuilder.array());
+		
+		array[0] = false;
+		
+		assertArrayEquals(new boolean[] {false, false, true}, booleanArrayBuilder.toBooleanArray());
+	}
+	
+	@Test
+	public void testAvailable() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		assertEquals(0, booleanArrayBuilder.available());
+		
+		booleanArrayBuilder.append(true);
+		
+		assertEquals(0, booleanArrayBuilder.available());
+		
+		booleanArrayBuilder.append(false);
+		
+		assertEquals(0, booleanArrayBuilder.available());
+		
+		booleanArrayBuilder.append(true);
+		
+		assertEquals(1, booleanArrayBuilder.available());
+	}
+	
+	@Test
+	public void testCapacity() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		assertEquals(0, booleanArrayBuilder.capacity());
+		
+		booleanArrayBuilder.append(true);
+		
+		assertEquals(1, booleanArrayBuilder.capacity());
+		
+		booleanArrayBuilder.append(false);
+		
+		assertEquals(2, booleanArrayBuilder.capacity());
+		
+		booleanArrayBuilder.append(true);
+		
+		assertEquals(4, booleanArrayBuilder.capacity());
+		
+		booleanArrayBuilder.append(false);
+		
+		assertEquals(4, booleanArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder();
+		
+		assertEquals(32, booleanArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(10);
+		
+		assertEquals(10, booleanArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> new BooleanArrayBuilder(-1));
+	}
+	
+	@Test
+	public void testEnsureCapacity() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		booleanArrayBuilder.ensureCapacity(0);
+		
+		assertEquals(0, booleanArrayBuilder.capacity());
+		
+		booleanArrayBuilder.ensureCapacity(10);
+		
+		assertEquals(10, booleanArrayBuilder.capacity());
+		
+		booleanArrayBuilder.ensureCapacity(5);
+		
+		assertEquals(10, booleanArrayBuilder.capacity());
+		
+		booleanArrayBuilder.ensureCapacity(11);
+		
+		assertEquals(20, booleanArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> booleanArrayBuilder.ensureCapacity(-1));
+	}
+	
+	@Test
+	public void testOutOfMemoryError() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		assertThrows(OutOfMemoryError.class, () -> booleanArrayBuilder.ensureCapacity(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testReset() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		booleanArrayBuilder.append(new boolean[] {true, false, true});
+		
+		assertEquals(3, booleanArrayBuilder.size());
+		
+		booleanArrayBuilder.reset();
+		
+		assertEquals(0, booleanArrayBuilder.size());
+		assertEquals(3, booleanArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testSize() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		assertEquals(0, booleanArrayBuilder.size());
+		
+		booleanArrayBuilder.append(true);
+		
+		assertEquals(1, booleanArrayBuilder.size());
+		
+		booleanArrayBuilder.append(false);
+		
+		assertEquals(2, booleanArrayBuilder.size());
+		
+		booleanArrayBuilder.append(true);
+		
+		assertEquals(3, booleanArrayBuilder.size());
+	}
+	
+	@Test
+	public void testToBooleanArray() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(0);
+		
+		booleanArrayBuilder.append(new boolean[] {true, false, true});
+		
+		assertArrayEquals(new boolean[] {true, false, true}, booleanArrayBuilder.toBooleanArray());
+	}
+	
+	@Test
+	public void testTrimToSize() {
+		final BooleanArrayBuilder booleanArrayBuilder = new BooleanArrayBuilder(10);
+		
+		booleanArrayBuilder.append(new boolean[] {true, false, true});
+		booleanArrayBuilder.trimToSize();
+		
+		assertEquals(3, booleanArrayBuilder.capacity());
+		
+		assertArrayEquals(new boolean[] {true, false, true}, booleanArrayBuilder.array());
+		
+		booleanArrayBuilder.trimToSize();
+		
+		assertEquals(3, booleanArrayBuilder.capacity());
+	}
+}
\ No newline at end of file
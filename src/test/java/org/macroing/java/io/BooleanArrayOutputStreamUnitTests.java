@@ -22,6 +22,10 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("static-method")
@@ -240,6 +244,55 @@ public final class BooleanArrayOutputStreamUnitTests {
 		}
 	}
 	
+	@Test
+	public void testWriteByteArray() {
+		try(final BooleanArrayOutputStream booleanArrayOutputStream = new BooleanArrayOutputStream(0)) {
+			booleanArrayOutputStream.write(new byte[] {1, 0, 2});
+			
+			assertArrayEquals(new boolean[] {true, false, true}, booleanArrayOutputStream.toBooleanArray());
+			
+			assertThrows(NullPointerException.class, () -> booleanArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final BooleanArrayOutputStream booleanArrayOutputStream = new BooleanArrayOutputStream(0)) {
+			final byte[] bytes = new byte[] {1, 0, 2};
+			
+			booleanArrayOutputStream.write(bytes, 0, 1);
+			booleanArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			booleanArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new boolean[] {true, false, true}, booleanArrayOutputStream.toBooleanArray());
+			
+			assertThrows(NullPointerException.class, () -> booleanArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> booleanArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> booleanArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> booleanArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> booleanArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final BooleanArrayOutputStream booleanArrayOutputStream = new BooleanArrayOutputStream(0)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(booleanArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeBoolean(i % 3 == 0);
+				}
+			}
+			
+			final boolean[] expected = new boolean[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i % 3 == 0;
+			}
+			
+			assertArrayEquals(expected, booleanArrayOutputStream.toBooleanArray());
+		}
+	}
+	
 	@Test
 	public void testWriteInt() {
 		try(final BooleanArrayOutputStream booleanArrayOutputStream = new BooleanArrayOutputStream(0)) {
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class CharArrayBuilderUnitTests {
+	public CharArrayBuilderUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAppendChar() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		assertSame(charArrayBuilder, charArrayBuilder.append('a'));
+		assertSame(charArrayBuilder, charArrayBuilder.append('b'));
+		assertSame(charArrayBuilder, charArrayBuilder.append('c'));
+		
+		assertArrayEquals(new char[] {'a', 'b', 'c'}, charArrayBuilder.toCharArray());
+	}
+	
+	@Test
+	public void testAppendCharArray() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		assertSame(charArrayBuilder, charArrayBuilder.append(new char[] {'a', 'b', 'c'}));
+		
+		assertArrayEquals(new char[] {'a', 'b', 'c'}, charArrayBuilder.toCharArray());
+		
+		assertThrows(NullPointerException.class, () -> charArrayBuilder.append((char[])(null)));
+	}
+	
+	@Test
+	public void testAppendCharArrayIntInt() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		assertSame(charArrayBuilder, charArrayBuilder.append(new char[] {'d', 'a', 'b', 'c'}, 1, 3));
+		
+		assertArrayEquals(new char[] {'a', 'b', 'c'}, charArrayBuilder.toCharArray());
+		
+		assertThrows(NullPointerException.class, () -> charArrayBuilder.append((char[])(null), 0, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> charArrayBuilder.append(new char[] {}, -1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> charArrayBuilder.append(new char[] {}, +1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> charArrayBuilder.append(new char[] {}, +0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> charArrayBuilder.append(new char[] {}, +0, +1));
+	}
+	
+	@Test
+	public void testArray() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(4);
+		
+		charArrayBuilder.append(new char[] {'a', 'b', 'c'});
+		
+		final char[] array = charArrayBuilder.array();
+		
+		assertEquals(4, array.length);
+		
+		assertSame(array, charArrayBuilder.array());
+		
+		array[0] = 'd';
+		
+		assertArrayEquals(new char[] {'d', 'b', 'c'}, charArrayBuilder.toCharArray());
+	}
+	
+	@Test
+	public void testAvailable() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		assertEquals(0, charArrayBuilder.available());
+		
+		charArrayBuilder.append('a');
+		
+		assertEquals(0, charArrayBuilder.available());
+		
+		charArrayBuilder.append('b');
+		
+		assertEquals(0, charArrayBuilder.available());
+		
+		charArrayBuilder.append('c');
+		
+		assertEquals(1, charArrayBuilder.available());
+	}
+	
+	@Test
+	public void testCapacity() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		assertEquals(0, charArrayBuilder.capacity());
+		
+		charArrayBuilder.append('a');
+		
+		assertEquals(1, charArrayBuilder.capacity());
+		
+		charArrayBuilder.append('b');
+		
+		assertEquals(2, charArrayBuilder.capacity());
+		
+		charArrayBuilder.append('c');
+		
+		assertEquals(4, charArrayBuilder.capacity());
+		
+		charArrayBuilder.append('d');
+		
+		assertEquals(4, charArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder();
+		
+		assertEquals(32, charArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(10);
+		
+		assertEquals(10, charArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> new CharArrayBuilder(-1));
+	}
+	
+	@Test
+	public void testEnsureCapacity() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		charArrayBuilder.ensureCapacity(0);
+		
+		assertEquals(0, charArrayBuilder.capacity());
+		
+		charArrayBuilder.ensureCapacity(10);
+		
+		assertEquals(10, charArrayBuilder.capacity());
+		
+		charArrayBuilder.ensureCapacity(5);
+		
+		assertEquals(10, charArrayBuilder.capacity());
+		
+		charArrayBuilder.ensureCapacity(11);
+		
+		assertEquals(20, charArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> charArrayBuilder.ensureCapacity(-1));
+	}
+	
+	@Test
+	public void testOutOfMemoryError() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		assertThrows(OutOfMemoryError.class, () -> charArrayBuilder.ensureCapacity(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testReset() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		charArrayBuilder.append(new char[] {'a', 'b', 'c'});
+		
+		assertEquals(3, charArrayBuilder.size());
+		
+		charArrayBuilder.reset();
+		
+		assertEquals(0, charArrayBuilder.size());
+		assertEquals(3, charArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testSize() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		assertEquals(0, charArrayBuilder.size());
+		
+		charArrayBuilder.append('a');
+		
+		assertEquals(1, charArrayBuilder.size());
+		
+		charArrayBuilder.append('b');
+		
+		assertEquals(2, charArrayBuilder.size());
+		
+		charArrayBuilder.append('c');
+		
+		assertEquals(3, charArrayBuilder.size());
+	}
+	
+	@Test
+	public void testToCharArray() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(0);
+		
+		charArrayBuilder.append(new char[] {'a', 'b', 'c'});
+		
+		assertArrayEquals(new char[] {'a', 'b', 'c'}, charArrayBuilder.toCharArray());
+	}
+	
+	@Test
+	public void testTrimToSize() {
+		final CharArrayBuilder charArrayBuilder = new CharArrayBuilder(10);
+		
+		charArrayBuilder.append(new char[] {'a', 'b', 'c'});
+		charArrayBuilder.trimToSize();
+		
+		assertEquals(3, charArrayBuilder.capacity());
+		
+		assertArrayEquals(new char[] {'a', 'b', 'c'}, charArrayBuilder.array());
+		
+		charArrayBuilder.trimToSize();
+		
+		assertEquals(3, charArrayBuilder.capacity());
+	}
+}
\ No newline at end of file
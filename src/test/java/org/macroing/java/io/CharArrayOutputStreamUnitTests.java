@@ -21,6 +21,21 @@ package org.macroing.java.io;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +47,27 @@ public final class CharArrayOutputStreamUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testAsReadOnlyBuffer() {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(4)) {
+			charArrayOutputStream.write(new char[] {'a', 'b', 'c'});
+			
+			final CharBuffer charBuffer = charArrayOutputStream.asReadOnlyBuffer();
+			
+			assertTrue(charBuffer.isReadOnly());
+			
+			assertEquals(0, charBuffer.position());
+			assertEquals(3, charBuffer.limit());
+			assertEquals(3, charBuffer.capacity());
+			
+			assertEquals('a', charBuffer.get(0));
+			assertEquals('b', charBuffer.get(1));
+			assertEquals('c', charBuffer.get(2));
+			
+			assertThrows(ReadOnlyBufferException.class, () -> charBuffer.put(0, 'a'));
+		}
+	}
+	
 	@Test
 	public void testAvailable() {
 		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
@@ -202,6 +238,55 @@ public final class CharArrayOutputStreamUnitTests {
 		}
 	}
 	
+	@Test
+	public void testWriteByteArray() {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
+			charArrayOutputStream.write(ByteBuffer.allocate(3 * 2).putChar('a').putChar('b').putChar('c').array());
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c'}, charArrayOutputStream.toCharArray());
+			
+			assertThrows(NullPointerException.class, () -> charArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 2).putChar('a').putChar('b').putChar('c').array();
+			
+			charArrayOutputStream.write(bytes, 0, 1);
+			charArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			charArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c'}, charArrayOutputStream.toCharArray());
+			
+			assertThrows(NullPointerException.class, () -> charArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> charArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> charArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> charArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> charArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(charArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeChar((char)('a' + i));
+				}
+			}
+			
+			final char[] expected = new char[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = (char)('a' + i);
+			}
+			
+			assertArrayEquals(expected, charArrayOutputStream.toCharArray());
+		}
+	}
+	
 	@Test
 	public void testWriteChar() {
 		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
@@ -242,11 +327,103 @@ public final class CharArrayOutputStreamUnitTests {
 	@Test
 	public void testWriteInt() {
 		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
-			charArrayOutputStream.write(0);
-			charArrayOutputStream.write(1);
-			charArrayOutputStream.write(2);
+			final byte[] bytes = ByteBuffer.allocate(3 * 2).putChar('a').putChar('b').putChar('c').array();
+			
+			for(int i = 0; i < 2 - 1; i++) {
+				charArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0, charArrayOutputStream.size());
+			
+			for(int i = 2 - 1; i < bytes.length; i++) {
+				charArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c'}, charArrayOutputStream.toCharArray());
 			
-			assertArrayEquals(new char[] {0, 1, 2}, charArrayOutputStream.toCharArray());
+			charArrayOutputStream.write(bytes[0] & 0xFF);
+			charArrayOutputStream.reset();
+			
+			for(int i = 0; i < 2; i++) {
+				charArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new char[] {'a'}, charArrayOutputStream.toCharArray());
+		}
+	}
+	
+	@Test
+	public void testWriteToByteBuffer() {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
+			charArrayOutputStream.write(new char[] {'a', 'b', 'c'});
+			
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(1 + 3 * 2).order(ByteOrder.LITTLE_ENDIAN);
+			byteBuffer.put((byte)(0));
+			
+			charArrayOutputStream.writeTo(byteBuffer);
+			
+			assertEquals(1 + 3 * 2, byteBuffer.position());
+			
+			assertEquals('a', byteBuffer.getChar(1 + 0 * 2));
+			assertEquals('b', byteBuffer.getChar(1 + 1 * 2));
+			assertEquals('c', byteBuffer.getChar(1 + 2 * 2));
+			
+			assertThrows(BufferOverflowException.class, () -> charArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 2 - 1)));
+			assertThrows(NullPointerException.class, () -> charArrayOutputStream.writeTo((ByteBuffer)(null)));
+			assertThrows(ReadOnlyBufferException.class, () -> charArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 2).asReadOnlyBuffer()));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
+			charArrayOutputStream.write(new char[] {'a', 'b', 'c'});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			charArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(3 * 2).order(ByteOrder.BIG_ENDIAN).putChar('a').putChar('b').putChar('c').array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> charArrayOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(100000 * 2).order(ByteOrder.LITTLE_ENDIAN);
+			
+			for(int i = 0; i < 100000; i++) {
+				final char value = (char)(i);
+				
+				charArrayOutputStream.write(value);
+				
+				byteBuffer.putChar(value);
+			}
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			charArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), ByteOrder.LITTLE_ENDIAN);
+			
+			assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> charArrayOutputStream.writeTo(null, ByteOrder.LITTLE_ENDIAN));
+			assertThrows(NullPointerException.class, () -> charArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final CharArrayOutputStream charArrayOutputStream = new CharArrayOutputStream(0)) {
+			charArrayOutputStream.write(new char[] {'a', 'b', 'c'});
+			
+			assertThrows(UncheckedIOException.class, () -> charArrayOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
 		}
 	}
 }
\ No newline at end of file
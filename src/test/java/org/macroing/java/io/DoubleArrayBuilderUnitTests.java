@@ -0,0 +1,235 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class DoubleArrayBuilderUnitTests {
+	public DoubleArrayBuilderUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAppendDouble() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		assertSame(doubleArrayBuilder, doubleArrayBuilder.append(1.0D));
+		assertSame(doubleArrayBuilder, doubleArrayBuilder.append(2.0D));
+		assertSame(doubleArrayBuilder, doubleArrayBuilder.append(3.0D));
+		
+		assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleArrayBuilder.toDoubleArray());
+	}
+	
+	@Test
+	public void testAppendDoubleArray() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		assertSame(doubleArrayBuilder, doubleArrayBuilder.append(new double[] {1.0D, 2.0D, 3.0D}));
+		
+		assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleArrayBuilder.toDoubleArray());
+		
+		assertThrows(NullPointerException.class, () -> doubleArrayBuilder.append((double[])(null)));
+	}
+	
+	@Test
+	public void testAppendDoubleArrayIntInt() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		assertSame(doubleArrayBuilder, doubleArrayBuilder.append(new double[] {4.0D, 1.0D, 2.0D, 3.0D}, 1, 3));
+		
+		assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleArrayBuilder.toDoubleArray());
+		
+		assertThrows(NullPointerException.class, () -> doubleArrayBuilder.append((double[])(null), 0, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> doubleArrayBuilder.append(new double[] {}, -1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> doubleArrayBuilder.append(new double[] {}, +1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> doubleArrayBuilder.append(new double[] {}, +0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> doubleArrayBuilder.append(new double[] {}, +0, +1));
+	}
+	
+	@Test
+	public void testArray() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(4);
+		
+		doubleArrayBuilder.append(new double[] {1.0D, 2.0D, 3.0D});
+		
+		final double[] array = doubleArrayBuilder.array();
+		
+		assertEquals(4, array.length);
+		
+		assertSame(array, doubleArrayBuilder.array());
+		
+		array[0] = 4.0D;
+		
+		assertArrayEquals(new double[] {4.0D, 2.0D, 3.0D}, doubleArrayBuilder.toDoubleArray());
+	}
+	
+	@Test
+	public void testAvailable() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		assertEquals(0, doubleArrayBuilder.available());
+		
+		doubleArrayBuilder.append(1.0D);
+		
+		assertEquals(0, doubleArrayBuilder.available());
+		
+		doubleArrayBuilder.append(2.0D);
+		
+		assertEquals(0, doubleArrayBuilder.available());
+		
+		doubleArrayBuilder.append(3.0D);
+		
+		assertEquals(1, doubleArrayBuilder.available());
+	}
+	
+	@Test
+	public void testCapacity() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		assertEquals(0, doubleArrayBuilder.capacity());
+		
+		doubleArrayBuilder.append(1.0D);
+		
+		assertEquals(1, doubleArrayBuilder.capacity());
+		
+		doubleArrayBuilder.append(2.0D);
+		
+		assertEquals(2, doubleArrayBuilder.capacity());
+		
+		doubleArrayBuilder.append(3.0D);
+		
+		assertEquals(4, doubleArrayBuilder.capacity());
+		
+		doubleArrayBuilder.append(4.0D);
+		
+		assertEquals(4, doubleArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder();
+		
+		assertEquals(32, doubleArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(10);
+		
+		assertEquals(10, doubleArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> new DoubleArrayBuilder(-1));
+	}
+	
+	@Test
+	public void testEnsureCapacity() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		doubleArrayBuilder.ensureCapacity(0);
+		
+		assertEquals(0, doubleArrayBuilder.capacity());
+		
+		doubleArrayBuilder.ensureCapacity(10);
+		
+		assertEquals(10, doubleArrayBuilder.capacity());
+		
+		doubleArrayBuilder.ensureCapacity(5);
+		
+		assertEquals(10, doubleArrayBuilder.capacity());
+		
+		doubleArrayBuilder.ensureCapacity(11);
+		
+		assertEquals(20, doubleArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> doubleArrayBuilder.ensureCapacity(-1));
+	}
+	
+	@Test
+	public void testOutOfMemoryError() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		assertThrows(OutOfMemoryError.class, () -> doubleArrayBuilder.ensureCapacity(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testReset() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		doubleArrayBuilder.append(new double[] {1.0D, 2.0D, 3.0D});
+		
+		assertEquals(3, doubleArrayBuilder.size());
+		
+		doubleArrayBuilder.reset();
+		
+		assertEquals(0, doubleArrayBuilder.size());
+		assertEquals(3, doubleArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testSize() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		assertEquals(0, doubleArrayBuilder.size());
+		
+		doubleArrayBuilder.append(1.0D);
+		
+		assertEquals(1, doubleArrayBuilder.size());
+		
+		doubleArrayBuilder.append(2.0D);
+		
+		assertEquals(2, doubleArrayBuilder.size());
+		
+		doubleArrayBuilder.append(3.0D);
+		
+		assertEquals(3, doubleArrayBuilder.size());
+	}
+	
+	@Test
+	public void testToDoubleArray() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(0);
+		
+		doubleArrayBuilder.append(new double[] {1.0D, 2.0D, 3.0D});
+		
+		assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleArrayBuilder.toDoubleArray());
+	}
+	
+	@Test
+	public void testTrimToSize() {
+		final DoubleArrayBuilder doubleArrayBuilder = new DoubleArrayBuilder(10);
+		
+		doubleArrayBuilder.append(new double[] {1.0D, 2.0D, 3.0D});
+		doubleArrayBuilder.trimToSize();
+		
+		assertEquals(3, doubleArrayBuilder.capacity());
+		
+		assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleArrayBuilder.array());
+		
+		doubleArrayBuilder.trimToSize();
+		
+		assertEquals(3, doubleArrayBuilder.capacity());
+	}
+}
\ No newline at end of file
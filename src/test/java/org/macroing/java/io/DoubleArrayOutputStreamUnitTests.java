@@ -21,6 +21,21 @@ package org.macroing.java.io;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +47,27 @@ public final class DoubleArrayOutputStreamUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testAsReadOnlyBuffer() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(4)) {
+			doubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D});
+			
+			final DoubleBuffer doubleBuffer = doubleArrayOutputStream.asReadOnlyBuffer();
+			
+			assertTrue(doubleBuffer.isReadOnly());
+			
+			assertEquals(0, doubleBuffer.position());
+			assertEquals(3, doubleBuffer.limit());
+			assertEquals(3, doubleBuffer.capacity());
+			
+			assertEquals(1.0D, doubleBuffer.get(0));
+			assertEquals(2.0D, doubleBuffer.get(1));
+			assertEquals(3.0D, doubleBuffer.get(2));
+			
+			assertThrows(ReadOnlyBufferException.class, () -> doubleBuffer.put(0, 1.0D));
+		}
+	}
+	
 	@Test
 	public void testAvailable() {
 		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
@@ -197,6 +233,55 @@ public final class DoubleArrayOutputStreamUnitTests {
 		}
 	}
 	
+	@Test
+	public void testWriteByteArray() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
+			doubleArrayOutputStream.write(ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array());
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleArrayOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array();
+			
+			doubleArrayOutputStream.write(bytes, 0, 1);
+			doubleArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			doubleArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleArrayOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(doubleArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeDouble(i * 0.5D);
+				}
+			}
+			
+			final double[] expected = new double[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 0.5D;
+			}
+			
+			assertArrayEquals(expected, doubleArrayOutputStream.toDoubleArray());
+		}
+	}
+	
 	@Test
 	public void testWriteDouble() {
 		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
@@ -237,11 +322,103 @@ public final class DoubleArrayOutputStreamUnitTests {
 	@Test
 	public void testWriteInt() {
 		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
-			doubleArrayOutputStream.write(0);
-			doubleArrayOutputStream.write(1);
-			doubleArrayOutputStream.write(2);
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array();
+			
+			for(int i = 0; i < 8 - 1; i++) {
+				doubleArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0, doubleArrayOutputStream.size());
+			
+			for(int i = 8 - 1; i < bytes.length; i++) {
+				doubleArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleArrayOutputStream.toDoubleArray());
+			
+			doubleArrayOutputStream.write(bytes[0] & 0xFF);
+			doubleArrayOutputStream.reset();
+			
+			for(int i = 0; i < 8; i++) {
+				doubleArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new double[] {1.0D}, doubleArrayOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testWriteToByteBuffer() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
+			doubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D});
+			
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(1 + 3 * 8).order(ByteOrder.LITTLE_ENDIAN);
+			byteBuffer.put((byte)(0));
+			
+			doubleArrayOutputStream.writeTo(byteBuffer);
+			
+			assertEquals(1 + 3 * 8, byteBuffer.position());
+			
+			assertEquals(1.0D, byteBuffer.getDouble(1 + 0 * 8));
+			assertEquals(2.0D, byteBuffer.getDouble(1 + 1 * 8));
+			assertEquals(3.0D, byteBuffer.getDouble(1 + 2 * 8));
+			
+			assertThrows(BufferOverflowException.class, () -> doubleArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 8 - 1)));
+			assertThrows(NullPointerException.class, () -> doubleArrayOutputStream.writeTo((ByteBuffer)(null)));
+			assertThrows(ReadOnlyBufferException.class, () -> doubleArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 8).asReadOnlyBuffer()));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
+			doubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			doubleArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(3 * 8).order(ByteOrder.BIG_ENDIAN).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleArrayOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(100000 * 8).order(ByteOrder.LITTLE_ENDIAN);
+			
+			for(int i = 0; i < 100000; i++) {
+				final double value = (double)(i);
+				
+				doubleArrayOutputStream.write(value);
+				
+				byteBuffer.putDouble(value);
+			}
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			doubleArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), ByteOrder.LITTLE_ENDIAN);
+			
+			assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleArrayOutputStream.writeTo(null, ByteOrder.LITTLE_ENDIAN));
+			assertThrows(NullPointerException.class, () -> doubleArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final DoubleArrayOutputStream doubleArrayOutputStream = new DoubleArrayOutputStream(0)) {
+			doubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D});
 			
-			assertArrayEquals(new double[] {0, 1, 2}, doubleArrayOutputStream.toDoubleArray());
+			assertThrows(UncheckedIOException.class, () -> doubleArrayOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
 		}
 	}
 }
\ No newline at end of file
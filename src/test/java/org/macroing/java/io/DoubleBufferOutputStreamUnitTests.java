@@ -0,0 +1,377 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class DoubleBufferOutputStreamUnitTests {
+	public DoubleBufferOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			assertEquals(2L, doubleBufferOutputStream.available());
+			
+			doubleBufferOutputStream.write(1.0D);
+			
+			assertEquals(1L, doubleBufferOutputStream.available());
+			
+			doubleBufferOutputStream.write(2.0D);
+			
+			assertEquals(0L, doubleBufferOutputStream.available());
+			
+			doubleBufferOutputStream.write(3.0D);
+			
+			assertEquals(1L, doubleBufferOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			assertEquals(2L, doubleBufferOutputStream.capacity());
+			
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			assertEquals(6L, doubleBufferOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testChunkCapacity() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(3)) {
+			assertEquals(3, doubleBufferOutputStream.chunkCapacity());
+		}
+	}
+	
+	@Test
+	public void testClose() {
+		final File file = doCreateTempFile();
+		
+		try {
+			final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(file, 2);
+			
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D});
+			doubleBufferOutputStream.close();
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D}, doubleBufferOutputStream.toDoubleArray());
+			
+			assertThrows(UncheckedIOException.class, () -> doubleBufferOutputStream.write(3.0D));
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream()) {
+			assertEquals(1048576, doubleBufferOutputStream.chunkCapacity());
+			assertEquals(1048576L, doubleBufferOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorFileInt() {
+		final File file = doCreateTempFile();
+		
+		try {
+			try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(file, 2)) {
+				doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+				
+				assertEquals(6L, doubleBufferOutputStream.capacity());
+				assertEquals(5L, doubleBufferOutputStream.size());
+				
+				assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, doubleBufferOutputStream.toDoubleArray());
+			}
+			
+			assertEquals(6L * 8L, file.length());
+			
+			assertThrows(NullPointerException.class, () -> new DoubleBufferOutputStream(null, 2));
+			assertThrows(IllegalArgumentException.class, () -> new DoubleBufferOutputStream(file, 0));
+			assertThrows(UncheckedIOException.class, () -> new DoubleBufferOutputStream(new File(file, "child"), 2));
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(10)) {
+			assertEquals(10, doubleBufferOutputStream.chunkCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new DoubleBufferOutputStream(0));
+		assertThrows(IllegalArgumentException.class, () -> new DoubleBufferOutputStream(Integer.MAX_VALUE / 8 + 1));
+	}
+	
+	@Test
+	public void testGet() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			assertEquals(1.0D, doubleBufferOutputStream.get(0L));
+			assertEquals(2.0D, doubleBufferOutputStream.get(1L));
+			assertEquals(3.0D, doubleBufferOutputStream.get(2L));
+			assertEquals(4.0D, doubleBufferOutputStream.get(3L));
+			assertEquals(5.0D, doubleBufferOutputStream.get(4L));
+			
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.get(-1L));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.get(5L));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			doubleBufferOutputStream.reset();
+			
+			assertEquals(0L, doubleBufferOutputStream.size());
+			assertEquals(6L, doubleBufferOutputStream.capacity());
+			
+			doubleBufferOutputStream.write(5.0D);
+			
+			assertArrayEquals(new double[] {5.0D}, doubleBufferOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			assertEquals(0L, doubleBufferOutputStream.size());
+			
+			doubleBufferOutputStream.write(1.0D);
+			
+			assertEquals(1L, doubleBufferOutputStream.size());
+			
+			doubleBufferOutputStream.write(new double[] {2.0D, 3.0D});
+			
+			assertEquals(3L, doubleBufferOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToDoubleArray() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			assertArrayEquals(new double[0], doubleBufferOutputStream.toDoubleArray());
+			
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, doubleBufferOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			doubleBufferOutputStream.write(ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array());
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleBufferOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleBufferOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array();
+			
+			doubleBufferOutputStream.write(bytes, 0, 1);
+			doubleBufferOutputStream.write(bytes, 1, bytes.length - 2);
+			doubleBufferOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleBufferOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleBufferOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(doubleBufferOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeDouble(i * 0.5D);
+				}
+			}
+			
+			final double[] expected = new double[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 0.5D;
+			}
+			
+			assertArrayEquals(expected, doubleBufferOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testWriteDouble() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			doubleBufferOutputStream.write(1.0D);
+			doubleBufferOutputStream.write(2.0D);
+			doubleBufferOutputStream.write(3.0D);
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleBufferOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testWriteDoubleArray() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, doubleBufferOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleBufferOutputStream.write((double[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteDoubleArrayIntInt() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, 1, 3);
+			
+			assertArrayEquals(new double[] {2.0D, 3.0D, 4.0D}, doubleBufferOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleBufferOutputStream.write((double[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.write(new double[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.write(new double[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.write(new double[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> doubleBufferOutputStream.write(new double[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array();
+			
+			for(int i = 0; i < 8 - 1; i++) {
+				doubleBufferOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, doubleBufferOutputStream.size());
+			
+			for(int i = 8 - 1; i < bytes.length; i++) {
+				doubleBufferOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, doubleBufferOutputStream.toDoubleArray());
+			
+			doubleBufferOutputStream.write(bytes[0] & 0xFF);
+			doubleBufferOutputStream.reset();
+			
+			for(int i = 0; i < 8; i++) {
+				doubleBufferOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new double[] {1.0D}, doubleBufferOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			doubleBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(5 * 8).order(ByteOrder.BIG_ENDIAN).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).putDouble(4.0D).putDouble(5.0D).array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> doubleBufferOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		for(final ByteOrder byteOrder : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(20000)) {
+				final ByteBuffer byteBuffer = ByteBuffer.allocate(50000 * 8).order(byteOrder);
+				
+				for(int i = 0; i < 50000; i++) {
+					doubleBufferOutputStream.write((double)(i));
+					
+					byteBuffer.putDouble((double)(i));
+				}
+				
+				final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+				
+				doubleBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), byteOrder);
+				
+				assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+				
+				assertThrows(NullPointerException.class, () -> doubleBufferOutputStream.writeTo(null, byteOrder));
+				assertThrows(NullPointerException.class, () -> doubleBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+			}
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final DoubleBufferOutputStream doubleBufferOutputStream = new DoubleBufferOutputStream(2)) {
+			doubleBufferOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			assertThrows(UncheckedIOException.class, () -> doubleBufferOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static File doCreateTempFile() {
+		try {
+			return File.createTempFile("DoubleBufferOutputStreamUnitTests", ".bin");
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
\ No newline at end of file
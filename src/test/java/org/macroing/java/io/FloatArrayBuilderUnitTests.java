@@ -0,0 +1,235 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class FloatArrayBuilderUnitTests {
+	public FloatArrayBuilderUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAppendFloat() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		assertSame(floatArrayBuilder, floatArrayBuilder.append(1.0F));
+		assertSame(floatArrayBuilder, floatArrayBuilder.append(2.0F));
+		assertSame(floatArrayBuilder, floatArrayBuilder.append(3.0F));
+		
+		assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatArrayBuilder.toFloatArray());
+	}
+	
+	@Test
+	public void testAppendFloatArray() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		assertSame(floatArrayBuilder, floatArrayBuilder.append(new float[] {1.0F, 2.0F, 3.0F}));
+		
+		assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatArrayBuilder.toFloatArray());
+		
+		assertThrows(NullPointerException.class, () -> floatArrayBuilder.append((float[])(null)));
+	}
+	
+	@Test
+	public void testAppendFloatArrayIntInt() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		assertSame(floatArrayBuilder, floatArrayBuilder.append(new float[] {4.0F, 1.0F, 2.0F, 3.0F}, 1, 3));
+		
+		assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatArrayBuilder.toFloatArray());
+		
+		assertThrows(NullPointerException.class, () -> floatArrayBuilder.append((float[])(null), 0, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> floatArrayBuilder.append(new float[] {}, -1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> floatArrayBuilder.append(new float[] {}, +1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> floatArrayBuilder.append(new float[] {}, +0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> floatArrayBuilder.append(new float[] {}, +0, +1));
+	}
+	
+	@Test
+	public void testArray() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(4);
+		
+		floatArrayBuilder.append(new float[] {1.0F, 2.0F, 3.0F});
+		
+		final float[] array = floatArrayBuilder.array();
+		
+		assertEquals(4, array.length);
+		
+		assertSame(array, floatArrayBuilder.array());
+		
+		array[0] = 4.0F;
+		
+		assertArrayEquals(new float[] {4.0F, 2.0F, 3.0F}, floatArrayBuilder.toFloatArray());
+	}
+	
+	@Test
+	public void testAvailable() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		assertEquals(0, floatArrayBuilder.available());
+		
+		floatArrayBuilder.append(1.0F);
+		
+		assertEquals(0, floatArrayBuilder.available());
+		
+		floatArrayBuilder.append(2.0F);
+		
+		assertEquals(0, floatArrayBuilder.available());
+		
+		floatArrayBuilder.append(3.0F);
+		
+		assertEquals(1, floatArrayBuilder.available());
+	}
+	
+	@Test
+	public void testCapacity() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		assertEquals(0, floatArrayBuilder.capacity());
+		
+		floatArrayBuilder.append(1.0F);
+		
+		assertEquals(1, floatArrayBuilder.capacity());
+		
+		floatArrayBuilder.append(2.0F);
+		
+		assertEquals(2, floatArrayBuilder.capacity());
+		
+		floatArrayBuilder.append(3.0F);
+		
+		assertEquals(4, floatArrayBuilder.capacity());
+		
+		floatArrayBuilder.append(4.0F);
+		
+		assertEquals(4, floatArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder();
+		
+		assertEquals(32, floatArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(10);
+		
+		assertEquals(10, floatArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> new FloatArrayBuilder(-1));
+	}
+	
+	@Test
+	public void testEnsureCapacity() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		floatArrayBuilder.ensureCapacity(0);
+		
+		assertEquals(0, floatArrayBuilder.capacity());
+		
+		floatArrayBuilder.ensureCapacity(10);
+		
+		assertEquals(10, floatArrayBuilder.capacity());
+		
+		floatArrayBuilder.ensureCapacity(5);
+		
+		assertEquals(10, floatArrayBuilder.capacity());
+		
+		floatArrayBuilder.ensureCapacity(11);
+		
+		assertEquals(20, floatArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> floatArrayBuilder.ensureCapacity(-1));
+	}
+	
+	@Test
+	public void testOutOfMemoryError() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		assertThrows(OutOfMemoryError.class, () -> floatArrayBuilder.ensureCapacity(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testReset() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		floatArrayBuilder.append(new float[] {1.0F, 2.0F, 3.0F});
+		
+		assertEquals(3, floatArrayBuilder.size());
+		
+		floatArrayBuilder.reset();
+		
+		assertEquals(0, floatArrayBuilder.size());
+		assertEquals(3, floatArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testSize() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		assertEquals(0, floatArrayBuilder.size());
+		
+		floatArrayBuilder.append(1.0F);
+		
+		assertEquals(1, floatArrayBuilder.size());
+		
+		floatArrayBuilder.append(2.0F);
+		
+		assertEquals(2, floatArrayBuilder.size());
+		
+		floatArrayBuilder.append(3.0F);
+		
+		assertEquals(3, floatArrayBuilder.size());
+	}
+	
+	@Test
+	public void testToFloatArray() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(0);
+		
+		floatArrayBuilder.append(new float[] {1.0F, 2.0F, 3.0F});
+		
+		assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatArrayBuilder.toFloatArray());
+	}
+	
+	@Test
+	public void testTrimToSize() {
+		final FloatArrayBuilder floatArrayBuilder = new FloatArrayBuilder(10);
+		
+		floatArrayBuilder.append(new float[] {1.0F, 2.0F, 3.0F});
+		floatArrayBuilder.trimToSize();
+		
+		assertEquals(3, floatArrayBuilder.capacity());
+		
+		assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatArrayBuilder.array());
+		
+		floatArrayBuilder.trimToSize();
+		
+		assertEquals(3, floatArrayBuilder.capacity());
+	}
+}
\ No newline at end of file
@@ -21,6 +21,21 @@ package org.macroing.java.io;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +47,27 @@ public final class FloatArrayOutputStreamUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testAsReadOnlyBuffer() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(4)) {
+			floatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F});
+			
+			final FloatBuffer floatBuffer = floatArrayOutputStream.asReadOnlyBuffer();
+			
+			assertTrue(floatBuffer.isReadOnly());
+			
+			assertEquals(0, floatBuffer.position());
+			assertEquals(3, floatBuffer.limit());
+			assertEquals(3, floatBuffer.capacity());
+			
+			assertEquals(1.0F, floatBuffer.get(0));
+			assertEquals(2.0F, floatBuffer.get(1));
+			assertEquals(3.0F, floatBuffer.get(2));
+			
+			assertThrows(ReadOnlyBufferException.class, () -> floatBuffer.put(0, 1.0F));
+		}
+	}
+	
 	@Test
 	public void testAvailable() {
 		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
@@ -202,6 +238,55 @@ public final class FloatArrayOutputStreamUnitTests {
 		}
 	}
 	
+	@Test
+	public void testWriteByteArray() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
+			floatArrayOutputStream.write(ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array());
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatArrayOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> floatArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array();
+			
+			floatArrayOutputStream.write(bytes, 0, 1);
+			floatArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			floatArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatArrayOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> floatArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(floatArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeFloat(i * 0.5F);
+				}
+			}
+			
+			final float[] expected = new float[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 0.5F;
+			}
+			
+			assertArrayEquals(expected, floatArrayOutputStream.toFloatArray());
+		}
+	}
+	
 	@Test
 	public void testWriteFloat() {
 		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
@@ -242,11 +327,103 @@ public final class FloatArrayOutputStreamUnitTests {
 	@Test
 	public void testWriteInt() {
 		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
-			floatArrayOutputStream.write(0);
-			floatArrayOutputStream.write(1);
-			floatArrayOutputStream.write(2);
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array();
+			
+			for(int i = 0; i < 4 - 1; i++) {
+				floatArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0, floatArrayOutputStream.size());
+			
+			for(int i = 4 - 1; i < bytes.length; i++) {
+				floatArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatArrayOutputStream.toFloatArray());
+			
+			floatArrayOutputStream.write(bytes[0] & 0xFF);
+			floatArrayOutputStream.reset();
+			
+			for(int i = 0; i < 4; i++) {
+				floatArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new float[] {1.0F}, floatArrayOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testWriteToByteBuffer() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
+			floatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F});
+			
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(1 + 3 * 4).order(ByteOrder.LITTLE_ENDIAN);
+			byteBuffer.put((byte)(0));
+			
+			floatArrayOutputStream.writeTo(byteBuffer);
+			
+			assertEquals(1 + 3 * 4, byteBuffer.position());
+			
+			assertEquals(1.0F, byteBuffer.getFloat(1 + 0 * 4));
+			assertEquals(2.0F, byteBuffer.getFloat(1 + 1 * 4));
+			assertEquals(3.0F, byteBuffer.getFloat(1 + 2 * 4));
+			
+			assertThrows(BufferOverflowException.class, () -> floatArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 4 - 1)));
+			assertThrows(NullPointerException.class, () -> floatArrayOutputStream.writeTo((ByteBuffer)(null)));
+			assertThrows(ReadOnlyBufferException.class, () -> floatArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 4).asReadOnlyBuffer()));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
+			floatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			floatArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(3 * 4).order(ByteOrder.BIG_ENDIAN).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> floatArrayOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(100000 * 4).order(ByteOrder.LITTLE_ENDIAN);
+			
+			for(int i = 0; i < 100000; i++) {
+				final float value = (float)(i);
+				
+				floatArrayOutputStream.write(value);
+				
+				byteBuffer.putFloat(value);
+			}
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			floatArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), ByteOrder.LITTLE_ENDIAN);
+			
+			assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> floatArrayOutputStream.writeTo(null, ByteOrder.LITTLE_ENDIAN));
+			assertThrows(NullPointerException.class, () -> floatArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final FloatArrayOutputStream floatArrayOutputStream = new FloatArrayOutputStream(0)) {
+			floatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F});
 			
-			assertArrayEquals(new float[] {0, 1, 2}, floatArrayOutputStream.toFloatArray());
+			assertThrows(UncheckedIOException.class, () -> floatArrayOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
 		}
 	}
 }
\ No newline at end of file
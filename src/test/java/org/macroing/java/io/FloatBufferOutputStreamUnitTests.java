@@ -0,0 +1,377 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class FloatBufferOutputStreamUnitTests {
+	public FloatBufferOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			assertEquals(2L, floatBufferOutputStream.available());
+			
+			floatBufferOutputStream.write(1.0F);
+			
+			assertEquals(1L, floatBufferOutputStream.available());
+			
+			floatBufferOutputStream.write(2.0F);
+			
+			assertEquals(0L, floatBufferOutputStream.available());
+			
+			floatBufferOutputStream.write(3.0F);
+			
+			assertEquals(1L, floatBufferOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			assertEquals(2L, floatBufferOutputStream.capacity());
+			
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			assertEquals(6L, floatBufferOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testChunkCapacity() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(3)) {
+			assertEquals(3, floatBufferOutputStream.chunkCapacity());
+		}
+	}
+	
+	@Test
+	public void testClose() {
+		final File file = doCreateTempFile();
+		
+		try {
+			final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(file, 2);
+			
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F});
+			floatBufferOutputStream.close();
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F}, floatBufferOutputStream.toFloatArray());
+			
+			assertThrows(UncheckedIOException.class, () -> floatBufferOutputStream.write(3.0F));
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream()) {
+			assertEquals(1048576, floatBufferOutputStream.chunkCapacity());
+			assertEquals(1048576L, floatBufferOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorFileInt() {
+		final File file = doCreateTempFile();
+		
+		try {
+			try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(file, 2)) {
+				floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+				
+				assertEquals(6L, floatBufferOutputStream.capacity());
+				assertEquals(5L, floatBufferOutputStream.size());
+				
+				assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, floatBufferOutputStream.toFloatArray());
+			}
+			
+			assertEquals(6L * 4L, file.length());
+			
+			assertThrows(NullPointerException.class, () -> new FloatBufferOutputStream(null, 2));
+			assertThrows(IllegalArgumentException.class, () -> new FloatBufferOutputStream(file, 0));
+			assertThrows(UncheckedIOException.class, () -> new FloatBufferOutputStream(new File(file, "child"), 2));
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(10)) {
+			assertEquals(10, floatBufferOutputStream.chunkCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new FloatBufferOutputStream(0));
+		assertThrows(IllegalArgumentException.class, () -> new FloatBufferOutputStream(Integer.MAX_VALUE / 4 + 1));
+	}
+	
+	@Test
+	public void testGet() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			assertEquals(1.0F, floatBufferOutputStream.get(0L));
+			assertEquals(2.0F, floatBufferOutputStream.get(1L));
+			assertEquals(3.0F, floatBufferOutputStream.get(2L));
+			assertEquals(4.0F, floatBufferOutputStream.get(3L));
+			assertEquals(5.0F, floatBufferOutputStream.get(4L));
+			
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.get(-1L));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.get(5L));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			floatBufferOutputStream.reset();
+			
+			assertEquals(0L, floatBufferOutputStream.size());
+			assertEquals(6L, floatBufferOutputStream.capacity());
+			
+			floatBufferOutputStream.write(5.0F);
+			
+			assertArrayEquals(new float[] {5.0F}, floatBufferOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			assertEquals(0L, floatBufferOutputStream.size());
+			
+			floatBufferOutputStream.write(1.0F);
+			
+			assertEquals(1L, floatBufferOutputStream.size());
+			
+			floatBufferOutputStream.write(new float[] {2.0F, 3.0F});
+			
+			assertEquals(3L, floatBufferOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToFloatArray() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			assertArrayEquals(new float[0], floatBufferOutputStream.toFloatArray());
+			
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, floatBufferOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			floatBufferOutputStream.write(ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array());
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatBufferOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> floatBufferOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array();
+			
+			floatBufferOutputStream.write(bytes, 0, 1);
+			floatBufferOutputStream.write(bytes, 1, bytes.length - 2);
+			floatBufferOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatBufferOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> floatBufferOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(floatBufferOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeFloat(i * 0.5F);
+				}
+			}
+			
+			final float[] expected = new float[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 0.5F;
+			}
+			
+			assertArrayEquals(expected, floatBufferOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testWriteFloat() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			floatBufferOutputStream.write(1.0F);
+			floatBufferOutputStream.write(2.0F);
+			floatBufferOutputStream.write(3.0F);
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatBufferOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testWriteFloatArray() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, floatBufferOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> floatBufferOutputStream.write((float[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteFloatArrayIntInt() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, 1, 3);
+			
+			assertArrayEquals(new float[] {2.0F, 3.0F, 4.0F}, floatBufferOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> floatBufferOutputStream.write((float[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.write(new float[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.write(new float[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.write(new float[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> floatBufferOutputStream.write(new float[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array();
+			
+			for(int i = 0; i < 4 - 1; i++) {
+				floatBufferOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, floatBufferOutputStream.size());
+			
+			for(int i = 4 - 1; i < bytes.length; i++) {
+				floatBufferOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, floatBufferOutputStream.toFloatArray());
+			
+			floatBufferOutputStream.write(bytes[0] & 0xFF);
+			floatBufferOutputStream.reset();
+			
+			for(int i = 0; i < 4; i++) {
+				floatBufferOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new float[] {1.0F}, floatBufferOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			floatBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(5 * 4).order(ByteOrder.BIG_ENDIAN).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).putFloat(4.0F).putFloat(5.0F).array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> floatBufferOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		for(final ByteOrder byteOrder : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(20000)) {
+				final ByteBuffer byteBuffer = ByteBuffer.allocate(50000 * 4).order(byteOrder);
+				
+				for(int i = 0; i < 50000; i++) {
+					floatBufferOutputStream.write((float)(i));
+					
+					byteBuffer.putFloat((float)(i));
+				}
+				
+				final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+				
+				floatBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), byteOrder);
+				
+				assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+				
+				assertThrows(NullPointerException.class, () -> floatBufferOutputStream.writeTo(null, byteOrder));
+				assertThrows(NullPointerException.class, () -> floatBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+			}
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final FloatBufferOutputStream floatBufferOutputStream = new FloatBufferOutputStream(2)) {
+			floatBufferOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			assertThrows(UncheckedIOException.class, () -> floatBufferOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static File doCreateTempFile() {
+		try {
+			return File.createTempFile("FloatBufferOutputStreamUnitTests", ".bin");
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
\ No newline at end of file
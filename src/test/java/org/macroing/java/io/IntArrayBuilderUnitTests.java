@@ -0,0 +1,235 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class IntArrayBuilderUnitTests {
+	public IntArrayBuilderUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAppendInt() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		assertSame(intArrayBuilder, intArrayBuilder.append(1));
+		assertSame(intArrayBuilder, intArrayBuilder.append(2));
+		assertSame(intArrayBuilder, intArrayBuilder.append(3));
+		
+		assertArrayEquals(new int[] {1, 2, 3}, intArrayBuilder.toIntArray());
+	}
+	
+	@Test
+	public void testAppendIntArray() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		assertSame(intArrayBuilder, intArrayBuilder.append(new int[] {1, 2, 3}));
+		
+		assertArrayEquals(new int[] {1, 2, 3}, intArrayBuilder.toIntArray());
+		
+		assertThrows(NullPointerException.class, () -> intArrayBuilder.append((int[])(null)));
+	}
+	
+	@Test
+	public void testAppendIntArrayIntInt() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		assertSame(intArrayBuilder, intArrayBuilder.append(new int[] {4, 1, 2, 3}, 1, 3));
+		
+		assertArrayEquals(new int[] {1, 2, 3}, intArrayBuilder.toIntArray());
+		
+		assertThrows(NullPointerException.class, () -> intArrayBuilder.append((int[])(null), 0, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> intArrayBuilder.append(new int[] {}, -1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> intArrayBuilder.append(new int[] {}, +1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> intArrayBuilder.append(new int[] {}, +0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> intArrayBuilder.append(new int[] {}, +0, +1));
+	}
+	
+	@Test
+	public void testArray() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(4);
+		
+		intArrayBuilder.append(new int[] {1, 2, 3});
+		
+		final int[] array = intArrayBuilder.array();
+		
+		assertEquals(4, array.length);
+		
+		assertSame(array, intArrayBuilder.array());
+		
+		array[0] = 4;
+		
+		assertArrayEquals(new int[] {4, 2, 3}, intArrayBuilder.toIntArray());
+	}
+	
+	@Test
+	public void testAvailable() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		assertEquals(0, intArrayBuilder.available());
+		
+		intArrayBuilder.append(1);
+		
+		assertEquals(0, intArrayBuilder.available());
+		
+		intArrayBuilder.append(2);
+		
+		assertEquals(0, intArrayBuilder.available());
+		
+		intArrayBuilder.append(3);
+		
+		assertEquals(1, intArrayBuilder.available());
+	}
+	
+	@Test
+	public void testCapacity() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		assertEquals(0, intArrayBuilder.capacity());
+		
+		intArrayBuilder.append(1);
+		
+		assertEquals(1, intArrayBuilder.capacity());
+		
+		intArrayBuilder.append(2);
+		
+		assertEquals(2, intArrayBuilder.capacity());
+		
+		intArrayBuilder.append(3);
+		
+		assertEquals(4, intArrayBuilder.capacity());
+		
+		intArrayBuilder.append(4);
+		
+		assertEquals(4, intArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder();
+		
+		assertEquals(32, intArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(10);
+		
+		assertEquals(10, intArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> new IntArrayBuilder(-1));
+	}
+	
+	@Test
+	public void testEnsureCapacity() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		intArrayBuilder.ensureCapacity(0);
+		
+		assertEquals(0, intArrayBuilder.capacity());
+		
+		intArrayBuilder.ensureCapacity(10);
+		
+		assertEquals(10, intArrayBuilder.capacity());
+		
+		intArrayBuilder.ensureCapacity(5);
+		
+		assertEquals(10, intArrayBuilder.capacity());
+		
+		intArrayBuilder.ensureCapacity(11);
+		
+		assertEquals(20, intArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> intArrayBuilder.ensureCapacity(-1));
+	}
+	
+	@Test
+	public void testOutOfMemoryError() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		assertThrows(OutOfMemoryError.class, () -> intArrayBuilder.ensureCapacity(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testReset() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		intArrayBuilder.append(new int[] {1, 2, 3});
+		
+		assertEquals(3, intArrayBuilder.size());
+		
+		intArrayBuilder.reset();
+		
+		assertEquals(0, intArrayBuilder.size());
+		assertEquals(3, intArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testSize() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		assertEquals(0, intArrayBuilder.size());
+		
+		intArrayBuilder.append(1);
+		
+		assertEquals(1, intArrayBuilder.size());
+		
+		intArrayBuilder.append(2);
+		
+		assertEquals(2, intArrayBuilder.size());
+		
+		intArrayBuilder.append(3);
+		
+		assertEquals(3, intArrayBuilder.size());
+	}
+	
+	@Test
+	public void testToIntArray() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(0);
+		
+		intArrayBuilder.append(new int[] {1, 2, 3});
+		
+		assertArrayEquals(new int[] {1, 2, 3}, intArrayBuilder.toIntArray());
+	}
+	
+	@Test
+	public void testTrimToSize() {
+		final IntArrayBuilder intArrayBuilder = new IntArrayBuilder(10);
+		
+		intArrayBuilder.append(new int[] {1, 2, 3});
+		intArrayBuilder.trimToSize();
+		
+		assertEquals(3, intArrayBuilder.capacity());
+		
+		assertArrayEquals(new int[] {1, 2, 3}, intArrayBuilder.array());
+		
+		intArrayBuilder.trimToSize();
+		
+		assertEquals(3, intArrayBuilder.capacity());
+	}
+}
\ No newline at end of file
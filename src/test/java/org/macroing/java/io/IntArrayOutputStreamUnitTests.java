@@ -21,6 +21,21 @@ package org.macroing.java.io;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,20 +47,41 @@ public final class IntArrayOutputStreamUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testAsReadOnlyBuffer() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(4)) {
+			intArrayOutputStream.write(new int[] {1, 2, 3});
+			
+			final IntBuffer intBuffer = intArrayOutputStream.asReadOnlyBuffer();
+			
+			assertTrue(intBuffer.isReadOnly());
+			
+			assertEquals(0, intBuffer.position());
+			assertEquals(3, intBuffer.limit());
+			assertEquals(3, intBuffer.capacity());
+			
+			assertEquals(1, intBuffer.get(0));
+			assertEquals(2, intBuffer.get(1));
+			assertEquals(3, intBuffer.get(2));
+			
+			assertThrows(ReadOnlyBufferException.class, () -> intBuffer.put(0, 1));
+		}
+	}
+	
 	@Test
 	public void testAvailable() {
 		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
 			assertEquals(0, intArrayOutputStream.available());
 			
-			intArrayOutputStream.write(1);
+			intArrayOutputStream.writeInt(1);
 			
 			assertEquals(0, intArrayOutputStream.available());
 			
-			intArrayOutputStream.write(2);
+			intArrayOutputStream.writeInt(2);
 			
 			assertEquals(0, intArrayOutputStream.available());
 			
-			intArrayOutputStream.write(3);
+			intArrayOutputStream.writeInt(3);
 			
 			assertEquals(1, intArrayOutputStream.available());
 		}
@@ -56,19 +92,19 @@ public final class IntArrayOutputStreamUnitTests {
 		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
 			assertEquals(0, intArrayOutputStream.capacity());
 			
-			intArrayOutputStream.write(1);
+			intArrayOutputStream.writeInt(1);
 			
 			assertEquals(1, intArrayOutputStream.capacity());
 			
-			intArrayOutputStream.write(2);
+			intArrayOutputStream.writeInt(2);
 			
 			assertEquals(2, intArrayOutputStream.capacity());
 			
-			intArrayOutputStream.write(3);
+			intArrayOutputStream.writeInt(3);
 			
 			assertEquals(4, intArrayOutputStream.capacity());
 			
-			intArrayOutputStream.write(4);
+			intArrayOutputStream.writeInt(4);
 			
 			assertEquals(4, intArrayOutputStream.capacity());
 		}
@@ -160,11 +196,11 @@ public final class IntArrayOutputStreamUnitTests {
 		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
 			assertEquals(0, intArrayOutputStream.size());
 			
-			intArrayOutputStream.write(1);
+			intArrayOutputStream.writeInt(1);
 			
 			assertEquals(1, intArrayOutputStream.size());
 			
-			intArrayOutputStream.write(2);
+			intArrayOutputStream.writeInt(2);
 			
 			assertEquals(2, intArrayOutputStream.size());
 			
@@ -179,15 +215,15 @@ public final class IntArrayOutputStreamUnitTests {
 		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
 			assertEquals(0, intArrayOutputStream.size());
 			
-			intArrayOutputStream.write(1);
+			intArrayOutputStream.writeInt(1);
 			
 			assertEquals(1, intArrayOutputStream.size());
 			
-			intArrayOutputStream.write(2);
+			intArrayOutputStream.writeInt(2);
 			
 			assertEquals(2, intArrayOutputStream.size());
 			
-			intArrayOutputStream.write(3);
+			intArrayOutputStream.writeInt(3);
 			
 			assertEquals(3, intArrayOutputStream.size());
 		}
@@ -202,6 +238,55 @@ public final class IntArrayOutputStreamUnitTests {
 		}
 	}
 	
+	@Test
+	public void testWriteByteArray() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
+			intArrayOutputStream.write(ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array());
+			
+			assertArrayEquals(new int[] {1, 2, 3}, intArrayOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> intArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array();
+			
+			intArrayOutputStream.write(bytes, 0, 1);
+			intArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			intArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new int[] {1, 2, 3}, intArrayOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> intArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> intArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(intArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeInt(i * 31);
+				}
+			}
+			
+			final int[] expected = new int[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 31;
+			}
+			
+			assertArrayEquals(expected, intArrayOutputStream.toIntArray());
+		}
+	}
+	
 	@Test
 	public void testWriteIntArray() {
 		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
@@ -231,11 +316,28 @@ public final class IntArrayOutputStreamUnitTests {
 	@Test
 	public void testWriteInt() {
 		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
-			intArrayOutputStream.write(0);
-			intArrayOutputStream.write(1);
-			intArrayOutputStream.write(2);
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array();
 			
-			assertArrayEquals(new int[] {0, 1, 2}, intArrayOutputStream.toIntArray());
+			for(int i = 0; i < 4 - 1; i++) {
+				intArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0, intArrayOutputStream.size());
+			
+			for(int i = 4 - 1; i < bytes.length; i++) {
+				intArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new int[] {1, 2, 3}, intArrayOutputStream.toIntArray());
+			
+			intArrayOutputStream.write(bytes[0] & 0xFF);
+			intArrayOutputStream.reset();
+			
+			for(int i = 0; i < 4; i++) {
+				intArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new int[] {1}, intArrayOutputStream.toIntArray());
 		}
 	}
 	
@@ -249,4 +351,79 @@ public final class IntArrayOutputStreamUnitTests {
 			assertArrayEquals(new int[] {1, 2, 3}, intArrayOutputStream.toIntArray());
 		}
 	}
+	
+	@Test
+	public void testWriteToByteBuffer() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
+			intArrayOutputStream.write(new int[] {1, 2, 3});
+			
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(1 + 3 * 4).order(ByteOrder.LITTLE_ENDIAN);
+			byteBuffer.put((byte)(0));
+			
+			intArrayOutputStream.writeTo(byteBuffer);
+			
+			assertEquals(1 + 3 * 4, byteBuffer.position());
+			
+			assertEquals(1, byteBuffer.getInt(1 + 0 * 4));
+			assertEquals(2, byteBuffer.getInt(1 + 1 * 4));
+			assertEquals(3, byteBuffer.getInt(1 + 2 * 4));
+			
+			assertThrows(BufferOverflowException.class, () -> intArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 4 - 1)));
+			assertThrows(NullPointerException.class, () -> intArrayOutputStream.writeTo((ByteBuffer)(null)));
+			assertThrows(ReadOnlyBufferException.class, () -> intArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 4).asReadOnlyBuffer()));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
+			intArrayOutputStream.write(new int[] {1, 2, 3});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			intArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(3 * 4).order(ByteOrder.BIG_ENDIAN).putInt(1).putInt(2).putInt(3).array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> intArrayOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(100000 * 4).order(ByteOrder.LITTLE_ENDIAN);
+			
+			for(int i = 0; i < 100000; i++) {
+				final int value = i;
+				
+				intArrayOutputStream.writeInt(value);
+				
+				byteBuffer.putInt(value);
+			}
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			intArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), ByteOrder.LITTLE_ENDIAN);
+			
+			assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> intArrayOutputStream.writeTo(null, ByteOrder.LITTLE_ENDIAN));
+			assertThrows(NullPointerException.class, () -> intArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final IntArrayOutputStream intArrayOutputStream = new IntArrayOutputStream(0)) {
+			intArrayOutputStream.write(new int[] {1, 2, 3});
+			
+			assertThrows(UncheckedIOException.class, () -> intArrayOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
+		}
+	}
 }
\ No newline at end of file
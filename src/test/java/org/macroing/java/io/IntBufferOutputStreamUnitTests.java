@@ -0,0 +1,377 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class IntBufferOutputStreamUnitTests {
+	public IntBufferOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			assertEquals(2L, intBufferOutputStream.available());
+			
+			intBufferOutputStream.writeInt(1);
+			
+			assertEquals(1L, intBufferOutputStream.available());
+			
+			intBufferOutputStream.writeInt(2);
+			
+			assertEquals(0L, intBufferOutputStream.available());
+			
+			intBufferOutputStream.writeInt(3);
+			
+			assertEquals(1L, intBufferOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			assertEquals(2L, intBufferOutputStream.capacity());
+			
+			intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			assertEquals(6L, intBufferOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testChunkCapacity() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(3)) {
+			assertEquals(3, intBufferOutputStream.chunkCapacity());
+		}
+	}
+	
+	@Test
+	public void testClose() {
+		final File file = doCreateTempFile();
+		
+		try {
+			final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(file, 2);
+			
+			intBufferOutputStream.write(new int[] {1, 2});
+			intBufferOutputStream.close();
+			
+			assertArrayEquals(new int[] {1, 2}, intBufferOutputStream.toIntArray());
+			
+			assertThrows(UncheckedIOException.class, () -> intBufferOutputStream.writeInt(3));
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream()) {
+			assertEquals(1048576, intBufferOutputStream.chunkCapacity());
+			assertEquals(1048576L, intBufferOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorFileInt() {
+		final File file = doCreateTempFile();
+		
+		try {
+			try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(file, 2)) {
+				intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5});
+				
+				assertEquals(6L, intBufferOutputStream.capacity());
+				assertEquals(5L, intBufferOutputStream.size());
+				
+				assertArrayEquals(new int[] {1, 2, 3, 4, 5}, intBufferOutputStream.toIntArray());
+			}
+			
+			assertEquals(6L * 4L, file.length());
+			
+			assertThrows(NullPointerException.class, () -> new IntBufferOutputStream(null, 2));
+			assertThrows(IllegalArgumentException.class, () -> new IntBufferOutputStream(file, 0));
+			assertThrows(UncheckedIOException.class, () -> new IntBufferOutputStream(new File(file, "child"), 2));
+		} finally {
+			file.delete();
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(10)) {
+			assertEquals(10, intBufferOutputStream.chunkCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new IntBufferOutputStream(0));
+		assertThrows(IllegalArgumentException.class, () -> new IntBufferOutputStream(Integer.MAX_VALUE / 4 + 1));
+	}
+	
+	@Test
+	public void testGet() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			assertEquals(1, intBufferOutputStream.get(0L));
+			assertEquals(2, intBufferOutputStream.get(1L));
+			assertEquals(3, intBufferOutputStream.get(2L));
+			assertEquals(4, intBufferOutputStream.get(3L));
+			assertEquals(5, intBufferOutputStream.get(4L));
+			
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.get(-1L));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.get(5L));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			intBufferOutputStream.reset();
+			
+			assertEquals(0L, intBufferOutputStream.size());
+			assertEquals(6L, intBufferOutputStream.capacity());
+			
+			intBufferOutputStream.writeInt(5);
+			
+			assertArrayEquals(new int[] {5}, intBufferOutputStream.toIntArray());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			assertEquals(0L, intBufferOutputStream.size());
+			
+			intBufferOutputStream.writeInt(1);
+			
+			assertEquals(1L, intBufferOutputStream.size());
+			
+			intBufferOutputStream.write(new int[] {2, 3});
+			
+			assertEquals(3L, intBufferOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToIntArray() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			assertArrayEquals(new int[0], intBufferOutputStream.toIntArray());
+			
+			intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			assertArrayEquals(new int[] {1, 2, 3, 4, 5}, intBufferOutputStream.toIntArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			intBufferOutputStream.write(ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array());
+			
+			assertArrayEquals(new int[] {1, 2, 3}, intBufferOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> intBufferOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array();
+			
+			intBufferOutputStream.write(bytes, 0, 1);
+			intBufferOutputStream.write(bytes, 1, bytes.length - 2);
+			intBufferOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new int[] {1, 2, 3}, intBufferOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> intBufferOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(intBufferOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeInt(i * 31);
+				}
+			}
+			
+			final int[] expected = new int[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 31;
+			}
+			
+			assertArrayEquals(expected, intBufferOutputStream.toIntArray());
+		}
+	}
+	
+	@Test
+	public void testWriteIntArray() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			assertArrayEquals(new int[] {1, 2, 3, 4, 5}, intBufferOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> intBufferOutputStream.write((int[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteIntArrayIntInt() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5}, 1, 3);
+			
+			assertArrayEquals(new int[] {2, 3, 4}, intBufferOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> intBufferOutputStream.write((int[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.write(new int[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.write(new int[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.write(new int[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> intBufferOutputStream.write(new int[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array();
+			
+			for(int i = 0; i < 4 - 1; i++) {
+				intBufferOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, intBufferOutputStream.size());
+			
+			for(int i = 4 - 1; i < bytes.length; i++) {
+				intBufferOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new int[] {1, 2, 3}, intBufferOutputStream.toIntArray());
+			
+			intBufferOutputStream.write(bytes[0] & 0xFF);
+			intBufferOutputStream.reset();
+			
+			for(int i = 0; i < 4; i++) {
+				intBufferOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new int[] {1}, intBufferOutputStream.toIntArray());
+		}
+	}
+	
+	@Test
+	public void testWriteIntInt() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			intBufferOutputStream.writeInt(1);
+			intBufferOutputStream.writeInt(2);
+			intBufferOutputStream.writeInt(3);
+			
+			assertArrayEquals(new int[] {1, 2, 3}, intBufferOutputStream.toIntArray());
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			intBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(5 * 4).order(ByteOrder.BIG_ENDIAN).putInt(1).putInt(2).putInt(3).putInt(4).putInt(5).array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> intBufferOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		for(final ByteOrder byteOrder : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(20000)) {
+				final ByteBuffer byteBuffer = ByteBuffer.allocate(50000 * 4).order(byteOrder);
+				
+				for(int i = 0; i < 50000; i++) {
+					intBufferOutputStream.writeInt(i);
+					
+					byteBuffer.putInt(i);
+				}
+				
+				final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+				
+				intBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), byteOrder);
+				
+				assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+				
+				assertThrows(NullPointerException.class, () -> intBufferOutputStream.writeTo(null, byteOrder));
+				assertThrows(NullPointerException.class, () -> intBufferOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+			}
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final IntBufferOutputStream intBufferOutputStream = new IntBufferOutputStream(2)) {
+			intBufferOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			assertThrows(UncheckedIOException.class, () -> intBufferOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static File doCreateTempFile() {
+		try {
+			return File.createTempFile("IntBufferOutputStreamUnitTests", ".bin");
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
\ No newline at end of file
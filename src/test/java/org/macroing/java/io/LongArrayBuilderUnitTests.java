@@ -0,0 +1,235 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class LongArrayBuilderUnitTests {
+	public LongArrayBuilderUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAppendLong() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		assertSame(longArrayBuilder, longArrayBuilder.append(1L));
+		assertSame(longArrayBuilder, longArrayBuilder.append(2L));
+		assertSame(longArrayBuilder, longArrayBuilder.append(3L));
+		
+		assertArrayEquals(new long[] {1L, 2L, 3L}, longArrayBuilder.toLongArray());
+	}
+	
+	@Test
+	public void testAppendLongArray() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		assertSame(longArrayBuilder, longArrayBuilder.append(new long[] {1L, 2L, 3L}));
+		
+		assertArrayEquals(new long[] {1L, 2L, 3L}, longArrayBuilder.toLongArray());
+		
+		assertThrows(NullPointerException.class, () -> longArrayBuilder.append((long[])(null)));
+	}
+	
+	@Test
+	public void testAppendLongArrayIntInt() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		assertSame(longArrayBuilder, longArrayBuilder.append(new long[] {4L, 1L, 2L, 3L}, 1, 3));
+		
+		assertArrayEquals(new long[] {1L, 2L, 3L}, longArrayBuilder.toLongArray());
+		
+		assertThrows(NullPointerException.class, () -> longArrayBuilder.append((long[])(null), 0, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> longArrayBuilder.append(new long[] {}, -1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> longArrayBuilder.append(new long[] {}, +1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> longArrayBuilder.append(new long[] {}, +0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> longArrayBuilder.append(new long[] {}, +0, +1));
+	}
+	
+	@Test
+	public void testArray() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(4);
+		
+		longArrayBuilder.append(new long[] {1L, 2L, 3L});
+		
+		final long[] array = longArrayBuilder.array();
+		
+		assertEquals(4, array.length);
+		
+		assertSame(array, longArrayBuilder.array());
+		
+		array[0] = 4L;
+		
+		assertArrayEquals(new long[] {4L, 2L, 3L}, longArrayBuilder.toLongArray());
+	}
+	
+	@Test
+	public void testAvailable() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		assertEquals(0, longArrayBuilder.available());
+		
+		longArrayBuilder.append(1L);
+		
+		assertEquals(0, longArrayBuilder.available());
+		
+		longArrayBuilder.append(2L);
+		
+		assertEquals(0, longArrayBuilder.available());
+		
+		longArrayBuilder.append(3L);
+		
+		assertEquals(1, longArrayBuilder.available());
+	}
+	
+	@Test
+	public void testCapacity() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		assertEquals(0, longArrayBuilder.capacity());
+		
+		longArrayBuilder.append(1L);
+		
+		assertEquals(1, longArrayBuilder.capacity());
+		
+		longArrayBuilder.append(2L);
+		
+		assertEquals(2, longArrayBuilder.capacity());
+		
+		longArrayBuilder.append(3L);
+		
+		assertEquals(4, longArrayBuilder.capacity());
+		
+		longArrayBuilder.append(4L);
+		
+		assertEquals(4, longArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder();
+		
+		assertEquals(32, longArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(10);
+		
+		assertEquals(10, longArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> new LongArrayBuilder(-1));
+	}
+	
+	@Test
+	public void testEnsureCapacity() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		longArrayBuilder.ensureCapacity(0);
+		
+		assertEquals(0, longArrayBuilder.capacity());
+		
+		longArrayBuilder.ensureCapacity(10);
+		
+		assertEquals(10, longArrayBuilder.capacity());
+		
+		longArrayBuilder.ensureCapacity(5);
+		
+		assertEquals(10, longArrayBuilder.capacity());
+		
+		longArrayBuilder.ensureCapacity(11);
+		
+		assertEquals(20, longArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> longArrayBuilder.ensureCapacity(-1));
+	}
+	
+	@Test
+	public void testOutOfMemoryError() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		assertThrows(OutOfMemoryError.class, () -> longArrayBuilder.ensureCapacity(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testReset() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		longArrayBuilder.append(new long[] {1L, 2L, 3L});
+		
+		assertEquals(3, longArrayBuilder.size());
+		
+		longArrayBuilder.reset();
+		
+		assertEquals(0, longArrayBuilder.size());
+		assertEquals(3, longArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testSize() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		assertEquals(0, longArrayBuilder.size());
+		
+		longArrayBuilder.append(1L);
+		
+		assertEquals(1, longArrayBuilder.size());
+		
+		longArrayBuilder.append(2L);
+		
+		assertEquals(2, longArrayBuilder.size());
+		
+		longArrayBuilder.append(3L);
+		
+		assertEquals(3, longArrayBuilder.size());
+	}
+	
+	@Test
+	public void testToLongArray() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(0);
+		
+		longArrayBuilder.append(new long[] {1L, 2L, 3L});
+		
+		assertArrayEquals(new long[] {1L, 2L, 3L}, longArrayBuilder.toLongArray());
+	}
+	
+	@Test
+	public void testTrimToSize() {
+		final LongArrayBuilder longArrayBuilder = new LongArrayBuilder(10);
+		
+		longArrayBuilder.append(new long[] {1L, 2L, 3L});
+		longArrayBuilder.trimToSize();
+		
+		assertEquals(3, longArrayBuilder.capacity());
+		
+		assertArrayEquals(new long[] {1L, 2L, 3L}, longArrayBuilder.array());
+		
+		longArrayBuilder.trimToSize();
+		
+		assertEquals(3, longArrayBuilder.capacity());
+	}
+}
\ No newline at end of file
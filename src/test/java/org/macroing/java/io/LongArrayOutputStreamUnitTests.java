@@ -21,6 +21,21 @@ package org.macroing.java.io;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +47,27 @@ public final class LongArrayOutputStreamUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testAsReadOnlyBuffer() {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(4)) {
+			longArrayOutputStream.write(new long[] {1L, 2L, 3L});
+			
+			final LongBuffer longBuffer = longArrayOutputStream.asReadOnlyBuffer();
+			
+			assertTrue(longBuffer.isReadOnly());
+			
+			assertEquals(0, longBuffer.position());
+			assertEquals(3, longBuffer.limit());
+			assertEquals(3, longBuffer.capacity());
+			
+			assertEquals(1L, longBuffer.get(0));
+			assertEquals(2L, longBuffer.get(1));
+			assertEquals(3L, longBuffer.get(2));
+			
+			assertThrows(ReadOnlyBufferException.class, () -> longBuffer.put(0, 1L));
+		}
+	}
+	
 	@Test
 	public void testAvailable() {
 		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
@@ -197,6 +233,55 @@ public final class LongArrayOutputStreamUnitTests {
 		}
 	}
 	
+	@Test
+	public void testWriteByteArray() {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
+			longArrayOutputStream.write(ByteBuffer.allocate(3 * 8).putLong(1L).putLong(2L).putLong(3L).array());
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L}, longArrayOutputStream.toLongArray());
+			
+			assertThrows(NullPointerException.class, () -> longArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putLong(1L).putLong(2L).putLong(3L).array();
+			
+			longArrayOutputStream.write(bytes, 0, 1);
+			longArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			longArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L}, longArrayOutputStream.toLongArray());
+			
+			assertThrows(NullPointerException.class, () -> longArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> longArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> longArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> longArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> longArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(longArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeLong(i * 1000000007L);
+				}
+			}
+			
+			final long[] expected = new long[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 1000000007L;
+			}
+			
+			assertArrayEquals(expected, longArrayOutputStream.toLongArray());
+		}
+	}
+	
 	@Test
 	public void testWriteLong() {
 		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
@@ -237,11 +322,103 @@ public final class LongArrayOutputStreamUnitTests {
 	@Test
 	public void testWriteInt() {
 		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
-			longArrayOutputStream.write(0);
-			longArrayOutputStream.write(1);
-			longArrayOutputStream.write(2);
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putLong(1L).putLong(2L).putLong(3L).array();
+			
+			for(int i = 0; i < 8 - 1; i++) {
+				longArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0, longArrayOutputStream.size());
+			
+			for(int i = 8 - 1; i < bytes.length; i++) {
+				longArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L}, longArrayOutputStream.toLongArray());
+			
+			longArrayOutputStream.write(bytes[0] & 0xFF);
+			longArrayOutputStream.reset();
+			
+			for(int i = 0; i < 8; i++) {
+				longArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new long[] {1L}, longArrayOutputStream.toLongArray());
+		}
+	}
+	
+	@Test
+	public void testWriteToByteBuffer() {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
+			longArrayOutputStream.write(new long[] {1L, 2L, 3L});
+			
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(1 + 3 * 8).order(ByteOrder.LITTLE_ENDIAN);
+			byteBuffer.put((byte)(0));
+			
+			longArrayOutputStream.writeTo(byteBuffer);
+			
+			assertEquals(1 + 3 * 8, byteBuffer.position());
+			
+			assertEquals(1L, byteBuffer.getLong(1 + 0 * 8));
+			assertEquals(2L, byteBuffer.getLong(1 + 1 * 8));
+			assertEquals(3L, byteBuffer.getLong(1 + 2 * 8));
+			
+			assertThrows(BufferOverflowException.class, () -> longArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 8 - 1)));
+			assertThrows(NullPointerException.class, () -> longArrayOutputStream.writeTo((ByteBuffer)(null)));
+			assertThrows(ReadOnlyBufferException.class, () -> longArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 8).asReadOnlyBuffer()));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
+			longArrayOutputStream.write(new long[] {1L, 2L, 3L});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			longArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(3 * 8).order(ByteOrder.BIG_ENDIAN).putLong(1L).putLong(2L).putLong(3L).array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> longArrayOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(100000 * 8).order(ByteOrder.LITTLE_ENDIAN);
+			
+			for(int i = 0; i < 100000; i++) {
+				final long value = (long)(i);
+				
+				longArrayOutputStream.write(value);
+				
+				byteBuffer.putLong(value);
+			}
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			longArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), ByteOrder.LITTLE_ENDIAN);
+			
+			assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> longArrayOutputStream.writeTo(null, ByteOrder.LITTLE_ENDIAN));
+			assertThrows(NullPointerException.class, () -> longArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final LongArrayOutputStream longArrayOutputStream = new LongArrayOutputStream(0)) {
+			longArrayOutputStream.write(new long[] {1L, 2L, 3L});
 			
-			assertArrayEquals(new long[] {0, 1, 2}, longArrayOutputStream.toLongArray());
+			assertThrows(UncheckedIOException.class, () -> longArrayOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
 		}
 	}
 }
\ No newline at end of file
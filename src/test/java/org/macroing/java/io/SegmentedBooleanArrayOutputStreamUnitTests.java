@@ -0,0 +1,262 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class SegmentedBooleanArrayOutputStreamUnitTests {
+	public SegmentedBooleanArrayOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			assertEquals(2L, segmentedBooleanArrayOutputStream.available());
+			
+			segmentedBooleanArrayOutputStream.write(true);
+			
+			assertEquals(1L, segmentedBooleanArrayOutputStream.available());
+			
+			segmentedBooleanArrayOutputStream.write(false);
+			
+			assertEquals(0L, segmentedBooleanArrayOutputStream.available());
+			
+			segmentedBooleanArrayOutputStream.write(true);
+			
+			assertEquals(1L, segmentedBooleanArrayOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			assertEquals(2L, segmentedBooleanArrayOutputStream.capacity());
+			
+			segmentedBooleanArrayOutputStream.write(new boolean[] {true, false, true, false, true});
+			
+			assertEquals(6L, segmentedBooleanArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream()) {
+			assertEquals(8192, segmentedBooleanArrayOutputStream.segmentCapacity());
+			assertEquals(8192L, segmentedBooleanArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(10)) {
+			assertEquals(10, segmentedBooleanArrayOutputStream.segmentCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new SegmentedBooleanArrayOutputStream(0));
+	}
+	
+	@Test
+	public void testForEachSegment() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			final List<boolean[]> segments = new ArrayList<>();
+			final List<Integer> lengths = new ArrayList<>();
+			
+			segmentedBooleanArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(0, segments.size());
+			
+			segmentedBooleanArrayOutputStream.write(new boolean[] {true, false, true, false, true});
+			segmentedBooleanArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(3, segments.size());
+			
+			assertArrayEquals(new boolean[] {true, false}, segments.get(0));
+			assertArrayEquals(new boolean[] {true, false}, segments.get(1));
+			
+			assertEquals(true, segments.get(2)[0]);
+			
+			assertEquals(Integer.valueOf(2), lengths.get(0));
+			assertEquals(Integer.valueOf(2), lengths.get(1));
+			assertEquals(Integer.valueOf(1), lengths.get(2));
+			
+			assertThrows(NullPointerException.class, () -> segmentedBooleanArrayOutputStream.forEachSegment(null));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			segmentedBooleanArrayOutputStream.write(new boolean[] {true, false, true, false, true});
+			segmentedBooleanArrayOutputStream.reset();
+			
+			assertEquals(0L, segmentedBooleanArrayOutputStream.size());
+			assertEquals(6L, segmentedBooleanArrayOutputStream.capacity());
+			
+			segmentedBooleanArrayOutputStream.write(new boolean[] {true, false, true});
+			
+			assertArrayEquals(new boolean[] {true, false, true}, segmentedBooleanArrayOutputStream.toBooleanArray());
+			
+			assertEquals(6L, segmentedBooleanArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			assertEquals(0L, segmentedBooleanArrayOutputStream.size());
+			
+			segmentedBooleanArrayOutputStream.write(true);
+			
+			assertEquals(1L, segmentedBooleanArrayOutputStream.size());
+			
+			segmentedBooleanArrayOutputStream.write(new boolean[] {false, true});
+			
+			assertEquals(3L, segmentedBooleanArrayOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToBooleanArray() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			assertArrayEquals(new boolean[0], segmentedBooleanArrayOutputStream.toBooleanArray());
+			
+			segmentedBooleanArrayOutputStream.write(new boolean[] {true, false, true, false, true});
+			
+			assertArrayEquals(new boolean[] {true, false, true, false, true}, segmentedBooleanArrayOutputStream.toBooleanArray());
+		}
+	}
+	
+	@Test
+	public void testWriteBoolean() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			segmentedBooleanArrayOutputStream.write(true);
+			segmentedBooleanArrayOutputStream.write(false);
+			segmentedBooleanArrayOutputStream.write(true);
+			
+			assertArrayEquals(new boolean[] {true, false, true}, segmentedBooleanArrayOutputStream.toBooleanArray());
+		}
+	}
+	
+	@Test
+	public void testWriteBooleanArray() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			segmentedBooleanArrayOutputStream.write(new boolean[] {true, false, true, false, true});
+			
+			assertArrayEquals(new boolean[] {true, false, true, false, true}, segmentedBooleanArrayOutputStream.toBooleanArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedBooleanArrayOutputStream.write((boolean[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteBooleanArrayIntInt() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			segmentedBooleanArrayOutputStream.write(true);
+			segmentedBooleanArrayOutputStream.write(new boolean[] {true, false, true, false, true}, 1, 4);
+			
+			assertArrayEquals(new boolean[] {true, false, true, false, true}, segmentedBooleanArrayOutputStream.toBooleanArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedBooleanArrayOutputStream.write((boolean[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedBooleanArrayOutputStream.write(new boolean[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedBooleanArrayOutputStream.write(new boolean[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedBooleanArrayOutputStream.write(new boolean[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedBooleanArrayOutputStream.write(new boolean[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			segmentedBooleanArrayOutputStream.write(new byte[] {1, 0, 2});
+			
+			assertArrayEquals(new boolean[] {true, false, true}, segmentedBooleanArrayOutputStream.toBooleanArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedBooleanArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			final byte[] bytes = new byte[] {1, 0, 2};
+			
+			segmentedBooleanArrayOutputStream.write(bytes, 0, 1);
+			segmentedBooleanArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			segmentedBooleanArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new boolean[] {true, false, true}, segmentedBooleanArrayOutputStream.toBooleanArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedBooleanArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedBooleanArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedBooleanArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedBooleanArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedBooleanArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(segmentedBooleanArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeBoolean(i % 3 == 0);
+				}
+			}
+			
+			final boolean[] expected = new boolean[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i % 3 == 0;
+			}
+			
+			assertArrayEquals(expected, segmentedBooleanArrayOutputStream.toBooleanArray());
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final SegmentedBooleanArrayOutputStream segmentedBooleanArrayOutputStream = new SegmentedBooleanArrayOutputStream(2)) {
+			segmentedBooleanArrayOutputStream.write(0);
+			segmentedBooleanArrayOutputStream.write(1);
+			segmentedBooleanArrayOutputStream.write(2);
+			
+			assertArrayEquals(new boolean[] {false, true, true}, segmentedBooleanArrayOutputStream.toBooleanArray());
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class SegmentedCharArrayOutputStreamUnitTests {
+	public SegmentedCharArrayOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			assertEquals(2L, segmentedCharArrayOutputStream.available());
+			
+			segmentedCharArrayOutputStream.write('a');
+			
+			assertEquals(1L, segmentedCharArrayOutputStream.available());
+			
+			segmentedCharArrayOutputStream.write('b');
+			
+			assertEquals(0L, segmentedCharArrayOutputStream.available());
+			
+			segmentedCharArrayOutputStream.write('c');
+			
+			assertEquals(1L, segmentedCharArrayOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			assertEquals(2L, segmentedCharArrayOutputStream.capacity());
+			
+			segmentedCharArrayOutputStream.write(new char[] {'a', 'b', 'c', 'd', 'e'});
+			
+			assertEquals(6L, segmentedCharArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream()) {
+			assertEquals(8192, segmentedCharArrayOutputStream.segmentCapacity());
+			assertEquals(8192L, segmentedCharArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(10)) {
+			assertEquals(10, segmentedCharArrayOutputStream.segmentCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new SegmentedCharArrayOutputStream(0));
+	}
+	
+	@Test
+	public void testForEachSegment() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			final List<char[]> segments = new ArrayList<>();
+			final List<Integer> lengths = new ArrayList<>();
+			
+			segmentedCharArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(0, segments.size());
+			
+			segmentedCharArrayOutputStream.write(new char[] {'a', 'b', 'c', 'd', 'e'});
+			segmentedCharArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(3, segments.size());
+			
+			assertArrayEquals(new char[] {'a', 'b'}, segments.get(0));
+			assertArrayEquals(new char[] {'c', 'd'}, segments.get(1));
+			
+			assertEquals('e', segments.get(2)[0]);
+			
+			assertEquals(Integer.valueOf(2), lengths.get(0));
+			assertEquals(Integer.valueOf(2), lengths.get(1));
+			assertEquals(Integer.valueOf(1), lengths.get(2));
+			
+			assertThrows(NullPointerException.class, () -> segmentedCharArrayOutputStream.forEachSegment(null));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			segmentedCharArrayOutputStream.write(new char[] {'a', 'b', 'c', 'd', 'e'});
+			segmentedCharArrayOutputStream.reset();
+			
+			assertEquals(0L, segmentedCharArrayOutputStream.size());
+			assertEquals(6L, segmentedCharArrayOutputStream.capacity());
+			
+			segmentedCharArrayOutputStream.write(new char[] {'e', 'd', 'c'});
+			
+			assertArrayEquals(new char[] {'e', 'd', 'c'}, segmentedCharArrayOutputStream.toCharArray());
+			
+			assertEquals(6L, segmentedCharArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			assertEquals(0L, segmentedCharArrayOutputStream.size());
+			
+			segmentedCharArrayOutputStream.write('a');
+			
+			assertEquals(1L, segmentedCharArrayOutputStream.size());
+			
+			segmentedCharArrayOutputStream.write(new char[] {'b', 'c'});
+			
+			assertEquals(3L, segmentedCharArrayOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToCharArray() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			assertArrayEquals(new char[0], segmentedCharArrayOutputStream.toCharArray());
+			
+			segmentedCharArrayOutputStream.write(new char[] {'a', 'b', 'c', 'd', 'e'});
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c', 'd', 'e'}, segmentedCharArrayOutputStream.toCharArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			segmentedCharArrayOutputStream.write(ByteBuffer.allocate(3 * 2).putChar('a').putChar('b').putChar('c').array());
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c'}, segmentedCharArrayOutputStream.toCharArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedCharArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 2).putChar('a').putChar('b').putChar('c').array();
+			
+			segmentedCharArrayOutputStream.write(bytes, 0, 1);
+			segmentedCharArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			segmentedCharArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c'}, segmentedCharArrayOutputStream.toCharArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedCharArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedCharArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedCharArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedCharArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedCharArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(segmentedCharArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeChar((char)('a' + i));
+				}
+			}
+			
+			final char[] expected = new char[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = (char)('a' + i);
+			}
+			
+			assertArrayEquals(expected, segmentedCharArrayOutputStream.toCharArray());
+		}
+	}
+	
+	@Test
+	public void testWriteChar() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			segmentedCharArrayOutputStream.write('a');
+			segmentedCharArrayOutputStream.write('b');
+			segmentedCharArrayOutputStream.write('c');
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c'}, segmentedCharArrayOutputStream.toCharArray());
+		}
+	}
+	
+	@Test
+	public void testWriteCharArray() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			segmentedCharArrayOutputStream.write(new char[] {'a', 'b', 'c', 'd', 'e'});
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c', 'd', 'e'}, segmentedCharArrayOutputStream.toCharArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedCharArrayOutputStream.write((char[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteCharArrayIntInt() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			segmentedCharArrayOutputStream.write('a');
+			segmentedCharArrayOutputStream.write(new char[] {'a', 'b', 'c', 'd', 'e'}, 1, 4);
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c', 'd', 'e'}, segmentedCharArrayOutputStream.toCharArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedCharArrayOutputStream.write((char[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedCharArrayOutputStream.write(new char[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedCharArrayOutputStream.write(new char[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedCharArrayOutputStream.write(new char[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedCharArrayOutputStream.write(new char[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final SegmentedCharArrayOutputStream segmentedCharArrayOutputStream = new SegmentedCharArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 2).putChar('a').putChar('b').putChar('c').array();
+			
+			for(int i = 0; i < 2 - 1; i++) {
+				segmentedCharArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, segmentedCharArrayOutputStream.size());
+			
+			for(int i = 2 - 1; i < bytes.length; i++) {
+				segmentedCharArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new char[] {'a', 'b', 'c'}, segmentedCharArrayOutputStream.toCharArray());
+			
+			segmentedCharArrayOutputStream.write(bytes[0] & 0xFF);
+			segmentedCharArrayOutputStream.reset();
+			
+			for(int i = 0; i < 2; i++) {
+				segmentedCharArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new char[] {'a'}, segmentedCharArrayOutputStream.toCharArray());
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class SegmentedDoubleArrayOutputStreamUnitTests {
+	public SegmentedDoubleArrayOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			assertEquals(2L, segmentedDoubleArrayOutputStream.available());
+			
+			segmentedDoubleArrayOutputStream.write(1.0D);
+			
+			assertEquals(1L, segmentedDoubleArrayOutputStream.available());
+			
+			segmentedDoubleArrayOutputStream.write(2.0D);
+			
+			assertEquals(0L, segmentedDoubleArrayOutputStream.available());
+			
+			segmentedDoubleArrayOutputStream.write(3.0D);
+			
+			assertEquals(1L, segmentedDoubleArrayOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			assertEquals(2L, segmentedDoubleArrayOutputStream.capacity());
+			
+			segmentedDoubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			assertEquals(6L, segmentedDoubleArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream()) {
+			assertEquals(8192, segmentedDoubleArrayOutputStream.segmentCapacity());
+			assertEquals(8192L, segmentedDoubleArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(10)) {
+			assertEquals(10, segmentedDoubleArrayOutputStream.segmentCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new SegmentedDoubleArrayOutputStream(0));
+	}
+	
+	@Test
+	public void testForEachSegment() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			final List<double[]> segments = new ArrayList<>();
+			final List<Integer> lengths = new ArrayList<>();
+			
+			segmentedDoubleArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(0, segments.size());
+			
+			segmentedDoubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			segmentedDoubleArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(3, segments.size());
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D}, segments.get(0));
+			assertArrayEquals(new double[] {3.0D, 4.0D}, segments.get(1));
+			
+			assertEquals(5.0D, segments.get(2)[0]);
+			
+			assertEquals(Integer.valueOf(2), lengths.get(0));
+			assertEquals(Integer.valueOf(2), lengths.get(1));
+			assertEquals(Integer.valueOf(1), lengths.get(2));
+			
+			assertThrows(NullPointerException.class, () -> segmentedDoubleArrayOutputStream.forEachSegment(null));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			segmentedDoubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			segmentedDoubleArrayOutputStream.reset();
+			
+			assertEquals(0L, segmentedDoubleArrayOutputStream.size());
+			assertEquals(6L, segmentedDoubleArrayOutputStream.capacity());
+			
+			segmentedDoubleArrayOutputStream.write(new double[] {5.0D, 4.0D, 3.0D});
+			
+			assertArrayEquals(new double[] {5.0D, 4.0D, 3.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+			
+			assertEquals(6L, segmentedDoubleArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			assertEquals(0L, segmentedDoubleArrayOutputStream.size());
+			
+			segmentedDoubleArrayOutputStream.write(1.0D);
+			
+			assertEquals(1L, segmentedDoubleArrayOutputStream.size());
+			
+			segmentedDoubleArrayOutputStream.write(new double[] {2.0D, 3.0D});
+			
+			assertEquals(3L, segmentedDoubleArrayOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToDoubleArray() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			assertArrayEquals(new double[0], segmentedDoubleArrayOutputStream.toDoubleArray());
+			
+			segmentedDoubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			segmentedDoubleArrayOutputStream.write(ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array());
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedDoubleArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array();
+			
+			segmentedDoubleArrayOutputStream.write(bytes, 0, 1);
+			segmentedDoubleArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			segmentedDoubleArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedDoubleArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedDoubleArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedDoubleArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedDoubleArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedDoubleArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(segmentedDoubleArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeDouble(i * 0.5D);
+				}
+			}
+			
+			final double[] expected = new double[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 0.5D;
+			}
+			
+			assertArrayEquals(expected, segmentedDoubleArrayOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testWriteDouble() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			segmentedDoubleArrayOutputStream.write(1.0D);
+			segmentedDoubleArrayOutputStream.write(2.0D);
+			segmentedDoubleArrayOutputStream.write(3.0D);
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testWriteDoubleArray() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			segmentedDoubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedDoubleArrayOutputStream.write((double[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteDoubleArrayIntInt() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			segmentedDoubleArrayOutputStream.write(1.0D);
+			segmentedDoubleArrayOutputStream.write(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, 1, 4);
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedDoubleArrayOutputStream.write((double[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedDoubleArrayOutputStream.write(new double[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedDoubleArrayOutputStream.write(new double[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedDoubleArrayOutputStream.write(new double[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedDoubleArrayOutputStream.write(new double[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final SegmentedDoubleArrayOutputStream segmentedDoubleArrayOutputStream = new SegmentedDoubleArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putDouble(1.0D).putDouble(2.0D).putDouble(3.0D).array();
+			
+			for(int i = 0; i < 8 - 1; i++) {
+				segmentedDoubleArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, segmentedDoubleArrayOutputStream.size());
+			
+			for(int i = 8 - 1; i < bytes.length; i++) {
+				segmentedDoubleArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+			
+			segmentedDoubleArrayOutputStream.write(bytes[0] & 0xFF);
+			segmentedDoubleArrayOutputStream.reset();
+			
+			for(int i = 0; i < 8; i++) {
+				segmentedDoubleArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new double[] {1.0D}, segmentedDoubleArrayOutputStream.toDoubleArray());
+		}
+	}
+}
\ No newline at end of file
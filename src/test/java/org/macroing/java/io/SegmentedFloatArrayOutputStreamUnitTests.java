@@ -0,0 +1,280 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class SegmentedFloatArrayOutputStreamUnitTests {
+	public SegmentedFloatArrayOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			assertEquals(2L, segmentedFloatArrayOutputStream.available());
+			
+			segmentedFloatArrayOutputStream.write(1.0F);
+			
+			assertEquals(1L, segmentedFloatArrayOutputStream.available());
+			
+			segmentedFloatArrayOutputStream.write(2.0F);
+			
+			assertEquals(0L, segmentedFloatArrayOutputStream.available());
+			
+			segmentedFloatArrayOutputStream.write(3.0F);
+			
+			assertEquals(1L, segmentedFloatArrayOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			assertEquals(2L, segmentedFloatArrayOutputStream.capacity());
+			
+			segmentedFloatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			assertEquals(6L, segmentedFloatArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream()) {
+			assertEquals(8192, segmentedFloatArrayOutputStream.segmentCapacity());
+			assertEquals(8192L, segmentedFloatArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(10)) {
+			assertEquals(10, segmentedFloatArrayOutputStream.segmentCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new SegmentedFloatArrayOutputStream(0));
+	}
+	
+	@Test
+	public void testForEachSegment() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			final List<float[]> segments = new ArrayList<>();
+			final List<Integer> lengths = new ArrayList<>();
+			
+			segmentedFloatArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(0, segments.size());
+			
+			segmentedFloatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			segmentedFloatArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(3, segments.size());
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F}, segments.get(0));
+			assertArrayEquals(new float[] {3.0F, 4.0F}, segments.get(1));
+			
+			assertEquals(5.0F, segments.get(2)[0]);
+			
+			assertEquals(Integer.valueOf(2), lengths.get(0));
+			assertEquals(Integer.valueOf(2), lengths.get(1));
+			assertEquals(Integer.valueOf(1), lengths.get(2));
+			
+			assertThrows(NullPointerException.class, () -> segmentedFloatArrayOutputStream.forEachSegment(null));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			segmentedFloatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			segmentedFloatArrayOutputStream.reset();
+			
+			assertEquals(0L, segmentedFloatArrayOutputStream.size());
+			assertEquals(6L, segmentedFloatArrayOutputStream.capacity());
+			
+			segmentedFloatArrayOutputStream.write(new float[] {5.0F, 4.0F, 3.0F});
+			
+			assertArrayEquals(new float[] {5.0F, 4.0F, 3.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+			
+			assertEquals(6L, segmentedFloatArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			assertEquals(0L, segmentedFloatArrayOutputStream.size());
+			
+			segmentedFloatArrayOutputStream.write(1.0F);
+			
+			assertEquals(1L, segmentedFloatArrayOutputStream.size());
+			
+			segmentedFloatArrayOutputStream.write(new float[] {2.0F, 3.0F});
+			
+			assertEquals(3L, segmentedFloatArrayOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToFloatArray() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			assertArrayEquals(new float[0], segmentedFloatArrayOutputStream.toFloatArray());
+			
+			segmentedFloatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			segmentedFloatArrayOutputStream.write(ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array());
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedFloatArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array();
+			
+			segmentedFloatArrayOutputStream.write(bytes, 0, 1);
+			segmentedFloatArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			segmentedFloatArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedFloatArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedFloatArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedFloatArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedFloatArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedFloatArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(segmentedFloatArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeFloat(i * 0.5F);
+				}
+			}
+			
+			final float[] expected = new float[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 0.5F;
+			}
+			
+			assertArrayEquals(expected, segmentedFloatArrayOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testWriteFloat() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			segmentedFloatArrayOutputStream.write(1.0F);
+			segmentedFloatArrayOutputStream.write(2.0F);
+			segmentedFloatArrayOutputStream.write(3.0F);
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testWriteFloatArray() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			segmentedFloatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedFloatArrayOutputStream.write((float[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteFloatArrayIntInt() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			segmentedFloatArrayOutputStream.write(1.0F);
+			segmentedFloatArrayOutputStream.write(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, 1, 4);
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedFloatArrayOutputStream.write((float[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedFloatArrayOutputStream.write(new float[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedFloatArrayOutputStream.write(new float[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedFloatArrayOutputStream.write(new float[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedFloatArrayOutputStream.write(new float[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final SegmentedFloatArrayOutputStream segmentedFloatArrayOutputStream = new SegmentedFloatArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putFloat(1.0F).putFloat(2.0F).putFloat(3.0F).array();
+			
+			for(int i = 0; i < 4 - 1; i++) {
+				segmentedFloatArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, segmentedFloatArrayOutputStream.size());
+			
+			for(int i = 4 - 1; i < bytes.length; i++) {
+				segmentedFloatArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+			
+			segmentedFloatArrayOutputStream.write(bytes[0] & 0xFF);
+			segmentedFloatArrayOutputStream.reset();
+			
+			for(int i = 0; i < 4; i++) {
+				segmentedFloatArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new float[] {1.0F}, segmentedFloatArrayOutputStream.toFloatArray());
+		}
+	}
+}
\ No newline at end of file
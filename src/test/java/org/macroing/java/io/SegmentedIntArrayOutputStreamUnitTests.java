@@ -0,0 +1,280 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class SegmentedIntArrayOutputStreamUnitTests {
+	public SegmentedIntArrayOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			assertEquals(2L, segmentedIntArrayOutputStream.available());
+			
+			segmentedIntArrayOutputStream.writeInt(1);
+			
+			assertEquals(1L, segmentedIntArrayOutputStream.available());
+			
+			segmentedIntArrayOutputStream.writeInt(2);
+			
+			assertEquals(0L, segmentedIntArrayOutputStream.available());
+			
+			segmentedIntArrayOutputStream.writeInt(3);
+			
+			assertEquals(1L, segmentedIntArrayOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			assertEquals(2L, segmentedIntArrayOutputStream.capacity());
+			
+			segmentedIntArrayOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			assertEquals(6L, segmentedIntArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream()) {
+			assertEquals(8192, segmentedIntArrayOutputStream.segmentCapacity());
+			assertEquals(8192L, segmentedIntArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(10)) {
+			assertEquals(10, segmentedIntArrayOutputStream.segmentCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new SegmentedIntArrayOutputStream(0));
+	}
+	
+	@Test
+	public void testForEachSegment() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			final List<int[]> segments = new ArrayList<>();
+			final List<Integer> lengths = new ArrayList<>();
+			
+			segmentedIntArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(0, segments.size());
+			
+			segmentedIntArrayOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			segmentedIntArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(3, segments.size());
+			
+			assertArrayEquals(new int[] {1, 2}, segments.get(0));
+			assertArrayEquals(new int[] {3, 4}, segments.get(1));
+			
+			assertEquals(5, segments.get(2)[0]);
+			
+			assertEquals(Integer.valueOf(2), lengths.get(0));
+			assertEquals(Integer.valueOf(2), lengths.get(1));
+			assertEquals(Integer.valueOf(1), lengths.get(2));
+			
+			assertThrows(NullPointerException.class, () -> segmentedIntArrayOutputStream.forEachSegment(null));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			segmentedIntArrayOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			segmentedIntArrayOutputStream.reset();
+			
+			assertEquals(0L, segmentedIntArrayOutputStream.size());
+			assertEquals(6L, segmentedIntArrayOutputStream.capacity());
+			
+			segmentedIntArrayOutputStream.write(new int[] {5, 4, 3});
+			
+			assertArrayEquals(new int[] {5, 4, 3}, segmentedIntArrayOutputStream.toIntArray());
+			
+			assertEquals(6L, segmentedIntArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			assertEquals(0L, segmentedIntArrayOutputStream.size());
+			
+			segmentedIntArrayOutputStream.writeInt(1);
+			
+			assertEquals(1L, segmentedIntArrayOutputStream.size());
+			
+			segmentedIntArrayOutputStream.write(new int[] {2, 3});
+			
+			assertEquals(3L, segmentedIntArrayOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToIntArray() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			assertArrayEquals(new int[0], segmentedIntArrayOutputStream.toIntArray());
+			
+			segmentedIntArrayOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			assertArrayEquals(new int[] {1, 2, 3, 4, 5}, segmentedIntArrayOutputStream.toIntArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			segmentedIntArrayOutputStream.write(ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array());
+			
+			assertArrayEquals(new int[] {1, 2, 3}, segmentedIntArrayOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedIntArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array();
+			
+			segmentedIntArrayOutputStream.write(bytes, 0, 1);
+			segmentedIntArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			segmentedIntArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new int[] {1, 2, 3}, segmentedIntArrayOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedIntArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedIntArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedIntArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedIntArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedIntArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(segmentedIntArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeInt(i * 31);
+				}
+			}
+			
+			final int[] expected = new int[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 31;
+			}
+			
+			assertArrayEquals(expected, segmentedIntArrayOutputStream.toIntArray());
+		}
+	}
+	
+	@Test
+	public void testWriteIntArray() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			segmentedIntArrayOutputStream.write(new int[] {1, 2, 3, 4, 5});
+			
+			assertArrayEquals(new int[] {1, 2, 3, 4, 5}, segmentedIntArrayOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedIntArrayOutputStream.write((int[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteIntArrayIntInt() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			segmentedIntArrayOutputStream.writeInt(1);
+			segmentedIntArrayOutputStream.write(new int[] {1, 2, 3, 4, 5}, 1, 4);
+			
+			assertArrayEquals(new int[] {1, 2, 3, 4, 5}, segmentedIntArrayOutputStream.toIntArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedIntArrayOutputStream.write((int[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedIntArrayOutputStream.write(new int[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedIntArrayOutputStream.write(new int[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedIntArrayOutputStream.write(new int[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedIntArrayOutputStream.write(new int[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 4).putInt(1).putInt(2).putInt(3).array();
+			
+			for(int i = 0; i < 4 - 1; i++) {
+				segmentedIntArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, segmentedIntArrayOutputStream.size());
+			
+			for(int i = 4 - 1; i < bytes.length; i++) {
+				segmentedIntArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new int[] {1, 2, 3}, segmentedIntArrayOutputStream.toIntArray());
+			
+			segmentedIntArrayOutputStream.write(bytes[0] & 0xFF);
+			segmentedIntArrayOutputStream.reset();
+			
+			for(int i = 0; i < 4; i++) {
+				segmentedIntArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new int[] {1}, segmentedIntArrayOutputStream.toIntArray());
+		}
+	}
+	
+	@Test
+	public void testWriteIntInt() {
+		try(final SegmentedIntArrayOutputStream segmentedIntArrayOutputStream = new SegmentedIntArrayOutputStream(2)) {
+			segmentedIntArrayOutputStream.writeInt(1);
+			segmentedIntArrayOutputStream.writeInt(2);
+			segmentedIntArrayOutputStream.writeInt(3);
+			
+			assertArrayEquals(new int[] {1, 2, 3}, segmentedIntArrayOutputStream.toIntArray());
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class SegmentedLongArrayOutputStreamUnitTests {
+	public SegmentedLongArrayOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			assertEquals(2L, segmentedLongArrayOutputStream.available());
+			
+			segmentedLongArrayOutputStream.write(1L);
+			
+			assertEquals(1L, segmentedLongArrayOutputStream.available());
+			
+			segmentedLongArrayOutputStream.write(2L);
+			
+			assertEquals(0L, segmentedLongArrayOutputStream.available());
+			
+			segmentedLongArrayOutputStream.write(3L);
+			
+			assertEquals(1L, segmentedLongArrayOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			assertEquals(2L, segmentedLongArrayOutputStream.capacity());
+			
+			segmentedLongArrayOutputStream.write(new long[] {1L, 2L, 3L, 4L, 5L});
+			
+			assertEquals(6L, segmentedLongArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream()) {
+			assertEquals(8192, segmentedLongArrayOutputStream.segmentCapacity());
+			assertEquals(8192L, segmentedLongArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(10)) {
+			assertEquals(10, segmentedLongArrayOutputStream.segmentCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new SegmentedLongArrayOutputStream(0));
+	}
+	
+	@Test
+	public void testForEachSegment() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			final List<long[]> segments = new ArrayList<>();
+			final List<Integer> lengths = new ArrayList<>();
+			
+			segmentedLongArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(0, segments.size());
+			
+			segmentedLongArrayOutputStream.write(new long[] {1L, 2L, 3L, 4L, 5L});
+			segmentedLongArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(3, segments.size());
+			
+			assertArrayEquals(new long[] {1L, 2L}, segments.get(0));
+			assertArrayEquals(new long[] {3L, 4L}, segments.get(1));
+			
+			assertEquals(5L, segments.get(2)[0]);
+			
+			assertEquals(Integer.valueOf(2), lengths.get(0));
+			assertEquals(Integer.valueOf(2), lengths.get(1));
+			assertEquals(Integer.valueOf(1), lengths.get(2));
+			
+			assertThrows(NullPointerException.class, () -> segmentedLongArrayOutputStream.forEachSegment(null));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			segmentedLongArrayOutputStream.write(new long[] {1L, 2L, 3L, 4L, 5L});
+			segmentedLongArrayOutputStream.reset();
+			
+			assertEquals(0L, segmentedLongArrayOutputStream.size());
+			assertEquals(6L, segmentedLongArrayOutputStream.capacity());
+			
+			segmentedLongArrayOutputStream.write(new long[] {5L, 4L, 3L});
+			
+			assertArrayEquals(new long[] {5L, 4L, 3L}, segmentedLongArrayOutputStream.toLongArray());
+			
+			assertEquals(6L, segmentedLongArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			assertEquals(0L, segmentedLongArrayOutputStream.size());
+			
+			segmentedLongArrayOutputStream.write(1L);
+			
+			assertEquals(1L, segmentedLongArrayOutputStream.size());
+			
+			segmentedLongArrayOutputStream.write(new long[] {2L, 3L});
+			
+			assertEquals(3L, segmentedLongArrayOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToLongArray() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			assertArrayEquals(new long[0], segmentedLongArrayOutputStream.toLongArray());
+			
+			segmentedLongArrayOutputStream.write(new long[] {1L, 2L, 3L, 4L, 5L});
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L, 4L, 5L}, segmentedLongArrayOutputStream.toLongArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			segmentedLongArrayOutputStream.write(ByteBuffer.allocate(3 * 8).putLong(1L).putLong(2L).putLong(3L).array());
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L}, segmentedLongArrayOutputStream.toLongArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedLongArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putLong(1L).putLong(2L).putLong(3L).array();
+			
+			segmentedLongArrayOutputStream.write(bytes, 0, 1);
+			segmentedLongArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			segmentedLongArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L}, segmentedLongArrayOutputStream.toLongArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedLongArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedLongArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedLongArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedLongArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedLongArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(segmentedLongArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeLong(i * 1000000007L);
+				}
+			}
+			
+			final long[] expected = new long[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = i * 1000000007L;
+			}
+			
+			assertArrayEquals(expected, segmentedLongArrayOutputStream.toLongArray());
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 8).putLong(1L).putLong(2L).putLong(3L).array();
+			
+			for(int i = 0; i < 8 - 1; i++) {
+				segmentedLongArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, segmentedLongArrayOutputStream.size());
+			
+			for(int i = 8 - 1; i < bytes.length; i++) {
+				segmentedLongArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L}, segmentedLongArrayOutputStream.toLongArray());
+			
+			segmentedLongArrayOutputStream.write(bytes[0] & 0xFF);
+			segmentedLongArrayOutputStream.reset();
+			
+			for(int i = 0; i < 8; i++) {
+				segmentedLongArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new long[] {1L}, segmentedLongArrayOutputStream.toLongArray());
+		}
+	}
+	
+	@Test
+	public void testWriteLong() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			segmentedLongArrayOutputStream.write(1L);
+			segmentedLongArrayOutputStream.write(2L);
+			segmentedLongArrayOutputStream.write(3L);
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L}, segmentedLongArrayOutputStream.toLongArray());
+		}
+	}
+	
+	@Test
+	public void testWriteLongArray() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			segmentedLongArrayOutputStream.write(new long[] {1L, 2L, 3L, 4L, 5L});
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L, 4L, 5L}, segmentedLongArrayOutputStream.toLongArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedLongArrayOutputStream.write((long[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteLongArrayIntInt() {
+		try(final SegmentedLongArrayOutputStream segmentedLongArrayOutputStream = new SegmentedLongArrayOutputStream(2)) {
+			segmentedLongArrayOutputStream.write(1L);
+			segmentedLongArrayOutputStream.write(new long[] {1L, 2L, 3L, 4L, 5L}, 1, 4);
+			
+			assertArrayEquals(new long[] {1L, 2L, 3L, 4L, 5L}, segmentedLongArrayOutputStream.toLongArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedLongArrayOutputStream.write((long[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedLongArrayOutputStream.write(new long[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedLongArrayOutputStream.write(new long[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedLongArrayOutputStream.write(new long[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedLongArrayOutputStream.write(new long[] {}, +0, +1));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class SegmentedShortArrayOutputStreamUnitTests {
+	public SegmentedShortArrayOutputStreamUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAvailable() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			assertEquals(2L, segmentedShortArrayOutputStream.available());
+			
+			segmentedShortArrayOutputStream.write((short)(1));
+			
+			assertEquals(1L, segmentedShortArrayOutputStream.available());
+			
+			segmentedShortArrayOutputStream.write((short)(2));
+			
+			assertEquals(0L, segmentedShortArrayOutputStream.available());
+			
+			segmentedShortArrayOutputStream.write((short)(3));
+			
+			assertEquals(1L, segmentedShortArrayOutputStream.available());
+		}
+	}
+	
+	@Test
+	public void testCapacity() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			assertEquals(2L, segmentedShortArrayOutputStream.capacity());
+			
+			segmentedShortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)});
+			
+			assertEquals(6L, segmentedShortArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream()) {
+			assertEquals(8192, segmentedShortArrayOutputStream.segmentCapacity());
+			assertEquals(8192L, segmentedShortArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(10)) {
+			assertEquals(10, segmentedShortArrayOutputStream.segmentCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new SegmentedShortArrayOutputStream(0));
+	}
+	
+	@Test
+	public void testForEachSegment() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			final List<short[]> segments = new ArrayList<>();
+			final List<Integer> lengths = new ArrayList<>();
+			
+			segmentedShortArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(0, segments.size());
+			
+			segmentedShortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)});
+			segmentedShortArrayOutputStream.forEachSegment((segment, length) -> {
+				segments.add(segment);
+				lengths.add(Integer.valueOf(length));
+			});
+			
+			assertEquals(3, segments.size());
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2)}, segments.get(0));
+			assertArrayEquals(new short[] {(short)(3), (short)(4)}, segments.get(1));
+			
+			assertEquals((short)(5), segments.get(2)[0]);
+			
+			assertEquals(Integer.valueOf(2), lengths.get(0));
+			assertEquals(Integer.valueOf(2), lengths.get(1));
+			assertEquals(Integer.valueOf(1), lengths.get(2));
+			
+			assertThrows(NullPointerException.class, () -> segmentedShortArrayOutputStream.forEachSegment(null));
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			segmentedShortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)});
+			segmentedShortArrayOutputStream.reset();
+			
+			assertEquals(0L, segmentedShortArrayOutputStream.size());
+			assertEquals(6L, segmentedShortArrayOutputStream.capacity());
+			
+			segmentedShortArrayOutputStream.write(new short[] {(short)(5), (short)(4), (short)(3)});
+			
+			assertArrayEquals(new short[] {(short)(5), (short)(4), (short)(3)}, segmentedShortArrayOutputStream.toShortArray());
+			
+			assertEquals(6L, segmentedShortArrayOutputStream.capacity());
+		}
+	}
+	
+	@Test
+	public void testSize() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			assertEquals(0L, segmentedShortArrayOutputStream.size());
+			
+			segmentedShortArrayOutputStream.write((short)(1));
+			
+			assertEquals(1L, segmentedShortArrayOutputStream.size());
+			
+			segmentedShortArrayOutputStream.write(new short[] {(short)(2), (short)(3)});
+			
+			assertEquals(3L, segmentedShortArrayOutputStream.size());
+		}
+	}
+	
+	@Test
+	public void testToShortArray() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			assertArrayEquals(new short[0], segmentedShortArrayOutputStream.toShortArray());
+			
+			segmentedShortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)});
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)}, segmentedShortArrayOutputStream.toShortArray());
+		}
+	}
+	
+	@Test
+	public void testWriteByteArray() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			segmentedShortArrayOutputStream.write(ByteBuffer.allocate(3 * 2).putShort((short)(1)).putShort((short)(2)).putShort((short)(3)).array());
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, segmentedShortArrayOutputStream.toShortArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedShortArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 2).putShort((short)(1)).putShort((short)(2)).putShort((short)(3)).array();
+			
+			segmentedShortArrayOutputStream.write(bytes, 0, 1);
+			segmentedShortArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			segmentedShortArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, segmentedShortArrayOutputStream.toShortArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedShortArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedShortArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedShortArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedShortArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedShortArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(segmentedShortArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeShort((short)(i * 7));
+				}
+			}
+			
+			final short[] expected = new short[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = (short)(i * 7);
+			}
+			
+			assertArrayEquals(expected, segmentedShortArrayOutputStream.toShortArray());
+		}
+	}
+	
+	@Test
+	public void testWriteInt() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 2).putShort((short)(1)).putShort((short)(2)).putShort((short)(3)).array();
+			
+			for(int i = 0; i < 2 - 1; i++) {
+				segmentedShortArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0L, segmentedShortArrayOutputStream.size());
+			
+			for(int i = 2 - 1; i < bytes.length; i++) {
+				segmentedShortArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, segmentedShortArrayOutputStream.toShortArray());
+			
+			segmentedShortArrayOutputStream.write(bytes[0] & 0xFF);
+			segmentedShortArrayOutputStream.reset();
+			
+			for(int i = 0; i < 2; i++) {
+				segmentedShortArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new short[] {(short)(1)}, segmentedShortArrayOutputStream.toShortArray());
+		}
+	}
+	
+	@Test
+	public void testWriteShort() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			segmentedShortArrayOutputStream.write((short)(1));
+			segmentedShortArrayOutputStream.write((short)(2));
+			segmentedShortArrayOutputStream.write((short)(3));
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, segmentedShortArrayOutputStream.toShortArray());
+		}
+	}
+	
+	@Test
+	public void testWriteShortArray() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			segmentedShortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)});
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)}, segmentedShortArrayOutputStream.toShortArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedShortArrayOutputStream.write((short[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteShortArrayIntInt() {
+		try(final SegmentedShortArrayOutputStream segmentedShortArrayOutputStream = new SegmentedShortArrayOutputStream(2)) {
+			segmentedShortArrayOutputStream.write((short)(1));
+			segmentedShortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)}, 1, 4);
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5)}, segmentedShortArrayOutputStream.toShortArray());
+			
+			assertThrows(NullPointerException.class, () -> segmentedShortArrayOutputStream.write((short[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedShortArrayOutputStream.write(new short[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedShortArrayOutputStream.write(new short[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedShortArrayOutputStream.write(new short[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> segmentedShortArrayOutputStream.write(new short[] {}, +0, +1));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class ShortArrayBuilderUnitTests {
+	public ShortArrayBuilderUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAppendShort() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		assertSame(shortArrayBuilder, shortArrayBuilder.append((short)(1)));
+		assertSame(shortArrayBuilder, shortArrayBuilder.append((short)(2)));
+		assertSame(shortArrayBuilder, shortArrayBuilder.append((short)(3)));
+		
+		assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, shortArrayBuilder.toShortArray());
+	}
+	
+	@Test
+	public void testAppendShortArray() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		assertSame(shortArrayBuilder, shortArrayBuilder.append(new short[] {(short)(1), (short)(2), (short)(3)}));
+		
+		assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, shortArrayBuilder.toShortArray());
+		
+		assertThrows(NullPointerException.class, () -> shortArrayBuilder.append((short[])(null)));
+	}
+	
+	@Test
+	public void testAppendShortArrayIntInt() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		assertSame(shortArrayBuilder, shortArrayBuilder.append(new short[] {(short)(4), (short)(1), (short)(2), (short)(3)}, 1, 3));
+		
+		assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, shortArrayBuilder.toShortArray());
+		
+		assertThrows(NullPointerException.class, () -> shortArrayBuilder.append((short[])(null), 0, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> shortArrayBuilder.append(new short[] {}, -1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> shortArrayBuilder.append(new short[] {}, +1, +0));
+		assertThrows(IndexOutOfBoundsException.class, () -> shortArrayBuilder.append(new short[] {}, +0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> shortArrayBuilder.append(new short[] {}, +0, +1));
+	}
+	
+	@Test
+	public void testArray() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(4);
+		
+		shortArrayBuilder.append(new short[] {(short)(1), (short)(2), (short)(3)});
+		
+		final short[] array = shortArrayBuilder.array();
+		
+		assertEquals(4, array.length);
+		
+		assertSame(array, shortArrayBuilder.array());
+		
+		array[0] = (short)(4);
+		
+		assertArrayEquals(new short[] {(short)(4), (short)(2), (short)(3)}, shortArrayBuilder.toShortArray());
+	}
+	
+	@Test
+	public void testAvailable() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		assertEquals(0, shortArrayBuilder.available());
+		
+		shortArrayBuilder.append((short)(1));
+		
+		assertEquals(0, shortArrayBuilder.available());
+		
+		shortArrayBuilder.append((short)(2));
+		
+		assertEquals(0, shortArrayBuilder.available());
+		
+		shortArrayBuilder.append((short)(3));
+		
+		assertEquals(1, shortArrayBuilder.available());
+	}
+	
+	@Test
+	public void testCapacity() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		assertEquals(0, shortArrayBuilder.capacity());
+		
+		shortArrayBuilder.append((short)(1));
+		
+		assertEquals(1, shortArrayBuilder.capacity());
+		
+		shortArrayBuilder.append((short)(2));
+		
+		assertEquals(2, shortArrayBuilder.capacity());
+		
+		shortArrayBuilder.append((short)(3));
+		
+		assertEquals(4, shortArrayBuilder.capacity());
+		
+		shortArrayBuilder.append((short)(4));
+		
+		assertEquals(4, shortArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder();
+		
+		assertEquals(32, shortArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(10);
+		
+		assertEquals(10, shortArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> new ShortArrayBuilder(-1));
+	}
+	
+	@Test
+	public void testEnsureCapacity() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		shortArrayBuilder.ensureCapacity(0);
+		
+		assertEquals(0, shortArrayBuilder.capacity());
+		
+		shortArrayBuilder.ensureCapacity(10);
+		
+		assertEquals(10, shortArrayBuilder.capacity());
+		
+		shortArrayBuilder.ensureCapacity(5);
+		
+		assertEquals(10, shortArrayBuilder.capacity());
+		
+		shortArrayBuilder.ensureCapacity(11);
+		
+		assertEquals(20, shortArrayBuilder.capacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> shortArrayBuilder.ensureCapacity(-1));
+	}
+	
+	@Test
+	public void testOutOfMemoryError() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		assertThrows(OutOfMemoryError.class, () -> shortArrayBuilder.ensureCapacity(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testReset() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		shortArrayBuilder.append(new short[] {(short)(1), (short)(2), (short)(3)});
+		
+		assertEquals(3, shortArrayBuilder.size());
+		
+		shortArrayBuilder.reset();
+		
+		assertEquals(0, shortArrayBuilder.size());
+		assertEquals(3, shortArrayBuilder.capacity());
+	}
+	
+	@Test
+	public void testSize() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		assertEquals(0, shortArrayBuilder.size());
+		
+		shortArrayBuilder.append((short)(1));
+		
+		assertEquals(1, shortArrayBuilder.size());
+		
+		shortArrayBuilder.append((short)(2));
+		
+		assertEquals(2, shortArrayBuilder.size());
+		
+		shortArrayBuilder.append((short)(3));
+		
+		assertEquals(3, shortArrayBuilder.size());
+	}
+	
+	@Test
+	public void testToShortArray() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(0);
+		
+		shortArrayBuilder.append(new short[] {(short)(1), (short)(2), (short)(3)});
+		
+		assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, shortArrayBuilder.toShortArray());
+	}
+	
+	@Test
+	public void testTrimToSize() {
+		final ShortArrayBuilder shortArrayBuilder = new ShortArrayBuilder(10);
+		
+		shortArrayBuilder.append(new short[] {(short)(1), (short)(2), (short)(3)});
+		shortArrayBuilder.trimToSize();
+		
+		assertEquals(3, shortArrayBuilder.capacity());
+		
+		assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, shortArrayBuilder.array());
+		
+		shortArrayBuilder.trimToSize();
+		
+		assertEquals(3, shortArrayBuilder.capacity());
+	}
+}
\ No newline at end of file
@@ -21,6 +21,21 @@ package org.macroing.java.io;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +47,27 @@ public final class ShortArrayOutputStreamUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testAsReadOnlyBuffer() {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(4)) {
+			shortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3)});
+			
+			final ShortBuffer shortBuffer = shortArrayOutputStream.asReadOnlyBuffer();
+			
+			assertTrue(shortBuffer.isReadOnly());
+			
+			assertEquals(0, shortBuffer.position());
+			assertEquals(3, shortBuffer.limit());
+			assertEquals(3, shortBuffer.capacity());
+			
+			assertEquals((short)(1), shortBuffer.get(0));
+			assertEquals((short)(2), shortBuffer.get(1));
+			assertEquals((short)(3), shortBuffer.get(2));
+			
+			assertThrows(ReadOnlyBufferException.class, () -> shortBuffer.put(0, (short)(1)));
+		}
+	}
+	
 	@Test
 	public void testAvailable() {
 		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
@@ -202,6 +238,55 @@ public final class ShortArrayOutputStreamUnitTests {
 		}
 	}
 	
+	@Test
+	public void testWriteByteArray() {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
+			shortArrayOutputStream.write(ByteBuffer.allocate(3 * 2).putShort((short)(1)).putShort((short)(2)).putShort((short)(3)).array());
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, shortArrayOutputStream.toShortArray());
+			
+			assertThrows(NullPointerException.class, () -> shortArrayOutputStream.write((byte[])(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntInt() {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
+			final byte[] bytes = ByteBuffer.allocate(3 * 2).putShort((short)(1)).putShort((short)(2)).putShort((short)(3)).array();
+			
+			shortArrayOutputStream.write(bytes, 0, 1);
+			shortArrayOutputStream.write(bytes, 1, bytes.length - 2);
+			shortArrayOutputStream.write(bytes, bytes.length - 1, 1);
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, shortArrayOutputStream.toShortArray());
+			
+			assertThrows(NullPointerException.class, () -> shortArrayOutputStream.write((byte[])(null), 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> shortArrayOutputStream.write(new byte[] {}, -1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> shortArrayOutputStream.write(new byte[] {}, +1, +0));
+			assertThrows(IndexOutOfBoundsException.class, () -> shortArrayOutputStream.write(new byte[] {}, +0, -1));
+			assertThrows(IndexOutOfBoundsException.class, () -> shortArrayOutputStream.write(new byte[] {}, +0, +1));
+		}
+	}
+	
+	@Test
+	public void testWriteByteArrayIntIntDataOutputStream() throws IOException {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
+			try(final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(shortArrayOutputStream, 7))) {
+				for(int i = 0; i < 100; i++) {
+					dataOutputStream.writeShort((short)(i * 7));
+				}
+			}
+			
+			final short[] expected = new short[100];
+			
+			for(int i = 0; i < 100; i++) {
+				expected[i] = (short)(i * 7);
+			}
+			
+			assertArrayEquals(expected, shortArrayOutputStream.toShortArray());
+		}
+	}
+	
 	@Test
 	public void testWriteShort() {
 		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
@@ -242,11 +327,103 @@ public final class ShortArrayOutputStreamUnitTests {
 	@Test
 	public void testWriteInt() {
 		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
-			shortArrayOutputStream.write(0);
-			shortArrayOutputStream.write(1);
-			shortArrayOutputStream.write(2);
+			final byte[] bytes = ByteBuffer.allocate(3 * 2).putShort((short)(1)).putShort((short)(2)).putShort((short)(3)).array();
+			
+			for(int i = 0; i < 2 - 1; i++) {
+				shortArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertEquals(0, shortArrayOutputStream.size());
+			
+			for(int i = 2 - 1; i < bytes.length; i++) {
+				shortArrayOutputStream.write(bytes[i] & 0xFF);
+			}
+			
+			assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3)}, shortArrayOutputStream.toShortArray());
+			
+			shortArrayOutputStream.write(bytes[0] & 0xFF);
+			shortArrayOutputStream.reset();
+			
+			for(int i = 0; i < 2; i++) {
+				shortArrayOutputStream.write(bytes[i] | 0xFFFFFF00);
+			}
+			
+			assertArrayEquals(new short[] {(short)(1)}, shortArrayOutputStream.toShortArray());
+		}
+	}
+	
+	@Test
+	public void testWriteToByteBuffer() {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
+			shortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3)});
+			
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(1 + 3 * 2).order(ByteOrder.LITTLE_ENDIAN);
+			byteBuffer.put((byte)(0));
+			
+			shortArrayOutputStream.writeTo(byteBuffer);
+			
+			assertEquals(1 + 3 * 2, byteBuffer.position());
+			
+			assertEquals((short)(1), byteBuffer.getShort(1 + 0 * 2));
+			assertEquals((short)(2), byteBuffer.getShort(1 + 1 * 2));
+			assertEquals((short)(3), byteBuffer.getShort(1 + 2 * 2));
+			
+			assertThrows(BufferOverflowException.class, () -> shortArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 2 - 1)));
+			assertThrows(NullPointerException.class, () -> shortArrayOutputStream.writeTo((ByteBuffer)(null)));
+			assertThrows(ReadOnlyBufferException.class, () -> shortArrayOutputStream.writeTo(ByteBuffer.allocate(3 * 2).asReadOnlyBuffer()));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannel() {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
+			shortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3)});
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			shortArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream));
+			
+			assertArrayEquals(ByteBuffer.allocate(3 * 2).order(ByteOrder.BIG_ENDIAN).putShort((short)(1)).putShort((short)(2)).putShort((short)(3)).array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> shortArrayOutputStream.writeTo((WritableByteChannel)(null)));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelByteOrder() {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
+			final ByteBuffer byteBuffer = ByteBuffer.allocate(100000 * 2).order(ByteOrder.LITTLE_ENDIAN);
+			
+			for(int i = 0; i < 100000; i++) {
+				final short value = (short)(i);
+				
+				shortArrayOutputStream.write(value);
+				
+				byteBuffer.putShort(value);
+			}
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			shortArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), ByteOrder.LITTLE_ENDIAN);
+			
+			assertArrayEquals(byteBuffer.array(), byteArrayOutputStream.toByteArray());
+			
+			assertThrows(NullPointerException.class, () -> shortArrayOutputStream.writeTo(null, ByteOrder.LITTLE_ENDIAN));
+			assertThrows(NullPointerException.class, () -> shortArrayOutputStream.writeTo(Channels.newChannel(byteArrayOutputStream), null));
+		}
+	}
+	
+	@Test
+	public void testWriteToWritableByteChannelIOException() {
+		try(final ShortArrayOutputStream shortArrayOutputStream = new ShortArrayOutputStream(0)) {
+			shortArrayOutputStream.write(new short[] {(short)(1), (short)(2), (short)(3)});
 			
-			assertArrayEquals(new short[] {0, 1, 2}, shortArrayOutputStream.toShortArray());
+			assertThrows(UncheckedIOException.class, () -> shortArrayOutputStream.writeTo(Channels.newChannel(new OutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					throw new IOException();
+				}
+			})));
 		}
 	}
 }
\ No newline at end of file
@@ -21,8 +21,15 @@ package org.macroing.java.lang;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.stream.DoubleStream;
+
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("static-method")
@@ -39,6 +46,11 @@ public final class DoublesUnitTests {
 		assertEquals(1.0D, Doubles.abs(-1.0D));
 	}
 	
+	@Test
+	public void testAbsDoubleArrayDoubleArray() {
+		assertArrayEquals(new double[] {2.5D, 0.0D, 1.0D, 2.5D}, Doubles.abs(new double[] {-2.5D, -0.0D, 1.0D, 2.5D}, new double[4]));
+	}
+	
 	@Test
 	public void testAcos() {
 		assertEquals(Math.acos(0.5D), Doubles.acos(0.5D));
@@ -50,6 +62,45 @@ public final class DoublesUnitTests {
 		assertEquals(1.0D, Doubles.addLessThan(1.0D, 0.0D, 1.0D));
 	}
 	
+	@Test
+	public void testArrayOperators() {
+		final List<BinaryOperator<double[]>> operators = Arrays.asList(
+			(src, dst) -> Doubles.abs(src, dst),
+			(src, dst) -> Doubles.cosFast(src, dst),
+			(src, dst) -> Doubles.erf(src, dst),
+			(src, dst) -> Doubles.erfInv(src, dst),
+			(src, dst) -> Doubles.expFast(src, dst),
+			(src, dst) -> Doubles.lerp(src, src, 0.25D, dst),
+			(src, dst) -> Doubles.logFast(src, dst),
+			(src, dst) -> Doubles.pow2(src, dst),
+			(src, dst) -> Doubles.pow5(src, dst),
+			(src, dst) -> Doubles.saturate(src, dst),
+			(src, dst) -> Doubles.saturate(src, 0.25D, 0.75D, dst),
+			(src, dst) -> Doubles.sinFast(src, dst),
+			(src, dst) -> Doubles.smoothstep(src, 0.25D, 0.75D, dst),
+			(src, dst) -> Doubles.sqrt(src, dst));
+		
+		final List<DoubleArrayRangeOperator> rangeOperators = Arrays.asList(
+			(src, dst, offset, length) -> Doubles.abs(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.cosFast(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.erf(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.erfInv(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.expFast(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.lerp(src, src, 0.25D, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.logFast(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.pow2(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.pow5(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.saturate(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.saturate(src, 0.25D, 0.75D, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.sinFast(src, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.smoothstep(src, 0.25D, 0.75D, dst, offset, length),
+			(src, dst, offset, length) -> Doubles.sqrt(src, dst, offset, length));
+		
+		for(int i = 0; i < operators.size(); i++) {
+			doTestArrayOperator(operators.get(i), rangeOperators.get(i));
+		}
+	}
+	
 	@Test
 	public void testAsin() {
 		assertEquals(Math.asin(0.5D), Doubles.asin(0.5D));
@@ -93,6 +144,37 @@ public final class DoublesUnitTests {
 		assertEquals(Math.cos(0.5D), Doubles.cos(0.5D));
 	}
 	
+	@Test
+	public void testCosFast() {
+		for(int i = 0; i <= 1000000; i++) {
+			final double angleRadians = -1073741824.0D + 2147483648.0D * i / 1000000.0D;
+			
+			assertTrue(Math.abs(Doubles.cosFast(angleRadians) - StrictMath.cos(angleRadians)) <= Math.ulp(1.0D));
+		}
+		
+		assertEquals(1.0D, Doubles.cosFast(0.0D));
+		assertEquals(Math.cos(1.0E10D), Doubles.cosFast(1.0E10D));
+		
+		assertTrue(Doubles.isNaN(Doubles.cosFast(Double.NaN)));
+		assertTrue(Doubles.isNaN(Doubles.cosFast(Double.POSITIVE_INFINITY)));
+	}
+	
+	@Test
+	public void testCosFastDoubleArrayDoubleArray() {
+		final double[] src = new double[] {-2.5D, 0.0D, 1.0D, 3.0D};
+		final double[] dst = Doubles.cosFast(src, new double[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Doubles.cosFast(src[i]), dst[i]);
+		}
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertTrue(Math.abs(dst[i] - StrictMath.cos(src[i])) <= Math.ulp(1.0D));
+		}
+		
+		assertEquals(1.0D, dst[1]);
+	}
+	
 	@Test
 	public void testEqualsDoubleDouble() {
 		assertTrue(Doubles.equals(1.0D, 1.0D));
@@ -121,6 +203,18 @@ public final class DoublesUnitTests {
 		assertEquals(-0.9953221395812188000D, Doubles.erf(-2.00D));
 	}
 	
+	@Test
+	public void testErfDoubleArrayDoubleArray() {
+		final double[] src = new double[] {-2.0D, -0.25D, 0.25D, 2.0D};
+		final double[] dst = Doubles.erf(src, new double[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Doubles.erf(src[i]), dst[i]);
+		}
+		
+		assertEquals(+0.2763262613535272000D, dst[2]);
+	}
+	
 	@Test
 	public void testErfInv() {
 		assertEquals(+3.12341301695557450D, Doubles.erfInv(+2.00D));
@@ -137,11 +231,54 @@ public final class DoublesUnitTests {
 		assertEquals(-3.12341301695557450D, Doubles.erfInv(-2.00D));
 	}
 	
+	@Test
+	public void testErfInvDoubleArrayDoubleArray() {
+		final double[] src = new double[] {-0.9D, -0.25D, 0.0D, 0.25D, 0.9D};
+		final double[] dst = Doubles.erfInv(src, new double[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Doubles.erfInv(src[i]), dst[i]);
+		}
+		
+		assertEquals(+0.00000000000000000D, dst[2]);
+		assertEquals(+0.22531207402846837D, dst[3]);
+	}
+	
 	@Test
 	public void testExp() {
 		assertEquals(Math.exp(0.5D), Doubles.exp(0.5D));
 	}
 	
+	@Test
+	public void testExpFast() {
+		for(int i = 0; i <= 1000000; i++) {
+			final double exponent = -708.0D + 1417.5D * i / 1000000.0D;
+			final double expected = StrictMath.exp(exponent);
+			
+			assertTrue(Math.abs(Doubles.expFast(exponent) - expected) <= 2.0D * Math.ulp(expected));
+		}
+		
+		assertEquals(1.0D, Doubles.expFast(0.0D));
+		assertEquals(0.0D, Doubles.expFast(-800.0D));
+		assertEquals(0.0D, Doubles.expFast(Double.NEGATIVE_INFINITY));
+		assertEquals(Double.POSITIVE_INFINITY, Doubles.expFast(710.0D));
+		assertEquals(Double.POSITIVE_INFINITY, Doubles.expFast(Double.POSITIVE_INFINITY));
+		
+		assertTrue(Doubles.isNaN(Doubles.expFast(Double.NaN)));
+	}
+	
+	@Test
+	public void testExpFastDoubleArrayDoubleArray() {
+		final double[] src = new double[] {-2.5D, 0.0D, 1.0D, 10.0D};
+		final double[] dst = Doubles.expFast(src, new double[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Doubles.expFast(src[i]), dst[i]);
+		}
+		
+		assertEquals(1.0D, dst[1]);
+	}
+	
 	@Test
 	public void testFiniteOrDefault() {
 		assertEquals(0.0D, Doubles.finiteOrDefault(Double.NaN, 0.0D));
@@ -227,11 +364,54 @@ public final class DoublesUnitTests {
 		assertEquals(3.0D, Doubles.lerp(1.0D, 2.0D, +2.0D));
 	}
 	
+	@Test
+	public void testLerpDoubleArrayDoubleArrayDoubleDoubleArray() {
+		final double[] a = new double[] {1.0D, 0.0D, -2.0D};
+		final double[] b = new double[] {2.0D, 4.0D, 2.0D};
+		
+		assertArrayEquals(new double[] {1.25D, 1.0D, -1.0D}, Doubles.lerp(a, b, 0.25D, new double[3]));
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.lerp(a, new double[2], 0.25D, new double[3]));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.lerp(a, new double[2], 0.25D, new double[3], 0, 3));
+		assertThrows(NullPointerException.class, () -> Doubles.lerp(a, null, 0.25D, new double[3]));
+		assertThrows(NullPointerException.class, () -> Doubles.lerp(a, null, 0.25D, new double[3], 0, 3));
+	}
+	
 	@Test
 	public void testLog() {
 		assertEquals(Math.log(0.5D), Doubles.log(0.5D));
 	}
 	
+	@Test
+	public void testLogFast() {
+		for(long bits = 1L; bits < 0x7FF0000000000000L; bits += 0x0000123456789ABCL) {
+			final double value = Double.longBitsToDouble(bits);
+			final double expected = StrictMath.log(value);
+			
+			assertTrue(Math.abs(Doubles.logFast(value) - expected) <= 2.0D * Math.ulp(expected));
+		}
+		
+		assertEquals(0.0D, Doubles.logFast(1.0D));
+		assertEquals(Double.NEGATIVE_INFINITY, Doubles.logFast(0.0D));
+		assertEquals(Double.NEGATIVE_INFINITY, Doubles.logFast(-0.0D));
+		assertEquals(Double.POSITIVE_INFINITY, Doubles.logFast(Double.POSITIVE_INFINITY));
+		
+		assertTrue(Doubles.isNaN(Doubles.logFast(-1.0D)));
+		assertTrue(Doubles.isNaN(Doubles.logFast(Double.NaN)));
+	}
+	
+	@Test
+	public void testLogFastDoubleArrayDoubleArray() {
+		final double[] src = new double[] {0.125D, 1.0D, 2.5D, 1000.0D};
+		final double[] dst = Doubles.logFast(src, new double[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Doubles.logFast(src[i]), dst[i]);
+		}
+		
+		assertEquals(0.0D, dst[1]);
+	}
+	
 	@Test
 	public void testMaxDoubleDouble() {
 		assertEquals(2.0D, Doubles.max(1.0D, 2.0D));
@@ -320,11 +500,21 @@ public final class DoublesUnitTests {
 		assertEquals(4.0D, Doubles.pow2(2.0D));
 	}
 	
+	@Test
+	public void testPow2DoubleArrayDoubleArray() {
+		assertArrayEquals(new double[] {9.0D, 0.25D, 4.0D}, Doubles.pow2(new double[] {-3.0D, 0.5D, 2.0D}, new double[3]));
+	}
+	
 	@Test
 	public void testPow5() {
 		assertEquals(32.0D, Doubles.pow5(2.0D));
 	}
 	
+	@Test
+	public void testPow5DoubleArrayDoubleArray() {
+		assertArrayEquals(new double[] {-32.0D, 0.03125D, 32.0D}, Doubles.pow5(new double[] {-2.0D, 0.5D, 2.0D}, new double[3]));
+	}
+	
 	@Test
 	public void testPowR() {
 		assertEquals( 1.0D, Doubles.powR(2.0D, 0));
@@ -350,6 +540,16 @@ public final class DoublesUnitTests {
 		assertEquals(1.0D, Doubles.saturate(+2.0D));
 	}
 	
+	@Test
+	public void testSaturateDoubleArrayDoubleArray() {
+		assertArrayEquals(new double[] {0.0D, 0.0D, 0.5D, 1.0D, 1.0D}, Doubles.saturate(new double[] {-1.0D, 0.0D, 0.5D, 1.0D, 2.0D}, new double[5]));
+	}
+	
+	@Test
+	public void testSaturateDoubleArrayDoubleDoubleDoubleArray() {
+		assertArrayEquals(new double[] {-0.5D, 0.25D, 0.5D}, Doubles.saturate(new double[] {-1.0D, 0.25D, 2.0D}, 0.5D, -0.5D, new double[3]));
+	}
+	
 	@Test
 	public void testSaturateDoubleDoubleDouble() {
 		assertEquals(2.0D, Doubles.saturate(1.0D, 2.0D, 3.0D));
@@ -367,6 +567,38 @@ public final class DoublesUnitTests {
 		assertEquals(Math.sin(0.5D), Doubles.sin(0.5D));
 	}
 	
+	@Test
+	public void testSinFast() {
+		for(int i = 0; i <= 1000000; i++) {
+			final double angleRadians = -1073741824.0D + 2147483648.0D * i / 1000000.0D;
+			
+			assertTrue(Math.abs(Doubles.sinFast(angleRadians) - StrictMath.sin(angleRadians)) <= Math.ulp(1.0D));
+		}
+		
+		assertEquals(+0.0D, Doubles.sinFast(+0.0D));
+		assertEquals(-0.0D, Doubles.sinFast(-0.0D));
+		assertEquals(Math.sin(1.0E10D), Doubles.sinFast(1.0E10D));
+		
+		assertTrue(Doubles.isNaN(Doubles.sinFast(Double.NaN)));
+		assertTrue(Doubles.isNaN(Doubles.sinFast(Double.NEGATIVE_INFINITY)));
+	}
+	
+	@Test
+	public void testSinFastDoubleArrayDoubleArray() {
+		final double[] src = new double[] {-2.5D, 0.0D, 1.0D, 3.0D};
+		final double[] dst = Doubles.sinFast(src, new double[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Doubles.sinFast(src[i]), dst[i]);
+		}
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertTrue(Math.abs(dst[i] - StrictMath.sin(src[i])) <= Math.ulp(1.0D));
+		}
+		
+		assertEquals(0.0D, dst[1]);
+	}
+	
 	@Test
 	public void testSinh() {
 		assertEquals(Math.sinh(0.5D), Doubles.sinh(0.5D));
@@ -382,12 +614,89 @@ public final class DoublesUnitTests {
 		assertEquals(+1.00000D, Doubles.smoothstep(300.0D, 100.0D, 200.0D));
 	}
 	
+	@Test
+	public void testSmoothstepDoubleArrayDoubleDoubleDoubleArray() {
+		assertArrayEquals(new double[] {0.0D, 0.0D, 0.15625D, 0.5D, 1.0D, 1.0D}, Doubles.smoothstep(new double[] {0.0D, 100.0D, 125.0D, 150.0D, 200.0D, 300.0D}, 100.0D, 200.0D, new double[6]));
+	}
+	
 	@Test
 	public void testSolveQuadraticSystem() {
 		assertArrayEquals(new double[] {-2.0D, -0.3333333333333333D}, Doubles.solveQuadraticSystem(3.0D, +7.0D, 2.0D));
 		assertArrayEquals(new double[] {+0.3333333333333333D, +2.0D}, Doubles.solveQuadraticSystem(3.0D, -7.0D, 2.0D));
 		assertArrayEquals(new double[] {-1.0D, -1.0D}, Doubles.solveQuadraticSystem(1.0D, 2.0D, 1.0D));
 		assertArrayEquals(new double[] {Double.NaN, Double.NaN}, Doubles.solveQuadraticSystem(1.0D, 1.0D, 1.0D));
+	}	
+	@Test
+	public void testSolveQuadraticSystemDoubleDoubleDoubleDoubleArray() {
+		final double[] result = new double[2];
+		
+		assertSame(result, Doubles.solveQuadraticSystem(3.0D, +7.0D, 2.0D, result));
+		assertArrayEquals(Doubles.solveQuadraticSystem(3.0D, +7.0D, 2.0D), result);
+		
+		assertSame(result, Doubles.solveQuadraticSystem(1.0D, 1.0D, 1.0D, result));
+		assertArrayEquals(new double[] {Double.NaN, Double.NaN}, result);
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystem(1.0D, 2.0D, 1.0D, new double[1]));
+		assertThrows(NullPointerException.class, () -> Doubles.solveQuadraticSystem(1.0D, 2.0D, 1.0D, null));
+	}
+	
+	@Test
+	public void testSolveQuadraticSystemDoubleDoubleDoubleDoubleArrayInt() {
+		final double[] result = new double[] {5.0D, 5.0D, 5.0D, 5.0D};
+		
+		assertSame(result, Doubles.solveQuadraticSystem(3.0D, -7.0D, 2.0D, result, 1));
+		assertArrayEquals(new double[] {5.0D, Doubles.solveQuadraticSystem(3.0D, -7.0D, 2.0D)[0], Doubles.solveQuadraticSystem(3.0D, -7.0D, 2.0D)[1], 5.0D}, result);
+		
+		assertSame(result, Doubles.solveQuadraticSystem(1.0D, 2.0D, 1.0D, result, 2));
+		assertArrayEquals(new double[] {5.0D, Doubles.solveQuadraticSystem(3.0D, -7.0D, 2.0D)[0], -1.0D, -1.0D}, result);
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystem(1.0D, 2.0D, 1.0D, new double[4], -1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystem(1.0D, 2.0D, 1.0D, new double[4], 3));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystem(1.0D, 2.0D, 1.0D, new double[4], Integer.MAX_VALUE));
+		assertThrows(NullPointerException.class, () -> Doubles.solveQuadraticSystem(1.0D, 2.0D, 1.0D, null, 0));
+	}
+	
+	@Test
+	public void testSolveQuadraticSystemsDoubleArrayDoubleArrayDoubleArrayDoubleArray() {
+		final double[] a = new double[] {3.0D, 3.0D, 1.0D, 1.0D};
+		final double[] b = new double[] {+7.0D, -7.0D, 2.0D, 1.0D};
+		final double[] c = new double[] {2.0D, 2.0D, 1.0D, 1.0D};
+		
+		final double[] result = new double[8];
+		
+		assertSame(result, Doubles.solveQuadraticSystems(a, b, c, result));
+		
+		for(int i = 0; i < a.length; i++) {
+			assertArrayEquals(Doubles.solveQuadraticSystem(a[i], b[i], c[i]), new double[] {result[2 * i], result[2 * i + 1]});
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystems(a, b, c, new double[7]));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystems(a, new double[3], c, result));
+		assertThrows(NullPointerException.class, () -> Doubles.solveQuadraticSystems(null, b, c, result));
+		assertThrows(NullPointerException.class, () -> Doubles.solveQuadraticSystems(a, b, c, null));
+	}
+	
+	@Test
+	public void testSolveQuadraticSystemsDoubleArrayDoubleArrayDoubleArrayDoubleArrayIntInt() {
+		final double[] a = new double[] {3.0D, 3.0D, 1.0D, 1.0D};
+		final double[] b = new double[] {+7.0D, -7.0D, 2.0D, 1.0D};
+		final double[] c = new double[] {2.0D, 2.0D, 1.0D, 1.0D};
+		
+		final double[] result = new double[] {5.0D, 5.0D, 5.0D, 5.0D, 5.0D, 5.0D, 5.0D, 5.0D};
+		
+		assertSame(result, Doubles.solveQuadraticSystems(a, b, c, result, 1, 2));
+		
+		assertArrayEquals(new double[] {5.0D, 5.0D}, new double[] {result[0], result[1]});
+		assertArrayEquals(Doubles.solveQuadraticSystem(a[1], b[1], c[1]), new double[] {result[2], result[3]});
+		assertArrayEquals(Doubles.solveQuadraticSystem(a[2], b[2], c[2]), new double[] {result[4], result[5]});
+		assertArrayEquals(new double[] {5.0D, 5.0D}, new double[] {result[6], result[7]});
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystems(a, b, c, result, -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystems(a, b, c, result, 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystems(a, b, c, result, 3, 2));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystems(a, b, c, new double[5], 1, 2));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.solveQuadraticSystems(a, b, c, result, Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Doubles.solveQuadraticSystems(a, b, null, result, 0, 1));
 	}
 	
 	@Test
@@ -395,6 +704,139 @@ public final class DoublesUnitTests {
 		assertEquals(Math.sqrt(0.5D), Doubles.sqrt(0.5D));
 	}
 	
+	@Test
+	public void testSqrtDoubleArrayDoubleArray() {
+		assertArrayEquals(new double[] {0.0D, 0.5D, 2.0D, 4.0D}, Doubles.sqrt(new double[] {0.0D, 0.25D, 4.0D, 16.0D}, new double[4]));
+	}
+	
+	@Test
+	public void testSumKahanDoubleArray() {
+		final double[] array = new double[1000001];
+		
+		array[0] = 1.0D;
+		
+		for(int i = 1; i < array.length; i++) {
+			array[i] = 1.0E-17D;
+		}
+		
+		assertEquals(1.0D + 1000000.0D * 1.0E-17D, Doubles.sumKahan(array), 1.0E-12D);
+		assertEquals(0.0D, Doubles.sumKahan(new double[0]));
+		
+		assertThrows(NullPointerException.class, () -> Doubles.sumKahan((double[])(null)));
+	}
+	
+	@Test
+	public void testSumKahanDoubleArrayIntInt() {
+		assertEquals(11.0D, Doubles.sumKahan(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		assertEquals(0.0D, Doubles.sumKahan(new double[1], 1, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumKahan(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumKahan(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumKahan(new double[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumKahan(new double[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Doubles.sumKahan(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumKahanDoubleStream() {
+		assertEquals(1.0D + 1000000.0D * 1.0E-17D, Doubles.sumKahan(DoubleStream.concat(DoubleStream.of(1.0D), DoubleStream.generate(() -> 1.0E-17D).limit(1000000L))), 1.0E-12D);
+		assertEquals(100000.0D, Doubles.sumKahan(DoubleStream.generate(() -> 0.1D).limit(1000000L).parallel()), 1.0E-9D);
+		assertEquals(0.0D, Doubles.sumKahan(DoubleStream.empty()));
+		
+		assertThrows(NullPointerException.class, () -> Doubles.sumKahan((DoubleStream)(null)));
+	}
+	
+	@Test
+	public void testSumNeumaierDoubleArray() {
+		final double[] array = new double[1001];
+		
+		array[0] = 1.0D;
+		
+		for(int i = 1; i < array.length; i++) {
+			array[i] = 1.0E-17D;
+		}
+		
+		assertEquals(1.0D + 1000.0D * 1.0E-17D, Doubles.sumNeumaier(array), 1.0E-12D);
+		assertEquals(2.0D, Doubles.sumNeumaier(new double[] {1.0D, 1.0E100D, 1.0D, -1.0E100D}));
+		assertEquals(0.0D, Doubles.sumNeumaier(new double[0]));
+		
+		assertThrows(NullPointerException.class, () -> Doubles.sumNeumaier((double[])(null)));
+	}
+	
+	@Test
+	public void testSumNeumaierDoubleArrayIntInt() {
+		assertEquals(11.0D, Doubles.sumNeumaier(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		assertEquals(0.0D, Doubles.sumNeumaier(new double[1], 1, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumNeumaier(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumNeumaier(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumNeumaier(new double[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumNeumaier(new double[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Doubles.sumNeumaier(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumNeumaierDoubleStream() {
+		assertEquals(2.0D, Doubles.sumNeumaier(DoubleStream.of(1.0D, 1.0E100D, 1.0D, -1.0E100D)));
+		assertEquals(100000.0D, Doubles.sumNeumaier(DoubleStream.generate(() -> 0.1D).limit(1000000L).parallel()), 1.0E-9D);
+		assertEquals(0.0D, Doubles.sumNeumaier(DoubleStream.empty()));
+		
+		assertThrows(NullPointerException.class, () -> Doubles.sumNeumaier((DoubleStream)(null)));
+	}
+	
+	@Test
+	public void testSumPairwiseDoubleArray() {
+		final double[] array = new double[1 << 20];
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = 0.1D;
+		}
+		
+		assertEquals(1.0D, Doubles.sumPairwise(array) / (array.length * 0.1D), 1.0E-14D);
+		assertEquals(0.0D, Doubles.sumPairwise(new double[0]));
+		
+		assertThrows(NullPointerException.class, () -> Doubles.sumPairwise(null));
+	}
+	
+	@Test
+	public void testSumPairwiseDoubleArrayIntInt() {
+		assertEquals(11.0D, Doubles.sumPairwise(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		assertEquals(0.0D, Doubles.sumPairwise(new double[1], 1, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumPairwise(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumPairwise(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumPairwise(new double[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumPairwise(new double[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Doubles.sumPairwise(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumPairwiseParallelDoubleArray() {
+		final double[] array = new double[(1 << 20) + 12345];
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = (i % 1000) * 0.001D - 0.25D;
+		}
+		
+		assertEquals(Doubles.sumPairwise(array), Doubles.sumPairwiseParallel(array));
+		assertEquals(Doubles.sumPairwise(array, 12345, 1 << 20), Doubles.sumPairwiseParallel(array, 12345, 1 << 20));
+		assertEquals(0.0D, Doubles.sumPairwiseParallel(new double[0]));
+		
+		assertThrows(NullPointerException.class, () -> Doubles.sumPairwiseParallel(null));
+	}
+	
+	@Test
+	public void testSumPairwiseParallelDoubleArrayIntInt() {
+		assertEquals(11.0D, Doubles.sumPairwiseParallel(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		assertEquals(0.0D, Doubles.sumPairwiseParallel(new double[1], 1, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumPairwiseParallel(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumPairwiseParallel(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumPairwiseParallel(new double[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Doubles.sumPairwiseParallel(new double[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Doubles.sumPairwiseParallel(null, 0, 0));
+	}
+	
 	@Test
 	public void testTan() {
 		assertEquals(Math.tan(0.5D), Doubles.tan(0.5D));
@@ -409,4 +851,41 @@ public final class DoublesUnitTests {
 	public void testToRadians() {
 		assertEquals(Math.toRadians(0.5D), Doubles.toRadians(0.5D));
 	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doTestArrayOperator(final BinaryOperator<double[]> operator, final DoubleArrayRangeOperator rangeOperator) {
+		final double[] src = new double[] {0.125D, 0.25D, 0.375D, 0.5D};
+		final double[] dst = operator.apply(src, new double[src.length]);
+		
+		assertArrayEquals(new double[] {0.125D, 0.25D, 0.375D, 0.5D}, src);
+		assertArrayEquals(dst, rangeOperator.apply(src, new double[src.length], 0, src.length));
+		
+		final double[] srcAndDst = src.clone();
+		
+		assertSame(srcAndDst, operator.apply(srcAndDst, srcAndDst));
+		assertArrayEquals(dst, srcAndDst);
+		
+		final double[] dstRange = rangeOperator.apply(src, new double[] {7.0D, 7.0D, 7.0D, 7.0D}, 1, 2);
+		
+		assertArrayEquals(new double[] {7.0D, dst[1], dst[2], 7.0D}, dstRange);
+		
+		assertThrows(IllegalArgumentException.class, () -> operator.apply(new double[2], new double[1]));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new double[1], new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new double[1], new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new double[1], new double[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new double[1], new double[1], Integer.MAX_VALUE, 1));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new double[2], new double[1], 0, 2));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new double[1], new double[2], 0, 2));
+		assertThrows(NullPointerException.class, () -> operator.apply(null, new double[1]));
+		assertThrows(NullPointerException.class, () -> operator.apply(new double[1], null));
+		assertThrows(NullPointerException.class, () -> rangeOperator.apply(null, new double[1], 0, 1));
+		assertThrows(NullPointerException.class, () -> rangeOperator.apply(new double[1], null, 0, 1));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static interface DoubleArrayRangeOperator {
+		double[] apply(final double[] src, final double[] dst, final int offset, final int length);
+	}
 }
\ No newline at end of file
@@ -21,8 +21,14 @@ package org.macroing.java.lang;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("static-method")
@@ -39,6 +45,11 @@ public final class FloatsUnitTests {
 		assertEquals(1.0F, Floats.abs(-1.0F));
 	}
 	
+	@Test
+	public void testAbsFloatArrayFloatArray() {
+		assertArrayEquals(new float[] {2.5F, 0.0F, 1.0F, 2.5F}, Floats.abs(new float[] {-2.5F, -0.0F, 1.0F, 2.5F}, new float[4]));
+	}
+	
 	@Test
 	public void testAcos() {
 		assertEquals((float)(Math.acos(0.5F)), Floats.acos(0.5F));
@@ -50,6 +61,45 @@ public final class FloatsUnitTests {
 		assertEquals(1.0F, Floats.addLessThan(1.0F, 0.0F, 1.0F));
 	}
 	
+	@Test
+	public void testArrayOperators() {
+		final List<BinaryOperator<float[]>> operators = Arrays.asList(
+			(src, dst) -> Floats.abs(src, dst),
+			(src, dst) -> Floats.cosFast(src, dst),
+			(src, dst) -> Floats.erf(src, dst),
+			(src, dst) -> Floats.erfInv(src, dst),
+			(src, dst) -> Floats.expFast(src, dst),
+			(src, dst) -> Floats.lerp(src, src, 0.25F, dst),
+			(src, dst) -> Floats.logFast(src, dst),
+			(src, dst) -> Floats.pow2(src, dst),
+			(src, dst) -> Floats.pow5(src, dst),
+			(src, dst) -> Floats.saturate(src, dst),
+			(src, dst) -> Floats.saturate(src, 0.25F, 0.75F, dst),
+			(src, dst) -> Floats.sinFast(src, dst),
+			(src, dst) -> Floats.smoothstep(src, 0.25F, 0.75F, dst),
+			(src, dst) -> Floats.sqrt(src, dst));
+		
+		final List<FloatArrayRangeOperator> rangeOperators = Arrays.asList(
+			(src, dst, offset, length) -> Floats.abs(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.cosFast(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.erf(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.erfInv(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.expFast(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.lerp(src, src, 0.25F, dst, offset, length),
+			(src, dst, offset, length) -> Floats.logFast(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.pow2(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.pow5(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.saturate(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.saturate(src, 0.25F, 0.75F, dst, offset, length),
+			(src, dst, offset, length) -> Floats.sinFast(src, dst, offset, length),
+			(src, dst, offset, length) -> Floats.smoothstep(src, 0.25F, 0.75F, dst, offset, length),
+			(src, dst, offset, length) -> Floats.sqrt(src, dst, offset, length));
+		
+		for(int i = 0; i < operators.size(); i++) {
+			doTestArrayOperator(operators.get(i), rangeOperators.get(i));
+		}
+	}
+	
 	@Test
 	public void testAsin() {
 		assertEquals((float)(Math.asin(0.5F)), Floats.asin(0.5F));
@@ -93,6 +143,37 @@ public final class FloatsUnitTests {
 		assertEquals((float)(Math.cos(0.5F)), Floats.cos(0.5F));
 	}
 	
+	@Test
+	public void testCosFast() {
+		for(int i = 0; i <= 1000000; i++) {
+			final float angleRadians = -8192.0F + 16384.0F * i / 1000000.0F;
+			
+			assertTrue(Math.abs(Floats.cosFast(angleRadians) - StrictMath.cos(angleRadians)) <= Math.ulp(1.0F));
+		}
+		
+		assertEquals(1.0F, Floats.cosFast(0.0F));
+		assertEquals((float)(Math.cos(10000.0F)), Floats.cosFast(10000.0F));
+		
+		assertTrue(Floats.isNaN(Floats.cosFast(Float.NaN)));
+		assertTrue(Floats.isNaN(Floats.cosFast(Float.POSITIVE_INFINITY)));
+	}
+	
+	@Test
+	public void testCosFastFloatArrayFloatArray() {
+		final float[] src = new float[] {-2.5F, 0.0F, 1.0F, 3.0F};
+		final float[] dst = Floats.cosFast(src, new float[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Floats.cosFast(src[i]), dst[i]);
+		}
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertTrue(Math.abs(dst[i] - StrictMath.cos(src[i])) <= Math.ulp(1.0F));
+		}
+		
+		assertEquals(1.0F, dst[1]);
+	}
+	
 	@Test
 	public void testEqualsFloatFloat() {
 		assertTrue(Floats.equals(1.0F, 1.0F));
@@ -121,6 +202,18 @@ public final class FloatsUnitTests {
 		assertEquals(-0.99532217F, Floats.erf(-2.00F));
 	}
 	
+	@Test
+	public void testErfFloatArrayFloatArray() {
+		final float[] src = new float[] {-2.0F, -0.25F, 0.25F, 2.0F};
+		final float[] dst = Floats.erf(src, new float[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Floats.erf(src[i]), dst[i]);
+		}
+		
+		assertEquals(+0.27632612F, dst[2]);
+	}
+	
 	@Test
 	public void testErfInv() {
 		assertEquals(+3.12320570000000000F, Floats.erfInv(+2.00F));
@@ -133,11 +226,54 @@ public final class FloatsUnitTests {
 		assertEquals(-3.12320570000000000F, Floats.erfInv(-2.00F));
 	}
 	
+	@Test
+	public void testErfInvFloatArrayFloatArray() {
+		final float[] src = new float[] {-0.9F, -0.25F, 0.0F, 0.25F, 0.9F};
+		final float[] dst = Floats.erfInv(src, new float[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Floats.erfInv(src[i]), dst[i]);
+		}
+		
+		assertEquals(+0.00000000000000000F, dst[2]);
+		assertEquals(+0.22531207402846837F, dst[3]);
+	}
+	
 	@Test
 	public void testExp() {
 		assertEquals((float)(Math.exp(0.5F)), Floats.exp(0.5F));
 	}
 	
+	@Test
+	public void testExpFast() {
+		for(int i = 0; i <= 1000000; i++) {
+			final float exponent = -87.0F + 175.5F * i / 1000000.0F;
+			final float expected = (float)(StrictMath.exp(exponent));
+			
+			assertTrue(Math.abs(Floats.expFast(exponent) - StrictMath.exp(exponent)) <= Math.ulp(expected));
+		}
+		
+		assertEquals(1.0F, Floats.expFast(0.0F));
+		assertEquals(0.0F, Floats.expFast(-200.0F));
+		assertEquals(0.0F, Floats.expFast(Float.NEGATIVE_INFINITY));
+		assertEquals(Float.POSITIVE_INFINITY, Floats.expFast(89.0F));
+		assertEquals(Float.POSITIVE_INFINITY, Floats.expFast(Float.POSITIVE_INFINITY));
+		
+		assertTrue(Floats.isNaN(Floats.expFast(Float.NaN)));
+	}
+	
+	@Test
+	public void testExpFastFloatArrayFloatArray() {
+		final float[] src = new float[] {-2.5F, 0.0F, 1.0F, 10.0F};
+		final float[] dst = Floats.expFast(src, new float[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Floats.expFast(src[i]), dst[i]);
+		}
+		
+		assertEquals(1.0F, dst[1]);
+	}
+	
 	@Test
 	public void testFiniteOrDefault() {
 		assertEquals(0.0F, Floats.finiteOrDefault(Float.NaN, 0.0F));
@@ -223,11 +359,54 @@ public final class FloatsUnitTests {
 		assertEquals(3.0F, Floats.lerp(1.0F, 2.0F, +2.0F));
 	}
 	
+	@Test
+	public void testLerpFloatArrayFloatArrayFloatFloatArray() {
+		final float[] a = new float[] {1.0F, 0.0F, -2.0F};
+		final float[] b = new float[] {2.0F, 4.0F, 2.0F};
+		
+		assertArrayEquals(new float[] {1.25F, 1.0F, -1.0F}, Floats.lerp(a, b, 0.25F, new float[3]));
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.lerp(a, new float[2], 0.25F, new float[3]));
+		assertThrows(IllegalArgumentException.class, () -> Floats.lerp(a, new float[2], 0.25F, new float[3], 0, 3));
+		assertThrows(NullPointerException.class, () -> Floats.lerp(a, null, 0.25F, new float[3]));
+		assertThrows(NullPointerException.class, () -> Floats.lerp(a, null, 0.25F, new float[3], 0, 3));
+	}
+	
 	@Test
 	public void testLog() {
 		assertEquals((float)(Math.log(0.5F)), Floats.log(0.5F));
 	}
 	
+	@Test
+	public void testLogFast() {
+		for(int bits = 1; bits > 0 && bits < 0x7F800000; bits += 997) {
+			final float value = Float.intBitsToFloat(bits);
+			final float expected = (float)(StrictMath.log(value));
+			
+			assertTrue(Math.abs(Floats.logFast(value) - StrictMath.log(value)) <= Math.ulp(expected));
+		}
+		
+		assertEquals(0.0F, Floats.logFast(1.0F));
+		assertEquals(Float.NEGATIVE_INFINITY, Floats.logFast(0.0F));
+		assertEquals(Float.NEGATIVE_INFINITY, Floats.logFast(-0.0F));
+		assertEquals(Float.POSITIVE_INFINITY, Floats.logFast(Float.POSITIVE_INFINITY));
+		
+		assertTrue(Floats.isNaN(Floats.logFast(-1.0F)));
+		assertTrue(Floats.isNaN(Floats.logFast(Float.NaN)));
+	}
+	
+	@Test
+	public void testLogFastFloatArrayFloatArray() {
+		final float[] src = new float[] {0.125F, 1.0F, 2.5F, 1000.0F};
+		final float[] dst = Floats.logFast(src, new float[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Floats.logFast(src[i]), dst[i]);
+		}
+		
+		assertEquals(0.0F, dst[1]);
+	}
+	
 	@Test
 	public void testMaxFloatFloat() {
 		assertEquals(2.0F, Floats.max(1.0F, 2.0F));
@@ -316,11 +495,58 @@ public final class FloatsUnitTests {
 		assertEquals(4.0F, Floats.pow2(2.0F));
 	}
 	
+	@Test
+	public void testPow2FloatArrayFloatArray() {
+		assertArrayEquals(new float[] {9.0F, 0.25F, 4.0F}, Floats.pow2(new float[] {-3.0F, 0.5F, 2.0F}, new float[3]));
+	}
+	
 	@Test
 	public void testPow5() {
 		assertEquals(32.0F, Floats.pow5(2.0F));
 	}
 	
+	@Test
+	public void testPow5FloatArrayFloatArray() {
+		assertArrayEquals(new float[] {-32.0F, 0.03125F, 32.0F}, Floats.pow5(new float[] {-2.0F, 0.5F, 2.0F}, new float[3]));
+	}
+	
+	@Test
+	public void testPowFast() {
+		for(int i = 1; i <= 1000; i++) {
+			for(int j = -500; j <= 500; j++) {
+				final float base = i / 10.0F;
+				final float exponent = j / 25.0F;
+				final float expected = (float)(StrictMath.pow(base, exponent));
+				
+				assertTrue(Math.abs(Floats.powFast(base, exponent) - StrictMath.pow(base, exponent)) <= 0.52D * Math.ulp(expected));
+			}
+		}
+		
+		for(int i = -1000; i <= 1000; i++) {
+			final float base = 1.0F + i * 1.0E-5F;
+			final float exponent = 1.0E6F / (i == 0 ? 1 : i);
+			final double expected = StrictMath.pow(base, exponent);
+			
+			if(expected >= Float.MIN_NORMAL && expected <= Float.MAX_VALUE) {
+				assertTrue(Math.abs(Floats.powFast(base, exponent) - expected) <= 0.52D * Math.ulp((float)(expected)));
+			}
+		}
+		
+		assertEquals(+8.0F, Floats.powFast(+2.0F, 3.0F));
+		assertEquals(+0.125F, Floats.powFast(+2.0F, -3.0F));
+		assertEquals(+0.5F, Floats.powFast(+0.25F, 0.5F));
+		assertEquals((float)(StrictMath.pow(Float.MIN_VALUE, 0.25F)), Floats.powFast(Float.MIN_VALUE, 0.25F));
+		assertEquals(Float.POSITIVE_INFINITY, Floats.powFast(+2.0F, 129.0F));
+		assertEquals(+0.0F, Floats.powFast(+2.0F, -151.0F));
+		
+		assertEquals(-8.0F, Floats.powFast(-2.0F, 3.0F));
+		assertEquals(+1.0F, Floats.powFast(+0.0F, 0.0F));
+		assertEquals(+1.0F, Floats.powFast(+2.0F, 0.0F));
+		assertEquals(+0.0F, Floats.powFast(+0.0F, 2.0F));
+		
+		assertTrue(Floats.isNaN(Floats.powFast(-2.0F, 0.5F)));
+	}
+	
 	@Test
 	public void testPowR() {
 		assertEquals( 1.0F, Floats.powR(2.0F, 0));
@@ -346,6 +572,16 @@ public final class FloatsUnitTests {
 		assertEquals(1.0F, Floats.saturate(+2.0F));
 	}
 	
+	@Test
+	public void testSaturateFloatArrayFloatArray() {
+		assertArrayEquals(new float[] {0.0F, 0.0F, 0.5F, 1.0F, 1.0F}, Floats.saturate(new float[] {-1.0F, 0.0F, 0.5F, 1.0F, 2.0F}, new float[5]));
+	}
+	
+	@Test
+	public void testSaturateFloatArrayFloatFloatFloatArray() {
+		assertArrayEquals(new float[] {-0.5F, 0.25F, 0.5F}, Floats.saturate(new float[] {-1.0F, 0.25F, 2.0F}, 0.5F, -0.5F, new float[3]));
+	}
+	
 	@Test
 	public void testSaturateFloatFloatFloat() {
 		assertEquals(2.0F, Floats.saturate(1.0F, 2.0F, 3.0F));
@@ -363,6 +599,38 @@ public final class FloatsUnitTests {
 		assertEquals((float)(Math.sin(0.5F)), Floats.sin(0.5F));
 	}
 	
+	@Test
+	public void testSinFast() {
+		for(int i = 0; i <= 1000000; i++) {
+			final float angleRadians = -8192.0F + 16384.0F * i / 1000000.0F;
+			
+			assertTrue(Math.abs(Floats.sinFast(angleRadians) - StrictMath.sin(angleRadians)) <= Math.ulp(1.0F));
+		}
+		
+		assertEquals(+0.0F, Floats.sinFast(+0.0F));
+		assertEquals(-0.0F, Floats.sinFast(-0.0F));
+		assertEquals((float)(Math.sin(10000.0F)), Floats.sinFast(10000.0F));
+		
+		assertTrue(Floats.isNaN(Floats.sinFast(Float.NaN)));
+		assertTrue(Floats.isNaN(Floats.sinFast(Float.NEGATIVE_INFINITY)));
+	}
+	
+	@Test
+	public void testSinFastFloatArrayFloatArray() {
+		final float[] src = new float[] {-2.5F, 0.0F, 1.0F, 3.0F};
+		final float[] dst = Floats.sinFast(src, new float[src.length]);
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertEquals(Floats.sinFast(src[i]), dst[i]);
+		}
+		
+		for(int i = 0; i < dst.length; i++) {
+			assertTrue(Math.abs(dst[i] - StrictMath.sin(src[i])) <= Math.ulp(1.0F));
+		}
+		
+		assertEquals(0.0F, dst[1]);
+	}
+	
 	@Test
 	public void testSinh() {
 		assertEquals((float)(Math.sinh(0.5F)), Floats.sinh(0.5F));
@@ -378,12 +646,102 @@ public final class FloatsUnitTests {
 		assertEquals(+1.00000F, Floats.smoothstep(300.0F, 100.0F, 200.0F));
 	}
 	
+	@Test
+	public void testSmoothstepFloatArrayFloatFloatFloatArray() {
+		assertArrayEquals(new float[] {0.0F, 0.0F, 0.15625F, 0.5F, 1.0F, 1.0F}, Floats.smoothstep(new float[] {0.0F, 100.0F, 125.0F, 150.0F, 200.0F, 300.0F}, 100.0F, 200.0F, new float[6]));
+	}
+	
 	@Test
 	public void testSolveQuadraticSystem() {
 		assertArrayEquals(new float[] {-2.0F, -0.3333333432674408F}, Floats.solveQuadraticSystem(3.0F, +7.0F, 2.0F));
 		assertArrayEquals(new float[] {+0.3333333432674408F, +2.0F}, Floats.solveQuadraticSystem(3.0F, -7.0F, 2.0F));
 		assertArrayEquals(new float[] {-1.0F, -1.0F}, Floats.solveQuadraticSystem(1.0F, 2.0F, 1.0F));
 		assertArrayEquals(new float[] {Float.NaN, Float.NaN}, Floats.solveQuadraticSystem(1.0F, 1.0F, 1.0F));
+	}	
+	@Test
+	public void testSolveQuadraticSystemFloatFloatFloatFloatArray() {
+		final float[] result = new float[2];
+		
+		assertSame(result, Floats.solveQuadraticSystem(3.0F, +7.0F, 2.0F, result));
+		assertArrayEquals(Floats.solveQuadraticSystem(3.0F, +7.0F, 2.0F), result);
+		
+		assertSame(result, Floats.solveQuadraticSystem(1.0F, 1.0F, 1.0F, result));
+		assertArrayEquals(new float[] {Float.NaN, Float.NaN}, result);
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystem(1.0F, 2.0F, 1.0F, new float[1]));
+		assertThrows(NullPointerException.class, () -> Floats.solveQuadraticSystem(1.0F, 2.0F, 1.0F, null));
+	}
+	
+	@Test
+	public void testSolveQuadraticSystemFloatFloatFloatFloatArrayInt() {
+		final float[] result = new float[] {5.0F, 5.0F, 5.0F, 5.0F};
+		
+		assertSame(result, Floats.solveQuadraticSystem(3.0F, -7.0F, 2.0F, result, 1));
+		assertArrayEquals(new float[] {5.0F, Floats.solveQuadraticSystem(3.0F, -7.0F, 2.0F)[0], Floats.solveQuadraticSystem(3.0F, -7.0F, 2.0F)[1], 5.0F}, result);
+		
+		assertSame(result, Floats.solveQuadraticSystem(1.0F, 2.0F, 1.0F, result, 2));
+		assertArrayEquals(new float[] {5.0F, Floats.solveQuadraticSystem(3.0F, -7.0F, 2.0F)[0], -1.0F, -1.0F}, result);
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystem(1.0F, 2.0F, 1.0F, new float[4], -1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystem(1.0F, 2.0F, 1.0F, new float[4], 3));
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystem(1.0F, 2.0F, 1.0F, new float[4], Integer.MAX_VALUE));
+		assertThrows(NullPointerException.class, () -> Floats.solveQuadraticSystem(1.0F, 2.0F, 1.0F, null, 0));
+	}
+	
+	@Test
+	public void testSolveQuadraticSystemPacked() {
+		final float[][] coefficients = new float[][] {{3.0F, +7.0F, 2.0F}, {3.0F, -7.0F, 2.0F}, {1.0F, 2.0F, 1.0F}, {1.0F, 1.0F, 1.0F}, {-2.0F, 0.5F, 4.0F}};
+		
+		for(final float[] abc : coefficients) {
+			final long packed = Floats.solveQuadraticSystemPacked(abc[0], abc[1], abc[2]);
+			
+			assertArrayEquals(Floats.solveQuadraticSystem(abc[0], abc[1], abc[2]), new float[] {Float.intBitsToFloat((int)(packed >>> 32)), Float.intBitsToFloat((int)(packed))});
+		}
+		
+		assertEquals(0xBF800000BF800000L, Floats.solveQuadraticSystemPacked(1.0F, 2.0F, 1.0F));
+	}
+	
+	@Test
+	public void testSolveQuadraticSystemsFloatArrayFloatArrayFloatArrayFloatArray() {
+		final float[] a = new float[] {3.0F, 3.0F, 1.0F, 1.0F};
+		final float[] b = new float[] {+7.0F, -7.0F, 2.0F, 1.0F};
+		final float[] c = new float[] {2.0F, 2.0F, 1.0F, 1.0F};
+		
+		final float[] result = new float[8];
+		
+		assertSame(result, Floats.solveQuadraticSystems(a, b, c, result));
+		
+		for(int i = 0; i < a.length; i++) {
+			assertArrayEquals(Floats.solveQuadraticSystem(a[i], b[i], c[i]), new float[] {result[2 * i], result[2 * i + 1]});
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystems(a, b, c, new float[7]));
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystems(a, new float[3], c, result));
+		assertThrows(NullPointerException.class, () -> Floats.solveQuadraticSystems(null, b, c, result));
+		assertThrows(NullPointerException.class, () -> Floats.solveQuadraticSystems(a, b, c, null));
+	}
+	
+	@Test
+	public void testSolveQuadraticSystemsFloatArrayFloatArrayFloatArrayFloatArrayIntInt() {
+		final float[] a = new float[] {3.0F, 3.0F, 1.0F, 1.0F};
+		final float[] b = new float[] {+7.0F, -7.0F, 2.0F, 1.0F};
+		final float[] c = new float[] {2.0F, 2.0F, 1.0F, 1.0F};
+		
+		final float[] result = new float[] {5.0F, 5.0F, 5.0F, 5.0F, 5.0F, 5.0F, 5.0F, 5.0F};
+		
+		assertSame(result, Floats.solveQuadraticSystems(a, b, c, result, 1, 2));
+		
+		assertArrayEquals(new float[] {5.0F, 5.0F}, new float[] {result[0], result[1]});
+		assertArrayEquals(Floats.solveQuadraticSystem(a[1], b[1], c[1]), new float[] {result[2], result[3]});
+		assertArrayEquals(Floats.solveQuadraticSystem(a[2], b[2], c[2]), new float[] {result[4], result[5]});
+		assertArrayEquals(new float[] {5.0F, 5.0F}, new float[] {result[6], result[7]});
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystems(a, b, c, result, -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystems(a, b, c, result, 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystems(a, b, c, result, 3, 2));
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystems(a, b, c, new float[5], 1, 2));
+		assertThrows(IllegalArgumentException.class, () -> Floats.solveQuadraticSystems(a, b, c, result, Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Floats.solveQuadraticSystems(a, b, null, result, 0, 1));
 	}
 	
 	@Test
@@ -391,6 +749,121 @@ public final class FloatsUnitTests {
 		assertEquals((float)(Math.sqrt(0.5F)), Floats.sqrt(0.5F));
 	}
 	
+	@Test
+	public void testSqrtFloatArrayFloatArray() {
+		assertArrayEquals(new float[] {0.0F, 0.5F, 2.0F, 4.0F}, Floats.sqrt(new float[] {0.0F, 0.25F, 4.0F, 16.0F}, new float[4]));
+	}
+	
+	@Test
+	public void testSumKahanFloatArray() {
+		final float[] array = new float[1000001];
+		
+		array[0] = 1.0F;
+		
+		for(int i = 1; i < array.length; i++) {
+			array[i] = 1.0E-8F;
+		}
+		
+		assertEquals(1.0F + 1000000.0F * 1.0E-8F, Floats.sumKahan(array), 1.0E-6F);
+		assertEquals(0.0F, Floats.sumKahan(new float[0]));
+		
+		assertThrows(NullPointerException.class, () -> Floats.sumKahan((float[])(null)));
+	}
+	
+	@Test
+	public void testSumKahanFloatArrayIntInt() {
+		assertEquals(11.0F, Floats.sumKahan(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		assertEquals(0.0F, Floats.sumKahan(new float[1], 1, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumKahan(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumKahan(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumKahan(new float[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumKahan(new float[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Floats.sumKahan(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumNeumaierFloatArray() {
+		final float[] array = new float[1001];
+		
+		array[0] = 1.0F;
+		
+		for(int i = 1; i < array.length; i++) {
+			array[i] = 1.0E-8F;
+		}
+		
+		assertEquals(1.0F + 1000.0F * 1.0E-8F, Floats.sumNeumaier(array), 1.0E-6F);
+		assertEquals(2.0F, Floats.sumNeumaier(new float[] {1.0F, 1.0E10F, 1.0F, -1.0E10F}));
+		assertEquals(0.0F, Floats.sumNeumaier(new float[0]));
+		
+		assertThrows(NullPointerException.class, () -> Floats.sumNeumaier((float[])(null)));
+	}
+	
+	@Test
+	public void testSumNeumaierFloatArrayIntInt() {
+		assertEquals(11.0F, Floats.sumNeumaier(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		assertEquals(0.0F, Floats.sumNeumaier(new float[1], 1, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumNeumaier(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumNeumaier(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumNeumaier(new float[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumNeumaier(new float[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Floats.sumNeumaier(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumPairwiseFloatArray() {
+		final float[] array = new float[1 << 20];
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = 0.1F;
+		}
+		
+		assertEquals(1.0D, Floats.sumPairwise(array) / (array.length * (double)(0.1F)), 1.0E-6D);
+		assertEquals(0.0F, Floats.sumPairwise(new float[0]));
+		
+		assertThrows(NullPointerException.class, () -> Floats.sumPairwise(null));
+	}
+	
+	@Test
+	public void testSumPairwiseFloatArrayIntInt() {
+		assertEquals(11.0F, Floats.sumPairwise(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		assertEquals(0.0F, Floats.sumPairwise(new float[1], 1, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumPairwise(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumPairwise(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumPairwise(new float[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumPairwise(new float[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Floats.sumPairwise(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumPairwiseParallelFloatArray() {
+		final float[] array = new float[(1 << 20) + 12345];
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = (i % 1000) * 0.001F - 0.25F;
+		}
+		
+		assertEquals(Floats.sumPairwise(array), Floats.sumPairwiseParallel(array));
+		assertEquals(Floats.sumPairwise(array, 12345, 1 << 20), Floats.sumPairwiseParallel(array, 12345, 1 << 20));
+		assertEquals(0.0F, Floats.sumPairwiseParallel(new float[0]));
+		
+		assertThrows(NullPointerException.class, () -> Floats.sumPairwiseParallel(null));
+	}
+	
+	@Test
+	public void testSumPairwiseParallelFloatArrayIntInt() {
+		assertEquals(11.0F, Floats.sumPairwiseParallel(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		assertEquals(0.0F, Floats.sumPairwiseParallel(new float[1], 1, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumPairwiseParallel(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumPairwiseParallel(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumPairwiseParallel(new float[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> Floats.sumPairwiseParallel(new float[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> Floats.sumPairwiseParallel(null, 0, 0));
+	}
+	
 	@Test
 	public void testTan() {
 		assertEquals((float)(Math.tan(0.5F)), Floats.tan(0.5F));
@@ -405,4 +878,41 @@ public final class FloatsUnitTests {
 	public void testToRadians() {
 		assertEquals((float)(Math.toRadians(0.5F)), Floats.toRadians(0.5F));
 	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doTestArrayOperator(final BinaryOperator<float[]> operator, final FloatArrayRangeOperator rangeOperator) {
+		final float[] src = new float[] {0.125F, 0.25F, 0.375F, 0.5F};
+		final float[] dst = operator.apply(src, new float[src.length]);
+		
+		assertArrayEquals(new float[] {0.125F, 0.25F, 0.375F, 0.5F}, src);
+		assertArrayEquals(dst, rangeOperator.apply(src, new float[src.length], 0, src.length));
+		
+		final float[] srcAndDst = src.clone();
+		
+		assertSame(srcAndDst, operator.apply(srcAndDst, srcAndDst));
+		assertArrayEquals(dst, srcAndDst);
+		
+		final float[] dstRange = rangeOperator.apply(src, new float[] {7.0F, 7.0F, 7.0F, 7.0F}, 1, 2);
+		
+		assertArrayEquals(new float[] {7.0F, dst[1], dst[2], 7.0F}, dstRange);
+		
+		assertThrows(IllegalArgumentException.class, () -> operator.apply(new float[2], new float[1]));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new float[1], new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new float[1], new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new float[1], new float[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new float[1], new float[1], Integer.MAX_VALUE, 1));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new float[2], new float[1], 0, 2));
+		assertThrows(IllegalArgumentException.class, () -> rangeOperator.apply(new float[1], new float[2], 0, 2));
+		assertThrows(NullPointerException.class, () -> operator.apply(null, new float[1]));
+		assertThrows(NullPointerException.class, () -> operator.apply(new float[1], null));
+		assertThrows(NullPointerException.class, () -> rangeOperator.apply(null, new float[1], 0, 1));
+		assertThrows(NullPointerException.class, () -> rangeOperator.apply(new float[1], null, 0, 1));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static interface FloatArrayRangeOperator {
+		float[] apply(final float[] src, final float[] dst, final int offset, final int length);
+	}
 }
\ No newline at end of file
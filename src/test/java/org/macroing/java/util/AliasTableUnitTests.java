@@ -0,0 +1,148 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class AliasTableUnitTests {
+	public AliasTableUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructorDoubleArray() {
+		final AliasTable aliasTable = new AliasTable(new double[] {1.0D, 0.0D, 3.0D, 0.0D});
+		
+		assertEquals(4, aliasTable.size());
+		
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {0.0D, 0.0D}));
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1.0D, -1.0D}));
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1.0D, Double.NaN}));
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1.0D, Double.POSITIVE_INFINITY}));
+		assertThrows(NullPointerException.class, () -> new AliasTable((double[])(null)));
+	}
+	
+	@Test
+	public void testConstructorFloatArray() {
+		final AliasTable aliasTable = new AliasTable(new float[] {1.0F, 0.0F, 3.0F, 0.0F});
+		
+		assertEquals(4, aliasTable.size());
+		
+		assertEquals(0.25D, aliasTable.getProbability(0));
+		assertEquals(0.75D, aliasTable.getProbability(2));
+		
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new float[0]));
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new float[] {1.0F, -1.0F}));
+		assertThrows(NullPointerException.class, () -> new AliasTable((float[])(null)));
+	}
+	
+	@Test
+	public void testGetProbability() {
+		final AliasTable aliasTable = new AliasTable(new double[] {1.0D, 0.0D, 3.0D, 0.0D});
+		
+		assertEquals(0.25D, aliasTable.getProbability(0));
+		assertEquals(0.00D, aliasTable.getProbability(1));
+		assertEquals(0.75D, aliasTable.getProbability(2));
+		assertEquals(0.00D, aliasTable.getProbability(3));
+		
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> aliasTable.getProbability(4));
+	}
+	
+	@Test
+	public void testSampleDouble() {
+		final AliasTable aliasTable = new AliasTable(new double[] {0.0D, 1.0D, 0.0D, 3.0D, 0.0D});
+		
+		for(final double u : new double[] {-1.0D, 0.0D, 0.2D, 0.4D, 0.6D, 0.8D, 0.9999D, 1.0D, 2.0D}) {
+			final int index = aliasTable.sample(u);
+			
+			assertTrue(index == 1 || index == 3);
+		}
+	}
+	
+	@Test
+	public void testSampleDoubleDistribution() {
+		final double[] weights = new double[100];
+		
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+		
+		for(int i = 0; i < weights.length; i++) {
+			weights[i] = i % 7 == 0 ? 0.0D : xoshiro256StarStar.nextDouble() * i;
+		}
+		
+		final AliasTable aliasTable = new AliasTable(weights);
+		
+		final int[] counts = new int[weights.length];
+		
+		final int samples = 1000000;
+		
+		for(int i = 0; i < samples; i++) {
+			counts[aliasTable.sample(xoshiro256StarStar.nextDouble())]++;
+		}
+		
+		for(int i = 0; i < weights.length; i++) {
+			final double expected = aliasTable.getProbability(i) * samples;
+			
+			if(i % 7 == 0) {
+				assertEquals(0, counts[i]);
+			} else {
+				assertEquals(expected, counts[i], 5.0D * Math.sqrt(expected) + 1.0D);
+			}
+		}
+	}
+	
+	@Test
+	public void testSampleDoubleExact() {
+		final AliasTable aliasTable = new AliasTable(new double[] {1.0D, 2.0D, 3.0D, 2.0D});
+		
+		final int[] counts = new int[4];
+		
+		final int samples = 4 * 1024;
+		
+		for(int i = 0; i < samples; i++) {
+			counts[aliasTable.sample((i + 0.5D) / samples)]++;
+		}
+		
+		assertEquals(512, counts[0]);
+		assertEquals(1024, counts[1]);
+		assertEquals(1536, counts[2]);
+		assertEquals(1024, counts[3]);
+	}
+	
+	@Test
+	public void testSampleDoubleSupplier() {
+		final AliasTable aliasTable = new AliasTable(new double[] {1.0D, 2.0D, 3.0D});
+		
+		final Xoshiro256StarStar xoshiro256StarStarA = new Xoshiro256StarStar(12345L);
+		final Xoshiro256StarStar xoshiro256StarStarB = new Xoshiro256StarStar(12345L);
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(aliasTable.sample(xoshiro256StarStarA.nextDouble()), aliasTable.sample(xoshiro256StarStarB::nextDouble));
+		}
+		
+		assertThrows(NullPointerException.class, () -> aliasTable.sample(null));
+	}
+}
\ No newline at end of file
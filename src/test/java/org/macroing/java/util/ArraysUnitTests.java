@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,6 +39,234 @@ public final class ArraysUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testDecodeCharArrayByteArray() {
+		assertArrayEquals(new char[] {'A', '\uFFFF'}, Arrays.decodeCharArray(new byte[] {0, 65, -1, -1}));
+		assertArrayEquals(new char[0], Arrays.decodeCharArray(new byte[0]));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeCharArray(new byte[3]));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeCharArray(null));
+	}
+	
+	@Test
+	public void testDecodeCharArrayByteArrayByteOrder() {
+		assertArrayEquals(new char[] {'A', '\uFFFF'}, Arrays.decodeCharArray(new byte[] {0, 65, -1, -1}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new char[] {'A', '\uFFFF'}, Arrays.decodeCharArray(new byte[] {65, 0, -1, -1}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeCharArray(new byte[1], ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeCharArray(null, ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeCharArray(new byte[0], null));
+	}
+	
+	@Test
+	public void testDecodeDoubleArrayByteArray() {
+		assertArrayEquals(new double[] {1.0D, -2.5D}, Arrays.decodeDoubleArray(new byte[] {63, -16, 0, 0, 0, 0, 0, 0, -64, 4, 0, 0, 0, 0, 0, 0}));
+		assertArrayEquals(new double[0], Arrays.decodeDoubleArray(new byte[0]));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeDoubleArray(new byte[9]));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeDoubleArray(null));
+	}
+	
+	@Test
+	public void testDecodeDoubleArrayByteArrayByteOrder() {
+		assertArrayEquals(new double[] {1.0D, -2.5D}, Arrays.decodeDoubleArray(new byte[] {63, -16, 0, 0, 0, 0, 0, 0, -64, 4, 0, 0, 0, 0, 0, 0}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new double[] {1.0D, -2.5D}, Arrays.decodeDoubleArray(new byte[] {0, 0, 0, 0, 0, 0, -16, 63, 0, 0, 0, 0, 0, 0, 4, -64}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeDoubleArray(new byte[7], ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeDoubleArray(null, ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeDoubleArray(new byte[0], null));
+	}
+	
+	@Test
+	public void testDecodeFloatArrayByteArray() {
+		assertArrayEquals(new float[] {1.0F, -2.5F}, Arrays.decodeFloatArray(new byte[] {63, -128, 0, 0, -64, 32, 0, 0}));
+		assertArrayEquals(new float[0], Arrays.decodeFloatArray(new byte[0]));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeFloatArray(new byte[5]));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeFloatArray(null));
+	}
+	
+	@Test
+	public void testDecodeFloatArrayByteArrayByteOrder() {
+		assertArrayEquals(new float[] {1.0F, -2.5F}, Arrays.decodeFloatArray(new byte[] {63, -128, 0, 0, -64, 32, 0, 0}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new float[] {1.0F, -2.5F}, Arrays.decodeFloatArray(new byte[] {0, 0, -128, 63, 0, 0, 32, -64}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeFloatArray(new byte[3], ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeFloatArray(null, ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeFloatArray(new byte[0], null));
+	}
+	
+	@Test
+	public void testDecodeIntArrayByteArray() {
+		assertArrayEquals(new int[] {1, -2}, Arrays.decodeIntArray(new byte[] {0, 0, 0, 1, -1, -1, -1, -2}));
+		assertArrayEquals(new int[0], Arrays.decodeIntArray(new byte[0]));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeIntArray(new byte[5]));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeIntArray(null));
+	}
+	
+	@Test
+	public void testDecodeIntArrayByteArrayByteOrder() {
+		assertArrayEquals(new int[] {1, -2}, Arrays.decodeIntArray(new byte[] {0, 0, 0, 1, -1, -1, -1, -2}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new int[] {1, -2}, Arrays.decodeIntArray(new byte[] {1, 0, 0, 0, -2, -1, -1, -1}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeIntArray(new byte[3], ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeIntArray(null, ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeIntArray(new byte[0], null));
+	}
+	
+	@Test
+	public void testDecodeLongArrayByteArray() {
+		assertArrayEquals(new long[] {1L, -2L}, Arrays.decodeLongArray(new byte[] {0, 0, 0, 0, 0, 0, 0, 1, -1, -1, -1, -1, -1, -1, -1, -2}));
+		assertArrayEquals(new long[0], Arrays.decodeLongArray(new byte[0]));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeLongArray(new byte[9]));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeLongArray(null));
+	}
+	
+	@Test
+	public void testDecodeLongArrayByteArrayByteOrder() {
+		assertArrayEquals(new long[] {1L, -2L}, Arrays.decodeLongArray(new byte[] {0, 0, 0, 0, 0, 0, 0, 1, -1, -1, -1, -1, -1, -1, -1, -2}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new long[] {1L, -2L}, Arrays.decodeLongArray(new byte[] {1, 0, 0, 0, 0, 0, 0, 0, -2, -1, -1, -1, -1, -1, -1, -1}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeLongArray(new byte[7], ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeLongArray(null, ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeLongArray(new byte[0], null));
+	}
+	
+	@Test
+	public void testDecodeShortArrayByteArray() {
+		assertArrayEquals(new short[] {(short)(1), (short)(-2)}, Arrays.decodeShortArray(new byte[] {0, 1, -1, -2}));
+		assertArrayEquals(new short[0], Arrays.decodeShortArray(new byte[0]));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeShortArray(new byte[3]));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeShortArray(null));
+	}
+	
+	@Test
+	public void testDecodeShortArrayByteArrayByteOrder() {
+		assertArrayEquals(new short[] {(short)(1), (short)(-2)}, Arrays.decodeShortArray(new byte[] {0, 1, -1, -2}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new short[] {(short)(1), (short)(-2)}, Arrays.decodeShortArray(new byte[] {1, 0, -2, -1}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.decodeShortArray(new byte[1], ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeShortArray(null, ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.decodeShortArray(new byte[0], null));
+	}
+	
+	@Test
+	public void testEncodeCharArray() {
+		assertArrayEquals(new byte[] {0, 65, -1, -1}, Arrays.encode(new char[] {'A', '\uFFFF'}));
+		assertArrayEquals(new byte[0], Arrays.encode(new char[0]));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((char[])(null)));
+	}
+	
+	@Test
+	public void testEncodeCharArrayByteOrder() {
+		assertArrayEquals(new byte[] {0, 65, -1, -1}, Arrays.encode(new char[] {'A', '\uFFFF'}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new byte[] {65, 0, -1, -1}, Arrays.encode(new char[] {'A', '\uFFFF'}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertArrayEquals(new char[] {'A', '\uFFFF'}, Arrays.decodeCharArray(Arrays.encode(new char[] {'A', '\uFFFF'}, ByteOrder.nativeOrder()), ByteOrder.nativeOrder()));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((char[])(null), ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.encode(new char[0], null));
+	}
+	
+	@Test
+	public void testEncodeDoubleArray() {
+		assertArrayEquals(new byte[] {63, -16, 0, 0, 0, 0, 0, 0, -64, 4, 0, 0, 0, 0, 0, 0}, Arrays.encode(new double[] {1.0D, -2.5D}));
+		assertArrayEquals(new byte[0], Arrays.encode(new double[0]));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((double[])(null)));
+	}
+	
+	@Test
+	public void testEncodeDoubleArrayByteOrder() {
+		assertArrayEquals(new byte[] {63, -16, 0, 0, 0, 0, 0, 0, -64, 4, 0, 0, 0, 0, 0, 0}, Arrays.encode(new double[] {1.0D, -2.5D}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new byte[] {0, 0, 0, 0, 0, 0, -16, 63, 0, 0, 0, 0, 0, 0, 4, -64}, Arrays.encode(new double[] {1.0D, -2.5D}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertArrayEquals(new double[] {1.0D, -2.5D}, Arrays.decodeDoubleArray(Arrays.encode(new double[] {1.0D, -2.5D}, ByteOrder.nativeOrder()), ByteOrder.nativeOrder()));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((double[])(null), ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.encode(new double[0], null));
+	}
+	
+	@Test
+	public void testEncodeFloatArray() {
+		assertArrayEquals(new byte[] {63, -128, 0, 0, -64, 32, 0, 0}, Arrays.encode(new float[] {1.0F, -2.5F}));
+		assertArrayEquals(new byte[0], Arrays.encode(new float[0]));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((float[])(null)));
+	}
+	
+	@Test
+	public void testEncodeFloatArrayByteOrder() {
+		assertArrayEquals(new byte[] {63, -128, 0, 0, -64, 32, 0, 0}, Arrays.encode(new float[] {1.0F, -2.5F}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new byte[] {0, 0, -128, 63, 0, 0, 32, -64}, Arrays.encode(new float[] {1.0F, -2.5F}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertArrayEquals(new float[] {1.0F, -2.5F}, Arrays.decodeFloatArray(Arrays.encode(new float[] {1.0F, -2.5F}, ByteOrder.nativeOrder()), ByteOrder.nativeOrder()));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((float[])(null), ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.encode(new float[0], null));
+	}
+	
+	@Test
+	public void testEncodeIntArray() {
+		assertArrayEquals(new byte[] {0, 0, 0, 1, -1, -1, -1, -2}, Arrays.encode(new int[] {1, -2}));
+		assertArrayEquals(new byte[0], Arrays.encode(new int[0]));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((int[])(null)));
+	}
+	
+	@Test
+	public void testEncodeIntArrayByteOrder() {
+		assertArrayEquals(new byte[] {0, 0, 0, 1, -1, -1, -1, -2}, Arrays.encode(new int[] {1, -2}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new byte[] {1, 0, 0, 0, -2, -1, -1, -1}, Arrays.encode(new int[] {1, -2}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertArrayEquals(new int[] {1, -2}, Arrays.decodeIntArray(Arrays.encode(new int[] {1, -2}, ByteOrder.nativeOrder()), ByteOrder.nativeOrder()));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((int[])(null), ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.encode(new int[0], null));
+	}
+	
+	@Test
+	public void testEncodeLongArray() {
+		assertArrayEquals(new byte[] {0, 0, 0, 0, 0, 0, 0, 1, -1, -1, -1, -1, -1, -1, -1, -2}, Arrays.encode(new long[] {1L, -2L}));
+		assertArrayEquals(new byte[0], Arrays.encode(new long[0]));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((long[])(null)));
+	}
+	
+	@Test
+	public void testEncodeLongArrayByteOrder() {
+		assertArrayEquals(new byte[] {0, 0, 0, 0, 0, 0, 0, 1, -1, -1, -1, -1, -1, -1, -1, -2}, Arrays.encode(new long[] {1L, -2L}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new byte[] {1, 0, 0, 0, 0, 0, 0, 0, -2, -1, -1, -1, -1, -1, -1, -1}, Arrays.encode(new long[] {1L, -2L}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertArrayEquals(new long[] {1L, -2L}, Arrays.decodeLongArray(Arrays.encode(new long[] {1L, -2L}, ByteOrder.nativeOrder()), ByteOrder.nativeOrder()));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((long[])(null), ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.encode(new long[0], null));
+	}
+	
+	@Test
+	public void testEncodeShortArray() {
+		assertArrayEquals(new byte[] {0, 1, -1, -2}, Arrays.encode(new short[] {(short)(1), (short)(-2)}));
+		assertArrayEquals(new byte[0], Arrays.encode(new short[0]));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((short[])(null)));
+	}
+	
+	@Test
+	public void testEncodeShortArrayByteOrder() {
+		assertArrayEquals(new byte[] {0, 1, -1, -2}, Arrays.encode(new short[] {(short)(1), (short)(-2)}, ByteOrder.BIG_ENDIAN));
+		assertArrayEquals(new byte[] {1, 0, -2, -1}, Arrays.encode(new short[] {(short)(1), (short)(-2)}, ByteOrder.LITTLE_ENDIAN));
+		
+		assertArrayEquals(new short[] {(short)(1), (short)(-2)}, Arrays.decodeShortArray(Arrays.encode(new short[] {(short)(1), (short)(-2)}, ByteOrder.nativeOrder()), ByteOrder.nativeOrder()));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.encode((short[])(null), ByteOrder.BIG_ENDIAN));
+		assertThrows(NullPointerException.class, () -> Arrays.encode(new short[0], null));
+	}
+	
 	@Test
 	public void testEqualsBooleanArrayBooleanArray() {
 		final boolean[] a = new boolean[] {false, true, false};
@@ -262,6 +491,182 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.equals(new long[1], new long[1], +0, +0, -1));
 	}
 	
+	@Test
+	public void testEqualsParallelBooleanArrayBooleanArray() {
+		final boolean[] a = Arrays.generateBooleanArray(100000, index -> index % 3 == 0);
+		final boolean[] b = a.clone();
+		final boolean[] c = a.clone();
+		final boolean[] d = Arrays.generateBooleanArray(100001, index -> index % 3 == 0);
+		final boolean[] e = Arrays.generateBooleanArray(3, index -> index % 3 == 0);
+		final boolean[] f = Arrays.generateBooleanArray(3, index -> index % 3 == 0);
+		
+		c[c.length - 1] = !c[c.length - 1];
+		
+		assertTrue(Arrays.equalsParallel(a, a));
+		assertTrue(Arrays.equalsParallel(a, b));
+		assertTrue(Arrays.equalsParallel(e, f));
+		
+		assertFalse(Arrays.equalsParallel(a, c));
+		assertFalse(Arrays.equalsParallel(a, d));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(new boolean[0], null));
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(null, new boolean[0]));
+	}
+	
+	@Test
+	public void testEqualsParallelByteArrayByteArray() {
+		final byte[] a = Arrays.generateByteArray(100000, index -> (byte)(index));
+		final byte[] b = a.clone();
+		final byte[] c = a.clone();
+		final byte[] d = Arrays.generateByteArray(100001, index -> (byte)(index));
+		final byte[] e = Arrays.generateByteArray(3, index -> (byte)(index));
+		final byte[] f = Arrays.generateByteArray(3, index -> (byte)(index));
+		
+		c[c.length - 1] = (byte)(c[c.length - 1] + 1);
+		
+		assertTrue(Arrays.equalsParallel(a, a));
+		assertTrue(Arrays.equalsParallel(a, b));
+		assertTrue(Arrays.equalsParallel(e, f));
+		
+		assertFalse(Arrays.equalsParallel(a, c));
+		assertFalse(Arrays.equalsParallel(a, d));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(new byte[0], null));
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(null, new byte[0]));
+	}
+	
+	@Test
+	public void testEqualsParallelCharArrayCharArray() {
+		final char[] a = Arrays.generateCharArray(100000, index -> (char)(index));
+		final char[] b = a.clone();
+		final char[] c = a.clone();
+		final char[] d = Arrays.generateCharArray(100001, index -> (char)(index));
+		final char[] e = Arrays.generateCharArray(3, index -> (char)(index));
+		final char[] f = Arrays.generateCharArray(3, index -> (char)(index));
+		
+		c[c.length - 1] = (char)(c[c.length - 1] + 1);
+		
+		assertTrue(Arrays.equalsParallel(a, a));
+		assertTrue(Arrays.equalsParallel(a, b));
+		assertTrue(Arrays.equalsParallel(e, f));
+		
+		assertFalse(Arrays.equalsParallel(a, c));
+		assertFalse(Arrays.equalsParallel(a, d));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(new char[0], null));
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(null, new char[0]));
+	}
+	
+	@Test
+	public void testEqualsParallelDoubleArrayDoubleArray() {
+		final double[] a = Arrays.generateDoubleArray(100000, index -> index * 0.5D);
+		final double[] b = a.clone();
+		final double[] c = a.clone();
+		final double[] d = Arrays.generateDoubleArray(100001, index -> index * 0.5D);
+		final double[] e = Arrays.generateDoubleArray(3, index -> index * 0.5D);
+		final double[] f = Arrays.generateDoubleArray(3, index -> index * 0.5D);
+		
+		c[c.length - 1] = c[c.length - 1] + 1.0D;
+		
+		assertTrue(Arrays.equalsParallel(a, a));
+		assertTrue(Arrays.equalsParallel(a, b));
+		assertTrue(Arrays.equalsParallel(e, f));
+		
+		assertFalse(Arrays.equalsParallel(a, c));
+		assertFalse(Arrays.equalsParallel(a, d));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(new double[0], null));
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(null, new double[0]));
+	}
+	
+	@Test
+	public void testEqualsParallelFloatArrayFloatArray() {
+		final float[] a = Arrays.generateFloatArray(100000, index -> index * 0.5F);
+		final float[] b = a.clone();
+		final float[] c = a.clone();
+		final float[] d = Arrays.generateFloatArray(100001, index -> index * 0.5F);
+		final float[] e = Arrays.generateFloatArray(3, index -> index * 0.5F);
+		final float[] f = Arrays.generateFloatArray(3, index -> index * 0.5F);
+		
+		c[c.length - 1] = c[c.length - 1] + 1.0F;
+		
+		assertTrue(Arrays.equalsParallel(a, a));
+		assertTrue(Arrays.equalsParallel(a, b));
+		assertTrue(Arrays.equalsParallel(e, f));
+		
+		assertFalse(Arrays.equalsParallel(a, c));
+		assertFalse(Arrays.equalsParallel(a, d));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(new float[0], null));
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(null, new float[0]));
+	}
+	
+	@Test
+	public void testEqualsParallelIntArrayIntArray() {
+		final int[] a = Arrays.generateIntArray(100000, index -> index * 31);
+		final int[] b = a.clone();
+		final int[] c = a.clone();
+		final int[] d = Arrays.generateIntArray(100001, index -> index * 31);
+		final int[] e = Arrays.generateIntArray(3, index -> index * 31);
+		final int[] f = Arrays.generateIntArray(3, index -> index * 31);
+		
+		c[c.length - 1] = c[c.length - 1] + 1;
+		
+		assertTrue(Arrays.equalsParallel(a, a));
+		assertTrue(Arrays.equalsParallel(a, b));
+		assertTrue(Arrays.equalsParallel(e, f));
+		
+		assertFalse(Arrays.equalsParallel(a, c));
+		assertFalse(Arrays.equalsParallel(a, d));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(new int[0], null));
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(null, new int[0]));
+	}
+	
+	@Test
+	public void testEqualsParallelLongArrayLongArray() {
+		final long[] a = Arrays.generateLongArray(100000, index -> index * 1000000007L);
+		final long[] b = a.clone();
+		final long[] c = a.clone();
+		final long[] d = Arrays.generateLongArray(100001, index -> index * 1000000007L);
+		final long[] e = Arrays.generateLongArray(3, index -> index * 1000000007L);
+		final long[] f = Arrays.generateLongArray(3, index -> index * 1000000007L);
+		
+		c[c.length - 1] = c[c.length - 1] + 1L;
+		
+		assertTrue(Arrays.equalsParallel(a, a));
+		assertTrue(Arrays.equalsParallel(a, b));
+		assertTrue(Arrays.equalsParallel(e, f));
+		
+		assertFalse(Arrays.equalsParallel(a, c));
+		assertFalse(Arrays.equalsParallel(a, d));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(new long[0], null));
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(null, new long[0]));
+	}
+	
+	@Test
+	public void testEqualsParallelShortArrayShortArray() {
+		final short[] a = Arrays.generateShortArray(100000, index -> (short)(index));
+		final short[] b = a.clone();
+		final short[] c = a.clone();
+		final short[] d = Arrays.generateShortArray(100001, index -> (short)(index));
+		final short[] e = Arrays.generateShortArray(3, index -> (short)(index));
+		final short[] f = Arrays.generateShortArray(3, index -> (short)(index));
+		
+		c[c.length - 1] = (short)(c[c.length - 1] + 1);
+		
+		assertTrue(Arrays.equalsParallel(a, a));
+		assertTrue(Arrays.equalsParallel(a, b));
+		assertTrue(Arrays.equalsParallel(e, f));
+		
+		assertFalse(Arrays.equalsParallel(a, c));
+		assertFalse(Arrays.equalsParallel(a, d));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(new short[0], null));
+		assertThrows(NullPointerException.class, () -> Arrays.equalsParallel(null, new short[0]));
+	}
+	
 	@Test
 	public void testEqualsShortArrayShortArray() {
 		final short[] a = new short[] {(short)(0), (short)(1), (short)(2)};
@@ -302,6 +707,15 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.generateBooleanArray(0, null));
 	}
 	
+	@Test
+	public void testGenerateBooleanArrayParallel() {
+		assertArrayEquals(Arrays.generateBooleanArray(3, index -> index % 3 == 0), Arrays.generateBooleanArrayParallel(3, index -> index % 3 == 0));
+		assertArrayEquals(Arrays.generateBooleanArray(100000, index -> index % 3 == 0), Arrays.generateBooleanArrayParallel(100000, index -> index % 3 == 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.generateBooleanArrayParallel(-1, index -> index % 3 == 0));
+		assertThrows(NullPointerException.class, () -> Arrays.generateBooleanArrayParallel(0, null));
+	}
+	
 	@Test
 	public void testGenerateByteArray() {
 		assertArrayEquals(new byte[] {(byte)(0), (byte)(1), (byte)(2)}, Arrays.generateByteArray(3, index -> (byte)(index)));
@@ -310,6 +724,15 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.generateByteArray(0, null));
 	}
 	
+	@Test
+	public void testGenerateByteArrayParallel() {
+		assertArrayEquals(Arrays.generateByteArray(3, index -> (byte)(index)), Arrays.generateByteArrayParallel(3, index -> (byte)(index)));
+		assertArrayEquals(Arrays.generateByteArray(100000, index -> (byte)(index)), Arrays.generateByteArrayParallel(100000, index -> (byte)(index)));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.generateByteArrayParallel(-1, index -> (byte)(index)));
+		assertThrows(NullPointerException.class, () -> Arrays.generateByteArrayParallel(0, null));
+	}
+	
 	@Test
 	public void testGenerateCharArray() {
 		assertArrayEquals(new char[] {'A', 'B', 'C'}, Arrays.generateCharArray(3, index -> (char)('A' + index)));
@@ -318,6 +741,15 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.generateCharArray(0, null));
 	}
 	
+	@Test
+	public void testGenerateCharArrayParallel() {
+		assertArrayEquals(Arrays.generateCharArray(3, index -> (char)(index)), Arrays.generateCharArrayParallel(3, index -> (char)(index)));
+		assertArrayEquals(Arrays.generateCharArray(100000, index -> (char)(index)), Arrays.generateCharArrayParallel(100000, index -> (char)(index)));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.generateCharArrayParallel(-1, index -> (char)(index)));
+		assertThrows(NullPointerException.class, () -> Arrays.generateCharArrayParallel(0, null));
+	}
+	
 	@Test
 	public void testGenerateDoubleArray() {
 		assertArrayEquals(new double[] {0.0D, 1.0D, 2.0D}, Arrays.generateDoubleArray(3, index -> index));
@@ -326,6 +758,15 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.generateDoubleArray(0, null));
 	}
 	
+	@Test
+	public void testGenerateDoubleArrayParallel() {
+		assertArrayEquals(Arrays.generateDoubleArray(3, index -> index * 0.5D), Arrays.generateDoubleArrayParallel(3, index -> index * 0.5D));
+		assertArrayEquals(Arrays.generateDoubleArray(100000, index -> index * 0.5D), Arrays.generateDoubleArrayParallel(100000, index -> index * 0.5D));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.generateDoubleArrayParallel(-1, index -> index * 0.5D));
+		assertThrows(NullPointerException.class, () -> Arrays.generateDoubleArrayParallel(0, null));
+	}
+	
 	@Test
 	public void testGenerateFloatArray() {
 		assertArrayEquals(new float[] {0.0F, 1.0F, 2.0F}, Arrays.generateFloatArray(3, index -> index));
@@ -334,6 +775,15 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.generateFloatArray(0, null));
 	}
 	
+	@Test
+	public void testGenerateFloatArrayParallel() {
+		assertArrayEquals(Arrays.generateFloatArray(3, index -> index * 0.5F), Arrays.generateFloatArrayParallel(3, index -> index * 0.5F));
+		assertArrayEquals(Arrays.generateFloatArray(100000, index -> index * 0.5F), Arrays.generateFloatArrayParallel(100000, index -> index * 0.5F));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.generateFloatArrayParallel(-1, index -> index * 0.5F));
+		assertThrows(NullPointerException.class, () -> Arrays.generateFloatArrayParallel(0, null));
+	}
+	
 	@Test
 	public void testGenerateIntArray() {
 		assertArrayEquals(new int[] {0, 1, 2}, Arrays.generateIntArray(3, index -> index));
@@ -342,6 +792,15 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.generateIntArray(0, null));
 	}
 	
+	@Test
+	public void testGenerateIntArrayParallel() {
+		assertArrayEquals(Arrays.generateIntArray(3, index -> index * 31), Arrays.generateIntArrayParallel(3, index -> index * 31));
+		assertArrayEquals(Arrays.generateIntArray(100000, index -> index * 31), Arrays.generateIntArrayParallel(100000, index -> index * 31));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.generateIntArrayParallel(-1, index -> index * 31));
+		assertThrows(NullPointerException.class, () -> Arrays.generateIntArrayParallel(0, null));
+	}
+	
 	@Test
 	public void testGenerateLongArray() {
 		assertArrayEquals(new long[] {0L, 1L, 2L}, Arrays.generateLongArray(3, index -> index));
@@ -350,6 +809,15 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.generateLongArray(0, null));
 	}
 	
+	@Test
+	public void testGenerateLongArrayParallel() {
+		assertArrayEquals(Arrays.generateLongArray(3, index -> index * 1000000007L), Arrays.generateLongArrayParallel(3, index -> index * 1000000007L));
+		assertArrayEquals(Arrays.generateLongArray(100000, index -> index * 1000000007L), Arrays.generateLongArrayParallel(100000, index -> index * 1000000007L));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.generateLongArrayParallel(-1, index -> index * 1000000007L));
+		assertThrows(NullPointerException.class, () -> Arrays.generateLongArrayParallel(0, null));
+	}
+	
 	@Test
 	public void testGenerateShortArray() {
 		assertArrayEquals(new short[] {(short)(0), (short)(1), (short)(2)}, Arrays.generateShortArray(3, index -> (short)(index)));
@@ -358,6 +826,15 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.generateShortArray(0, null));
 	}
 	
+	@Test
+	public void testGenerateShortArrayParallel() {
+		assertArrayEquals(Arrays.generateShortArray(3, index -> (short)(index)), Arrays.generateShortArrayParallel(3, index -> (short)(index)));
+		assertArrayEquals(Arrays.generateShortArray(100000, index -> (short)(index)), Arrays.generateShortArrayParallel(100000, index -> (short)(index)));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.generateShortArrayParallel(-1, index -> (short)(index)));
+		assertThrows(NullPointerException.class, () -> Arrays.generateShortArrayParallel(0, null));
+	}
+	
 	@Test
 	public void testHashCodeBooleanArray() {
 		final boolean[] a = {false, true, false};
@@ -428,6 +905,110 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.hashCode((long[])(null)));
 	}
 	
+	@Test
+	public void testHashCodeParallelBooleanArray() {
+		final boolean[] a = Arrays.generateBooleanArray(3, index -> index % 3 == 0);
+		final boolean[] b = Arrays.generateBooleanArray(16384 * 4, index -> index % 3 == 0);
+		final boolean[] c = Arrays.generateBooleanArray(100000, index -> index % 3 == 0);
+		
+		assertEquals(Arrays.hashCode(a), Arrays.hashCodeParallel(a));
+		assertEquals(Arrays.hashCode(b), Arrays.hashCodeParallel(b));
+		assertEquals(Arrays.hashCode(c), Arrays.hashCodeParallel(c));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.hashCodeParallel((boolean[])(null)));
+	}
+	
+	@Test
+	public void testHashCodeParallelByteArray() {
+		final byte[] a = Arrays.generateByteArray(3, index -> (byte)(index));
+		final byte[] b = Arrays.generateByteArray(16384 * 4, index -> (byte)(index));
+		final byte[] c = Arrays.generateByteArray(100000, index -> (byte)(index));
+		
+		assertEquals(Arrays.hashCode(a), Arrays.hashCodeParallel(a));
+		assertEquals(Arrays.hashCode(b), Arrays.hashCodeParallel(b));
+		assertEquals(Arrays.hashCode(c), Arrays.hashCodeParallel(c));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.hashCodeParallel((byte[])(null)));
+	}
+	
+	@Test
+	public void testHashCodeParallelCharArray() {
+		final char[] a = Arrays.generateCharArray(3, index -> (char)(index));
+		final char[] b = Arrays.generateCharArray(16384 * 4, index -> (char)(index));
+		final char[] c = Arrays.generateCharArray(100000, index -> (char)(index));
+		
+		assertEquals(Arrays.hashCode(a), Arrays.hashCodeParallel(a));
+		assertEquals(Arrays.hashCode(b), Arrays.hashCodeParallel(b));
+		assertEquals(Arrays.hashCode(c), Arrays.hashCodeParallel(c));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.hashCodeParallel((char[])(null)));
+	}
+	
+	@Test
+	public void testHashCodeParallelDoubleArray() {
+		final double[] a = Arrays.generateDoubleArray(3, index -> index * 0.5D);
+		final double[] b = Arrays.generateDoubleArray(16384 * 4, index -> index * 0.5D);
+		final double[] c = Arrays.generateDoubleArray(100000, index -> index * 0.5D);
+		
+		assertEquals(Arrays.hashCode(a), Arrays.hashCodeParallel(a));
+		assertEquals(Arrays.hashCode(b), Arrays.hashCodeParallel(b));
+		assertEquals(Arrays.hashCode(c), Arrays.hashCodeParallel(c));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.hashCodeParallel((double[])(null)));
+	}
+	
+	@Test
+	public void testHashCodeParallelFloatArray() {
+		final float[] a = Arrays.generateFloatArray(3, index -> index * 0.5F);
+		final float[] b = Arrays.generateFloatArray(16384 * 4, index -> index * 0.5F);
+		final float[] c = Arrays.generateFloatArray(100000, index -> index * 0.5F);
+		
+		assertEquals(Arrays.hashCode(a), Arrays.hashCodeParallel(a));
+		assertEquals(Arrays.hashCode(b), Arrays.hashCodeParallel(b));
+		assertEquals(Arrays.hashCode(c), Arrays.hashCodeParallel(c));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.hashCodeParallel((float[])(null)));
+	}
+	
+	@Test
+	public void testHashCodeParallelIntArray() {
+		final int[] a = Arrays.generateIntArray(3, index -> index * 31);
+		final int[] b = Arrays.generateIntArray(16384 * 4, index -> index * 31);
+		final int[] c = Arrays.generateIntArray(100000, index -> index * 31);
+		
+		assertEquals(Arrays.hashCode(a), Arrays.hashCodeParallel(a));
+		assertEquals(Arrays.hashCode(b), Arrays.hashCodeParallel(b));
+		assertEquals(Arrays.hashCode(c), Arrays.hashCodeParallel(c));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.hashCodeParallel((int[])(null)));
+	}
+	
+	@Test
+	public void testHashCodeParallelLongArray() {
+		final long[] a = Arrays.generateLongArray(3, index -> index * 1000000007L);
+		final long[] b = Arrays.generateLongArray(16384 * 4, index -> index * 1000000007L);
+		final long[] c = Arrays.generateLongArray(100000, index -> index * 1000000007L);
+		
+		assertEquals(Arrays.hashCode(a), Arrays.hashCodeParallel(a));
+		assertEquals(Arrays.hashCode(b), Arrays.hashCodeParallel(b));
+		assertEquals(Arrays.hashCode(c), Arrays.hashCodeParallel(c));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.hashCodeParallel((long[])(null)));
+	}
+	
+	@Test
+	public void testHashCodeParallelShortArray() {
+		final short[] a = Arrays.generateShortArray(3, index -> (short)(index));
+		final short[] b = Arrays.generateShortArray(16384 * 4, index -> (short)(index));
+		final short[] c = Arrays.generateShortArray(100000, index -> (short)(index));
+		
+		assertEquals(Arrays.hashCode(a), Arrays.hashCodeParallel(a));
+		assertEquals(Arrays.hashCode(b), Arrays.hashCodeParallel(b));
+		assertEquals(Arrays.hashCode(c), Arrays.hashCodeParallel(c));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.hashCodeParallel((short[])(null)));
+	}
+	
 	@Test
 	public void testHashCodeShortArray() {
 		final short[] a = {(short)(0), (short)(1), (short)(2)};
@@ -471,6 +1052,18 @@ public final class ArraysUnitTests {
 		assertEquals(-1, Arrays.indexOf(new byte[] {3, 4}, new byte[] {0, 1, 2, 3}, false, false));
 		assertEquals(-1, Arrays.indexOf(new byte[] {3, 4}, new byte[] {0, 1, 2, 3}, true, true));
 		
+		final byte[] array = Arrays.generateByteArray(1000, index -> (byte)(index % 3));
+		
+		array[702] = (byte)(1);
+		
+		assertEquals(+0, Arrays.indexOf(Arrays.generateByteArray(300, index -> (byte)(index % 3)), array, false, false));
+		assertEquals(+1, Arrays.indexOf(new byte[] {(byte)(1), (byte)(2), (byte)(0)}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new byte[] {(byte)(2), (byte)(1)}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new byte[] {(byte)(2), (byte)(1), (byte)(1), (byte)(2)}, array, false, true));
+		assertEquals(997, Arrays.indexOf(new byte[] {(byte)(1), (byte)(2), (byte)(3)}, Arrays.generateByteArray(1000, index -> (byte)(Math.max(index - 996, 0))), false, false));
+		assertEquals(-1, Arrays.indexOf(new byte[] {(byte)(2), (byte)(2)}, array, false, false));
+		assertEquals(-1, Arrays.indexOf(new byte[] {(byte)(3), (byte)(0)}, array, false, false));
+		
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(new byte[0], null, false, false));
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(null, new byte[0], false, false));
 		assertThrows(IllegalArgumentException.class, () -> Arrays.indexOf(new byte[2], new byte[5], true, false));
@@ -481,6 +1074,25 @@ public final class ArraysUnitTests {
 		assertEquals(+1, Arrays.indexOf((byte)(1), new byte[] {0, 1, 2}));
 		assertEquals(-1, Arrays.indexOf((byte)(3), new byte[] {0, 1, 2}));
 		
+		final byte[] array = new byte[100];
+		
+		java.util.Arrays.fill(array, (byte)(1));
+		
+		assertEquals(-1, Arrays.indexOf((byte)(0), array));
+		assertEquals(-1, Arrays.indexOf((byte)(-128), array));
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = (byte)(-128);
+			
+			assertEquals(i, Arrays.indexOf((byte)(-128), array));
+			
+			array[i] = (byte)(0);
+			
+			assertEquals(i, Arrays.indexOf((byte)(0), array));
+			
+			array[i] = (byte)(1);
+		}
+		
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf((byte)(0), (byte[])(null)));
 	}
 	
@@ -494,6 +1106,18 @@ public final class ArraysUnitTests {
 		assertEquals(-1, Arrays.indexOf(new char[] {'D', 'E'}, new char[] {'A', 'B', 'C', 'D'}, false, false));
 		assertEquals(-1, Arrays.indexOf(new char[] {'D', 'E'}, new char[] {'A', 'B', 'C', 'D'}, true, true));
 		
+		final char[] array = Arrays.generateCharArray(1000, index -> (char)(index % 3));
+		
+		array[702] = (char)(1);
+		
+		assertEquals(+0, Arrays.indexOf(Arrays.generateCharArray(300, index -> (char)(index % 3)), array, false, false));
+		assertEquals(+1, Arrays.indexOf(new char[] {(char)(1), (char)(2), (char)(0)}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new char[] {(char)(2), (char)(1)}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new char[] {(char)(2), (char)(1), (char)(1), (char)(2)}, array, false, true));
+		assertEquals(997, Arrays.indexOf(new char[] {(char)(1), (char)(2), (char)(3)}, Arrays.generateCharArray(1000, index -> (char)(Math.max(index - 996, 0))), false, false));
+		assertEquals(-1, Arrays.indexOf(new char[] {(char)(2), (char)(2)}, array, false, false));
+		assertEquals(-1, Arrays.indexOf(new char[] {(char)(3), (char)(0)}, array, false, false));
+		
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(new char[0], null, false, false));
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(null, new char[0], false, false));
 		assertThrows(IllegalArgumentException.class, () -> Arrays.indexOf(new char[2], new char[5], true, false));
@@ -517,6 +1141,18 @@ public final class ArraysUnitTests {
 		assertEquals(-1, Arrays.indexOf(new double[] {3.0D, 4.0D}, new double[] {0.0D, 1.0D, 2.0D, 3.0D}, false, false));
 		assertEquals(-1, Arrays.indexOf(new double[] {3.0D, 4.0D}, new double[] {0.0D, 1.0D, 2.0D, 3.0D}, true, true));
 		
+		final double[] array = Arrays.generateDoubleArray(1000, index -> index % 3);
+		
+		array[702] = 1.0D;
+		
+		assertEquals(+0, Arrays.indexOf(Arrays.generateDoubleArray(300, index -> index % 3), array, false, false));
+		assertEquals(+1, Arrays.indexOf(new double[] {1.0D, 2.0D, 0.0D}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new double[] {2.0D, 1.0D}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new double[] {2.0D, 1.0D, 1.0D, 2.0D}, array, false, true));
+		assertEquals(997, Arrays.indexOf(new double[] {1.0D, 2.0D, 3.0D}, Arrays.generateDoubleArray(1000, index -> Math.max(index - 996, 0)), false, false));
+		assertEquals(-1, Arrays.indexOf(new double[] {2.0D, 2.0D}, array, false, false));
+		assertEquals(-1, Arrays.indexOf(new double[] {3.0D, 0.0D}, array, false, false));
+		
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(new double[0], null, false, false));
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(null, new double[0], false, false));
 		assertThrows(IllegalArgumentException.class, () -> Arrays.indexOf(new double[2], new double[5], true, false));
@@ -540,6 +1176,18 @@ public final class ArraysUnitTests {
 		assertEquals(-1, Arrays.indexOf(new float[] {3.0F, 4.0F}, new float[] {0.0F, 1.0F, 2.0F, 3.0F}, false, false));
 		assertEquals(-1, Arrays.indexOf(new float[] {3.0F, 4.0F}, new float[] {0.0F, 1.0F, 2.0F, 3.0F}, true, true));
 		
+		final float[] array = Arrays.generateFloatArray(1000, index -> index % 3);
+		
+		array[702] = 1.0F;
+		
+		assertEquals(+0, Arrays.indexOf(Arrays.generateFloatArray(300, index -> index % 3), array, false, false));
+		assertEquals(+1, Arrays.indexOf(new float[] {1.0F, 2.0F, 0.0F}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new float[] {2.0F, 1.0F}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new float[] {2.0F, 1.0F, 1.0F, 2.0F}, array, false, true));
+		assertEquals(997, Arrays.indexOf(new float[] {1.0F, 2.0F, 3.0F}, Arrays.generateFloatArray(1000, index -> Math.max(index - 996, 0)), false, false));
+		assertEquals(-1, Arrays.indexOf(new float[] {2.0F, 2.0F}, array, false, false));
+		assertEquals(-1, Arrays.indexOf(new float[] {3.0F, 0.0F}, array, false, false));
+		
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(new float[0], null, false, false));
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(null, new float[0], false, false));
 		assertThrows(IllegalArgumentException.class, () -> Arrays.indexOf(new float[2], new float[5], true, false));
@@ -563,6 +1211,18 @@ public final class ArraysUnitTests {
 		assertEquals(-1, Arrays.indexOf(new int[] {3, 4}, new int[] {0, 1, 2, 3}, false, false));
 		assertEquals(-1, Arrays.indexOf(new int[] {3, 4}, new int[] {0, 1, 2, 3}, true, true));
 		
+		final int[] array = Arrays.generateIntArray(1000, index -> index % 3);
+		
+		array[702] = 1;
+		
+		assertEquals(+0, Arrays.indexOf(Arrays.generateIntArray(300, index -> index % 3), array, false, false));
+		assertEquals(+1, Arrays.indexOf(new int[] {1, 2, 0}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new int[] {2, 1}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new int[] {2, 1, 1, 2}, array, false, true));
+		assertEquals(997, Arrays.indexOf(new int[] {1, 2, 3}, Arrays.generateIntArray(1000, index -> Math.max(index - 996, 0)), false, false));
+		assertEquals(-1, Arrays.indexOf(new int[] {2, 2}, array, false, false));
+		assertEquals(-1, Arrays.indexOf(new int[] {3, 0}, array, false, false));
+		
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(new int[0], null, false, false));
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(null, new int[0], false, false));
 		assertThrows(IllegalArgumentException.class, () -> Arrays.indexOf(new int[2], new int[5], true, false));
@@ -586,6 +1246,18 @@ public final class ArraysUnitTests {
 		assertEquals(-1, Arrays.indexOf(new long[] {3L, 4L}, new long[] {0L, 1L, 2L, 3L}, false, false));
 		assertEquals(-1, Arrays.indexOf(new long[] {3L, 4L}, new long[] {0L, 1L, 2L, 3L}, true, true));
 		
+		final long[] array = Arrays.generateLongArray(1000, index -> index % 3);
+		
+		array[702] = 1L;
+		
+		assertEquals(+0, Arrays.indexOf(Arrays.generateLongArray(300, index -> index % 3), array, false, false));
+		assertEquals(+1, Arrays.indexOf(new long[] {1L, 2L, 0L}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new long[] {2L, 1L}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new long[] {2L, 1L, 1L, 2L}, array, false, true));
+		assertEquals(997, Arrays.indexOf(new long[] {1L, 2L, 3L}, Arrays.generateLongArray(1000, index -> Math.max(index - 996, 0)), false, false));
+		assertEquals(-1, Arrays.indexOf(new long[] {2L, 2L}, array, false, false));
+		assertEquals(-1, Arrays.indexOf(new long[] {3L, 0L}, array, false, false));
+		
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(new long[0], null, false, false));
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(null, new long[0], false, false));
 		assertThrows(IllegalArgumentException.class, () -> Arrays.indexOf(new long[2], new long[5], true, false));
@@ -609,6 +1281,18 @@ public final class ArraysUnitTests {
 		assertEquals(-1, Arrays.indexOf(new short[] {3, 4}, new short[] {0, 1, 2, 3}, false, false));
 		assertEquals(-1, Arrays.indexOf(new short[] {3, 4}, new short[] {0, 1, 2, 3}, true, true));
 		
+		final short[] array = Arrays.generateShortArray(1000, index -> (short)(index % 3));
+		
+		array[702] = (short)(1);
+		
+		assertEquals(+0, Arrays.indexOf(Arrays.generateShortArray(300, index -> (short)(index % 3)), array, false, false));
+		assertEquals(+1, Arrays.indexOf(new short[] {(short)(1), (short)(2), (short)(0)}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new short[] {(short)(2), (short)(1)}, array, false, false));
+		assertEquals(701, Arrays.indexOf(new short[] {(short)(2), (short)(1), (short)(1), (short)(2)}, array, false, true));
+		assertEquals(997, Arrays.indexOf(new short[] {(short)(1), (short)(2), (short)(3)}, Arrays.generateShortArray(1000, index -> (short)(Math.max(index - 996, 0))), false, false));
+		assertEquals(-1, Arrays.indexOf(new short[] {(short)(2), (short)(2)}, array, false, false));
+		assertEquals(-1, Arrays.indexOf(new short[] {(short)(3), (short)(0)}, array, false, false));
+		
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(new short[0], null, false, false));
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf(null, new short[0], false, false));
 		assertThrows(IllegalArgumentException.class, () -> Arrays.indexOf(new short[2], new short[5], true, false));
@@ -622,6 +1306,23 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.indexOf((short)(0), (short[])(null)));
 	}
 	
+	@Test
+	public void testMergeBooleanArrayIntBooleanArrays() {
+		final boolean[] destination = new boolean[5];
+		
+		assertEquals(3, Arrays.merge(destination, 1, new boolean[] {true, false}, new boolean[] {true}));
+		assertEquals(0, Arrays.merge(destination, 5));
+		
+		assertArrayEquals(Arrays.splice(Arrays.merge(new boolean[1], new boolean[] {true, false}, new boolean[] {true}), 4), java.util.Arrays.copyOf(destination, 4));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.merge((boolean[])(null), 0, new boolean[] {true, false}));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, (boolean[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, new boolean[] {true, false}, null));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, -1, new boolean[] {true, false}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 6, new boolean[] {true, false}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 4, new boolean[] {true, false}));
+	}
+	
 	@Test
 	public void testMergeBooleanArrays() {
 		assertArrayEquals(new boolean[] {false, false, false, true, true, true, false, false, false}, Arrays.merge(new boolean[] {false, false, false}, new boolean[] {true, true, true}, new boolean[] {false, false, false}));
@@ -630,6 +1331,23 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.merge((boolean[][])(null)));
 	}
 	
+	@Test
+	public void testMergeByteArrayIntByteArrays() {
+		final byte[] destination = new byte[5];
+		
+		assertEquals(3, Arrays.merge(destination, 1, new byte[] {(byte)(1), (byte)(2)}, new byte[] {(byte)(3)}));
+		assertEquals(0, Arrays.merge(destination, 5));
+		
+		assertArrayEquals(Arrays.splice(Arrays.merge(new byte[1], new byte[] {(byte)(1), (byte)(2)}, new byte[] {(byte)(3)}), 4), java.util.Arrays.copyOf(destination, 4));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.merge((byte[])(null), 0, new byte[] {(byte)(1), (byte)(2)}));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, (byte[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, new byte[] {(byte)(1), (byte)(2)}, null));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, -1, new byte[] {(byte)(1), (byte)(2)}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 6, new byte[] {(byte)(1), (byte)(2)}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 4, new byte[] {(byte)(1), (byte)(2)}));
+	}
+	
 	@Test
 	public void testMergeByteArrays() {
 		assertArrayEquals(new byte[] {(byte)(1), (byte)(2), (byte)(3), (byte)(4), (byte)(5), (byte)(6), (byte)(7), (byte)(8), (byte)(9)}, Arrays.merge(new byte[] {(byte)(1), (byte)(2), (byte)(3)}, new byte[] {(byte)(4), (byte)(5), (byte)(6)}, new byte[] {(byte)(7), (byte)(8), (byte)(9)}));
@@ -638,6 +1356,23 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.merge((byte[][])(null)));
 	}
 	
+	@Test
+	public void testMergeCharArrayIntCharArrays() {
+		final char[] destination = new char[5];
+		
+		assertEquals(3, Arrays.merge(destination, 1, new char[] {(char)(1), (char)(2)}, new char[] {(char)(3)}));
+		assertEquals(0, Arrays.merge(destination, 5));
+		
+		assertArrayEquals(Arrays.splice(Arrays.merge(new char[1], new char[] {(char)(1), (char)(2)}, new char[] {(char)(3)}), 4), java.util.Arrays.copyOf(destination, 4));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.merge((char[])(null), 0, new char[] {(char)(1), (char)(2)}));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, (char[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, new char[] {(char)(1), (char)(2)}, null));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, -1, new char[] {(char)(1), (char)(2)}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 6, new char[] {(char)(1), (char)(2)}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 4, new char[] {(char)(1), (char)(2)}));
+	}
+	
 	@Test
 	public void testMergeCharArrays() {
 		assertArrayEquals(new char[] {'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I'}, Arrays.merge(new char[] {'A', 'B', 'C'}, new char[] {'D', 'E', 'F'}, new char[] {'G', 'H', 'I'}));
@@ -646,6 +1381,23 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.merge((char[][])(null)));
 	}
 	
+	@Test
+	public void testMergeDoubleArrayIntDoubleArrays() {
+		final double[] destination = new double[5];
+		
+		assertEquals(3, Arrays.merge(destination, 1, new double[] {1.0D, 2.0D}, new double[] {3.0D}));
+		assertEquals(0, Arrays.merge(destination, 5));
+		
+		assertArrayEquals(Arrays.splice(Arrays.merge(new double[1], new double[] {1.0D, 2.0D}, new double[] {3.0D}), 4), java.util.Arrays.copyOf(destination, 4));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.merge((double[])(null), 0, new double[] {1.0D, 2.0D}));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, (double[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, new double[] {1.0D, 2.0D}, null));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, -1, new double[] {1.0D, 2.0D}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 6, new double[] {1.0D, 2.0D}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 4, new double[] {1.0D, 2.0D}));
+	}
+	
 	@Test
 	public void testMergeDoubleArrays() {
 		assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D, 6.0D, 7.0D, 8.0D, 9.0D}, Arrays.merge(new double[] {1.0D, 2.0D, 3.0D}, new double[] {4.0D, 5.0D, 6.0D}, new double[] {7.0D, 8.0D, 9.0D}));
@@ -654,6 +1406,23 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.merge((double[][])(null)));
 	}
 	
+	@Test
+	public void testMergeFloatArrayIntFloatArrays() {
+		final float[] destination = new float[5];
+		
+		assertEquals(3, Arrays.merge(destination, 1, new float[] {1.0F, 2.0F}, new float[] {3.0F}));
+		assertEquals(0, Arrays.merge(destination, 5));
+		
+		assertArrayEquals(Arrays.splice(Arrays.merge(new float[1], new float[] {1.0F, 2.0F}, new float[] {3.0F}), 4), java.util.Arrays.copyOf(destination, 4));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.merge((float[])(null), 0, new float[] {1.0F, 2.0F}));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, (float[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, new float[] {1.0F, 2.0F}, null));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, -1, new float[] {1.0F, 2.0F}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 6, new float[] {1.0F, 2.0F}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 4, new float[] {1.0F, 2.0F}));
+	}
+	
 	@Test
 	public void testMergeFloatArrays() {
 		assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F, 6.0F, 7.0F, 8.0F, 9.0F}, Arrays.merge(new float[] {1.0F, 2.0F, 3.0F}, new float[] {4.0F, 5.0F, 6.0F}, new float[] {7.0F, 8.0F, 9.0F}));
@@ -662,6 +1431,23 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.merge((float[][])(null)));
 	}
 	
+	@Test
+	public void testMergeIntArrayIntIntArrays() {
+		final int[] destination = new int[5];
+		
+		assertEquals(3, Arrays.merge(destination, 1, new int[] {1, 2}, new int[] {3}));
+		assertEquals(0, Arrays.merge(destination, 5));
+		
+		assertArrayEquals(Arrays.splice(Arrays.merge(new int[1], new int[] {1, 2}, new int[] {3}), 4), java.util.Arrays.copyOf(destination, 4));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.merge((int[])(null), 0, new int[] {1, 2}));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, (int[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, new int[] {1, 2}, null));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, -1, new int[] {1, 2}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 6, new int[] {1, 2}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 4, new int[] {1, 2}));
+	}
+	
 	@Test
 	public void testMergeIntArrays() {
 		assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9}, Arrays.merge(new int[] {1, 2, 3}, new int[] {4, 5, 6}, new int[] {7, 8, 9}));
@@ -670,6 +1456,23 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.merge((int[][])(null)));
 	}
 	
+	@Test
+	public void testMergeLongArrayIntLongArrays() {
+		final long[] destination = new long[5];
+		
+		assertEquals(3, Arrays.merge(destination, 1, new long[] {1L, 2L}, new long[] {3L}));
+		assertEquals(0, Arrays.merge(destination, 5));
+		
+		assertArrayEquals(Arrays.splice(Arrays.merge(new long[1], new long[] {1L, 2L}, new long[] {3L}), 4), java.util.Arrays.copyOf(destination, 4));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.merge((long[])(null), 0, new long[] {1L, 2L}));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, (long[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, new long[] {1L, 2L}, null));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, -1, new long[] {1L, 2L}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 6, new long[] {1L, 2L}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 4, new long[] {1L, 2L}));
+	}
+	
 	@Test
 	public void testMergeLongArrays() {
 		assertArrayEquals(new long[] {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L}, Arrays.merge(new long[] {1L, 2L, 3L}, new long[] {4L, 5L, 6L}, new long[] {7L, 8L, 9L}));
@@ -678,6 +1481,175 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.merge((long[][])(null)));
 	}
 	
+	@Test
+	public void testMergeParallelBooleanArrays() {
+		final boolean[] a = Arrays.generateBooleanArray(50000, index -> index % 3 == 0);
+		final boolean[] b = Arrays.generateBooleanArray(0, index -> index % 3 == 0);
+		final boolean[] c = Arrays.generateBooleanArray(70001, index -> index % 3 == 0);
+		final boolean[] d = Arrays.generateBooleanArray(3, index -> index % 3 == 0);
+		
+		final boolean[][] e = new boolean[2048][];
+		
+		java.util.Arrays.fill(e, new boolean[1 << 20]);
+		
+		assertArrayEquals(Arrays.merge(a, b, c, b), Arrays.mergeParallel(a, b, c, b));
+		assertArrayEquals(Arrays.merge(b, d, d), Arrays.mergeParallel(b, d, d));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.mergeParallel(e));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel((boolean[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel(new boolean[0], null));
+	}
+	
+	@Test
+	public void testMergeParallelByteArrays() {
+		final byte[] a = Arrays.generateByteArray(50000, index -> (byte)(index));
+		final byte[] b = Arrays.generateByteArray(0, index -> (byte)(index));
+		final byte[] c = Arrays.generateByteArray(70001, index -> (byte)(index));
+		final byte[] d = Arrays.generateByteArray(3, index -> (byte)(index));
+		
+		final byte[][] e = new byte[2048][];
+		
+		java.util.Arrays.fill(e, new byte[1 << 20]);
+		
+		assertArrayEquals(Arrays.merge(a, b, c, b), Arrays.mergeParallel(a, b, c, b));
+		assertArrayEquals(Arrays.merge(b, d, d), Arrays.mergeParallel(b, d, d));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.mergeParallel(e));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel((byte[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel(new byte[0], null));
+	}
+	
+	@Test
+	public void testMergeParallelCharArrays() {
+		final char[] a = Arrays.generateCharArray(50000, index -> (char)(index));
+		final char[] b = Arrays.generateCharArray(0, index -> (char)(index));
+		final char[] c = Arrays.generateCharArray(70001, index -> (char)(index));
+		final char[] d = Arrays.generateCharArray(3, index -> (char)(index));
+		
+		final char[][] e = new char[2048][];
+		
+		java.util.Arrays.fill(e, new char[1 << 20]);
+		
+		assertArrayEquals(Arrays.merge(a, b, c, b), Arrays.mergeParallel(a, b, c, b));
+		assertArrayEquals(Arrays.merge(b, d, d), Arrays.mergeParallel(b, d, d));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.mergeParallel(e));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel((char[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel(new char[0], null));
+	}
+	
+	@Test
+	public void testMergeParallelDoubleArrays() {
+		final double[] a = Arrays.generateDoubleArray(50000, index -> index * 0.5D);
+		final double[] b = Arrays.generateDoubleArray(0, index -> index * 0.5D);
+		final double[] c = Arrays.generateDoubleArray(70001, index -> index * 0.5D);
+		final double[] d = Arrays.generateDoubleArray(3, index -> index * 0.5D);
+		
+		final double[][] e = new double[2048][];
+		
+		java.util.Arrays.fill(e, new double[1 << 20]);
+		
+		assertArrayEquals(Arrays.merge(a, b, c, b), Arrays.mergeParallel(a, b, c, b));
+		assertArrayEquals(Arrays.merge(b, d, d), Arrays.mergeParallel(b, d, d));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.mergeParallel(e));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel((double[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel(new double[0], null));
+	}
+	
+	@Test
+	public void testMergeParallelFloatArrays() {
+		final float[] a = Arrays.generateFloatArray(50000, index -> index * 0.5F);
+		final float[] b = Arrays.generateFloatArray(0, index -> index * 0.5F);
+		final float[] c = Arrays.generateFloatArray(70001, index -> index * 0.5F);
+		final float[] d = Arrays.generateFloatArray(3, index -> index * 0.5F);
+		
+		final float[][] e = new float[2048][];
+		
+		java.util.Arrays.fill(e, new float[1 << 20]);
+		
+		assertArrayEquals(Arrays.merge(a, b, c, b), Arrays.mergeParallel(a, b, c, b));
+		assertArrayEquals(Arrays.merge(b, d, d), Arrays.mergeParallel(b, d, d));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.mergeParallel(e));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel((float[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel(new float[0], null));
+	}
+	
+	@Test
+	public void testMergeParallelIntArrays() {
+		final int[] a = Arrays.generateIntArray(50000, index -> index * 31);
+		final int[] b = Arrays.generateIntArray(0, index -> index * 31);
+		final int[] c = Arrays.generateIntArray(70001, index -> index * 31);
+		final int[] d = Arrays.generateIntArray(3, index -> index * 31);
+		
+		final int[][] e = new int[2048][];
+		
+		java.util.Arrays.fill(e, new int[1 << 20]);
+		
+		assertArrayEquals(Arrays.merge(a, b, c, b), Arrays.mergeParallel(a, b, c, b));
+		assertArrayEquals(Arrays.merge(b, d, d), Arrays.mergeParallel(b, d, d));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.mergeParallel(e));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel((int[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel(new int[0], null));
+	}
+	
+	@Test
+	public void testMergeParallelLongArrays() {
+		final long[] a = Arrays.generateLongArray(50000, index -> index * 1000000007L);
+		final long[] b = Arrays.generateLongArray(0, index -> index * 1000000007L);
+		final long[] c = Arrays.generateLongArray(70001, index -> index * 1000000007L);
+		final long[] d = Arrays.generateLongArray(3, index -> index * 1000000007L);
+		
+		final long[][] e = new long[2048][];
+		
+		java.util.Arrays.fill(e, new long[1 << 20]);
+		
+		assertArrayEquals(Arrays.merge(a, b, c, b), Arrays.mergeParallel(a, b, c, b));
+		assertArrayEquals(Arrays.merge(b, d, d), Arrays.mergeParallel(b, d, d));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.mergeParallel(e));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel((long[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel(new long[0], null));
+	}
+	
+	@Test
+	public void testMergeParallelShortArrays() {
+		final short[] a = Arrays.generateShortArray(50000, index -> (short)(index));
+		final short[] b = Arrays.generateShortArray(0, index -> (short)(index));
+		final short[] c = Arrays.generateShortArray(70001, index -> (short)(index));
+		final short[] d = Arrays.generateShortArray(3, index -> (short)(index));
+		
+		final short[][] e = new short[2048][];
+		
+		java.util.Arrays.fill(e, new short[1 << 20]);
+		
+		assertArrayEquals(Arrays.merge(a, b, c, b), Arrays.mergeParallel(a, b, c, b));
+		assertArrayEquals(Arrays.merge(b, d, d), Arrays.mergeParallel(b, d, d));
+		
+		assertThrows(IllegalArgumentException.class, () -> Arrays.mergeParallel(e));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel((short[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.mergeParallel(new short[0], null));
+	}
+	
+	@Test
+	public void testMergeShortArrayIntShortArrays() {
+		final short[] destination = new short[5];
+		
+		assertEquals(3, Arrays.merge(destination, 1, new short[] {(short)(1), (short)(2)}, new short[] {(short)(3)}));
+		assertEquals(0, Arrays.merge(destination, 5));
+		
+		assertArrayEquals(Arrays.splice(Arrays.merge(new short[1], new short[] {(short)(1), (short)(2)}, new short[] {(short)(3)}), 4), java.util.Arrays.copyOf(destination, 4));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.merge((short[])(null), 0, new short[] {(short)(1), (short)(2)}));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, (short[][])(null)));
+		assertThrows(NullPointerException.class, () -> Arrays.merge(destination, 0, new short[] {(short)(1), (short)(2)}, null));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, -1, new short[] {(short)(1), (short)(2)}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 6, new short[] {(short)(1), (short)(2)}));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.merge(destination, 4, new short[] {(short)(1), (short)(2)}));
+	}
+	
 	@Test
 	public void testMergeShortArrays() {
 		assertArrayEquals(new short[] {(short)(1), (short)(2), (short)(3), (short)(4), (short)(5), (short)(6), (short)(7), (short)(8), (short)(9)}, Arrays.merge(new short[] {(short)(1), (short)(2), (short)(3)}, new short[] {(short)(4), (short)(5), (short)(6)}, new short[] {(short)(7), (short)(8), (short)(9)}));
@@ -698,6 +1670,24 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new boolean[2], Integer.MAX_VALUE));
 	}
 	
+	@Test
+	public void testRepeatBooleanArrayIntBooleanArrayInt() {
+		final boolean[] destination = new boolean[8];
+		
+		assertEquals(6, Arrays.repeat(new boolean[] {true, false}, 3, destination, 1));
+		assertEquals(1, Arrays.repeat(new boolean[] {true}, 1, destination, 7));
+		assertEquals(0, Arrays.repeat(new boolean[0], 3, destination, 0));
+		
+		assertArrayEquals(Arrays.merge(new boolean[1], Arrays.repeat(new boolean[] {true, false}, 3), new boolean[] {true}), destination);
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeat((boolean[])(null), 1, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.repeat(new boolean[] {true, false}, 1, (boolean[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new boolean[] {true, false}, -1, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new boolean[] {true, false}, Integer.MAX_VALUE, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new boolean[] {true, false}, 1, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new boolean[] {true, false}, 1, destination, 7));
+	}
+	
 	@Test
 	public void testRepeatByteArrayInt() {
 		assertArrayEquals(new byte [] {}, Arrays.repeat(new byte[] {}, 3));
@@ -710,6 +1700,24 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new byte[2], Integer.MAX_VALUE));
 	}
 	
+	@Test
+	public void testRepeatByteArrayIntByteArrayInt() {
+		final byte[] destination = new byte[8];
+		
+		assertEquals(6, Arrays.repeat(new byte[] {(byte)(1), (byte)(2)}, 3, destination, 1));
+		assertEquals(1, Arrays.repeat(new byte[] {(byte)(3)}, 1, destination, 7));
+		assertEquals(0, Arrays.repeat(new byte[0], 3, destination, 0));
+		
+		assertArrayEquals(Arrays.merge(new byte[1], Arrays.repeat(new byte[] {(byte)(1), (byte)(2)}, 3), new byte[] {(byte)(3)}), destination);
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeat((byte[])(null), 1, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.repeat(new byte[] {(byte)(1), (byte)(2)}, 1, (byte[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new byte[] {(byte)(1), (byte)(2)}, -1, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new byte[] {(byte)(1), (byte)(2)}, Integer.MAX_VALUE, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new byte[] {(byte)(1), (byte)(2)}, 1, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new byte[] {(byte)(1), (byte)(2)}, 1, destination, 7));
+	}
+	
 	@Test
 	public void testRepeatCharArrayInt() {
 		assertArrayEquals(new char [] {}, Arrays.repeat(new char[] {}, 3));
@@ -722,6 +1730,24 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new char[2], Integer.MAX_VALUE));
 	}
 	
+	@Test
+	public void testRepeatCharArrayIntCharArrayInt() {
+		final char[] destination = new char[8];
+		
+		assertEquals(6, Arrays.repeat(new char[] {(char)(1), (char)(2)}, 3, destination, 1));
+		assertEquals(1, Arrays.repeat(new char[] {(char)(3)}, 1, destination, 7));
+		assertEquals(0, Arrays.repeat(new char[0], 3, destination, 0));
+		
+		assertArrayEquals(Arrays.merge(new char[1], Arrays.repeat(new char[] {(char)(1), (char)(2)}, 3), new char[] {(char)(3)}), destination);
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeat((char[])(null), 1, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.repeat(new char[] {(char)(1), (char)(2)}, 1, (char[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new char[] {(char)(1), (char)(2)}, -1, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new char[] {(char)(1), (char)(2)}, Integer.MAX_VALUE, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new char[] {(char)(1), (char)(2)}, 1, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new char[] {(char)(1), (char)(2)}, 1, destination, 7));
+	}
+	
 	@Test
 	public void testRepeatDoubleArrayInt() {
 		assertArrayEquals(new double [] {}, Arrays.repeat(new double[] {}, 3));
@@ -734,6 +1760,24 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new double[2], Integer.MAX_VALUE));
 	}
 	
+	@Test
+	public void testRepeatDoubleArrayIntDoubleArrayInt() {
+		final double[] destination = new double[8];
+		
+		assertEquals(6, Arrays.repeat(new double[] {1.0D, 2.0D}, 3, destination, 1));
+		assertEquals(1, Arrays.repeat(new double[] {3.0D}, 1, destination, 7));
+		assertEquals(0, Arrays.repeat(new double[0], 3, destination, 0));
+		
+		assertArrayEquals(Arrays.merge(new double[1], Arrays.repeat(new double[] {1.0D, 2.0D}, 3), new double[] {3.0D}), destination);
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeat((double[])(null), 1, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.repeat(new double[] {1.0D, 2.0D}, 1, (double[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new double[] {1.0D, 2.0D}, -1, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new double[] {1.0D, 2.0D}, Integer.MAX_VALUE, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new double[] {1.0D, 2.0D}, 1, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new double[] {1.0D, 2.0D}, 1, destination, 7));
+	}
+	
 	@Test
 	public void testRepeatFloatArrayInt() {
 		assertArrayEquals(new float [] {}, Arrays.repeat(new float[] {}, 3));
@@ -746,6 +1790,24 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new float[2], Integer.MAX_VALUE));
 	}
 	
+	@Test
+	public void testRepeatFloatArrayIntFloatArrayInt() {
+		final float[] destination = new float[8];
+		
+		assertEquals(6, Arrays.repeat(new float[] {1.0F, 2.0F}, 3, destination, 1));
+		assertEquals(1, Arrays.repeat(new float[] {3.0F}, 1, destination, 7));
+		assertEquals(0, Arrays.repeat(new float[0], 3, destination, 0));
+		
+		assertArrayEquals(Arrays.merge(new float[1], Arrays.repeat(new float[] {1.0F, 2.0F}, 3), new float[] {3.0F}), destination);
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeat((float[])(null), 1, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.repeat(new float[] {1.0F, 2.0F}, 1, (float[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new float[] {1.0F, 2.0F}, -1, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new float[] {1.0F, 2.0F}, Integer.MAX_VALUE, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new float[] {1.0F, 2.0F}, 1, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new float[] {1.0F, 2.0F}, 1, destination, 7));
+	}
+	
 	@Test
 	public void testRepeatIntArrayInt() {
 		assertArrayEquals(new int [] {}, Arrays.repeat(new int[] {}, 3));
@@ -758,6 +1820,24 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new int[2], Integer.MAX_VALUE));
 	}
 	
+	@Test
+	public void testRepeatIntArrayIntIntArrayInt() {
+		final int[] destination = new int[8];
+		
+		assertEquals(6, Arrays.repeat(new int[] {1, 2}, 3, destination, 1));
+		assertEquals(1, Arrays.repeat(new int[] {3}, 1, destination, 7));
+		assertEquals(0, Arrays.repeat(new int[0], 3, destination, 0));
+		
+		assertArrayEquals(Arrays.merge(new int[1], Arrays.repeat(new int[] {1, 2}, 3), new int[] {3}), destination);
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeat((int[])(null), 1, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.repeat(new int[] {1, 2}, 1, (int[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new int[] {1, 2}, -1, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new int[] {1, 2}, Integer.MAX_VALUE, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new int[] {1, 2}, 1, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new int[] {1, 2}, 1, destination, 7));
+	}
+	
 	@Test
 	public void testRepeatLongArrayInt() {
 		assertArrayEquals(new long [] {}, Arrays.repeat(new long[] {}, 3));
@@ -770,6 +1850,152 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new long[2], Integer.MAX_VALUE));
 	}
 	
+	@Test
+	public void testRepeatLongArrayIntLongArrayInt() {
+		final long[] destination = new long[8];
+		
+		assertEquals(6, Arrays.repeat(new long[] {1L, 2L}, 3, destination, 1));
+		assertEquals(1, Arrays.repeat(new long[] {3L}, 1, destination, 7));
+		assertEquals(0, Arrays.repeat(new long[0], 3, destination, 0));
+		
+		assertArrayEquals(Arrays.merge(new long[1], Arrays.repeat(new long[] {1L, 2L}, 3), new long[] {3L}), destination);
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeat((long[])(null), 1, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.repeat(new long[] {1L, 2L}, 1, (long[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new long[] {1L, 2L}, -1, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new long[] {1L, 2L}, Integer.MAX_VALUE, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new long[] {1L, 2L}, 1, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new long[] {1L, 2L}, 1, destination, 7));
+	}
+	
+	@Test
+	public void testRepeatParallelBooleanArrayInt() {
+		final boolean[] a = Arrays.generateBooleanArray(1, index -> index % 3 == 0);
+		final boolean[] b = Arrays.generateBooleanArray(3, index -> index % 3 == 0);
+		final boolean[] c = Arrays.generateBooleanArray(20000, index -> index % 3 == 0);
+		
+		assertArrayEquals(Arrays.repeat(a, 100000), Arrays.repeatParallel(a, 100000));
+		assertArrayEquals(Arrays.repeat(b, 3), Arrays.repeatParallel(b, 3));
+		assertArrayEquals(Arrays.repeat(b, 40000), Arrays.repeatParallel(b, 40000));
+		assertArrayEquals(Arrays.repeat(c, 5), Arrays.repeatParallel(c, 5));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeatParallel((boolean[])(null), 1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new boolean[0], -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new boolean[2], Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testRepeatParallelByteArrayInt() {
+		final byte[] a = Arrays.generateByteArray(1, index -> (byte)(index));
+		final byte[] b = Arrays.generateByteArray(3, index -> (byte)(index));
+		final byte[] c = Arrays.generateByteArray(20000, index -> (byte)(index));
+		
+		assertArrayEquals(Arrays.repeat(a, 100000), Arrays.repeatParallel(a, 100000));
+		assertArrayEquals(Arrays.repeat(b, 3), Arrays.repeatParallel(b, 3));
+		assertArrayEquals(Arrays.repeat(b, 40000), Arrays.repeatParallel(b, 40000));
+		assertArrayEquals(Arrays.repeat(c, 5), Arrays.repeatParallel(c, 5));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeatParallel((byte[])(null), 1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new byte[0], -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new byte[2], Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testRepeatParallelCharArrayInt() {
+		final char[] a = Arrays.generateCharArray(1, index -> (char)(index));
+		final char[] b = Arrays.generateCharArray(3, index -> (char)(index));
+		final char[] c = Arrays.generateCharArray(20000, index -> (char)(index));
+		
+		assertArrayEquals(Arrays.repeat(a, 100000), Arrays.repeatParallel(a, 100000));
+		assertArrayEquals(Arrays.repeat(b, 3), Arrays.repeatParallel(b, 3));
+		assertArrayEquals(Arrays.repeat(b, 40000), Arrays.repeatParallel(b, 40000));
+		assertArrayEquals(Arrays.repeat(c, 5), Arrays.repeatParallel(c, 5));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeatParallel((char[])(null), 1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new char[0], -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new char[2], Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testRepeatParallelDoubleArrayInt() {
+		final double[] a = Arrays.generateDoubleArray(1, index -> index * 0.5D);
+		final double[] b = Arrays.generateDoubleArray(3, index -> index * 0.5D);
+		final double[] c = Arrays.generateDoubleArray(20000, index -> index * 0.5D);
+		
+		assertArrayEquals(Arrays.repeat(a, 100000), Arrays.repeatParallel(a, 100000));
+		assertArrayEquals(Arrays.repeat(b, 3), Arrays.repeatParallel(b, 3));
+		assertArrayEquals(Arrays.repeat(b, 40000), Arrays.repeatParallel(b, 40000));
+		assertArrayEquals(Arrays.repeat(c, 5), Arrays.repeatParallel(c, 5));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeatParallel((double[])(null), 1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new double[0], -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new double[2], Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testRepeatParallelFloatArrayInt() {
+		final float[] a = Arrays.generateFloatArray(1, index -> index * 0.5F);
+		final float[] b = Arrays.generateFloatArray(3, index -> index * 0.5F);
+		final float[] c = Arrays.generateFloatArray(20000, index -> index * 0.5F);
+		
+		assertArrayEquals(Arrays.repeat(a, 100000), Arrays.repeatParallel(a, 100000));
+		assertArrayEquals(Arrays.repeat(b, 3), Arrays.repeatParallel(b, 3));
+		assertArrayEquals(Arrays.repeat(b, 40000), Arrays.repeatParallel(b, 40000));
+		assertArrayEquals(Arrays.repeat(c, 5), Arrays.repeatParallel(c, 5));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeatParallel((float[])(null), 1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new float[0], -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new float[2], Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testRepeatParallelIntArrayInt() {
+		final int[] a = Arrays.generateIntArray(1, index -> index * 31);
+		final int[] b = Arrays.generateIntArray(3, index -> index * 31);
+		final int[] c = Arrays.generateIntArray(20000, index -> index * 31);
+		
+		assertArrayEquals(Arrays.repeat(a, 100000), Arrays.repeatParallel(a, 100000));
+		assertArrayEquals(Arrays.repeat(b, 3), Arrays.repeatParallel(b, 3));
+		assertArrayEquals(Arrays.repeat(b, 40000), Arrays.repeatParallel(b, 40000));
+		assertArrayEquals(Arrays.repeat(c, 5), Arrays.repeatParallel(c, 5));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeatParallel((int[])(null), 1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new int[0], -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new int[2], Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testRepeatParallelLongArrayInt() {
+		final long[] a = Arrays.generateLongArray(1, index -> index * 1000000007L);
+		final long[] b = Arrays.generateLongArray(3, index -> index * 1000000007L);
+		final long[] c = Arrays.generateLongArray(20000, index -> index * 1000000007L);
+		
+		assertArrayEquals(Arrays.repeat(a, 100000), Arrays.repeatParallel(a, 100000));
+		assertArrayEquals(Arrays.repeat(b, 3), Arrays.repeatParallel(b, 3));
+		assertArrayEquals(Arrays.repeat(b, 40000), Arrays.repeatParallel(b, 40000));
+		assertArrayEquals(Arrays.repeat(c, 5), Arrays.repeatParallel(c, 5));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeatParallel((long[])(null), 1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new long[0], -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new long[2], Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testRepeatParallelShortArrayInt() {
+		final short[] a = Arrays.generateShortArray(1, index -> (short)(index));
+		final short[] b = Arrays.generateShortArray(3, index -> (short)(index));
+		final short[] c = Arrays.generateShortArray(20000, index -> (short)(index));
+		
+		assertArrayEquals(Arrays.repeat(a, 100000), Arrays.repeatParallel(a, 100000));
+		assertArrayEquals(Arrays.repeat(b, 3), Arrays.repeatParallel(b, 3));
+		assertArrayEquals(Arrays.repeat(b, 40000), Arrays.repeatParallel(b, 40000));
+		assertArrayEquals(Arrays.repeat(c, 5), Arrays.repeatParallel(c, 5));
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeatParallel((short[])(null), 1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new short[0], -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeatParallel(new short[2], Integer.MAX_VALUE));
+	}
+	
 	@Test
 	public void testRepeatShortArrayInt() {
 		assertArrayEquals(new short [] {}, Arrays.repeat(new short[] {}, 3));
@@ -782,6 +2008,24 @@ public final class ArraysUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new short[2], Integer.MAX_VALUE));
 	}
 	
+	@Test
+	public void testRepeatShortArrayIntShortArrayInt() {
+		final short[] destination = new short[8];
+		
+		assertEquals(6, Arrays.repeat(new short[] {(short)(1), (short)(2)}, 3, destination, 1));
+		assertEquals(1, Arrays.repeat(new short[] {(short)(3)}, 1, destination, 7));
+		assertEquals(0, Arrays.repeat(new short[0], 3, destination, 0));
+		
+		assertArrayEquals(Arrays.merge(new short[1], Arrays.repeat(new short[] {(short)(1), (short)(2)}, 3), new short[] {(short)(3)}), destination);
+		
+		assertThrows(NullPointerException.class, () -> Arrays.repeat((short[])(null), 1, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.repeat(new short[] {(short)(1), (short)(2)}, 1, (short[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new short[] {(short)(1), (short)(2)}, -1, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new short[] {(short)(1), (short)(2)}, Integer.MAX_VALUE, destination, 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new short[] {(short)(1), (short)(2)}, 1, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.repeat(new short[] {(short)(1), (short)(2)}, 1, destination, 7));
+	}
+	
 	@Test
 	public void testRequireNonNullBooleanArrayArrayString() {
 		assertThrows(NullPointerException.class, () -> Arrays.requireNonNull(new boolean[0][0], null));
@@ -907,6 +2151,30 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.splice(null, 0, 0, new boolean[0]));
 	}
 	
+	@Test
+	public void testSpliceBooleanArrayIntIntBooleanArrayBooleanArrayInt() {
+		final boolean[] array = new boolean[] {false, true, false, true, false};
+		final boolean[] arrayReplacement = new boolean[] {true, false};
+		final boolean[] destination = new boolean[10];
+		
+		final int[][] arguments = new int[][] {{0, 0}, {1, 2}, {-2, 1}, {2, -1}, {5, 3}, {-9, 9}};
+		
+		for(final int[] argument : arguments) {
+			final boolean[] expected = Arrays.splice(array, argument[0], argument[1], arrayReplacement);
+			
+			assertEquals(expected.length, Arrays.splice(array, argument[0], argument[1], arrayReplacement, destination, 2));
+			
+			assertArrayEquals(expected, java.util.Arrays.copyOfRange(destination, 2, 2 + expected.length));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Arrays.splice((boolean[])(null), 0, 0, arrayReplacement, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, (boolean[])(null), destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, (boolean[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 11));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 4));
+	}
+	
 	@Test
 	public void testSpliceByteArrayInt() {
 		assertArrayEquals(new byte[] {0, 1}, Arrays.splice(new byte[] {0, 1, 2, 3}, +2));
@@ -935,6 +2203,30 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.splice(null, 0, 0, new byte[0]));
 	}
 	
+	@Test
+	public void testSpliceByteArrayIntIntByteArrayByteArrayInt() {
+		final byte[] array = new byte[] {(byte)(0), (byte)(1), (byte)(2), (byte)(3), (byte)(4)};
+		final byte[] arrayReplacement = new byte[] {(byte)(1), (byte)(2)};
+		final byte[] destination = new byte[10];
+		
+		final int[][] arguments = new int[][] {{0, 0}, {1, 2}, {-2, 1}, {2, -1}, {5, 3}, {-9, 9}};
+		
+		for(final int[] argument : arguments) {
+			final byte[] expected = Arrays.splice(array, argument[0], argument[1], arrayReplacement);
+			
+			assertEquals(expected.length, Arrays.splice(array, argument[0], argument[1], arrayReplacement, destination, 2));
+			
+			assertArrayEquals(expected, java.util.Arrays.copyOfRange(destination, 2, 2 + expected.length));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Arrays.splice((byte[])(null), 0, 0, arrayReplacement, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, (byte[])(null), destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, (byte[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 11));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 4));
+	}
+	
 	@Test
 	public void testSpliceCharArrayInt() {
 		assertArrayEquals(new char[] {'A', 'B'}, Arrays.splice(new char[] {'A', 'B', 'C', 'D'}, +2));
@@ -963,6 +2255,30 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.splice(null, 0, 0, new char[0]));
 	}
 	
+	@Test
+	public void testSpliceCharArrayIntIntCharArrayCharArrayInt() {
+		final char[] array = new char[] {(char)(0), (char)(1), (char)(2), (char)(3), (char)(4)};
+		final char[] arrayReplacement = new char[] {(char)(1), (char)(2)};
+		final char[] destination = new char[10];
+		
+		final int[][] arguments = new int[][] {{0, 0}, {1, 2}, {-2, 1}, {2, -1}, {5, 3}, {-9, 9}};
+		
+		for(final int[] argument : arguments) {
+			final char[] expected = Arrays.splice(array, argument[0], argument[1], arrayReplacement);
+			
+			assertEquals(expected.length, Arrays.splice(array, argument[0], argument[1], arrayReplacement, destination, 2));
+			
+			assertArrayEquals(expected, java.util.Arrays.copyOfRange(destination, 2, 2 + expected.length));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Arrays.splice((char[])(null), 0, 0, arrayReplacement, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, (char[])(null), destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, (char[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 11));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 4));
+	}
+	
 	@Test
 	public void testSpliceDoubleArrayInt() {
 		assertArrayEquals(new double[] {0.0D, 1.0D}, Arrays.splice(new double[] {0.0D, 1.0D, 2.0D, 3.0D}, +2));
@@ -991,6 +2307,30 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.splice(null, 0, 0, new double[0]));
 	}
 	
+	@Test
+	public void testSpliceDoubleArrayIntIntDoubleArrayDoubleArrayInt() {
+		final double[] array = new double[] {0.0D, 1.0D, 2.0D, 3.0D, 4.0D};
+		final double[] arrayReplacement = new double[] {1.0D, 2.0D};
+		final double[] destination = new double[10];
+		
+		final int[][] arguments = new int[][] {{0, 0}, {1, 2}, {-2, 1}, {2, -1}, {5, 3}, {-9, 9}};
+		
+		for(final int[] argument : arguments) {
+			final double[] expected = Arrays.splice(array, argument[0], argument[1], arrayReplacement);
+			
+			assertEquals(expected.length, Arrays.splice(array, argument[0], argument[1], arrayReplacement, destination, 2));
+			
+			assertArrayEquals(expected, java.util.Arrays.copyOfRange(destination, 2, 2 + expected.length));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Arrays.splice((double[])(null), 0, 0, arrayReplacement, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, (double[])(null), destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, (double[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 11));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 4));
+	}
+	
 	@Test
 	public void testSpliceFloatArrayInt() {
 		assertArrayEquals(new float[] {0.0F, 1.0F}, Arrays.splice(new float[] {0.0F, 1.0F, 2.0F, 3.0F}, +2));
@@ -1019,6 +2359,30 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.splice(null, 0, 0, new float[0]));
 	}
 	
+	@Test
+	public void testSpliceFloatArrayIntIntFloatArrayFloatArrayInt() {
+		final float[] array = new float[] {0.0F, 1.0F, 2.0F, 3.0F, 4.0F};
+		final float[] arrayReplacement = new float[] {1.0F, 2.0F};
+		final float[] destination = new float[10];
+		
+		final int[][] arguments = new int[][] {{0, 0}, {1, 2}, {-2, 1}, {2, -1}, {5, 3}, {-9, 9}};
+		
+		for(final int[] argument : arguments) {
+			final float[] expected = Arrays.splice(array, argument[0], argument[1], arrayReplacement);
+			
+			assertEquals(expected.length, Arrays.splice(array, argument[0], argument[1], arrayReplacement, destination, 2));
+			
+			assertArrayEquals(expected, java.util.Arrays.copyOfRange(destination, 2, 2 + expected.length));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Arrays.splice((float[])(null), 0, 0, arrayReplacement, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, (float[])(null), destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, (float[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 11));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 4));
+	}
+	
 	@Test
 	public void testSpliceIntArrayInt() {
 		assertArrayEquals(new int[] {0, 1}, Arrays.splice(new int[] {0, 1, 2, 3}, +2));
@@ -1047,6 +2411,30 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.splice(null, 0, 0, new int[0]));
 	}
 	
+	@Test
+	public void testSpliceIntArrayIntIntIntArrayIntArrayInt() {
+		final int[] array = new int[] {0, 1, 2, 3, 4};
+		final int[] arrayReplacement = new int[] {1, 2};
+		final int[] destination = new int[10];
+		
+		final int[][] arguments = new int[][] {{0, 0}, {1, 2}, {-2, 1}, {2, -1}, {5, 3}, {-9, 9}};
+		
+		for(final int[] argument : arguments) {
+			final int[] expected = Arrays.splice(array, argument[0], argument[1], arrayReplacement);
+			
+			assertEquals(expected.length, Arrays.splice(array, argument[0], argument[1], arrayReplacement, destination, 2));
+			
+			assertArrayEquals(expected, java.util.Arrays.copyOfRange(destination, 2, 2 + expected.length));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Arrays.splice((int[])(null), 0, 0, arrayReplacement, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, (int[])(null), destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, (int[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 11));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 4));
+	}
+	
 	@Test
 	public void testSpliceLongArrayInt() {
 		assertArrayEquals(new long[] {0L, 1L}, Arrays.splice(new long[] {0L, 1L, 2L, 3L}, +2));
@@ -1075,6 +2463,30 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.splice(null, 0, 0, new long[0]));
 	}
 	
+	@Test
+	public void testSpliceLongArrayIntIntLongArrayLongArrayInt() {
+		final long[] array = new long[] {0L, 1L, 2L, 3L, 4L};
+		final long[] arrayReplacement = new long[] {1L, 2L};
+		final long[] destination = new long[10];
+		
+		final int[][] arguments = new int[][] {{0, 0}, {1, 2}, {-2, 1}, {2, -1}, {5, 3}, {-9, 9}};
+		
+		for(final int[] argument : arguments) {
+			final long[] expected = Arrays.splice(array, argument[0], argument[1], arrayReplacement);
+			
+			assertEquals(expected.length, Arrays.splice(array, argument[0], argument[1], arrayReplacement, destination, 2));
+			
+			assertArrayEquals(expected, java.util.Arrays.copyOfRange(destination, 2, 2 + expected.length));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Arrays.splice((long[])(null), 0, 0, arrayReplacement, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, (long[])(null), destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, (long[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 11));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 4));
+	}
+	
 	@Test
 	public void testSpliceShortArrayInt() {
 		assertArrayEquals(new short[] {0, 1}, Arrays.splice(new short[] {0, 1, 2, 3}, +2));
@@ -1103,6 +2515,30 @@ public final class ArraysUnitTests {
 		assertThrows(NullPointerException.class, () -> Arrays.splice(null, 0, 0, new short[0]));
 	}
 	
+	@Test
+	public void testSpliceShortArrayIntIntShortArrayShortArrayInt() {
+		final short[] array = new short[] {(short)(0), (short)(1), (short)(2), (short)(3), (short)(4)};
+		final short[] arrayReplacement = new short[] {(short)(1), (short)(2)};
+		final short[] destination = new short[10];
+		
+		final int[][] arguments = new int[][] {{0, 0}, {1, 2}, {-2, 1}, {2, -1}, {5, 3}, {-9, 9}};
+		
+		for(final int[] argument : arguments) {
+			final short[] expected = Arrays.splice(array, argument[0], argument[1], arrayReplacement);
+			
+			assertEquals(expected.length, Arrays.splice(array, argument[0], argument[1], arrayReplacement, destination, 2));
+			
+			assertArrayEquals(expected, java.util.Arrays.copyOfRange(destination, 2, 2 + expected.length));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Arrays.splice((short[])(null), 0, 0, arrayReplacement, destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, (short[])(null), destination, 0));
+		assertThrows(NullPointerException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, (short[])(null), 0));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, -1));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 11));
+		assertThrows(IllegalArgumentException.class, () -> Arrays.splice(array, 0, 0, arrayReplacement, destination, 4));
+	}
+	
 	@Test
 	public void testToBooleanArrayListFunction() {
 		final List<String> stringsA = new ArrayList<>();
@@ -0,0 +1,158 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class DiscreteDistributionUnitTests {
+	public DiscreteDistributionUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructorDoubleArray() {
+		final DiscreteDistribution discreteDistribution = new DiscreteDistribution(new double[] {1.0D, 0.0D, 3.0D, 0.0D});
+		
+		assertEquals(4, discreteDistribution.size());
+		
+		assertThrows(IllegalArgumentException.class, () -> new DiscreteDistribution(new double[0]));
+		assertThrows(IllegalArgumentException.class, () -> new DiscreteDistribution(new double[] {0.0D, 0.0D}));
+		assertThrows(IllegalArgumentException.class, () -> new DiscreteDistribution(new double[] {1.0D, -1.0D}));
+		assertThrows(IllegalArgumentException.class, () -> new DiscreteDistribution(new double[] {1.0D, Double.NaN}));
+		assertThrows(IllegalArgumentException.class, () -> new DiscreteDistribution(new double[] {1.0D, Double.POSITIVE_INFINITY}));
+		assertThrows(IllegalArgumentException.class, () -> new DiscreteDistribution(new double[] {Double.MAX_VALUE, Double.MAX_VALUE}));
+		assertThrows(NullPointerException.class, () -> new DiscreteDistribution((double[])(null)));
+	}
+	
+	@Test
+	public void testConstructorFloatArray() {
+		final DiscreteDistribution discreteDistribution = new DiscreteDistribution(new float[] {1.0F, 0.0F, 3.0F, 0.0F});
+		
+		assertEquals(4, discreteDistribution.size());
+		
+		assertEquals(0.25D, discreteDistribution.getProbability(0));
+		assertEquals(0.75D, discreteDistribution.getProbability(2));
+		
+		assertThrows(IllegalArgumentException.class, () -> new DiscreteDistribution(new float[0]));
+		assertThrows(IllegalArgumentException.class, () -> new DiscreteDistribution(new float[] {1.0F, -1.0F}));
+		assertThrows(NullPointerException.class, () -> new DiscreteDistribution((float[])(null)));
+	}
+	
+	@Test
+	public void testGetProbability() {
+		final DiscreteDistribution discreteDistribution = new DiscreteDistribution(new double[] {1.0D, 0.0D, 3.0D, 0.0D});
+		
+		assertEquals(0.25D, discreteDistribution.getProbability(0));
+		assertEquals(0.00D, discreteDistribution.getProbability(1));
+		assertEquals(0.75D, discreteDistribution.getProbability(2));
+		assertEquals(0.00D, discreteDistribution.getProbability(3));
+		
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> discreteDistribution.getProbability(4));
+	}
+	
+	@Test
+	public void testRemap() {
+		final DiscreteDistribution discreteDistribution = new DiscreteDistribution(new double[] {1.0D, 3.0D});
+		
+		assertEquals(0.5D, discreteDistribution.remap(0.125D, 0));
+		assertEquals(1.0D / 3.0D, discreteDistribution.remap(0.5D, 1), 1.0e-15D);
+		assertEquals(0.0D, discreteDistribution.remap(0.25D, 1));
+	}
+	
+	@Test
+	public void testSampleDouble() {
+		final DiscreteDistribution discreteDistribution = new DiscreteDistribution(new double[] {0.0D, 1.0D, 0.0D, 3.0D, 0.0D});
+		
+		assertEquals(1, discreteDistribution.sample(-1.0D));
+		assertEquals(1, discreteDistribution.sample(0.0D));
+		assertEquals(1, discreteDistribution.sample(0.2499D));
+		assertEquals(3, discreteDistribution.sample(0.25D));
+		assertEquals(3, discreteDistribution.sample(0.9999D));
+		assertEquals(3, discreteDistribution.sample(1.0D));
+		assertEquals(3, discreteDistribution.sample(2.0D));
+	}
+	
+	@Test
+	public void testSampleDoubleDistribution() {
+		final double[] weights = new double[100];
+		
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+		
+		for(int i = 0; i < weights.length; i++) {
+			weights[i] = i % 7 == 0 ? 0.0D : xoshiro256StarStar.nextDouble() * i;
+		}
+		
+		final DiscreteDistribution discreteDistribution = new DiscreteDistribution(weights);
+		
+		final int[] counts = new int[weights.length];
+		
+		final int samples = 1000000;
+		
+		for(int i = 0; i < samples; i++) {
+			counts[discreteDistribution.sample(xoshiro256StarStar.nextDouble())]++;
+		}
+		
+		for(int i = 0; i < weights.length; i++) {
+			final double expected = discreteDistribution.getProbability(i) * samples;
+			
+			if(i % 7 == 0) {
+				assertEquals(0, counts[i]);
+			} else {
+				assertEquals(expected, counts[i], 5.0D * Math.sqrt(expected) + 1.0D);
+			}
+		}
+	}
+	
+	@Test
+	public void testSampleDoubleMonotonic() {
+		final DiscreteDistribution discreteDistribution = new DiscreteDistribution(new double[] {5.0D, 0.0D, 1.0D, 1.0D, 0.0D, 0.0D, 9.0D, 2.0D, 0.0D});
+		
+		int previous = 0;
+		
+		for(int i = 0; i < 100000; i++) {
+			final int index = discreteDistribution.sample(i / 100000.0D);
+			
+			assertTrue(index >= previous);
+			assertTrue(discreteDistribution.getProbability(index) > 0.0D);
+			
+			previous = index;
+		}
+	}
+	
+	@Test
+	public void testSampleDoubleSupplier() {
+		final DiscreteDistribution discreteDistribution = new DiscreteDistribution(new double[] {1.0D, 2.0D, 3.0D});
+		
+		final Xoshiro256StarStar xoshiro256StarStarA = new Xoshiro256StarStar(12345L);
+		final Xoshiro256StarStar xoshiro256StarStarB = new Xoshiro256StarStar(12345L);
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(discreteDistribution.sample(xoshiro256StarStarA.nextDouble()), discreteDistribution.sample(xoshiro256StarStarB::nextDouble));
+		}
+		
+		assertThrows(NullPointerException.class, () -> discreteDistribution.sample(null));
+	}
+}
\ No newline at end of file
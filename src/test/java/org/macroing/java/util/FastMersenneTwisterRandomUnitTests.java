@@ -0,0 +1,162 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class FastMersenneTwisterRandomUnitTests {
+	public FastMersenneTwisterRandomUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructorIntArray() {
+		final FastMersenneTwisterRandom fastMersenneTwisterRandom = new FastMersenneTwisterRandom(new int[] {0x1234, 0x5678, 0x9ABC, 0xDEF0});
+		
+		assertEquals(-1374256113, fastMersenneTwisterRandom.nextInt());
+		assertEquals(-409221559, fastMersenneTwisterRandom.nextInt());
+		assertEquals(-793073616, fastMersenneTwisterRandom.nextInt());
+		assertEquals(856470934, fastMersenneTwisterRandom.nextInt());
+		assertEquals(1421864068, fastMersenneTwisterRandom.nextInt());
+		
+		for(int i = 5; i < 999; i++) {
+			fastMersenneTwisterRandom.nextInt();
+		}
+		
+		assertEquals(788493625, fastMersenneTwisterRandom.nextInt());
+		
+		assertThrows(IllegalArgumentException.class, () -> new FastMersenneTwisterRandom(new int[0]));
+		assertThrows(NullPointerException.class, () -> new FastMersenneTwisterRandom((int[])(null)));
+	}
+	
+	@Test
+	public void testDoublesParallel() {
+		final FastMersenneTwisterRandom fastMersenneTwisterRandom = new FastMersenneTwisterRandom(12345L);
+		
+		assertEquals(100000L, fastMersenneTwisterRandom.doubles(100000L).parallel().filter(value -> value >= 0.0D && value < 1.0D).count());
+		assertEquals(100000L, fastMersenneTwisterRandom.doubles(100000L, 2.0D, 3.0D).parallel().filter(value -> value >= 2.0D && value < 3.0D).count());
+		assertEquals(100000L, fastMersenneTwisterRandom.doubles().parallel().limit(100000L).filter(value -> value >= 0.0D && value < 1.0D).count());
+		assertEquals(100000L, fastMersenneTwisterRandom.doubles(2.0D, 3.0D).parallel().limit(100000L).filter(value -> value >= 2.0D && value < 3.0D).count());
+		
+		assertThrows(IllegalArgumentException.class, () -> fastMersenneTwisterRandom.doubles(-1L));
+		assertThrows(IllegalArgumentException.class, () -> fastMersenneTwisterRandom.doubles(1L, 3.0D, 2.0D));
+		assertThrows(IllegalArgumentException.class, () -> fastMersenneTwisterRandom.doubles(3.0D, 3.0D));
+	}
+	
+	@Test
+	public void testDoublesSequential() {
+		final FastMersenneTwisterRandom fastMersenneTwisterRandomA = new FastMersenneTwisterRandom(12345L);
+		final FastMersenneTwisterRandom fastMersenneTwisterRandomB = new FastMersenneTwisterRandom(12345L);
+		
+		final double[] values = fastMersenneTwisterRandomA.doubles(100L).toArray();
+		
+		for(int i = 0; i < values.length; i++) {
+			assertEquals(fastMersenneTwisterRandomB.nextDouble(), values[i]);
+		}
+	}
+	
+	@Test
+	public void testNextDouble() {
+		final Random random = new FastMersenneTwisterRandom();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final double value = random.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testNextFloat() {
+		final Random random = new FastMersenneTwisterRandom();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final float value = random.nextFloat();
+			
+			assertTrue(value >= 0.0F && value < 1.0F);
+		}
+	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final FastMersenneTwisterRandom fastMersenneTwisterRandomA = new FastMersenneTwisterRandom(12345L);
+		
+		fastMersenneTwisterRandomA.nextInt();
+		
+		final FastMersenneTwisterRandom fastMersenneTwisterRandomB = doDeserialize(doSerialize(fastMersenneTwisterRandomA));
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(fastMersenneTwisterRandomA.nextInt(), fastMersenneTwisterRandomB.nextInt());
+		}
+		
+		assertEquals(FastMersenneTwister.class, ObjectStreamClass.lookup(FastMersenneTwisterRandom.class).getField("fastMersenneTwister").getType());
+	}
+	
+	@Test
+	public void testSplit() {
+		final FastMersenneTwisterRandom fastMersenneTwisterRandomA = new FastMersenneTwisterRandom(12345L);
+		final FastMersenneTwisterRandom fastMersenneTwisterRandomB = new FastMersenneTwisterRandom(12345L);
+		
+		final FastMersenneTwisterRandom fastMersenneTwisterRandomC = fastMersenneTwisterRandomA.split();
+		final FastMersenneTwisterRandom fastMersenneTwisterRandomD = fastMersenneTwisterRandomB.split();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(fastMersenneTwisterRandomC.nextLong(), fastMersenneTwisterRandomD.nextLong());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(fastMersenneTwisterRandomA.nextLong(), fastMersenneTwisterRandomB.nextLong());
+		}
+		
+		assertNotEquals(fastMersenneTwisterRandomA.nextLong(), fastMersenneTwisterRandomC.nextLong());
+	}	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static FastMersenneTwisterRandom doDeserialize(final byte[] bytes) throws ClassNotFoundException, IOException {
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return FastMersenneTwisterRandom.class.cast(objectInputStream.readObject());
+		}
+	}
+	
+	private static byte[] doSerialize(final FastMersenneTwisterRandom fastMersenneTwisterRandom) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(fastMersenneTwisterRandom);
+		}
+		
+		return byteArrayOutputStream.toByteArray();
+	}
+}
\ No newline at end of file
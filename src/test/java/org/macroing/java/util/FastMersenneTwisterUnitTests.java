@@ -0,0 +1,220 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class FastMersenneTwisterUnitTests {
+	public FastMersenneTwisterUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAsRandom() {
+		final FastMersenneTwister fastMersenneTwisterA = new FastMersenneTwister(12345L);
+		final FastMersenneTwister fastMersenneTwisterB = new FastMersenneTwister(12345L);
+		
+		final FastMersenneTwisterRandom random = fastMersenneTwisterA.asRandom();
+		
+		assertEquals(fastMersenneTwisterB.nextInt(), random.nextInt());
+		assertEquals(fastMersenneTwisterB.nextInt(), fastMersenneTwisterA.nextInt());
+		assertEquals(fastMersenneTwisterB.nextInt(), random.nextInt());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister();
+		
+		for(int i = 0; i < 1000; i++) {
+			final double value = fastMersenneTwister.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testConstructorIntArray() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister(new int[] {0x1234, 0x5678, 0x9ABC, 0xDEF0});
+		
+		assertEquals(-1374256113, fastMersenneTwister.nextInt());
+		assertEquals(-409221559, fastMersenneTwister.nextInt());
+		assertEquals(-793073616, fastMersenneTwister.nextInt());
+		assertEquals(856470934, fastMersenneTwister.nextInt());
+		assertEquals(1421864068, fastMersenneTwister.nextInt());
+		
+		for(int i = 5; i < 999; i++) {
+			fastMersenneTwister.nextInt();
+		}
+		
+		assertEquals(788493625, fastMersenneTwister.nextInt());
+		
+		assertThrows(IllegalArgumentException.class, () -> new FastMersenneTwister(new int[0]));
+		assertThrows(NullPointerException.class, () -> new FastMersenneTwister((int[])(null)));
+	}
+	
+	@Test
+	public void testConstructorLong() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister(1234L);
+		
+		assertEquals(-854785998, fastMersenneTwister.nextInt());
+		assertEquals(1564997079, fastMersenneTwister.nextInt());
+		assertEquals(1510669302, fastMersenneTwister.nextInt());
+		assertEquals(-1364690140, fastMersenneTwister.nextInt());
+		assertEquals(1452439940, fastMersenneTwister.nextInt());
+		
+		for(int i = 5; i < 999; i++) {
+			fastMersenneTwister.nextInt();
+		}
+		
+		assertEquals(1168395933, fastMersenneTwister.nextInt());
+	}
+	
+	@Test
+	public void testNextBoolean() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister(12345L);
+		
+		int count = 0;
+		
+		for(int i = 0; i < 100000; i++) {
+			if(fastMersenneTwister.nextBoolean()) {
+				count++;
+			}
+		}
+		
+		assertTrue(count > 49000 && count < 51000);
+	}
+	
+	@Test
+	public void testNextDouble() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final double value = fastMersenneTwister.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testNextDoubleReference() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister(new int[] {0x1234, 0x5678, 0x9ABC, 0xDEF0});
+		
+		assertEquals(0.904720681179322D, fastMersenneTwister.nextDouble());
+	}
+	
+	@Test
+	public void testNextFloat() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final float value = fastMersenneTwister.nextFloat();
+			
+			assertTrue(value >= 0.0F && value < 1.0F);
+		}
+	}
+	
+	@Test
+	public void testNextIntInt() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister(12345L);
+		
+		final int[] counts = new int[10];
+		
+		for(int i = 0; i < 100000; i++) {
+			counts[fastMersenneTwister.nextInt(10)]++;
+		}
+		
+		for(final int count : counts) {
+			assertTrue(count > 9000 && count < 11000);
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(0, fastMersenneTwister.nextInt(1));
+			
+			final int value = fastMersenneTwister.nextInt(Integer.MAX_VALUE);
+			
+			assertTrue(value >= 0 && value < Integer.MAX_VALUE);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> fastMersenneTwister.nextInt(0));
+		assertThrows(IllegalArgumentException.class, () -> fastMersenneTwister.nextInt(-1));
+	}
+	
+	@Test
+	public void testNextIntsIntArray() {
+		final FastMersenneTwister fastMersenneTwisterA = new FastMersenneTwister(12345L);
+		final FastMersenneTwister fastMersenneTwisterB = new FastMersenneTwister(12345L);
+		
+		fastMersenneTwisterA.nextInt();
+		fastMersenneTwisterB.nextInt();
+		
+		final int[] array = fastMersenneTwisterA.nextInts(new int[2000]);
+		
+		for(final int value : array) {
+			assertEquals(fastMersenneTwisterB.nextInt(), value);
+		}
+		
+		assertEquals(fastMersenneTwisterB.nextInt(), fastMersenneTwisterA.nextInt());
+		
+		assertThrows(NullPointerException.class, () -> fastMersenneTwisterA.nextInts((int[])(null)));
+	}
+	
+	@Test
+	public void testNextLong() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister(12345L);
+		
+		assertEquals(-118010688571749618L, fastMersenneTwister.nextLong());
+	}
+	
+	@Test
+	public void testSetSeed() {
+		final FastMersenneTwister fastMersenneTwister = new FastMersenneTwister(12345L);
+		
+		fastMersenneTwister.nextInt();
+		fastMersenneTwister.setSeed(1234L);
+		
+		assertEquals(-854785998, fastMersenneTwister.nextInt());
+	}
+	
+	@Test
+	public void testSplit() {
+		final FastMersenneTwister fastMersenneTwisterA = new FastMersenneTwister(12345L);
+		final FastMersenneTwister fastMersenneTwisterB = new FastMersenneTwister(12345L);
+		
+		final FastMersenneTwister fastMersenneTwisterC = fastMersenneTwisterA.split();
+		final FastMersenneTwister fastMersenneTwisterD = fastMersenneTwisterB.split();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(fastMersenneTwisterC.nextLong(), fastMersenneTwisterD.nextLong());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(fastMersenneTwisterA.nextLong(), fastMersenneTwisterB.nextLong());
+		}
+		
+		assertNotEquals(fastMersenneTwisterA.nextLong(), fastMersenneTwisterC.nextLong());
+	}
+}
\ No newline at end of file
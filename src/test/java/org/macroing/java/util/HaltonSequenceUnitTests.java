@@ -0,0 +1,199 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class HaltonSequenceUnitTests {
+	public HaltonSequenceUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstants() {
+		assertEquals(1024, HaltonSequence.MAXIMUM_DIMENSIONS);
+		assertEquals(1L << 32, HaltonSequence.MAXIMUM_POINTS);
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final HaltonSequence haltonSequence = new HaltonSequence(3);
+		
+		assertEquals(3, haltonSequence.getDimensions());
+		assertEquals(0L, haltonSequence.getIndex());
+		
+		assertFalse(haltonSequence.isScrambled());
+		
+		assertThrows(IllegalArgumentException.class, () -> new HaltonSequence(0));
+		assertThrows(IllegalArgumentException.class, () -> new HaltonSequence(HaltonSequence.MAXIMUM_DIMENSIONS + 1));
+	}
+	
+	@Test
+	public void testConstructorIntLong() {
+		final HaltonSequence haltonSequence = new HaltonSequence(3, 12345L);
+		
+		assertEquals(3, haltonSequence.getDimensions());
+		assertEquals(0L, haltonSequence.getIndex());
+		
+		assertTrue(haltonSequence.isScrambled());
+		
+		assertThrows(IllegalArgumentException.class, () -> new HaltonSequence(0, 12345L));
+		assertThrows(IllegalArgumentException.class, () -> new HaltonSequence(HaltonSequence.MAXIMUM_DIMENSIONS + 1, 12345L));
+	}
+	
+	@Test
+	public void testGetBase() {
+		assertEquals(2, HaltonSequence.getBase(0));
+		assertEquals(3, HaltonSequence.getBase(1));
+		assertEquals(5, HaltonSequence.getBase(2));
+		assertEquals(7, HaltonSequence.getBase(3));
+		assertEquals(8161, HaltonSequence.getBase(HaltonSequence.MAXIMUM_DIMENSIONS - 1));
+		
+		assertThrows(IllegalArgumentException.class, () -> HaltonSequence.getBase(-1));
+		assertThrows(IllegalArgumentException.class, () -> HaltonSequence.getBase(HaltonSequence.MAXIMUM_DIMENSIONS));
+	}
+	
+	@Test
+	public void testNext() {
+		final HaltonSequence haltonSequence = new HaltonSequence(3);
+		
+		final double[] out = new double[4];
+		
+		assertArrayEquals(new double[] {0.000D, 0.0D / 3.0D, 0.0D, 0.0D}, haltonSequence.next(out));
+		assertArrayEquals(new double[] {0.500D, 1.0D / 3.0D, 0.2D, 0.0D}, haltonSequence.next(out));
+		assertArrayEquals(new double[] {0.250D, 2.0D / 3.0D, 0.4D, 0.0D}, haltonSequence.next(out));
+		assertArrayEquals(new double[] {0.750D, 1.0D / 9.0D, 0.6D, 0.0D}, haltonSequence.next(out));
+		assertArrayEquals(new double[] {0.125D, 4.0D / 9.0D, 0.8D, 0.0D}, haltonSequence.next(out));
+		
+		assertEquals(5L, haltonSequence.getIndex());
+		
+		assertThrows(IllegalArgumentException.class, () -> haltonSequence.next(new double[2]));
+		assertThrows(NullPointerException.class, () -> haltonSequence.next(null));
+	}
+	
+	@Test
+	public void testNextExhausted() {
+		final HaltonSequence haltonSequenceA = new HaltonSequence(HaltonSequence.MAXIMUM_DIMENSIONS);
+		final HaltonSequence haltonSequenceB = new HaltonSequence(HaltonSequence.MAXIMUM_DIMENSIONS, 12345L);
+		
+		haltonSequenceA.setIndex(HaltonSequence.MAXIMUM_POINTS - 1L);
+		haltonSequenceB.setIndex(HaltonSequence.MAXIMUM_POINTS - 1L);
+		
+		for(final double value : haltonSequenceA.next(new double[HaltonSequence.MAXIMUM_DIMENSIONS])) {
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+		
+		for(final double value : haltonSequenceB.next(new double[HaltonSequence.MAXIMUM_DIMENSIONS])) {
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+		
+		assertThrows(IllegalStateException.class, () -> haltonSequenceA.next(new double[HaltonSequence.MAXIMUM_DIMENSIONS]));
+		assertThrows(IllegalStateException.class, () -> haltonSequenceB.next(new double[HaltonSequence.MAXIMUM_DIMENSIONS]));
+	}
+	
+	@Test
+	public void testNextScrambled() {
+		final HaltonSequence haltonSequenceA = new HaltonSequence(8, 12345L);
+		final HaltonSequence haltonSequenceB = new HaltonSequence(8, 12345L);
+		final HaltonSequence haltonSequenceC = new HaltonSequence(8, 54321L);
+		
+		for(int i = 0; i < 1000; i++) {
+			final double[] a = haltonSequenceA.next(new double[8]);
+			final double[] b = haltonSequenceB.next(new double[8]);
+			final double[] c = haltonSequenceC.next(new double[8]);
+			
+			for(final double value : a) {
+				assertTrue(value >= 0.0D && value < 1.0D);
+			}
+			
+			assertArrayEquals(a, b);
+			
+			assertNotEquals(a[0], c[0]);
+		}
+	}
+	
+	@Test
+	public void testNextScrambledStratification() {
+		final HaltonSequence haltonSequence = new HaltonSequence(4, 12345L);
+		
+		final int[] counts = {1024, 729, 625, 343};
+		
+		final double[][] points = new double[1024][];
+		
+		for(int i = 0; i < points.length; i++) {
+			points[i] = haltonSequence.next(new double[4]);
+		}
+		
+		for(int i = 0; i < counts.length; i++) {
+			final boolean[] strata = new boolean[counts[i]];
+			
+			for(int j = 0; j < counts[i]; j++) {
+				final int stratum = (int)(points[j][i] * counts[i]);
+				
+				assertFalse(strata[stratum]);
+				
+				strata[stratum] = true;
+			}
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		final HaltonSequence haltonSequence = new HaltonSequence(4, 12345L);
+		
+		final double[] a = haltonSequence.next(new double[4]);
+		
+		haltonSequence.next(new double[4]);
+		haltonSequence.next(new double[4]);
+		haltonSequence.reset();
+		
+		assertEquals(0L, haltonSequence.getIndex());
+		
+		assertArrayEquals(a, haltonSequence.next(new double[4]));
+	}
+	
+	@Test
+	public void testSetIndex() {
+		final HaltonSequence haltonSequenceA = new HaltonSequence(16, 12345L);
+		final HaltonSequence haltonSequenceB = new HaltonSequence(16, 12345L);
+		
+		for(int i = 0; i < 1000; i++) {
+			final double[] a = haltonSequenceA.next(new double[16]);
+			
+			haltonSequenceB.setIndex(i);
+			
+			assertEquals(i, haltonSequenceB.getIndex());
+			
+			assertArrayEquals(a, haltonSequenceB.next(new double[16]));
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> haltonSequenceA.setIndex(-1L));
+		assertThrows(IllegalArgumentException.class, () -> haltonSequenceA.setIndex(HaltonSequence.MAXIMUM_POINTS));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class LatinHypercubeSamplerUnitTests {
+	public LatinHypercubeSamplerUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final LatinHypercubeSampler latinHypercubeSampler = new LatinHypercubeSampler(3, 10, 12345L);
+		
+		assertEquals(3, latinHypercubeSampler.getDimensions());
+		assertEquals(10, latinHypercubeSampler.getSamples());
+		
+		assertThrows(IllegalArgumentException.class, () -> new LatinHypercubeSampler(0, 10, 12345L));
+		assertThrows(IllegalArgumentException.class, () -> new LatinHypercubeSampler(3, 0, 12345L));
+		assertThrows(IllegalArgumentException.class, () -> new LatinHypercubeSampler(3, Integer.MAX_VALUE / 2, 12345L));
+	}
+	
+	@Test
+	public void testNext() {
+		final LatinHypercubeSampler latinHypercubeSamplerA = new LatinHypercubeSampler(3, 10, 12345L);
+		final LatinHypercubeSampler latinHypercubeSamplerB = new LatinHypercubeSampler(3, 10, 12345L);
+		
+		for(int pass = 0; pass < 3; pass++) {
+			final boolean[][] strata = new boolean[3][10];
+			
+			for(int i = 0; i < 10; i++) {
+				final double[] a = latinHypercubeSamplerA.next(new double[4]);
+				final double[] b = latinHypercubeSamplerB.next(new double[4]);
+				
+				assertArrayEquals(a, b);
+				
+				assertEquals(0.0D, a[3]);
+				
+				for(int j = 0; j < 3; j++) {
+					assertTrue(a[j] >= 0.0D && a[j] < 1.0D);
+					
+					final int stratum = (int)(a[j] * 10.0D);
+					
+					assertFalse(strata[j][stratum]);
+					
+					strata[j][stratum] = true;
+				}
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> latinHypercubeSamplerA.next(new double[2]));
+		assertThrows(NullPointerException.class, () -> latinHypercubeSamplerA.next(null));
+	}
+}
\ No newline at end of file
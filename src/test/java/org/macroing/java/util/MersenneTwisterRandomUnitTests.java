@@ -18,8 +18,17 @@
  */
 package org.macroing.java.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
@@ -32,6 +41,52 @@ public final class MersenneTwisterRandomUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testConstructorIntArray() {
+		final MersenneTwisterRandom mersenneTwisterRandom = new MersenneTwisterRandom(new int[] {0x123, 0x234, 0x345, 0x456});
+		
+		assertEquals(1067595299, mersenneTwisterRandom.nextInt());
+		assertEquals(955945823, mersenneTwisterRandom.nextInt());
+		assertEquals(477289528, mersenneTwisterRandom.nextInt());
+		assertEquals(-187748513, mersenneTwisterRandom.nextInt());
+		assertEquals(-65990820, mersenneTwisterRandom.nextInt());
+		
+		for(int i = 5; i < 999; i++) {
+			mersenneTwisterRandom.nextInt();
+		}
+		
+		assertEquals(-834941650, mersenneTwisterRandom.nextInt());
+		
+		assertThrows(IllegalArgumentException.class, () -> new MersenneTwisterRandom(new int[0]));
+		assertThrows(NullPointerException.class, () -> new MersenneTwisterRandom((int[])(null)));
+	}
+	
+	@Test
+	public void testDoublesParallel() {
+		final MersenneTwisterRandom mersenneTwisterRandom = new MersenneTwisterRandom(12345L);
+		
+		assertEquals(100000L, mersenneTwisterRandom.doubles(100000L).parallel().filter(value -> value >= 0.0D && value < 1.0D).count());
+		assertEquals(100000L, mersenneTwisterRandom.doubles(100000L, 2.0D, 3.0D).parallel().filter(value -> value >= 2.0D && value < 3.0D).count());
+		assertEquals(100000L, mersenneTwisterRandom.doubles().parallel().limit(100000L).filter(value -> value >= 0.0D && value < 1.0D).count());
+		assertEquals(100000L, mersenneTwisterRandom.doubles(2.0D, 3.0D).parallel().limit(100000L).filter(value -> value >= 2.0D && value < 3.0D).count());
+		
+		assertThrows(IllegalArgumentException.class, () -> mersenneTwisterRandom.doubles(-1L));
+		assertThrows(IllegalArgumentException.class, () -> mersenneTwisterRandom.doubles(1L, 3.0D, 2.0D));
+		assertThrows(IllegalArgumentException.class, () -> mersenneTwisterRandom.doubles(3.0D, 3.0D));
+	}
+	
+	@Test
+	public void testDoublesSequential() {
+		final MersenneTwisterRandom mersenneTwisterRandomA = new MersenneTwisterRandom(12345L);
+		final MersenneTwisterRandom mersenneTwisterRandomB = new MersenneTwisterRandom(12345L);
+		
+		final double[] values = mersenneTwisterRandomA.doubles(100L).toArray();
+		
+		for(int i = 0; i < values.length; i++) {
+			assertEquals(mersenneTwisterRandomB.nextDouble(), values[i]);
+		}
+	}
+	
 	@Test
 	public void testNextDouble() {
 		final Random random = new MersenneTwisterRandom();
@@ -53,4 +108,151 @@ public final class MersenneTwisterRandomUnitTests {
 			assertTrue(value >= 0.0F && value < 1.0F);
 		}
 	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final MersenneTwisterRandom mersenneTwisterRandomA = new MersenneTwisterRandom(12345L);
+		
+		mersenneTwisterRandomA.nextInt();
+		
+		final MersenneTwisterRandom mersenneTwisterRandomB = doDeserialize(doSerialize(mersenneTwisterRandomA));
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(mersenneTwisterRandomA.nextInt(), mersenneTwisterRandomB.nextInt());
+		}
+	}
+	
+	@Test
+	public void testSerializationBaseline() throws ClassNotFoundException, IOException {
+		/*
+		 * The following bytes are the serialized form of new MersenneTwisterRandom(42L) after two calls to nextInt(), written by the version of this class that extended Random and stored the state in the fields mt, mti and mag01.
+		 */
+		
+		final byte[] bytes = doDecodeHex(
+			"ACED00057372002C6F72672E6D6163726F696E672E6A6176612E7574696C2E4D657273656E6E65547769737465725261" +
+			"6E646F6D00000000000000010200034900036D74695B00056D616730317400025B495B00026D7471007E000178720010" +
+			"6A6176612E7574696C2E52616E646F6D363296344BF00A530300035A0014686176654E6578744E657874476175737369" +
+			"616E4400106E6578744E657874476175737369616E4A000473656564787000000000000000000000000005DEECE64778" +
+			"00000002757200025B494DBA602676EAB2A5020000787000000002000000009908B0DF7571007E0004000002702B26E9" +
+			"43494363A5F8936FE979BEB9E4C73F6D5FBD6659EA4822DAB79DD6A2F254321DD9E576BAA692F5420169FADD68CB81F4" +
+			"43DCC086BE0235DD83AC7A21EB5DC977B54C9B31A529AB64AAF6365BE117A5B172F92F8F59F6DEE6CE477439E52D7178" +
+			"021180B79AC023C24B9CE2935F2002195F2C2C7D34EE8A17EAA3AD0484A99FE1CF20B37A73239A62CC0D84AE9A8201EF" +
+			"F235ED8711B8FEF3CD5E7A098EBC15C1AAC2414CC0459766A830740B022D44136B7702C031A2BBB54B4276B3BD7F04FB" +
+			"92E029ABC4644FA71AD85FB1D84173E209EE58948369C3C027EBA2485739C16479866B47CF08CD6357406F21890B6D04" +
+			"707FA57BA382D13E5A948F20788AFC65833DAEA41C7D41E98473143E12A5652AD2DF0C2D04CB443D4A2C037FBC5DF694" +
+			"A4363A9D0F9A1C5DFF599AA4934C404211CE2840BF012BAEB017E0CC98E225E235456426A501EDCDF56F6B99274B06CB" +
+			"C47DE603FA688A053FB7A023D36595D396294261D4363DA235EB845F5F64048F637DB0EAD5937364217F9800FB8D8EE5" +
+			"486DFF56BC6C1F07810AC37932237EF3EDA9A4EAEB56E1F77C6363760DFBD04609B5FA3645D369275D3C7C21A966A90C" +
+			"6F92D609941239CEE9C36001E8BC96F0B04FAB0AAE570704BC2A9E40661230019DC7B9820E24A24B3CE56F8128C796E6" +
+			"730FF59B8B5173186FBBF44D6D49A733D8A16D1F395AD565E009BDF4A073656F2C456A03228E1F8030BABAE599E68952" +
+			"0600D488FBA8C1A7ED58ABE643E86ACB5CCF115873398DC75760C04998BBAAC5E39BE393373B5A6610C3103CC8E69331" +
+			"6B54F867D445A6C0620B6E7005F64C28686D334AE8A2BC4B833BE7AFC52C5E55B690D25DF9C328E225776CCBB8F1D406" +
+			"174F8D23F6C23DD8F90951DE2E771299685FD1FA102FF5BE9461E357A29AC4B01AED79319D2D62E262A8FEBF1A1EBB1D" +
+			"92B16738944F32C04056BB4AD304AFC3AB28F0677055FC342CC7C0C358C098741CD972AF1C7B04397FC417B415D84AB4" +
+			"15E83960B2B3817C477B137CB9AC132DD589FC47BCE5174DDBFA1C9B7F499F0CC89071F9D145238E8D6F9E6C41649B35" +
+			"9A23245BBE43DF34B4216F3D267D6677C74AFB4A8CF30CF6355F8426DEC211E8018448378DC7D51EFF01F7BA6B964D29" +
+			"08E2EEFA2F56735E388FB08D114B175A233B225344FECE5BA90CB2AC1D9973F850912100223A28E9ED41B7B815F7CA71" +
+			"491F5949F2F38A912085F1E5A9C415E60D0CBED5DF5B6CA99147CA9610A2DCCAD8505D80EC3B21EFA981D4CC4FE89BD4" +
+			"CBD894ADA149BD4A6A4BFC07ACE70BB4026B2ADE4AAC12830BC558C063BA69CB3BA08A9A692DD98AFFEF73AA48E88344" +
+			"3C9A587929F678CB1B62B8569F1809EF8110658C05B5DAF43576E8EDF7DA80FDF132E124CD0E1362841C258EC16A6446" +
+			"2129E2DF07359005FE40463EC45B62B3C14E0D2FE929470F160F598E85D6EBA34A0335BC8D349A9341180000B033C104" +
+			"39DB21437F35C34F5925FBB67EB89BEAEBA8C61BBCE669F0E4C97FC9E6BB7E2EA974F9694D2EFEFDC99CF61D28309A82" +
+			"E5ED2563B6BC1509E081D8A66D94984822924700A736B65B2BDA99D28C27671E30125F7978EF97ED4C376DE4A267CFA1" +
+			"BE817DAD58275782FCA89A94FA3B876F1E4C6EC3D94CC27EE5357D0FB4D2B1F54081C27D84EC4496238122E0966BC95F" +
+			"6ADEF36BF4D40B21A2E09C98FE47D165E8BD32959C959E3E3F09A092E3B1859DB83F67BBD009B23CA5F00CD883BD28DF" +
+			"DCE9EFB16C97E95F5F96193EB8DE4451452EB9FF500D63B29311B8D5D95547F06039C4FF42DC676DE9BB96D2CB322B6B" +
+			"234B1060DF4FC11DE30CE253F4948FBADFE89B7A78F2425DDE091A10AF067829F9B729830C65DF494341AA9295898D4E" +
+			"697E548DFCE4F8784D545EC77FCC0F638BE4BD3A9C906712FF564744324D931766E50FF7CEF68F2909D11418C0A01C63" +
+			"1911D52AC41BA07C947B01797683354530CE90CECF614730D9B9325F4F32ABB7D4511E6937E302BC9AB2E26278CB6B21" +
+			"EB2C70AC20524ED3C1ECF4645C25507DB72D1D8009D7678F8ADACBCED7E15C1D63995F36406B97AC33D035C3857E9C9C" +
+			"87C13128915A22D42A8A174C8A187647160305C3F9BF51B9CCC833422A43B1A2EE20AB82449B7CE87DB2FC7B70895A9C" +
+			"D75BB36A8F5DB767923F8AF43B8D3B4ED3C5D0E7ADA471009B7340E25C2B713FFEAAEFF31EEF5483785594D3477F3786" +
+			"21825FC82F3C68169C8C5104D13B3B21E463F839019B1D4080957B527B068EA2CBDAFF280528048EB5D63E2FF263F0F1" +
+			"8266694AFD4054A4E037895C97832E6ACEA47437F510FF77FA6722969ACADCEA9341476556E3909DA6FF79FDD97C783B" +
+			"C8799401D5378880ED0BE28C414144FDE99C8F297C7103C88B1F6298728DEEE2E8CF1D204F8FA3E6F31D4A655AEABA24" +
+			"0315EFE3A2233C055528BDE5BF0D0D895D528DD91C8831826F7CCC23E50C96AB53D22301A8DC4D57557EEA57DD11DB7D" +
+			"DAC7D56D879F5937DCFE7B400468035B64F3283114ADE3B907F79956F7F701F65E25BC714D7AA742ACFA0A7E5B703346" +
+			"CA6D93C8831F3F948CC7CE98843F794B9685225FB8EC13635A1EA2D7F368668120FEE17D0EB802A86FD44EFD71822B6C" +
+			"D79C5EEE9D6D771FE3718F0BBC126EFAB5EE3B79F7C2C79D5FBB68E88D6E9E003F4187FD4AB0E7752B131EC6550CA058" +
+			"60D31A73C0A268D94A71737F2639F79D8AAA579E7D0827EB2F92180321F5E0089427B04A52C498F760DD91F8C851F55E" +
+			"BC9CB7F233BCC940C174C128DB9F501F4A68F42082B0C2AFA2632D959353696D4BC3D85666071169DCEA2E967ACC33B1" +
+			"5936725DC5BC50403F5D1EF792CA14BAB0708E6A865DED4D13D77C9DB89D3A18F4673E9BE13445F60C2057A6B3446129" +
+			"39E130FE33D951F591F6C731491C5EF11D21500B5B6B757EA7EBED3DC5EB4BF8493A3F9DC9B96C1E35DF2998BC2259E4" +
+			"1B872009FC2EAEEDA5F45A83E77EC43F3C75752993C723313926BFDED00DEC6022D7311BE4AD9F76F8CDD1FEECEA8F3C" +
+			"DD9B2BFFBB080EF164363A1216E6AEC33E8AF302D461C436F8AEFAC1DBAD5ADE1B6D9A38952EC2B776F5A92B294499A6" +
+			"0F43B1DCC6B636E28582FB7263253892002FD27846421930C701135BD9567F82CE58302FC9348E0F367DBA5600F73CCB" +
+			"CB21362828138545EA9888DA0B07ECB042CB5AF1E2C08FD463A2BD828253910374DD2920F1FEB7746A1E5E4D22BF692F" +
+			"0F6566D3FE692DCDD0FFD4E335ED953C01F9A14F1DDEF43A579CA88745BD4A3EA7A390BC71719745D019BB3C52316569" +
+			"3765FFC1FBC5C364E0D51FF803E686FD2C270363B720685FB0BEC34D44749F70B7518B2AC0A02F46DDB4D22EA3942194" +
+			"104220BD3875AC5CF95EE3BD79933746DF20F55B0DFEF77B92AED89EEEB55BDEB075B534D74271155AB38F880C2580C3" +
+			"68FB1CBA45FE9092243DACC1AA76B5A4C0E6C1F14FE44D8F5AE08D6B01CD719CF06EB27F68555F09D2F3AC425F");
+		
+		final MersenneTwisterRandom mersenneTwisterRandomA = doDeserialize(bytes);
+		final MersenneTwisterRandom mersenneTwisterRandomB = new MersenneTwisterRandom(42L);
+		
+		mersenneTwisterRandomB.nextInt();
+		mersenneTwisterRandomB.nextInt();
+		
+		assertEquals(-211680420, mersenneTwisterRandomA.nextInt());
+		assertEquals(787846414, mersenneTwisterRandomA.nextInt());
+		assertEquals(-1151077270, mersenneTwisterRandomA.nextInt());
+		
+		mersenneTwisterRandomB.nextInt();
+		mersenneTwisterRandomB.nextInt();
+		mersenneTwisterRandomB.nextInt();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(mersenneTwisterRandomB.nextInt(), mersenneTwisterRandomA.nextInt());
+		}
+		
+		assertEquals(Integer.TYPE, ObjectStreamClass.lookup(MersenneTwisterRandom.class).getField("mti").getType());
+		assertEquals(int[].class, ObjectStreamClass.lookup(MersenneTwisterRandom.class).getField("mag01").getType());
+		assertEquals(int[].class, ObjectStreamClass.lookup(MersenneTwisterRandom.class).getField("mt").getType());
+	}
+	
+	@Test
+	public void testSplit() {
+		final MersenneTwisterRandom mersenneTwisterRandomA = new MersenneTwisterRandom(12345L);
+		final MersenneTwisterRandom mersenneTwisterRandomB = new MersenneTwisterRandom(12345L);
+		
+		final MersenneTwisterRandom mersenneTwisterRandomC = mersenneTwisterRandomA.split();
+		final MersenneTwisterRandom mersenneTwisterRandomD = mersenneTwisterRandomB.split();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(mersenneTwisterRandomC.nextLong(), mersenneTwisterRandomD.nextLong());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(mersenneTwisterRandomA.nextLong(), mersenneTwisterRandomB.nextLong());
+		}
+		
+		assertNotEquals(mersenneTwisterRandomA.nextLong(), mersenneTwisterRandomC.nextLong());
+	}	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static MersenneTwisterRandom doDeserialize(final byte[] bytes) throws ClassNotFoundException, IOException {
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return MersenneTwisterRandom.class.cast(objectInputStream.readObject());
+		}
+	}
+	
+	private static byte[] doDecodeHex(final String string) {
+		final byte[] bytes = new byte[string.length() / 2];
+		
+		for(int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)(Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16));
+		}
+		
+		return bytes;
+	}
+	
+	private static byte[] doSerialize(final MersenneTwisterRandom mersenneTwisterRandom) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(mersenneTwisterRandom);
+		}
+		
+		return byteArrayOutputStream.toByteArray();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class MersenneTwisterUnitTests {
+	public MersenneTwisterUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAsRandom() {
+		final MersenneTwister mersenneTwisterA = new MersenneTwister(12345L);
+		final MersenneTwister mersenneTwisterB = new MersenneTwister(12345L);
+		
+		final MersenneTwisterRandom random = mersenneTwisterA.asRandom();
+		
+		assertEquals(mersenneTwisterB.nextInt(), random.nextInt());
+		assertEquals(mersenneTwisterB.nextInt(), mersenneTwisterA.nextInt());
+		assertEquals(mersenneTwisterB.nextInt(), random.nextInt());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final MersenneTwister mersenneTwister = new MersenneTwister();
+		
+		for(int i = 0; i < 1000; i++) {
+			final double value = mersenneTwister.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testConstructorIntArray() {
+		final MersenneTwister mersenneTwister = new MersenneTwister(new int[] {0x123, 0x234, 0x345, 0x456});
+		
+		assertEquals(1067595299, mersenneTwister.nextInt());
+		assertEquals(955945823, mersenneTwister.nextInt());
+		assertEquals(477289528, mersenneTwister.nextInt());
+		assertEquals(-187748513, mersenneTwister.nextInt());
+		assertEquals(-65990820, mersenneTwister.nextInt());
+		
+		for(int i = 5; i < 999; i++) {
+			mersenneTwister.nextInt();
+		}
+		
+		assertEquals(-834941650, mersenneTwister.nextInt());
+		
+		assertThrows(IllegalArgumentException.class, () -> new MersenneTwister(new int[0]));
+		assertThrows(NullPointerException.class, () -> new MersenneTwister((int[])(null)));
+	}
+	
+	@Test
+	public void testConstructorLong() {
+		final MersenneTwister mersenneTwister = new MersenneTwister(5489L);
+		
+		assertEquals(-795755684, mersenneTwister.nextInt());
+	}
+	
+	@Test
+	public void testNextBoolean() {
+		final MersenneTwister mersenneTwister = new MersenneTwister(12345L);
+		
+		int count = 0;
+		
+		for(int i = 0; i < 100000; i++) {
+			if(mersenneTwister.nextBoolean()) {
+				count++;
+			}
+		}
+		
+		assertTrue(count > 49000 && count < 51000);
+	}
+	
+	@Test
+	public void testNextDouble() {
+		final MersenneTwister mersenneTwister = new MersenneTwister();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final double value = mersenneTwister.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testNextDoubleReference() {
+		final MersenneTwister mersenneTwister = new MersenneTwister(new int[] {0x123, 0x234, 0x345, 0x456});
+		
+		assertEquals(0.24856890158782508D, mersenneTwister.nextDouble());
+	}
+	
+	@Test
+	public void testNextFloat() {
+		final MersenneTwister mersenneTwister = new MersenneTwister();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final float value = mersenneTwister.nextFloat();
+			
+			assertTrue(value >= 0.0F && value < 1.0F);
+		}
+	}
+	
+	@Test
+	public void testNextIntInt() {
+		final MersenneTwister mersenneTwister = new MersenneTwister(12345L);
+		
+		final int[] counts = new int[10];
+		
+		for(int i = 0; i < 100000; i++) {
+			counts[mersenneTwister.nextInt(10)]++;
+		}
+		
+		for(final int count : counts) {
+			assertTrue(count > 9000 && count < 11000);
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(0, mersenneTwister.nextInt(1));
+			
+			final int value = mersenneTwister.nextInt(Integer.MAX_VALUE);
+			
+			assertTrue(value >= 0 && value < Integer.MAX_VALUE);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> mersenneTwister.nextInt(0));
+		assertThrows(IllegalArgumentException.class, () -> mersenneTwister.nextInt(-1));
+	}
+	
+	@Test
+	public void testNextIntsIntArray() {
+		final MersenneTwister mersenneTwisterA = new MersenneTwister(12345L);
+		final MersenneTwister mersenneTwisterB = new MersenneTwister(12345L);
+		
+		mersenneTwisterA.nextInt();
+		mersenneTwisterB.nextInt();
+		
+		final int[] array = mersenneTwisterA.nextInts(new int[2000]);
+		
+		for(final int value : array) {
+			assertEquals(mersenneTwisterB.nextInt(), value);
+		}
+		
+		assertEquals(mersenneTwisterB.nextInt(), mersenneTwisterA.nextInt());
+		
+		assertThrows(NullPointerException.class, () -> mersenneTwisterA.nextInts((int[])(null)));
+	}
+	
+	@Test
+	public void testNextLong() {
+		final MersenneTwister mersenneTwister = new MersenneTwister(12345L);
+		
+		assertEquals(-1298354032638611995L, mersenneTwister.nextLong());
+	}
+	
+	@Test
+	public void testSetSeed() {
+		final MersenneTwister mersenneTwister = new MersenneTwister(12345L);
+		
+		mersenneTwister.nextInt();
+		mersenneTwister.setSeed(5489L);
+		
+		assertEquals(-795755684, mersenneTwister.nextInt());
+	}
+	
+	@Test
+	public void testSplit() {
+		final MersenneTwister mersenneTwisterA = new MersenneTwister(12345L);
+		final MersenneTwister mersenneTwisterB = new MersenneTwister(12345L);
+		
+		final MersenneTwister mersenneTwisterC = mersenneTwisterA.split();
+		final MersenneTwister mersenneTwisterD = mersenneTwisterB.split();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(mersenneTwisterC.nextLong(), mersenneTwisterD.nextLong());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(mersenneTwisterA.nextLong(), mersenneTwisterB.nextLong());
+		}
+		
+		assertNotEquals(mersenneTwisterA.nextLong(), mersenneTwisterC.nextLong());
+	}
+}
\ No newline at end of file
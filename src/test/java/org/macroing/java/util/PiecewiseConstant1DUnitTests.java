@@ -0,0 +1,118 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class PiecewiseConstant1DUnitTests {
+	public PiecewiseConstant1DUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructorDoubleArray() {
+		final PiecewiseConstant1D piecewiseConstant1D = new PiecewiseConstant1D(new double[] {1.0D, 3.0D});
+		
+		assertEquals(2, piecewiseConstant1D.size());
+		
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant1D(new double[0]));
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant1D(new double[] {0.0D}));
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant1D(new double[] {1.0D, -1.0D}));
+		assertThrows(NullPointerException.class, () -> new PiecewiseConstant1D((double[])(null)));
+	}
+	
+	@Test
+	public void testConstructorFloatArray() {
+		final PiecewiseConstant1D piecewiseConstant1D = new PiecewiseConstant1D(new float[] {1.0F, 3.0F});
+		
+		assertEquals(2, piecewiseConstant1D.size());
+		assertEquals(2.0D, piecewiseConstant1D.getIntegral());
+		
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant1D(new float[0]));
+		assertThrows(NullPointerException.class, () -> new PiecewiseConstant1D((float[])(null)));
+	}
+	
+	@Test
+	public void testGetIntegral() {
+		assertEquals(2.0D, new PiecewiseConstant1D(new double[] {1.0D, 3.0D}).getIntegral());
+		assertEquals(1.0D, new PiecewiseConstant1D(new double[] {0.0D, 2.0D, 1.0D, 1.0D}).getIntegral());
+	}
+	
+	@Test
+	public void testPdf() {
+		final PiecewiseConstant1D piecewiseConstant1D = new PiecewiseConstant1D(new double[] {1.0D, 3.0D});
+		
+		assertEquals(0.5D, piecewiseConstant1D.pdf(0.00D));
+		assertEquals(0.5D, piecewiseConstant1D.pdf(0.25D));
+		assertEquals(1.5D, piecewiseConstant1D.pdf(0.50D));
+		assertEquals(1.5D, piecewiseConstant1D.pdf(0.75D));
+		assertEquals(0.0D, piecewiseConstant1D.pdf(-0.1D));
+		assertEquals(0.0D, piecewiseConstant1D.pdf(1.00D));
+		assertEquals(0.0D, piecewiseConstant1D.pdf(Double.NaN));
+	}
+	
+	@Test
+	public void testSampleDouble() {
+		final PiecewiseConstant1D piecewiseConstant1D = new PiecewiseConstant1D(new double[] {1.0D, 3.0D});
+		
+		assertEquals(0.00D, piecewiseConstant1D.sample(0.000D));
+		assertEquals(0.25D, piecewiseConstant1D.sample(0.125D));
+		assertEquals(0.50D, piecewiseConstant1D.sample(0.250D));
+		assertEquals(0.75D, piecewiseConstant1D.sample(0.625D), 1.0e-15D);
+		
+		assertTrue(piecewiseConstant1D.sample(Math.nextDown(1.0D)) < 1.0D);
+	}
+	
+	@Test
+	public void testSampleDoubleMonotonic() {
+		final PiecewiseConstant1D piecewiseConstant1D = new PiecewiseConstant1D(new double[] {5.0D, 0.0D, 1.0D, 1.0D, 0.0D, 0.0D, 9.0D, 2.0D, 0.0D});
+		
+		double previous = 0.0D;
+		
+		for(int i = 0; i < 100000; i++) {
+			final double x = piecewiseConstant1D.sample(i / 100000.0D);
+			
+			assertTrue(x >= previous && x < 1.0D);
+			assertTrue(piecewiseConstant1D.pdf(x) > 0.0D);
+			
+			previous = x;
+		}
+	}
+	
+	@Test
+	public void testSampleDoubleSupplier() {
+		final PiecewiseConstant1D piecewiseConstant1D = new PiecewiseConstant1D(new double[] {1.0D, 2.0D, 3.0D});
+		
+		final Xoshiro256StarStar xoshiro256StarStarA = new Xoshiro256StarStar(12345L);
+		final Xoshiro256StarStar xoshiro256StarStarB = new Xoshiro256StarStar(12345L);
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(piecewiseConstant1D.sample(xoshiro256StarStarA.nextDouble()), piecewiseConstant1D.sample(xoshiro256StarStarB::nextDouble));
+		}
+		
+		assertThrows(NullPointerException.class, () -> piecewiseConstant1D.sample(null));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class PiecewiseConstant2DUnitTests {
+	public PiecewiseConstant2DUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructorDoubleArrayIntInt() {
+		final PiecewiseConstant2D piecewiseConstant2D = new PiecewiseConstant2D(new double[] {1.0D, 0.0D, 0.0D, 3.0D, 2.0D, 2.0D}, 3, 2);
+		
+		assertEquals(3, piecewiseConstant2D.getWidth());
+		assertEquals(2, piecewiseConstant2D.getHeight());
+		
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant2D(new double[] {1.0D, 1.0D}, 0, 2));
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant2D(new double[] {1.0D, 1.0D}, 2, 0));
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant2D(new double[] {1.0D, 1.0D}, 2, 2));
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant2D(new double[] {0.0D, 0.0D}, 2, 1));
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant2D(new double[] {1.0D, -1.0D}, 2, 1));
+		assertThrows(NullPointerException.class, () -> new PiecewiseConstant2D((double[])(null), 1, 1));
+	}
+	
+	@Test
+	public void testConstructorFloatArrayIntInt() {
+		final PiecewiseConstant2D piecewiseConstant2D = new PiecewiseConstant2D(new float[] {1.0F, 0.0F, 0.0F, 3.0F}, 2, 2);
+		
+		assertEquals(2, piecewiseConstant2D.getWidth());
+		assertEquals(2, piecewiseConstant2D.getHeight());
+		assertEquals(1.0D, piecewiseConstant2D.getIntegral());
+		
+		assertThrows(IllegalArgumentException.class, () -> new PiecewiseConstant2D(new float[] {1.0F, 1.0F}, 2, 2));
+		assertThrows(NullPointerException.class, () -> new PiecewiseConstant2D((float[])(null), 1, 1));
+	}
+	
+	@Test
+	public void testGetIntegral() {
+		assertEquals(1.0D, new PiecewiseConstant2D(new double[] {1.0D, 0.0D, 0.0D, 3.0D}, 2, 2).getIntegral());
+		assertEquals(2.0D, new PiecewiseConstant2D(new double[] {2.0D, 2.0D, 2.0D, 2.0D, 2.0D, 2.0D}, 3, 2).getIntegral());
+	}
+	
+	@Test
+	public void testPdf() {
+		final PiecewiseConstant2D piecewiseConstant2D = new PiecewiseConstant2D(new double[] {1.0D, 0.0D, 0.0D, 3.0D}, 2, 2);
+		
+		assertEquals(1.0D, piecewiseConstant2D.pdf(0.25D, 0.25D));
+		assertEquals(0.0D, piecewiseConstant2D.pdf(0.75D, 0.25D));
+		assertEquals(0.0D, piecewiseConstant2D.pdf(0.25D, 0.75D));
+		assertEquals(3.0D, piecewiseConstant2D.pdf(0.75D, 0.75D));
+		assertEquals(0.0D, piecewiseConstant2D.pdf(1.00D, 0.75D));
+		assertEquals(0.0D, piecewiseConstant2D.pdf(0.75D, -1.0D));
+	}
+	
+	@Test
+	public void testSampleDoubleDoubleDoubleArray() {
+		final PiecewiseConstant2D piecewiseConstant2D = new PiecewiseConstant2D(new double[] {1.0D, 0.0D, 0.0D, 3.0D}, 2, 2);
+		
+		final double[] out = piecewiseConstant2D.sample(0.5D, 0.5D, new double[2]);
+		
+		assertEquals(0.75D, out[0], 1.0e-15D);
+		assertEquals(2.0D / 3.0D, out[1], 1.0e-15D);
+		
+		assertThrows(IllegalArgumentException.class, () -> piecewiseConstant2D.sample(0.5D, 0.5D, new double[0]));
+		assertThrows(IllegalArgumentException.class, () -> piecewiseConstant2D.sample(0.5D, 0.5D, new double[1]));
+		assertThrows(NullPointerException.class, () -> piecewiseConstant2D.sample(0.5D, 0.5D, null));
+	}
+	
+	@Test
+	public void testSampleDoubleDoubleDoubleArrayDistribution() {
+		final PiecewiseConstant2D piecewiseConstant2D = new PiecewiseConstant2D(new double[] {1.0D, 0.0D, 2.0D, 0.0D, 0.0D, 0.0D, 4.0D, 1.0D, 0.0D}, 3, 3);
+		
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+		
+		final double[] out = new double[2];
+		
+		final int[] counts = new int[9];
+		
+		final int samples = 800000;
+		
+		for(int i = 0; i < samples; i++) {
+			piecewiseConstant2D.sample(xoshiro256StarStar.nextDouble(), xoshiro256StarStar.nextDouble(), out);
+			
+			assertTrue(piecewiseConstant2D.pdf(out[0], out[1]) > 0.0D);
+			
+			counts[(int)(out[1] * 3.0D) * 3 + (int)(out[0] * 3.0D)]++;
+		}
+		
+		assertEquals(100000.0D, counts[0], 2000.0D);
+		assertEquals(200000.0D, counts[2], 2000.0D);
+		assertEquals(400000.0D, counts[6], 2000.0D);
+		assertEquals(100000.0D, counts[7], 2000.0D);
+	}
+	
+	@Test
+	public void testSampleDoubleSupplierDoubleArray() {
+		final PiecewiseConstant2D piecewiseConstant2D = new PiecewiseConstant2D(new double[] {1.0D, 2.0D, 3.0D, 4.0D}, 2, 2);
+		
+		final Xoshiro256StarStar xoshiro256StarStarA = new Xoshiro256StarStar(12345L);
+		final Xoshiro256StarStar xoshiro256StarStarB = new Xoshiro256StarStar(12345L);
+		
+		for(int i = 0; i < 1000; i++) {
+			final double u = xoshiro256StarStarA.nextDouble();
+			final double v = xoshiro256StarStarA.nextDouble();
+			
+			assertArrayEquals(piecewiseConstant2D.sample(u, v, new double[2]), piecewiseConstant2D.sample(xoshiro256StarStarB::nextDouble, new double[2]));
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> piecewiseConstant2D.sample(xoshiro256StarStarB::nextDouble, new double[1]));
+		assertThrows(NullPointerException.class, () -> piecewiseConstant2D.sample(null, new double[2]));
+	}
+}
\ No newline at end of file
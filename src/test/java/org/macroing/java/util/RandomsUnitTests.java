@@ -22,6 +22,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("static-method")
@@ -70,6 +75,126 @@ public final class RandomsUnitTests {
 		assertThrows(IllegalArgumentException.class, () -> Randoms.nextDouble(0.0D, 0.0D));
 	}
 	
+	@Test
+	public void testNextDoublesDoubleArray() {
+		final double[] array = Randoms.nextDoubles(new double[1000]);
+		
+		for(final double value : array) {
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextDoubles((double[])(null)));
+	}
+	
+	@Test
+	public void testNextDoublesDoubleArrayDoubleDouble() {
+		final double[] array = Randoms.nextDoubles(new double[1000], 2.0D, 3.0D);
+		
+		for(final double value : array) {
+			assertTrue(value >= 2.0D && value < 3.0D);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> Randoms.nextDoubles(new double[1], 3.0D, 3.0D));
+		assertThrows(NullPointerException.class, () -> Randoms.nextDoubles((double[])(null), 2.0D, 3.0D));
+	}
+	
+	@Test
+	public void testNextDoublesDoubleBuffer() {
+		final DoubleBuffer doubleBufferA = DoubleBuffer.allocate(10);
+		final DoubleBuffer doubleBufferB = ByteBuffer.allocateDirect(80).asDoubleBuffer();
+		
+		((Buffer)(doubleBufferA)).position(2);
+		
+		assertEquals(doubleBufferA, Randoms.nextDoubles(doubleBufferA));
+		assertEquals(doubleBufferB, Randoms.nextDoubles(doubleBufferB));
+		
+		assertEquals(10, doubleBufferA.position());
+		assertEquals(10, doubleBufferB.position());
+		
+		assertEquals(0.0D, doubleBufferA.get(0));
+		assertEquals(0.0D, doubleBufferA.get(1));
+		
+		for(int i = 2; i < 10; i++) {
+			assertTrue(doubleBufferA.get(i) >= 0.0D && doubleBufferA.get(i) < 1.0D);
+		}
+		
+		for(int i = 0; i < 10; i++) {
+			assertTrue(doubleBufferB.get(i) >= 0.0D && doubleBufferB.get(i) < 1.0D);
+		}
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextDoubles((DoubleBuffer)(null)));
+		assertThrows(ReadOnlyBufferException.class, () -> Randoms.nextDoubles(DoubleBuffer.allocate(1).asReadOnlyBuffer()));
+	}
+	
+	@Test
+	public void testNextDoublesInternalDoubleArrayDoubleDoubleDoubleSupplier() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final double[] array = Randoms.nextDoublesInternal(new double[1000], 2.0D, 3.0D, xORShiftA::nextDouble);
+		
+		for(final double value : array) {
+			assertEquals(xORShiftB.nextDouble() + 2.0D, value);
+		}
+		
+		assertEquals(Math.nextDown(3.0D), Randoms.nextDoublesInternal(new double[1], 2.0D, 3.0D, () -> 1.0D)[0]);
+		
+		assertThrows(IllegalArgumentException.class, () -> Randoms.nextDoublesInternal(new double[1], 3.0D, 3.0D, xORShiftA::nextDouble));
+		assertThrows(IllegalArgumentException.class, () -> Randoms.nextDoublesInternal(new double[1], Double.NaN, 3.0D, xORShiftA::nextDouble));
+		assertThrows(NullPointerException.class, () -> Randoms.nextDoublesInternal((double[])(null), 2.0D, 3.0D, xORShiftA::nextDouble));
+	}
+	
+	@Test
+	public void testNextDoublesInternalDoubleArrayDoubleSupplier() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final double[] array = Randoms.nextDoublesInternal(new double[1000], xORShiftA::nextDouble);
+		
+		for(final double value : array) {
+			assertEquals(xORShiftB.nextDouble(), value);
+		}
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextDoublesInternal((double[])(null), xORShiftA::nextDouble));
+	}
+	
+	@Test
+	public void testNextDoublesInternalDoubleBufferDoubleSupplier() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final double[] array = new double[12];
+		
+		final DoubleBuffer doubleBufferA = DoubleBuffer.wrap(array, 1, 11).slice();
+		final DoubleBuffer doubleBufferB = ByteBuffer.allocateDirect(80).asDoubleBuffer();
+		
+		((Buffer)(doubleBufferA)).position(2);
+		((Buffer)(doubleBufferA)).limit(10);
+		
+		assertEquals(doubleBufferA, Randoms.nextDoublesInternal(doubleBufferA, xORShiftA::nextDouble));
+		assertEquals(doubleBufferB, Randoms.nextDoublesInternal(doubleBufferB, xORShiftA::nextDouble));
+		
+		assertEquals(10, doubleBufferA.position());
+		assertEquals(10, doubleBufferB.position());
+		
+		assertEquals(0.0D, array[0]);
+		assertEquals(0.0D, array[1]);
+		assertEquals(0.0D, array[2]);
+		
+		for(int i = 3; i < 11; i++) {
+			assertEquals(xORShiftB.nextDouble(), array[i]);
+		}
+		
+		assertEquals(0.0D, array[11]);
+		
+		for(int i = 0; i < 10; i++) {
+			assertEquals(xORShiftB.nextDouble(), doubleBufferB.get(i));
+		}
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextDoublesInternal((DoubleBuffer)(null), xORShiftA::nextDouble));
+		assertThrows(ReadOnlyBufferException.class, () -> Randoms.nextDoublesInternal(DoubleBuffer.allocate(1).asReadOnlyBuffer(), xORShiftA::nextDouble));
+	}
+	
 	@Test
 	public void testNextFloat() {
 		for(int i = 0; i < 100000; i++) {
@@ -107,6 +232,61 @@ public final class RandomsUnitTests {
 		assertEquals(Float.intBitsToFloat(Float.floatToIntBits(2.0F) - 1), Randoms.nextFloatInternal(2.0F, 2.0F));
 	}
 	
+	@Test
+	public void testNextFloatsFloatArray() {
+		final float[] array = Randoms.nextFloats(new float[1000]);
+		
+		for(final float value : array) {
+			assertTrue(value >= 0.0F && value < 1.0F);
+		}
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextFloats((float[])(null)));
+	}
+	
+	@Test
+	public void testNextFloatsFloatArrayFloatFloat() {
+		final float[] array = Randoms.nextFloats(new float[1000], 2.0F, 3.0F);
+		
+		for(final float value : array) {
+			assertTrue(value >= 2.0F && value < 3.0F);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> Randoms.nextFloats(new float[1], 3.0F, 3.0F));
+		assertThrows(NullPointerException.class, () -> Randoms.nextFloats((float[])(null), 2.0F, 3.0F));
+	}
+	
+	@Test
+	public void testNextFloatsInternalFloatArrayFloatFloatFloatSupplier() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final float[] array = Randoms.nextFloatsInternal(new float[1000], 2.0F, 3.0F, xORShiftA::nextFloat);
+		
+		for(final float value : array) {
+			assertEquals(xORShiftB.nextFloat() + 2.0F, value);
+		}
+		
+		assertEquals(Math.nextDown(3.0F), Randoms.nextFloatsInternal(new float[1], 2.0F, 3.0F, () -> 1.0F)[0]);
+		
+		assertThrows(IllegalArgumentException.class, () -> Randoms.nextFloatsInternal(new float[1], 3.0F, 3.0F, xORShiftA::nextFloat));
+		assertThrows(IllegalArgumentException.class, () -> Randoms.nextFloatsInternal(new float[1], Float.NaN, 3.0F, xORShiftA::nextFloat));
+		assertThrows(NullPointerException.class, () -> Randoms.nextFloatsInternal((float[])(null), 2.0F, 3.0F, xORShiftA::nextFloat));
+	}
+	
+	@Test
+	public void testNextFloatsInternalFloatArrayFloatSupplier() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final float[] array = Randoms.nextFloatsInternal(new float[1000], xORShiftA::nextFloat);
+		
+		for(final float value : array) {
+			assertEquals(xORShiftB.nextFloat(), value);
+		}
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextFloatsInternal((float[])(null), xORShiftA::nextFloat));
+	}
+	
 	@Test
 	public void testNextInt() {
 		for(int i = 0; i < 100000; i++) {
@@ -137,4 +317,40 @@ public final class RandomsUnitTests {
 		
 		assertThrows(IllegalArgumentException.class, () -> Randoms.nextInt(0, 0));
 	}
+	
+	@Test
+	public void testNextIntsIntArray() {
+		final int[] array = Randoms.nextInts(new int[1000]);
+		
+		assertEquals(1000, array.length);
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextInts((int[])(null)));
+	}	
+	@Test
+	public void testNextIntsInternalIntArrayIntSupplier() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final int[] array = Randoms.nextIntsInternal(new int[1000], xORShiftA::nextInt);
+		
+		for(final int value : array) {
+			assertEquals(xORShiftB.nextInt(), value);
+		}
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextIntsInternal((int[])(null), xORShiftA::nextInt));
+	}
+	
+	@Test
+	public void testNextLongsInternalLongArrayLongSupplier() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final long[] array = Randoms.nextLongsInternal(new long[1000], xORShiftA::nextLong);
+		
+		for(final long value : array) {
+			assertEquals(xORShiftB.nextLong(), value);
+		}
+		
+		assertThrows(NullPointerException.class, () -> Randoms.nextLongsInternal((long[])(null), xORShiftA::nextLong));
+	}
 }
\ No newline at end of file
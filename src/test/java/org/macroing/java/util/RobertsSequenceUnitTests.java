@@ -0,0 +1,117 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class RobertsSequenceUnitTests {
+	public RobertsSequenceUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final RobertsSequence robertsSequence = new RobertsSequence(2);
+		
+		assertEquals(2, robertsSequence.getDimensions());
+		assertEquals(0L, robertsSequence.getIndex());
+		
+		assertThrows(IllegalArgumentException.class, () -> new RobertsSequence(0));
+	}
+	
+	@Test
+	public void testNext() {
+		final RobertsSequence robertsSequence = new RobertsSequence(2);
+		
+		final double[] out = new double[3];
+		
+		assertArrayEquals(new double[] {0.5D, 0.5D, 0.0D}, robertsSequence.next(out));
+		assertArrayEquals(new double[] {0.2548776662466927D, 0.06984029099805333D, 0.0D}, robertsSequence.next(out), 1.0e-15D);
+		
+		assertEquals(2L, robertsSequence.getIndex());
+		
+		assertThrows(IllegalArgumentException.class, () -> robertsSequence.next(new double[1]));
+		assertThrows(NullPointerException.class, () -> robertsSequence.next(null));
+	}
+	
+	@Test
+	public void testNextGoldenRatio() {
+		final RobertsSequence robertsSequence = new RobertsSequence(1);
+		
+		final double[] out = new double[1];
+		
+		assertEquals(0.5D, robertsSequence.next(out)[0]);
+		assertEquals(0.1180339887498949D, robertsSequence.next(out)[0], 1.0e-15D);
+		assertEquals(0.7360679774997898D, robertsSequence.next(out)[0], 1.0e-15D);
+	}
+	
+	@Test
+	public void testNextRange() {
+		final RobertsSequence robertsSequence = new RobertsSequence(64);
+		
+		final double[] out = new double[64];
+		
+		for(int i = 0; i < 10000; i++) {
+			for(final double value : robertsSequence.next(out)) {
+				assertTrue(value >= 0.0D && value < 1.0D);
+			}
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		final RobertsSequence robertsSequence = new RobertsSequence(4);
+		
+		final double[] a = robertsSequence.next(new double[4]);
+		
+		robertsSequence.next(new double[4]);
+		robertsSequence.next(new double[4]);
+		robertsSequence.reset();
+		
+		assertEquals(0L, robertsSequence.getIndex());
+		
+		assertArrayEquals(a, robertsSequence.next(new double[4]));
+	}
+	
+	@Test
+	public void testSetIndex() {
+		final RobertsSequence robertsSequenceA = new RobertsSequence(16);
+		final RobertsSequence robertsSequenceB = new RobertsSequence(16);
+		
+		for(int i = 0; i < 1000; i++) {
+			final double[] a = robertsSequenceA.next(new double[16]);
+			
+			robertsSequenceB.setIndex(i);
+			
+			assertEquals(i, robertsSequenceB.getIndex());
+			
+			assertArrayEquals(a, robertsSequenceB.next(new double[16]));
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> robertsSequenceA.setIndex(-1L));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class SobolSequenceUnitTests {
+	public SobolSequenceUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstants() {
+		assertEquals(1024, SobolSequence.MAXIMUM_DIMENSIONS);
+		assertEquals(1L << 32, SobolSequence.MAXIMUM_POINTS);
+	}
+	
+	@Test
+	public void testConstructor() {
+		final SobolSequence sobolSequence = new SobolSequence(3);
+		
+		assertEquals(3, sobolSequence.getDimensions());
+		assertEquals(0L, sobolSequence.getIndex());
+		
+		assertThrows(IllegalArgumentException.class, () -> new SobolSequence(0));
+		assertThrows(IllegalArgumentException.class, () -> new SobolSequence(SobolSequence.MAXIMUM_DIMENSIONS + 1));
+	}
+	
+	@Test
+	public void testNext() {
+		final SobolSequence sobolSequence = new SobolSequence(3);
+		
+		final double[] out = new double[4];
+		
+		assertArrayEquals(new double[] {0.000D, 0.000D, 0.000D, 0.0D}, sobolSequence.next(out));
+		assertArrayEquals(new double[] {0.500D, 0.500D, 0.500D, 0.0D}, sobolSequence.next(out));
+		assertArrayEquals(new double[] {0.750D, 0.250D, 0.250D, 0.0D}, sobolSequence.next(out));
+		assertArrayEquals(new double[] {0.250D, 0.750D, 0.750D, 0.0D}, sobolSequence.next(out));
+		assertArrayEquals(new double[] {0.375D, 0.375D, 0.625D, 0.0D}, sobolSequence.next(out));
+		assertArrayEquals(new double[] {0.875D, 0.875D, 0.125D, 0.0D}, sobolSequence.next(out));
+		assertArrayEquals(new double[] {0.625D, 0.125D, 0.875D, 0.0D}, sobolSequence.next(out));
+		assertArrayEquals(new double[] {0.125D, 0.625D, 0.375D, 0.0D}, sobolSequence.next(out));
+		
+		assertEquals(8L, sobolSequence.getIndex());
+		
+		assertThrows(IllegalArgumentException.class, () -> sobolSequence.next(new double[2]));
+		assertThrows(NullPointerException.class, () -> sobolSequence.next(null));
+	}
+	
+	@Test
+	public void testNextExhausted() {
+		final SobolSequence sobolSequence = new SobolSequence(2);
+		
+		sobolSequence.setIndex(SobolSequence.MAXIMUM_POINTS - 1L);
+		
+		final double[] out = sobolSequence.next(new double[2]);
+		
+		assertTrue(out[0] >= 0.0D && out[0] < 1.0D);
+		assertTrue(out[1] >= 0.0D && out[1] < 1.0D);
+		
+		assertThrows(IllegalStateException.class, () -> sobolSequence.next(new double[2]));
+	}
+	
+	@Test
+	public void testNextStratification() {
+		final SobolSequence sobolSequence = new SobolSequence(SobolSequence.MAXIMUM_DIMENSIONS);
+		
+		final double[] out = new double[SobolSequence.MAXIMUM_DIMENSIONS];
+		
+		final boolean[][] strata = new boolean[SobolSequence.MAXIMUM_DIMENSIONS][1024];
+		
+		for(int i = 0; i < 1024; i++) {
+			sobolSequence.next(out);
+			
+			for(int j = 0; j < SobolSequence.MAXIMUM_DIMENSIONS; j++) {
+				final int stratum = (int)(out[j] * 1024.0D);
+				
+				assertFalse(strata[j][stratum]);
+				
+				strata[j][stratum] = true;
+			}
+		}
+	}
+	
+	@Test
+	public void testNextStratificationTwoDimensions() {
+		final SobolSequence sobolSequence = new SobolSequence(2);
+		
+		final double[][] points = new double[256][];
+		
+		for(int i = 0; i < points.length; i++) {
+			points[i] = sobolSequence.next(new double[2]);
+		}
+		
+		for(int k = 0; k <= 8; k++) {
+			final int countX = 1 << k;
+			final int countY = 1 << (8 - k);
+			
+			final boolean[] intervals = new boolean[256];
+			
+			for(final double[] point : points) {
+				final int interval = (int)(point[0] * countX) * countY + (int)(point[1] * countY);
+				
+				assertFalse(intervals[interval]);
+				
+				intervals[interval] = true;
+			}
+		}
+	}
+	
+	@Test
+	public void testNextDistinctDimensions() {
+		final SobolSequence sobolSequence = new SobolSequence(SobolSequence.MAXIMUM_DIMENSIONS);
+		
+		final double[][] points = new double[128][];
+		
+		for(int i = 0; i < points.length; i++) {
+			points[i] = sobolSequence.next(new double[SobolSequence.MAXIMUM_DIMENSIONS]);
+		}
+		
+		for(int a = 0; a < SobolSequence.MAXIMUM_DIMENSIONS; a++) {
+			for(int b = a + 1; b < SobolSequence.MAXIMUM_DIMENSIONS; b++) {
+				boolean isEqual = true;
+				
+				for(int i = 0; i < points.length && isEqual; i++) {
+					isEqual = points[i][a] == points[i][b];
+				}
+				
+				assertFalse(isEqual, String.format("Dimensions %d and %d are equal", Integer.valueOf(a), Integer.valueOf(b)));
+			}
+		}
+	}
+	
+	@Test
+	public void testNextElementaryIntervalsTwoDimensions() {
+		final SobolSequence sobolSequence = new SobolSequence(SobolSequence.MAXIMUM_DIMENSIONS);
+		
+		final double[][] points = new double[1024][];
+		
+		for(int i = 0; i < points.length; i++) {
+			points[i] = sobolSequence.next(new double[SobolSequence.MAXIMUM_DIMENSIONS]);
+		}
+		
+		final int[][] dimensionPairs = {{1, 2}, {2, 3}, {1, 848}, {7, 100}, {255, 256}, {500, 501}, {1022, 1023}};
+		
+		for(final int[] dimensionPair : dimensionPairs) {
+			for(int m = 4; m <= 10; m++) {
+				doAssertNet(points, dimensionPair[0], dimensionPair[1], m, 4);
+			}
+		}
+	}
+	
+	@Test
+	public void testReset() {
+		final SobolSequence sobolSequence = new SobolSequence(4);
+		
+		final double[] a = sobolSequence.next(new double[4]);
+		
+		sobolSequence.next(new double[4]);
+		sobolSequence.next(new double[4]);
+		sobolSequence.reset();
+		
+		assertEquals(0L, sobolSequence.getIndex());
+		
+		assertArrayEquals(a, sobolSequence.next(new double[4]));
+	}
+	
+	@Test
+	public void testSetIndex() {
+		final SobolSequence sobolSequenceA = new SobolSequence(16);
+		final SobolSequence sobolSequenceB = new SobolSequence(16);
+		
+		for(int i = 0; i < 1000; i++) {
+			final double[] a = sobolSequenceA.next(new double[16]);
+			
+			sobolSequenceB.setIndex(i);
+			
+			assertEquals(i, sobolSequenceB.getIndex());
+			
+			assertArrayEquals(a, sobolSequenceB.next(new double[16]));
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> sobolSequenceA.setIndex(-1L));
+		assertThrows(IllegalArgumentException.class, () -> sobolSequenceA.setIndex(SobolSequence.MAXIMUM_POINTS));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doAssertNet(final double[][] points, final int dimensionX, final int dimensionY, final int m, final int t) {
+		final int count = 1 << m;
+		final int countPerInterval = 1 << t;
+		
+		for(int k = 0; k <= m - t; k++) {
+			final int countX = 1 << k;
+			final int countY = 1 << (m - t - k);
+			
+			final int[] intervals = new int[countX * countY];
+			
+			for(int i = 0; i < count; i++) {
+				intervals[(int)(points[i][dimensionX] * countX) * countY + (int)(points[i][dimensionY] * countY)]++;
+			}
+			
+			for(final int interval : intervals) {
+				assertEquals(countPerInterval, interval);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class StratifiedSamplerUnitTests {
+	public StratifiedSamplerUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final StratifiedSampler stratifiedSampler = new StratifiedSampler(3, 4, 12345L);
+		
+		assertEquals(3, stratifiedSampler.getDimensions());
+		assertEquals(4, stratifiedSampler.getStrata());
+		assertEquals(64L, stratifiedSampler.getSamplesPerPass());
+		
+		assertEquals(1L << 62, new StratifiedSampler(62, 2, 12345L).getSamplesPerPass());
+		
+		assertThrows(IllegalArgumentException.class, () -> new StratifiedSampler(0, 4, 12345L));
+		assertThrows(IllegalArgumentException.class, () -> new StratifiedSampler(3, 0, 12345L));
+		assertThrows(IllegalArgumentException.class, () -> new StratifiedSampler(63, 2, 12345L));
+	}
+	
+	@Test
+	public void testNext() {
+		final StratifiedSampler stratifiedSamplerA = new StratifiedSampler(2, 4, 12345L);
+		final StratifiedSampler stratifiedSamplerB = new StratifiedSampler(2, 4, 12345L);
+		
+		for(int pass = 0; pass < 3; pass++) {
+			final boolean[] cells = new boolean[16];
+			
+			for(int i = 0; i < 16; i++) {
+				final double[] a = stratifiedSamplerA.next(new double[3]);
+				final double[] b = stratifiedSamplerB.next(new double[3]);
+				
+				assertArrayEquals(a, b);
+				
+				assertTrue(a[0] >= 0.0D && a[0] < 1.0D);
+				assertTrue(a[1] >= 0.0D && a[1] < 1.0D);
+				
+				assertEquals(0.0D, a[2]);
+				
+				final int cell = (int)(a[0] * 4.0D) + 4 * (int)(a[1] * 4.0D);
+				
+				assertFalse(cells[cell]);
+				
+				cells[cell] = true;
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> stratifiedSamplerA.next(new double[1]));
+		assertThrows(NullPointerException.class, () -> stratifiedSamplerA.next(null));
+	}
+}
\ No newline at end of file
@@ -18,8 +18,17 @@
  */
 package org.macroing.java.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
@@ -32,6 +41,20 @@ public final class XORShiftRandomUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testDoublesParallel() {
+		final XORShiftRandom xORShiftRandom = new XORShiftRandom(12345L);
+		
+		assertEquals(100000L, xORShiftRandom.doubles(100000L).parallel().filter(value -> value >= 0.0D && value < 1.0D).count());
+		assertEquals(100000L, xORShiftRandom.doubles(100000L, 2.0D, 3.0D).parallel().filter(value -> value >= 2.0D && value < 3.0D).count());
+		assertEquals(100000L, xORShiftRandom.doubles().parallel().limit(100000L).filter(value -> value >= 0.0D && value < 1.0D).count());
+		assertEquals(100000L, xORShiftRandom.doubles(2.0D, 3.0D).parallel().limit(100000L).filter(value -> value >= 2.0D && value < 3.0D).count());
+		
+		assertThrows(IllegalArgumentException.class, () -> xORShiftRandom.doubles(-1L));
+		assertThrows(IllegalArgumentException.class, () -> xORShiftRandom.doubles(1L, 3.0D, 2.0D));
+		assertThrows(IllegalArgumentException.class, () -> xORShiftRandom.doubles(3.0D, 3.0D));
+	}
+	
 	@Test
 	public void testNextDouble() {
 		final Random random = new XORShiftRandom();
@@ -53,4 +76,96 @@ public final class XORShiftRandomUnitTests {
 			assertTrue(value >= 0.0F && value < 1.0F);
 		}
 	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final XORShiftRandom xORShiftRandomA = new XORShiftRandom(12345L);
+		
+		xORShiftRandomA.nextInt();
+		
+		final XORShiftRandom xORShiftRandomB = doDeserialize(doSerialize(xORShiftRandomA));
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xORShiftRandomA.nextInt(), xORShiftRandomB.nextInt());
+		}
+	}
+	
+	@Test
+	public void testSerializationBaseline() throws ClassNotFoundException, IOException {
+		/*
+		 * The following bytes are the serialized form of new XORShiftRandom(42L) after two calls to nextInt(), written by the version of this class that extended Random and stored the state in the field seed.
+		 */
+		
+		final byte[] bytes = doDecodeHex(
+			"ACED0005737200256F72672E6D6163726F696E672E6A6176612E7574696C2E584F52536869667452616E646F6D000000" +
+			"00000000010200014A000473656564787200106A6176612E7574696C2E52616E646F6D363296344BF00A530300035A00" +
+			"14686176654E6578744E657874476175737369616E4400106E6578744E657874476175737369616E4A00047365656478" +
+			"7000000000000000000000000000000000007800A8A80001517A2A");
+		
+		final XORShiftRandom xORShiftRandomA = doDeserialize(bytes);
+		final XORShiftRandom xORShiftRandomB = new XORShiftRandom(42L);
+		
+		xORShiftRandomB.nextInt();
+		xORShiftRandomB.nextInt();
+		
+		assertEquals(289904948, xORShiftRandomA.nextInt());
+		assertEquals(1097473828, xORShiftRandomA.nextInt());
+		assertEquals(1401642977, xORShiftRandomA.nextInt());
+		
+		xORShiftRandomB.nextInt();
+		xORShiftRandomB.nextInt();
+		xORShiftRandomB.nextInt();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xORShiftRandomB.nextInt(), xORShiftRandomA.nextInt());
+		}
+		
+		assertEquals(Long.TYPE, ObjectStreamClass.lookup(XORShiftRandom.class).getField("seed").getType());
+	}
+	
+	@Test
+	public void testSplit() {
+		final XORShiftRandom xORShiftRandomA = new XORShiftRandom(12345L);
+		final XORShiftRandom xORShiftRandomB = new XORShiftRandom(12345L);
+		
+		final XORShiftRandom xORShiftRandomC = xORShiftRandomA.split();
+		final XORShiftRandom xORShiftRandomD = xORShiftRandomB.split();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xORShiftRandomC.nextLong(), xORShiftRandomD.nextLong());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xORShiftRandomA.nextLong(), xORShiftRandomB.nextLong());
+		}
+		
+		assertNotEquals(xORShiftRandomA.nextLong(), xORShiftRandomC.nextLong());
+	}	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static XORShiftRandom doDeserialize(final byte[] bytes) throws ClassNotFoundException, IOException {
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return XORShiftRandom.class.cast(objectInputStream.readObject());
+		}
+	}
+	
+	private static byte[] doDecodeHex(final String string) {
+		final byte[] bytes = new byte[string.length() / 2];
+		
+		for(int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)(Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16));
+		}
+		
+		return bytes;
+	}
+	
+	private static byte[] doSerialize(final XORShiftRandom xORShiftRandom) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(xORShiftRandom);
+		}
+		
+		return byteArrayOutputStream.toByteArray();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class XORShiftUnitTests {
+	public XORShiftUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAsRandom() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final XORShiftRandom random = xORShiftA.asRandom();
+		
+		assertEquals(xORShiftB.nextInt(), random.nextInt());
+		assertEquals(xORShiftB.nextInt(), xORShiftA.nextInt());
+		assertEquals(xORShiftB.nextInt(), random.nextInt());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final XORShift xORShift = new XORShift();
+		
+		for(int i = 0; i < 1000; i++) {
+			final double value = xORShift.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testNextBoolean() {
+		final XORShift xORShift = new XORShift(12345L);
+		
+		int count = 0;
+		
+		for(int i = 0; i < 100000; i++) {
+			if(xORShift.nextBoolean()) {
+				count++;
+			}
+		}
+		
+		assertTrue(count > 49000 && count < 51000);
+	}
+	
+	@Test
+	public void testNextDouble() {
+		final XORShift xORShift = new XORShift();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final double value = xORShift.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testNextFloat() {
+		final XORShift xORShift = new XORShift();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final float value = xORShift.nextFloat();
+			
+			assertTrue(value >= 0.0F && value < 1.0F);
+		}
+	}
+	
+	@Test
+	public void testNextInt() {
+		final XORShift xORShift = new XORShift(12345L);
+		
+		assertEquals((int)(440051905381L), xORShift.nextInt());
+	}
+	
+	@Test
+	public void testNextIntInt() {
+		final XORShift xORShift = new XORShift(12345L);
+		
+		final int[] counts = new int[10];
+		
+		for(int i = 0; i < 100000; i++) {
+			counts[xORShift.nextInt(10)]++;
+		}
+		
+		for(final int count : counts) {
+			assertTrue(count > 9000 && count < 11000);
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(0, xORShift.nextInt(1));
+			
+			final int value = xORShift.nextInt(Integer.MAX_VALUE);
+			
+			assertTrue(value >= 0 && value < Integer.MAX_VALUE);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> xORShift.nextInt(0));
+		assertThrows(IllegalArgumentException.class, () -> xORShift.nextInt(-1));
+	}
+	
+	@Test
+	public void testNextLong() {
+		final XORShift xORShift = new XORShift(12345L);
+		
+		assertEquals(440051905381L, xORShift.nextLong());
+		assertEquals(-4601302230581523147L, xORShift.nextLong());
+	}
+	
+	@Test
+	public void testSetSeed() {
+		final XORShift xORShift = new XORShift(1L);
+		
+		xORShift.setSeed(12345L);
+		
+		assertEquals(440051905381L, xORShift.nextLong());
+	}
+	
+	@Test
+	public void testSplit() {
+		final XORShift xORShiftA = new XORShift(12345L);
+		final XORShift xORShiftB = new XORShift(12345L);
+		
+		final XORShift xORShiftC = xORShiftA.split();
+		final XORShift xORShiftD = xORShiftB.split();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xORShiftC.nextLong(), xORShiftD.nextLong());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xORShiftA.nextLong(), xORShiftB.nextLong());
+		}
+		
+		assertNotEquals(xORShiftA.nextLong(), xORShiftC.nextLong());
+	}
+}
\ No newline at end of file
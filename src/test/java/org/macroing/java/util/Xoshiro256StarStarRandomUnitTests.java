@@ -0,0 +1,279 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class Xoshiro256StarStarRandomUnitTests {
+	public Xoshiro256StarStarRandomUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandom = new Xoshiro256StarStarRandom();
+		
+		for(int i = 0; i < 1000; i++) {
+			final double value = xoshiro256StarStarRandom.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testConstructorLong() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandom = new Xoshiro256StarStarRandom(12345L);
+		
+		assertEquals(-4725905248023948133L, xoshiro256StarStarRandom.nextLong());
+		assertEquals(+2398916695208396998L, xoshiro256StarStarRandom.nextLong());
+		assertEquals(-676359223724682360L, xoshiro256StarStarRandom.nextLong());
+		assertEquals(+891717726879801395L, xoshiro256StarStarRandom.nextLong());
+	}
+	
+	@Test
+	public void testConstructorLongLongLongLong() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandom = new Xoshiro256StarStarRandom(1L, 2L, 3L, 4L);
+		
+		assertEquals(11520L, xoshiro256StarStarRandom.nextLong());
+		assertEquals(0L, xoshiro256StarStarRandom.nextLong());
+		assertEquals(1509978240L, xoshiro256StarStarRandom.nextLong());
+		assertEquals(1215971899390074240L, xoshiro256StarStarRandom.nextLong());
+		
+		assertThrows(IllegalArgumentException.class, () -> new Xoshiro256StarStarRandom(0L, 0L, 0L, 0L));
+	}
+	
+	@Test
+	public void testDoublesParallel() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandom = new Xoshiro256StarStarRandom(12345L);
+		
+		assertEquals(100000L, xoshiro256StarStarRandom.doubles(100000L).parallel().filter(value -> value >= 0.0D && value < 1.0D).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.doubles(100000L, 2.0D, 3.0D).parallel().filter(value -> value >= 2.0D && value < 3.0D).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.doubles().parallel().limit(100000L).filter(value -> value >= 0.0D && value < 1.0D).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.doubles(2.0D, 3.0D).parallel().limit(100000L).filter(value -> value >= 2.0D && value < 3.0D).count());
+		
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.doubles(-1L));
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.doubles(1L, 3.0D, 2.0D));
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.doubles(3.0D, 3.0D));
+	}
+	
+	@Test
+	public void testDoublesSequential() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomA = new Xoshiro256StarStarRandom(12345L);
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomB = new Xoshiro256StarStarRandom(12345L);
+		
+		final double[] values = xoshiro256StarStarRandomA.doubles(100L).toArray();
+		
+		for(int i = 0; i < values.length; i++) {
+			assertEquals(xoshiro256StarStarRandomB.nextDouble(), values[i]);
+		}
+	}
+	
+	@Test
+	public void testIntsParallel() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandom = new Xoshiro256StarStarRandom(12345L);
+		
+		assertEquals(100000L, xoshiro256StarStarRandom.ints(100000L).parallel().count());
+		assertEquals(100000L, xoshiro256StarStarRandom.ints(100000L, 2, 7).parallel().filter(value -> value >= 2 && value < 7).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.ints(100000L, -2, Integer.MAX_VALUE).parallel().filter(value -> value >= -2).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.ints().parallel().limit(100000L).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.ints(2, 7).parallel().limit(100000L).filter(value -> value >= 2 && value < 7).count());
+		
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.ints(-1L));
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.ints(1L, 3, 2));
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.ints(3, 3));
+	}
+	
+	@Test
+	public void testJump() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomA = new Xoshiro256StarStarRandom(1L, 2L, 3L, 4L);
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomB = new Xoshiro256StarStarRandom(1L, 2L, 3L, 4L);
+		
+		xoshiro256StarStarRandomA.jump();
+		
+		assertEquals(-4912596984176294952L, xoshiro256StarStarRandomA.nextLong());
+		assertEquals(+7126240192422241655L, xoshiro256StarStarRandomA.nextLong());
+		
+		xoshiro256StarStarRandomB.nextLong();
+		xoshiro256StarStarRandomB.nextLong();
+		xoshiro256StarStarRandomB.jump();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarRandomA.nextLong(), xoshiro256StarStarRandomB.nextLong());
+		}
+	}
+	
+	@Test
+	public void testLongJump() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomA = new Xoshiro256StarStarRandom(1L, 2L, 3L, 4L);
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomB = new Xoshiro256StarStarRandom(1L, 2L, 3L, 4L);
+		
+		xoshiro256StarStarRandomA.longJump();
+		
+		assertEquals(+5942309088398569549L, xoshiro256StarStarRandomA.nextLong());
+		assertEquals(-2821296343772193180L, xoshiro256StarStarRandomA.nextLong());
+		
+		xoshiro256StarStarRandomB.nextLong();
+		xoshiro256StarStarRandomB.nextLong();
+		xoshiro256StarStarRandomB.longJump();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarRandomA.nextLong(), xoshiro256StarStarRandomB.nextLong());
+		}
+	}
+	
+	@Test
+	public void testLongsParallel() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandom = new Xoshiro256StarStarRandom(12345L);
+		
+		assertEquals(100000L, xoshiro256StarStarRandom.longs(100000L).parallel().count());
+		assertEquals(100000L, xoshiro256StarStarRandom.longs(100000L, 2L, 10L).parallel().filter(value -> value >= 2L && value < 10L).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.longs(100000L, 2L, 7L).parallel().filter(value -> value >= 2L && value < 7L).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.longs(100000L, -2L, Long.MAX_VALUE).parallel().filter(value -> value >= -2L).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.longs().parallel().limit(100000L).count());
+		assertEquals(100000L, xoshiro256StarStarRandom.longs(2L, 7L).parallel().limit(100000L).filter(value -> value >= 2L && value < 7L).count());
+		
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.longs(-1L));
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.longs(1L, 3L, 2L));
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStarRandom.longs(3L, 3L));
+	}
+	
+	@Test
+	public void testNextBoolean() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomA = new Xoshiro256StarStarRandom(12345L);
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomB = new Xoshiro256StarStarRandom(12345L);
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarRandomB.nextLong() < 0L, xoshiro256StarStarRandomA.nextBoolean());
+		}
+	}
+	
+	@Test
+	public void testNextDouble() {
+		final Random random = new Xoshiro256StarStarRandom();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final double value = random.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testNextFloat() {
+		final Random random = new Xoshiro256StarStarRandom();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final float value = random.nextFloat();
+			
+			assertTrue(value >= 0.0F && value < 1.0F);
+		}
+	}
+	
+	@Test
+	public void testNextInt() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomA = new Xoshiro256StarStarRandom(12345L);
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomB = new Xoshiro256StarStarRandom(12345L);
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals((int)(xoshiro256StarStarRandomB.nextLong() >>> 32), xoshiro256StarStarRandomA.nextInt());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			final int value = xoshiro256StarStarRandomA.nextInt(10);
+			
+			assertTrue(value >= 0 && value < 10);
+		}
+	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomA = new Xoshiro256StarStarRandom(12345L);
+		
+		xoshiro256StarStarRandomA.nextInt();
+		
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomB = doDeserialize(doSerialize(xoshiro256StarStarRandomA));
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarRandomA.nextInt(), xoshiro256StarStarRandomB.nextInt());
+		}
+		
+		assertEquals(Xoshiro256StarStar.class, ObjectStreamClass.lookup(Xoshiro256StarStarRandom.class).getField("xoshiro256StarStar").getType());
+	}
+	
+	@Test
+	public void testSetSeed() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandom = new Xoshiro256StarStarRandom(1L, 2L, 3L, 4L);
+		
+		xoshiro256StarStarRandom.setSeed(12345L);
+		
+		assertEquals(-4725905248023948133L, xoshiro256StarStarRandom.nextLong());
+	}
+	
+	@Test
+	public void testSplit() {
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomA = new Xoshiro256StarStarRandom(12345L);
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomB = new Xoshiro256StarStarRandom(12345L);
+		
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomC = xoshiro256StarStarRandomA.split();
+		final Xoshiro256StarStarRandom xoshiro256StarStarRandomD = xoshiro256StarStarRandomB.split();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarRandomC.nextLong(), xoshiro256StarStarRandomD.nextLong());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarRandomA.nextLong(), xoshiro256StarStarRandomB.nextLong());
+		}
+		
+		assertNotEquals(xoshiro256StarStarRandomA.nextLong(), xoshiro256StarStarRandomC.nextLong());
+	}	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Xoshiro256StarStarRandom doDeserialize(final byte[] bytes) throws ClassNotFoundException, IOException {
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return Xoshiro256StarStarRandom.class.cast(objectInputStream.readObject());
+		}
+	}
+	
+	private static byte[] doSerialize(final Xoshiro256StarStarRandom xoshiro256StarStarRandom) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(xoshiro256StarStarRandom);
+		}
+		
+		return byteArrayOutputStream.toByteArray();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class Xoshiro256StarStarUnitTests {
+	public Xoshiro256StarStarUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAsRandom() {
+		final Xoshiro256StarStar xoshiro256StarStarA = new Xoshiro256StarStar(12345L);
+		final Xoshiro256StarStar xoshiro256StarStarB = new Xoshiro256StarStar(12345L);
+		
+		final Xoshiro256StarStarRandom random = xoshiro256StarStarA.asRandom();
+		
+		assertEquals(xoshiro256StarStarB.nextInt(), random.nextInt());
+		assertEquals(xoshiro256StarStarB.nextInt(), xoshiro256StarStarA.nextInt());
+		assertEquals(xoshiro256StarStarB.nextInt(), random.nextInt());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar();
+		
+		for(int i = 0; i < 1000; i++) {
+			final double value = xoshiro256StarStar.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testConstructorLong() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+		
+		assertEquals(-4725905248023948133L, xoshiro256StarStar.nextLong());
+		assertEquals(+2398916695208396998L, xoshiro256StarStar.nextLong());
+		assertEquals(-676359223724682360L, xoshiro256StarStar.nextLong());
+		assertEquals(+891717726879801395L, xoshiro256StarStar.nextLong());
+	}
+	
+	@Test
+	public void testConstructorLongLongLongLong() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(1L, 2L, 3L, 4L);
+		
+		assertEquals(11520L, xoshiro256StarStar.nextLong());
+		assertEquals(0L, xoshiro256StarStar.nextLong());
+		assertEquals(1509978240L, xoshiro256StarStar.nextLong());
+		assertEquals(1215971899390074240L, xoshiro256StarStar.nextLong());
+		
+		assertThrows(IllegalArgumentException.class, () -> new Xoshiro256StarStar(0L, 0L, 0L, 0L));
+	}
+	
+	@Test
+	public void testJump() {
+		final Xoshiro256StarStar xoshiro256StarStarA = new Xoshiro256StarStar(1L, 2L, 3L, 4L);
+		final Xoshiro256StarStar xoshiro256StarStarB = new Xoshiro256StarStar(1L, 2L, 3L, 4L);
+		
+		xoshiro256StarStarA.jump();
+		
+		assertEquals(-4912596984176294952L, xoshiro256StarStarA.nextLong());
+		assertEquals(+7126240192422241655L, xoshiro256StarStarA.nextLong());
+		
+		xoshiro256StarStarB.nextLong();
+		xoshiro256StarStarB.nextLong();
+		xoshiro256StarStarB.jump();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarA.nextLong(), xoshiro256StarStarB.nextLong());
+		}
+	}
+	
+	@Test
+	public void testLongJump() {
+		final Xoshiro256StarStar xoshiro256StarStarA = new Xoshiro256StarStar(1L, 2L, 3L, 4L);
+		final Xoshiro256StarStar xoshiro256StarStarB = new Xoshiro256StarStar(1L, 2L, 3L, 4L);
+		
+		xoshiro256StarStarA.longJump();
+		
+		assertEquals(+5942309088398569549L, xoshiro256StarStarA.nextLong());
+		assertEquals(-2821296343772193180L, xoshiro256StarStarA.nextLong());
+		
+		xoshiro256StarStarB.nextLong();
+		xoshiro256StarStarB.nextLong();
+		xoshiro256StarStarB.longJump();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarA.nextLong(), xoshiro256StarStarB.nextLong());
+		}
+	}
+	
+	@Test
+	public void testNextBoolean() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+		
+		int count = 0;
+		
+		for(int i = 0; i < 100000; i++) {
+			if(xoshiro256StarStar.nextBoolean()) {
+				count++;
+			}
+		}
+		
+		assertTrue(count > 49000 && count < 51000);
+	}
+	
+	@Test
+	public void testNextDouble() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final double value = xoshiro256StarStar.nextDouble();
+			
+			assertTrue(value >= 0.0D && value < 1.0D);
+		}
+	}
+	
+	@Test
+	public void testNextFloat() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar();
+		
+		for(int i = 0; i < 1000000; i++) {
+			final float value = xoshiro256StarStar.nextFloat();
+			
+			assertTrue(value >= 0.0F && value < 1.0F);
+		}
+	}
+	
+	@Test
+	public void testNextIntInt() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(12345L);
+		
+		final int[] counts = new int[10];
+		
+		for(int i = 0; i < 100000; i++) {
+			counts[xoshiro256StarStar.nextInt(10)]++;
+		}
+		
+		for(final int count : counts) {
+			assertTrue(count > 9000 && count < 11000);
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(0, xoshiro256StarStar.nextInt(1));
+			
+			final int value = xoshiro256StarStar.nextInt(Integer.MAX_VALUE);
+			
+			assertTrue(value >= 0 && value < Integer.MAX_VALUE);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStar.nextInt(0));
+		assertThrows(IllegalArgumentException.class, () -> xoshiro256StarStar.nextInt(-1));
+	}
+	
+	@Test
+	public void testSetSeed() {
+		final Xoshiro256StarStar xoshiro256StarStar = new Xoshiro256StarStar(1L, 2L, 3L, 4L);
+		
+		xoshiro256StarStar.setSeed(12345L);
+		
+		assertEquals(-4725905248023948133L, xoshiro256StarStar.nextLong());
+	}
+	
+	@Test
+	public void testSplit() {
+		final Xoshiro256StarStar xoshiro256StarStarA = new Xoshiro256StarStar(12345L);
+		final Xoshiro256StarStar xoshiro256StarStarB = new Xoshiro256StarStar(12345L);
+		
+		final Xoshiro256StarStar xoshiro256StarStarC = xoshiro256StarStarA.split();
+		final Xoshiro256StarStar xoshiro256StarStarD = xoshiro256StarStarB.split();
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarC.nextLong(), xoshiro256StarStarD.nextLong());
+		}
+		
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(xoshiro256StarStarA.nextLong(), xoshiro256StarStarB.nextLong());
+		}
+		
+		assertNotEquals(xoshiro256StarStarA.nextLong(), xoshiro256StarStarC.nextLong());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,460 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class AbstractAtomicFloatUnitTests {
+	public AbstractAtomicFloatUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@SuppressWarnings("unused")
+	@Test
+	public void testAccumulateAndGet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(20.0F, atomicFloat.accumulateAndGet(10.0F, (previous, x) -> previous + x));
+			assertEquals(20.0F, atomicFloat.get());
+			
+			assertThrows(NullPointerException.class, () -> atomicFloat.accumulateAndGet(10.0F, null));
+			
+//			The following code simulates multiple compareAndSet(float, float) operations:
+			
+			final AtomicBoolean atomicBoolean = new AtomicBoolean();
+			
+			final float value = atomicFloat.accumulateAndGet(10.0F, (previous, x) -> {
+				if(atomicBoolean.compareAndSet(false, true)) {
+					final CountDownLatch countDownLatch = new CountDownLatch(1);
+					
+					final Runnable runnable = () -> {
+						atomicFloat.set(10.0F);
+						
+						countDownLatch.countDown();
+					};
+					
+					final
+					Thread thread = new Thread(runnable);
+					thread.start();
+					
+					try {
+						countDownLatch.await();
+					} catch(final InterruptedException e) {
+//						Do nothing.
+					}
+				}
+				
+				return previous + x;
+			});
+			
+			assertEquals(20.0F, value);
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testAddAndGet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(12.0F, atomicFloat.addAndGet(2.0F));
+			assertEquals(12.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testCompareAndSet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertFalse(atomicFloat.compareAndSet(20.0F, 30.0F));
+			assertEquals(10.0F, atomicFloat.get());
+			assertTrue(atomicFloat.compareAndSet(10.0F, 20.0F));
+			assertEquals(20.0F, atomicFloat.get());
+			assertTrue(atomicFloat.compareAndSet(20.0F, 30.0F));
+			assertEquals(30.0F, atomicFloat.get());
+			assertFalse(atomicFloat.compareAndSet(10.0F, 20.0F));
+			assertEquals(30.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testDecrementAndGet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals( 9.0F, atomicFloat.decrementAndGet());
+			assertEquals( 9.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testDoubleValue() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0D, atomicFloat.doubleValue());
+		}
+	}
+	
+	@Test
+	public void testFloatValue() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.floatValue());
+		}
+	}
+	
+	@Test
+	public void testGet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testGetAcquire() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.getAcquire());
+		}
+	}
+	
+	@SuppressWarnings("unused")
+	@Test
+	public void testGetAndAccumulate() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(10.0F, atomicFloat.getAndAccumulate(10.0F, (previous, x) -> previous + x));
+			assertEquals(20.0F, atomicFloat.get());
+			
+			assertThrows(NullPointerException.class, () -> atomicFloat.getAndAccumulate(10.0F, null));
+			
+//			The following code simulates multiple compareAndSet(float, float) operations:
+			
+			final AtomicBoolean atomicBoolean = new AtomicBoolean();
+			
+			final float value = atomicFloat.getAndAccumulate(10.0F, (previous, x) -> {
+				if(atomicBoolean.compareAndSet(false, true)) {
+					final CountDownLatch countDownLatch = new CountDownLatch(1);
+					
+					final Runnable runnable = () -> {
+						atomicFloat.set(10.0F);
+						
+						countDownLatch.countDown();
+					};
+					
+					final
+					Thread thread = new Thread(runnable);
+					thread.start();
+					
+					try {
+						countDownLatch.await();
+					} catch(final InterruptedException e) {
+//						Do nothing.
+					}
+				}
+				
+				return previous + x;
+			});
+			
+			assertEquals(10.0F, value);
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testGetAndAdd() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(10.0F, atomicFloat.getAndAdd(2.0F));
+			assertEquals(12.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testGetAndDecrement() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(10.0F, atomicFloat.getAndDecrement());
+			assertEquals( 9.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testGetAndIncrement() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(10.0F, atomicFloat.getAndIncrement());
+			assertEquals(11.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testGetAndMax() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.getAndMax(5.0F));
+			assertEquals(10.0F, atomicFloat.getAndMax(20.0F));
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testGetAndMin() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.getAndMin(20.0F));
+			assertEquals(10.0F, atomicFloat.getAndMin(5.0F));
+			assertEquals(5.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testGetAndSet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(10.0F, atomicFloat.getAndSet(20.0F));
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@SuppressWarnings("unused")
+	@Test
+	public void testGetAndUpdate() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(10.0F, atomicFloat.getAndUpdate(previous -> 20.0F));
+			assertEquals(20.0F, atomicFloat.get());
+			
+			assertThrows(NullPointerException.class, () -> atomicFloat.getAndUpdate(null));
+			
+//			The following code simulates multiple compareAndSet(float, float) operations:
+			
+			final AtomicBoolean atomicBoolean = new AtomicBoolean();
+			
+			final float value = atomicFloat.getAndUpdate(previous -> {
+				if(atomicBoolean.compareAndSet(false, true)) {
+					final CountDownLatch countDownLatch = new CountDownLatch(1);
+					
+					final Runnable runnable = () -> {
+						atomicFloat.set(10.0F);
+						
+						countDownLatch.countDown();
+					};
+					
+					final
+					Thread thread = new Thread(runnable);
+					thread.start();
+					
+					try {
+						countDownLatch.await();
+					} catch(final InterruptedException e) {
+//						Do nothing.
+					}
+				}
+				
+				return 30.0F;
+			});
+			
+			assertEquals(10.0F, value);
+			assertEquals(30.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testGetOpaque() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.getOpaque());
+		}
+	}
+	
+	@Test
+	public void testGetPlain() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.getPlain());
+		}
+	}
+	
+	@Test
+	public void testIncrementAndGet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(11.0F, atomicFloat.incrementAndGet());
+			assertEquals(11.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testIntValue() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10, atomicFloat.intValue());
+		}
+	}
+	
+	@Test
+	public void testLazySet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			
+			atomicFloat.lazySet(20.0F);
+			
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testLongValue() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10L, atomicFloat.longValue());
+		}
+	}
+	
+	@Test
+	public void testMaxAndGet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.maxAndGet(5.0F));
+			assertEquals(20.0F, atomicFloat.maxAndGet(20.0F));
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testMinAndGet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.minAndGet(20.0F));
+			assertEquals(5.0F, atomicFloat.minAndGet(5.0F));
+			assertEquals(5.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testSet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			
+			atomicFloat.set(20.0F);
+			
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testSetOpaque() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			atomicFloat.setOpaque(20.0F);
+			
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testSetPlain() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			atomicFloat.setPlain(20.0F);
+			
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testSetRelease() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			atomicFloat.setRelease(20.0F);
+			
+			assertEquals(20.0F, atomicFloat.get());
+		}
+	}
+	
+	@Test
+	public void testToString() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(Float.toString(10.0F), atomicFloat.toString());
+		}
+	}
+	
+	@SuppressWarnings("unused")
+	@Test
+	public void testUpdateAndGet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertEquals(20.0F, atomicFloat.updateAndGet(previous -> 20.0F));
+			assertEquals(20.0F, atomicFloat.get());
+			
+			assertThrows(NullPointerException.class, () -> atomicFloat.updateAndGet(null));
+			
+//			The following code simulates multiple compareAndSet(float, float) operations:
+			
+			final AtomicBoolean atomicBoolean = new AtomicBoolean();
+			
+			final float value = atomicFloat.updateAndGet(previous -> {
+				if(atomicBoolean.compareAndSet(false, true)) {
+					final CountDownLatch countDownLatch = new CountDownLatch(1);
+					
+					final Runnable runnable = () -> {
+						atomicFloat.set(10.0F);
+						
+						countDownLatch.countDown();
+					};
+					
+					final
+					Thread thread = new Thread(runnable);
+					thread.start();
+					
+					try {
+						countDownLatch.await();
+					} catch(final InterruptedException e) {
+//						Do nothing.
+					}
+				}
+				
+				return 30.0F;
+			});
+			
+			assertEquals(30.0F, value);
+			assertEquals(30.0F, atomicFloat.get());
+		}
+	}
+	
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testWeakCompareAndSet() {
+		for(final AbstractAtomicFloat atomicFloat : doCreate(10.0F)) {
+			assertEquals(10.0F, atomicFloat.get());
+			assertFalse(atomicFloat.weakCompareAndSet(20.0F, 30.0F));
+			assertEquals(10.0F, atomicFloat.get());
+			assertTrue(atomicFloat.weakCompareAndSet(10.0F, 20.0F));
+			assertEquals(20.0F, atomicFloat.get());
+			assertTrue(atomicFloat.weakCompareAndSet(20.0F, 30.0F));
+			assertEquals(30.0F, atomicFloat.get());
+			assertFalse(atomicFloat.weakCompareAndSet(10.0F, 20.0F));
+			assertEquals(30.0F, atomicFloat.get());
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static List<AbstractAtomicFloat> doCreate(final float initialValue) {
+		return Arrays.asList(new AtomicFloat(initialValue), new PaddedAtomicFloat(initialValue));
+	}
+}
\ No newline at end of file
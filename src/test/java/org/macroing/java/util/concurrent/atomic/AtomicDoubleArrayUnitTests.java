@@ -0,0 +1,283 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class AtomicDoubleArrayUnitTests {
+	public AtomicDoubleArrayUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAccumulateAndGet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {1.0D, 2.0D});
+		
+		assertEquals(6.0D, atomicDoubleArray.accumulateAndGet(1, 3.0D, (a, b) -> a * b));
+		assertEquals(6.0D, atomicDoubleArray.get(1));
+		assertEquals(1.0D, atomicDoubleArray.get(0));
+		
+		assertThrows(NullPointerException.class, () -> atomicDoubleArray.accumulateAndGet(0, 1.0D, (DoubleBinaryOperator)(null)));
+		assertThrows(IndexOutOfBoundsException.class, () -> atomicDoubleArray.accumulateAndGet(2, 1.0D, (a, b) -> a + b));
+	}
+	
+	@Test
+	public void testAddAndGet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(2);
+		
+		assertEquals(1.5D, atomicDoubleArray.addAndGet(0, 1.5D));
+		assertEquals(4.0D, atomicDoubleArray.addAndGet(0, 2.5D));
+		assertEquals(0.0D, atomicDoubleArray.get(1));
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> atomicDoubleArray.addAndGet(-1, 1.0D));
+	}
+	
+	@Test
+	public void testAddAndGetConcurrently() throws InterruptedException {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(4);
+		
+		final Thread[] threads = new Thread[8];
+		
+		for(int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for(int j = 0; j < 10000; j++) {
+					atomicDoubleArray.addAndGet(j % 4, 1.0D);
+				}
+			});
+			threads[i].start();
+		}
+		
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		
+		assertArrayEquals(new double[] {20000.0D, 20000.0D, 20000.0D, 20000.0D}, atomicDoubleArray.toDoubleArray());
+	}
+	
+	@Test
+	public void testCompareAndSet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {1.0D, -0.0D});
+		
+		assertTrue(atomicDoubleArray.compareAndSet(0, 1.0D, 2.0D));
+		assertFalse(atomicDoubleArray.compareAndSet(0, 1.0D, 3.0D));
+		assertFalse(atomicDoubleArray.compareAndSet(1, 0.0D, 3.0D));
+		assertTrue(atomicDoubleArray.compareAndSet(1, -0.0D, 3.0D));
+		
+		assertArrayEquals(new double[] {2.0D, 3.0D}, atomicDoubleArray.toDoubleArray());
+	}
+	
+	@Test
+	public void testConstructorDoubleArray() {
+		final double[] array = new double[] {1.0D, 2.0D, 3.0D};
+		
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(array);
+		
+		array[0] = 4.0D;
+		
+		assertEquals(3, atomicDoubleArray.length());
+		
+		assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, atomicDoubleArray.toDoubleArray());
+		
+		assertThrows(NullPointerException.class, () -> new AtomicDoubleArray((double[])(null)));
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(3);
+		
+		assertEquals(3, atomicDoubleArray.length());
+		
+		assertArrayEquals(new double[] {0.0D, 0.0D, 0.0D}, atomicDoubleArray.toDoubleArray());
+		
+		assertThrows(NegativeArraySizeException.class, () -> new AtomicDoubleArray(-1));
+	}
+	
+	@Test
+	public void testGet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {1.0D, 2.0D});
+		
+		assertEquals(1.0D, atomicDoubleArray.get(0));
+		assertEquals(2.0D, atomicDoubleArray.get(1));
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> atomicDoubleArray.get(2));
+	}
+	
+	@Test
+	public void testGetAndAccumulate() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {2.0D});
+		
+		assertEquals(2.0D, atomicDoubleArray.getAndAccumulate(0, 3.0D, (a, b) -> a * b));
+		assertEquals(6.0D, atomicDoubleArray.get(0));
+		
+		assertThrows(NullPointerException.class, () -> atomicDoubleArray.getAndAccumulate(0, 1.0D, (DoubleBinaryOperator)(null)));
+	}
+	
+	@Test
+	public void testGetAndAdd() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(1);
+		
+		assertEquals(0.0D, atomicDoubleArray.getAndAdd(0, 1.5D));
+		assertEquals(1.5D, atomicDoubleArray.getAndAdd(0, 2.5D));
+		assertEquals(4.0D, atomicDoubleArray.get(0));
+	}
+	
+	@Test
+	public void testGetAndMax() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {2.0D});
+		
+		assertEquals(2.0D, atomicDoubleArray.getAndMax(0, 1.0D));
+		assertEquals(2.0D, atomicDoubleArray.getAndMax(0, 3.0D));
+		assertEquals(3.0D, atomicDoubleArray.get(0));
+	}
+	
+	@Test
+	public void testGetAndMin() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {2.0D});
+		
+		assertEquals(2.0D, atomicDoubleArray.getAndMin(0, 3.0D));
+		assertEquals(2.0D, atomicDoubleArray.getAndMin(0, 1.0D));
+		assertEquals(1.0D, atomicDoubleArray.get(0));
+	}
+	
+	@Test
+	public void testGetAndSet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {1.0D});
+		
+		assertEquals(1.0D, atomicDoubleArray.getAndSet(0, 2.0D));
+		assertEquals(2.0D, atomicDoubleArray.get(0));
+	}
+	
+	@Test
+	public void testGetAndUpdate() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {2.0D});
+		
+		assertEquals(2.0D, atomicDoubleArray.getAndUpdate(0, x -> -x));
+		assertEquals(-2.0D, atomicDoubleArray.get(0));
+		
+		assertThrows(NullPointerException.class, () -> atomicDoubleArray.getAndUpdate(0, (DoubleUnaryOperator)(null)));
+	}
+	
+	@Test
+	public void testLazySet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(1);
+		
+		atomicDoubleArray.lazySet(0, 2.0D);
+		
+		assertEquals(2.0D, atomicDoubleArray.get(0));
+	}
+	
+	@Test
+	public void testMaxAndGet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {2.0D});
+		
+		assertEquals(2.0D, atomicDoubleArray.maxAndGet(0, 1.0D));
+		assertEquals(3.0D, atomicDoubleArray.maxAndGet(0, 3.0D));
+		assertEquals(3.0D, atomicDoubleArray.get(0));
+	}
+	
+	@Test
+	public void testMinAndGet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {2.0D});
+		
+		assertEquals(2.0D, atomicDoubleArray.minAndGet(0, 3.0D));
+		assertEquals(1.0D, atomicDoubleArray.minAndGet(0, 1.0D));
+		assertEquals(1.0D, atomicDoubleArray.get(0));
+	}
+	
+	@Test
+	public void testReset() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {1.0D, 2.0D});
+		
+		atomicDoubleArray.reset();
+		
+		assertArrayEquals(new double[] {0.0D, 0.0D}, atomicDoubleArray.toDoubleArray());
+	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {1.0D, 2.0D});
+		
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(atomicDoubleArray);
+		}
+		
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+			final AtomicDoubleArray atomicDoubleArrayDeserialized = AtomicDoubleArray.class.cast(objectInputStream.readObject());
+			
+			assertArrayEquals(atomicDoubleArray.toDoubleArray(), atomicDoubleArrayDeserialized.toDoubleArray());
+		}
+	}
+	
+	@Test
+	public void testSet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(2);
+		
+		atomicDoubleArray.set(1, 2.0D);
+		
+		assertEquals(0.0D, atomicDoubleArray.get(0));
+		assertEquals(2.0D, atomicDoubleArray.get(1));
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> atomicDoubleArray.set(2, 1.0D));
+	}
+	
+	@Test
+	public void testToDoubleArray() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {1.0D, 2.0D});
+		
+		final double[] array = atomicDoubleArray.toDoubleArray();
+		
+		array[0] = 3.0D;
+		
+		assertArrayEquals(new double[] {1.0D, 2.0D}, atomicDoubleArray.toDoubleArray());
+	}
+	
+	@Test
+	public void testToString() {
+		assertEquals("[1.0, 2.0]", new AtomicDoubleArray(new double[] {1.0D, 2.0D}).toString());
+	}
+	
+	@Test
+	public void testUpdateAndGet() {
+		final AtomicDoubleArray atomicDoubleArray = new AtomicDoubleArray(new double[] {2.0D});
+		
+		assertEquals(-2.0D, atomicDoubleArray.updateAndGet(0, x -> -x));
+		assertEquals(-2.0D, atomicDoubleArray.get(0));
+		
+		assertThrows(NullPointerException.class, () -> atomicDoubleArray.updateAndGet(0, (DoubleUnaryOperator)(null)));
+	}
+}
\ No newline at end of file
@@ -19,12 +19,15 @@
 package org.macroing.java.util.concurrent.atomic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,73 +39,6 @@ public final class AtomicDoubleUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	@SuppressWarnings("unused")
-	@Test
-	public void testAccumulateAndGet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(20.0D, atomicDouble.accumulateAndGet(10.0D, (previous, x) -> previous + x));
-		assertEquals(20.0D, atomicDouble.get());
-		
-		assertThrows(NullPointerException.class, () -> atomicDouble.accumulateAndGet(10.0D, null));
-		
-//		The following code simulates multiple compareAndSet(double, double) operations:
-		
-		final AtomicBoolean atomicBoolean = new AtomicBoolean();
-		
-		final double value = atomicDouble.accumulateAndGet(10.0D, (previous, x) -> {
-			if(atomicBoolean.compareAndSet(false, true)) {
-				final CountDownLatch countDownLatch = new CountDownLatch(1);
-				
-				final Runnable runnable = () -> {
-					atomicDouble.set(10.0D);
-					
-					countDownLatch.countDown();
-				};
-				
-				final
-				Thread thread = new Thread(runnable);
-				thread.start();
-				
-				try {
-					countDownLatch.await();
-				} catch(final InterruptedException e) {
-//					Do nothing.
-				}
-			}
-			
-			return previous + x;
-		});
-		
-		assertEquals(20.0D, value);
-		assertEquals(20.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testAddAndGet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(12.0D, atomicDouble.addAndGet(2.0D));
-		assertEquals(12.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testCompareAndSet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertFalse(atomicDouble.compareAndSet(20.0D, 30.0D));
-		assertEquals(10.0D, atomicDouble.get());
-		assertTrue(atomicDouble.compareAndSet(10.0D, 20.0D));
-		assertEquals(20.0D, atomicDouble.get());
-		assertTrue(atomicDouble.compareAndSet(20.0D, 30.0D));
-		assertEquals(30.0D, atomicDouble.get());
-		assertFalse(atomicDouble.compareAndSet(10.0D, 20.0D));
-		assertEquals(30.0D, atomicDouble.get());
-	}
-	
 	@Test
 	public void testConstructor() {
 		final AtomicDouble atomicDouble = new AtomicDouble();
@@ -118,265 +54,63 @@ public final class AtomicDoubleUnitTests {
 	}
 	
 	@Test
-	public void testDecrementAndGet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final AtomicDouble atomicDouble = new AtomicDouble(1.5D);
 		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals( 9.0D, atomicDouble.decrementAndGet());
-		assertEquals( 9.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testDoubleValue() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
+		final AtomicDouble atomicDoubleDeserialized = doDeserialize(doSerialize(atomicDouble));
 		
-		assertEquals(10.0D, atomicDouble.doubleValue());
-	}
-	
-	@Test
-	public void testFloatValue() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
+		assertEquals(atomicDouble.get(), atomicDoubleDeserialized.get());
 		
-		assertEquals(10.0F, atomicDouble.floatValue());
-	}
-	
-	@Test
-	public void testGet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
+		final AtomicDouble atomicDoubleNaN = doDeserialize(doSerialize(new AtomicDouble(Double.NaN)));
 		
-		assertEquals(10.0D, atomicDouble.get());
+		assertTrue(Double.isNaN(atomicDoubleNaN.get()));
 	}
 	
-	@SuppressWarnings("unused")
 	@Test
-	public void testGetAndAccumulate() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(10.0D, atomicDouble.getAndAccumulate(10.0D, (previous, x) -> previous + x));
-		assertEquals(20.0D, atomicDouble.get());
-		
-		assertThrows(NullPointerException.class, () -> atomicDouble.getAndAccumulate(10.0D, null));
+	public void testSerializationBaseline() throws ClassNotFoundException, IOException {
+		/*
+		 * The following bytes are the serialized form of new AtomicDouble(1.5D), written by the version of this class that stored the bits in an AtomicLong field.
+		 */
 		
-//		The following code simulates multiple compareAndSet(double, double) operations:
+		final byte[] bytes = doDecodeHex(
+			"ACED0005737200356F72672E6D6163726F696E672E6A6176612E7574696C2E636F6E63757272656E742E61746F6D6963" +
+			"2E41746F6D6963446F75626C6500000000000000010200014C0004626974737400284C6A6176612F7574696C2F636F6E" +
+			"63757272656E742F61746F6D69632F41746F6D69634C6F6E673B787200106A6176612E6C616E672E4E756D62657286AC" +
+			"951D0B94E08B0200007870737200266A6176612E7574696C2E636F6E63757272656E742E61746F6D69632E41746F6D69" +
+			"634C6F6E671AC0FAB4770017180200014A000576616C75657871007E00023FF8000000000000");
 		
-		final AtomicBoolean atomicBoolean = new AtomicBoolean();
+		final AtomicDouble atomicDouble = doDeserialize(bytes);
 		
-		final double value = atomicDouble.getAndAccumulate(10.0D, (previous, x) -> {
-			if(atomicBoolean.compareAndSet(false, true)) {
-				final CountDownLatch countDownLatch = new CountDownLatch(1);
-				
-				final Runnable runnable = () -> {
-					atomicDouble.set(10.0D);
-					
-					countDownLatch.countDown();
-				};
-				
-				final
-				Thread thread = new Thread(runnable);
-				thread.start();
-				
-				try {
-					countDownLatch.await();
-				} catch(final InterruptedException e) {
-//					Do nothing.
-				}
-			}
-			
-			return previous + x;
-		});
+		assertEquals(1.5D, atomicDouble.get());
 		
-		assertEquals(10.0D, value);
-		assertEquals(20.0D, atomicDouble.get());
+		assertEquals(AtomicLong.class, ObjectStreamClass.lookup(AtomicDouble.class).getField("bits").getType());
 	}
 	
-	@Test
-	public void testGetAndAdd() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(10.0D, atomicDouble.getAndAdd(2.0D));
-		assertEquals(12.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testGetAndDecrement() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(10.0D, atomicDouble.getAndDecrement());
-		assertEquals( 9.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testGetAndIncrement() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(10.0D, atomicDouble.getAndIncrement());
-		assertEquals(11.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testGetAndSet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(10.0D, atomicDouble.getAndSet(20.0D));
-		assertEquals(20.0D, atomicDouble.get());
-	}
-	
-	@SuppressWarnings("unused")
-	@Test
-	public void testGetAndUpdate() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(10.0D, atomicDouble.getAndUpdate(previous -> 20.0D));
-		assertEquals(20.0D, atomicDouble.get());
-		
-		assertThrows(NullPointerException.class, () -> atomicDouble.getAndUpdate(null));
-		
-//		The following code simulates multiple compareAndSet(double, double) operations:
-		
-		final AtomicBoolean atomicBoolean = new AtomicBoolean();
-		
-		final double value = atomicDouble.getAndUpdate(previous -> {
-			if(atomicBoolean.compareAndSet(false, true)) {
-				final CountDownLatch countDownLatch = new CountDownLatch(1);
-				
-				final Runnable runnable = () -> {
-					atomicDouble.set(10.0D);
-					
-					countDownLatch.countDown();
-				};
-				
-				final
-				Thread thread = new Thread(runnable);
-				thread.start();
-				
-				try {
-					countDownLatch.await();
-				} catch(final InterruptedException e) {
-//					Do nothing.
-				}
-			}
-			
-			return 30.0D;
-		});
-		
-		assertEquals(10.0D, value);
-		assertEquals(30.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testIncrementAndGet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(11.0D, atomicDouble.incrementAndGet());
-		assertEquals(11.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testIntValue() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10, atomicDouble.intValue());
-	}
-	
-	@Test
-	public void testLazySet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		
-		atomicDouble.lazySet(20.0D);
-		
-		assertEquals(20.0D, atomicDouble.get());
-	}
+	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	@Test
-	public void testLongValue() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10L, atomicDouble.longValue());
+	private static AtomicDouble doDeserialize(final byte[] bytes) throws ClassNotFoundException, IOException {
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return AtomicDouble.class.cast(objectInputStream.readObject());
+		}
 	}
 	
-	@Test
-	public void testSet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		
-		atomicDouble.set(20.0D);
+	private static byte[] doDecodeHex(final String string) {
+		final byte[] bytes = new byte[string.length() / 2];
 		
-		assertEquals(20.0D, atomicDouble.get());
-	}
-	
-	@Test
-	public void testToString() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
+		for(int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)(Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16));
+		}
 		
-		assertEquals(Double.toString(10.0D), atomicDouble.toString());
+		return bytes;
 	}
 	
-	@SuppressWarnings("unused")
-	@Test
-	public void testUpdateAndGet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertEquals(20.0D, atomicDouble.updateAndGet(previous -> 20.0D));
-		assertEquals(20.0D, atomicDouble.get());
-		
-		assertThrows(NullPointerException.class, () -> atomicDouble.updateAndGet(null));
-		
-//		The following code simulates multiple compareAndSet(double, double) operations:
-		
-		final AtomicBoolean atomicBoolean = new AtomicBoolean();
+	private static byte[] doSerialize(final AtomicDouble atomicDouble) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
 		
-		final double value = atomicDouble.updateAndGet(previous -> {
-			if(atomicBoolean.compareAndSet(false, true)) {
-				final CountDownLatch countDownLatch = new CountDownLatch(1);
-				
-				final Runnable runnable = () -> {
-					atomicDouble.set(10.0D);
-					
-					countDownLatch.countDown();
-				};
-				
-				final
-				Thread thread = new Thread(runnable);
-				thread.start();
-				
-				try {
-					countDownLatch.await();
-				} catch(final InterruptedException e) {
-//					Do nothing.
-				}
-			}
-			
-			return 30.0D;
-		});
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(atomicDouble);
+		}
 		
-		assertEquals(30.0D, value);
-		assertEquals(30.0D, atomicDouble.get());
-	}
-	
-	@SuppressWarnings("deprecation")
-	@Test
-	public void testWeakCompareAndSet() {
-		final AtomicDouble atomicDouble = new AtomicDouble(10.0D);
-		
-		assertEquals(10.0D, atomicDouble.get());
-		assertFalse(atomicDouble.weakCompareAndSet(20.0D, 30.0D));
-		assertEquals(10.0D, atomicDouble.get());
-		assertTrue(atomicDouble.weakCompareAndSet(10.0D, 20.0D));
-		assertEquals(20.0D, atomicDouble.get());
-		assertTrue(atomicDouble.weakCompareAndSet(20.0D, 30.0D));
-		assertEquals(30.0D, atomicDouble.get());
-		assertFalse(atomicDouble.weakCompareAndSet(10.0D, 20.0D));
-		assertEquals(30.0D, atomicDouble.get());
+		return byteArrayOutputStream.toByteArray();
 	}
 }
\ No newline at end of file
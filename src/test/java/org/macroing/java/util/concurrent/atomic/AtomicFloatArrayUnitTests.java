@@ -0,0 +1,283 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.macroing.java.util.function.FloatBinaryOperator;
+import org.macroing.java.util.function.FloatUnaryOperator;
+
+@SuppressWarnings("static-method")
+public final class AtomicFloatArrayUnitTests {
+	public AtomicFloatArrayUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAccumulateAndGet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {1.0F, 2.0F});
+		
+		assertEquals(6.0F, atomicFloatArray.accumulateAndGet(1, 3.0F, (a, b) -> a * b));
+		assertEquals(6.0F, atomicFloatArray.get(1));
+		assertEquals(1.0F, atomicFloatArray.get(0));
+		
+		assertThrows(NullPointerException.class, () -> atomicFloatArray.accumulateAndGet(0, 1.0F, (FloatBinaryOperator)(null)));
+		assertThrows(IndexOutOfBoundsException.class, () -> atomicFloatArray.accumulateAndGet(2, 1.0F, (a, b) -> a + b));
+	}
+	
+	@Test
+	public void testAddAndGet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(2);
+		
+		assertEquals(1.5F, atomicFloatArray.addAndGet(0, 1.5F));
+		assertEquals(4.0F, atomicFloatArray.addAndGet(0, 2.5F));
+		assertEquals(0.0F, atomicFloatArray.get(1));
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> atomicFloatArray.addAndGet(-1, 1.0F));
+	}
+	
+	@Test
+	public void testAddAndGetConcurrently() throws InterruptedException {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(4);
+		
+		final Thread[] threads = new Thread[8];
+		
+		for(int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for(int j = 0; j < 10000; j++) {
+					atomicFloatArray.addAndGet(j % 4, 1.0F);
+				}
+			});
+			threads[i].start();
+		}
+		
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		
+		assertArrayEquals(new float[] {20000.0F, 20000.0F, 20000.0F, 20000.0F}, atomicFloatArray.toFloatArray());
+	}
+	
+	@Test
+	public void testCompareAndSet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {1.0F, -0.0F});
+		
+		assertTrue(atomicFloatArray.compareAndSet(0, 1.0F, 2.0F));
+		assertFalse(atomicFloatArray.compareAndSet(0, 1.0F, 3.0F));
+		assertFalse(atomicFloatArray.compareAndSet(1, 0.0F, 3.0F));
+		assertTrue(atomicFloatArray.compareAndSet(1, -0.0F, 3.0F));
+		
+		assertArrayEquals(new float[] {2.0F, 3.0F}, atomicFloatArray.toFloatArray());
+	}
+	
+	@Test
+	public void testConstructorFloatArray() {
+		final float[] array = new float[] {1.0F, 2.0F, 3.0F};
+		
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(array);
+		
+		array[0] = 4.0F;
+		
+		assertEquals(3, atomicFloatArray.length());
+		
+		assertArrayEquals(new float[] {1.0F, 2.0F, 3.0F}, atomicFloatArray.toFloatArray());
+		
+		assertThrows(NullPointerException.class, () -> new AtomicFloatArray((float[])(null)));
+	}
+	
+	@Test
+	public void testConstructorInt() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(3);
+		
+		assertEquals(3, atomicFloatArray.length());
+		
+		assertArrayEquals(new float[] {0.0F, 0.0F, 0.0F}, atomicFloatArray.toFloatArray());
+		
+		assertThrows(NegativeArraySizeException.class, () -> new AtomicFloatArray(-1));
+	}
+	
+	@Test
+	public void testGet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {1.0F, 2.0F});
+		
+		assertEquals(1.0F, atomicFloatArray.get(0));
+		assertEquals(2.0F, atomicFloatArray.get(1));
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> atomicFloatArray.get(2));
+	}
+	
+	@Test
+	public void testGetAndAccumulate() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {2.0F});
+		
+		assertEquals(2.0F, atomicFloatArray.getAndAccumulate(0, 3.0F, (a, b) -> a * b));
+		assertEquals(6.0F, atomicFloatArray.get(0));
+		
+		assertThrows(NullPointerException.class, () -> atomicFloatArray.getAndAccumulate(0, 1.0F, (FloatBinaryOperator)(null)));
+	}
+	
+	@Test
+	public void testGetAndAdd() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(1);
+		
+		assertEquals(0.0F, atomicFloatArray.getAndAdd(0, 1.5F));
+		assertEquals(1.5F, atomicFloatArray.getAndAdd(0, 2.5F));
+		assertEquals(4.0F, atomicFloatArray.get(0));
+	}
+	
+	@Test
+	public void testGetAndMax() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {2.0F});
+		
+		assertEquals(2.0F, atomicFloatArray.getAndMax(0, 1.0F));
+		assertEquals(2.0F, atomicFloatArray.getAndMax(0, 3.0F));
+		assertEquals(3.0F, atomicFloatArray.get(0));
+	}
+	
+	@Test
+	public void testGetAndMin() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {2.0F});
+		
+		assertEquals(2.0F, atomicFloatArray.getAndMin(0, 3.0F));
+		assertEquals(2.0F, atomicFloatArray.getAndMin(0, 1.0F));
+		assertEquals(1.0F, atomicFloatArray.get(0));
+	}
+	
+	@Test
+	public void testGetAndSet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {1.0F});
+		
+		assertEquals(1.0F, atomicFloatArray.getAndSet(0, 2.0F));
+		assertEquals(2.0F, atomicFloatArray.get(0));
+	}
+	
+	@Test
+	public void testGetAndUpdate() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {2.0F});
+		
+		assertEquals(2.0F, atomicFloatArray.getAndUpdate(0, x -> -x));
+		assertEquals(-2.0F, atomicFloatArray.get(0));
+		
+		assertThrows(NullPointerException.class, () -> atomicFloatArray.getAndUpdate(0, (FloatUnaryOperator)(null)));
+	}
+	
+	@Test
+	public void testLazySet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(1);
+		
+		atomicFloatArray.lazySet(0, 2.0F);
+		
+		assertEquals(2.0F, atomicFloatArray.get(0));
+	}
+	
+	@Test
+	public void testMaxAndGet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {2.0F});
+		
+		assertEquals(2.0F, atomicFloatArray.maxAndGet(0, 1.0F));
+		assertEquals(3.0F, atomicFloatArray.maxAndGet(0, 3.0F));
+		assertEquals(3.0F, atomicFloatArray.get(0));
+	}
+	
+	@Test
+	public void testMinAndGet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {2.0F});
+		
+		assertEquals(2.0F, atomicFloatArray.minAndGet(0, 3.0F));
+		assertEquals(1.0F, atomicFloatArray.minAndGet(0, 1.0F));
+		assertEquals(1.0F, atomicFloatArray.get(0));
+	}
+	
+	@Test
+	public void testReset() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {1.0F, 2.0F});
+		
+		atomicFloatArray.reset();
+		
+		assertArrayEquals(new float[] {0.0F, 0.0F}, atomicFloatArray.toFloatArray());
+	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {1.0F, 2.0F});
+		
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(atomicFloatArray);
+		}
+		
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+			final AtomicFloatArray atomicFloatArrayDeserialized = AtomicFloatArray.class.cast(objectInputStream.readObject());
+			
+			assertArrayEquals(atomicFloatArray.toFloatArray(), atomicFloatArrayDeserialized.toFloatArray());
+		}
+	}
+	
+	@Test
+	public void testSet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(2);
+		
+		atomicFloatArray.set(1, 2.0F);
+		
+		assertEquals(0.0F, atomicFloatArray.get(0));
+		assertEquals(2.0F, atomicFloatArray.get(1));
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> atomicFloatArray.set(2, 1.0F));
+	}
+	
+	@Test
+	public void testToFloatArray() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {1.0F, 2.0F});
+		
+		final float[] array = atomicFloatArray.toFloatArray();
+		
+		array[0] = 3.0F;
+		
+		assertArrayEquals(new float[] {1.0F, 2.0F}, atomicFloatArray.toFloatArray());
+	}
+	
+	@Test
+	public void testToString() {
+		assertEquals("[1.0, 2.0]", new AtomicFloatArray(new float[] {1.0F, 2.0F}).toString());
+	}
+	
+	@Test
+	public void testUpdateAndGet() {
+		final AtomicFloatArray atomicFloatArray = new AtomicFloatArray(new float[] {2.0F});
+		
+		assertEquals(-2.0F, atomicFloatArray.updateAndGet(0, x -> -x));
+		assertEquals(-2.0F, atomicFloatArray.get(0));
+		
+		assertThrows(NullPointerException.class, () -> atomicFloatArray.updateAndGet(0, (FloatUnaryOperator)(null)));
+	}
+}
\ No newline at end of file
@@ -19,12 +19,15 @@
 package org.macroing.java.util.concurrent.atomic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,73 +39,6 @@ public final class AtomicFloatUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	@SuppressWarnings("unused")
-	@Test
-	public void testAccumulateAndGet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(20.0F, atomicFloat.accumulateAndGet(10.0F, (previous, x) -> previous + x));
-		assertEquals(20.0F, atomicFloat.get());
-		
-		assertThrows(NullPointerException.class, () -> atomicFloat.accumulateAndGet(10.0F, null));
-		
-//		The following code simulates multiple compareAndSet(float, float) operations:
-		
-		final AtomicBoolean atomicBoolean = new AtomicBoolean();
-		
-		final float value = atomicFloat.accumulateAndGet(10.0F, (previous, x) -> {
-			if(atomicBoolean.compareAndSet(false, true)) {
-				final CountDownLatch countDownLatch = new CountDownLatch(1);
-				
-				final Runnable runnable = () -> {
-					atomicFloat.set(10.0F);
-					
-					countDownLatch.countDown();
-				};
-				
-				final
-				Thread thread = new Thread(runnable);
-				thread.start();
-				
-				try {
-					countDownLatch.await();
-				} catch(final InterruptedException e) {
-//					Do nothing.
-				}
-			}
-			
-			return previous + x;
-		});
-		
-		assertEquals(20.0F, value);
-		assertEquals(20.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testAddAndGet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(12.0F, atomicFloat.addAndGet(2.0F));
-		assertEquals(12.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testCompareAndSet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertFalse(atomicFloat.compareAndSet(20.0F, 30.0F));
-		assertEquals(10.0F, atomicFloat.get());
-		assertTrue(atomicFloat.compareAndSet(10.0F, 20.0F));
-		assertEquals(20.0F, atomicFloat.get());
-		assertTrue(atomicFloat.compareAndSet(20.0F, 30.0F));
-		assertEquals(30.0F, atomicFloat.get());
-		assertFalse(atomicFloat.compareAndSet(10.0F, 20.0F));
-		assertEquals(30.0F, atomicFloat.get());
-	}
-	
 	@Test
 	public void testConstructor() {
 		final AtomicFloat atomicFloat = new AtomicFloat();
@@ -118,265 +54,63 @@ public final class AtomicFloatUnitTests {
 	}
 	
 	@Test
-	public void testDecrementAndGet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final AtomicFloat atomicFloat = new AtomicFloat(1.5F);
 		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals( 9.0F, atomicFloat.decrementAndGet());
-		assertEquals( 9.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testDoubleValue() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
+		final AtomicFloat atomicFloatDeserialized = doDeserialize(doSerialize(atomicFloat));
 		
-		assertEquals(10.0D, atomicFloat.doubleValue());
-	}
-	
-	@Test
-	public void testFloatValue() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
+		assertEquals(atomicFloat.get(), atomicFloatDeserialized.get());
 		
-		assertEquals(10.0F, atomicFloat.floatValue());
-	}
-	
-	@Test
-	public void testGet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
+		final AtomicFloat atomicFloatNaN = doDeserialize(doSerialize(new AtomicFloat(Float.NaN)));
 		
-		assertEquals(10.0F, atomicFloat.get());
+		assertTrue(Float.isNaN(atomicFloatNaN.get()));
 	}
 	
-	@SuppressWarnings("unused")
 	@Test
-	public void testGetAndAccumulate() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(10.0F, atomicFloat.getAndAccumulate(10.0F, (previous, x) -> previous + x));
-		assertEquals(20.0F, atomicFloat.get());
-		
-		assertThrows(NullPointerException.class, () -> atomicFloat.getAndAccumulate(10.0F, null));
+	public void testSerializationBaseline() throws ClassNotFoundException, IOException {
+		/*
+		 * The following bytes are the serialized form of new AtomicFloat(1.5F), written by the version of this class that stored the bits in an AtomicInteger field.
+		 */
 		
-//		The following code simulates multiple compareAndSet(float, float) operations:
+		final byte[] bytes = doDecodeHex(
+			"ACED0005737200346F72672E6D6163726F696E672E6A6176612E7574696C2E636F6E63757272656E742E61746F6D6963" +
+			"2E41746F6D6963466C6F617400000000000000010200014C00046269747374002B4C6A6176612F7574696C2F636F6E63" +
+			"757272656E742F61746F6D69632F41746F6D6963496E74656765723B787200106A6176612E6C616E672E4E756D626572" +
+			"86AC951D0B94E08B0200007870737200296A6176612E7574696C2E636F6E63757272656E742E61746F6D69632E41746F" +
+			"6D6963496E7465676572563F5ECC8C6C168A02000149000576616C75657871007E00023FC00000");
 		
-		final AtomicBoolean atomicBoolean = new AtomicBoolean();
+		final AtomicFloat atomicFloat = doDeserialize(bytes);
 		
-		final float value = atomicFloat.getAndAccumulate(10.0F, (previous, x) -> {
-			if(atomicBoolean.compareAndSet(false, true)) {
-				final CountDownLatch countDownLatch = new CountDownLatch(1);
-				
-				final Runnable runnable = () -> {
-					atomicFloat.set(10.0F);
-					
-					countDownLatch.countDown();
-				};
-				
-				final
-				Thread thread = new Thread(runnable);
-				thread.start();
-				
-				try {
-					countDownLatch.await();
-				} catch(final InterruptedException e) {
-//					Do nothing.
-				}
-			}
-			
-			return previous + x;
-		});
+		assertEquals(1.5F, atomicFloat.get());
 		
-		assertEquals(10.0F, value);
-		assertEquals(20.0F, atomicFloat.get());
+		assertEquals(AtomicInteger.class, ObjectStreamClass.lookup(AtomicFloat.class).getField("bits").getType());
 	}
 	
-	@Test
-	public void testGetAndAdd() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(10.0F, atomicFloat.getAndAdd(2.0F));
-		assertEquals(12.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testGetAndDecrement() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(10.0F, atomicFloat.getAndDecrement());
-		assertEquals( 9.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testGetAndIncrement() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(10.0F, atomicFloat.getAndIncrement());
-		assertEquals(11.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testGetAndSet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(10.0F, atomicFloat.getAndSet(20.0F));
-		assertEquals(20.0F, atomicFloat.get());
-	}
-	
-	@SuppressWarnings("unused")
-	@Test
-	public void testGetAndUpdate() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(10.0F, atomicFloat.getAndUpdate(previous -> 20.0F));
-		assertEquals(20.0F, atomicFloat.get());
-		
-		assertThrows(NullPointerException.class, () -> atomicFloat.getAndUpdate(null));
-		
-//		The following code simulates multiple compareAndSet(float, float) operations:
-		
-		final AtomicBoolean atomicBoolean = new AtomicBoolean();
-		
-		final float value = atomicFloat.getAndUpdate(previous -> {
-			if(atomicBoolean.compareAndSet(false, true)) {
-				final CountDownLatch countDownLatch = new CountDownLatch(1);
-				
-				final Runnable runnable = () -> {
-					atomicFloat.set(10.0F);
-					
-					countDownLatch.countDown();
-				};
-				
-				final
-				Thread thread = new Thread(runnable);
-				thread.start();
-				
-				try {
-					countDownLatch.await();
-				} catch(final InterruptedException e) {
-//					Do nothing.
-				}
-			}
-			
-			return 30.0F;
-		});
-		
-		assertEquals(10.0F, value);
-		assertEquals(30.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testIncrementAndGet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(11.0F, atomicFloat.incrementAndGet());
-		assertEquals(11.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testIntValue() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10, atomicFloat.intValue());
-	}
-	
-	@Test
-	public void testLazySet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		
-		atomicFloat.lazySet(20.0F);
-		
-		assertEquals(20.0F, atomicFloat.get());
-	}
+	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	@Test
-	public void testLongValue() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10L, atomicFloat.longValue());
+	private static AtomicFloat doDeserialize(final byte[] bytes) throws ClassNotFoundException, IOException {
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return AtomicFloat.class.cast(objectInputStream.readObject());
+		}
 	}
 	
-	@Test
-	public void testSet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		
-		atomicFloat.set(20.0F);
+	private static byte[] doDecodeHex(final String string) {
+		final byte[] bytes = new byte[string.length() / 2];
 		
-		assertEquals(20.0F, atomicFloat.get());
-	}
-	
-	@Test
-	public void testToString() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
+		for(int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)(Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16));
+		}
 		
-		assertEquals(Float.toString(10.0F), atomicFloat.toString());
+		return bytes;
 	}
 	
-	@SuppressWarnings("unused")
-	@Test
-	public void testUpdateAndGet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertEquals(20.0F, atomicFloat.updateAndGet(previous -> 20.0F));
-		assertEquals(20.0F, atomicFloat.get());
-		
-		assertThrows(NullPointerException.class, () -> atomicFloat.updateAndGet(null));
-		
-//		The following code simulates multiple compareAndSet(float, float) operations:
-		
-		final AtomicBoolean atomicBoolean = new AtomicBoolean();
+	private static byte[] doSerialize(final AtomicFloat atomicFloat) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
 		
-		final float value = atomicFloat.updateAndGet(previous -> {
-			if(atomicBoolean.compareAndSet(false, true)) {
-				final CountDownLatch countDownLatch = new CountDownLatch(1);
-				
-				final Runnable runnable = () -> {
-					atomicFloat.set(10.0F);
-					
-					countDownLatch.countDown();
-				};
-				
-				final
-				Thread thread = new Thread(runnable);
-				thread.start();
-				
-				try {
-					countDownLatch.await();
-				} catch(final InterruptedException e) {
-//					Do nothing.
-				}
-			}
-			
-			return 30.0F;
-		});
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(atomicFloat);
+		}
 		
-		assertEquals(30.0F, value);
-		assertEquals(30.0F, atomicFloat.get());
-	}
-	
-	@SuppressWarnings("deprecation")
-	@Test
-	public void testWeakCompareAndSet() {
-		final AtomicFloat atomicFloat = new AtomicFloat(10.0F);
-		
-		assertEquals(10.0F, atomicFloat.get());
-		assertFalse(atomicFloat.weakCompareAndSet(20.0F, 30.0F));
-		assertEquals(10.0F, atomicFloat.get());
-		assertTrue(atomicFloat.weakCompareAndSet(10.0F, 20.0F));
-		assertEquals(20.0F, atomicFloat.get());
-		assertTrue(atomicFloat.weakCompareAndSet(20.0F, 30.0F));
-		assertEquals(30.0F, atomicFloat.get());
-		assertFalse(atomicFloat.weakCompareAndSet(10.0F, 20.0F));
-		assertEquals(30.0F, atomicFloat.get());
+		return byteArrayOutputStream.toByteArray();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class FloatAccumulatorUnitTests {
+	public FloatAccumulatorUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAccumulate() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, Float.NEGATIVE_INFINITY);
+		
+		floatAccumulator.accumulate(2.0F);
+		floatAccumulator.accumulate(1.0F);
+		floatAccumulator.accumulate(3.0F);
+		floatAccumulator.accumulate(3.0F);
+		
+		assertEquals(3.0F, floatAccumulator.get());
+	}
+	
+	@Test
+	public void testAccumulateConcurrently() throws InterruptedException {
+		final FloatAccumulator floatAccumulatorMaximum = new FloatAccumulator(Math::max, Float.NEGATIVE_INFINITY);
+		final FloatAccumulator floatAccumulatorMinimum = new FloatAccumulator(Math::min, Float.POSITIVE_INFINITY);
+		final FloatAccumulator floatAccumulatorSum = new FloatAccumulator((left, right) -> left + right, 0.0F);
+		
+		final Thread[] threads = new Thread[16];
+		
+		for(int i = 0; i < threads.length; i++) {
+			final int index = i;
+			
+			threads[i] = new Thread(() -> {
+				for(int j = 0; j < 10000; j++) {
+					floatAccumulatorMaximum.accumulate(index * 10000 + j);
+					floatAccumulatorMinimum.accumulate(index * 10000 + j);
+					floatAccumulatorSum.accumulate(1.0F);
+				}
+			});
+			threads[i].start();
+		}
+		
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		
+		assertEquals(159999.0F, floatAccumulatorMaximum.get());
+		assertEquals(0.0F, floatAccumulatorMinimum.get());
+		assertEquals(160000.0F, floatAccumulatorSum.getThenReset());
+		assertEquals(0.0F, floatAccumulatorSum.get());
+		
+		floatAccumulatorMaximum.reset();
+		
+		assertEquals(Float.NEGATIVE_INFINITY, floatAccumulatorMaximum.get());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::min, Float.POSITIVE_INFINITY);
+		
+		assertEquals(Float.POSITIVE_INFINITY, floatAccumulator.get());
+		
+		assertThrows(NullPointerException.class, () -> new FloatAccumulator(null, 0.0F));
+	}
+	
+	@Test
+	public void testDoubleValue() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 2.5F);
+		
+		assertEquals(2.5D, floatAccumulator.doubleValue());
+	}
+	
+	@Test
+	public void testFloatValue() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 2.5F);
+		
+		assertEquals(2.5F, floatAccumulator.floatValue());
+	}
+	
+	@Test
+	public void testGet() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 2.5F);
+		
+		assertEquals(2.5F, floatAccumulator.get());
+	}
+	
+	@Test
+	public void testGetIdentity() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 2.5F);
+		
+		floatAccumulator.accumulate(3.5F);
+		
+		assertEquals(2.5F, floatAccumulator.getIdentity());
+	}
+	
+	@Test
+	public void testGetThenReset() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 0.0F);
+		
+		floatAccumulator.accumulate(2.5F);
+		
+		assertEquals(2.5F, floatAccumulator.getThenReset());
+		assertEquals(0.0F, floatAccumulator.get());
+	}
+	
+	@Test
+	public void testIntValue() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 2.5F);
+		
+		assertEquals(2, floatAccumulator.intValue());
+	}
+	
+	@Test
+	public void testLongValue() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 2.5F);
+		
+		assertEquals(2L, floatAccumulator.longValue());
+	}
+	
+	@Test
+	public void testReset() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 0.0F);
+		
+		floatAccumulator.accumulate(2.5F);
+		floatAccumulator.reset();
+		
+		assertEquals(0.0F, floatAccumulator.get());
+	}
+	
+	@Test
+	public void testToString() {
+		final FloatAccumulator floatAccumulator = new FloatAccumulator(Math::max, 2.5F);
+		
+		assertEquals("2.5", floatAccumulator.toString());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class FloatAdderUnitTests {
+	public FloatAdderUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAdd() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(1.5F);
+		floatAdder.add(2.5F);
+		
+		assertEquals(4.0F, floatAdder.sum());
+	}
+	
+	@Test
+	public void testAddConcurrently() throws InterruptedException {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		final Thread[] threads = new Thread[16];
+		
+		for(int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for(int j = 0; j < 10000; j++) {
+					floatAdder.add(1.0F);
+				}
+			});
+			threads[i].start();
+		}
+		
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		
+		assertEquals(160000.0F, floatAdder.sum());
+		assertEquals(160000.0F, floatAdder.sumThenReset());
+		assertEquals(0.0F, floatAdder.sum());
+		
+		floatAdder.add(2.0F);
+		
+		assertEquals(2.0F, floatAdder.sum());
+	}
+	
+	@Test
+	public void testConstructor() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		assertEquals(0.0F, floatAdder.sum());
+	}
+	
+	@Test
+	public void testDecrement() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.decrement();
+		floatAdder.decrement();
+		
+		assertEquals(-2.0F, floatAdder.sum());
+	}
+	
+	@Test
+	public void testDoubleValue() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		
+		assertEquals(2.5D, floatAdder.doubleValue());
+	}
+	
+	@Test
+	public void testFloatValue() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		
+		assertEquals(2.5F, floatAdder.floatValue());
+	}
+	
+	@Test
+	public void testIncrement() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.increment();
+		floatAdder.increment();
+		
+		assertEquals(2.0F, floatAdder.sum());
+	}
+	
+	@Test
+	public void testIntValue() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		
+		assertEquals(2, floatAdder.intValue());
+	}
+	
+	@Test
+	public void testLongValue() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		
+		assertEquals(2L, floatAdder.longValue());
+	}
+	
+	@Test
+	public void testReset() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		floatAdder.reset();
+		
+		assertEquals(0.0F, floatAdder.sum());
+	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(floatAdder);
+		}
+		
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+			final FloatAdder floatAdderCopy = FloatAdder.class.cast(objectInputStream.readObject());
+			
+			assertEquals(2.5F, floatAdderCopy.sum());
+			
+			floatAdderCopy.add(1.0F);
+			
+			assertEquals(3.5F, floatAdderCopy.sum());
+		}
+	}
+	
+	@Test
+	public void testSum() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		
+		assertEquals(2.5F, floatAdder.sum());
+	}
+	
+	@Test
+	public void testSumThenReset() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		
+		assertEquals(2.5F, floatAdder.sumThenReset());
+		assertEquals(0.0F, floatAdder.sum());
+	}
+	
+	@Test
+	public void testToString() {
+		final FloatAdder floatAdder = new FloatAdder();
+		
+		floatAdder.add(2.5F);
+		
+		assertEquals("2.5", floatAdder.toString());
+	}
+}
\ No newline at end of file
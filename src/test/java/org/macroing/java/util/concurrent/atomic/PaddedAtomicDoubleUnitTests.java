@@ -0,0 +1,97 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class PaddedAtomicDoubleUnitTests {
+	public PaddedAtomicDoubleUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final PaddedAtomicDouble paddedAtomicDouble = new PaddedAtomicDouble();
+		
+		assertEquals(0.0D, paddedAtomicDouble.get());
+	}
+	
+	@Test
+	public void testConstructorDouble() {
+		final PaddedAtomicDouble paddedAtomicDouble = new PaddedAtomicDouble(10.0D);
+		
+		assertEquals(10.0D, paddedAtomicDouble.get());
+	}
+	
+	@Test
+	public void testPadding() {
+		assertEquals(8, doGetPaddingFieldCount(PaddedAtomicDoublePadding.class));
+		assertEquals(8, doGetPaddingFieldCount(PaddedAtomicDouble.class));
+		
+		assertEquals(0, ObjectStreamClass.lookup(PaddedAtomicDoublePadding.class).getFields().length);
+		assertEquals(0, ObjectStreamClass.lookup(PaddedAtomicDouble.class).getFields().length);
+		assertEquals(1, ObjectStreamClass.lookup(PaddedLongBits.class).getFields().length);
+	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final PaddedAtomicDouble paddedAtomicDouble = new PaddedAtomicDouble(10.0D);
+		
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(paddedAtomicDouble);
+		}
+		
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+			final PaddedAtomicDouble paddedAtomicDoubleDeserialized = PaddedAtomicDouble.class.cast(objectInputStream.readObject());
+			
+			assertEquals(10.0D, paddedAtomicDoubleDeserialized.get());
+			assertEquals(20.0D, paddedAtomicDoubleDeserialized.addAndGet(10.0D));
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doGetPaddingFieldCount(final Class<?> clazz) {
+		int count = 0;
+		
+		for(final Field field : clazz.getDeclaredFields()) {
+			if(field.getType() == long.class && Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
+				count++;
+			}
+		}
+		
+		return count;
+	}
+}
\ No newline at end of file
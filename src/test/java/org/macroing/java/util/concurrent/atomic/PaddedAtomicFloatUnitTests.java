@@ -0,0 +1,97 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.concurrent.atomic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class PaddedAtomicFloatUnitTests {
+	public PaddedAtomicFloatUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final PaddedAtomicFloat paddedAtomicFloat = new PaddedAtomicFloat();
+		
+		assertEquals(0.0F, paddedAtomicFloat.get());
+	}
+	
+	@Test
+	public void testConstructorFloat() {
+		final PaddedAtomicFloat paddedAtomicFloat = new PaddedAtomicFloat(10.0F);
+		
+		assertEquals(10.0F, paddedAtomicFloat.get());
+	}
+	
+	@Test
+	public void testPadding() {
+		assertEquals(8, doGetPaddingFieldCount(PaddedAtomicFloatPadding.class));
+		assertEquals(8, doGetPaddingFieldCount(PaddedAtomicFloat.class));
+		
+		assertEquals(0, ObjectStreamClass.lookup(PaddedAtomicFloatPadding.class).getFields().length);
+		assertEquals(0, ObjectStreamClass.lookup(PaddedAtomicFloat.class).getFields().length);
+		assertEquals(1, ObjectStreamClass.lookup(PaddedIntBits.class).getFields().length);
+	}
+	
+	@Test
+	public void testSerialization() throws ClassNotFoundException, IOException {
+		final PaddedAtomicFloat paddedAtomicFloat = new PaddedAtomicFloat(10.0F);
+		
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		try(final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(paddedAtomicFloat);
+		}
+		
+		try(final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+			final PaddedAtomicFloat paddedAtomicFloatDeserialized = PaddedAtomicFloat.class.cast(objectInputStream.readObject());
+			
+			assertEquals(10.0F, paddedAtomicFloatDeserialized.get());
+			assertEquals(20.0F, paddedAtomicFloatDeserialized.addAndGet(10.0F));
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doGetPaddingFieldCount(final Class<?> clazz) {
+		int count = 0;
+		
+		for(final Field field : clazz.getDeclaredFields()) {
+			if(field.getType() == long.class && Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
+				count++;
+			}
+		}
+		
+		return count;
+	}
+}
\ No newline at end of file
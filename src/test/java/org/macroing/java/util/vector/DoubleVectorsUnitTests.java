@@ -0,0 +1,299 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class DoubleVectorsUnitTests {
+	public DoubleVectorsUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testArgmaxDoubleArray() {
+		assertEquals(5, DoubleVectors.argmax(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}));
+		assertEquals(2, DoubleVectors.argmax(new double[] {Double.NaN, 1.0D, 3.0D, 3.0D}));
+		assertEquals(-1, DoubleVectors.argmax(new double[0]));
+		assertEquals(0, DoubleVectors.argmax(new double[] {Double.NEGATIVE_INFINITY}));
+		
+		assertThrows(NullPointerException.class, () -> DoubleVectors.argmax(null));
+	}
+	
+	@Test
+	public void testArgmaxDoubleArrayIntInt() {
+		assertEquals(5, DoubleVectors.argmax(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		assertEquals(2, DoubleVectors.argmax(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 1));
+		assertEquals(-1, DoubleVectors.argmax(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.argmax(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.argmax(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.argmax(new double[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.argmax(null, 0, 0));
+	}
+	
+	@Test
+	public void testArgminDoubleArray() {
+		assertEquals(7, DoubleVectors.argmin(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}));
+		assertEquals(1, DoubleVectors.argmin(new double[] {Double.NaN, 1.0D, 3.0D, 1.0D}));
+		assertEquals(-1, DoubleVectors.argmin(new double[0]));
+		assertEquals(0, DoubleVectors.argmin(new double[] {Double.POSITIVE_INFINITY}));
+		
+		assertThrows(NullPointerException.class, () -> DoubleVectors.argmin(null));
+	}
+	
+	@Test
+	public void testArgminDoubleArrayIntInt() {
+		assertEquals(4, DoubleVectors.argmin(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		assertEquals(2, DoubleVectors.argmin(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 1));
+		assertEquals(-1, DoubleVectors.argmin(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.argmin(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.argmin(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.argmin(new double[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.argmin(null, 0, 0));
+	}
+	
+	@Test
+	public void testAxpyDoubleDoubleArrayDoubleArray() {
+		final double[] arrayY = new double[] {1.0D, 1.0D, 1.0D, 1.0D, 1.0D, 1.0D, 1.0D, 1.0D, 1.0D};
+		
+		assertArrayEquals(new double[] {7.0D, -1.0D, 9.0D, 3.0D, -9.0D, 19.0D, 5.0D, -11.0D, 11.0D}, DoubleVectors.axpy(2.0D, new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, arrayY));
+		assertArrayEquals(new double[] {7.0D, -1.0D, 9.0D, 3.0D, -9.0D, 19.0D, 5.0D, -11.0D, 11.0D}, arrayY);
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.axpy(2.0D, new double[2], new double[1]));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.axpy(2.0D, null, new double[1]));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.axpy(2.0D, new double[1], null));
+	}
+	
+	@Test
+	public void testAxpyDoubleDoubleArrayDoubleArrayIntInt() {
+		assertArrayEquals(new double[] {1.0D, 1.0D, 9.0D, 3.0D, -9.0D, 19.0D, 5.0D, 1.0D, 1.0D}, DoubleVectors.axpy(2.0D, new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, new double[] {1.0D, 1.0D, 1.0D, 1.0D, 1.0D, 1.0D, 1.0D, 1.0D, 1.0D}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.axpy(2.0D, new double[1], new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.axpy(2.0D, new double[1], new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.axpy(2.0D, new double[2], new double[1], 0, 2));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.axpy(2.0D, null, new double[1], 0, 0));
+	}
+	
+	@Test
+	public void testClampDoubleArrayDoubleDoubleDoubleArray() {
+		final double[] array = new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D};
+		
+		assertArrayEquals(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -2.0D, 4.0D, 2.0D, -2.0D, 4.0D}, DoubleVectors.clamp(array, -2.0D, 4.0D, new double[array.length]));
+		assertArrayEquals(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -2.0D, 4.0D, 2.0D, -2.0D, 4.0D}, DoubleVectors.clamp(array, -2.0D, 4.0D, array));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.clamp(new double[1], 4.0D, -2.0D, new double[1]));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.clamp(new double[1], Double.NaN, 4.0D, new double[1]));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.clamp(new double[2], -2.0D, 4.0D, new double[1]));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.clamp(null, -2.0D, 4.0D, new double[1]));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.clamp(new double[1], -2.0D, 4.0D, null));
+	}
+	
+	@Test
+	public void testClampDoubleArrayDoubleDoubleDoubleArrayIntInt() {
+		assertArrayEquals(new double[] {0.0D, 0.0D, 4.0D, 1.0D, -2.0D, 4.0D, 2.0D, 0.0D, 0.0D}, DoubleVectors.clamp(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, -2.0D, 4.0D, new double[9], 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.clamp(new double[1], -2.0D, 4.0D, new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.clamp(new double[1], -2.0D, 4.0D, new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.clamp(new double[1], -2.0D, 4.0D, new double[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.clamp(new double[1], 4.0D, -2.0D, new double[1], 0, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.clamp(new double[1], -2.0D, 4.0D, null, 0, 0));
+	}
+	
+	@Test
+	public void testDotDoubleArrayDoubleArray() {
+		assertEquals(57.0D, DoubleVectors.dot(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D, 6.0D, 7.0D, 8.0D, 9.0D}));
+		assertEquals(0.0D, DoubleVectors.dot(new double[0], new double[0]));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.dot(new double[2], new double[1]));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.dot(null, new double[1]));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.dot(new double[1], null));
+	}
+	
+	@Test
+	public void testDotDoubleArrayDoubleArrayIntInt() {
+		assertEquals(59.0D, DoubleVectors.dot(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D, 6.0D, 7.0D, 8.0D, 9.0D}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.dot(new double[1], new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.dot(new double[1], new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.dot(new double[2], new double[1], 0, 2));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.dot(new double[1], new double[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.dot(null, new double[1], 0, 0));
+	}
+	
+	@Test
+	public void testMaxDoubleArray() {
+		assertEquals(9.0D, DoubleVectors.max(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}));
+		assertEquals(Double.NEGATIVE_INFINITY, DoubleVectors.max(new double[0]));
+		
+		assertTrue(Double.isNaN(DoubleVectors.max(new double[] {1.0D, Double.NaN})));
+		
+		assertThrows(NullPointerException.class, () -> DoubleVectors.max(null));
+	}
+	
+	@Test
+	public void testMaxDoubleArrayIntInt() {
+		assertEquals(9.0D, DoubleVectors.max(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		assertEquals(4.0D, DoubleVectors.max(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 3));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.max(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.max(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.max(new double[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.max(null, 0, 0));
+	}
+	
+	@Test
+	public void testMinDoubleArray() {
+		assertEquals(-6.0D, DoubleVectors.min(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}));
+		assertEquals(Double.POSITIVE_INFINITY, DoubleVectors.min(new double[0]));
+		
+		assertTrue(Double.isNaN(DoubleVectors.min(new double[] {1.0D, Double.NaN})));
+		
+		assertThrows(NullPointerException.class, () -> DoubleVectors.min(null));
+	}
+	
+	@Test
+	public void testMinDoubleArrayIntInt() {
+		assertEquals(-5.0D, DoubleVectors.min(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		assertEquals(1.0D, DoubleVectors.min(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 2));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.min(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.min(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.min(new double[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.min(null, 0, 0));
+	}
+	
+	@Test
+	public void testPrefixSumDoubleArrayDoubleArray() {
+		final double[] array = new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D};
+		
+		assertArrayEquals(new double[] {3.0D, 2.0D, 6.0D, 7.0D, 2.0D, 11.0D, 13.0D, 7.0D, 12.0D}, DoubleVectors.prefixSum(array, new double[array.length]));
+		assertArrayEquals(new double[] {3.0D, 2.0D, 6.0D, 7.0D, 2.0D, 11.0D, 13.0D, 7.0D, 12.0D}, DoubleVectors.prefixSum(array, array));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.prefixSum(new double[2], new double[1]));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.prefixSum(null, new double[1]));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.prefixSum(new double[1], null));
+	}
+	
+	@Test
+	public void testPrefixSumDoubleArrayDoubleArrayIntInt() {
+		assertArrayEquals(new double[] {0.0D, 0.0D, 4.0D, 5.0D, 0.0D, 9.0D, 11.0D, 0.0D, 0.0D}, DoubleVectors.prefixSum(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, new double[9], 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.prefixSum(new double[1], new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.prefixSum(new double[1], new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.prefixSum(new double[2], new double[1], 0, 2));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.prefixSum(new double[1], null, 0, 0));
+	}
+	
+	@Test
+	public void testScaleDoubleDoubleArray() {
+		final double[] array = new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D};
+		
+		assertArrayEquals(new double[] {6.0D, -2.0D, 8.0D, 2.0D, -10.0D, 18.0D, 4.0D, -12.0D, 10.0D}, DoubleVectors.scale(2.0D, array));
+		assertArrayEquals(new double[] {6.0D, -2.0D, 8.0D, 2.0D, -10.0D, 18.0D, 4.0D, -12.0D, 10.0D}, array);
+		
+		assertThrows(NullPointerException.class, () -> DoubleVectors.scale(2.0D, null));
+	}
+	
+	@Test
+	public void testScaleDoubleDoubleArrayIntInt() {
+		assertArrayEquals(new double[] {3.0D, -1.0D, 8.0D, 2.0D, -10.0D, 18.0D, 4.0D, -6.0D, 5.0D}, DoubleVectors.scale(2.0D, new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.scale(2.0D, new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.scale(2.0D, new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.scale(2.0D, new double[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.scale(2.0D, null, 0, 0));
+	}
+	
+	@Test
+	public void testSumDoubleArray() {
+		assertEquals(12.0D, DoubleVectors.sum(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}));
+		assertEquals(0.0D, DoubleVectors.sum(new double[0]));
+		
+		assertThrows(NullPointerException.class, () -> DoubleVectors.sum(null));
+	}
+	
+	@Test
+	public void testSumDoubleArrayIntInt() {
+		assertEquals(11.0D, DoubleVectors.sum(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sum(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sum(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sum(new double[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.sum(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumKahanDoubleArray() {
+		final double[] array = new double[1000001];
+		
+		array[0] = 1.0D;
+		
+		for(int i = 1; i < array.length; i++) {
+			array[i] = 1.0E-17D;
+		}
+		
+		assertEquals(1.0D + 1000000.0D * 1.0E-17D, DoubleVectors.sumKahan(array), 1.0E-12D);
+		assertEquals(12.0D, DoubleVectors.sumKahan(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}));
+		
+		assertThrows(NullPointerException.class, () -> DoubleVectors.sumKahan(null));
+	}
+	
+	@Test
+	public void testSumKahanDoubleArrayIntInt() {
+		assertEquals(11.0D, DoubleVectors.sumKahan(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sumKahan(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sumKahan(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sumKahan(new double[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.sumKahan(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumPairwiseDoubleArray() {
+		final double[] array = new double[1 << 20];
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = 0.1D;
+		}
+		
+		assertEquals(1.0D, DoubleVectors.sumPairwise(array) / (array.length * 0.1D), 1.0E-14D);
+		assertEquals(12.0D, DoubleVectors.sumPairwise(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}));
+		
+		assertThrows(NullPointerException.class, () -> DoubleVectors.sumPairwise(null));
+	}
+	
+	@Test
+	public void testSumPairwiseDoubleArrayIntInt() {
+		assertEquals(11.0D, DoubleVectors.sumPairwise(new double[] {3.0D, -1.0D, 4.0D, 1.0D, -5.0D, 9.0D, 2.0D, -6.0D, 5.0D}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sumPairwise(new double[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sumPairwise(new double[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> DoubleVectors.sumPairwise(new double[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> DoubleVectors.sumPairwise(null, 0, 0));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,299 @@
+/**
+ * Copyright 2021 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.java.
+ * 
+ * org.macroing.java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.java.util.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class FloatVectorsUnitTests {
+	public FloatVectorsUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testArgmaxFloatArray() {
+		assertEquals(5, FloatVectors.argmax(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}));
+		assertEquals(2, FloatVectors.argmax(new float[] {Float.NaN, 1.0F, 3.0F, 3.0F}));
+		assertEquals(-1, FloatVectors.argmax(new float[0]));
+		assertEquals(0, FloatVectors.argmax(new float[] {Float.NEGATIVE_INFINITY}));
+		
+		assertThrows(NullPointerException.class, () -> FloatVectors.argmax(null));
+	}
+	
+	@Test
+	public void testArgmaxFloatArrayIntInt() {
+		assertEquals(5, FloatVectors.argmax(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		assertEquals(2, FloatVectors.argmax(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 1));
+		assertEquals(-1, FloatVectors.argmax(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.argmax(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.argmax(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.argmax(new float[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.argmax(null, 0, 0));
+	}
+	
+	@Test
+	public void testArgminFloatArray() {
+		assertEquals(7, FloatVectors.argmin(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}));
+		assertEquals(1, FloatVectors.argmin(new float[] {Float.NaN, 1.0F, 3.0F, 1.0F}));
+		assertEquals(-1, FloatVectors.argmin(new float[0]));
+		assertEquals(0, FloatVectors.argmin(new float[] {Float.POSITIVE_INFINITY}));
+		
+		assertThrows(NullPointerException.class, () -> FloatVectors.argmin(null));
+	}
+	
+	@Test
+	public void testArgminFloatArrayIntInt() {
+		assertEquals(4, FloatVectors.argmin(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		assertEquals(2, FloatVectors.argmin(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 1));
+		assertEquals(-1, FloatVectors.argmin(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.argmin(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.argmin(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.argmin(new float[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.argmin(null, 0, 0));
+	}
+	
+	@Test
+	public void testAxpyFloatFloatArrayFloatArray() {
+		final float[] arrayY = new float[] {1.0F, 1.0F, 1.0F, 1.0F, 1.0F, 1.0F, 1.0F, 1.0F, 1.0F};
+		
+		assertArrayEquals(new float[] {7.0F, -1.0F, 9.0F, 3.0F, -9.0F, 19.0F, 5.0F, -11.0F, 11.0F}, FloatVectors.axpy(2.0F, new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, arrayY));
+		assertArrayEquals(new float[] {7.0F, -1.0F, 9.0F, 3.0F, -9.0F, 19.0F, 5.0F, -11.0F, 11.0F}, arrayY);
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.axpy(2.0F, new float[2], new float[1]));
+		assertThrows(NullPointerException.class, () -> FloatVectors.axpy(2.0F, null, new float[1]));
+		assertThrows(NullPointerException.class, () -> FloatVectors.axpy(2.0F, new float[1], null));
+	}
+	
+	@Test
+	public void testAxpyFloatFloatArrayFloatArrayIntInt() {
+		assertArrayEquals(new float[] {1.0F, 1.0F, 9.0F, 3.0F, -9.0F, 19.0F, 5.0F, 1.0F, 1.0F}, FloatVectors.axpy(2.0F, new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, new float[] {1.0F, 1.0F, 1.0F, 1.0F, 1.0F, 1.0F, 1.0F, 1.0F, 1.0F}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.axpy(2.0F, new float[1], new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.axpy(2.0F, new float[1], new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.axpy(2.0F, new float[2], new float[1], 0, 2));
+		assertThrows(NullPointerException.class, () -> FloatVectors.axpy(2.0F, null, new float[1], 0, 0));
+	}
+	
+	@Test
+	public void testClampFloatArrayFloatFloatFloatArray() {
+		final float[] array = new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F};
+		
+		assertArrayEquals(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -2.0F, 4.0F, 2.0F, -2.0F, 4.0F}, FloatVectors.clamp(array, -2.0F, 4.0F, new float[array.length]));
+		assertArrayEquals(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -2.0F, 4.0F, 2.0F, -2.0F, 4.0F}, FloatVectors.clamp(array, -2.0F, 4.0F, array));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.clamp(new float[1], 4.0F, -2.0F, new float[1]));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.clamp(new float[1], Float.NaN, 4.0F, new float[1]));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.clamp(new float[2], -2.0F, 4.0F, new float[1]));
+		assertThrows(NullPointerException.class, () -> FloatVectors.clamp(null, -2.0F, 4.0F, new float[1]));
+		assertThrows(NullPointerException.class, () -> FloatVectors.clamp(new float[1], -2.0F, 4.0F, null));
+	}
+	
+	@Test
+	public void testClampFloatArrayFloatFloatFloatArrayIntInt() {
+		assertArrayEquals(new float[] {0.0F, 0.0F, 4.0F, 1.0F, -2.0F, 4.0F, 2.0F, 0.0F, 0.0F}, FloatVectors.clamp(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, -2.0F, 4.0F, new float[9], 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.clamp(new float[1], -2.0F, 4.0F, new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.clamp(new float[1], -2.0F, 4.0F, new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.clamp(new float[1], -2.0F, 4.0F, new float[1], 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.clamp(new float[1], 4.0F, -2.0F, new float[1], 0, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.clamp(new float[1], -2.0F, 4.0F, null, 0, 0));
+	}
+	
+	@Test
+	public void testDotFloatArrayFloatArray() {
+		assertEquals(57.0F, FloatVectors.dot(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F, 6.0F, 7.0F, 8.0F, 9.0F}));
+		assertEquals(0.0F, FloatVectors.dot(new float[0], new float[0]));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.dot(new float[2], new float[1]));
+		assertThrows(NullPointerException.class, () -> FloatVectors.dot(null, new float[1]));
+		assertThrows(NullPointerException.class, () -> FloatVectors.dot(new float[1], null));
+	}
+	
+	@Test
+	public void testDotFloatArrayFloatArrayIntInt() {
+		assertEquals(59.0F, FloatVectors.dot(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F, 6.0F, 7.0F, 8.0F, 9.0F}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.dot(new float[1], new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.dot(new float[1], new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.dot(new float[2], new float[1], 0, 2));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.dot(new float[1], new float[1], Integer.MAX_VALUE, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.dot(null, new float[1], 0, 0));
+	}
+	
+	@Test
+	public void testMaxFloatArray() {
+		assertEquals(9.0F, FloatVectors.max(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}));
+		assertEquals(Float.NEGATIVE_INFINITY, FloatVectors.max(new float[0]));
+		
+		assertTrue(Float.isNaN(FloatVectors.max(new float[] {1.0F, Float.NaN})));
+		
+		assertThrows(NullPointerException.class, () -> FloatVectors.max(null));
+	}
+	
+	@Test
+	public void testMaxFloatArrayIntInt() {
+		assertEquals(9.0F, FloatVectors.max(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		assertEquals(4.0F, FloatVectors.max(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 3));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.max(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.max(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.max(new float[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.max(null, 0, 0));
+	}
+	
+	@Test
+	public void testMinFloatArray() {
+		assertEquals(-6.0F, FloatVectors.min(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}));
+		assertEquals(Float.POSITIVE_INFINITY, FloatVectors.min(new float[0]));
+		
+		assertTrue(Float.isNaN(FloatVectors.min(new float[] {1.0F, Float.NaN})));
+		
+		assertThrows(NullPointerException.class, () -> FloatVectors.min(null));
+	}
+	
+	@Test
+	public void testMinFloatArrayIntInt() {
+		assertEquals(-5.0F, FloatVectors.min(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		assertEquals(1.0F, FloatVectors.min(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 2));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.min(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.min(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.min(new float[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.min(null, 0, 0));
+	}
+	
+	@Test
+	public void testPrefixSumFloatArrayFloatArray() {
+		final float[] array = new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F};
+		
+		assertArrayEquals(new float[] {3.0F, 2.0F, 6.0F, 7.0F, 2.0F, 11.0F, 13.0F, 7.0F, 12.0F}, FloatVectors.prefixSum(array, new float[array.length]));
+		assertArrayEquals(new float[] {3.0F, 2.0F, 6.0F, 7.0F, 2.0F, 11.0F, 13.0F, 7.0F, 12.0F}, FloatVectors.prefixSum(array, array));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.prefixSum(new float[2], new float[1]));
+		assertThrows(NullPointerException.class, () -> FloatVectors.prefixSum(null, new float[1]));
+		assertThrows(NullPointerException.class, () -> FloatVectors.prefixSum(new float[1], null));
+	}
+	
+	@Test
+	public void testPrefixSumFloatArrayFloatArrayIntInt() {
+		assertArrayEquals(new float[] {0.0F, 0.0F, 4.0F, 5.0F, 0.0F, 9.0F, 11.0F, 0.0F, 0.0F}, FloatVectors.prefixSum(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, new float[9], 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.prefixSum(new float[1], new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.prefixSum(new float[1], new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.prefixSum(new float[2], new float[1], 0, 2));
+		assertThrows(NullPointerException.class, () -> FloatVectors.prefixSum(new float[1], null, 0, 0));
+	}
+	
+	@Test
+	public void testScaleFloatFloatArray() {
+		final float[] array = new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F};
+		
+		assertArrayEquals(new float[] {6.0F, -2.0F, 8.0F, 2.0F, -10.0F, 18.0F, 4.0F, -12.0F, 10.0F}, FloatVectors.scale(2.0F, array));
+		assertArrayEquals(new float[] {6.0F, -2.0F, 8.0F, 2.0F, -10.0F, 18.0F, 4.0F, -12.0F, 10.0F}, array);
+		
+		assertThrows(NullPointerException.class, () -> FloatVectors.scale(2.0F, null));
+	}
+	
+	@Test
+	public void testScaleFloatFloatArrayIntInt() {
+		assertArrayEquals(new float[] {3.0F, -1.0F, 8.0F, 2.0F, -10.0F, 18.0F, 4.0F, -6.0F, 5.0F}, FloatVectors.scale(2.0F, new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.scale(2.0F, new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.scale(2.0F, new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.scale(2.0F, new float[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.scale(2.0F, null, 0, 0));
+	}
+	
+	@Test
+	public void testSumFloatArray() {
+		assertEquals(12.0F, FloatVectors.sum(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}));
+		assertEquals(0.0F, FloatVectors.sum(new float[0]));
+		
+		assertThrows(NullPointerException.class, () -> FloatVectors.sum(null));
+	}
+	
+	@Test
+	public void testSumFloatArrayIntInt() {
+		assertEquals(11.0F, FloatVectors.sum(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sum(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sum(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sum(new float[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.sum(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumKahanFloatArray() {
+		final float[] array = new float[1000001];
+		
+		array[0] = 1.0F;
+		
+		for(int i = 1; i < array.length; i++) {
+			array[i] = 1.0E-8F;
+		}
+		
+		assertEquals(1.0F + 1000000.0F * 1.0E-8F, FloatVectors.sumKahan(array), 1.0E-6F);
+		assertEquals(12.0F, FloatVectors.sumKahan(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}));
+		
+		assertThrows(NullPointerException.class, () -> FloatVectors.sumKahan(null));
+	}
+	
+	@Test
+	public void testSumKahanFloatArrayIntInt() {
+		assertEquals(11.0F, FloatVectors.sumKahan(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sumKahan(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sumKahan(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sumKahan(new float[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.sumKahan(null, 0, 0));
+	}
+	
+	@Test
+	public void testSumPairwiseFloatArray() {
+		final float[] array = new float[1 << 20];
+		
+		for(int i = 0; i < array.length; i++) {
+			array[i] = 0.1F;
+		}
+		
+		assertEquals(1.0D, FloatVectors.sumPairwise(array) / (array.length * (double)(0.1F)), 1.0E-6D);
+		assertEquals(12.0F, FloatVectors.sumPairwise(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}));
+		
+		assertThrows(NullPointerException.class, () -> FloatVectors.sumPairwise(null));
+	}
+	
+	@Test
+	public void testSumPairwiseFloatArrayIntInt() {
+		assertEquals(11.0F, FloatVectors.sumPairwise(new float[] {3.0F, -1.0F, 4.0F, 1.0F, -5.0F, 9.0F, 2.0F, -6.0F, 5.0F}, 2, 5));
+		
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sumPairwise(new float[1], -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sumPairwise(new float[1], 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> FloatVectors.sumPairwise(new float[1], 1, 1));
+		assertThrows(NullPointerException.class, () -> FloatVectors.sumPairwise(null, 0, 0));
+	}
+}
\ No newline at end of file